@@ -0,0 +1,419 @@
+package com.orientechnologies.orient.core.cache;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.exception.OSystemException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanRegistrationException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cache of serialized records which is shared by all sessions of all storages of the process. It sits between the storage and
+ * the cache of records of the session, so records which are read by many sessions are read from the disk cache and assembled
+ * from the pages only once.
+ * <p>
+ * Storage has to call {@link #invalidate(int, ORID)} after the change of the record became visible to other threads. Record read
+ * from the storage is added to the cache only if it was not invalidated since the read was started, see
+ * {@link #readStamp(int, ORID)}, so record read concurrently with the commit can not stay in the cache after the commit.
+ * <p>
+ * Cache keeps records in memory till the size limit is reached, then records which were not read since the previous pass of the
+ * eviction are removed.
+ *
+ * @see OGlobalConfiguration#STORAGE_SHARED_RECORD_CACHE_SIZE
+ * @see OGlobalConfiguration#STORAGE_SHARED_RECORD_CACHE_CLUSTERS
+ */
+public final class OSharedRecordCache implements OSharedRecordCacheMXBean {
+  /**
+   * {@link OSharedRecordCache}'s MBean name.
+   */
+  private static final String MBEAN_NAME = "com.orientechnologies.orient.core.cache:type=OSharedRecordCacheMXBean";
+
+  private static final OSharedRecordCache INSTANCE = new OSharedRecordCache(
+      OGlobalConfiguration.STORAGE_SHARED_RECORD_CACHE_SIZE.getValueAsLong() * 1024 * 1024);
+
+  /**
+   * Approximate amount of memory consumed by the cache entry itself, without content of the record.
+   */
+  private static final int ENTRY_OVERHEAD = 96;
+
+  private static final int INVALIDATION_STRIPES = 1024;
+
+  private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+
+  /**
+   * Queue of entries in order of their addition, is used by eviction. It may contain entries which are already removed from the
+   * cache, they are purged once their amount becomes comparable with the amount of live entries.
+   */
+  private final ConcurrentLinkedQueue<Entry> evictionQueue = new ConcurrentLinkedQueue<>();
+  private final AtomicLong                   removedInQueue = new AtomicLong();
+  private final Lock                         evictionLock   = new ReentrantLock();
+
+  /**
+   * Counters of invalidations of records, record is added to the cache only if counter of its stripe was not changed since the
+   * read of the record was started.
+   */
+  private final AtomicLongArray invalidations = new AtomicLongArray(INVALIDATION_STRIPES);
+
+  private final AtomicLong size = new AtomicLong();
+  private volatile long maxSize;
+
+  private final LongAdder hits      = new LongAdder();
+  private final LongAdder misses    = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  private final AtomicBoolean mbeanIsRegistered = new AtomicBoolean();
+
+  public OSharedRecordCache(long maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * @return Cache instance shared by all storages.
+   */
+  public static OSharedRecordCache instance() {
+    return INSTANCE;
+  }
+
+  /**
+   * @return <code>true</code> if size of the cache is bigger than 0.
+   */
+  public boolean isEnabled() {
+    return maxSize > 0;
+  }
+
+  /**
+   * Changes maximum size of the cache, 0 disables the cache and removes all records from it.
+   *
+   * @param maxSize Maximum size of the cache in bytes.
+   */
+  public void changeMaximumSize(long maxSize) {
+    this.maxSize = maxSize;
+
+    if (maxSize <= 0)
+      clear();
+    else
+      evict();
+  }
+
+  /**
+   * @return Copy of the cached record or <code>null</code> if record is absent in the cache.
+   */
+  public ORawBuffer get(int storageId, ORID rid) {
+    final Entry entry = entries.get(new Key(storageId, rid));
+    if (entry == null) {
+      misses.increment();
+      return null;
+    }
+
+    entry.accessed = true;
+    hits.increment();
+
+    return new ORawBuffer(entry.content.clone(), entry.version, entry.recordType);
+  }
+
+  /**
+   * Has to be called before the record is read from the storage, result is passed to
+   * {@link #put(int, ORID, ORawBuffer, long)}.
+   */
+  public long readStamp(int storageId, ORID rid) {
+    return invalidations.get(stripe(storageId, rid));
+  }
+
+  /**
+   * Adds copy of the record read from the storage to the cache, if record was not invalidated since the read was started.
+   *
+   * @param stamp Result of {@link #readStamp(int, ORID)} called before the record was read.
+   */
+  public void put(int storageId, ORID rid, ORawBuffer record, long stamp) {
+    final long maxSize = this.maxSize;
+    final int weight = record.buffer.length + ENTRY_OVERHEAD;
+
+    if (weight > maxSize)
+      return;
+
+    final Key key = new Key(storageId, rid);
+    final int stripe = stripe(storageId, rid);
+    final Entry entry = new Entry(key, record.buffer.clone(), record.version, record.recordType, weight);
+
+    //check of the counter is done under the lock of the map bin, so invalidation can not be missed
+    final Entry current = entries.compute(key, (k, cached) -> {
+      if (cached != null || invalidations.get(stripe) != stamp)
+        return cached;
+
+      return entry;
+    });
+
+    if (current == entry) {
+      size.addAndGet(weight);
+      evictionQueue.add(entry);
+
+      evict();
+    }
+  }
+
+  /**
+   * Removes the record from the cache, has to be called once change of the record becomes visible to other threads.
+   */
+  public void invalidate(int storageId, ORID rid) {
+    final Key key = new Key(storageId, rid);
+
+    invalidations.incrementAndGet(stripe(storageId, rid));
+    final Entry entry = entries.remove(key);
+    if (entry != null)
+      removed(entry);
+  }
+
+  /**
+   * Removes all records of the cluster from the cache.
+   */
+  public void invalidate(int storageId, int clusterId) {
+    invalidateAll(storageId, clusterId);
+  }
+
+  /**
+   * Removes all records of the storage from the cache.
+   */
+  public void invalidate(int storageId) {
+    invalidateAll(storageId, -1);
+  }
+
+  /**
+   * Removes all records from the cache.
+   */
+  public void clear() {
+    for (int i = 0; i < INVALIDATION_STRIPES; i++)
+      invalidations.incrementAndGet(i);
+
+    for (Entry entry : entries.values())
+      if (entries.remove(entry.key, entry))
+        removed(entry);
+  }
+
+  @Override
+  public long getHits() {
+    return hits.sum();
+  }
+
+  @Override
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  @Override
+  public double getHitRatio() {
+    final long hits = this.hits.sum();
+    final long reads = hits + misses.sum();
+
+    if (reads == 0)
+      return 0;
+
+    return 100.0 * hits / reads;
+  }
+
+  @Override
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  @Override
+  public int getRecords() {
+    return entries.size();
+  }
+
+  @Override
+  public long getSize() {
+    return size.get();
+  }
+
+  @Override
+  public long getMaxSize() {
+    return maxSize;
+  }
+
+  @Override
+  public void resetStatistics() {
+    hits.reset();
+    misses.reset();
+    evictions.reset();
+  }
+
+  /**
+   * Registers the MBean for this cache.
+   *
+   * @see OSharedRecordCacheMXBean
+   */
+  public void registerMBean() {
+    if (mbeanIsRegistered.compareAndSet(false, true)) {
+      try {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName mbeanName = new ObjectName(MBEAN_NAME);
+
+        if (!server.isRegistered(mbeanName)) {
+          server.registerMBean(this, mbeanName);
+        } else {
+          mbeanIsRegistered.set(false);
+          OLogManager.instance().warn(this,
+              "MBean with name %s has already registered. Probably your system was not shutdown correctly"
+                  + " or you have several running applications which use OrientDB engine inside", mbeanName.getCanonicalName());
+        }
+
+      } catch (MalformedObjectNameException | InstanceAlreadyExistsException | MBeanRegistrationException | NotCompliantMBeanException e) {
+        throw OException.wrapException(new OSystemException("Error during registration of shared record cache MBean"), e);
+      }
+    }
+  }
+
+  /**
+   * Unregisters the MBean for this cache.
+   *
+   * @see OSharedRecordCacheMXBean
+   */
+  public void unregisterMBean() {
+    if (mbeanIsRegistered.compareAndSet(true, false)) {
+      try {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName mbeanName = new ObjectName(MBEAN_NAME);
+        server.unregisterMBean(mbeanName);
+      } catch (MalformedObjectNameException | InstanceNotFoundException | MBeanRegistrationException e) {
+        throw OException.wrapException(new OSystemException("Error during unregistration of shared record cache MBean"), e);
+      }
+    }
+  }
+
+  private void invalidateAll(int storageId, int clusterId) {
+    for (int i = 0; i < INVALIDATION_STRIPES; i++)
+      invalidations.incrementAndGet(i);
+
+    for (Entry entry : entries.values()) {
+      if (entry.key.storageId == storageId && (clusterId < 0 || entry.key.clusterId == clusterId) && entries
+          .remove(entry.key, entry))
+        removed(entry);
+    }
+  }
+
+  private void removed(Entry entry) {
+    size.addAndGet(-entry.weight);
+
+    //removed entries are purged from the queue once there are as many of them as live entries
+    if (removedInQueue.incrementAndGet() > entries.size() + 1024 && evictionLock.tryLock()) {
+      try {
+        final Iterator<Entry> iterator = evictionQueue.iterator();
+        while (iterator.hasNext()) {
+          final Entry queued = iterator.next();
+          if (entries.get(queued.key) != queued)
+            iterator.remove();
+        }
+
+        removedInQueue.set(0);
+      } finally {
+        evictionLock.unlock();
+      }
+    }
+  }
+
+  private void evict() {
+    if (size.get() <= maxSize || !evictionLock.tryLock())
+      return;
+
+    try {
+      while (size.get() > maxSize) {
+        final Entry entry = evictionQueue.poll();
+        if (entry == null)
+          break;
+
+        if (entries.get(entry.key) != entry) {
+          removedInQueue.decrementAndGet();
+          continue;
+        }
+
+        //record which was read since the previous pass gets the second chance
+        if (entry.accessed) {
+          entry.accessed = false;
+          evictionQueue.add(entry);
+          continue;
+        }
+
+        if (entries.remove(entry.key, entry)) {
+          size.addAndGet(-entry.weight);
+          evictions.increment();
+        }
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  private static int stripe(int storageId, ORID rid) {
+    int hash = 31 * (31 * storageId + rid.getClusterId()) + Long.hashCode(rid.getClusterPosition());
+    hash ^= hash >>> 16;
+
+    return hash & (INVALIDATION_STRIPES - 1);
+  }
+
+  private static final class Key {
+    private final int  storageId;
+    private final int  clusterId;
+    private final long clusterPosition;
+
+    private Key(int storageId, ORID rid) {
+      this.storageId = storageId;
+      this.clusterId = rid.getClusterId();
+      this.clusterPosition = rid.getClusterPosition();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o)
+        return true;
+      if (o == null || getClass() != o.getClass())
+        return false;
+
+      final Key key = (Key) o;
+      return storageId == key.storageId && clusterId == key.clusterId && clusterPosition == key.clusterPosition;
+    }
+
+    @Override
+    public int hashCode() {
+      int result = storageId;
+      result = 31 * result + clusterId;
+      result = 31 * result + Long.hashCode(clusterPosition);
+      return result;
+    }
+  }
+
+  private static final class Entry {
+    private final Key    key;
+    private final byte[] content;
+    private final int    version;
+    private final byte   recordType;
+    private final int    weight;
+
+    private volatile boolean accessed;
+
+    private Entry(Key key, byte[] content, int version, byte recordType, int weight) {
+      this.key = key;
+      this.content = content;
+      this.version = version;
+      this.recordType = recordType;
+      this.weight = weight;
+    }
+  }
+}
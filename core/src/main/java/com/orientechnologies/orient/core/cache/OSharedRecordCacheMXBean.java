@@ -0,0 +1,46 @@
+package com.orientechnologies.orient.core.cache;
+
+/**
+ * Provides an MBean for {@link OSharedRecordCache}.
+ */
+public interface OSharedRecordCacheMXBean {
+  /**
+   * @return Amount of reads of records which were served by the cache.
+   */
+  long getHits();
+
+  /**
+   * @return Amount of reads of records which were not found in the cache.
+   */
+  long getMisses();
+
+  /**
+   * @return Percent of reads of records which were served by the cache.
+   */
+  double getHitRatio();
+
+  /**
+   * @return Amount of records removed from the cache because its size limit was reached.
+   */
+  long getEvictions();
+
+  /**
+   * @return Amount of records which are kept in the cache.
+   */
+  int getRecords();
+
+  /**
+   * @return Approximate amount of memory (in bytes) consumed by the records in the cache.
+   */
+  long getSize();
+
+  /**
+   * @return Maximum amount of memory (in bytes) which may be consumed by the records in the cache.
+   */
+  long getMaxSize();
+
+  /**
+   * Resets counters of hits, misses and evictions.
+   */
+  void resetStatistics();
+}
@@ -0,0 +1,158 @@
+package com.orientechnologies.orient.core.compression.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Output stream which compresses data by several threads. Data are split into blocks of fixed size, every block is compressed
+ * independently as separate GZIP member and members are written into underlying stream in the same order as blocks were
+ * written into this stream. Concatenation of GZIP members is valid GZIP stream, so result can be read by
+ * {@link java.util.zip.GZIPInputStream}.
+ * <p>
+ * Underlying stream is not closed by {@link #close()}, so several streams can be written one after another, for example as
+ * entries of ZIP archive.
+ */
+public class OParallelGZIPOutputStream extends OutputStream {
+  private static final int BLOCK_SIZE = 1024 * 1024;
+
+  private final OutputStream    out;
+  private final ExecutorService executor;
+  private final int             compressionLevel;
+  private final int             maxPendingBlocks;
+
+  private final Deque<Future<byte[]>> pendingBlocks = new ArrayDeque<>();
+
+  private byte[] block = new byte[BLOCK_SIZE];
+  private int     blockSize;
+  private boolean blocksWritten;
+  private boolean closed;
+
+  /**
+   * @param out              Stream to which compressed data are written.
+   * @param executor         Executor which compresses blocks of data.
+   * @param threads          Amount of threads of executor, limits amount of blocks which wait for compression.
+   * @param compressionLevel Compression level, the same as the one accepted by {@link java.util.zip.Deflater#setLevel(int)}.
+   */
+  public OParallelGZIPOutputStream(OutputStream out, ExecutorService executor, int threads, int compressionLevel) {
+    this.out = out;
+    this.executor = executor;
+    this.compressionLevel = compressionLevel;
+    this.maxPendingBlocks = 2 * Math.max(threads, 1);
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    checkClosed();
+
+    block[blockSize++] = (byte) b;
+
+    if (blockSize == block.length)
+      submitBlock();
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    checkClosed();
+
+    while (len > 0) {
+      final int chunkSize = Math.min(len, block.length - blockSize);
+      System.arraycopy(b, off, block, blockSize, chunkSize);
+
+      blockSize += chunkSize;
+      off += chunkSize;
+      len -= chunkSize;
+
+      if (blockSize == block.length)
+        submitBlock();
+    }
+  }
+
+  /**
+   * Compresses all data written so far and writes them into underlying stream.
+   */
+  @Override
+  public void flush() throws IOException {
+    checkClosed();
+
+    if (blockSize > 0)
+      submitBlock();
+
+    while (!pendingBlocks.isEmpty())
+      writeFirstBlock();
+
+    out.flush();
+  }
+
+  /**
+   * Writes all remaining data into underlying stream, underlying stream itself is not closed.
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed)
+      return;
+
+    //GZIP stream can not be empty, so at least one member is written even if there are no data at all
+    if (!blocksWritten && blockSize == 0)
+      submitBlock();
+
+    flush();
+
+    closed = true;
+  }
+
+  private void submitBlock() throws IOException {
+    final byte[] data = block;
+    final int size = blockSize;
+
+    pendingBlocks.add(executor.submit(() -> compress(data, size)));
+    blocksWritten = true;
+
+    block = new byte[BLOCK_SIZE];
+    blockSize = 0;
+
+    while (pendingBlocks.size() >= maxPendingBlocks)
+      writeFirstBlock();
+  }
+
+  private void writeFirstBlock() throws IOException {
+    final Future<byte[]> future = pendingBlocks.poll();
+
+    try {
+      out.write(future.get());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Compression of data was interrupted");
+    } catch (ExecutionException e) {
+      throw new IOException("Error during compression of data", e.getCause());
+    }
+  }
+
+  private byte[] compress(byte[] data, int size) throws IOException {
+    final ByteArrayOutputStream compressed = new ByteArrayOutputStream(size / 2 + 64);
+    try (GZIPOutputStream gzipOutputStream = new LeveledGZIPOutputStream(compressed, compressionLevel)) {
+      gzipOutputStream.write(data, 0, size);
+    }
+
+    return compressed.toByteArray();
+  }
+
+  private void checkClosed() throws IOException {
+    if (closed)
+      throw new IOException("Stream is closed");
+  }
+
+  private static final class LeveledGZIPOutputStream extends GZIPOutputStream {
+    private LeveledGZIPOutputStream(OutputStream out, int compressionLevel) throws IOException {
+      super(out);
+      def.setLevel(compressionLevel);
+    }
+  }
+}
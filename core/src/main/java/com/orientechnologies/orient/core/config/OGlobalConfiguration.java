@@ -27,6 +27,7 @@ import com.orientechnologies.common.util.OApi;
 import com.orientechnologies.orient.core.OConstants;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.cache.ORecordCacheWeakRefs;
+import com.orientechnologies.orient.core.cache.OSharedRecordCache;
 import com.orientechnologies.orient.core.engine.local.OEngineLocalPaginated;
 import com.orientechnologies.orient.core.index.OIndexDefinition;
 import com.orientechnologies.orient.core.metadata.OMetadataDefault;
@@ -119,6 +120,10 @@ public enum OGlobalConfiguration {
       + " if this percent is reached next pages will be left in unpinned state. You can not set value more than 50", Integer.class,
       20, false),
 
+  DISK_CACHE_POLICY("storage.diskCache.policy", "Policy used by disk cache to choose pages which are kept in memory: '2q' or "
+      + "'wtinylfu'. W-TinyLFU does not lock the cache on page access and is not flushed by scans of big files", String.class, "2q",
+      false),
+
   DISK_CACHE_SIZE("storage.diskCache.bufferSize", "Size of disk buffer in megabytes, disk size may be changed at runtime, "
       + "but if does not enough to contain all pinned pages exception will be thrown", Integer.class, 4 * 1024,
       new OConfigurationChangeCallback() {
@@ -168,6 +173,11 @@ public enum OGlobalConfiguration {
       "Keep disk cache state between moment when storage is closed and moment when it is opened again. true by default",
       Boolean.class, true),
 
+  STORAGE_DISK_CACHE_WARM_UP_THREADS("storage.diskCache.warmUpThreads",
+      "Amount of threads which load pages of disk cache state kept between storage close and open back into the cache. Pages are "
+          + "loaded in background so storage is available immediately after open, if 0 is set pages are loaded during storage open",
+      Integer.class, 2),
+
   STORAGE_CHECKSUM_MODE("storage.diskCache.checksumMode", "Controls the per-page checksum storage and verification done by "
       + "the file cache. Possible modes: 'off' – checksums are completely off; 'store' – checksums are calculated and stored "
       + "on page flushes, no verification is done on page loads, stored checksums are verified only during user-initiated health "
@@ -177,6 +187,39 @@ public enum OGlobalConfiguration {
       + " 'storeAndSwitchReadOnlyMode' (default) - Same as 'storeAndVerify' with addition that storage will be switched in read only mode "
       + "till it will not be repaired.", OChecksumMode.class, OChecksumMode.StoreAndSwitchReadOnlyMode, false),
 
+  STORAGE_PAGE_COMPRESSION("storage.diskCache.pageCompression",
+      "Compression of pages of new data files: 'nothing' (default), 'gzip', 'snappy' or other registered compression method. "
+          + "Compressed pages are stored in slots of variable size, so files take less space on disk at the cost of CPU time "
+          + "spent on page load and flush. Format of existing files is not changed", String.class, "nothing", false),
+
+  STORAGE_MMAP_READS("storage.diskCache.mmapReads",
+      "Read pages of data files which are not changed from memory mapped windows of files instead of copying of them into "
+          + "buffers of disk cache. Decreases memory traffic for large read-mostly clusters which do not fit into disk cache. "
+          + "Mapped files can not be deleted or truncated on Windows, so it should not be used on this platform", Boolean.class,
+      false, false),
+
+  STORAGE_MMAP_WINDOW_SIZE("storage.diskCache.mmapWindowSize",
+      "Size (in megabytes) of the memory mapped window of data file if 'storage.diskCache.mmapReads' is enabled", Integer.class,
+      64, false),
+
+  STORAGE_MMAP_WINDOWS_LIMIT("storage.diskCache.mmapWindowsLimit",
+      "Maximum amount of memory mapped windows of data files which are kept by storage if 'storage.diskCache.mmapReads' is "
+          + "enabled, rarely used windows are unmapped once the limit is reached", Integer.class, 1024, false),
+
+  STORAGE_READ_AHEAD_THREADS("storage.readAheadThreads",
+      "Amount of threads per storage which read pages ahead of sequential scans of clusters, see 'query.scanReadAheadMaxPages'",
+      Integer.class, 2, false),
+
+  STORAGE_SHARED_RECORD_CACHE_SIZE("storage.sharedRecordCache.size",
+      "Size (in megabytes) of the cache of records shared by all sessions of all storages of the process, records of clusters "
+          + "listed in 'storage.sharedRecordCache.clusters' are read from the disk cache only once and then are served from this "
+          + "cache till they are changed. 0 (default) disables the cache. Size may be changed at runtime", Long.class, 0L,
+      (iCurrentValue, iNewValue) -> OSharedRecordCache.instance().changeMaximumSize(((Number) iNewValue).longValue() * 1024 * 1024)),
+
+  STORAGE_SHARED_RECORD_CACHE_CLUSTERS("storage.sharedRecordCache.clusters",
+      "Comma separated list of names of clusters which records are kept in the shared record cache, '*' means all clusters. "
+          + "Should contain read-mostly clusters like reference data or configuration, empty by default", String.class, ""),
+
   @Deprecated STORAGE_CONFIGURATION_SYNC_ON_UPDATE("storage.configuration.syncOnUpdate",
       "Indicates a force sync should be performed for each update on the storage configuration", Boolean.class, true),
 
@@ -232,6 +275,11 @@ public enum OGlobalConfiguration {
 
   WAL_COMMIT_TIMEOUT("storage.wal.commitTimeout", "Maximum interval between WAL commits (in ms.)", Integer.class, 1000),
 
+  WAL_GROUP_COMMIT("storage.wal.groupCommit",
+      "Indicates whether WAL records should be appended by several threads at once. Position of each record is reserved "
+          + "by CAS operation instead of exclusive lock and consecutive records are written and synced to the disk "
+          + "by background flush task in a single group", Boolean.class, false),
+
   WAL_SHUTDOWN_TIMEOUT("storage.wal.shutdownTimeout", "Maximum wait interval between events, when the background flush thread"
       + "receives a shutdown command and when the background flush will be stopped (in ms.)", Integer.class, 10000),
 
@@ -242,9 +290,24 @@ public enum OGlobalConfiguration {
       "Amount of processed log operations, after which status of data restore procedure will be printed (0 or a negative value, disables the logging)",
       Integer.class, 10000),
 
+  WAL_RESTORE_THREADS("storage.wal.restoreThreads",
+      "Amount of threads which apply changes of pages during data restore from WAL. Changes of different pages are applied in "
+          + "parallel, if 1 is set (default) all changes are applied by the thread which opens storage", Integer.class, 1),
+
   WAL_RESTORE_BATCH_SIZE("storage.wal.restore.batchSize",
       "Amount of WAL records, which are read at once in a single batch during a restore procedure", Integer.class, 1000),
 
+  WAL_COMPACT_PAGE_CHANGES("storage.wal.compactPageChanges",
+      "Log changes of pages in compact format, changed parts of the page which follow each other are merged and their offsets "
+          + "are varint encoded. WAL written in previous format is still readable, but WAL written in compact format can not be "
+          + "read by previous versions, so a storage which was not closed cleanly can not be restored after a downgrade. "
+          + "Without 'storage.wal.pageChangesCompression' WAL is only a few percent smaller (false by default)", Boolean.class,
+      false),
+
+  WAL_PAGE_CHANGES_COMPRESSION("storage.wal.pageChangesCompression",
+      "Compression of large changes of pages logged in compact format: 'nothing' (default), 'gzip', 'snappy' or other "
+          + "registered compression method, see 'storage.wal.compactPageChanges'", String.class, "nothing"),
+
   @Deprecated WAL_READ_CACHE_SIZE("storage.wal.readCacheSize", "Size of WAL read cache in amount of pages", Integer.class, 1000),
 
   WAL_FUZZY_CHECKPOINT_SHUTDOWN_TIMEOUT("storage.wal.fuzzyCheckpointShutdownWait",
@@ -287,6 +350,20 @@ public enum OGlobalConfiguration {
 
   STORAGE_RECORD_LOCK_TIMEOUT("storage.record.lockTimeout", "Maximum of time (in ms) to lock a shared record", Integer.class, 2000),
 
+  STORAGE_BACKUP_ONLINE("storage.backup.online",
+      "If true, full backup does not freeze the storage. Data files are copied page by page while writes continue and WAL "
+          + "written during the copy is added to the backup, restore replays it to bring data to a consistent state. "
+          + "If false (default), the storage is frozen for the whole time of the backup. Backups which pass a callback, such as "
+          + "distributed database sync, always freeze the storage. Archives made by online backup can not be restored by "
+          + "previous versions", Boolean.class, false),
+
+  STORAGE_BACKUP_COMPRESSION_THREADS("storage.backup.compressionThreads",
+      "Amount of threads which compress data during online backup", Integer.class, Runtime.getRuntime().availableProcessors()),
+
+  STORAGE_BACKUP_RATE_LIMIT("storage.backup.rateLimit",
+      "Maximum amount of data (in megabytes per second) which is read from data files during online backup, "
+          + "0 means that speed is not limited", Integer.class, 0),
+
   @Deprecated STORAGE_USE_TOMBSTONES("storage.useTombstones",
       "When a record is deleted, the space in the cluster will not be freed, but rather tombstoned", Boolean.class, false),
 
@@ -378,6 +455,25 @@ public enum OGlobalConfiguration {
 
   INDEX_CURSOR_PREFETCH_SIZE("index.cursor.prefetchSize", "Default prefetch size of index cursor", Integer.class, 500000),
 
+  INDEX_STATISTICS_HISTOGRAM_BUCKETS("index.statistics.histogramBuckets",
+      "Number of buckets of the histograms built by ANALYZE INDEX and ANALYZE CLASS", Integer.class, 100),
+
+  INDEX_STATISTICS_SAMPLE_SIZE("index.statistics.sampleSize",
+      "Number of index keys sampled by ANALYZE INDEX and ANALYZE CLASS to build histograms", Integer.class, 10000),
+
+  INDEX_BULK_LOAD("index.bulkLoad",
+      "Build and rebuild indexes from the sorted keys of the indexed records instead of inserting the records one by one, if the index engine supports it. "
+          + "Only SBTree based index engines support it, records are still read one cluster after another (false by default)",
+      Boolean.class, false),
+
+  INDEX_BULK_LOAD_SORT_BUFFER_SIZE("index.bulkLoad.sortBufferSize",
+      "Number of keys sorted in memory during index build, more keys are sorted in temporary files", Integer.class, 500000),
+
+  INDEX_ORDER_PRESERVING_KEYS("index.orderPreservingKeys",
+      "Serialize keys of new SBTree indexes in binary form which keeps order of the keys, so keys are compared without deserialization during look up. "
+          + "Applied to indexes on numbers, strings, dates and links and to composite indexes on these types, existing indexes keep their format",
+      Boolean.class, false),
+
   // SBTREE
   SBTREE_MAX_DEPTH("sbtree.maxDepth",
       "Maximum depth of sbtree, which will be traversed during key look up until it will be treated as broken (64 by default)",
@@ -390,6 +486,16 @@ public enum OGlobalConfiguration {
       "Maximum size of value which can be put in an SBTree without creation link to a standalone page in bytes (40960 by default)",
       Integer.class, 40960),
 
+  SBTREE_OPTIMISTIC_READS("sbtree.optimisticReads",
+      "Look up SBTree keys without waiting for the atomic operations which modify the tree, a look up is repeated under lock if changes are committed to the tree in the meantime. "
+          + "Only look ups are affected, modifications of the tree are still serialized by the tree lock. Applied to trees opened after the setting is changed",
+      Boolean.class, false),
+
+  SBTREE_KEY_COMPRESSION("sbtree.keyCompression",
+      "Store keys of SBTree pages prefix compressed against a key of the page, and keep only the shortest separating prefix of keys in non-leaf pages. "
+          + "Applied to pages created by trees opened after the setting is changed, pages of both formats may be present in the same tree",
+      Boolean.class, false),
+
   SBTREEBONSAI_BUCKET_SIZE("sbtreebonsai.bucketSize",
       "Size of bucket in OSBTreeBonsai (in kB). Contract: bucketSize < storagePageSize, storagePageSize % bucketSize == 0",
       Integer.class, 2),
@@ -609,10 +715,41 @@ public enum OGlobalConfiguration {
       "Size of the queue that holds results on parallel execution. The queue is blocking, so in case the queue is full, the query threads will be in a wait state",
       Integer.class, 20000),
 
+  QUERY_PARALLEL_SUB_PLANS("query.parallelSubPlans",
+      "Execute the sub-plans of PARALLEL query execution steps (eg. queries on the subclasses of a class) concurrently, "
+          + "each one in its own database session, and pass the results through a queue of size 'query.parallelResultQueueSize'. "
+          + "It also fetches concurrently the RIDs of the indexes of a FETCH FROM INDEXES step (OR or AND conditions on different "
+          + "indexes), before they are merged", Boolean.class, false),
+
+  QUERY_PARALLEL_SUB_PLANS_THREADS("query.parallelSubPlansThreads",
+      "Maximum number of threads per database that execute the sub-plans of parallel query execution steps, see "
+          + "'query.parallelSubPlans'. Sub-plans that do not find a free thread wait for one. (Use 0 for the number of available "
+          + "processors)", Integer.class, 0, false),
+
+  QUERY_ORDER_BY_SPILL_THRESHOLD("query.orderBy.spillThreshold",
+      "Maximum number of results that an ORDER BY keeps in memory. When it is exceeded, sorted runs are written to temporary files "
+          + "and merged at the end of the sort. (Use 0 to disable)", Integer.class, 200000),
+
+  QUERY_GROUP_BY_SPILL_THRESHOLD("query.groupBy.spillThreshold",
+      "Maximum number of groups that a GROUP BY keeps in memory. When it is exceeded, the partial aggregations are written to "
+          + "temporary files partitioned by group key, and merged one partition at a time at the end of the aggregation. "
+          + "(Use 0 to disable)", Integer.class, 200000),
+
+  QUERY_DISTINCT_SPILL_THRESHOLD("query.distinct.spillThreshold",
+      "Maximum number of distinct values that a DISTINCT keeps in memory. When it is exceeded, a partition of "
+          + "the values is written to a temporary file and de-duplicated at the end of the query. (Use 0 to disable)",
+      Integer.class, 1000000),
+
   QUERY_SCAN_PREFETCH_PAGES("query.scanPrefetchPages",
       "Pages to prefetch during scan. Setting this value higher makes scans faster, because it reduces the number of I/O operations, though it consumes more memory. (Use 0 to disable)",
       Integer.class, 20),
 
+  QUERY_SCAN_READ_AHEAD_MAX_PAGES("query.scanReadAheadMaxPages",
+      "Maximum amount of pages which are read in background ahead of the sequential scan of the cluster. Amount of pages read "
+          + "ahead starts from 'query.scanPrefetchPages' and is doubled while scan stays sequential. Pages read ahead are put "
+          + "in the read cache and may evict pages used by other queries. (0 by default, read ahead is disabled)",
+      Integer.class, 0),
+
   QUERY_SCAN_BATCH_SIZE("query.scanBatchSize",
       "Scan clusters in blocks of records. This setting reduces the lock time on the cluster during scans. A high value mean a faster execution, but also a lower concurrency level. Set to 0 to disable batch scanning. Disabling batch scanning is suggested for read-only databases only",
       Long.class, 1000),
@@ -628,6 +765,10 @@ public enum OGlobalConfiguration {
 
   STATEMENT_CACHE_SIZE("statement.cacheSize", "Number of parsed SQL statements kept in cache", Integer.class, 100),
 
+  QUERY_PLAN_CACHE_SIZE("query.planCache.size",
+      "Number of execution plans of SQL queries kept in cache, so that the same query is not planned again. (Use 0 to disable)",
+      Integer.class, 300),
+
   // GRAPH
   SQL_GRAPH_CONSISTENCY_MODE("sql.graphConsistencyMode",
       "Consistency mode for graphs. It can be 'tx' (default), 'notx_sync_repair' and 'notx_async_repair'. "
@@ -4,6 +4,7 @@ import com.orientechnologies.common.concur.resource.OCloseable;
 import com.orientechnologies.common.profiler.OProfiler;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.cache.OCommandCache;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.index.OIndexManagerAbstract;
 import com.orientechnologies.orient.core.metadata.function.OFunctionLibraryImpl;
 import com.orientechnologies.orient.core.metadata.schema.OSchemaShared;
@@ -12,9 +13,17 @@ import com.orientechnologies.orient.core.metadata.sequence.OSequenceLibraryImpl;
 import com.orientechnologies.orient.core.query.live.OLiveQueryHook;
 import com.orientechnologies.orient.core.query.live.OLiveQueryHookV2;
 import com.orientechnologies.orient.core.schedule.OSchedulerImpl;
+import com.orientechnologies.orient.core.sql.executor.OExecutionPlanCache;
 import com.orientechnologies.orient.core.sql.executor.OQueryStats;
 import com.orientechnologies.orient.core.sql.parser.OStatementCache;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Created by tglman on 15/06/16.
  */
@@ -32,8 +41,11 @@ public abstract class OSharedContext {
   protected OCommandCache                  commandCache;
   protected OStatementCache                statementCache;
   protected OQueryStats                    queryStats;
+  protected OExecutionPlanCache            executionPlanCache;
   protected volatile boolean loaded = false;
 
+  private ThreadPoolExecutor parallelQueryExecutor;
+
   public OSchemaShared getSchema() {
     return schema;
   }
@@ -78,9 +90,54 @@ public abstract class OSharedContext {
     return queryStats;
   }
 
+  public OExecutionPlanCache getExecutionPlanCache() {
+    return executionPlanCache;
+  }
+
+  /**
+   * Returns the executor of the sub-plans of parallel query execution steps of this database. It is created on first use, has at
+   * most {@link OGlobalConfiguration#QUERY_PARALLEL_SUB_PLANS_THREADS} threads, that are stopped when idle, and executes the tasks
+   * in the order they are submitted.
+   */
+  public synchronized ExecutorService getParallelQueryExecutor() {
+    if (parallelQueryExecutor == null) {
+      int threads = OGlobalConfiguration.QUERY_PARALLEL_SUB_PLANS_THREADS.getValueAsInteger();
+      if (threads <= 0) {
+        threads = Runtime.getRuntime().availableProcessors();
+      }
+      parallelQueryExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+          new ParallelQueryThreadFactory());
+      parallelQueryExecutor.allowCoreThreadTimeOut(true);
+    }
+    return parallelQueryExecutor;
+  }
+
+  /**
+   * Stops the executor of parallel query sub-plans, if it was created. Threads are not interrupted, because interruption of a read
+   * closes the file channel, the sub-plans that are already running are completed.
+   */
+  protected synchronized void shutdownParallelQueryExecutor() {
+    if (parallelQueryExecutor != null) {
+      parallelQueryExecutor.shutdown();
+      parallelQueryExecutor = null;
+    }
+  }
+
   public abstract void load(ODatabaseDocumentInternal oDatabaseDocumentInternal);
 
   public abstract void reload(ODatabaseDocumentInternal database);
 
   public abstract void close();
+
+  private static class ParallelQueryThreadFactory implements ThreadFactory {
+    private static final AtomicInteger counter = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable r) {
+      final Thread thread = new Thread(r);
+      thread.setDaemon(true);
+      thread.setName("OrientDB Parallel Query Task " + counter.incrementAndGet());
+      return thread;
+    }
+  }
 }
@@ -10,6 +10,7 @@ import com.orientechnologies.orient.core.query.live.OLiveQueryHook;
 import com.orientechnologies.orient.core.query.live.OLiveQueryHookV2;
 import com.orientechnologies.orient.core.schedule.OSchedulerImpl;
 import com.orientechnologies.orient.core.security.OSecurityManager;
+import com.orientechnologies.orient.core.sql.executor.OExecutionPlanCache;
 import com.orientechnologies.orient.core.sql.executor.OQueryStats;
 import com.orientechnologies.orient.core.sql.parser.OStatementCache;
 import com.orientechnologies.orient.core.storage.OStorage;
@@ -37,6 +38,8 @@ public class OSharedContextEmbedded extends OSharedContext {
     statementCache = new OStatementCache(
         storage.getConfiguration().getContextConfiguration().getValueAsInteger(OGlobalConfiguration.STATEMENT_CACHE_SIZE));
     queryStats = new OQueryStats();
+    executionPlanCache = new OExecutionPlanCache(
+        storage.getConfiguration().getContextConfiguration().getValueAsInteger(OGlobalConfiguration.QUERY_PLAN_CACHE_SIZE));
     activeDistributedQueries = new HashMap<>();
   }
 
@@ -71,9 +74,11 @@ public class OSharedContextEmbedded extends OSharedContext {
     sequenceLibrary.close();
     commandCache.clear();
     commandCache.shutdown();
+    executionPlanCache.invalidate();
     liveQueryOps.close();
     liveQueryOpsV2.close();
     activeDistributedQueries.values().forEach(x -> x.close());
+    shutdownParallelQueryExecutor();
   }
 
   public synchronized void reload(ODatabaseDocumentInternal database) {
@@ -83,6 +88,7 @@ public class OSharedContextEmbedded extends OSharedContext {
     functionLibrary.load(database);
     sequenceLibrary.load(database);
     commandCache.clear();
+    executionPlanCache.invalidate();
     scheduler.load(database);
   }
 
@@ -123,7 +123,7 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract impleme
       serializer = serializerFactory.getFormat(serializeName);
       if (serializer == null)
         throw new ODatabaseException("RecordSerializer with name '" + serializeName + "' not found ");
-      if (getStorage().getConfiguration().getRecordSerializerVersion() > serializer.getMinSupportedVersion())
+      if (getStorage().getConfiguration().getRecordSerializerVersion() > serializer.getCurrentVersion())
         throw new ODatabaseException("Persistent record serializer version is not support by the current implementation");
 
       localCache.startup();
@@ -25,12 +25,15 @@ import com.orientechnologies.common.directmemory.OByteBufferPool;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.io.OIOUtils;
 import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.cache.OSharedRecordCache;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.engine.OEngineAbstract;
 import com.orientechnologies.orient.core.engine.OMemoryAndLocalPaginatedEnginesInitializer;
 import com.orientechnologies.orient.core.exception.ODatabaseException;
 import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.cache.OReadCache;
 import com.orientechnologies.orient.core.storage.cache.local.twoq.O2QCache;
+import com.orientechnologies.orient.core.storage.cache.local.wtinylfu.OWTinyLFUCache;
 import com.orientechnologies.orient.core.storage.fs.OFileClassic;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.OLocalPaginatedStorage;
 
@@ -43,7 +46,7 @@ import java.util.Map;
 public class OEngineLocalPaginated extends OEngineAbstract {
   public static final String NAME = "plocal";
 
-  private volatile O2QCache readCache;
+  private volatile OReadCache readCache;
 
   protected final OClosableLinkedContainer<Long, OFileClassic> files = new OClosableLinkedContainer<Long, OFileClassic>(
       OGlobalConfiguration.OPEN_FILES_LIMIT.getValueAsInteger());
@@ -56,9 +59,20 @@ public class OEngineLocalPaginated extends OEngineAbstract {
     OMemoryAndLocalPaginatedEnginesInitializer.INSTANCE.initialize();
     super.startup();
 
-    readCache = new O2QCache(calculateReadCacheMaxMemory(OGlobalConfiguration.DISK_CACHE_SIZE.getValueAsLong() * 1024 * 1024),
-        OGlobalConfiguration.DISK_CACHE_PAGE_SIZE.getValueAsInteger() * 1024, true,
-        OGlobalConfiguration.DISK_CACHE_PINNED_PAGES.getValueAsInteger());
+    final long readCacheMaxMemory = calculateReadCacheMaxMemory(
+        OGlobalConfiguration.DISK_CACHE_SIZE.getValueAsLong() * 1024 * 1024);
+    final int pageSize = OGlobalConfiguration.DISK_CACHE_PAGE_SIZE.getValueAsInteger() * 1024;
+    final int percentOfPinnedPages = OGlobalConfiguration.DISK_CACHE_PINNED_PAGES.getValueAsInteger();
+
+    final String policy = OGlobalConfiguration.DISK_CACHE_POLICY.getValueAsString();
+    if ("wtinylfu".equalsIgnoreCase(policy)) {
+      readCache = new OWTinyLFUCache(readCacheMaxMemory, pageSize, true, percentOfPinnedPages);
+    } else {
+      if (!"2q".equalsIgnoreCase(policy))
+        OLogManager.instance().warn(this, "Unknown disk cache policy '%s', 2Q policy will be used", policy);
+
+      readCache = new O2QCache(readCacheMaxMemory, pageSize, true, percentOfPinnedPages);
+    }
 
     try {
       if (OByteBufferPool.instance() != null)
@@ -66,6 +80,19 @@ public class OEngineLocalPaginated extends OEngineAbstract {
     } catch (Exception e) {
       OLogManager.instance().error(this, "MBean for byte buffer pool cannot be registered", e);
     }
+
+    try {
+      if (readCache instanceof O2QCache)
+        ((O2QCache) readCache).registerMBean();
+    } catch (Exception e) {
+      OLogManager.instance().error(this, "MBean for disk cache cannot be registered", e);
+    }
+
+    try {
+      OSharedRecordCache.instance().registerMBean();
+    } catch (Exception e) {
+      OLogManager.instance().error(this, "MBean for shared record cache cannot be registered", e);
+    }
   }
 
   private long calculateReadCacheMaxMemory(final long cacheSize) {
@@ -75,10 +102,14 @@ public class OEngineLocalPaginated extends OEngineAbstract {
   /**
    * @param cacheSize Cache size in bytes.
    * @see O2QCache#changeMaximumAmountOfMemory(long)
+   * @see OWTinyLFUCache#changeMaximumAmountOfMemory(long)
    */
   public void changeCacheSize(final long cacheSize) {
-    if (readCache != null)
-     readCache.changeMaximumAmountOfMemory(calculateReadCacheMaxMemory(cacheSize));
+    final OReadCache cache = readCache;
+    if (cache instanceof O2QCache)
+      ((O2QCache) cache).changeMaximumAmountOfMemory(calculateReadCacheMaxMemory(cacheSize));
+    else if (cache instanceof OWTinyLFUCache)
+      ((OWTinyLFUCache) cache).changeMaximumAmountOfMemory(calculateReadCacheMaxMemory(cacheSize));
 
     //otherwise memory size will be set during cache initialization.
   }
@@ -100,7 +131,7 @@ public class OEngineLocalPaginated extends OEngineAbstract {
     return NAME;
   }
 
-  public O2QCache getReadCache() {
+  public OReadCache getReadCache() {
     return readCache;
   }
 
@@ -114,6 +145,7 @@ public class OEngineLocalPaginated extends OEngineAbstract {
     try {
       readCache.clear();
       files.clear();
+      OSharedRecordCache.instance().clear();
 
       try {
         if (OByteBufferPool.instance() != null)
@@ -121,6 +153,19 @@ public class OEngineLocalPaginated extends OEngineAbstract {
       } catch (Exception e) {
         OLogManager.instance().error(this, "MBean for byte buffer pool cannot be unregistered", e);
       }
+
+      try {
+        if (readCache instanceof O2QCache)
+          ((O2QCache) readCache).unregisterMBean();
+      } catch (Exception e) {
+        OLogManager.instance().error(this, "MBean for disk cache cannot be unregistered", e);
+      }
+
+      try {
+        OSharedRecordCache.instance().unregisterMBean();
+      } catch (Exception e) {
+        OLogManager.instance().error(this, "MBean for shared record cache cannot be unregistered", e);
+      }
     } finally {
       super.shutdown();
     }
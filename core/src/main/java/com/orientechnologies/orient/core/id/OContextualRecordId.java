@@ -28,6 +28,10 @@ public class OContextualRecordId extends ORecordId {
     super(iRecordId);
   }
 
+  public OContextualRecordId(final int iClusterId, final long iPosition) {
+    super(iClusterId, iPosition);
+  }
+
   public OContextualRecordId setContext(final Map<String, Object> context) {
     this.context = context;
     return this;
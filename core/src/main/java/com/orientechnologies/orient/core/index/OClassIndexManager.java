@@ -338,6 +338,24 @@ public class OClassIndexManager extends ODocumentHookAbstract {
       processCompositeIndexUpdate(index, dirtyFields, iDocument);
     else
       processSingleIndexUpdate(index, dirtyFields, iDocument);
+
+    processIncludedFieldsUpdate(index, dirtyFields, iDocument);
+  }
+
+  /**
+   * Puts again the unchanged key of the record if only fields included in the index have changed, so the index replaces the
+   * values stored next to the RID. If a field of the key has changed the new key has been already put with the new values.
+   */
+  private void processIncludedFieldsUpdate(final OIndex<?> index, final Set<String> dirtyFields, final ODocument iRecord) {
+    final List<String> includedFields = index.getInternal().getIncludedFields();
+    if (includedFields.isEmpty() || Collections.disjoint(includedFields, dirtyFields))
+      return;
+
+    final OIndexDefinition indexDefinition = index.getDefinition();
+    if (!Collections.disjoint(indexDefinition.getFields(), dirtyFields))
+      return;
+
+    addIndexEntry(iRecord, iRecord.getIdentity(), index);
   }
 
   private void addIndexesEntries(ODocument document, final Collection<OIndex<?>> indexes) {
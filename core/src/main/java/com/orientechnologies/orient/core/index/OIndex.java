@@ -34,7 +34,8 @@ import java.util.Set;
  * @author Luca Garulli (l.garulli--(at)--orientdb.com)
  */
 public interface OIndex<T> extends Comparable<OIndex<T>> {
-  String MERGE_KEYS = "mergeKeys";
+  String MERGE_KEYS      = "mergeKeys";
+  String INCLUDED_FIELDS = "includedFields";
 
   /**
    * Creates the index.
@@ -27,6 +27,7 @@ import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.listener.OProgressListener;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
@@ -65,6 +66,13 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
 
   protected static final String CONFIG_MAP_RID  = "mapRid";
   protected static final String CONFIG_CLUSTERS = "clusters";
+
+  /**
+   * Share of the progress of an index build reported for the scan of the clusters when keys are bulk loaded, the rest is
+   * reported while sorted keys are loaded in the index engine.
+   */
+  private static final double BULK_LOAD_SCAN_PERCENT = 50.0;
+
   protected final String                    type;
   protected final ODocument                 metadata;
   protected final OAbstractPaginatedStorage storage;
@@ -81,6 +89,7 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
   private volatile OIndexDefinition indexDefinition;
   private volatile boolean             rebuilding       = false;
   private          Map<String, String> engineProperties = new HashMap<String, String>();
+  private volatile OIndexStatistics    statistics;
 
   public OIndexAbstract(String name, final String type, final String algorithm, final String valueContainerAlgorithm,
       final ODocument metadata, final int version, final OStorage storage) {
@@ -192,6 +201,9 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
   public OIndexInternal<?> create(final OIndexDefinition indexDefinition, final String clusterIndexName,
       final Set<String> clustersToIndex, boolean rebuild, final OProgressListener progressListener,
       final OBinarySerializer valueSerializer) {
+    if (!getIncludedFields().isEmpty() && !supportsIncludedFields())
+      throw new OIndexException("Index '" + name + "' of type " + type + " cannot include fields, only UNIQUE indexes can");
+
     acquireExclusiveLock();
     try {
       configuration = indexConfigurationInstance(new ODocument().setTrackingChanges(false));
@@ -294,6 +306,9 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
       algorithm = indexMetadata.getAlgorithm();
       valueContainerAlgorithm = indexMetadata.getValueContainerAlgorithm();
 
+      final ODocument statisticsDocument = config.field(OIndexInternal.STATISTICS);
+      statistics = statisticsDocument == null ? null : OIndexStatistics.fromDocument(statisticsDocument);
+
       try {
         indexId = storage.loadIndexEngine(name);
 
@@ -481,6 +496,7 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
       releaseSharedLock();
     }
 
+    dropStatistics();
     return documentIndexed;
   }
 
@@ -497,10 +513,19 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
         iProgressListener.onBegin(this, documentTotal, rebuild);
 
       // INDEX ALL CLUSTERS
-      for (final String clusterName : clustersToIndex) {
-        final long[] metrics = indexCluster(clusterName, iProgressListener, documentNum, documentIndexed, documentTotal);
-        documentNum = metrics[0];
-        documentIndexed = metrics[1];
+      final OIndexKeySorter sorter = isBulkLoadEnabled() ? new OIndexKeySorter() : null;
+      try {
+        for (final String clusterName : clustersToIndex) {
+          final long[] metrics = indexCluster(clusterName, iProgressListener, documentNum, documentIndexed, documentTotal, sorter);
+          documentNum = metrics[0];
+          documentIndexed = metrics[1];
+        }
+
+        if (sorter != null)
+          bulkLoad(sorter, iProgressListener);
+      } finally {
+        if (sorter != null)
+          sorter.close();
       }
 
       if (iProgressListener != null)
@@ -543,10 +568,12 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
         } catch (OInvalidIndexEngineIdException e) {
           doReloadIndexEngine();
         }
-      return this;
     } finally {
       releaseSharedLock();
     }
+
+    dropStatistics();
+    return this;
   }
 
   public OIndexInternal<T> delete() {
@@ -659,9 +686,43 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
     configuration.updateConfiguration(type, name, version, indexDefinition, clustersToIndex, algorithm, valueContainerAlgorithm);
     if (metadata != null)
       configuration.document.field(OIndexInternal.METADATA, metadata, OType.EMBEDDED);
+
+    final OIndexStatistics statistics = this.statistics;
+    if (statistics != null)
+      configuration.document.field(OIndexInternal.STATISTICS, statistics.toDocument(), OType.EMBEDDED);
+    else
+      configuration.document.removeField(OIndexInternal.STATISTICS);
     return configuration.getDocument();
   }
 
+  @Override
+  public OIndexStatistics getStatistics() {
+    return statistics;
+  }
+
+  @Override
+  public void setStatistics(OIndexStatistics statistics) {
+    this.statistics = statistics;
+  }
+
+  @Override
+  public boolean supportsStatistics() {
+    return true;
+  }
+
+  /**
+   * Removes the statistics of the index once its content was rebuilt or removed, they describe entries which do not exist anymore
+   * and would mislead the query planner until the next ANALYZE. Only the configuration document is updated, it is persisted by
+   * the next save of the index manager.
+   */
+  private void dropStatistics() {
+    if (statistics == null)
+      return;
+
+    statistics = null;
+    updateConfiguration();
+  }
+
   public void addTxOperation(IndexTxSnapshot snapshots, final OTransactionIndexChanges changes) {
     acquireSharedLock();
     try {
@@ -739,6 +800,22 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
     return metadata;
   }
 
+  @Override
+  public List<String> getIncludedFields() {
+    if (metadata == null)
+      return Collections.emptyList();
+
+    final List<String> includedFields = metadata.field(OIndex.INCLUDED_FIELDS);
+    return includedFields != null ? includedFields : Collections.<String>emptyList();
+  }
+
+  /**
+   * @return true if the index is able to store values of the fields listed in the {@link OIndex#INCLUDED_FIELDS} metadata
+   */
+  protected boolean supportsIncludedFields() {
+    return false;
+  }
+
   @Override
   public boolean isUnique() {
     return false;
@@ -916,6 +993,14 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
 
   protected long[] indexCluster(final String clusterName, final OProgressListener iProgressListener, long documentNum,
       long documentIndexed, long documentTotal) {
+    return indexCluster(clusterName, iProgressListener, documentNum, documentIndexed, documentTotal, null);
+  }
+
+  /**
+   * @param sorter if not null keys are added to the sorter to be bulk loaded at the end, instead of being put in the index
+   */
+  private long[] indexCluster(final String clusterName, final OProgressListener iProgressListener, long documentNum,
+      long documentIndexed, long documentTotal, final OIndexKeySorter sorter) {
     try {
       for (final ORecord record : getDatabase().browseCluster(clusterName)) {
         if (Thread.interrupted())
@@ -932,7 +1017,14 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
 
           if (fieldValue != null || !indexDefinition.isNullValuesIgnored()) {
             try {
-              populateIndex(doc, fieldValue);
+              if (sorter != null) {
+                if (fieldValue instanceof Collection) {
+                  for (final Object fieldValueItem : (Collection<?>) fieldValue)
+                    sorter.add(getCollatingValue(fieldValueItem), doc);
+                } else
+                  sorter.add(getCollatingValue(fieldValue), doc);
+              } else
+                populateIndex(doc, fieldValue);
             } catch (OTooBigIndexKeyException e) {
               OLogManager.instance().error(this,
                   "Exception during index rebuild. Exception was caused by following key/ value pair - key %s, value %s."
@@ -948,8 +1040,11 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
         }
         documentNum++;
 
-        if (iProgressListener != null)
-          iProgressListener.onProgress(this, documentNum, (float) (documentNum * 100.0 / documentTotal));
+        if (iProgressListener != null) {
+          // with bulk load the scan is only the first part of the build, the rest is reported by bulkLoad()
+          final double scanPercent = sorter != null ? BULK_LOAD_SCAN_PERCENT : 100.0;
+          iProgressListener.onProgress(this, documentNum, (float) (documentNum * scanPercent / documentTotal));
+        }
       }
     } catch (NoSuchElementException e) {
       // END OF CLUSTER REACHED, IGNORE IT
@@ -958,6 +1053,80 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
     return new long[] { documentNum, documentIndexed };
   }
 
+  /**
+   * @return true if the index can be filled by sorting the keys of all the indexed records and loading them at once in the index
+   * engine, in that case {@link #getBulkLoadValue(Object, List)} has to be implemented
+   */
+  protected boolean hasBulkLoadSupport() {
+    return false;
+  }
+
+  /**
+   * @param key    key of the index
+   * @param values records with the key, in the order they were read from the clusters
+   *
+   * @return value stored in the index engine for the key
+   */
+  protected Object getBulkLoadValue(Object key, List<OIdentifiable> values) {
+    throw new UnsupportedOperationException("Bulk load is not supported by index " + name);
+  }
+
+  private boolean isBulkLoadEnabled() {
+    if (!OGlobalConfiguration.INDEX_BULK_LOAD.getValueAsBoolean() || !hasBulkLoadSupport())
+      return false;
+
+    while (true)
+      try {
+        return storage.hasIndexBulkLoadSupport(indexId);
+      } catch (OInvalidIndexEngineIdException e) {
+        doReloadIndexEngine();
+      }
+  }
+
+  private void bulkLoad(final OIndexKeySorter sorter, final OProgressListener iProgressListener) {
+    final long total = sorter.size();
+    final Iterator<Map.Entry<Object, List<OIdentifiable>>> sorted = sorter.sorted();
+
+    // the in-memory part of the keys is sorted at this point and the merge of the sorted runs starts
+    if (iProgressListener != null)
+      iProgressListener.onProgress(this, 0, (float) BULK_LOAD_SCAN_PERCENT);
+
+    final Iterator<Map.Entry<Object, Object>> entries = new Iterator<Map.Entry<Object, Object>>() {
+      private long loaded;
+
+      @Override
+      public boolean hasNext() {
+        return sorted.hasNext();
+      }
+
+      @Override
+      public Map.Entry<Object, Object> next() {
+        final Map.Entry<Object, List<OIdentifiable>> entry = sorted.next();
+        final Object value = getBulkLoadValue(entry.getKey(), entry.getValue());
+
+        loaded += entry.getValue().size();
+        if (iProgressListener != null)
+          iProgressListener.onProgress(OIndexAbstract.this, loaded,
+              (float) (BULK_LOAD_SCAN_PERCENT + loaded * (100.0 - BULK_LOAD_SCAN_PERCENT) / total));
+
+        return new AbstractMap.SimpleImmutableEntry<Object, Object>(entry.getKey(), value);
+      }
+
+      @Override
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
+
+    while (true)
+      try {
+        storage.bulkLoadIndex(indexId, entries);
+        break;
+      } catch (OInvalidIndexEngineIdException e) {
+        doReloadIndexEngine();
+      }
+  }
+
   protected void releaseExclusiveLock() {
     rwLock.releaseWriteLock();
   }
@@ -25,6 +25,8 @@ import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.tx.OTransactionIndexChangesPerKey;
 
+import java.util.List;
+
 /**
  * Dictionary index similar to unique index but does not check for updates, just executes changes. Last put always wins and override
  * the previous value.
@@ -62,6 +64,17 @@ public class OIndexDictionary extends OIndexOneValue {
     return true;
   }
 
+  @Override
+  protected boolean hasBulkLoadSupport() {
+    return true;
+  }
+
+  @Override
+  protected Object getBulkLoadValue(Object key, List<OIdentifiable> values) {
+    // THE LAST PUT WINS
+    return values.get(values.size() - 1);
+  }
+
   public boolean supportsOrderedIterations() {
     return false;
   }
@@ -26,6 +26,7 @@ import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 
@@ -115,6 +116,24 @@ public interface OIndexEngine {
 
   String getIndexNameByKey(Object key);
 
+  /**
+   * @return {@code true} if the engine can be filled by {@link #bulkLoad(Iterator)}
+   */
+  default boolean hasBulkLoadSupport() {
+    return false;
+  }
+
+  /**
+   * Fills an empty engine, faster than putting the entries one by one.
+   *
+   * @param entries entries in ascending order of keys, keys have to be unique.
+   *
+   * @return number of loaded entries
+   */
+  default long bulkLoad(Iterator<Map.Entry<Object, Object>> entries) {
+    throw new UnsupportedOperationException("Bulk load is not supported by index engine " + getName());
+  }
+
   interface ValuesTransformer {
     Collection<OIdentifiable> transformFromValue(Object value);
   }
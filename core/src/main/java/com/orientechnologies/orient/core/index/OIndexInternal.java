@@ -24,6 +24,8 @@ import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.tx.OTransactionIndexChanges;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.locks.Lock;
 
 /**
@@ -43,6 +45,7 @@ public interface OIndexInternal<T> extends OIndex<T> {
   String INDEX_DEFINITION_CLASS    = "indexDefinitionClass";
   String INDEX_VERSION             = "indexVersion";
   String METADATA                  = "metadata";
+  String STATISTICS                = "statistics";
 
   Object getCollatingValue(final Object key);
 
@@ -132,4 +135,39 @@ public interface OIndexInternal<T> extends OIndex<T> {
    * key} and only some subset of this index was locked.
    */
   boolean acquireAtomicExclusiveLock(Object key);
+
+  /**
+   * @return the statistics built by the last analysis of the index, null if the index was never analyzed
+   */
+  default OIndexStatistics getStatistics() {
+    return null;
+  }
+
+  /**
+   * replaces the statistics of the index. They are persisted with the index configuration on the next save of the index manager.
+   * Ignored if the index does not support statistics.
+   *
+   * @param statistics the new statistics, null to remove them
+   *
+   * @see #supportsStatistics()
+   */
+  default void setStatistics(OIndexStatistics statistics) {
+  }
+
+  /**
+   * @return true if the index keeps the statistics passed to {@link #setStatistics(OIndexStatistics)}
+   */
+  default boolean supportsStatistics() {
+    return false;
+  }
+
+  /**
+   * @return names of the fields whose values are stored in the index next to the RID of the indexed record, so queries which
+   * read only those fields and the fields of the key do not need to load the record. Empty list if the index includes no fields.
+   *
+   * @see OIndex#INCLUDED_FIELDS
+   */
+  default List<String> getIncludedFields() {
+    return Collections.emptyList();
+  }
 }
@@ -0,0 +1,207 @@
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.common.comparator.ODefaultComparator;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import com.orientechnologies.orient.core.sql.executor.OResultSpillFile;
+
+import java.io.Closeable;
+import java.util.*;
+
+/**
+ * Sorts the keys of the records indexed during an index build. Up to {@link OGlobalConfiguration#INDEX_BULK_LOAD_SORT_BUFFER_SIZE}
+ * keys are sorted in memory, more keys are written to temporary files as sorted runs that are merged at the end.
+ * <p>
+ * Records with the same key are returned together, in the order they were added.
+ *
+ * @see OIndexAbstract#hasBulkLoadSupport()
+ */
+class OIndexKeySorter implements Closeable {
+  private static final String KEY       = "key";
+  private static final String COMPOSITE = "composite";
+  private static final String RID       = "rid";
+
+  private static final Comparator<Entry> COMPARATOR = new Comparator<Entry>() {
+    @Override
+    public int compare(Entry entryOne, Entry entryTwo) {
+      return ODefaultComparator.INSTANCE.compare(entryOne.key, entryTwo.key);
+    }
+  };
+
+  private static final class Entry {
+    private final Object        key;
+    private final OIdentifiable value;
+
+    private Entry(Object key, OIdentifiable value) {
+      this.key = key;
+      this.value = value;
+    }
+  }
+
+  /**
+   * next entry of a sorted run, runs are ordered by position on equal keys to keep the order of the records
+   */
+  private static final class RunHead implements Comparable<RunHead> {
+    private final int             position;
+    private final Iterator<Entry> iterator;
+    private       Entry           entry;
+
+    private RunHead(int position, Iterator<Entry> iterator) {
+      this.position = position;
+      this.iterator = iterator;
+      this.entry = iterator.next();
+    }
+
+    private boolean advance() {
+      if (!iterator.hasNext())
+        return false;
+
+      entry = iterator.next();
+      return true;
+    }
+
+    @Override
+    public int compareTo(RunHead other) {
+      final int result = COMPARATOR.compare(entry, other.entry);
+      if (result != 0)
+        return result;
+
+      return Integer.compare(position, other.position);
+    }
+  }
+
+  private final int                     bufferSize;
+  private final List<Entry>             buffer = new ArrayList<Entry>();
+  private final List<OResultSpillFile> runs   = new ArrayList<OResultSpillFile>();
+  private       long                   size;
+
+  OIndexKeySorter() {
+    this(OGlobalConfiguration.INDEX_BULK_LOAD_SORT_BUFFER_SIZE.getValueAsInteger());
+  }
+
+  OIndexKeySorter(int bufferSize) {
+    this.bufferSize = Math.max(1, bufferSize);
+  }
+
+  public void add(Object key, OIdentifiable value) {
+    buffer.add(new Entry(key, value.getIdentity()));
+    size++;
+    if (buffer.size() >= bufferSize)
+      spill();
+  }
+
+  /**
+   * @return number of key/record pairs added to the sorter
+   */
+  public long size() {
+    return size;
+  }
+
+  /**
+   * @return number of temporary files used by the sort
+   */
+  public int getRuns() {
+    return runs.size();
+  }
+
+  /**
+   * @return keys in ascending order, each with the records added for it. <code>null</code> key, if present, is the first one
+   */
+  public Iterator<Map.Entry<Object, List<OIdentifiable>>> sorted() {
+    Collections.sort(buffer, COMPARATOR);
+
+    final PriorityQueue<RunHead> heads = new PriorityQueue<RunHead>();
+    for (int i = 0; i < runs.size(); i++) {
+      final Iterator<Entry> iterator = runIterator(runs.get(i));
+      if (iterator.hasNext())
+        heads.add(new RunHead(i, iterator));
+    }
+    if (!buffer.isEmpty())
+      heads.add(new RunHead(runs.size(), buffer.iterator()));
+
+    return new Iterator<Map.Entry<Object, List<OIdentifiable>>>() {
+      @Override
+      public boolean hasNext() {
+        return !heads.isEmpty();
+      }
+
+      @Override
+      public Map.Entry<Object, List<OIdentifiable>> next() {
+        if (heads.isEmpty())
+          throw new NoSuchElementException();
+
+        final Object key = heads.peek().entry.key;
+        final List<OIdentifiable> values = new ArrayList<OIdentifiable>();
+        while (!heads.isEmpty() && ODefaultComparator.INSTANCE.compare(heads.peek().entry.key, key) == 0) {
+          final RunHead head = heads.poll();
+          values.add(head.entry.value);
+          if (head.advance())
+            heads.add(head);
+        }
+
+        return new AbstractMap.SimpleImmutableEntry<Object, List<OIdentifiable>>(key, values);
+      }
+
+      @Override
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+
+  @Override
+  public void close() {
+    for (OResultSpillFile run : runs)
+      run.close();
+
+    runs.clear();
+    buffer.clear();
+  }
+
+  private void spill() {
+    Collections.sort(buffer, COMPARATOR);
+
+    final OResultSpillFile run = new OResultSpillFile("orientdb-index-");
+    runs.add(run);
+    for (Entry entry : buffer) {
+      final OResultInternal result = new OResultInternal();
+      if (entry.key instanceof OCompositeKey) {
+        result.setProperty(KEY, ((OCompositeKey) entry.key).getKeys());
+        result.setProperty(COMPOSITE, true);
+      } else
+        result.setProperty(KEY, entry.key);
+
+      result.setProperty(RID, entry.value);
+      run.write(result);
+    }
+
+    buffer.clear();
+  }
+
+  private static Iterator<Entry> runIterator(final OResultSpillFile run) {
+    return new Iterator<Entry>() {
+      @Override
+      public boolean hasNext() {
+        return run.hasNext();
+      }
+
+      @Override
+      public Entry next() {
+        final OResult result = run.next();
+
+        Object key = result.getProperty(KEY);
+        if (Boolean.TRUE.equals(result.getProperty(COMPOSITE)))
+          key = new OCompositeKey((List<?>) key);
+
+        return new Entry(key, (OIdentifiable) result.getProperty(RID));
+      }
+
+      @Override
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+}
@@ -67,6 +67,8 @@ public abstract class OIndexManagerAbstract extends ODocumentWrapperNoClass impl
 
   protected ReadWriteLock lock = new ReentrantReadWriteLock();
 
+  private volatile long version = 0;
+
   public OIndexManagerAbstract() {
     super(new ODocument().setTrackingChanges(false));
   }
@@ -414,6 +416,7 @@ public abstract class OIndexManagerAbstract extends ODocumentWrapperNoClass impl
   }
 
   protected void releaseExclusiveLock() {
+    version++;
     lock.writeLock().unlock();
 
     final ODatabaseDocument databaseRecord = getDatabaseIfDefined();
@@ -424,6 +427,14 @@ public abstract class OIndexManagerAbstract extends ODocumentWrapperNoClass impl
     }
   }
 
+  /**
+   * @return a counter that is incremented on every change of the indexes, used to detect that cached data that depends on them
+   * (eg. query execution plans) is not valid anymore
+   */
+  public long getVersion() {
+    return version;
+  }
+
   protected void clearMetadata() {
     acquireExclusiveLock();
     try {
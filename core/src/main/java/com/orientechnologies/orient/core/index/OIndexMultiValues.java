@@ -100,6 +100,19 @@ public abstract class OIndexMultiValues extends OIndexAbstract<Set<OIdentifiable
     }
   }
 
+  @Override
+  protected Object getBulkLoadValue(Object key, List<OIdentifiable> values) {
+    if (!ODefaultIndexFactory.SBTREEBONSAI_VALUE_CONTAINER.equals(valueContainerAlgorithm))
+      throw new IllegalStateException("MVRBTree is not supported any more");
+
+    final boolean durable = metadata != null && Boolean.TRUE.equals(metadata.field("durableInNonTxMode"));
+    final Set<OIdentifiable> result = new OIndexRIDContainer(getName(), durable);
+    for (OIdentifiable value : values)
+      result.add(value);
+
+    return result;
+  }
+
   public OIndexMultiValues put(Object key, final OIdentifiable singleValue) {
     key = getCollatingValue(key);
 
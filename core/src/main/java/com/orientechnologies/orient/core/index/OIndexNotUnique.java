@@ -40,6 +40,11 @@ public class OIndexNotUnique extends OIndexMultiValues {
     return true;
   }
 
+  @Override
+  protected boolean hasBulkLoadSupport() {
+    return true;
+  }
+
   @Override
   public boolean supportsOrderedIterations() {
     while (true)
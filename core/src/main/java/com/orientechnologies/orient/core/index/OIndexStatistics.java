@@ -0,0 +1,364 @@
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.common.comparator.ODefaultComparator;
+import com.orientechnologies.common.util.OSizeable;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+
+import java.util.*;
+
+/**
+ * Statistics about the distribution of the keys of an index, used by the query planner to estimate how many entries match a
+ * condition. They are built by <code>ANALYZE INDEX</code> and <code>ANALYZE CLASS</code> and stored in the index configuration.
+ * <p>
+ * Besides the number of entries and of distinct keys, indexes on a single field of a simple type have an equi-depth histogram
+ * built on a random sample of keys and the list of the most common keys with their exact number of entries. When the index
+ * changes after the analysis, the estimates are scaled by the ratio between the current and the analyzed number of keys.
+ */
+public class OIndexStatistics {
+  private static final String ENTRIES      = "entries";
+  private static final String KEYS         = "keys";
+  private static final String TIMESTAMP    = "timestamp";
+  private static final String MIN_KEY      = "minKey";
+  private static final String BOUNDS       = "bounds";
+  private static final String CUMULATIVE   = "cumulative";
+  private static final String COMMON_KEYS  = "commonKeys";
+  private static final String COMMON_COUNT = "commonCounts";
+
+  private final long entries;
+  private final long keys;
+  private final long timestamp;
+
+  //histogram, null if the keys are not suitable for it (eg. composite keys)
+  private Object       minKey;
+  private List<Object> bounds;
+  private double[]     cumulative;
+
+  private Map<Object, Long> commonKeys = new TreeMap<>(ODefaultComparator.INSTANCE);
+  private long              commonEntries;
+
+  public OIndexStatistics(long entries, long keys, long timestamp) {
+    this.entries = entries;
+    this.keys = keys;
+    this.timestamp = timestamp;
+  }
+
+  /**
+   * scans the keys of an index and builds its statistics. The histogram is built on a random sample of keys of the size defined
+   * by {@link OGlobalConfiguration#INDEX_STATISTICS_SAMPLE_SIZE}
+   *
+   * @param index the index to analyze
+   *
+   * @return the statistics of the index
+   */
+  public static OIndexStatistics analyze(OIndex<?> index) {
+    return analyze(index, OGlobalConfiguration.INDEX_STATISTICS_HISTOGRAM_BUCKETS.getValueAsInteger(),
+        OGlobalConfiguration.INDEX_STATISTICS_SAMPLE_SIZE.getValueAsInteger());
+  }
+
+  public static OIndexStatistics analyze(OIndex<?> index, int buckets, int sampleSize) {
+    final OIndexStatistics result = new OIndexStatistics(index.getSize(), index.getKeySize(), System.currentTimeMillis());
+    if (!supportsHistogram(index) || buckets < 1 || sampleSize < 1 || result.entries == 0) {
+      return result;
+    }
+
+    //reservoir sampling of the keys
+    final Random random = new Random();
+    final List<Object> sample = new ArrayList<>();
+    final OIndexKeyCursor cursor = index.keyCursor();
+    long seen = 0;
+    Object key;
+    while ((key = cursor.next(OGlobalConfiguration.INDEX_CURSOR_PREFETCH_SIZE.getValueAsInteger())) != null) {
+      seen++;
+      if (sample.size() < sampleSize) {
+        sample.add(key);
+      } else {
+        long pos = (long) (random.nextDouble() * seen);
+        if (pos < sampleSize) {
+          sample.set((int) pos, key);
+        }
+      }
+    }
+    if (sample.isEmpty()) {
+      return result;
+    }
+
+    sample.sort(ODefaultComparator.INSTANCE);
+    final long[] weights = new long[sample.size()];
+    long totalWeight = 0;
+    for (int i = 0; i < sample.size(); i++) {
+      weights[i] = Math.max(1, countEntries(index.get(sample.get(i))));
+      totalWeight += weights[i];
+    }
+
+    final List<Object> bounds = new ArrayList<>();
+    final List<Double> cumulative = new ArrayList<>();
+    long weight = 0;
+    int nextBucket = 1;
+    for (int i = 0; i < sample.size(); i++) {
+      weight += weights[i];
+      if ((double) weights[i] / result.entries > 1d / buckets) {
+        result.commonKeys.put(sample.get(i), weights[i]);
+        result.commonEntries += weights[i];
+      }
+      final double fraction = (double) weight / totalWeight;
+      if (fraction >= (double) nextBucket / buckets || i == sample.size() - 1) {
+        bounds.add(sample.get(i));
+        cumulative.add(fraction);
+        while (nextBucket <= buckets && fraction >= (double) nextBucket / buckets) {
+          nextBucket++;
+        }
+      }
+    }
+
+    result.minKey = sample.get(0);
+    result.bounds = bounds;
+    result.cumulative = toArray(cumulative);
+    return result;
+  }
+
+  private static boolean supportsHistogram(OIndex<?> index) {
+    final OIndexDefinition definition = index.getDefinition();
+    if (definition == null || definition.getParamCount() != 1 || definition.getTypes().length != 1) {
+      return false;
+    }
+    final OType type = definition.getTypes()[0];
+    return type != null && type != OType.LINK && !type.isEmbedded() && !type.isMultiValue() && !type.isLink()
+        && type != OType.BINARY && type != OType.CUSTOM && type != OType.ANY;
+  }
+
+  private static long countEntries(Object value) {
+    if (value == null) {
+      return 0;
+    }
+    if (value instanceof OIdentifiable) {
+      return 1;
+    }
+    if (value instanceof OSizeable) {
+      return ((OSizeable) value).size();
+    }
+    if (value instanceof Collection) {
+      return ((Collection) value).size();
+    }
+    return 1;
+  }
+
+  /**
+   * @return the number of entries of the index when it was analyzed
+   */
+  public long getEntries() {
+    return entries;
+  }
+
+  /**
+   * @return the number of distinct keys of the index when it was analyzed
+   */
+  public long getKeys() {
+    return keys;
+  }
+
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  public boolean hasHistogram() {
+    return bounds != null && !bounds.isEmpty();
+  }
+
+  /**
+   * @return the number of buckets of the histogram, 0 if there is no histogram
+   */
+  public int getBuckets() {
+    return bounds == null ? 0 : bounds.size();
+  }
+
+  /**
+   * @param currentKeys the current number of distinct keys of the index
+   *
+   * @return the estimated number of entries of the index now
+   */
+  public long estimateEntries(long currentKeys) {
+    if (keys <= 0 || currentKeys < 0) {
+      return entries;
+    }
+    return (long) ((double) entries * currentKeys / keys);
+  }
+
+  /**
+   * @param currentKeys the current number of distinct keys of the index
+   *
+   * @return the estimated number of entries for a key, on average
+   */
+  public long estimateEquals(long currentKeys) {
+    if (keys <= 0) {
+      return estimateEntries(currentKeys);
+    }
+    return Math.max(1, entries / keys);
+  }
+
+  /**
+   * @param key         a key, converted to the type of the index keys
+   * @param currentKeys the current number of distinct keys of the index
+   *
+   * @return the estimated number of entries with the given key
+   */
+  public long estimateEquals(Object key, long currentKeys) {
+    if (!hasHistogram() || key == null) {
+      return estimateEquals(currentKeys);
+    }
+    final Long common = commonKeys.get(key);
+    if (common != null) {
+      return common;
+    }
+    return Math.max(1, Math.round(equalsFraction(key) * estimateEntries(currentKeys)));
+  }
+
+  /**
+   * @param from          the lower bound, null for no lower bound
+   * @param fromInclusive true if the lower bound is included in the range
+   * @param to            the upper bound, null for no upper bound
+   * @param toInclusive   true if the upper bound is included in the range
+   * @param currentKeys   the current number of distinct keys of the index
+   *
+   * @return the estimated number of entries with a key in the range, -1 if the statistics cannot estimate it
+   */
+  public long estimateRange(Object from, boolean fromInclusive, Object to, boolean toInclusive, long currentKeys) {
+    if (!hasHistogram()) {
+      return -1;
+    }
+    final double high = to == null ? 1 : (toInclusive ? lessOrEqualFraction(to) : lessOrEqualFraction(to) - equalsFraction(to));
+    final double low =
+        from == null ? 0 : (fromInclusive ? lessOrEqualFraction(from) - equalsFraction(from) : lessOrEqualFraction(from));
+    final double fraction = Math.max(0, high - low);
+    return Math.round(fraction * estimateEntries(currentKeys));
+  }
+
+  private double equalsFraction(Object key) {
+    if (entries <= 0) {
+      return 0;
+    }
+    final Long common = commonKeys.get(key);
+    if (common != null) {
+      return (double) common / entries;
+    }
+    final long otherKeys = Math.max(1, keys - commonKeys.size());
+    return Math.max(0, (double) (entries - commonEntries) / entries) / otherKeys;
+  }
+
+  /**
+   * @return the estimated fraction of entries with a key lower or equal to the given one
+   */
+  private double lessOrEqualFraction(Object key) {
+    if (compare(key, minKey) < 0) {
+      return 0;
+    }
+    int low = 0;
+    int high = bounds.size() - 1;
+    if (compare(key, bounds.get(high)) >= 0) {
+      return 1;
+    }
+    //first bound greater or equal to the key
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (compare(bounds.get(mid), key) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    final Object bound = bounds.get(low);
+    if (compare(bound, key) == 0) {
+      return cumulative[low];
+    }
+    final Object previousBound = low == 0 ? minKey : bounds.get(low - 1);
+    final double previousFraction = low == 0 ? 0 : cumulative[low - 1];
+    final double bucketFraction = cumulative[low] - previousFraction;
+    return previousFraction + bucketFraction * position(previousBound, bound, key);
+  }
+
+  /**
+   * @return the relative position of the key between two bounds, interpolated for numbers and dates, 0.5 for other types
+   */
+  private static double position(Object low, Object high, Object key) {
+    final double lowValue;
+    final double highValue;
+    final double value;
+    if (low instanceof Number && high instanceof Number && key instanceof Number) {
+      lowValue = ((Number) low).doubleValue();
+      highValue = ((Number) high).doubleValue();
+      value = ((Number) key).doubleValue();
+    } else if (low instanceof Date && high instanceof Date && key instanceof Date) {
+      lowValue = ((Date) low).getTime();
+      highValue = ((Date) high).getTime();
+      value = ((Date) key).getTime();
+    } else {
+      return 0.5;
+    }
+    if (highValue <= lowValue) {
+      return 0.5;
+    }
+    return Math.min(1, Math.max(0, (value - lowValue) / (highValue - lowValue)));
+  }
+
+  private static int compare(Object a, Object b) {
+    return ODefaultComparator.INSTANCE.compare(a, b);
+  }
+
+  public ODocument toDocument() {
+    final ODocument document = new ODocument();
+    document.field(ENTRIES, entries);
+    document.field(KEYS, keys);
+    document.field(TIMESTAMP, timestamp);
+    if (hasHistogram()) {
+      document.field(MIN_KEY, minKey);
+      document.field(BOUNDS, new ArrayList<>(bounds), OType.EMBEDDEDLIST);
+      final List<Double> cumulativeList = new ArrayList<>();
+      for (double fraction : cumulative) {
+        cumulativeList.add(fraction);
+      }
+      document.field(CUMULATIVE, cumulativeList, OType.EMBEDDEDLIST);
+      document.field(COMMON_KEYS, new ArrayList<>(commonKeys.keySet()), OType.EMBEDDEDLIST);
+      document.field(COMMON_COUNT, new ArrayList<>(commonKeys.values()), OType.EMBEDDEDLIST);
+    }
+    return document;
+  }
+
+  public static OIndexStatistics fromDocument(ODocument document) {
+    final Number entries = document.field(ENTRIES);
+    final Number keys = document.field(KEYS);
+    final Number timestamp = document.field(TIMESTAMP);
+    final OIndexStatistics result = new OIndexStatistics(entries == null ? 0 : entries.longValue(),
+        keys == null ? 0 : keys.longValue(), timestamp == null ? 0 : timestamp.longValue());
+
+    final List<Object> bounds = document.field(BOUNDS);
+    final List<Number> cumulative = document.field(CUMULATIVE);
+    if (bounds != null && cumulative != null && bounds.size() == cumulative.size() && !bounds.isEmpty()) {
+      result.minKey = document.field(MIN_KEY);
+      result.bounds = new ArrayList<>(bounds);
+      result.cumulative = new double[cumulative.size()];
+      for (int i = 0; i < cumulative.size(); i++) {
+        result.cumulative[i] = cumulative.get(i).doubleValue();
+      }
+
+      final List<Object> commonKeys = document.field(COMMON_KEYS);
+      final List<Number> commonCounts = document.field(COMMON_COUNT);
+      if (commonKeys != null && commonCounts != null) {
+        for (int i = 0; i < commonKeys.size() && i < commonCounts.size(); i++) {
+          result.commonKeys.put(commonKeys.get(i), commonCounts.get(i).longValue());
+          result.commonEntries += commonCounts.get(i).longValue();
+        }
+      }
+    }
+    return result;
+  }
+
+  private static double[] toArray(List<Double> list) {
+    final double[] result = new double[list.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = list.get(i);
+    }
+    return result;
+  }
+}
@@ -67,6 +67,13 @@ public abstract class OIndexTxAware<T> extends OIndexAbstractDelegate<T> {
     database = iDatabase;
   }
 
+  /**
+   * @return database session which transaction is used to merge index changes with persistent index content
+   */
+  public ODatabaseDocumentInternal getDatabase() {
+    return database;
+  }
+
   @Override
   public long getSize() {
     long tot = delegate.getSize();
@@ -19,13 +19,24 @@
  */
 package com.orientechnologies.orient.core.index;
 
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OInvalidIndexEngineIdException;
+import com.orientechnologies.orient.core.id.OContextualRecordId;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.serialization.serializer.binary.OBinarySerializerFactory;
+import com.orientechnologies.orient.core.serialization.serializer.stream.OStreamSerializerRIDWithIncludedValues;
 import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.tx.OTransactionIndexChangesPerKey;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Index implementation that allows only one value for a key.
  *
@@ -44,7 +55,9 @@ public class OIndexUnique extends OIndexOneValue {
             throw new ORecordDuplicatedException(String
                 .format("Cannot index record %s: found duplicated key '%s' in index '%s' previously assigned to the record %s",
                     newValue.getIdentity(), key, getName(), oldValue.getIdentity()), getName(), oldValue.getIdentity());
-        } else
+        } else if (!(newValue instanceof OContextualRecordId) || oldValue instanceof OContextualRecordId && includedValuesEqual(
+            (OContextualRecordId) oldValue, (OContextualRecordId) newValue))
+          // SAME RECORD, INCLUDED VALUES (IF ANY) HAVE NOT CHANGED
           return OIndexEngine.Validator.IGNORE;
       }
 
@@ -63,11 +76,14 @@ public class OIndexUnique extends OIndexOneValue {
   public OIndexOneValue put(Object key, final OIdentifiable iSingleValue) {
     key = getCollatingValue(key);
 
+    final List<String> includedFields = getIncludedFields();
+    final OIdentifiable value = includedFields.isEmpty() ? iSingleValue : includeValues(iSingleValue, includedFields);
+
     acquireSharedLock();
     try {
       while (true)
         try {
-          storage.validatedPutIndexValue(indexId, key, iSingleValue, UNIQUE_VALIDATOR);
+          storage.validatedPutIndexValue(indexId, key, value, UNIQUE_VALIDATOR);
           break;
         } catch (OInvalidIndexEngineIdException e) {
           doReloadIndexEngine();
@@ -83,6 +99,43 @@ public class OIndexUnique extends OIndexOneValue {
     return true;
   }
 
+  @Override
+  protected boolean hasBulkLoadSupport() {
+    // included values are read from the records, the sorter keeps only their RIDs
+    return getIncludedFields().isEmpty();
+  }
+
+  @Override
+  protected boolean supportsIncludedFields() {
+    return true;
+  }
+
+  @Override
+  protected OBinarySerializer determineValueSerializer() {
+    if (!getIncludedFields().isEmpty())
+      return OStreamSerializerRIDWithIncludedValues.INSTANCE;
+
+    return super.determineValueSerializer();
+  }
+
+  @Override
+  protected Object getBulkLoadValue(Object key, List<OIdentifiable> values) {
+    final Boolean mergeSameKey = metadata != null ? (Boolean) metadata.field(OIndex.MERGE_KEYS) : Boolean.FALSE;
+    if (mergeSameKey != null && mergeSameKey)
+      return values.get(values.size() - 1);
+
+    // the same record is added several times if a collection contains equal items, as in put() it is not a duplicate
+    final ORID rid = values.get(0).getIdentity();
+    for (int i = 1; i < values.size(); i++) {
+      final ORID duplicate = values.get(i).getIdentity();
+      if (!duplicate.equals(rid))
+        throw new ORecordDuplicatedException(String
+            .format("Cannot index record %s: found duplicated key '%s' in index '%s' previously assigned to the record %s",
+                duplicate, key, getName(), rid), getName(), rid);
+    }
+    return values.get(0);
+  }
+
   @Override
   public boolean supportsOrderedIterations() {
     while (true)
@@ -98,4 +151,42 @@ public class OIndexUnique extends OIndexOneValue {
       OTransactionIndexChangesPerKey changes) {
     return changes.interpret(OTransactionIndexChangesPerKey.Interpretation.Unique);
   }
+
+  /**
+   * @return RID of the record with the current values of the included fields as context, or the passed in value if the record is
+   * not a persistent document
+   */
+  private OIdentifiable includeValues(OIdentifiable value, List<String> includedFields) {
+    final ORID identity = value.getIdentity();
+    if (!identity.isPersistent())
+      return value;
+
+    final ORecord record = value.getRecord();
+    if (!(record instanceof ODocument))
+      return value;
+
+    final ODocument document = (ODocument) record;
+    final Map<String, Object> includedValues = new LinkedHashMap<String, Object>();
+    for (String field : includedFields) {
+      Object fieldValue = document.field(field);
+      if (fieldValue instanceof OIdentifiable)
+        fieldValue = ((OIdentifiable) fieldValue).getIdentity();
+      else if (fieldValue != null) {
+        final OType type = OType.getTypeByClass(fieldValue.getClass());
+        if (type == null || OBinarySerializerFactory.getInstance().getObjectSerializer(type) == null)
+          throw new OIndexException(
+              "Value of field '" + field + "' of record " + identity + " cannot be included in index '" + getName() + "'");
+      }
+
+      includedValues.put(field, fieldValue);
+    }
+
+    return new OContextualRecordId(identity.getClusterId(), identity.getClusterPosition()).setContext(includedValues);
+  }
+
+  private static boolean includedValuesEqual(OContextualRecordId oldValue, OContextualRecordId newValue) {
+    final Map<String, Object> oldValues = oldValue.getContext();
+    final Map<String, Object> newValues = newValue.getContext();
+    return oldValues != null ? oldValues.equals(newValues) : newValues == null;
+  }
 }
@@ -17,6 +17,7 @@ package com.orientechnologies.orient.core.index;
 
 import com.orientechnologies.common.util.OCollections;
 import com.orientechnologies.orient.core.exception.OConfigurationException;
+import com.orientechnologies.orient.core.index.bitmap.OBitmapIndexFactory;
 import com.orientechnologies.orient.core.index.hashindex.local.OHashIndexFactory;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.record.impl.ODocument;
@@ -185,6 +186,8 @@ public final class OIndexes {
         || OClass.INDEX_TYPE.FULLTEXT_HASH_INDEX.name().equalsIgnoreCase(type) || OClass.INDEX_TYPE.NOTUNIQUE_HASH_INDEX.name().equalsIgnoreCase(type)
         || OClass.INDEX_TYPE.UNIQUE_HASH_INDEX.name().equalsIgnoreCase(type)) {
       algorithm = OHashIndexFactory.HASH_INDEX_ALGORITHM;
+    } else if (OClass.INDEX_TYPE.BITMAP.name().equalsIgnoreCase(type)) {
+      algorithm = OBitmapIndexFactory.BITMAP_ALGORITHM;
     }
     return algorithm;
   }
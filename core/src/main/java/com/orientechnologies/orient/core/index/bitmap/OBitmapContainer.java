@@ -0,0 +1,350 @@
+package com.orientechnologies.orient.core.index.bitmap;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Compressed set of the values in range [0, 65535], that are the lowest 16 bits of the cluster positions of one chunk of a
+ * {@link ORidBitmap}. Sparse containers keep the values as a sorted array, containers with more than {@link #MAX_ARRAY_SIZE} values
+ * are kept as a bitmap of {@link #BITMAP_SIZE} words, so a container never takes more than 8 KB.
+ */
+public final class OBitmapContainer {
+  public static final int MAX_VALUE      = 0xFFFF;
+  public static final int MAX_ARRAY_SIZE = 4096;
+  public static final int BITMAP_SIZE    = (MAX_VALUE + 1) / Long.SIZE;
+
+  /**
+   * sorted values, null if the container is a bitmap
+   */
+  private char[] array;
+  private long[] bitmap;
+  private int    cardinality;
+
+  public OBitmapContainer() {
+    array = new char[4];
+  }
+
+  /**
+   * @param array sorted values, at most {@link #MAX_ARRAY_SIZE}
+   */
+  public OBitmapContainer(char[] array, int cardinality) {
+    this.array = array;
+    this.cardinality = cardinality;
+  }
+
+  /**
+   * @param bitmap {@link #BITMAP_SIZE} words, with more than {@link #MAX_ARRAY_SIZE} bits set
+   */
+  public OBitmapContainer(long[] bitmap, int cardinality) {
+    this.bitmap = bitmap;
+    this.cardinality = cardinality;
+  }
+
+  public int getCardinality() {
+    return cardinality;
+  }
+
+  public boolean isEmpty() {
+    return cardinality == 0;
+  }
+
+  public boolean isBitmap() {
+    return bitmap != null;
+  }
+
+  public boolean contains(int value) {
+    if (bitmap != null)
+      return (bitmap[value >>> 6] & (1L << value)) != 0;
+
+    return Arrays.binarySearch(array, 0, cardinality, (char) value) >= 0;
+  }
+
+  /**
+   * @return true if the value was not present in the container
+   */
+  public boolean add(int value) {
+    if (bitmap != null) {
+      final long before = bitmap[value >>> 6];
+      final long after = before | (1L << value);
+      if (before == after)
+        return false;
+
+      bitmap[value >>> 6] = after;
+      cardinality++;
+      return true;
+    }
+
+    final int index = Arrays.binarySearch(array, 0, cardinality, (char) value);
+    if (index >= 0)
+      return false;
+
+    if (cardinality == MAX_ARRAY_SIZE) {
+      toBitmap();
+      return add(value);
+    }
+
+    final int insertionPoint = -index - 1;
+    if (cardinality == array.length)
+      array = Arrays.copyOf(array, Math.min(MAX_ARRAY_SIZE, Math.max(4, array.length * 2)));
+
+    System.arraycopy(array, insertionPoint, array, insertionPoint + 1, cardinality - insertionPoint);
+    array[insertionPoint] = (char) value;
+    cardinality++;
+    return true;
+  }
+
+  /**
+   * @return true if the value was present in the container
+   */
+  public boolean remove(int value) {
+    if (bitmap != null) {
+      final long before = bitmap[value >>> 6];
+      final long after = before & ~(1L << value);
+      if (before == after)
+        return false;
+
+      bitmap[value >>> 6] = after;
+      cardinality--;
+      if (cardinality <= MAX_ARRAY_SIZE)
+        toArray();
+
+      return true;
+    }
+
+    final int index = Arrays.binarySearch(array, 0, cardinality, (char) value);
+    if (index < 0)
+      return false;
+
+    System.arraycopy(array, index + 1, array, index, cardinality - index - 1);
+    cardinality--;
+    return true;
+  }
+
+  public OBitmapContainer and(OBitmapContainer other) {
+    if (bitmap != null && other.bitmap != null) {
+      final long[] result = new long[BITMAP_SIZE];
+      int resultCardinality = 0;
+      for (int i = 0; i < BITMAP_SIZE; i++) {
+        result[i] = bitmap[i] & other.bitmap[i];
+        resultCardinality += Long.bitCount(result[i]);
+      }
+
+      return new OBitmapContainer(result, resultCardinality).optimize();
+    }
+
+    if (bitmap != null)
+      return other.and(this);
+
+    //at least this container is an array, the result is never bigger than this container
+    final char[] result = new char[Math.max(cardinality, 1)];
+    int resultCardinality = 0;
+    if (other.bitmap != null) {
+      for (int i = 0; i < cardinality; i++) {
+        if (other.contains(array[i]))
+          result[resultCardinality++] = array[i];
+      }
+    } else {
+      int i = 0, j = 0;
+      while (i < cardinality && j < other.cardinality) {
+        if (array[i] < other.array[j])
+          i++;
+        else if (array[i] > other.array[j])
+          j++;
+        else {
+          result[resultCardinality++] = array[i];
+          i++;
+          j++;
+        }
+      }
+    }
+
+    return new OBitmapContainer(result, resultCardinality);
+  }
+
+  public OBitmapContainer or(OBitmapContainer other) {
+    if (bitmap == null && other.bitmap == null && cardinality + other.cardinality <= MAX_ARRAY_SIZE) {
+      final char[] result = new char[Math.max(cardinality + other.cardinality, 1)];
+      int resultCardinality = 0;
+      int i = 0, j = 0;
+      while (i < cardinality || j < other.cardinality) {
+        if (j == other.cardinality || (i < cardinality && array[i] < other.array[j]))
+          result[resultCardinality++] = array[i++];
+        else if (i == cardinality || array[i] > other.array[j])
+          result[resultCardinality++] = other.array[j++];
+        else {
+          result[resultCardinality++] = array[i];
+          i++;
+          j++;
+        }
+      }
+
+      return new OBitmapContainer(result, resultCardinality);
+    }
+
+    final long[] result = toBitmapWords();
+    int resultCardinality = 0;
+    if (other.bitmap != null) {
+      for (int i = 0; i < BITMAP_SIZE; i++) {
+        result[i] |= other.bitmap[i];
+        resultCardinality += Long.bitCount(result[i]);
+      }
+    } else {
+      for (int i = 0; i < other.cardinality; i++)
+        result[other.array[i] >>> 6] |= 1L << other.array[i];
+
+      for (int i = 0; i < BITMAP_SIZE; i++)
+        resultCardinality += Long.bitCount(result[i]);
+    }
+
+    return new OBitmapContainer(result, resultCardinality).optimize();
+  }
+
+  public OBitmapContainer andNot(OBitmapContainer other) {
+    if (bitmap != null) {
+      final long[] result = Arrays.copyOf(bitmap, BITMAP_SIZE);
+      int resultCardinality = 0;
+      if (other.bitmap != null) {
+        for (int i = 0; i < BITMAP_SIZE; i++) {
+          result[i] &= ~other.bitmap[i];
+          resultCardinality += Long.bitCount(result[i]);
+        }
+      } else {
+        for (int i = 0; i < other.cardinality; i++)
+          result[other.array[i] >>> 6] &= ~(1L << other.array[i]);
+
+        for (int i = 0; i < BITMAP_SIZE; i++)
+          resultCardinality += Long.bitCount(result[i]);
+      }
+
+      return new OBitmapContainer(result, resultCardinality).optimize();
+    }
+
+    final char[] result = new char[Math.max(cardinality, 1)];
+    int resultCardinality = 0;
+    for (int i = 0; i < cardinality; i++) {
+      if (!other.contains(array[i]))
+        result[resultCardinality++] = array[i];
+    }
+
+    return new OBitmapContainer(result, resultCardinality);
+  }
+
+  public OBitmapContainer copy() {
+    if (bitmap != null)
+      return new OBitmapContainer(Arrays.copyOf(bitmap, BITMAP_SIZE), cardinality);
+
+    return new OBitmapContainer(Arrays.copyOf(array, Math.max(cardinality, 1)), cardinality);
+  }
+
+  /**
+   * @return the values of the container in ascending order
+   */
+  public PrimitiveIterator.OfInt iterator() {
+    if (bitmap != null)
+      return new BitmapIterator();
+
+    return new ArrayIterator();
+  }
+
+  /**
+   * @return the value at the given position of a container kept as array
+   */
+  public char getArrayValue(int index) {
+    return array[index];
+  }
+
+  /**
+   * @return the given word of a container kept as bitmap
+   */
+  public long getBitmapWord(int index) {
+    return bitmap[index];
+  }
+
+  private OBitmapContainer optimize() {
+    if (bitmap != null && cardinality <= MAX_ARRAY_SIZE)
+      toArray();
+
+    return this;
+  }
+
+  private long[] toBitmapWords() {
+    if (bitmap != null)
+      return Arrays.copyOf(bitmap, BITMAP_SIZE);
+
+    final long[] words = new long[BITMAP_SIZE];
+    for (int i = 0; i < cardinality; i++)
+      words[array[i] >>> 6] |= 1L << array[i];
+
+    return words;
+  }
+
+  private void toBitmap() {
+    bitmap = toBitmapWords();
+    array = null;
+  }
+
+  private void toArray() {
+    final char[] values = new char[Math.max(cardinality, 1)];
+    int index = 0;
+    for (int i = 0; i < BITMAP_SIZE; i++) {
+      long word = bitmap[i];
+      while (word != 0) {
+        values[index++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+        word &= word - 1;
+      }
+    }
+
+    array = values;
+    bitmap = null;
+  }
+
+  private final class ArrayIterator implements PrimitiveIterator.OfInt {
+    private int index;
+
+    @Override
+    public boolean hasNext() {
+      return index < cardinality;
+    }
+
+    @Override
+    public int nextInt() {
+      if (index >= cardinality)
+        throw new NoSuchElementException();
+
+      return array[index++];
+    }
+  }
+
+  private final class BitmapIterator implements PrimitiveIterator.OfInt {
+    private int  wordIndex = -1;
+    private long word;
+
+    private BitmapIterator() {
+      advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return word != 0;
+    }
+
+    @Override
+    public int nextInt() {
+      if (word == 0)
+        throw new NoSuchElementException();
+
+      final int value = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+      word &= word - 1;
+      if (word == 0)
+        advance();
+
+      return value;
+    }
+
+    private void advance() {
+      while (word == 0 && wordIndex < BITMAP_SIZE - 1)
+        word = bitmap[++wordIndex];
+    }
+  }
+}
@@ -0,0 +1,451 @@
+package com.orientechnologies.orient.core.index.bitmap;
+
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.*;
+import com.orientechnologies.orient.core.index.sbtree.local.OSBTree;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OCompositeKeySerializer;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+
+import java.util.*;
+
+/**
+ * Index engine of bitmap indexes. The RIDs of every key are kept as an {@link ORidBitmap}, that is stored one chunk per entry of
+ * an SBTree: the key of the entry is the key of the index followed by the key of the chunk (see
+ * {@link ORidBitmap#chunkKey(int, long)}), the value is the {@link OBitmapContainer} of the chunk. So adding or removing a RID
+ * only rewrites a container of at most 8 KB, and all the chunks of a key are read by a range query on the SBTree.
+ * <p>
+ * Values are read as {@link ORidBitmap} and written as sets of RIDs. The chunks of the null key are stored under a null index key,
+ * that sorts before the other keys, so the null key is skipped when the entries of the index are iterated.
+ */
+public class OBitmapIndexEngine implements OIndexEngine {
+  public static final int VERSION = 1;
+
+  public static final String DATA_FILE_EXTENSION        = ".bmt";
+  public static final String NULL_BUCKET_FILE_EXTENSION = ".bmn";
+
+  private final OSBTree<OCompositeKey, OBitmapContainer> sbTree;
+  private final String                                   name;
+  private final int                                      version;
+
+  /**
+   * number of parts of the keys of the index
+   */
+  private int keySize;
+
+  public OBitmapIndexEngine(String name, Boolean durableInNonTxMode, OAbstractPaginatedStorage storage, int version) {
+    this.name = name;
+    this.version = version;
+
+    final boolean durableInNonTx;
+    if (durableInNonTxMode == null)
+      durableInNonTx = storage.getConfiguration().getContextConfiguration()
+          .getValueAsBoolean(OGlobalConfiguration.INDEX_DURABLE_IN_NON_TX_MODE);
+    else
+      durableInNonTx = durableInNonTxMode;
+
+    sbTree = new OSBTree<OCompositeKey, OBitmapContainer>(name, DATA_FILE_EXTENSION, durableInNonTx, NULL_BUCKET_FILE_EXTENSION,
+        storage);
+  }
+
+  @Override
+  public void init(String indexName, String indexType, OIndexDefinition indexDefinition, boolean isAutomatic, ODocument metadata) {
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public int getVersion() {
+    return version;
+  }
+
+  @Override
+  public void flush() {
+  }
+
+  @Override
+  public void create(OBinarySerializer valueSerializer, boolean isAutomatic, OType[] keyTypes, boolean nullPointerSupport,
+      OBinarySerializer keySerializer, int keySize, Set<String> clustersToIndex, Map<String, String> engineProperties,
+      ODocument metadata) {
+    this.keySize = keySize;
+    sbTree.create(OCompositeKeySerializer.INSTANCE, valueSerializer, chunkKeyTypes(keyTypes), keySize + 1, false);
+  }
+
+  @Override
+  public void load(String indexName, OBinarySerializer valueSerializer, boolean isAutomatic, OBinarySerializer keySerializer,
+      OType[] keyTypes, boolean nullPointerSupport, int keySize, Map<String, String> engineProperties) {
+    this.keySize = keySize;
+    sbTree.load(indexName, OCompositeKeySerializer.INSTANCE, valueSerializer, chunkKeyTypes(keyTypes), keySize + 1, false);
+  }
+
+  @Override
+  public void delete() {
+    sbTree.delete();
+  }
+
+  @Override
+  public void deleteWithoutLoad(String indexName) {
+    sbTree.deleteWithoutLoad(indexName);
+  }
+
+  @Override
+  public void clear() {
+    sbTree.clear();
+  }
+
+  @Override
+  public void close() {
+    sbTree.close();
+  }
+
+  @Override
+  public boolean contains(Object key) {
+    final OCompositeKey prefix = toChunkKey(key);
+    return sbTree.iterateEntriesBetween(prefix, true, prefix, true, true).next(1) != null;
+  }
+
+  /**
+   * @return the RIDs of the key as {@link ORidBitmap}, null if there are none
+   */
+  @Override
+  public Object get(Object key) {
+    final OCompositeKey prefix = toChunkKey(key);
+    final OSBTree.OSBTreeCursor<OCompositeKey, OBitmapContainer> cursor = sbTree.iterateEntriesBetween(prefix, true, prefix, true,
+        true);
+
+    final ORidBitmap result = new ORidBitmap();
+    Map.Entry<OCompositeKey, OBitmapContainer> entry = cursor.next(-1);
+    while (entry != null) {
+      result.addChunk(chunkKey(entry.getKey()), entry.getValue());
+      entry = cursor.next(-1);
+    }
+
+    return result.isEmpty() ? null : result;
+  }
+
+  /**
+   * @return the number of RIDs of the key, calculated from the cardinality of its chunks
+   */
+  public long count(Object key) {
+    final OCompositeKey prefix = toChunkKey(key);
+    final OSBTree.OSBTreeCursor<OCompositeKey, OBitmapContainer> cursor = sbTree.iterateEntriesBetween(prefix, true, prefix, true,
+        true);
+
+    long count = 0;
+    Map.Entry<OCompositeKey, OBitmapContainer> entry = cursor.next(-1);
+    while (entry != null) {
+      count += entry.getValue().getCardinality();
+      entry = cursor.next(-1);
+    }
+
+    return count;
+  }
+
+  /**
+   * Replaces the RIDs of the key with the given set of RIDs.
+   */
+  @Override
+  public void put(Object key, Object value) {
+    remove(key);
+
+    final ORidBitmap bitmap;
+    if (value instanceof ORidBitmap)
+      bitmap = (ORidBitmap) value;
+    else {
+      bitmap = new ORidBitmap();
+      for (OIdentifiable identifiable : (Collection<OIdentifiable>) value)
+        bitmap.add(identifiable);
+    }
+
+    for (int i = 0; i < bitmap.getChunks(); i++)
+      sbTree.put(toChunkKey(key, bitmap.getChunkKey(i)), bitmap.getContainer(i));
+  }
+
+  /**
+   * Adds a RID to the RIDs of the key.
+   *
+   * @return true if the RID was not already indexed with the key
+   */
+  public boolean add(Object key, ORID rid) {
+    //the container is read and written back, concurrent writers of the same chunk have to wait
+    sbTree.acquireAtomicExclusiveLock();
+
+    final OCompositeKey chunkKey = toChunkKey(key, ORidBitmap.chunkKey(rid.getClusterId(), rid.getClusterPosition()));
+    OBitmapContainer container = sbTree.get(chunkKey);
+    if (container == null)
+      container = new OBitmapContainer();
+
+    if (!container.add(ORidBitmap.chunkValue(rid.getClusterPosition())))
+      return false;
+
+    sbTree.put(chunkKey, container);
+    return true;
+  }
+
+  /**
+   * Removes a RID from the RIDs of the key.
+   *
+   * @return true if the RID was indexed with the key
+   */
+  public boolean remove(Object key, ORID rid) {
+    sbTree.acquireAtomicExclusiveLock();
+
+    final OCompositeKey chunkKey = toChunkKey(key, ORidBitmap.chunkKey(rid.getClusterId(), rid.getClusterPosition()));
+    final OBitmapContainer container = sbTree.get(chunkKey);
+    if (container == null || !container.remove(ORidBitmap.chunkValue(rid.getClusterPosition())))
+      return false;
+
+    if (container.isEmpty())
+      sbTree.remove(chunkKey);
+    else
+      sbTree.put(chunkKey, container);
+
+    return true;
+  }
+
+  /**
+   * Removes all the RIDs of the key.
+   */
+  @Override
+  public boolean remove(Object key) {
+    final OCompositeKey prefix = toChunkKey(key);
+    final OSBTree.OSBTreeCursor<OCompositeKey, OBitmapContainer> cursor = sbTree.iterateEntriesBetween(prefix, true, prefix, true,
+        true);
+
+    final List<OCompositeKey> chunkKeys = new ArrayList<OCompositeKey>();
+    Map.Entry<OCompositeKey, OBitmapContainer> entry = cursor.next(-1);
+    while (entry != null) {
+      chunkKeys.add(entry.getKey());
+      entry = cursor.next(-1);
+    }
+
+    for (OCompositeKey chunkKey : chunkKeys)
+      sbTree.remove(chunkKey);
+
+    return !chunkKeys.isEmpty();
+  }
+
+  @Override
+  public boolean validatedPut(Object key, OIdentifiable value, Validator<Object, OIdentifiable> validator) {
+    throw new UnsupportedOperationException("Validated put is not supported by bitmap index " + name);
+  }
+
+  @Override
+  public Object getFirstKey() {
+    final Map.Entry<Object, OIdentifiable> firstEntry = cursor(null).nextEntry();
+    return firstEntry == null ? null : firstEntry.getKey();
+  }
+
+  @Override
+  public Object getLastKey() {
+    final OCompositeKey lastKey = sbTree.lastKey();
+    return lastKey == null ? null : indexKey(lastKey);
+  }
+
+  @Override
+  public OIndexCursor iterateEntriesBetween(Object rangeFrom, boolean fromInclusive, Object rangeTo, boolean toInclusive,
+      boolean ascSortOrder, ValuesTransformer transformer) {
+    return new OBitmapIndexCursor(
+        sbTree.iterateEntriesBetween(toChunkKey(rangeFrom), fromInclusive, toChunkKey(rangeTo), toInclusive, ascSortOrder));
+  }
+
+  @Override
+  public OIndexCursor iterateEntriesMajor(Object fromKey, boolean isInclusive, boolean ascSortOrder,
+      ValuesTransformer transformer) {
+    return new OBitmapIndexCursor(sbTree.iterateEntriesMajor(toChunkKey(fromKey), isInclusive, ascSortOrder));
+  }
+
+  @Override
+  public OIndexCursor iterateEntriesMinor(Object toKey, boolean isInclusive, boolean ascSortOrder, ValuesTransformer transformer) {
+    return new OBitmapIndexCursor(sbTree.iterateEntriesMinor(toChunkKey(toKey), isInclusive, ascSortOrder));
+  }
+
+  @Override
+  public OIndexCursor cursor(ValuesTransformer valuesTransformer) {
+    final OCompositeKey firstKey = sbTree.firstKey();
+    if (firstKey == null)
+      return new OBitmapIndexCursor(null);
+
+    return new OBitmapIndexCursor(sbTree.iterateEntriesMajor(firstKey, true, true));
+  }
+
+  @Override
+  public OIndexCursor descCursor(ValuesTransformer valuesTransformer) {
+    final OCompositeKey lastKey = sbTree.lastKey();
+    if (lastKey == null)
+      return new OBitmapIndexCursor(null);
+
+    return new OBitmapIndexCursor(sbTree.iterateEntriesMinor(lastKey, true, false));
+  }
+
+  @Override
+  public OIndexKeyCursor keyCursor() {
+    return new OIndexKeyCursor() {
+      private final OSBTree.OSBTreeKeyCursor<OCompositeKey> sbTreeKeyCursor = sbTree.keyCursor();
+      private Object lastKey;
+
+      @Override
+      public Object next(int prefetchSize) {
+        OCompositeKey chunkKey = sbTreeKeyCursor.next(prefetchSize);
+        while (chunkKey != null) {
+          final Object key = indexKey(chunkKey);
+          if (key != null && !key.equals(lastKey)) {
+            lastKey = key;
+            return key;
+          }
+
+          chunkKey = sbTreeKeyCursor.next(prefetchSize);
+        }
+
+        return null;
+      }
+    };
+  }
+
+  /**
+   * @return the number of not null keys if the transformer is null, the number of RIDs otherwise
+   */
+  @Override
+  public long size(ValuesTransformer transformer) {
+    final OCompositeKey firstKey = sbTree.firstKey();
+    if (firstKey == null)
+      return 0;
+
+    final OSBTree.OSBTreeCursor<OCompositeKey, OBitmapContainer> cursor = sbTree.iterateEntriesMajor(firstKey, true, true);
+
+    long size = 0;
+    Object lastKey = null;
+    Map.Entry<OCompositeKey, OBitmapContainer> entry = cursor.next(-1);
+    while (entry != null) {
+      if (transformer != null)
+        size += entry.getValue().getCardinality();
+      else {
+        final Object key = indexKey(entry.getKey());
+        if (key != null && !key.equals(lastKey)) {
+          lastKey = key;
+          size++;
+        }
+      }
+
+      entry = cursor.next(-1);
+    }
+
+    return size;
+  }
+
+  @Override
+  public boolean hasRangeQuerySupport() {
+    return true;
+  }
+
+  @Override
+  public boolean acquireAtomicExclusiveLock(Object key) {
+    sbTree.acquireAtomicExclusiveLock();
+    return true;
+  }
+
+  @Override
+  public String getIndexNameByKey(Object key) {
+    return name;
+  }
+
+  private static OType[] chunkKeyTypes(OType[] keyTypes) {
+    if (keyTypes == null)
+      return null;
+
+    final OType[] chunkKeyTypes = Arrays.copyOf(keyTypes, keyTypes.length + 1);
+    chunkKeyTypes[keyTypes.length] = OType.LONG;
+    return chunkKeyTypes;
+  }
+
+  /**
+   * @return the SBTree key that selects all the chunks of the given key
+   */
+  private static OCompositeKey toChunkKey(Object key) {
+    final OCompositeKey chunkKey = new OCompositeKey();
+    chunkKey.addKey(key);
+    return chunkKey;
+  }
+
+  private static OCompositeKey toChunkKey(Object key, long bitmapChunkKey) {
+    final OCompositeKey chunkKey = toChunkKey(key);
+    chunkKey.addKey(bitmapChunkKey);
+    return chunkKey;
+  }
+
+  private static long chunkKey(OCompositeKey chunkKey) {
+    final List<Object> keys = chunkKey.getKeys();
+    return (Long) keys.get(keys.size() - 1);
+  }
+
+  private Object indexKey(OCompositeKey chunkKey) {
+    final List<Object> keys = chunkKey.getKeys();
+    if (keySize == 1)
+      return keys.get(0);
+
+    return new OCompositeKey(keys.subList(0, keys.size() - 1));
+  }
+
+  /**
+   * Iterates the RIDs of the chunks returned by an SBTree cursor, with the key of the index they belong to.
+   */
+  private final class OBitmapIndexCursor extends OIndexAbstractCursor {
+    private final OSBTree.OSBTreeCursor<OCompositeKey, OBitmapContainer> treeCursor;
+
+    private Object                  currentKey;
+    private long                    currentChunkKey;
+    private PrimitiveIterator.OfInt currentValues;
+
+    private OBitmapIndexCursor(OSBTree.OSBTreeCursor<OCompositeKey, OBitmapContainer> treeCursor) {
+      this.treeCursor = treeCursor;
+    }
+
+    @Override
+    public Map.Entry<Object, OIdentifiable> nextEntry() {
+      if (treeCursor == null)
+        return null;
+
+      while (currentValues == null || !currentValues.hasNext()) {
+        final Map.Entry<OCompositeKey, OBitmapContainer> entry = treeCursor.next(getPrefetchSize());
+        if (entry == null)
+          return null;
+
+        currentKey = indexKey(entry.getKey());
+        if (currentKey == null)
+          continue;
+
+        currentChunkKey = chunkKey(entry.getKey());
+        currentValues = entry.getValue().iterator();
+      }
+
+      final Object key = currentKey;
+      final OIdentifiable value = new ORecordId(ORidBitmap.clusterId(currentChunkKey),
+          ORidBitmap.clusterPosition(currentChunkKey, currentValues.nextInt()));
+
+      return new Map.Entry<Object, OIdentifiable>() {
+        @Override
+        public Object getKey() {
+          return key;
+        }
+
+        @Override
+        public OIdentifiable getValue() {
+          return value;
+        }
+
+        @Override
+        public OIdentifiable setValue(OIdentifiable value) {
+          throw new UnsupportedOperationException("setValue");
+        }
+      };
+    }
+  }
+}
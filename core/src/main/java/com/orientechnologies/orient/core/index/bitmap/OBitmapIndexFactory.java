@@ -0,0 +1,83 @@
+package com.orientechnologies.orient.core.index.bitmap;
+
+import com.orientechnologies.orient.core.exception.OConfigurationException;
+import com.orientechnologies.orient.core.index.OIndexEngine;
+import com.orientechnologies.orient.core.index.OIndexException;
+import com.orientechnologies.orient.core.index.OIndexFactory;
+import com.orientechnologies.orient.core.index.OIndexInternal;
+import com.orientechnologies.orient.core.index.engine.ORemoteIndexEngine;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Factory of bitmap indexes, that keep the values of every key as a compressed bitmap of RIDs.<br>
+ * Supports index types:
+ * <ul>
+ * <li>BITMAP</li>
+ * </ul>
+ */
+public class OBitmapIndexFactory implements OIndexFactory {
+
+  public static final String BITMAP_ALGORITHM     = "BITMAP";
+  public static final String NONE_VALUE_CONTAINER = "NONE";
+
+  private static final Set<String> TYPES      = Collections.singleton(OClass.INDEX_TYPE.BITMAP.toString());
+  private static final Set<String> ALGORITHMS = Collections.singleton(BITMAP_ALGORITHM);
+
+  /**
+   * Index types:
+   * <ul>
+   * <li>BITMAP</li>
+   * </ul>
+   */
+  public Set<String> getTypes() {
+    return TYPES;
+  }
+
+  public Set<String> getAlgorithms() {
+    return ALGORITHMS;
+  }
+
+  public OIndexInternal<?> createIndex(String name, OStorage storage, String indexType, String algorithm,
+      String valueContainerAlgorithm, ODocument metadata, int version) throws OConfigurationException {
+    if (version < 0)
+      version = getLastVersion();
+
+    if (BITMAP_ALGORITHM.equals(algorithm) && OClass.INDEX_TYPE.BITMAP.toString().equals(indexType))
+      return new OIndexBitmap(name, indexType, BITMAP_ALGORITHM, version, (OAbstractPaginatedStorage) storage.getUnderlying(),
+          NONE_VALUE_CONTAINER, metadata);
+
+    throw new OConfigurationException("Unsupported type: " + indexType);
+  }
+
+  @Override
+  public int getLastVersion() {
+    return OBitmapIndexEngine.VERSION;
+  }
+
+  @Override
+  public OIndexEngine createIndexEngine(String algorithm, String name, Boolean durableInNonTxMode, OStorage storage, int version,
+      Map<String, String> engineProperties) {
+
+    final OIndexEngine indexEngine;
+
+    final String storageType = storage.getType();
+    if (storageType.equals("memory") || storageType.equals("plocal"))
+      indexEngine = new OBitmapIndexEngine(name, durableInNonTxMode, (OAbstractPaginatedStorage) storage, version);
+    else if (storageType.equals("distributed"))
+      // DISTRIBUTED CASE: HANDLE IT AS FOR LOCAL
+      indexEngine = new OBitmapIndexEngine(name, durableInNonTxMode, (OAbstractPaginatedStorage) storage.getUnderlying(), version);
+    else if (storageType.equals("remote"))
+      indexEngine = new ORemoteIndexEngine(name);
+    else
+      throw new OIndexException("Unsupported storage type: " + storageType);
+
+    return indexEngine;
+  }
+}
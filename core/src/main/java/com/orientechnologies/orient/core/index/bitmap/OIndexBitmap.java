@@ -0,0 +1,136 @@
+package com.orientechnologies.orient.core.index.bitmap;
+
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.exception.OInvalidIndexEngineIdException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.OIndexMultiValues;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.serialization.serializer.stream.OStreamSerializerBitmapContainer;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.tx.OTransactionIndexChangesPerKey;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Index that allows multiple values for the same key and keeps the values of every key as a compressed bitmap of RIDs (see
+ * {@link ORidBitmap}), suited to properties with few distinct values. The values of a key are returned as {@link ORidBitmap}, so
+ * the results of several bitmap indexes can be combined without loading the records.
+ */
+public class OIndexBitmap extends OIndexMultiValues {
+
+  public OIndexBitmap(String name, String typeId, String algorithm, int version, OAbstractPaginatedStorage storage,
+      String valueContainerAlgorithm, ODocument metadata) {
+    super(name, typeId, algorithm, version, storage, valueContainerAlgorithm, metadata);
+  }
+
+  /**
+   * @return the values of the key as {@link ORidBitmap}, that is a copy of the values stored by the index
+   */
+  @Override
+  public Set<OIdentifiable> get(Object key) {
+    key = getCollatingValue(key);
+
+    acquireSharedLock();
+    try {
+      while (true) {
+        try {
+          final ORidBitmap values = (ORidBitmap) storage.getIndexValue(indexId, key);
+          if (values == null)
+            return Collections.emptySet();
+
+          return values;
+        } catch (OInvalidIndexEngineIdException e) {
+          doReloadIndexEngine();
+        }
+      }
+    } finally {
+      releaseSharedLock();
+    }
+  }
+
+  @Override
+  public long count(Object key) {
+    final Object collatingKey = getCollatingValue(key);
+
+    acquireSharedLock();
+    try {
+      while (true) {
+        try {
+          return storage.callIndexEngine(false, true, indexId, engine -> ((OBitmapIndexEngine) engine).count(collatingKey));
+        } catch (OInvalidIndexEngineIdException e) {
+          doReloadIndexEngine();
+        }
+      }
+    } finally {
+      releaseSharedLock();
+    }
+  }
+
+  @Override
+  public OIndexBitmap put(Object key, final OIdentifiable singleValue) {
+    final Object collatingKey = getCollatingValue(key);
+
+    acquireSharedLock();
+    try {
+      if (!singleValue.getIdentity().isValid())
+        (singleValue.getRecord()).save();
+
+      final ORID identity = singleValue.getIdentity();
+      while (true) {
+        try {
+          storage.callIndexEngine(true, false, indexId, engine -> ((OBitmapIndexEngine) engine).add(collatingKey, identity));
+          return this;
+        } catch (OInvalidIndexEngineIdException e) {
+          doReloadIndexEngine();
+        }
+      }
+    } finally {
+      releaseSharedLock();
+    }
+  }
+
+  @Override
+  public boolean remove(Object key, final OIdentifiable value) {
+    final Object collatingKey = getCollatingValue(key);
+
+    acquireSharedLock();
+    try {
+      while (true) {
+        try {
+          return storage.callIndexEngine(true, false, indexId, engine -> {
+            if (value == null)
+              return engine.remove(collatingKey);
+
+            return ((OBitmapIndexEngine) engine).remove(collatingKey, value.getIdentity());
+          });
+        } catch (OInvalidIndexEngineIdException e) {
+          doReloadIndexEngine();
+        }
+      }
+    } finally {
+      releaseSharedLock();
+    }
+  }
+
+  public boolean canBeUsedInEqualityOperators() {
+    return true;
+  }
+
+  @Override
+  public boolean supportsOrderedIterations() {
+    return true;
+  }
+
+  @Override
+  protected OBinarySerializer determineValueSerializer() {
+    return storage.getComponentsFactory().binarySerializerFactory.getObjectSerializer(OStreamSerializerBitmapContainer.ID);
+  }
+
+  @Override
+  protected Iterable<OTransactionIndexChangesPerKey.OTransactionIndexEntry> interpretTxKeyChanges(
+      OTransactionIndexChangesPerKey changes) {
+    return changes.interpret(OTransactionIndexChangesPerKey.Interpretation.NonUnique);
+  }
+}
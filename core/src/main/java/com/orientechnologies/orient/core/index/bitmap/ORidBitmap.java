@@ -0,0 +1,309 @@
+package com.orientechnologies.orient.core.index.bitmap;
+
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Compressed set of RIDs, used as value of bitmap indexes and to combine their results. Like
+ * {@link com.orientechnologies.orient.core.sql.executor.ORidSet} it does not store the RIDs but only keeps track that they were
+ * stored: the cluster positions of every cluster are split in chunks of 65536 positions, the positions of every chunk are kept by
+ * an {@link OBitmapContainer}, as sorted array when the chunk is sparse and as bitmap when it is dense. Chunks are sorted by
+ * cluster id and cluster position, so sets are combined (see {@link #and(ORidBitmap)}, {@link #or(ORidBitmap)} and
+ * {@link #andNot(ORidBitmap)}) merging the containers of the same chunk, and RIDs are iterated in ascending order.
+ */
+public class ORidBitmap extends AbstractSet<OIdentifiable> {
+  private long[]             chunkKeys  = new long[4];
+  private OBitmapContainer[] containers = new OBitmapContainer[4];
+  private int                chunks;
+  private long               size;
+
+  /**
+   * @return the key of the chunk that contains the given RID, that is the cluster id followed by the highest 32 bits of the 48 bits
+   * of the cluster position
+   */
+  public static long chunkKey(int clusterId, long clusterPosition) {
+    return ((long) (clusterId & 0xFFFF) << 32) | ((clusterPosition >>> 16) & 0xFFFFFFFFL);
+  }
+
+  public static int chunkValue(long clusterPosition) {
+    return (int) (clusterPosition & OBitmapContainer.MAX_VALUE);
+  }
+
+  public static int clusterId(long chunkKey) {
+    return (short) (chunkKey >>> 32);
+  }
+
+  public static long clusterPosition(long chunkKey, int chunkValue) {
+    //sign extension from 48 bits keeps the (negative) positions of the records of the current transaction
+    return (((chunkKey & 0xFFFFFFFFL) << 16 | chunkValue) << 16) >> 16;
+  }
+
+  @Override
+  public int size() {
+    return size <= Integer.MAX_VALUE ? (int) size : Integer.MAX_VALUE;
+  }
+
+  /**
+   * @return the number of RIDs of the set, without the limit of {@link #size()}
+   */
+  public long cardinality() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    if (!(o instanceof OIdentifiable))
+      return false;
+
+    final ORID rid = ((OIdentifiable) o).getIdentity();
+    final int index = indexOf(chunkKey(rid.getClusterId(), rid.getClusterPosition()));
+    return index >= 0 && containers[index].contains(chunkValue(rid.getClusterPosition()));
+  }
+
+  @Override
+  public boolean add(OIdentifiable identifiable) {
+    final ORID rid = identifiable.getIdentity();
+    final long chunkKey = chunkKey(rid.getClusterId(), rid.getClusterPosition());
+    int index = indexOf(chunkKey);
+    if (index < 0) {
+      index = -index - 1;
+      insertChunk(index, chunkKey, new OBitmapContainer());
+    }
+
+    if (containers[index].add(chunkValue(rid.getClusterPosition()))) {
+      size++;
+      return true;
+    }
+
+    return false;
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    if (!(o instanceof OIdentifiable))
+      return false;
+
+    final ORID rid = ((OIdentifiable) o).getIdentity();
+    final int index = indexOf(chunkKey(rid.getClusterId(), rid.getClusterPosition()));
+    if (index < 0 || !containers[index].remove(chunkValue(rid.getClusterPosition())))
+      return false;
+
+    size--;
+    if (containers[index].isEmpty())
+      removeChunk(index);
+
+    return true;
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(containers, 0, chunks, null);
+    chunks = 0;
+    size = 0;
+  }
+
+  public int getChunks() {
+    return chunks;
+  }
+
+  public long getChunkKey(int index) {
+    return chunkKeys[index];
+  }
+
+  public OBitmapContainer getContainer(int index) {
+    return containers[index];
+  }
+
+  /**
+   * Adds a chunk of RIDs, merging it with the chunk with the same key if present. Chunks added in ascending order of keys, as they
+   * are read from an index, are appended without searching.
+   */
+  public void addChunk(long chunkKey, OBitmapContainer container) {
+    if (container.isEmpty())
+      return;
+
+    if (chunks == 0 || chunkKeys[chunks - 1] < chunkKey) {
+      insertChunk(chunks, chunkKey, container);
+      size += container.getCardinality();
+      return;
+    }
+
+    final int index = indexOf(chunkKey);
+    if (index >= 0) {
+      size -= containers[index].getCardinality();
+      containers[index] = containers[index].or(container);
+      size += containers[index].getCardinality();
+    } else {
+      insertChunk(-index - 1, chunkKey, container);
+      size += container.getCardinality();
+    }
+  }
+
+  /**
+   * @return a new set with the RIDs contained by both this set and the given one
+   */
+  public ORidBitmap and(ORidBitmap other) {
+    final ORidBitmap result = new ORidBitmap();
+    int i = 0, j = 0;
+    while (i < chunks && j < other.chunks) {
+      if (chunkKeys[i] < other.chunkKeys[j])
+        i++;
+      else if (chunkKeys[i] > other.chunkKeys[j])
+        j++;
+      else {
+        result.addChunk(chunkKeys[i], containers[i].and(other.containers[j]));
+        i++;
+        j++;
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * @return a new set with the RIDs contained by this set or by the given one
+   */
+  public ORidBitmap or(ORidBitmap other) {
+    final ORidBitmap result = new ORidBitmap();
+    int i = 0, j = 0;
+    while (i < chunks || j < other.chunks) {
+      if (j == other.chunks || (i < chunks && chunkKeys[i] < other.chunkKeys[j])) {
+        result.addChunk(chunkKeys[i], containers[i].copy());
+        i++;
+      } else if (i == chunks || chunkKeys[i] > other.chunkKeys[j]) {
+        result.addChunk(other.chunkKeys[j], other.containers[j].copy());
+        j++;
+      } else {
+        result.addChunk(chunkKeys[i], containers[i].or(other.containers[j]));
+        i++;
+        j++;
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * @return a new set with the RIDs contained by this set and not by the given one
+   */
+  public ORidBitmap andNot(ORidBitmap other) {
+    final ORidBitmap result = new ORidBitmap();
+    int i = 0, j = 0;
+    while (i < chunks) {
+      if (j == other.chunks || chunkKeys[i] < other.chunkKeys[j]) {
+        result.addChunk(chunkKeys[i], containers[i].copy());
+        i++;
+      } else if (chunkKeys[i] > other.chunkKeys[j])
+        j++;
+      else {
+        result.addChunk(chunkKeys[i], containers[i].andNot(other.containers[j]));
+        i++;
+        j++;
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * @return the RIDs of the set, ordered by cluster id and cluster position
+   */
+  @Override
+  public Iterator<OIdentifiable> iterator() {
+    return new Iterator<OIdentifiable>() {
+      private int                     chunk     = -1;
+      private PrimitiveIterator.OfInt values;
+      private int                     nextValue = -1;
+      private int                     lastValue = -1;
+
+      @Override
+      public boolean hasNext() {
+        while (nextValue < 0) {
+          if (values != null && values.hasNext())
+            nextValue = values.nextInt();
+          else if (chunk < chunks - 1)
+            values = containers[++chunk].iterator();
+          else
+            return false;
+        }
+
+        return true;
+      }
+
+      @Override
+      public OIdentifiable next() {
+        if (!hasNext())
+          throw new NoSuchElementException();
+
+        lastValue = nextValue;
+        nextValue = -1;
+        final long chunkKey = chunkKeys[chunk];
+        return new ORecordId(clusterId(chunkKey), clusterPosition(chunkKey, lastValue));
+      }
+
+      @Override
+      public void remove() {
+        if (lastValue < 0)
+          throw new IllegalStateException();
+
+        final OBitmapContainer container = containers[chunk];
+        container.remove(lastValue);
+        size--;
+
+        if (container.isEmpty()) {
+          removeChunk(chunk);
+          chunk--;
+          values = null;
+        } else {
+          //the container may have changed format, iteration restarts after the removed value
+          values = container.iterator();
+          while (values.hasNext()) {
+            final int value = values.nextInt();
+            if (value > lastValue) {
+              nextValue = value;
+              break;
+            }
+          }
+        }
+
+        lastValue = -1;
+      }
+    };
+  }
+
+  private int indexOf(long chunkKey) {
+    return Arrays.binarySearch(chunkKeys, 0, chunks, chunkKey);
+  }
+
+  private void insertChunk(int index, long chunkKey, OBitmapContainer container) {
+    if (chunks == chunkKeys.length) {
+      chunkKeys = Arrays.copyOf(chunkKeys, chunks * 2);
+      containers = Arrays.copyOf(containers, chunks * 2);
+    }
+
+    System.arraycopy(chunkKeys, index, chunkKeys, index + 1, chunks - index);
+    System.arraycopy(containers, index, containers, index + 1, chunks - index);
+    chunkKeys[index] = chunkKey;
+    containers[index] = container;
+    chunks++;
+  }
+
+  private void removeChunk(int index) {
+    System.arraycopy(chunkKeys, index + 1, chunkKeys, index, chunks - index - 1);
+    System.arraycopy(containers, index + 1, containers, index, chunks - index - 1);
+    chunks--;
+    containers[chunks] = null;
+  }
+}
@@ -164,6 +164,16 @@ public class OSBTreeIndexEngine implements OIndexEngine {
     sbTree.put(key, value);
   }
 
+  @Override
+  public boolean hasBulkLoadSupport() {
+    return true;
+  }
+
+  @Override
+  public long bulkLoad(Iterator<Map.Entry<Object, Object>> entries) {
+    return sbTree.bulkLoad(entries);
+  }
+
   @SuppressWarnings("unchecked")
   @Override
   public boolean validatedPut(Object key, OIdentifiable value, Validator<Object, OIdentifiable> validator) {
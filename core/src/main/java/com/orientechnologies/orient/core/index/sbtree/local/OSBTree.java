@@ -33,6 +33,7 @@ import com.orientechnologies.orient.core.index.OIndexEngine;
 import com.orientechnologies.orient.core.iterator.OEmptyIterator;
 import com.orientechnologies.orient.core.iterator.OEmptyMapEntryIterator;
 import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OOrderPreservingKeySerializer;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
@@ -81,10 +82,24 @@ public class OSBTree<K, V> extends ODurableComponent {
 
   private static final int MAX_PATH_LENGTH = OGlobalConfiguration.SBTREE_MAX_DEPTH.getValueAsInteger();
 
+  private static final int BULK_LOAD_PAGES_PER_OPERATION = 1024;
+
   private final static long                  ROOT_INDEX = 0;
   private final        Comparator<? super K> comparator = ODefaultComparator.INSTANCE;
   private final String  nullFileExtension;
   private final boolean durableInNonTxMode;
+
+  /**
+   * Whether pages created by this tree store keys in compressed format and split of leaf pages puts shortest separator of pages
+   * in parent page.
+   */
+  private final boolean keyCompression = OGlobalConfiguration.SBTREE_KEY_COMPRESSION.getValueAsBoolean();
+
+  /**
+   * Whether look ups of this tree are done without waiting for the atomic operations which modify it, writers still lock the
+   * whole tree.
+   */
+  private final boolean optimisticReads = OGlobalConfiguration.SBTREE_OPTIMISTIC_READS.getValueAsBoolean();
   private       long    fileId;
   private long nullBucketFileId = -1;
   private int                  keySize;
@@ -139,7 +154,8 @@ public class OSBTree<K, V> extends ODurableComponent {
         OCacheEntry rootCacheEntry = addPage(atomicOperation, fileId);
         try {
 
-          OSBTreeBucket<K, V> rootBucket = new OSBTreeBucket<K, V>(rootCacheEntry, true, keySerializer, keyTypes, valueSerializer);
+          OSBTreeBucket<K, V> rootBucket = new OSBTreeBucket<K, V>(rootCacheEntry, true, keyCompression, keySerializer,
+              keyTypes, valueSerializer);
           rootBucket.setTreeSize(0);
 
         } finally {
@@ -184,47 +200,38 @@ public class OSBTree<K, V> extends ODurableComponent {
     if (statistic != null)
       statistic.startIndexEntryReadTimer();
     try {
+      if (optimisticReads) {
+        final long stamp = atomicOperationsManager.startOptimisticRead(this);
+        if (stamp >= 0) {
+          acquireSharedLock();
+          try {
+            checkNullSupport(key);
+
+            final V value = doGet(key, atomicOperationsManager.getCurrentOperation());
+            if (atomicOperationsManager.validateOptimisticRead(this, stamp))
+              return value;
+          } catch (IOException | RuntimeException e) {
+            //changes committed in the meantime may break the read, it is repeated under lock
+            if (atomicOperationsManager.validateOptimisticRead(this, stamp)) {
+              if (e instanceof RuntimeException)
+                throw (RuntimeException) e;
+
+              throw OException
+                  .wrapException(new OSBTreeException("Error during retrieving  of sbtree with name " + getName(), this), e);
+            }
+          } finally {
+            releaseSharedLock();
+          }
+        }
+      }
+
       atomicOperationsManager.acquireReadLock(this);
       try {
         acquireSharedLock();
         try {
           checkNullSupport(key);
 
-          OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
-          if (key != null) {
-            key = keySerializer.preprocess(key, (Object[]) keyTypes);
-
-            BucketSearchResult bucketSearchResult = findBucket(key, atomicOperation);
-            if (bucketSearchResult.itemIndex < 0)
-              return null;
-
-            long pageIndex = bucketSearchResult.getLastPathItem();
-            OCacheEntry keyBucketCacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
-            try {
-              OSBTreeBucket<K, V> keyBucket = new OSBTreeBucket<K, V>(keyBucketCacheEntry, keySerializer, keyTypes,
-                  valueSerializer);
-
-              OSBTreeBucket.SBTreeEntry<K, V> treeEntry = keyBucket.getEntry(bucketSearchResult.itemIndex);
-              return readValue(treeEntry.value, atomicOperation);
-            } finally {
-              releasePageFromRead(atomicOperation, keyBucketCacheEntry);
-            }
-          } else {
-            if (getFilledUpTo(atomicOperation, nullBucketFileId) == 0)
-              return null;
-
-            final OCacheEntry nullBucketCacheEntry = loadPageForRead(atomicOperation, nullBucketFileId, 0, false);
-            try {
-              final ONullBucket<V> nullBucket = new ONullBucket<V>(nullBucketCacheEntry, valueSerializer, false);
-              final OSBTreeValue<V> treeValue = nullBucket.getValue();
-              if (treeValue == null)
-                return null;
-
-              return readValue(treeValue, atomicOperation);
-            } finally {
-              releasePageFromRead(atomicOperation, nullBucketCacheEntry);
-            }
-          }
+          return doGet(key, atomicOperationsManager.getCurrentOperation());
         } finally {
           releaseSharedLock();
         }
@@ -240,6 +247,42 @@ public class OSBTree<K, V> extends ODurableComponent {
     }
   }
 
+  private V doGet(K key, OAtomicOperation atomicOperation) throws IOException {
+    if (key != null) {
+      key = keySerializer.preprocess(key, (Object[]) keyTypes);
+
+      BucketSearchResult bucketSearchResult = findBucket(key, atomicOperation);
+      if (bucketSearchResult.itemIndex < 0)
+        return null;
+
+      long pageIndex = bucketSearchResult.getLastPathItem();
+      OCacheEntry keyBucketCacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+      try {
+        OSBTreeBucket<K, V> keyBucket = new OSBTreeBucket<K, V>(keyBucketCacheEntry, keySerializer, keyTypes, valueSerializer);
+
+        OSBTreeBucket.SBTreeEntry<K, V> treeEntry = keyBucket.getEntry(bucketSearchResult.itemIndex);
+        return readValue(treeEntry.value, atomicOperation);
+      } finally {
+        releasePageFromRead(atomicOperation, keyBucketCacheEntry);
+      }
+    } else {
+      if (getFilledUpTo(atomicOperation, nullBucketFileId) == 0)
+        return null;
+
+      final OCacheEntry nullBucketCacheEntry = loadPageForRead(atomicOperation, nullBucketFileId, 0, false);
+      try {
+        final ONullBucket<V> nullBucket = new ONullBucket<V>(nullBucketCacheEntry, valueSerializer, false);
+        final OSBTreeValue<V> treeValue = nullBucket.getValue();
+        if (treeValue == null)
+          return null;
+
+        return readValue(treeValue, atomicOperation);
+      } finally {
+        releasePageFromRead(atomicOperation, nullBucketCacheEntry);
+      }
+    }
+  }
+
   public void put(K key, V value) {
     put(key, value, null);
   }
@@ -430,6 +473,41 @@ public class OSBTree<K, V> extends ODurableComponent {
     }
   }
 
+  /**
+   * Fills an empty tree with entries sorted by key. Leaves are filled one after another and the pages of each upper level are
+   * built from the first keys of the pages below, so all the pages are densely packed and no page is split. Pages are written in
+   * atomic operations of {@link #BULK_LOAD_PAGES_PER_OPERATION} pages and root page is written last, till the end of the load the
+   * tree may contain only a part of the entries.
+   *
+   * @param entries entries in ascending order of keys, keys have to be unique. Entry with <code>null</code> key is put as usual.
+   *
+   * @return number of loaded entries
+   */
+  public long bulkLoad(Iterator<Map.Entry<K, V>> entries) {
+    startOperation();
+    try {
+      acquireExclusiveLock();
+      try {
+        if (size() > 0)
+          throw new OSBTreeException("Bulk load can be performed only on empty tree", this);
+
+        final BulkLoader loader = new BulkLoader();
+        final long count = loader.load(entries);
+
+        if (loader.nullValue != null)
+          put(null, loader.nullValue);
+
+        return count;
+      } catch (IOException e) {
+        throw OException.wrapException(new OSBTreeException("Error during bulk load of sbtree with name " + getName(), this), e);
+      } finally {
+        releaseExclusiveLock();
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
   public void close(boolean flush) {
     startOperation();
     try {
@@ -477,7 +555,8 @@ public class OSBTree<K, V> extends ODurableComponent {
         }
 
         try {
-          OSBTreeBucket<K, V> rootBucket = new OSBTreeBucket<K, V>(cacheEntry, true, keySerializer, keyTypes, valueSerializer);
+          OSBTreeBucket<K, V> rootBucket = new OSBTreeBucket<K, V>(cacheEntry, true, keyCompression, keySerializer, keyTypes,
+              valueSerializer);
 
           rootBucket.setTreeSize(0);
 
@@ -518,6 +597,8 @@ public class OSBTree<K, V> extends ODurableComponent {
         if (nullPointerSupport)
           deleteFile(atomicOperation, nullBucketFileId);
 
+        atomicOperationsManager.dropCommitStamp(this);
+
         endAtomicOperation(false, null);
       } catch (IOException e) {
         rollback(e);
@@ -555,6 +636,8 @@ public class OSBTree<K, V> extends ODurableComponent {
           deleteFile(atomicOperation, nullFileId);
         }
 
+        atomicOperationsManager.dropCommitStamp(this);
+
         endAtomicOperation(false, null);
       } catch (IOException ioe) {
         rollback(ioe);
@@ -631,6 +714,70 @@ public class OSBTree<K, V> extends ODurableComponent {
     }
   }
 
+  /**
+   * @return amount of levels of the tree including the root and the leaves
+   */
+  int getHeight() {
+    startOperation();
+    try {
+      atomicOperationsManager.acquireReadLock(this);
+      try {
+        acquireSharedLock();
+        try {
+          OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+
+          int height = 0;
+          long pageIndex = ROOT_INDEX;
+          while (pageIndex >= 0) {
+            height++;
+
+            final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
+            try {
+              final OSBTreeBucket<K, V> bucket = new OSBTreeBucket<K, V>(cacheEntry, keySerializer, keyTypes, valueSerializer);
+              pageIndex = bucket.isLeaf() || bucket.isEmpty() ? -1 : bucket.getEntry(0).leftChild;
+            } finally {
+              releasePageFromRead(atomicOperation, cacheEntry);
+            }
+          }
+
+          return height;
+        } finally {
+          releaseSharedLock();
+        }
+      } catch (IOException e) {
+        throw OException.wrapException(new OSBTreeException("Error during calculation of height of index " + getName(), this), e);
+      } finally {
+        atomicOperationsManager.releaseReadLock(this);
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
+  /**
+   * @return amount of pages in the file of the tree
+   */
+  long getPagesCount() {
+    startOperation();
+    try {
+      atomicOperationsManager.acquireReadLock(this);
+      try {
+        acquireSharedLock();
+        try {
+          return getFilledUpTo(atomicOperationsManager.getCurrentOperation(), fileId);
+        } finally {
+          releaseSharedLock();
+        }
+      } catch (IOException e) {
+        throw OException.wrapException(new OSBTreeException("Error during calculation of size of index " + getName(), this), e);
+      } finally {
+        atomicOperationsManager.releaseReadLock(this);
+      }
+    } finally {
+      completeOperation();
+    }
+  }
+
   public V remove(K key) {
     final OSessionStoragePerformanceStatistic statistic = performanceStatisticManager.getSessionPerformanceStatistic();
     startOperation();
@@ -1482,7 +1629,11 @@ public class OSBTree<K, V> extends ODurableComponent {
       final int bucketSize = bucketToSplit.size();
 
       int indexToSplit = bucketSize >>> 1;
-      final K separationKey = bucketToSplit.getKey(indexToSplit);
+      final K separationKey;
+      if (splitLeaf && keyCompression)
+        separationKey = shortestSeparator(bucketToSplit.getKey(indexToSplit - 1), bucketToSplit.getKey(indexToSplit));
+      else
+        separationKey = bucketToSplit.getKey(indexToSplit);
       final List<OSBTreeBucket.SBTreeEntry<K, V>> rightEntries = new ArrayList<OSBTreeBucket.SBTreeEntry<K, V>>(indexToSplit);
 
       final int startRightIndex = splitLeaf ? indexToSplit : indexToSplit + 1;
@@ -1508,9 +1659,9 @@ public class OSBTree<K, V> extends ODurableComponent {
     OCacheEntry rightBucketEntry = addPage(atomicOperation, fileId);
 
     try {
-      OSBTreeBucket<K, V> newRightBucket = new OSBTreeBucket<K, V>(rightBucketEntry, splitLeaf, keySerializer, keyTypes,
-          valueSerializer);
-      newRightBucket.addAll(rightEntries);
+      OSBTreeBucket<K, V> newRightBucket = new OSBTreeBucket<K, V>(rightBucketEntry, splitLeaf, keyCompression, keySerializer,
+          keyTypes, valueSerializer);
+      newRightBucket.addAll(rightEntries, bucketToSplit);
 
       bucketToSplit.shrink(indexToSplit);
 
@@ -1598,9 +1749,9 @@ public class OSBTree<K, V> extends ODurableComponent {
 
     OCacheEntry rightBucketEntry = addPage(atomicOperation, fileId);
     try {
-      OSBTreeBucket<K, V> newLeftBucket = new OSBTreeBucket<K, V>(leftBucketEntry, splitLeaf, keySerializer, keyTypes,
-          valueSerializer);
-      newLeftBucket.addAll(leftEntries);
+      OSBTreeBucket<K, V> newLeftBucket = new OSBTreeBucket<K, V>(leftBucketEntry, splitLeaf, keyCompression, keySerializer,
+          keyTypes, valueSerializer);
+      newLeftBucket.addAll(leftEntries, bucketToSplit);
 
       if (splitLeaf)
         newLeftBucket.setRightSibling(rightBucketEntry.getPageIndex());
@@ -1610,9 +1761,9 @@ public class OSBTree<K, V> extends ODurableComponent {
     }
 
     try {
-      OSBTreeBucket<K, V> newRightBucket = new OSBTreeBucket<K, V>(rightBucketEntry, splitLeaf, keySerializer, keyTypes,
-          valueSerializer);
-      newRightBucket.addAll(rightEntries);
+      OSBTreeBucket<K, V> newRightBucket = new OSBTreeBucket<K, V>(rightBucketEntry, splitLeaf, keyCompression, keySerializer,
+          keyTypes, valueSerializer);
+      newRightBucket.addAll(rightEntries, bucketToSplit);
 
       if (splitLeaf)
         newRightBucket.setLeftSibling(leftBucketEntry.getPageIndex());
@@ -1620,7 +1771,7 @@ public class OSBTree<K, V> extends ODurableComponent {
       releasePageFromWrite(atomicOperation, rightBucketEntry);
     }
 
-    bucketToSplit = new OSBTreeBucket<K, V>(bucketEntry, false, keySerializer, keyTypes, valueSerializer);
+    bucketToSplit = new OSBTreeBucket<K, V>(bucketEntry, false, keyCompression, keySerializer, keyTypes, valueSerializer);
 
     bucketToSplit.setTreeSize(treeSize);
     bucketToSplit.setValuesFreeListFirstIndex(freeListPage);
@@ -1644,10 +1795,87 @@ public class OSBTree<K, V> extends ODurableComponent {
     return new BucketSearchResult(keyIndex - indexToSplit - 1, resultPath);
   }
 
+  /**
+   * Returns the shortest key which is bigger than the last key of the left leaf page and is not bigger than the first key of the
+   * right one. It is put in parent page instead of the first key of the right page. Only string keys and string parts of composite
+   * keys are shortened, other keys are returned as is.
+   */
+  @SuppressWarnings("unchecked")
+  private K shortestSeparator(K left, K right) {
+    final K separator;
+    if (right instanceof String && left instanceof String)
+      separator = (K) shortestSeparator((String) left, (String) right);
+    else if (right instanceof OCompositeKey && left instanceof OCompositeKey)
+      separator = (K) shortestSeparator((OCompositeKey) left, (OCompositeKey) right);
+    else
+      return right;
+
+    if (comparator.compare(left, separator) < 0 && comparator.compare(separator, right) <= 0)
+      return separator;
+
+    return right;
+  }
+
+  private static String shortestSeparator(String left, String right) {
+    final int length = Math.min(left.length(), right.length());
+
+    int prefix = 0;
+    while (prefix < length && left.charAt(prefix) == right.charAt(prefix))
+      prefix++;
+
+    if (prefix >= right.length() - 1 || Character.isHighSurrogate(right.charAt(prefix)))
+      return right;
+
+    return right.substring(0, prefix + 1);
+  }
+
+  /**
+   * Composite keys which differ only by amount of parts are treated as equal, so separator contains all parts of the key. String
+   * part which differs from the left key is shortened and string parts which follow it are replaced by empty strings.
+   */
+  private static OCompositeKey shortestSeparator(OCompositeKey left, OCompositeKey right) {
+    final List<Object> leftKeys = left.getKeys();
+    final List<Object> rightKeys = right.getKeys();
+    if (leftKeys.size() != rightKeys.size())
+      return right;
+
+    int index = 0;
+    while (index < rightKeys.size() && ODefaultComparator.INSTANCE.compare(leftKeys.get(index), rightKeys.get(index)) == 0)
+      index++;
+
+    if (index == rightKeys.size() || !(leftKeys.get(index) instanceof String) || !(rightKeys.get(index) instanceof String))
+      return right;
+
+    final String rightPart = (String) rightKeys.get(index);
+    final String part = shortestSeparator((String) leftKeys.get(index), rightPart);
+    if (part.length() == rightPart.length())
+      return right;
+
+    final OCompositeKey separator = new OCompositeKey();
+    for (int i = 0; i < index; i++)
+      separator.addKey(rightKeys.get(i));
+
+    separator.addKey(part);
+
+    for (int i = index + 1; i < rightKeys.size(); i++) {
+      final Object key = rightKeys.get(i);
+      separator.addKey(key instanceof String ? "" : key);
+    }
+
+    return separator;
+  }
+
   private BucketSearchResult findBucket(K key, OAtomicOperation atomicOperation) throws IOException {
     long pageIndex = ROOT_INDEX;
     final ArrayList<Long> path = new ArrayList<Long>();
 
+    //key is encoded only once and then compared with keys of the pages in its binary form
+    final byte[] encodedKey;
+    if (keySerializer instanceof OOrderPreservingKeySerializer)
+      encodedKey = ((OOrderPreservingKeySerializer) keySerializer).encode(key, keyTypes);
+    else
+      encodedKey = null;
+
     while (true) {
       if (path.size() > MAX_PATH_LENGTH)
         throw new OSBTreeException(
@@ -1656,32 +1884,27 @@ public class OSBTree<K, V> extends ODurableComponent {
 
       path.add(pageIndex);
       final OCacheEntry bucketEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false);
-      final OSBTreeBucket.SBTreeEntry<K, V> entry;
       try {
         final OSBTreeBucket<K, V> keyBucket = new OSBTreeBucket<K, V>(bucketEntry, keySerializer, keyTypes, valueSerializer);
-        final int index = keyBucket.find(key);
+        final int index = encodedKey != null ? keyBucket.find(encodedKey) : keyBucket.find(key);
 
         if (keyBucket.isLeaf())
           return new BucketSearchResult(index, path);
 
+        // key is bigger or equal to the key of the found entry, so search continues in the right child of the entry, the same
+        // is true for the key bigger than all keys of the bucket, otherwise key is less than key of the entry which follows it
         if (index >= 0)
-          entry = keyBucket.getEntry(index);
+          pageIndex = keyBucket.getRightChild(index);
         else {
           final int insertionIndex = -index - 1;
           if (insertionIndex >= keyBucket.size())
-            entry = keyBucket.getEntry(insertionIndex - 1);
+            pageIndex = keyBucket.getRightChild(insertionIndex - 1);
           else
-            entry = keyBucket.getEntry(insertionIndex);
+            pageIndex = keyBucket.getLeftChild(insertionIndex);
         }
-
       } finally {
         releasePageFromRead(atomicOperation, bucketEntry);
       }
-
-      if (comparator.compare(key, entry.key) >= 0)
-        pageIndex = entry.rightChild;
-      else
-        pageIndex = entry.leftChild;
     }
   }
 
@@ -1790,6 +2013,204 @@ public class OSBTree<K, V> extends ODurableComponent {
     K next(int prefetchSize);
   }
 
+  /**
+   * Writes the pages of a bulk load level by level. Each level is written in the root page first, if it does not fit there the
+   * root content is moved to a new page and the level is continued in new pages, so the last level written in the root page is
+   * the root of the tree.
+   */
+  private final class BulkLoader {
+    private List<K>    keys  = new ArrayList<K>();
+    private List<Long> pages = new ArrayList<Long>();
+
+    private OAtomicOperation    atomicOperation;
+    private int                 pagesInOperation;
+    private OCacheEntry         cacheEntry;
+    private OSBTreeBucket<K, V> bucket;
+    private boolean             leafLevel;
+
+    private V nullValue;
+
+    private long load(Iterator<Map.Entry<K, V>> entries) throws IOException {
+      atomicOperation = startAtomicOperation(true);
+      try {
+        final long count = loadLeaves(entries);
+
+        while (pages.size() > 1)
+          loadLevel();
+
+        final OCacheEntry rootCacheEntry = loadPageForWrite(atomicOperation, fileId, ROOT_INDEX, false);
+        try {
+          new OSBTreeBucket<K, V>(rootCacheEntry, keySerializer, keyTypes, valueSerializer).setTreeSize(count);
+        } finally {
+          releasePageFromWrite(atomicOperation, rootCacheEntry);
+        }
+
+        endAtomicOperation(false, null);
+        return count;
+      } catch (IOException e) {
+        releasePage();
+        rollback(e);
+        throw e;
+      } catch (RuntimeException e) {
+        releasePage();
+        rollback(e);
+        throw e;
+      }
+    }
+
+    private void releasePage() {
+      if (cacheEntry != null) {
+        releasePageFromWrite(atomicOperation, cacheEntry);
+        cacheEntry = null;
+      }
+    }
+
+    private long loadLeaves(Iterator<Map.Entry<K, V>> entries) throws IOException {
+      long count = 0;
+      K previousKey = null;
+
+      while (entries.hasNext()) {
+        final Map.Entry<K, V> entry = entries.next();
+        K key = entry.getKey();
+        final V value = entry.getValue();
+
+        if (key == null) {
+          checkNullSupport(null);
+          nullValue = value;
+          continue;
+        }
+
+        final int keySize = keySerializer.getObjectSize(key, (Object[]) keyTypes);
+        if (keySize > MAX_KEY_SIZE) {
+          OLogManager.instance()
+              .error(this, "Key size is more than allowed, entry with key %s is skipped. Current key size %d, allowed %d", key,
+                  keySize, MAX_KEY_SIZE);
+          continue;
+        }
+
+        key = keySerializer.preprocess(key, (Object[]) keyTypes);
+        if (previousKey != null && comparator.compare(previousKey, key) >= 0)
+          throw new OSBTreeException("Keys of bulk load have to be unique and sorted, key " + key + " follows " + previousKey,
+              OSBTree.this);
+
+        final boolean createLinkToTheValue = valueSerializer.getObjectSize(value) > MAX_EMBEDDED_VALUE_SIZE;
+        final long valueLink = createLinkToTheValue ? createLinkToTheValue(value, atomicOperation) : -1;
+        final OSBTreeBucket.SBTreeEntry<K, V> treeEntry = new OSBTreeBucket.SBTreeEntry<K, V>(-1, -1, key,
+            new OSBTreeValue<V>(createLinkToTheValue, valueLink, createLinkToTheValue ? null : value));
+
+        if (count == 0)
+          startLevel(true, key);
+
+        if (!bucket.addEntry(bucket.size(), treeEntry, false)) {
+          startPage(keyCompression ? shortestSeparator(previousKey, key) : key);
+          bucket.addEntry(0, treeEntry, false);
+        }
+
+        previousKey = key;
+        count++;
+      }
+
+      releasePage();
+      return count;
+    }
+
+    /**
+     * writes a level of non-leaf pages over the pages of the previous level
+     */
+    private void loadLevel() throws IOException {
+      final List<K> childKeys = keys;
+      final List<Long> childPages = pages;
+      keys = new ArrayList<K>();
+      pages = new ArrayList<Long>();
+
+      startLevel(false, childKeys.get(0));
+
+      OSBTreeBucket.SBTreeEntry<K, V> treeEntry = null;
+      for (int i = 1; i < childPages.size(); i++) {
+        treeEntry = new OSBTreeBucket.SBTreeEntry<K, V>(childPages.get(i - 1), childPages.get(i), childKeys.get(i), null);
+
+        // the child which does not fit becomes the leftmost child of the next page
+        if (!bucket.addEntry(bucket.size(), treeEntry, false))
+          startPage(childKeys.get(i));
+      }
+
+      if (bucket.isEmpty()) {
+        // last page has only one child, the last entry of the previous page is moved to it
+        final OCacheEntry previousCacheEntry = loadPageForWrite(atomicOperation, fileId, pages.get(pages.size() - 2), false);
+        try {
+          final OSBTreeBucket<K, V> previousBucket = new OSBTreeBucket<K, V>(previousCacheEntry, keySerializer, keyTypes,
+              valueSerializer);
+          assert previousBucket.size() > 1;
+
+          final OSBTreeBucket.SBTreeEntry<K, V> movedEntry = previousBucket.getEntry(previousBucket.size() - 1);
+          previousBucket.shrink(previousBucket.size() - 1);
+
+          keys.set(keys.size() - 1, movedEntry.key);
+        } finally {
+          releasePageFromWrite(atomicOperation, previousCacheEntry);
+        }
+
+        bucket.addEntry(0, treeEntry, false);
+      }
+
+      releasePage();
+    }
+
+    private void startLevel(boolean leaf, K firstKey) throws IOException {
+      leafLevel = leaf;
+      cacheEntry = loadPageForWrite(atomicOperation, fileId, ROOT_INDEX, false);
+      bucket = new OSBTreeBucket<K, V>(cacheEntry, leaf, keyCompression, keySerializer, keyTypes, valueSerializer);
+
+      keys.add(firstKey);
+      pages.add(ROOT_INDEX);
+    }
+
+    /**
+     * completes the current page of the level and starts the next one
+     */
+    private void startPage(K firstKey) throws IOException {
+      if (pages.size() == 1 && pages.get(0) == ROOT_INDEX) {
+        // level does not fit in root page, its content is moved to the first page of the level
+        final OCacheEntry firstCacheEntry = addPage(atomicOperation, fileId);
+        final OSBTreeBucket<K, V> firstBucket = new OSBTreeBucket<K, V>(firstCacheEntry, leafLevel, keyCompression,
+            keySerializer, keyTypes, valueSerializer);
+        for (int i = 0; i < bucket.size(); i++)
+          firstBucket.addEntry(i, bucket.getEntry(i), false);
+
+        releasePageFromWrite(atomicOperation, cacheEntry);
+        cacheEntry = firstCacheEntry;
+        bucket = firstBucket;
+        pages.set(0, firstCacheEntry.getPageIndex());
+      }
+
+      final OCacheEntry nextCacheEntry = addPage(atomicOperation, fileId);
+      final OSBTreeBucket<K, V> nextBucket = new OSBTreeBucket<K, V>(nextCacheEntry, leafLevel, keyCompression,
+          keySerializer, keyTypes, valueSerializer);
+      if (leafLevel) {
+        bucket.setRightSibling(nextCacheEntry.getPageIndex());
+        nextBucket.setLeftSibling(cacheEntry.getPageIndex());
+      }
+
+      releasePageFromWrite(atomicOperation, cacheEntry);
+      cacheEntry = nextCacheEntry;
+      bucket = nextBucket;
+      keys.add(firstKey);
+      pages.add(nextCacheEntry.getPageIndex());
+
+      pagesInOperation++;
+      if (pagesInOperation >= BULK_LOAD_PAGES_PER_OPERATION) {
+        final long pageIndex = cacheEntry.getPageIndex();
+        releasePage();
+        endAtomicOperation(false, null);
+
+        atomicOperation = startAtomicOperation(true);
+        pagesInOperation = 0;
+        cacheEntry = loadPageForWrite(atomicOperation, fileId, pageIndex, false);
+        bucket = new OSBTreeBucket<K, V>(cacheEntry, keySerializer, keyTypes, valueSerializer);
+      }
+    }
+  }
+
   private static class BucketSearchResult {
     private final int             itemIndex;
     private final ArrayList<Long> path;
@@ -26,6 +26,9 @@ import com.orientechnologies.common.serialization.types.OByteSerializer;
 import com.orientechnologies.common.serialization.types.OIntegerSerializer;
 import com.orientechnologies.common.serialization.types.OLongSerializer;
 import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OOrderPreservingKeySerializer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.BytesContainer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.OVarIntSerializer;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurablePage;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -36,6 +39,14 @@ import java.util.Comparator;
 import java.util.List;
 
 /**
+ * Page of {@link OSBTree}.
+ *
+ * Bucket can store keys in two formats. In the first one every key is stored as it is serialized by key serializer. In the
+ * second one, which is used for pages created with key compression on, serialized key of one of the entries is stored at the end
+ * of the page as an anchor, and other keys store only bytes which differ from bytes of the anchor placed at the same offsets, see
+ * {@link #compressKey(byte[], byte[])}. Format of the page is stored in the same byte as leaf flag, so pages of both formats are
+ * read by the same tree.
+ *
  * @author Andrey Lomakin (a.lomakin-at-orientdb.com)
  * @since 8/7/13
  */
@@ -60,7 +71,34 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
 
   private static final int POSITIONS_ARRAY_OFFSET = FREE_VALUES_LIST_OFFSET + OLongSerializer.LONG_SIZE;
 
+  /**
+   * Size of the anchor key, present only in pages with compressed keys which have positions array placed right after it.
+   */
+  private static final int ANCHOR_SIZE_OFFSET                = POSITIONS_ARRAY_OFFSET;
+  private static final int COMPRESSED_POSITIONS_ARRAY_OFFSET = ANCHOR_SIZE_OFFSET + OIntegerSerializer.INT_SIZE;
+
+  private static final byte LEAF_FLAG            = 1;
+  private static final byte COMPRESSED_KEYS_FLAG = 2;
+
+  /**
+   * Keys bigger than this size are not used as anchors, page stores all keys as literals in such case.
+   */
+  private static final int MAX_ANCHOR_SIZE = MAX_PAGE_SIZE_BYTES / 16;
+
+  /**
+   * Minimum amount of bytes of the key equal to the bytes of the anchor which are not stored in the page. Shorter runs cost more to
+   * be encoded than to be stored as is.
+   */
+  private static final int MIN_COPY_LENGTH = 4;
+
   private final boolean isLeaf;
+  private final boolean compressedKeys;
+  private final int     positionsArrayOffset;
+
+  /**
+   * Serialized anchor key of the page with compressed keys, it is read once for the bucket instance.
+   */
+  private byte[] anchor;
 
   private final OBinarySerializer<K> keySerializer;
   private final OBinarySerializer<V> valueSerializer;
@@ -69,12 +107,19 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
 
   private final Comparator<? super K> comparator = ODefaultComparator.INSTANCE;
 
-  @SuppressFBWarnings("EI_EXPOSE_REP2")
   public OSBTreeBucket(OCacheEntry cacheEntry, boolean isLeaf, OBinarySerializer<K> keySerializer, OType[] keyTypes,
       OBinarySerializer<V> valueSerializer) throws IOException {
+    this(cacheEntry, isLeaf, false, keySerializer, keyTypes, valueSerializer);
+  }
+
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  public OSBTreeBucket(OCacheEntry cacheEntry, boolean isLeaf, boolean compressedKeys, OBinarySerializer<K> keySerializer,
+      OType[] keyTypes, OBinarySerializer<V> valueSerializer) throws IOException {
     super(cacheEntry);
 
     this.isLeaf = isLeaf;
+    this.compressedKeys = compressedKeys;
+    this.positionsArrayOffset = compressedKeys ? COMPRESSED_POSITIONS_ARRAY_OFFSET : POSITIONS_ARRAY_OFFSET;
     this.keySerializer = keySerializer;
     this.keyTypes = keyTypes;
     this.valueSerializer = valueSerializer;
@@ -82,7 +127,7 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
     setIntValue(FREE_POINTER_OFFSET, MAX_PAGE_SIZE_BYTES);
     setIntValue(SIZE_OFFSET, 0);
 
-    setByteValue(IS_LEAF_OFFSET, (byte) (isLeaf ? 1 : 0));
+    setByteValue(IS_LEAF_OFFSET, (byte) ((isLeaf ? LEAF_FLAG : 0) | (compressedKeys ? COMPRESSED_KEYS_FLAG : 0)));
     setLongValue(LEFT_SIBLING_OFFSET, -1);
     setLongValue(RIGHT_SIBLING_OFFSET, -1);
 
@@ -91,6 +136,11 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
 
     setByteValue(KEY_SERIALIZER_OFFSET, this.keySerializer.getId());
     setByteValue(VALUE_SERIALIZER_OFFSET, this.valueSerializer.getId());
+
+    if (compressedKeys) {
+      setIntValue(ANCHOR_SIZE_OFFSET, 0);
+      anchor = new byte[0];
+    }
   }
 
   @SuppressFBWarnings("EI_EXPOSE_REP2")
@@ -99,7 +149,10 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
     super(cacheEntry);
     this.keyTypes = keyTypes;
 
-    this.isLeaf = getByteValue(IS_LEAF_OFFSET) > 0;
+    final byte flags = getByteValue(IS_LEAF_OFFSET);
+    this.isLeaf = (flags & LEAF_FLAG) != 0;
+    this.compressedKeys = (flags & COMPRESSED_KEYS_FLAG) != 0;
+    this.positionsArrayOffset = compressedKeys ? COMPRESSED_POSITIONS_ARRAY_OFFSET : POSITIONS_ARRAY_OFFSET;
     this.keySerializer = keySerializer;
     this.valueSerializer = valueSerializer;
   }
@@ -125,6 +178,9 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
   }
 
   public int find(K key) {
+    if (keySerializer instanceof OOrderPreservingKeySerializer)
+      return find(((OOrderPreservingKeySerializer) keySerializer).encode(key, keyTypes));
+
     int low = 0;
     int high = size() - 1;
 
@@ -143,9 +199,48 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
     return -(low + 1); // key not found.
   }
 
+  /**
+   * Searches the key encoded by {@link OOrderPreservingKeySerializer#encode(Object, OType[])}. Keys are compared in their binary
+   * form, so they are not deserialized during the search.
+   */
+  public int find(byte[] encodedKey) {
+    int low = 0;
+    int high = size() - 1;
+
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int cmp = compareKey(mid, encodedKey);
+
+      if (cmp < 0)
+        low = mid + 1;
+      else if (cmp > 0)
+        high = mid - 1;
+      else
+        return mid; // key found
+    }
+    return -(low + 1); // key not found.
+  }
+
+  private int compareKey(int index, byte[] encodedKey) {
+    int entryPosition = getIntValue(index * OIntegerSerializer.INT_SIZE + positionsArrayOffset);
+
+    if (!isLeaf)
+      entryPosition += 2 * OLongSerializer.LONG_SIZE;
+
+    if (compressedKeys) {
+      final byte[] key = decompressKey(getBinaryValue(entryPosition, getKeySize(entryPosition)));
+      return OOrderPreservingKeySerializer
+          .compare(key, OIntegerSerializer.INT_SIZE, key.length - OIntegerSerializer.INT_SIZE, encodedKey, 0, encodedKey.length);
+    }
+
+    //serialized key starts with its size
+    final int keySize = getIntValue(entryPosition) - OIntegerSerializer.INT_SIZE;
+    return compareBinaryValue(entryPosition + OIntegerSerializer.INT_SIZE, keySize, encodedKey);
+  }
+
   public long remove(int entryIndex) throws IOException {
-    int entryPosition = getIntValue(POSITIONS_ARRAY_OFFSET + entryIndex * OIntegerSerializer.INT_SIZE);
-    int keySize = getObjectSizeInDirectMemory(keySerializer, entryPosition);
+    int entryPosition = getIntValue(positionsArrayOffset + entryIndex * OIntegerSerializer.INT_SIZE);
+    int keySize = getKeySize(entryPosition);
 
     int entrySize;
     long linkValue = -1;
@@ -170,8 +265,8 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
 
     int size = size();
     if (entryIndex < size - 1) {
-      moveData(POSITIONS_ARRAY_OFFSET + (entryIndex + 1) * OIntegerSerializer.INT_SIZE,
-          POSITIONS_ARRAY_OFFSET + entryIndex * OIntegerSerializer.INT_SIZE, (size - entryIndex - 1) * OIntegerSerializer.INT_SIZE);
+      moveData(positionsArrayOffset + (entryIndex + 1) * OIntegerSerializer.INT_SIZE,
+          positionsArrayOffset + entryIndex * OIntegerSerializer.INT_SIZE, (size - entryIndex - 1) * OIntegerSerializer.INT_SIZE);
     }
 
     size--;
@@ -183,7 +278,7 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
     }
     setIntValue(FREE_POINTER_OFFSET, freePointer + entrySize);
 
-    int currentPositionOffset = POSITIONS_ARRAY_OFFSET;
+    int currentPositionOffset = positionsArrayOffset;
 
     for (int i = 0; i < size; i++) {
       int currentEntryPosition = getIntValue(currentPositionOffset);
@@ -200,11 +295,11 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
   }
 
   public SBTreeEntry<K, V> getEntry(int entryIndex) {
-    int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
+    int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + positionsArrayOffset);
 
     if (isLeaf) {
-      K key = deserializeFromDirectMemory(keySerializer, entryPosition);
-      entryPosition += getObjectSizeInDirectMemory(keySerializer, entryPosition);
+      K key = readKey(entryPosition);
+      entryPosition += getKeySize(entryPosition);
 
       boolean isLinkValue = getByteValue(entryPosition) > 0;
       long link = -1;
@@ -223,7 +318,7 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
       long rightChild = getLongValue(entryPosition);
       entryPosition += OLongSerializer.LONG_SIZE;
 
-      K key = deserializeFromDirectMemory(keySerializer, entryPosition);
+      K key = readKey(entryPosition);
 
       return new SBTreeEntry<K, V>(leftChild, rightChild, key, null);
     }
@@ -239,10 +334,10 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
   public OSBTreeValue<V> getValue(int entryIndex) {
     assert isLeaf;
 
-    int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
+    int entryPosition = getIntValue(entryIndex * OIntegerSerializer.INT_SIZE + positionsArrayOffset);
 
     // skip key
-    entryPosition += getObjectSizeInDirectMemory(keySerializer, entryPosition);
+    entryPosition += getKeySize(entryPosition);
 
     boolean isLinkValue = getByteValue(entryPosition) > 0;
     long link = -1;
@@ -256,24 +351,67 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
     return new OSBTreeValue<V>(link >= 0, link, value);
   }
 
+  public long getLeftChild(int index) {
+    assert !isLeaf;
+
+    return getLongValue(getIntValue(index * OIntegerSerializer.INT_SIZE + positionsArrayOffset));
+  }
+
+  public long getRightChild(int index) {
+    assert !isLeaf;
+
+    return getLongValue(getIntValue(index * OIntegerSerializer.INT_SIZE + positionsArrayOffset) + OLongSerializer.LONG_SIZE);
+  }
+
   public K getKey(int index) {
-    int entryPosition = getIntValue(index * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
+    int entryPosition = getIntValue(index * OIntegerSerializer.INT_SIZE + positionsArrayOffset);
 
     if (!isLeaf)
       entryPosition += 2 * OLongSerializer.LONG_SIZE;
 
-    return deserializeFromDirectMemory(keySerializer, entryPosition);
+    return readKey(entryPosition);
   }
 
   public boolean isLeaf() {
     return isLeaf;
   }
 
+  public boolean isCompressedKeys() {
+    return compressedKeys;
+  }
+
+  /**
+   * Adds entries to the empty bucket. Key of the middle entry is used as anchor of the page with compressed keys, so keys on both
+   * sides of it share prefix with the anchor.
+   */
   public void addAll(List<SBTreeEntry<K, V>> entries) throws IOException {
-    for (int i = 0; i < entries.size(); i++)
-      addEntry(i, entries.get(i), false);
+    addAll(entries, null);
   }
 
+  /**
+   * Adds entries moved from the source bucket to the empty bucket. If entries do not fit in the page with compressed keys when
+   * they are encoded against the key of the middle entry, anchor of the source page is used instead, entries encoded against it
+   * take the same space as in the source page.
+   */
+  public void addAll(List<SBTreeEntry<K, V>> entries, OSBTreeBucket<K, V> source) throws IOException {
+    if (compressedKeys && !entries.isEmpty()) {
+      byte[] anchor = serializeKey(entries.get(entries.size() >>> 1).key);
+      if (anchor.length > MAX_ANCHOR_SIZE)
+        anchor = new byte[0];
+
+      if (source != null && source.compressedKeys && !fits(entries, anchor))
+        anchor = source.getAnchor();
+
+      setAnchor(anchor);
+    }
+
+    insertAll(entries);
+  }
+
+  /**
+   * Removes all entries starting from the given index. Anchor of the page is kept, so the remaining entries are encoded the same
+   * way as before and always fit in the page.
+   */
   public void shrink(int newSize) throws IOException {
     List<SBTreeEntry<K, V>> treeEntries = new ArrayList<SBTreeEntry<K, V>>(newSize);
 
@@ -281,59 +419,69 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
       treeEntries.add(getEntry(i));
     }
 
-    setIntValue(FREE_POINTER_OFFSET, MAX_PAGE_SIZE_BYTES);
+    setIntValue(FREE_POINTER_OFFSET, MAX_PAGE_SIZE_BYTES - (compressedKeys ? getAnchor().length : 0));
     setIntValue(SIZE_OFFSET, 0);
 
-    int index = 0;
-    for (SBTreeEntry<K, V> entry : treeEntries) {
-      addEntry(index, entry, false);
-      index++;
+    insertAll(treeEntries);
+  }
+
+  private void insertAll(List<SBTreeEntry<K, V>> entries) throws IOException {
+    for (int i = 0; i < entries.size(); i++)
+      if (!insertEntry(i, entries.get(i), false))
+        throw new IllegalStateException("Entry " + i + " of " + entries.size() + " does not fit in the page");
+  }
+
+  /**
+   * @return <code>true</code> if all entries fit in the empty page with compressed keys when they are encoded against the given
+   * anchor.
+   */
+  private boolean fits(List<SBTreeEntry<K, V>> entries, byte[] anchor) {
+    int freeSpace = MAX_PAGE_SIZE_BYTES - anchor.length - positionsArrayOffset;
+
+    for (SBTreeEntry<K, V> entry : entries) {
+      freeSpace -= getEntrySize(entry, compressKey(serializeKey(entry.key), anchor).length) + OIntegerSerializer.INT_SIZE;
+      if (freeSpace < 0)
+        return false;
     }
+
+    return true;
   }
 
   public boolean addEntry(int index, SBTreeEntry<K, V> treeEntry, boolean updateNeighbors) throws IOException {
-    final int keySize = keySerializer.getObjectSize(treeEntry.key, (Object[]) keyTypes);
-    int valueSize = 0;
-    int entrySize = keySize;
+    if (compressedKeys && size() == 0)
+      setAnchor(serializeKey(treeEntry.key));
 
-    if (isLeaf) {
-      if (valueSerializer.isFixedLength())
-        valueSize = valueSerializer.getFixedLength();
-      else {
-        if (treeEntry.value.isLink())
-          valueSize = OLongSerializer.LONG_SIZE;
-        else
-          valueSize = valueSerializer.getObjectSize(treeEntry.value.getValue());
-      }
+    return insertEntry(index, treeEntry, updateNeighbors);
+  }
+
+  private boolean insertEntry(int index, SBTreeEntry<K, V> treeEntry, boolean updateNeighbors) throws IOException {
+    byte[] serializedKey = serializeKey(treeEntry.key);
+    if (compressedKeys)
+      serializedKey = compressKey(serializedKey, getAnchor());
 
-      entrySize += valueSize + OByteSerializer.BYTE_SIZE;
-    } else
-      entrySize += 2 * OLongSerializer.LONG_SIZE;
+    final int entrySize = getEntrySize(treeEntry, serializedKey.length);
 
     int size = size();
     int freePointer = getIntValue(FREE_POINTER_OFFSET);
-    if (freePointer - entrySize < (size + 1) * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET)
+    if (freePointer - entrySize < (size + 1) * OIntegerSerializer.INT_SIZE + positionsArrayOffset)
       return false;
 
     if (index <= size - 1) {
-      moveData(POSITIONS_ARRAY_OFFSET + index * OIntegerSerializer.INT_SIZE,
-          POSITIONS_ARRAY_OFFSET + (index + 1) * OIntegerSerializer.INT_SIZE, (size - index) * OIntegerSerializer.INT_SIZE);
+      moveData(positionsArrayOffset + index * OIntegerSerializer.INT_SIZE,
+          positionsArrayOffset + (index + 1) * OIntegerSerializer.INT_SIZE, (size - index) * OIntegerSerializer.INT_SIZE);
     }
 
     freePointer -= entrySize;
 
     setIntValue(FREE_POINTER_OFFSET, freePointer);
-    setIntValue(POSITIONS_ARRAY_OFFSET + index * OIntegerSerializer.INT_SIZE, freePointer);
+    setIntValue(positionsArrayOffset + index * OIntegerSerializer.INT_SIZE, freePointer);
     setIntValue(SIZE_OFFSET, size + 1);
 
     if (isLeaf) {
-      byte[] serializedKey = new byte[keySize];
-      keySerializer.serializeNativeObject(treeEntry.key, serializedKey, 0, (Object[]) keyTypes);
-
       freePointer += setBinaryValue(freePointer, serializedKey);
       freePointer += setByteValue(freePointer, treeEntry.value.isLink() ? (byte) 1 : (byte) 0);
 
-      byte[] serializedValue = new byte[valueSize];
+      byte[] serializedValue = new byte[getValueSize(treeEntry.value)];
       if (treeEntry.value.isLink())
         OLongSerializer.INSTANCE.serializeNative(treeEntry.value.getLink(), serializedValue, 0);
       else
@@ -344,20 +492,18 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
       freePointer += setLongValue(freePointer, treeEntry.leftChild);
       freePointer += setLongValue(freePointer, treeEntry.rightChild);
 
-      byte[] serializedKey = new byte[keySize];
-      keySerializer.serializeNativeObject(treeEntry.key, serializedKey, 0, (Object[]) keyTypes);
       setBinaryValue(freePointer, serializedKey);
 
       size++;
 
       if (updateNeighbors && size > 1) {
         if (index < size - 1) {
-          final int nextEntryPosition = getIntValue(POSITIONS_ARRAY_OFFSET + (index + 1) * OIntegerSerializer.INT_SIZE);
+          final int nextEntryPosition = getIntValue(positionsArrayOffset + (index + 1) * OIntegerSerializer.INT_SIZE);
           setLongValue(nextEntryPosition, treeEntry.rightChild);
         }
 
         if (index > 0) {
-          final int prevEntryPosition = getIntValue(POSITIONS_ARRAY_OFFSET + (index - 1) * OIntegerSerializer.INT_SIZE);
+          final int prevEntryPosition = getIntValue(positionsArrayOffset + (index - 1) * OIntegerSerializer.INT_SIZE);
           setLongValue(prevEntryPosition + OLongSerializer.LONG_SIZE, treeEntry.leftChild);
         }
       }
@@ -366,9 +512,26 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
     return true;
   }
 
+  private int getEntrySize(SBTreeEntry<K, V> treeEntry, int keySize) {
+    if (isLeaf)
+      return keySize + getValueSize(treeEntry.value) + OByteSerializer.BYTE_SIZE;
+
+    return keySize + 2 * OLongSerializer.LONG_SIZE;
+  }
+
+  private int getValueSize(OSBTreeValue<V> value) {
+    if (valueSerializer.isFixedLength())
+      return valueSerializer.getFixedLength();
+
+    if (value.isLink())
+      return OLongSerializer.LONG_SIZE;
+
+    return valueSerializer.getObjectSize(value.getValue());
+  }
+
   public int updateValue(int index, OSBTreeValue<V> value) throws IOException {
-    int entryPosition = getIntValue(index * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
-    entryPosition += getObjectSizeInDirectMemory(keySerializer, entryPosition);
+    int entryPosition = getIntValue(index * OIntegerSerializer.INT_SIZE + positionsArrayOffset);
+    entryPosition += getKeySize(entryPosition);
     boolean isLinkValue = getByteValue(entryPosition) > 0;
 
     entryPosition += OByteSerializer.BYTE_SIZE;
@@ -420,6 +583,146 @@ public class OSBTreeBucket<K, V> extends ODurablePage {
     return getLongValue(RIGHT_SIBLING_OFFSET);
   }
 
+  private byte[] serializeKey(K key) {
+    final byte[] serializedKey = new byte[keySerializer.getObjectSize(key, (Object[]) keyTypes)];
+    keySerializer.serializeNativeObject(key, serializedKey, 0, (Object[]) keyTypes);
+    return serializedKey;
+  }
+
+  private K readKey(int keyPosition) {
+    if (!compressedKeys)
+      return deserializeFromDirectMemory(keySerializer, keyPosition);
+
+    return keySerializer.deserializeNativeObject(decompressKey(getBinaryValue(keyPosition, getKeySize(keyPosition))), 0);
+  }
+
+  /**
+   * @return amount of bytes occupied by the key in the page
+   */
+  private int getKeySize(int keyPosition) {
+    if (!compressedKeys)
+      return getObjectSizeInDirectMemory(keySerializer, keyPosition);
+
+    int position = keyPosition;
+    int payloadSize = 0;
+    int shift = 0;
+    byte b;
+    do {
+      b = getByteValue(position++);
+      payloadSize |= (b & 0x7F) << shift;
+      shift += 7;
+    } while (b < 0);
+
+    return position - keyPosition + payloadSize;
+  }
+
+  /**
+   * Stores the anchor of the empty page with compressed keys. Anchor is placed at the end of the page, so it is never moved when
+   * entries are removed.
+   */
+  private void setAnchor(byte[] serializedKey) throws IOException {
+    if (serializedKey.length > MAX_ANCHOR_SIZE)
+      serializedKey = new byte[0];
+
+    setIntValue(ANCHOR_SIZE_OFFSET, serializedKey.length);
+    if (serializedKey.length > 0)
+      setBinaryValue(MAX_PAGE_SIZE_BYTES - serializedKey.length, serializedKey);
+
+    setIntValue(FREE_POINTER_OFFSET, MAX_PAGE_SIZE_BYTES - serializedKey.length);
+    anchor = serializedKey;
+  }
+
+  private byte[] getAnchor() {
+    if (anchor == null) {
+      final int anchorSize = getIntValue(ANCHOR_SIZE_OFFSET);
+      anchor = getBinaryValue(MAX_PAGE_SIZE_BYTES - anchorSize, anchorSize);
+    }
+
+    return anchor;
+  }
+
+  /**
+   * Encodes serialized key against the anchor of the page. Serialized keys start with sizes of their parts, so bytes equal to the
+   * anchor are compared at the same offsets rather than as common prefix only, this way keys of different length still share
+   * bytes which follow their sizes.
+   *
+   * Encoded key consists of its size in bytes, the size of the payload, and of the payload itself. Payload is the sequence of
+   * pairs: amount of bytes copied from the anchor and amount of bytes which follow it together with those bytes, sequence
+   * ends when the whole key is restored. All sizes are written as varints.
+   */
+  private static byte[] compressKey(byte[] key, byte[] anchor) {
+    final BytesContainer payload = new BytesContainer(new byte[key.length + 16]);
+    OVarIntSerializer.writeUnsignedVarLong(key.length, payload);
+
+    int position = 0;
+    while (position < key.length) {
+      int copyLength = 0;
+      while (position + copyLength < key.length && position + copyLength < anchor.length
+          && key[position + copyLength] == anchor[position + copyLength])
+        copyLength++;
+
+      if (copyLength < MIN_COPY_LENGTH && position + copyLength < key.length)
+        copyLength = 0;
+
+      OVarIntSerializer.writeUnsignedVarLong(copyLength, payload);
+      position += copyLength;
+
+      if (position == key.length)
+        break;
+
+      // literal ends where the next run of bytes equal to the anchor long enough to be copied starts
+      int literalEnd = position + 1;
+      int runStart = literalEnd;
+      while (literalEnd < key.length) {
+        if (literalEnd < anchor.length && key[literalEnd] == anchor[literalEnd]) {
+          if (literalEnd + 1 - runStart >= MIN_COPY_LENGTH)
+            break;
+        } else
+          runStart = literalEnd + 1;
+
+        literalEnd++;
+      }
+      literalEnd = Math.min(runStart, key.length);
+
+      final int literalLength = literalEnd - position;
+      OVarIntSerializer.writeUnsignedVarLong(literalLength, payload);
+      System.arraycopy(key, position, payload.bytes, payload.alloc(literalLength), literalLength);
+      position = literalEnd;
+    }
+
+    final BytesContainer encodedKey = new BytesContainer(new byte[payload.offset + 5]);
+    OVarIntSerializer.writeUnsignedVarLong(payload.offset, encodedKey);
+    System.arraycopy(payload.bytes, 0, encodedKey.bytes, encodedKey.alloc(payload.offset), payload.offset);
+
+    return encodedKey.fitBytes();
+  }
+
+  private byte[] decompressKey(byte[] encodedKey) {
+    final byte[] anchor = getAnchor();
+    final BytesContainer container = new BytesContainer(encodedKey);
+
+    // size of the payload
+    OVarIntSerializer.readUnsignedVarLong(container);
+
+    final byte[] key = new byte[(int) OVarIntSerializer.readUnsignedVarLong(container)];
+    int position = 0;
+    while (position < key.length) {
+      final int copyLength = (int) OVarIntSerializer.readUnsignedVarLong(container);
+      System.arraycopy(anchor, position, key, position, copyLength);
+      position += copyLength;
+
+      if (position == key.length)
+        break;
+
+      final int literalLength = (int) OVarIntSerializer.readUnsignedVarLong(container);
+      System.arraycopy(encodedKey, container.offset, key, position, literalLength);
+      container.offset += literalLength;
+      position += literalLength;
+    }
+
+    return key;
+  }
+
   public static final class SBTreeEntry<K, V> implements Comparable<SBTreeEntry<K, V>> {
     private final Comparator<? super K> comparator = ODefaultComparator.INSTANCE;
 
@@ -54,7 +54,8 @@ public interface OClass extends Comparable<OClass> {
     NOTUNIQUE_HASH_INDEX(true),
     FULLTEXT_HASH_INDEX(true),
     DICTIONARY_HASH_INDEX(false),
-    SPATIAL(true);
+    SPATIAL(true),
+    BITMAP(true);
 
     private boolean automaticIndexable;
 
@@ -30,8 +30,11 @@ import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.serialization.serializer.binary.impl.OLinkSerializer;
 import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OCompositeKeySerializer;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OOrderPreservingKeySerializer;
 import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OSimpleKeySerializer;
+import com.orientechnologies.orient.core.serialization.serializer.stream.OStreamSerializerBitmapContainer;
 import com.orientechnologies.orient.core.serialization.serializer.stream.OStreamSerializerRID;
+import com.orientechnologies.orient.core.serialization.serializer.stream.OStreamSerializerRIDWithIncludedValues;
 import com.orientechnologies.orient.core.serialization.serializer.stream.OStreamSerializerSBTreeIndexRIDContainer;
 
 /**
@@ -78,6 +81,9 @@ public class OBinarySerializerFactory {
     factory.registerSerializer(ODecimalSerializer.INSTANCE, OType.DECIMAL);
 
     factory.registerSerializer(OStreamSerializerSBTreeIndexRIDContainer.INSTANCE, null);
+    factory.registerSerializer(OOrderPreservingKeySerializer.INSTANCE, null);
+    factory.registerSerializer(OStreamSerializerRIDWithIncludedValues.INSTANCE, null);
+    factory.registerSerializer(OStreamSerializerBitmapContainer.INSTANCE, null);
 
     // STATEFUL SERIALIER
     factory.registerSerializer(OSimpleKeySerializer.ID, OSimpleKeySerializer.class);
@@ -0,0 +1,494 @@
+package com.orientechnologies.orient.core.serialization.serializer.binary.impl.index;
+
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.serialization.types.ODateSerializer;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.util.OCommonConst;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OAlwaysGreaterKey;
+import com.orientechnologies.orient.core.index.OAlwaysLessKey;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALChanges;
+
+import java.nio.ByteBuffer;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Serializer of index keys, both simple and {@link OCompositeKey} ones, which keeps order of the keys in their binary form. Keys
+ * serialized by it are compared as unsigned bytes in the same order as they are compared by
+ * {@link com.orientechnologies.common.comparator.ODefaultComparator}, so index does not need to deserialize keys during search.
+ * Two encoded keys one of which is prefix of the other are equal, the same way as composite keys which differ only by amount of
+ * parts are equal.
+ *
+ * Serialized key consists of its size in bytes and the encoded key. Encoded key starts with the byte which tells whether key is
+ * composite or not and contains tagged value of each part of the key:
+ * <ul>
+ * <li>numbers, dates and links are written in big-endian order with flipped sign bit, bits of negative floating point numbers are
+ * inverted</li>
+ * <li>every character of the string is written in one to three bytes by UTF-8 rules, the character value is increased by one for
+ * single byte characters, so zero byte never appears inside of the string and is used as its terminator</li>
+ * </ul>
+ * Strings of indexes with collation are already transformed by collation when they reach index, so they are encoded as is.
+ *
+ * @see #isSupported(OType[])
+ */
+public class OOrderPreservingKeySerializer implements OBinarySerializer<Object> {
+  public static final OOrderPreservingKeySerializer INSTANCE = new OOrderPreservingKeySerializer();
+  public static final byte                          ID       = 22;
+
+  private static final byte SIMPLE_KEY    = 1;
+  private static final byte COMPOSITE_KEY = 2;
+
+  private static final byte ALWAYS_LESS    = 0x00;
+  private static final byte NULL           = 0x01;
+  private static final byte BOOLEAN        = 0x10;
+  private static final byte BYTE           = 0x11;
+  private static final byte SHORT          = 0x12;
+  private static final byte INTEGER        = 0x13;
+  private static final byte LONG           = 0x14;
+  private static final byte FLOAT          = 0x15;
+  private static final byte DOUBLE         = 0x16;
+  private static final byte DATE           = 0x17;
+  private static final byte STRING         = 0x18;
+  private static final byte LINK           = 0x19;
+  private static final byte ALWAYS_GREATER = (byte) 0xFF;
+
+  private static final Set<OType> SUPPORTED_TYPES = EnumSet
+      .of(OType.BOOLEAN, OType.BYTE, OType.SHORT, OType.INTEGER, OType.LONG, OType.FLOAT, OType.DOUBLE, OType.DATE,
+          OType.DATETIME, OType.STRING, OType.LINK);
+
+  /**
+   * @return <code>true</code> if keys of all passed in types can be serialized
+   */
+  public static boolean isSupported(OType[] types) {
+    if (types == null || types.length == 0)
+      return false;
+
+    for (OType type : types) {
+      if (!SUPPORTED_TYPES.contains(type))
+        return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * Compares encoded keys as unsigned bytes, keys one of which is prefix of the other are equal.
+   */
+  public static int compare(byte[] first, int firstOffset, int firstLength, byte[] second, int secondOffset, int secondLength) {
+    final int length = Math.min(firstLength, secondLength);
+    for (int i = 0; i < length; i++) {
+      final int cmp = (first[firstOffset + i] & 0xFF) - (second[secondOffset + i] & 0xFF);
+      if (cmp != 0)
+        return cmp;
+    }
+
+    return 0;
+  }
+
+  /**
+   * @return encoded key without its size, it is used to search key in the index
+   */
+  public byte[] encode(Object key, OType[] types) {
+    final OType[] keyTypes = getKeyTypes(types);
+    final byte[] encodedKey = new byte[encodedSize(key, keyTypes)];
+    encode(key, keyTypes, encodedKey, 0);
+    return encodedKey;
+  }
+
+  @Override
+  public int getObjectSize(Object key, Object... hints) {
+    return OIntegerSerializer.INT_SIZE + encodedSize(key, getKeyTypes(hints));
+  }
+
+  @Override
+  public int getObjectSize(byte[] stream, int startPosition) {
+    return OIntegerSerializer.INSTANCE.deserializeLiteral(stream, startPosition);
+  }
+
+  @Override
+  public void serialize(Object key, byte[] stream, int startPosition, Object... hints) {
+    final int end = encode(key, getKeyTypes(hints), stream, startPosition + OIntegerSerializer.INT_SIZE);
+    OIntegerSerializer.INSTANCE.serializeLiteral(end - startPosition, stream, startPosition);
+  }
+
+  @Override
+  public Object deserialize(byte[] stream, int startPosition) {
+    final int size = OIntegerSerializer.INSTANCE.deserializeLiteral(stream, startPosition);
+    return decode(stream, startPosition + OIntegerSerializer.INT_SIZE, startPosition + size);
+  }
+
+  @Override
+  public byte getId() {
+    return ID;
+  }
+
+  @Override
+  public boolean isFixedLength() {
+    return false;
+  }
+
+  @Override
+  public int getFixedLength() {
+    return 0;
+  }
+
+  @Override
+  public void serializeNativeObject(Object key, byte[] stream, int startPosition, Object... hints) {
+    final int end = encode(key, getKeyTypes(hints), stream, startPosition + OIntegerSerializer.INT_SIZE);
+    OIntegerSerializer.INSTANCE.serializeNative(end - startPosition, stream, startPosition);
+  }
+
+  @Override
+  public Object deserializeNativeObject(byte[] stream, int startPosition) {
+    final int size = OIntegerSerializer.INSTANCE.deserializeNative(stream, startPosition);
+    return decode(stream, startPosition + OIntegerSerializer.INT_SIZE, startPosition + size);
+  }
+
+  @Override
+  public int getObjectSizeNative(byte[] stream, int startPosition) {
+    return OIntegerSerializer.INSTANCE.deserializeNative(stream, startPosition);
+  }
+
+  @Override
+  public Object preprocess(Object value, Object... hints) {
+    if (value == null)
+      return null;
+
+    final OType[] types = getKeyTypes(hints);
+
+    if (value instanceof OCompositeKey) {
+      final List<Object> keys = ((OCompositeKey) value).getKeys();
+      final OCompositeKey compositeKey = new OCompositeKey();
+
+      for (int i = 0; i < keys.size(); i++)
+        compositeKey.addKey(preprocessPart(keys.get(i), types.length > i ? types[i] : null));
+
+      return compositeKey;
+    }
+
+    return preprocessPart(value, types.length > 0 ? types[0] : null);
+  }
+
+  /**
+   * Only dates need to be preprocessed by the serializer of their type, the rest of the supported types are kept as is.
+   */
+  private static Object preprocessPart(Object value, OType type) {
+    final Object part = convert(value, type);
+    if (type == OType.DATE && part instanceof Date)
+      return ODateSerializer.INSTANCE.preprocess((Date) part);
+
+    return part;
+  }
+
+  @Override
+  public void serializeInByteBufferObject(Object key, ByteBuffer buffer, Object... hints) {
+    final byte[] stream = new byte[getObjectSize(key, hints)];
+    serializeNativeObject(key, stream, 0, hints);
+    buffer.putInt(stream.length);
+    buffer.put(stream, OIntegerSerializer.INT_SIZE, stream.length - OIntegerSerializer.INT_SIZE);
+  }
+
+  @Override
+  public Object deserializeFromByteBufferObject(ByteBuffer buffer) {
+    final int size = buffer.getInt();
+    final byte[] encodedKey = new byte[size - OIntegerSerializer.INT_SIZE];
+    buffer.get(encodedKey);
+
+    return decode(encodedKey, 0, encodedKey.length);
+  }
+
+  @Override
+  public int getObjectSizeInByteBuffer(ByteBuffer buffer) {
+    return buffer.getInt();
+  }
+
+  @Override
+  public Object deserializeFromByteBufferObject(ByteBuffer buffer, OWALChanges walChanges, int offset) {
+    final int size = walChanges.getIntValue(buffer, offset);
+    final byte[] encodedKey = walChanges
+        .getBinaryValue(buffer, offset + OIntegerSerializer.INT_SIZE, size - OIntegerSerializer.INT_SIZE);
+
+    return decode(encodedKey, 0, encodedKey.length);
+  }
+
+  @Override
+  public int getObjectSizeInByteBuffer(ByteBuffer buffer, OWALChanges walChanges, int offset) {
+    return walChanges.getIntValue(buffer, offset);
+  }
+
+  private static OType[] getKeyTypes(Object[] hints) {
+    if (hints != null && hints.length > 0)
+      return (OType[]) hints;
+
+    return OCommonConst.EMPTY_TYPES_ARRAY;
+  }
+
+  /**
+   * Converts the part of the key to the type of the index, otherwise values of different types would be encoded with different
+   * tags.
+   */
+  private static Object convert(Object value, OType type) {
+    if (value == null || type == null || value instanceof OAlwaysLessKey || value instanceof OAlwaysGreaterKey)
+      return value;
+
+    final Class<?> javaType = type.getDefaultJavaType();
+    if (javaType == null || javaType.isInstance(value))
+      return value;
+
+    return OType.convert(value, javaType);
+  }
+
+  private static int encodedSize(Object key, OType[] types) {
+    int size = 1;
+
+    if (key instanceof OCompositeKey) {
+      final List<Object> keys = ((OCompositeKey) key).getKeys();
+      for (int i = 0; i < keys.size(); i++)
+        size += encodedPartSize(convert(keys.get(i), types.length > i ? types[i] : null));
+    } else
+      size += encodedPartSize(convert(key, types.length > 0 ? types[0] : null));
+
+    return size;
+  }
+
+  private static int encodedPartSize(Object value) {
+    if (value == null || value instanceof OAlwaysLessKey || value instanceof OAlwaysGreaterKey)
+      return 1;
+
+    if (value instanceof Boolean || value instanceof Byte)
+      return 2;
+
+    if (value instanceof Short)
+      return 3;
+
+    if (value instanceof Integer || value instanceof Float)
+      return 5;
+
+    if (value instanceof Long || value instanceof Double || value instanceof Date)
+      return 9;
+
+    if (value instanceof String) {
+      final String string = (String) value;
+
+      int size = 2;
+      for (int i = 0; i < string.length(); i++) {
+        final char character = string.charAt(i);
+        if (character < 0x7F)
+          size++;
+        else if (character < 0x800)
+          size += 2;
+        else
+          size += 3;
+      }
+
+      return size;
+    }
+
+    if (value instanceof OIdentifiable)
+      return 13;
+
+    throw unsupportedKey(value);
+  }
+
+  private static int encode(Object key, OType[] types, byte[] stream, int offset) {
+    if (key instanceof OCompositeKey) {
+      stream[offset++] = COMPOSITE_KEY;
+
+      final List<Object> keys = ((OCompositeKey) key).getKeys();
+      for (int i = 0; i < keys.size(); i++)
+        offset = encodePart(convert(keys.get(i), types.length > i ? types[i] : null), stream, offset);
+    } else {
+      stream[offset++] = SIMPLE_KEY;
+      offset = encodePart(convert(key, types.length > 0 ? types[0] : null), stream, offset);
+    }
+
+    return offset;
+  }
+
+  private static int encodePart(Object value, byte[] stream, int offset) {
+    if (value == null) {
+      stream[offset++] = NULL;
+    } else if (value instanceof OAlwaysLessKey) {
+      stream[offset++] = ALWAYS_LESS;
+    } else if (value instanceof OAlwaysGreaterKey) {
+      stream[offset++] = ALWAYS_GREATER;
+    } else if (value instanceof Boolean) {
+      stream[offset++] = BOOLEAN;
+      stream[offset++] = (byte) ((Boolean) value ? 1 : 0);
+    } else if (value instanceof Byte) {
+      stream[offset++] = BYTE;
+      stream[offset++] = (byte) ((Byte) value ^ 0x80);
+    } else if (value instanceof Short) {
+      stream[offset++] = SHORT;
+      offset = writeBigEndian(((Short) value ^ 0x8000) & 0xFFFF, 2, stream, offset);
+    } else if (value instanceof Integer) {
+      stream[offset++] = INTEGER;
+      offset = writeBigEndian((Integer) value ^ Integer.MIN_VALUE, 4, stream, offset);
+    } else if (value instanceof Long) {
+      stream[offset++] = LONG;
+      offset = writeBigEndian((Long) value ^ Long.MIN_VALUE, 8, stream, offset);
+    } else if (value instanceof Float) {
+      final int bits = Float.floatToIntBits((Float) value);
+      stream[offset++] = FLOAT;
+      offset = writeBigEndian(bits ^ ((bits >> 31) | Integer.MIN_VALUE), 4, stream, offset);
+    } else if (value instanceof Double) {
+      final long bits = Double.doubleToLongBits((Double) value);
+      stream[offset++] = DOUBLE;
+      offset = writeBigEndian(bits ^ ((bits >> 63) | Long.MIN_VALUE), 8, stream, offset);
+    } else if (value instanceof Date) {
+      stream[offset++] = DATE;
+      offset = writeBigEndian(((Date) value).getTime() ^ Long.MIN_VALUE, 8, stream, offset);
+    } else if (value instanceof String) {
+      stream[offset++] = STRING;
+      offset = encodeString((String) value, stream, offset);
+    } else if (value instanceof OIdentifiable) {
+      final ORID rid = ((OIdentifiable) value).getIdentity();
+      stream[offset++] = LINK;
+      offset = writeBigEndian(rid.getClusterId() ^ Integer.MIN_VALUE, 4, stream, offset);
+      offset = writeBigEndian(rid.getClusterPosition() ^ Long.MIN_VALUE, 8, stream, offset);
+    } else
+      throw unsupportedKey(value);
+
+    return offset;
+  }
+
+  private static IllegalArgumentException unsupportedKey(Object value) {
+    return new IllegalArgumentException(
+        "Keys of type " + value.getClass().getName() + " can not be serialized by " + OOrderPreservingKeySerializer.class
+            .getSimpleName());
+  }
+
+  private static int encodeString(String string, byte[] stream, int offset) {
+    for (int i = 0; i < string.length(); i++) {
+      final char character = string.charAt(i);
+
+      if (character < 0x7F) {
+        stream[offset++] = (byte) (character + 1);
+      } else if (character < 0x800) {
+        stream[offset++] = (byte) (0xC0 | (character >> 6));
+        stream[offset++] = (byte) (0x80 | (character & 0x3F));
+      } else {
+        stream[offset++] = (byte) (0xE0 | (character >> 12));
+        stream[offset++] = (byte) (0x80 | ((character >> 6) & 0x3F));
+        stream[offset++] = (byte) (0x80 | (character & 0x3F));
+      }
+    }
+
+    stream[offset++] = 0;
+    return offset;
+  }
+
+  private static int writeBigEndian(long value, int size, byte[] stream, int offset) {
+    for (int i = size - 1; i >= 0; i--)
+      stream[offset++] = (byte) (value >>> (8 * i));
+
+    return offset;
+  }
+
+  private static long readBigEndian(int size, byte[] stream, int offset) {
+    long value = 0;
+    for (int i = 0; i < size; i++)
+      value = (value << 8) | (stream[offset + i] & 0xFF);
+
+    return value;
+  }
+
+  private static Object decode(byte[] stream, int offset, int end) {
+    final int[] position = new int[] { offset + 1 };
+
+    if (stream[offset] == SIMPLE_KEY)
+      return decodePart(stream, position);
+
+    final OCompositeKey compositeKey = new OCompositeKey();
+    while (position[0] < end)
+      compositeKey.addKey(decodePart(stream, position));
+
+    return compositeKey;
+  }
+
+  private static Object decodePart(byte[] stream, int[] position) {
+    int offset = position[0];
+    final byte tag = stream[offset++];
+
+    final Object value;
+    switch (tag) {
+    case ALWAYS_LESS:
+      value = new OAlwaysLessKey();
+      break;
+    case NULL:
+      value = null;
+      break;
+    case BOOLEAN:
+      value = stream[offset++] != 0;
+      break;
+    case BYTE:
+      value = (byte) (stream[offset++] ^ 0x80);
+      break;
+    case SHORT:
+      value = (short) (readBigEndian(2, stream, offset) ^ 0x8000);
+      offset += 2;
+      break;
+    case INTEGER:
+      value = (int) readBigEndian(4, stream, offset) ^ Integer.MIN_VALUE;
+      offset += 4;
+      break;
+    case LONG:
+      value = readBigEndian(8, stream, offset) ^ Long.MIN_VALUE;
+      offset += 8;
+      break;
+    case FLOAT: {
+      final int bits = (int) readBigEndian(4, stream, offset);
+      value = Float.intBitsToFloat(bits < 0 ? bits ^ Integer.MIN_VALUE : ~bits);
+      offset += 4;
+      break;
+    }
+    case DOUBLE: {
+      final long bits = readBigEndian(8, stream, offset);
+      value = Double.longBitsToDouble(bits < 0 ? bits ^ Long.MIN_VALUE : ~bits);
+      offset += 8;
+      break;
+    }
+    case DATE:
+      value = new Date(readBigEndian(8, stream, offset) ^ Long.MIN_VALUE);
+      offset += 8;
+      break;
+    case STRING: {
+      final StringBuilder builder = new StringBuilder();
+      int b;
+      while ((b = stream[offset++] & 0xFF) != 0) {
+        if (b < 0x80)
+          builder.append((char) (b - 1));
+        else if (b < 0xE0)
+          builder.append((char) (((b & 0x1F) << 6) | (stream[offset++] & 0x3F)));
+        else {
+          builder.append((char) (((b & 0x0F) << 12) | ((stream[offset] & 0x3F) << 6) | (stream[offset + 1] & 0x3F)));
+          offset += 2;
+        }
+      }
+
+      value = builder.toString();
+      break;
+    }
+    case LINK:
+      value = new ORecordId((int) readBigEndian(4, stream, offset) ^ Integer.MIN_VALUE,
+          readBigEndian(8, stream, offset + 4) ^ Long.MIN_VALUE);
+      offset += 12;
+      break;
+    case ALWAYS_GREATER:
+      value = new OAlwaysGreaterKey();
+      break;
+    default:
+      throw new IllegalStateException("Invalid tag " + tag + " of the key part");
+    }
+
+    position[0] = offset;
+    return value;
+  }
+}
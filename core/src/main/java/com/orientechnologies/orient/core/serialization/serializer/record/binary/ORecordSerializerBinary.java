@@ -21,6 +21,8 @@
 package com.orientechnologies.orient.core.serialization.serializer.record.binary;
 
 import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.impl.OBlob;
 import com.orientechnologies.orient.core.record.impl.ODocument;
@@ -33,13 +35,15 @@ public class ORecordSerializerBinary implements ORecordSerializer {
 
   public static final  String                  NAME                   = "ORecordSerializerBinary";
   public static final  ORecordSerializerBinary INSTANCE               = new ORecordSerializerBinary();
-  private static final byte                    CURRENT_RECORD_VERSION = 0;
+  private static final byte                    CURRENT_RECORD_VERSION = 1;
+  private static final byte                    MIN_RECORD_VERSION     = 0;
 
   private ODocumentSerializer[] serializerByVersion;
 
   public ORecordSerializerBinary() {
-    serializerByVersion = new ODocumentSerializer[1];
+    serializerByVersion = new ODocumentSerializer[2];
     serializerByVersion[0] = new ORecordSerializerBinaryV0();
+    serializerByVersion[1] = new ORecordSerializerBinaryV1();
   }
 
   @Override
@@ -49,7 +53,7 @@ public class ORecordSerializerBinary implements ORecordSerializer {
 
   @Override
   public int getMinSupportedVersion() {
-    return CURRENT_RECORD_VERSION;
+    return MIN_RECORD_VERSION;
   }
 
   public ODocumentSerializer getSerializer(final int iVersion) {
@@ -105,10 +109,11 @@ public class ORecordSerializerBinary implements ORecordSerializer {
       final BytesContainer container = new BytesContainer();
 
       // WRITE SERIALIZER VERSION
+      final byte version = getWriteVersion();
       int pos = container.alloc(1);
-      container.bytes[pos] = CURRENT_RECORD_VERSION;
+      container.bytes[pos] = version;
       // SERIALIZE RECORD
-      serializerByVersion[CURRENT_RECORD_VERSION].serialize((ODocument) iSource, container, false);
+      serializerByVersion[version].serialize((ODocument) iSource, container, false);
 
       return container.fitBytes();
     }
@@ -134,15 +139,31 @@ public class ORecordSerializerBinary implements ORecordSerializer {
     final BytesContainer container = new BytesContainer();
 
     // WRITE SERIALIZER VERSION
+    final byte version = getWriteVersion();
     int pos = container.alloc(1);
-    container.bytes[pos] = CURRENT_RECORD_VERSION;
+    container.bytes[pos] = version;
 
     // SERIALIZE CLASS ONLY
-    serializerByVersion[CURRENT_RECORD_VERSION].serialize((ODocument) iSource, container, true);
+    serializerByVersion[version].serialize((ODocument) iSource, container, true);
 
     return container.fitBytes();
   }
 
+  /**
+   * Returns the record version to write: databases created before version 1 keep their persistent serializer version, so
+   * that they stay readable by the binaries that created them.
+   */
+  private static byte getWriteVersion() {
+    final ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.INSTANCE.getIfDefined();
+    if (db == null || db.getStorage() == null || db.getStorage().getConfiguration() == null)
+      return CURRENT_RECORD_VERSION;
+
+    final int version = db.getStorage().getConfiguration().getRecordSerializerVersion();
+    if (version >= CURRENT_RECORD_VERSION)
+      return CURRENT_RECORD_VERSION;
+    return (byte) version;
+  }
+
   @Override
   public boolean getSupportBinaryEvaluate() {
     return true;
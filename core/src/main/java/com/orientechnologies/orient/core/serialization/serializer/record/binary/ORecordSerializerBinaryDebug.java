@@ -17,10 +17,14 @@ public class ORecordSerializerBinaryDebug extends ORecordSerializerBinaryV0 {
     ORecordSerializationDebug debugInfo = new ORecordSerializationDebug();
     OImmutableSchema schema = ((OMetadataInternal) db.getMetadata()).getImmutableSchemaSnapshot();
     BytesContainer bytes = new BytesContainer(iSource);
-    if (bytes.bytes[0] != 0)
+    final int version = bytes.bytes[0];
+    if (version < 0 || version > ORecordSerializerBinary.INSTANCE.getCurrentVersion())
       throw new OSystemException("Unsupported binary serialization version");
+    final ODocumentSerializer serializer = ORecordSerializerBinary.INSTANCE.getSerializer(version);
     bytes.skip(1);
     try {
+      if (version > 0)
+        ORecordSerializerBinaryV1.skipDirectory(bytes);
       final String className = readString(bytes);
       debugInfo.className = className;
     } catch (RuntimeException ex) {
@@ -75,7 +79,7 @@ public class ORecordSerializerBinaryDebug extends ORecordSerializerBinaryV0 {
           int headerCursor = bytes.offset;
           bytes.offset = valuePos;
           try {
-            debugProperty.value = deserializeValue(bytes, type, new ODocument());
+            debugProperty.value = serializer.deserializeValue(bytes, type, new ODocument());
           } catch (RuntimeException ex) {
             debugProperty.faildToRead = true;
             debugProperty.readingException = ex;
@@ -325,7 +325,6 @@ public class ORecordSerializerBinaryV0 implements ODocumentSerializer {
     return result.toArray(new String[result.size()]);
   }
 
-  @SuppressWarnings("unchecked")
   @Override
   public void serialize(final ODocument document, final BytesContainer bytes, final boolean iClassOnly) {
 
@@ -335,6 +334,20 @@ public class ORecordSerializerBinaryV0 implements ODocumentSerializer {
       return;
     }
 
+    serializeFields(document, clazz, bytes, null, null);
+  }
+
+  /**
+   * Writes the header entries and the values of the fields of a document, the class name has to be already written.
+   *
+   * @param fieldNames      if not null, filled with the names of the fields in the order they are written in the header
+   * @param headerPositions if not null, filled with the positions of the header entries of the fields
+   *
+   * @return the number of fields written
+   */
+  @SuppressWarnings("unchecked")
+  protected int serializeFields(final ODocument document, final OClass clazz, final BytesContainer bytes, final String[] fieldNames,
+      final int[] headerPositions) {
     final Map<String, OProperty> props = clazz != null ? clazz.propertiesMap() : null;
 
     final Set<Entry<String, ODocumentEntry>> fields = ODocumentInternal.rawEntries(document);
@@ -354,6 +367,11 @@ public class ORecordSerializerBinaryV0 implements ODocumentSerializer {
           docEntry.property = prop;
       }
 
+      if (fieldNames != null) {
+        fieldNames[i] = entry.getKey();
+        headerPositions[i] = bytes.offset;
+      }
+
       if (docEntry.property != null) {
         OVarIntSerializer.write(bytes, (docEntry.property.getId() + 1) * -1);
         if (docEntry.property.getType() != OType.ANY)
@@ -386,6 +404,7 @@ public class ORecordSerializerBinaryV0 implements ODocumentSerializer {
       }
     }
 
+    return size;
   }
 
   @Override
@@ -976,7 +995,7 @@ public class ORecordSerializerBinaryV0 implements ODocumentSerializer {
     return pointer;
   }
 
-  private byte[] bytesFromString(final String toWrite) {
+  protected byte[] bytesFromString(final String toWrite) {
     try {
       return toWrite.getBytes(CHARSET_UTF_8);
     } catch (UnsupportedEncodingException e) {
@@ -0,0 +1,231 @@
+package com.orientechnologies.orient.core.serialization.serializer.record.binary;
+
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.metadata.OMetadataInternal;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OGlobalProperty;
+import com.orientechnologies.orient.core.metadata.schema.OImmutableSchema;
+import com.orientechnologies.orient.core.metadata.schema.OProperty;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.record.impl.ODocumentEntry;
+import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Version 1 of the binary record format. It is the version 0 format preceded by a directory of the fields, that allows to find
+ * a field without scanning the whole header:
+ * <pre>
+ * +----------------+-------------------------------------------+------------+--------+--------+
+ * | size (varint)  | size * (name hash (int), entry pos (int)) | class name | header | values |
+ * +----------------+-------------------------------------------+------------+--------+--------+
+ * </pre>
+ * Entries are sorted by the hash of the field name ({@link String#hashCode()}) and point to the entry of the field in the header.
+ * The directory is written only for documents with at least {@link #DIRECTORY_THRESHOLD} fields, for smaller documents the
+ * size is 0 and the fields are found scanning the header as in version 0.
+ */
+public class ORecordSerializerBinaryV1 extends ORecordSerializerBinaryV0 {
+
+  /**
+   * minimum number of fields of a document to write the directory, a linear scan is as fast on smaller headers
+   */
+  public static final int DIRECTORY_THRESHOLD = 8;
+
+  private static final int ENTRY_SIZE = 2 * OIntegerSerializer.INT_SIZE;
+
+  /**
+   * a field found through the directory
+   */
+  private static final class FieldEntry {
+    private final int   valuePos;
+    private final OType type;
+
+    private FieldEntry(int valuePos, OType type) {
+      this.valuePos = valuePos;
+      this.type = type;
+    }
+  }
+
+  @Override
+  public void serialize(final ODocument document, final BytesContainer bytes, final boolean iClassOnly) {
+    final int size = iClassOnly ? 0 : countFields(document);
+    if (size < DIRECTORY_THRESHOLD) {
+      OVarIntSerializer.write(bytes, 0);
+      super.serialize(document, bytes, iClassOnly);
+      return;
+    }
+
+    OVarIntSerializer.write(bytes, size);
+    final int directory = bytes.alloc(size * ENTRY_SIZE);
+
+    final String[] fieldNames = new String[size];
+    final int[] headerPositions = new int[size];
+    final OClass clazz = serializeClass(document, bytes);
+    serializeFields(document, clazz, bytes, fieldNames, headerPositions);
+
+    // SORT BY HASH, THE POSITION IN THE LOWER BITS KEEPS THE ENTRIES WITH THE SAME HASH IN THE HEADER ORDER
+    final long[] entries = new long[size];
+    for (int i = 0; i < size; i++)
+      entries[i] = ((long) fieldNames[i].hashCode() << 32) | (headerPositions[i] & 0xFFFFFFFFL);
+    Arrays.sort(entries);
+
+    for (int i = 0; i < size; i++) {
+      final int pos = directory + i * ENTRY_SIZE;
+      OIntegerSerializer.INSTANCE.serializeLiteral((int) (entries[i] >>> 32), bytes.bytes, pos);
+      OIntegerSerializer.INSTANCE.serializeLiteral((int) entries[i], bytes.bytes, pos + OIntegerSerializer.INT_SIZE);
+    }
+  }
+
+  @Override
+  public void deserialize(final ODocument document, final BytesContainer bytes) {
+    skipDirectory(bytes);
+    super.deserialize(document, bytes);
+  }
+
+  @Override
+  public String[] getFieldNames(final ODocument reference, final BytesContainer bytes) {
+    skipDirectory(bytes);
+    return super.getFieldNames(reference, bytes);
+  }
+
+  @Override
+  public void deserializePartial(final ODocument document, final BytesContainer bytes, final String[] iFields) {
+    final int size = OVarIntSerializer.readAsInteger(bytes);
+    if (size == 0) {
+      super.deserializePartial(document, bytes, iFields);
+      return;
+    }
+
+    final int directory = bytes.offset;
+    bytes.skip(size * ENTRY_SIZE);
+
+    final String className = readString(bytes);
+    if (className.length() != 0)
+      ODocumentInternal.fillClassNameIfNeeded(document, className);
+
+    for (String fieldName : iFields) {
+      if (fieldName == null)
+        continue;
+
+      final FieldEntry entry = findField(bytes, directory, size, fieldName, document, null);
+      if (entry == null)
+        // FIELD NOT INCLUDED
+        continue;
+
+      if (entry.valuePos != 0) {
+        bytes.offset = entry.valuePos;
+        final Object value = deserializeValue(bytes, entry.type, document);
+        ODocumentInternal.rawField(document, fieldName, value, entry.type);
+      } else
+        ODocumentInternal.rawField(document, fieldName, null, null);
+    }
+  }
+
+  @Override
+  public OBinaryField deserializeField(final BytesContainer bytes, final OClass iClass, final String iFieldName) {
+    final int size = OVarIntSerializer.readAsInteger(bytes);
+    if (size == 0)
+      return super.deserializeField(bytes, iClass, iFieldName);
+
+    final int directory = bytes.offset;
+
+    final OMetadataInternal metadata = (OMetadataInternal) ODatabaseRecordThreadLocal.INSTANCE.get().getMetadata();
+    final FieldEntry entry = findField(bytes, directory, size, iFieldName, null, metadata.getImmutableSchemaSnapshot());
+    if (entry == null || entry.valuePos == 0)
+      return null;
+
+    if (!getComparator().isBinaryComparable(entry.type))
+      return null;
+
+    bytes.offset = entry.valuePos;
+
+    final OProperty classProp = iClass != null ? iClass.getProperty(iFieldName) : null;
+    return new OBinaryField(iFieldName, entry.type, bytes, classProp != null ? classProp.getCollate() : null);
+  }
+
+  /**
+   * Skips the directory of a record, leaving the container at the class name.
+   */
+  static void skipDirectory(final BytesContainer bytes) {
+    final int size = OVarIntSerializer.readAsInteger(bytes);
+    bytes.skip(size * ENTRY_SIZE);
+  }
+
+  /**
+   * Looks up a field with a binary search on the directory, the global properties are resolved through the document if passed,
+   * through the schema otherwise.
+   *
+   * @return the field or null if the record does not contain it
+   */
+  private FieldEntry findField(final BytesContainer bytes, final int directory, final int size, final String fieldName,
+      final ODocument document, final OImmutableSchema schema) {
+    final int hash = fieldName.hashCode();
+
+    // FIRST ENTRY WITH THE HASH
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (entryHash(bytes, directory, mid) < hash)
+        low = mid + 1;
+      else
+        high = mid;
+    }
+
+    byte[] nameBytes = null;
+    for (int i = low; i < size && entryHash(bytes, directory, i) == hash; i++) {
+      bytes.offset = OIntegerSerializer.INSTANCE
+          .deserializeLiteral(bytes.bytes, directory + i * ENTRY_SIZE + OIntegerSerializer.INT_SIZE);
+
+      final int len = OVarIntSerializer.readAsInteger(bytes);
+      if (len > 0) {
+        if (nameBytes == null)
+          nameBytes = bytesFromString(fieldName);
+
+        if (!matches(bytes, len, nameBytes))
+          continue;
+
+        bytes.skip(len);
+        final int valuePos = readInteger(bytes);
+        return new FieldEntry(valuePos, readOType(bytes));
+      } else {
+        final OGlobalProperty prop =
+            document != null ? getGlobalProperty(document, len) : schema.getGlobalPropertyById((len * -1) - 1);
+        if (!fieldName.equals(prop.getName()))
+          continue;
+
+        final int valuePos = readInteger(bytes);
+        return new FieldEntry(valuePos, prop.getType() != OType.ANY ? prop.getType() : readOType(bytes));
+      }
+    }
+
+    return null;
+  }
+
+  private static int entryHash(final BytesContainer bytes, final int directory, final int index) {
+    return OIntegerSerializer.INSTANCE.deserializeLiteral(bytes.bytes, directory + index * ENTRY_SIZE);
+  }
+
+  private static boolean matches(final BytesContainer bytes, final int len, final byte[] nameBytes) {
+    if (len != nameBytes.length)
+      return false;
+
+    for (int j = 0; j < len; ++j)
+      if (bytes.bytes[bytes.offset + j] != nameBytes[j])
+        return false;
+
+    return true;
+  }
+
+  private static int countFields(final ODocument document) {
+    int size = 0;
+    for (Map.Entry<String, ODocumentEntry> entry : ODocumentInternal.rawEntries(document))
+      if (entry.getValue().exist())
+        size++;
+
+    return size;
+  }
+}
@@ -0,0 +1,225 @@
+package com.orientechnologies.orient.core.serialization.serializer.stream;
+
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.serialization.types.OCharSerializer;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.orient.core.index.bitmap.OBitmapContainer;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALChanges;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Serializes the chunks of bitmap indexes. The cardinality of the container is followed by the sorted values if the container is
+ * kept as array, or by the words of the bitmap otherwise, so the format is implied by the cardinality.
+ */
+public class OStreamSerializerBitmapContainer implements OBinarySerializer<OBitmapContainer> {
+  public static final OStreamSerializerBitmapContainer INSTANCE = new OStreamSerializerBitmapContainer();
+  public static final byte                             ID       = 24;
+
+  private static final int VALUES_OFFSET = OIntegerSerializer.INT_SIZE;
+
+  public int getObjectSize(OBitmapContainer object, Object... hints) {
+    return serializedSize(object.getCardinality());
+  }
+
+  public void serialize(OBitmapContainer object, byte[] stream, int startPosition, Object... hints) {
+    final int cardinality = object.getCardinality();
+    OIntegerSerializer.INSTANCE.serializeLiteral(cardinality, stream, startPosition);
+
+    int position = startPosition + VALUES_OFFSET;
+    if (isArray(cardinality)) {
+      for (int i = 0; i < cardinality; i++) {
+        OCharSerializer.INSTANCE.serializeLiteral(object.getArrayValue(i), stream, position);
+        position += OCharSerializer.CHAR_SIZE;
+      }
+    } else {
+      for (int i = 0; i < OBitmapContainer.BITMAP_SIZE; i++) {
+        OLongSerializer.INSTANCE.serializeLiteral(object.getBitmapWord(i), stream, position);
+        position += OLongSerializer.LONG_SIZE;
+      }
+    }
+  }
+
+  public OBitmapContainer deserialize(byte[] stream, int startPosition) {
+    final int cardinality = OIntegerSerializer.INSTANCE.deserializeLiteral(stream, startPosition);
+
+    int position = startPosition + VALUES_OFFSET;
+    if (isArray(cardinality)) {
+      final char[] array = new char[Math.max(cardinality, 1)];
+      for (int i = 0; i < cardinality; i++) {
+        array[i] = OCharSerializer.INSTANCE.deserializeLiteral(stream, position);
+        position += OCharSerializer.CHAR_SIZE;
+      }
+
+      return new OBitmapContainer(array, cardinality);
+    }
+
+    final long[] bitmap = new long[OBitmapContainer.BITMAP_SIZE];
+    for (int i = 0; i < OBitmapContainer.BITMAP_SIZE; i++) {
+      bitmap[i] = OLongSerializer.INSTANCE.deserializeLiteral(stream, position);
+      position += OLongSerializer.LONG_SIZE;
+    }
+
+    return new OBitmapContainer(bitmap, cardinality);
+  }
+
+  public int getObjectSize(byte[] stream, int startPosition) {
+    return serializedSize(OIntegerSerializer.INSTANCE.deserializeLiteral(stream, startPosition));
+  }
+
+  public byte getId() {
+    return ID;
+  }
+
+  public int getObjectSizeNative(byte[] stream, int startPosition) {
+    return serializedSize(OIntegerSerializer.INSTANCE.deserializeNative(stream, startPosition));
+  }
+
+  public void serializeNativeObject(OBitmapContainer object, byte[] stream, int startPosition, Object... hints) {
+    final int cardinality = object.getCardinality();
+    OIntegerSerializer.INSTANCE.serializeNative(cardinality, stream, startPosition);
+
+    int position = startPosition + VALUES_OFFSET;
+    if (isArray(cardinality)) {
+      for (int i = 0; i < cardinality; i++) {
+        OCharSerializer.INSTANCE.serializeNative(object.getArrayValue(i), stream, position);
+        position += OCharSerializer.CHAR_SIZE;
+      }
+    } else {
+      for (int i = 0; i < OBitmapContainer.BITMAP_SIZE; i++) {
+        OLongSerializer.INSTANCE.serializeNative(object.getBitmapWord(i), stream, position);
+        position += OLongSerializer.LONG_SIZE;
+      }
+    }
+  }
+
+  public OBitmapContainer deserializeNativeObject(byte[] stream, int startPosition) {
+    final int cardinality = OIntegerSerializer.INSTANCE.deserializeNative(stream, startPosition);
+
+    int position = startPosition + VALUES_OFFSET;
+    if (isArray(cardinality)) {
+      final char[] array = new char[Math.max(cardinality, 1)];
+      for (int i = 0; i < cardinality; i++) {
+        array[i] = OCharSerializer.INSTANCE.deserializeNative(stream, position);
+        position += OCharSerializer.CHAR_SIZE;
+      }
+
+      return new OBitmapContainer(array, cardinality);
+    }
+
+    final long[] bitmap = new long[OBitmapContainer.BITMAP_SIZE];
+    for (int i = 0; i < OBitmapContainer.BITMAP_SIZE; i++) {
+      bitmap[i] = OLongSerializer.INSTANCE.deserializeNative(stream, position);
+      position += OLongSerializer.LONG_SIZE;
+    }
+
+    return new OBitmapContainer(bitmap, cardinality);
+  }
+
+  public boolean isFixedLength() {
+    return false;
+  }
+
+  public int getFixedLength() {
+    return 0;
+  }
+
+  @Override
+  public OBitmapContainer preprocess(OBitmapContainer value, Object... hints) {
+    return value;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void serializeInByteBufferObject(OBitmapContainer object, ByteBuffer buffer, Object... hints) {
+    final int cardinality = object.getCardinality();
+    buffer.putInt(cardinality);
+
+    if (isArray(cardinality)) {
+      for (int i = 0; i < cardinality; i++)
+        buffer.putChar(object.getArrayValue(i));
+    } else {
+      for (int i = 0; i < OBitmapContainer.BITMAP_SIZE; i++)
+        buffer.putLong(object.getBitmapWord(i));
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public OBitmapContainer deserializeFromByteBufferObject(ByteBuffer buffer) {
+    final int cardinality = buffer.getInt();
+
+    if (isArray(cardinality)) {
+      final char[] array = new char[Math.max(cardinality, 1)];
+      for (int i = 0; i < cardinality; i++)
+        array[i] = buffer.getChar();
+
+      return new OBitmapContainer(array, cardinality);
+    }
+
+    final long[] bitmap = new long[OBitmapContainer.BITMAP_SIZE];
+    for (int i = 0; i < OBitmapContainer.BITMAP_SIZE; i++)
+      bitmap[i] = buffer.getLong();
+
+    return new OBitmapContainer(bitmap, cardinality);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getObjectSizeInByteBuffer(ByteBuffer buffer) {
+    return serializedSize(buffer.getInt(buffer.position()));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public OBitmapContainer deserializeFromByteBufferObject(ByteBuffer buffer, OWALChanges walChanges, int offset) {
+    final int cardinality = walChanges.getIntValue(buffer, offset);
+
+    int position = offset + VALUES_OFFSET;
+    if (isArray(cardinality)) {
+      final char[] array = new char[Math.max(cardinality, 1)];
+      for (int i = 0; i < cardinality; i++) {
+        array[i] = (char) walChanges.getShortValue(buffer, position);
+        position += OCharSerializer.CHAR_SIZE;
+      }
+
+      return new OBitmapContainer(array, cardinality);
+    }
+
+    final long[] bitmap = new long[OBitmapContainer.BITMAP_SIZE];
+    for (int i = 0; i < OBitmapContainer.BITMAP_SIZE; i++) {
+      bitmap[i] = walChanges.getLongValue(buffer, position);
+      position += OLongSerializer.LONG_SIZE;
+    }
+
+    return new OBitmapContainer(bitmap, cardinality);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getObjectSizeInByteBuffer(ByteBuffer buffer, OWALChanges walChanges, int offset) {
+    return serializedSize(walChanges.getIntValue(buffer, offset));
+  }
+
+  private static boolean isArray(int cardinality) {
+    return cardinality <= OBitmapContainer.MAX_ARRAY_SIZE;
+  }
+
+  private static int serializedSize(int cardinality) {
+    if (isArray(cardinality))
+      return VALUES_OFFSET + cardinality * OCharSerializer.CHAR_SIZE;
+
+    return VALUES_OFFSET + OBitmapContainer.BITMAP_SIZE * OLongSerializer.LONG_SIZE;
+  }
+}
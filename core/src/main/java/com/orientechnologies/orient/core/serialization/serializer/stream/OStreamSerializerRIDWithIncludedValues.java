@@ -0,0 +1,146 @@
+package com.orientechnologies.orient.core.serialization.serializer.stream;
+
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.OContextualRecordId;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.OLinkSerializer;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OCompositeKeySerializer;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALChanges;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serializes values of indexes which have included fields. The value is the RID of the indexed record followed by the names and
+ * values of the included fields, that are taken from the context of {@link OContextualRecordId} and are written as a composite
+ * key of alternating names and values. Values without context are written with an empty list of included fields.
+ */
+public class OStreamSerializerRIDWithIncludedValues implements OBinarySerializer<OIdentifiable> {
+  public static final OStreamSerializerRIDWithIncludedValues INSTANCE = new OStreamSerializerRIDWithIncludedValues();
+  public static final byte                                   ID       = 23;
+
+  public int getObjectSize(OIdentifiable object, Object... hints) {
+    return OLinkSerializer.RID_SIZE + OCompositeKeySerializer.INSTANCE.getObjectSize(includedValues(object));
+  }
+
+  public void serialize(OIdentifiable object, byte[] stream, int startPosition, Object... hints) {
+    OLinkSerializer.INSTANCE.serialize(object.getIdentity(), stream, startPosition);
+    OCompositeKeySerializer.INSTANCE.serialize(includedValues(object), stream, startPosition + OLinkSerializer.RID_SIZE);
+  }
+
+  public OIdentifiable deserialize(byte[] stream, int startPosition) {
+    final ORID rid = OLinkSerializer.INSTANCE.deserialize(stream, startPosition);
+    return contextualRecordId(rid,
+        OCompositeKeySerializer.INSTANCE.deserialize(stream, startPosition + OLinkSerializer.RID_SIZE));
+  }
+
+  public int getObjectSize(byte[] stream, int startPosition) {
+    return OLinkSerializer.RID_SIZE + OCompositeKeySerializer.INSTANCE
+        .getObjectSize(stream, startPosition + OLinkSerializer.RID_SIZE);
+  }
+
+  public byte getId() {
+    return ID;
+  }
+
+  public int getObjectSizeNative(byte[] stream, int startPosition) {
+    return OLinkSerializer.RID_SIZE + OCompositeKeySerializer.INSTANCE
+        .getObjectSizeNative(stream, startPosition + OLinkSerializer.RID_SIZE);
+  }
+
+  public void serializeNativeObject(OIdentifiable object, byte[] stream, int startPosition, Object... hints) {
+    OLinkSerializer.INSTANCE.serializeNativeObject(object.getIdentity(), stream, startPosition);
+    OCompositeKeySerializer.INSTANCE
+        .serializeNativeObject(includedValues(object), stream, startPosition + OLinkSerializer.RID_SIZE);
+  }
+
+  public OIdentifiable deserializeNativeObject(byte[] stream, int startPosition) {
+    final OIdentifiable rid = OLinkSerializer.INSTANCE.deserializeNativeObject(stream, startPosition);
+    return contextualRecordId(rid.getIdentity(),
+        OCompositeKeySerializer.INSTANCE.deserializeNativeObject(stream, startPosition + OLinkSerializer.RID_SIZE));
+  }
+
+  public boolean isFixedLength() {
+    return false;
+  }
+
+  public int getFixedLength() {
+    return 0;
+  }
+
+  @Override
+  public OIdentifiable preprocess(OIdentifiable value, Object... hints) {
+    return value;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void serializeInByteBufferObject(OIdentifiable object, ByteBuffer buffer, Object... hints) {
+    OLinkSerializer.INSTANCE.serializeInByteBufferObject(object, buffer);
+    OCompositeKeySerializer.INSTANCE.serializeInByteBufferObject(includedValues(object), buffer);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public OIdentifiable deserializeFromByteBufferObject(ByteBuffer buffer) {
+    final OIdentifiable rid = OLinkSerializer.INSTANCE.deserializeFromByteBufferObject(buffer);
+    return contextualRecordId(rid.getIdentity(), OCompositeKeySerializer.INSTANCE.deserializeFromByteBufferObject(buffer));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getObjectSizeInByteBuffer(ByteBuffer buffer) {
+    buffer.position(buffer.position() + OLinkSerializer.RID_SIZE);
+    return OLinkSerializer.RID_SIZE + OCompositeKeySerializer.INSTANCE.getObjectSizeInByteBuffer(buffer);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public OIdentifiable deserializeFromByteBufferObject(ByteBuffer buffer, OWALChanges walChanges, int offset) {
+    final OIdentifiable rid = OLinkSerializer.INSTANCE.deserializeFromByteBufferObject(buffer, walChanges, offset);
+    return contextualRecordId(rid.getIdentity(), OCompositeKeySerializer.INSTANCE
+        .deserializeFromByteBufferObject(buffer, walChanges, offset + OLinkSerializer.RID_SIZE));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getObjectSizeInByteBuffer(ByteBuffer buffer, OWALChanges walChanges, int offset) {
+    return OLinkSerializer.RID_SIZE + OCompositeKeySerializer.INSTANCE
+        .getObjectSizeInByteBuffer(buffer, walChanges, offset + OLinkSerializer.RID_SIZE);
+  }
+
+  private static OCompositeKey includedValues(OIdentifiable object) {
+    final OCompositeKey includedValues = new OCompositeKey();
+    if (object instanceof OContextualRecordId && ((OContextualRecordId) object).getContext() != null) {
+      for (Map.Entry<String, Object> entry : ((OContextualRecordId) object).getContext().entrySet()) {
+        includedValues.addKey(entry.getKey());
+        includedValues.addKey(entry.getValue());
+      }
+    }
+
+    return includedValues;
+  }
+
+  private static OContextualRecordId contextualRecordId(ORID rid, OCompositeKey includedValues) {
+    final List<Object> keys = includedValues.getKeys();
+    final Map<String, Object> context = new LinkedHashMap<String, Object>();
+    for (int i = 0; i < keys.size(); i += 2)
+      context.put((String) keys.get(i), keys.get(i + 1));
+
+    return new OContextualRecordId(rid.getClusterId(), rid.getClusterPosition()).setContext(context);
+  }
+}
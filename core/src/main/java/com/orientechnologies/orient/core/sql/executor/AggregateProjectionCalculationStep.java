@@ -2,6 +2,7 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.sql.parser.OExpression;
 import com.orientechnologies.orient.core.sql.parser.OGroupBy;
@@ -12,15 +13,35 @@ import java.util.*;
 
 /**
  * Created by luigidellaquila on 12/07/16.
+ * <p>
+ * When the number of groups kept in memory exceeds {@link OGlobalConfiguration#QUERY_GROUP_BY_SPILL_THRESHOLD} and all the
+ * aggregations support partial states (see {@link AggregationContext#isMergeable()}), the partial aggregations are written to
+ * temporary files, partitioned by the hash of the GROUP BY key, and the aggregation goes on with an empty map. At the end each
+ * partition is loaded and its partial states are merged, so only the groups of one partition are kept in memory at a time.
  */
 public class AggregateProjectionCalculationStep extends ProjectionCalculationStep {
+  public static final String STATS_MEMORY_BUDGET  = "groupByMemoryBudget";
+  public static final String STATS_SPILLS         = "groupBySpills";
+  public static final String STATS_SPILLED_GROUPS = "groupBySpilledGroups";
+
+  private static final int PARTITIONS = 16;
+
+  private static final String SPILL_KEY    = "key";
+  private static final String SPILL_VALUES = "values";
 
   private final OGroupBy groupBy;
+  private final int      spillThreshold;
 
   //the key is the GROUP BY key, the value is the (partially) aggregated value
   private Map<List, OResultInternal> aggregateResults = new LinkedHashMap<>();
   private List<OResultInternal>      finalResults     = null;
 
+  private OResultSpillFile[] partitions;
+  private int                nextPartition = 0;
+  private Boolean            mergeable;
+  private int                spills        = 0;
+  private long               spilledGroups = 0;
+
   private int  nextItem = 0;
   private long cost     = 0;
 
@@ -28,6 +49,7 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
       boolean profilingEnabled) {
     super(projection, ctx, profilingEnabled);
     this.groupBy = groupBy;
+    this.spillThreshold = OGlobalConfiguration.QUERY_GROUP_BY_SPILL_THRESHOLD.getValueAsInteger();
   }
 
   @Override
@@ -41,15 +63,20 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
 
       @Override
       public boolean hasNext() {
-        if (localNext > nRecords || nextItem >= finalResults.size()) {
+        if (localNext > nRecords) {
           return false;
         }
+        while (nextItem >= finalResults.size()) {
+          if (!loadNextPartition(ctx)) {
+            return false;
+          }
+        }
         return true;
       }
 
       @Override
       public OResult next() {
-        if (localNext > nRecords || nextItem >= finalResults.size()) {
+        if (!hasNext()) {
           throw new IllegalStateException();
         }
         OResult result = finalResults.get(nextItem);
@@ -70,7 +97,7 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
 
       @Override
       public Map<String, Long> getQueryStats() {
-        return null;
+        return AggregateProjectionCalculationStep.this.getQueryStats();
       }
     };
   }
@@ -87,10 +114,19 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
         lastRs = prevStep.syncPull(ctx, nRecords);
       }
     }
-    finalResults = new ArrayList<>();
-    finalResults.addAll(aggregateResults.values());
+    if (partitions != null) {
+      //the groups still in memory are merged with the spilled ones, one partition at a time
+      spill();
+      finalResults = Collections.emptyList();
+      return;
+    }
+    finalResults = finalizeGroups(aggregateResults.values());
     aggregateResults.clear();
-    for (OResultInternal item : finalResults) {
+  }
+
+  private List<OResultInternal> finalizeGroups(Collection<OResultInternal> groups) {
+    List<OResultInternal> result = new ArrayList<>(groups);
+    for (OResultInternal item : result) {
       for (String name : item.getPropertyNames()) {
         Object prevVal = item.getProperty(name);
         if (prevVal instanceof AggregationContext) {
@@ -98,6 +134,113 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
         }
       }
     }
+    return result;
+  }
+
+  private boolean canSpill() {
+    if (spillThreshold <= 0 || aggregateResults.size() < spillThreshold) {
+      return false;
+    }
+    if (mergeable == null) {
+      mergeable = true;
+      OResultInternal group = aggregateResults.values().iterator().next();
+      for (String name : group.getPropertyNames()) {
+        Object value = group.getProperty(name);
+        if (value instanceof AggregationContext && !((AggregationContext) value).isMergeable()) {
+          mergeable = false;
+        }
+      }
+    }
+    return mergeable;
+  }
+
+  /**
+   * writes the partial state of the groups in memory to the partition files, the partition is chosen by the hash of the GROUP BY
+   * key, so that all the partial states of a group end up in the same partition
+   */
+  private void spill() {
+    if (partitions == null) {
+      partitions = new OResultSpillFile[PARTITIONS];
+    }
+    for (Map.Entry<List, OResultInternal> entry : aggregateResults.entrySet()) {
+      int partition = (entry.getKey().hashCode() & 0x7FFFFFFF) % PARTITIONS;
+      if (partitions[partition] == null) {
+        partitions[partition] = new OResultSpillFile("groupBy");
+      }
+
+      Map<String, Object> values = new HashMap<>();
+      OResultInternal group = entry.getValue();
+      for (String name : group.getPropertyNames()) {
+        Object value = group.getProperty(name);
+        values.put(name, value instanceof AggregationContext ? ((AggregationContext) value).getPartialState() : value);
+      }
+
+      OResultInternal state = new OResultInternal();
+      state.setProperty(SPILL_KEY, entry.getKey());
+      state.setProperty(SPILL_VALUES, values);
+      partitions[partition].write(state);
+    }
+    spills++;
+    spilledGroups += aggregateResults.size();
+    aggregateResults = new LinkedHashMap<>();
+  }
+
+  private boolean loadNextPartition(OCommandContext ctx) {
+    if (partitions == null) {
+      return false;
+    }
+    long begin = profilingEnabled ? System.nanoTime() : 0;
+    try {
+      while (nextPartition < PARTITIONS) {
+        OResultSpillFile file = partitions[nextPartition];
+        partitions[nextPartition] = null;
+        nextPartition++;
+        if (file == null) {
+          continue;
+        }
+
+        Map<List, OResultInternal> groups = new LinkedHashMap<>();
+        try {
+          while (file.hasNext()) {
+            mergeGroup(file.next(), groups, ctx);
+          }
+        } finally {
+          file.close();
+        }
+        finalResults = finalizeGroups(groups.values());
+        nextItem = 0;
+        return true;
+      }
+      return false;
+    } finally {
+      if (profilingEnabled) {
+        cost += (System.nanoTime() - begin);
+      }
+    }
+  }
+
+  private void mergeGroup(OResult state, Map<List, OResultInternal> groups, OCommandContext ctx) {
+    List key = state.getProperty(SPILL_KEY);
+    Map<String, Object> values = state.getProperty(SPILL_VALUES);
+
+    OResultInternal preAggr = groups.get(key);
+    if (preAggr == null) {
+      preAggr = new OResultInternal();
+      groups.put(key, preAggr);
+    }
+    for (OProjectionItem proj : this.projection.getItems()) {
+      String alias = proj.getProjectionAlias().getStringValue();
+      if (proj.isAggregate()) {
+        AggregationContext aggrCtx = preAggr.getProperty(alias);
+        if (aggrCtx == null) {
+          aggrCtx = proj.getAggregationContext(ctx);
+          preAggr.setProperty(alias, aggrCtx);
+        }
+        aggrCtx.mergePartialState(values.get(alias));
+      } else {
+        preAggr.setProperty(alias, values.get(alias));
+      }
+    }
   }
 
   private void aggregate(OResult next, OCommandContext ctx) {
@@ -112,6 +255,9 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
       }
       OResultInternal preAggr = aggregateResults.get(key);
       if (preAggr == null) {
+        if (canSpill()) {
+          spill();
+        }
         preAggr = new OResultInternal();
         aggregateResults.put(key, preAggr);
       }
@@ -145,11 +291,46 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
     }
     result +=
         "\n" + spaces + "      " + projection.toString() + "" + (groupBy == null ? "" : (spaces + "\n  " + groupBy.toString()));
+    if (spills > 0) {
+      result += "\n" + spaces + "  (spilled " + spilledGroups + " partial groups in " + spills + " spills)";
+    }
     return result;
   }
 
+  @Override
+  public Map<String, Long> getQueryStats() {
+    Map<String, Long> stats = new HashMap<>();
+    stats.put(STATS_MEMORY_BUDGET, (long) spillThreshold);
+    stats.put(STATS_SPILLS, (long) spills);
+    stats.put(STATS_SPILLED_GROUPS, spilledGroups);
+    return stats;
+  }
+
+  @Override
+  public void close() {
+    if (partitions != null) {
+      for (OResultSpillFile file : partitions) {
+        if (file != null) {
+          file.close();
+        }
+      }
+    }
+    super.close();
+  }
+
   @Override
   public long getCost() {
     return cost;
   }
+
+  @Override
+  public boolean canBeCached() {
+    return true;
+  }
+
+  @Override
+  public OExecutionStepInternal copy(OCommandContext ctx) {
+    return new AggregateProjectionCalculationStep(projection.copy(), groupBy == null ? null : groupBy.copy(), ctx,
+        profilingEnabled);
+  }
 }
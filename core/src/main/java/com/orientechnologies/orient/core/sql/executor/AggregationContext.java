@@ -11,4 +11,28 @@ public interface AggregationContext {
   public Object getFinalValue();
 
   void apply(OResult next, OCommandContext ctx);
+
+  /**
+   * @return true if the state of this aggregation can be extracted with {@link #getPartialState()} and merged into another
+   * context of the same aggregation with {@link #mergePartialState(Object)}
+   */
+  default boolean isMergeable() {
+    return false;
+  }
+
+  /**
+   * @return the state of the aggregation, that can be serialized as a document field
+   */
+  default Object getPartialState() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * merges the state of another context of the same aggregation, obtained with {@link #getPartialState()}, in this context
+   *
+   * @param state the state to merge
+   */
+  default void mergePartialState(Object state) {
+    throw new UnsupportedOperationException();
+  }
 }
@@ -0,0 +1,296 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexDefinition;
+import com.orientechnologies.orient.core.index.bitmap.ORidBitmap;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.sql.parser.*;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * A WHERE condition that can be evaluated only with BITMAP indexes: equality conditions on indexed fields, combined with AND, OR
+ * and AND NOT. The condition is evaluated with the algebra of the bitmaps of the keys, without loading any record.
+ */
+public class BitmapIndexCondition {
+
+  private enum Type {
+    KEY, AND, OR
+  }
+
+  private final Type type;
+
+  private final OIndex<?>   index;
+  private final OExpression value;
+
+  private final List<BitmapIndexCondition> subConditions;
+  private final List<BitmapIndexCondition> negatedConditions;
+
+  private BitmapIndexCondition(OIndex<?> index, OExpression value) {
+    this.type = Type.KEY;
+    this.index = index;
+    this.value = value;
+    this.subConditions = Collections.emptyList();
+    this.negatedConditions = Collections.emptyList();
+  }
+
+  private BitmapIndexCondition(Type type, List<BitmapIndexCondition> subConditions,
+      List<BitmapIndexCondition> negatedConditions) {
+    this.type = type;
+    this.index = null;
+    this.value = null;
+    this.subConditions = subConditions;
+    this.negatedConditions = negatedConditions;
+  }
+
+  /**
+   * translates a condition in a condition on the BITMAP indexes of a class
+   *
+   * @param condition the condition to translate
+   * @param indexes   the indexes of the class
+   *
+   * @return the translated condition, null if some part of the condition cannot be evaluated with the BITMAP indexes
+   */
+  public static BitmapIndexCondition create(OBooleanExpression condition, Set<OIndex<?>> indexes) {
+    if (condition instanceof OOrBlock) {
+      return createOr(((OOrBlock) condition).getSubBlocks(), indexes);
+    }
+    if (condition instanceof OAndBlock) {
+      return createAnd(((OAndBlock) condition).getSubBlocks(), indexes);
+    }
+    if (condition instanceof ONotBlock) {
+      //a NOT alone would need all the records of the class, it is only evaluated as AND NOT
+      return ((ONotBlock) condition).isNegate() ? null : create(((ONotBlock) condition).getSub(), indexes);
+    }
+    if (condition instanceof OParenthesisBlock) {
+      return create(((OParenthesisBlock) condition).getSubElement(), indexes);
+    }
+    if (condition instanceof OBinaryCondition) {
+      return createKey((OBinaryCondition) condition, indexes);
+    }
+    return null;
+  }
+
+  /**
+   * translates the part of an AND condition that can be evaluated with the BITMAP indexes of a class
+   *
+   * @param condition the condition to translate
+   * @param indexes   the indexes of the class
+   *
+   * @return a condition that is true for all the records that match the given condition (and maybe for some other record), null if
+   * no part of the condition can be evaluated with the BITMAP indexes
+   */
+  public static BitmapIndexCondition createPartial(OBooleanExpression condition, Set<OIndex<?>> indexes) {
+    BitmapIndexCondition result = create(condition, indexes);
+    if (result != null) {
+      return result;
+    }
+    OBooleanExpression andBlock = condition;
+    while (andBlock instanceof OOrBlock && ((OOrBlock) andBlock).getSubBlocks().size() == 1) {
+      andBlock = ((OOrBlock) andBlock).getSubBlocks().get(0);
+    }
+    if (!(andBlock instanceof OAndBlock)) {
+      return null;
+    }
+
+    List<BitmapIndexCondition> subConditions = new ArrayList<>();
+    List<BitmapIndexCondition> negatedConditions = new ArrayList<>();
+    for (OBooleanExpression block : ((OAndBlock) andBlock).getSubBlocks()) {
+      BitmapIndexCondition negated = createNegated(block, indexes);
+      if (negated != null) {
+        negatedConditions.add(negated);
+        continue;
+      }
+      BitmapIndexCondition subCondition = create(block, indexes);
+      if (subCondition != null) {
+        subConditions.add(subCondition);
+      }
+    }
+    return and(subConditions, negatedConditions);
+  }
+
+  private static BitmapIndexCondition createOr(List<OBooleanExpression> blocks, Set<OIndex<?>> indexes) {
+    if (blocks == null || blocks.isEmpty()) {
+      return null;
+    }
+    if (blocks.size() == 1) {
+      return create(blocks.get(0), indexes);
+    }
+    List<BitmapIndexCondition> subConditions = new ArrayList<>();
+    for (OBooleanExpression block : blocks) {
+      BitmapIndexCondition subCondition = create(block, indexes);
+      if (subCondition == null) {
+        return null;
+      }
+      subConditions.add(subCondition);
+    }
+    return new BitmapIndexCondition(Type.OR, subConditions, Collections.emptyList());
+  }
+
+  private static BitmapIndexCondition createAnd(List<OBooleanExpression> blocks, Set<OIndex<?>> indexes) {
+    if (blocks == null || blocks.isEmpty()) {
+      return null;
+    }
+    if (blocks.size() == 1) {
+      return create(blocks.get(0), indexes);
+    }
+    List<BitmapIndexCondition> subConditions = new ArrayList<>();
+    List<BitmapIndexCondition> negatedConditions = new ArrayList<>();
+    for (OBooleanExpression block : blocks) {
+      BitmapIndexCondition negated = createNegated(block, indexes);
+      if (negated != null) {
+        negatedConditions.add(negated);
+        continue;
+      }
+      BitmapIndexCondition subCondition = create(block, indexes);
+      if (subCondition == null) {
+        return null;
+      }
+      subConditions.add(subCondition);
+    }
+    return and(subConditions, negatedConditions);
+  }
+
+  private static BitmapIndexCondition and(List<BitmapIndexCondition> subConditions,
+      List<BitmapIndexCondition> negatedConditions) {
+    if (subConditions.isEmpty()) {
+      return null;
+    }
+    if (subConditions.size() == 1 && negatedConditions.isEmpty()) {
+      return subConditions.get(0);
+    }
+    return new BitmapIndexCondition(Type.AND, subConditions, negatedConditions);
+  }
+
+  private static BitmapIndexCondition createNegated(OBooleanExpression block, Set<OIndex<?>> indexes) {
+    if (block instanceof ONotBlock && ((ONotBlock) block).isNegate()) {
+      return create(((ONotBlock) block).getSub(), indexes);
+    }
+    return null;
+  }
+
+  private static BitmapIndexCondition createKey(OBinaryCondition condition, Set<OIndex<?>> indexes) {
+    OExpression left = condition.getLeft();
+    if (!(condition.getOperator() instanceof OEqualsCompareOperator) || !left.isBaseIdentifier() || !condition.getRight()
+        .isEarlyCalculated()) {
+      return null;
+    }
+    String fieldName = left.getDefaultAlias().getStringValue();
+    for (OIndex<?> index : indexes) {
+      OIndexDefinition definition = index.getDefinition();
+      if (OClass.INDEX_TYPE.BITMAP.toString().equals(index.getType()) && definition != null
+          && definition.getFields().size() == 1 && definition.getFields().get(0).equals(fieldName)) {
+        return new BitmapIndexCondition(index, condition.getRight());
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return the RIDs of the records that match the condition
+   */
+  public ORidBitmap execute(OCommandContext ctx) {
+    switch (type) {
+    case KEY:
+      return fetch(ctx);
+    case OR: {
+      ORidBitmap result = new ORidBitmap();
+      for (BitmapIndexCondition subCondition : subConditions) {
+        result = result.or(subCondition.execute(ctx));
+      }
+      return result;
+    }
+    default: {
+      ORidBitmap result = null;
+      for (BitmapIndexCondition subCondition : subConditions) {
+        result = result == null ? subCondition.execute(ctx) : result.and(subCondition.execute(ctx));
+        if (result.isEmpty()) {
+          return result;
+        }
+      }
+      for (BitmapIndexCondition negatedCondition : negatedConditions) {
+        result = result.andNot(negatedCondition.execute(ctx));
+        if (result.isEmpty()) {
+          return result;
+        }
+      }
+      return result;
+    }
+    }
+  }
+
+  private ORidBitmap fetch(OCommandContext ctx) {
+    Object key = value.execute((OResult) null, ctx);
+    if (key == null) {
+      //nothing is equal to null
+      return new ORidBitmap();
+    }
+    Object values = index.get(index.getDefinition().createValue(key));
+    if (values instanceof ORidBitmap) {
+      return (ORidBitmap) values;
+    }
+    //values merged with the changes of the current transaction
+    ORidBitmap result = new ORidBitmap();
+    if (values != null) {
+      for (OIdentifiable identifiable : (Collection<OIdentifiable>) values) {
+        result.add(identifiable);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @param ctx the context of the plan the copy is used by
+   */
+  public BitmapIndexCondition copy(OCommandContext ctx) {
+    if (type == Type.KEY) {
+      return new BitmapIndexCondition(OExecutionPlanCache.bindIndex(index, ctx), value.copy());
+    }
+    return new BitmapIndexCondition(type, subConditions.stream().map(x -> x.copy(ctx)).collect(Collectors.toList()),
+        negatedConditions.stream().map(x -> x.copy(ctx)).collect(Collectors.toList()));
+  }
+
+  /**
+   * @return true if all the indexes of the condition are defined on the given class, so they do not index records of other classes
+   */
+  public boolean isOnClass(String className) {
+    if (type == Type.KEY) {
+      return className.equalsIgnoreCase(index.getDefinition().getClassName());
+    }
+    return subConditions.stream().allMatch(x -> x.isOnClass(className)) && negatedConditions.stream()
+        .allMatch(x -> x.isOnClass(className));
+  }
+
+  /**
+   * @return the names of the indexes used by the condition
+   */
+  public Set<String> getIndexNames() {
+    Set<String> result = new TreeSet<>();
+    if (type == Type.KEY) {
+      result.add(index.getName());
+    }
+    subConditions.forEach(x -> result.addAll(x.getIndexNames()));
+    negatedConditions.forEach(x -> result.addAll(x.getIndexNames()));
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    switch (type) {
+    case KEY:
+      return index.getName() + " = " + value;
+    case OR:
+      return "(" + subConditions.stream().map(Object::toString).collect(Collectors.joining(" OR ")) + ")";
+    default:
+      StringBuilder result = new StringBuilder();
+      result.append(subConditions.stream().map(Object::toString).collect(Collectors.joining(" AND ")));
+      for (BitmapIndexCondition negatedCondition : negatedConditions) {
+        result.append(" AND NOT ").append(negatedCondition);
+      }
+      return "(" + result + ")";
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.metadata.security.ORole;
+import com.orientechnologies.orient.core.metadata.security.ORule;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Checks the READ permission on the clusters of records that execution steps return or count without loading them (eg. from the
+ * entries of an index). Loading a record checks the permission on its cluster, these steps have to do the same. Each cluster is
+ * checked once per execution.
+ */
+class ClusterReadCheck {
+  private final Set<Integer> readableClusters = new HashSet<>();
+
+  /**
+   * @param clusterId the cluster of a record, negative for records not saved yet, that are not checked
+   * @param ctx       the query context
+   *
+   * @throws com.orientechnologies.orient.core.exception.OSecurityAccessException if the current user cannot read the cluster
+   */
+  void check(int clusterId, OCommandContext ctx) {
+    if (clusterId < 0 || readableClusters.contains(clusterId)) {
+      return;
+    }
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    db.checkSecurity(ORule.ResourceGeneric.CLUSTER, ORole.PERMISSION_READ, db.getClusterNameById(clusterId));
+    readableClusters.add(clusterId);
+  }
+}
@@ -0,0 +1,120 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.index.bitmap.ORidBitmap;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Returns the number of records that match a condition, calculated as the cardinality of the bitmap that results from the algebra
+ * of the bitmaps of BITMAP indexes. The records are not loaded, so the READ permission on their clusters is checked here.
+ */
+public class CountFromBitmapIndexesStep extends AbstractExecutionStep {
+  private final BitmapIndexCondition condition;
+  private final String               alias;
+
+  private long cost = 0;
+
+  private boolean executed = false;
+
+  /**
+   * @param condition        the condition on the BITMAP indexes
+   * @param alias            the name of the property returned in the result-set
+   * @param ctx              the query context
+   * @param profilingEnabled true to enable the profiling of the execution (for SQL PROFILE)
+   */
+  public CountFromBitmapIndexesStep(BitmapIndexCondition condition, String alias, OCommandContext ctx,
+      boolean profilingEnabled) {
+    super(ctx, profilingEnabled);
+    this.condition = condition;
+    this.alias = alias;
+  }
+
+  @Override
+  public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
+    getPrev().ifPresent(x -> x.syncPull(ctx, nRecords));
+
+    return new OResultSet() {
+      @Override
+      public boolean hasNext() {
+        return !executed;
+      }
+
+      @Override
+      public OResult next() {
+        if (executed) {
+          throw new IllegalStateException();
+        }
+        long begin = profilingEnabled ? System.nanoTime() : 0;
+        try {
+          ORidBitmap rids = condition.execute(ctx);
+          ClusterReadCheck readCheck = new ClusterReadCheck();
+          for (int i = 0; i < rids.getChunks(); i++) {
+            readCheck.check(ORidBitmap.clusterId(rids.getChunkKey(i)), ctx);
+          }
+          long size = rids.cardinality();
+          executed = true;
+          OResultInternal result = new OResultInternal();
+          result.setProperty(alias, size);
+          return result;
+        } finally {
+          if (profilingEnabled) {
+            cost += (System.nanoTime() - begin);
+          }
+        }
+      }
+
+      @Override
+      public void close() {
+
+      }
+
+      @Override
+      public Optional<OExecutionPlan> getExecutionPlan() {
+        return null;
+      }
+
+      @Override
+      public Map<String, Long> getQueryStats() {
+        return null;
+      }
+
+      @Override
+      public void reset() {
+        CountFromBitmapIndexesStep.this.reset();
+      }
+    };
+  }
+
+  @Override
+  public void reset() {
+    executed = false;
+  }
+
+  @Override
+  public String prettyPrint(int depth, int indent) {
+    String spaces = OExecutionStepInternal.getIndent(depth, indent);
+    String result = spaces + "+ CALCULATE BITMAP CARDINALITY: " + String.join(", ", condition.getIndexNames());
+    if (profilingEnabled) {
+      result += " (" + getCostFormatted() + ")";
+    }
+    return result + "\n" + spaces + "  " + condition;
+  }
+
+  @Override
+  public long getCost() {
+    return cost;
+  }
+
+  @Override
+  public boolean canBeCached() {
+    return true;
+  }
+
+  @Override
+  public OExecutionStepInternal copy(OCommandContext ctx) {
+    return new CountFromBitmapIndexesStep(condition.copy(ctx), alias, ctx, profilingEnabled);
+  }
+}
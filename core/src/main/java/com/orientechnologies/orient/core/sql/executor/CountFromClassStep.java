@@ -104,4 +104,13 @@ public class CountFromClassStep extends AbstractExecutionStep {
     return cost;
   }
 
+  @Override
+  public boolean canBeCached() {
+    return true;
+  }
+
+  @Override
+  public OExecutionStepInternal copy(OCommandContext ctx) {
+    return new CountFromClassStep(target.copy(), alias, ctx, profilingEnabled);
+  }
 }
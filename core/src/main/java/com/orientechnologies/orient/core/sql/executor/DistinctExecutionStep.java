@@ -1,29 +1,91 @@
 package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.common.hash.OMurmurHash3;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.id.ORID;
 
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.*;
 
 /**
  * Created by luigidellaquila on 08/07/16.
+ * <p>
+ * Records are de-duplicated by RID in an {@link ORidSet}, as projections made of a single record. Other projections are
+ * de-duplicated by their binary serialization, where embedded sets and maps are written in a canonical order so equal values
+ * have equal bytes. The serialized values are kept in sets partitioned by hash and compared byte by byte, so a hash collision
+ * never discards a result. When the number of values exceeds {@link OGlobalConfiguration#QUERY_DISTINCT_SPILL_THRESHOLD}, the
+ * biggest partition is written to a temporary file and the next results that fall in that partition are appended to the file.
+ * Those results are de-duplicated and returned after the upstream is exhausted, one partition at a time. As that changes the order
+ * of the results, nothing is spilled when the upstream is sorted.
  */
 public class DistinctExecutionStep extends AbstractExecutionStep {
+  public static final String STATS_MEMORY_BUDGET     = "distinctMemoryBudget";
+  public static final String STATS_MEMORY_USAGE      = "distinctMemoryUsage";
+  public static final String STATS_SPILLED_PARTITIONS = "distinctSpilledPartitions";
+  public static final String STATS_SPILLED_RECORDS    = "distinctSpilledRecords";
 
+  private static final int    PARTITIONS   = 16;
+  private static final String DISTINCT_KEY = "$distinctKey";
+  private static final String SEEN         = "$distinctSeen";
+
+  /**
+   * key of the map that replaces an embedded set in the canonical form of a value, sets lose the order of their elements when
+   * they are serialized, lists do not
+   */
+  private static final String CANONICAL_SET = "$distinctSet";
+
+  /**
+   * approximate number of bytes used by a value in a set besides its serialization
+   */
+  private static final int KEY_OVERHEAD = 64;
+
+  private final boolean ordered;
+  private final int     spillThreshold;
+
+  ORidSet pastRids = new ORidSet();
+
+  //projections made of a single record
+  private String  ridProperty;
+  private ORidSet pastProjectedRids;
+
+  private final List<Set<DistinctKey>> keys         = new ArrayList<>(PARTITIONS);
+  private final long[]                 keysMemory   = new long[PARTITIONS];
+  private final OResultSpillFile[]     spilled      = new OResultSpillFile[PARTITIONS];
+  private       int                    keysCount;
+  private       int                    nextSpilledPartition;
+  private       Set<DistinctKey>       spilledKeys;
+  private       long                   spilledKeysMemory;
+  private       int                    spilledPartitions;
+  private       long                   spilledRecords;
+
+  //results that cannot be serialized, compared by equals()
   Set<OResult> pastItems = new HashSet<>();
-  ORidSet      pastRids  = new ORidSet();
 
   OResultSet lastResult = null;
   OResult nextValue;
+  private boolean upstreamFinished = false;
 
   private long cost = 0;
 
   public DistinctExecutionStep(OCommandContext ctx, boolean profilingEnabled) {
+    this(false, ctx, profilingEnabled);
+  }
+
+  /**
+   * @param ordered true if the upstream is sorted, so the results have to be returned in the same order and cannot be spilled
+   */
+  public DistinctExecutionStep(boolean ordered, OCommandContext ctx, boolean profilingEnabled) {
     super(ctx, profilingEnabled);
+    this.ordered = ordered;
+    this.spillThreshold = ordered ? 0 : OGlobalConfiguration.QUERY_DISTINCT_SPILL_THRESHOLD.getValueAsInteger();
+    for (int i = 0; i < PARTITIONS; i++) {
+      keys.add(new HashSet<>());
+    }
   }
 
   @Override
@@ -73,7 +135,7 @@ public class DistinctExecutionStep extends AbstractExecutionStep {
 
       @Override
       public Map<String, Long> getQueryStats() {
-        return null;
+        return DistinctExecutionStep.this.getQueryStats();
       }
     };
 
@@ -85,19 +147,22 @@ public class DistinctExecutionStep extends AbstractExecutionStep {
       if (nextValue != null) {
         return;
       }
+      if (upstreamFinished) {
+        fetchNextSpilled();
+        return;
+      }
       if (lastResult == null || !lastResult.hasNext()) {
         lastResult = getPrev().get().syncPull(ctx, nRecords);
       }
       if (lastResult == null || !lastResult.hasNext()) {
-        return;
+        upstreamFinished = true;
+        continue;
       }
       long begin = profilingEnabled ? System.nanoTime() : 0;
       try {
         nextValue = lastResult.next();
-        if (alreadyVisited(nextValue)) {
+        if (!markAsVisited(nextValue)) {
           nextValue = null;
-        } else {
-          markAsVisited(nextValue);
         }
       } finally {
         if (profilingEnabled) {
@@ -107,29 +172,267 @@ public class DistinctExecutionStep extends AbstractExecutionStep {
     }
   }
 
-  private void markAsVisited(OResult nextValue) {
+  /**
+   * @return true if the result was not visited yet and it can be returned now. False if it is a duplicate or if it was spilled
+   * to disk to be checked later
+   */
+  private boolean markAsVisited(OResult nextValue) {
     if (nextValue.isElement()) {
       ORID identity = nextValue.getElement().get().getIdentity();
-      int cluster = identity.getClusterId();
-      long pos = identity.getClusterPosition();
-      if (cluster >= 0 && pos >= 0) {
-        pastRids.add(identity);
-        return;
+      if (isPersistent(identity)) {
+        return pastRids.add(identity);
+      }
+    } else {
+      ORID identity = getProjectedRid(nextValue);
+      if (identity != null) {
+        return pastProjectedRids.add(identity);
       }
     }
-    pastItems.add(nextValue);
+
+    DistinctKey key = distinctKey(nextValue);
+    if (key == null) {
+      return pastItems.add(nextValue);
+    }
+
+    int partition = key.partition();
+    if (spilled[partition] != null) {
+      OResultInternal item = copy(nextValue);
+      item.setMetadata(DISTINCT_KEY, key.bytes);
+      spilled[partition].write(item);
+      item.removeMetadata(DISTINCT_KEY);
+      spilledRecords++;
+      return false;
+    }
+
+    if (!keys.get(partition).add(key)) {
+      return false;
+    }
+    keysMemory[partition] += key.getMemoryUsage();
+    keysCount++;
+    if (spillThreshold > 0 && keysCount > spillThreshold) {
+      spillBiggestPartition();
+    }
+    return true;
   }
 
-  private boolean alreadyVisited(OResult nextValue) {
-    if (nextValue.isElement()) {
-      ORID identity = nextValue.getElement().get().getIdentity();
-      int cluster = identity.getClusterId();
-      long pos = identity.getClusterPosition();
-      if (cluster >= 0 && pos >= 0) {
-        return pastRids.contains(identity);
+  /**
+   * @return the RID of a projection made of a single record, null if the projection is not like that
+   */
+  private ORID getProjectedRid(OResult result) {
+    Set<String> names = result.getPropertyNames();
+    if (names.size() != 1) {
+      return null;
+    }
+    String name = names.iterator().next();
+    if (ridProperty != null && !ridProperty.equals(name)) {
+      return null;
+    }
+    Object value = result.getProperty(name);
+    if (!(value instanceof OIdentifiable)) {
+      return null;
+    }
+    ORID identity = ((OIdentifiable) value).getIdentity();
+    if (!isPersistent(identity)) {
+      return null;
+    }
+    if (ridProperty == null) {
+      ridProperty = name;
+      pastProjectedRids = new ORidSet();
+    }
+    return identity;
+  }
+
+  private static boolean isPersistent(ORID identity) {
+    return identity != null && identity.getClusterId() >= 0 && identity.getClusterPosition() >= 0;
+  }
+
+  /**
+   * @return the serialization of the values of the result that are compared by {@link OResultInternal#equals(Object)}, with
+   * embedded sets and maps in canonical order, null if the result cannot be serialized
+   */
+  private static DistinctKey distinctKey(OResult result) {
+    try {
+      return new DistinctKey(serialize(result.isElement() ? result : (OResult) canonical(result)));
+    } catch (IOException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  private static byte[] serialize(OResult result) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    OResultSpillFile.writeResult(new DataOutputStream(bytes), result, false);
+    return bytes.toByteArray();
+  }
+
+  /**
+   * @return a copy of the value where properties of projections and keys of maps are sorted by name, and sets are replaced by
+   * lists of their elements sorted by serialization, so values that are equal regardless of the iteration order are serialized
+   * to the same bytes
+   */
+  private static Object canonical(Object value) throws IOException {
+    if (value instanceof OResult && !((OResult) value).isElement()) {
+      OResult result = (OResult) value;
+      OResultInternal copy = new OResultInternal();
+      for (String name : new TreeSet<>(result.getPropertyNames())) {
+        copy.setProperty(name, canonical(result.getProperty(name)));
+      }
+      return copy;
+    }
+    if (value instanceof Map) {
+      List<Map.Entry<?, ?>> entries = new ArrayList<>(((Map<?, ?>) value).entrySet());
+      entries.sort(Comparator.comparing(x -> String.valueOf(x.getKey())));
+      Map<Object, Object> copy = new LinkedHashMap<>();
+      for (Map.Entry<?, ?> entry : entries) {
+        copy.put(entry.getKey(), canonical(entry.getValue()));
+      }
+      return copy;
+    }
+    if (value instanceof List) {
+      List<Object> copy = new ArrayList<>();
+      for (Object item : (List<?>) value) {
+        copy.add(canonical(item));
+      }
+      return copy;
+    }
+    if (value instanceof Set) {
+      List<Object> items = new ArrayList<>();
+      List<byte[]> serialized = new ArrayList<>();
+      for (Object item : (Set<?>) value) {
+        Object canonicalItem = canonical(item);
+        OResultInternal holder = new OResultInternal();
+        holder.setProperty("value", canonicalItem);
+        items.add(canonicalItem);
+        serialized.add(serialize(holder));
+      }
+      Integer[] order = new Integer[items.size()];
+      for (int i = 0; i < order.length; i++) {
+        order[i] = i;
+      }
+      Arrays.sort(order, (a, b) -> compareUnsigned(serialized.get(a), serialized.get(b)));
+      List<Object> sorted = new ArrayList<>();
+      for (int i : order) {
+        sorted.add(items.get(i));
       }
+      return Collections.singletonMap(CANONICAL_SET, sorted);
     }
-    return pastItems.contains(nextValue);
+    return value;
+  }
+
+  private static int compareUnsigned(byte[] a, byte[] b) {
+    for (int i = 0; i < a.length && i < b.length; i++) {
+      int result = Integer.compare(a[i] & 0xFF, b[i] & 0xFF);
+      if (result != 0) {
+        return result;
+      }
+    }
+    return Integer.compare(a.length, b.length);
+  }
+
+  private void spillBiggestPartition() {
+    int partition = -1;
+    for (int i = 0; i < PARTITIONS; i++) {
+      if (spilled[i] == null && (partition < 0 || keys.get(i).size() > keys.get(partition).size())) {
+        partition = i;
+      }
+    }
+    if (partition < 0) {
+      return;
+    }
+
+    OResultSpillFile file = new OResultSpillFile("distinct");
+    spilled[partition] = file;
+    //the results already returned are written as keys only, to discard their duplicates later
+    for (DistinctKey key : keys.get(partition)) {
+      OResultInternal seen = new OResultInternal();
+      seen.setMetadata(DISTINCT_KEY, key.bytes);
+      seen.setMetadata(SEEN, true);
+      file.write(seen);
+    }
+    keysCount -= keys.get(partition).size();
+    keys.set(partition, new HashSet<>());
+    keysMemory[partition] = 0;
+    spilledPartitions++;
+  }
+
+  private void fetchNextSpilled() {
+    long begin = profilingEnabled ? System.nanoTime() : 0;
+    try {
+      while (nextSpilledPartition < PARTITIONS) {
+        OResultSpillFile file = spilled[nextSpilledPartition];
+        if (file == null) {
+          nextSpilledPartition++;
+          continue;
+        }
+        if (spilledKeys == null) {
+          spilledKeys = new HashSet<>();
+          spilledKeysMemory = 0;
+        }
+        while (file.hasNext()) {
+          OResultInternal item = (OResultInternal) file.next();
+          DistinctKey key = new DistinctKey((byte[]) item.getMetadata(DISTINCT_KEY));
+          boolean added = spilledKeys.add(key);
+          if (added) {
+            spilledKeysMemory += key.getMemoryUsage();
+          }
+          if (added && item.getMetadata(SEEN) == null) {
+            item.removeMetadata(DISTINCT_KEY);
+            nextValue = item;
+            return;
+          }
+        }
+        file.close();
+        spilled[nextSpilledPartition] = null;
+        spilledKeys = null;
+        spilledKeysMemory = 0;
+        nextSpilledPartition++;
+      }
+    } finally {
+      if (profilingEnabled) {
+        cost += (System.nanoTime() - begin);
+      }
+    }
+  }
+
+  private static OResultInternal copy(OResult result) {
+    if (result instanceof OResultInternal) {
+      return (OResultInternal) result;
+    }
+    OResultInternal copy = new OResultInternal();
+    if (result.isElement()) {
+      copy.setElement(result.getElement().get());
+    } else {
+      for (String name : result.getPropertyNames()) {
+        copy.setProperty(name, result.getProperty(name));
+      }
+    }
+    for (String key : result.getMetadataKeys()) {
+      copy.setMetadata(key, result.getMetadata(key));
+    }
+    return copy;
+  }
+
+  /**
+   * @return the approximate number of bytes used to remember the results already returned
+   */
+  public long getMemoryUsage() {
+    long result = pastRids.getMemoryUsage();
+    if (pastProjectedRids != null) {
+      result += pastProjectedRids.getMemoryUsage();
+    }
+    for (long memory : keysMemory) {
+      result += memory;
+    }
+    return result + spilledKeysMemory;
+  }
+
+  @Override
+  public Map<String, Long> getQueryStats() {
+    Map<String, Long> stats = new HashMap<>();
+    stats.put(STATS_MEMORY_BUDGET, (long) spillThreshold);
+    stats.put(STATS_MEMORY_USAGE, getMemoryUsage());
+    stats.put(STATS_SPILLED_PARTITIONS, (long) spilledPartitions);
+    stats.put(STATS_SPILLED_RECORDS, spilledRecords);
+    return stats;
   }
 
   @Override
@@ -139,6 +442,12 @@ public class DistinctExecutionStep extends AbstractExecutionStep {
 
   @Override
   public void close() {
+    for (int i = 0; i < PARTITIONS; i++) {
+      if (spilled[i] != null) {
+        spilled[i].close();
+        spilled[i] = null;
+      }
+    }
     prev.ifPresent(x -> x.close());
   }
 
@@ -146,7 +455,11 @@ public class DistinctExecutionStep extends AbstractExecutionStep {
   public String prettyPrint(int depth, int indent) {
     String result = OExecutionStepInternal.getIndent(depth, indent) + "+ DISTINCT";
     if (profilingEnabled) {
-      result += " (" + getCostFormatted() + ")";
+      result += " (" + getCostFormatted() + ", " + getMemoryUsage() / 1024 + "KB)";
+    }
+    if (spilledPartitions > 0) {
+      result += "\n" + OExecutionStepInternal.getIndent(depth, indent) + "  (spilled " + spilledRecords + " results in "
+          + spilledPartitions + " partitions)";
     }
     return result;
   }
@@ -155,4 +468,56 @@ public class DistinctExecutionStep extends AbstractExecutionStep {
   public long getCost() {
     return cost;
   }
+
+  @Override
+  public boolean canBeCached() {
+    return true;
+  }
+
+  @Override
+  public OExecutionStepInternal copy(OCommandContext ctx) {
+    return new DistinctExecutionStep(ordered, ctx, profilingEnabled);
+  }
+
+  /**
+   * serialized values of a result, compared byte by byte
+   */
+  static final class DistinctKey {
+    private final byte[] bytes;
+    private final long   hash;
+
+    DistinctKey(byte[] bytes) {
+      this(bytes, OMurmurHash3.murmurHash3_x64_64(bytes, 0x9747b28c));
+    }
+
+    DistinctKey(byte[] bytes, long hash) {
+      this.bytes = bytes;
+      this.hash = hash;
+    }
+
+    private int partition() {
+      return (int) (hash >>> 60);
+    }
+
+    private long getMemoryUsage() {
+      return bytes.length + KEY_OVERHEAD;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof DistinctKey)) {
+        return false;
+      }
+      DistinctKey other = (DistinctKey) obj;
+      return hash == other.hash && Arrays.equals(bytes, other.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+      return (int) (hash ^ (hash >>> 32));
+    }
+  }
 }
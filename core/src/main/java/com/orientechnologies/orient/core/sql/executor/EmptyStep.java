@@ -17,4 +17,13 @@ public class EmptyStep extends AbstractExecutionStep {
     return result;
   }
 
+  @Override
+  public boolean canBeCached() {
+    return true;
+  }
+
+  @Override
+  public OExecutionStepInternal copy(OCommandContext ctx) {
+    return new EmptyStep(ctx, profilingEnabled);
+  }
 }
@@ -175,4 +175,14 @@ public class ExpandStep extends AbstractExecutionStep {
   public long getCost() {
     return cost;
   }
+
+  @Override
+  public boolean canBeCached() {
+    return true;
+  }
+
+  @Override
+  public OExecutionStepInternal copy(OCommandContext ctx) {
+    return new ExpandStep(ctx, profilingEnabled);
+  }
 }
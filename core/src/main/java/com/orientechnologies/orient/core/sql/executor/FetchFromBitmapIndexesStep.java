@@ -0,0 +1,132 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Evaluates a condition with the algebra of the bitmaps of BITMAP indexes and loads the records that match it, in RID order
+ */
+public class FetchFromBitmapIndexesStep extends AbstractExecutionStep {
+  private final BitmapIndexCondition condition;
+
+  private Iterator<OIdentifiable> iterator;
+  private OResult                 nextResult = null;
+
+  private long cost = 0;
+
+  public FetchFromBitmapIndexesStep(BitmapIndexCondition condition, OCommandContext ctx, boolean profilingEnabled) {
+    super(ctx, profilingEnabled);
+    this.condition = condition;
+  }
+
+  @Override
+  public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
+    getPrev().ifPresent(x -> x.syncPull(ctx, nRecords));
+    if (iterator == null) {
+      long begin = profilingEnabled ? System.nanoTime() : 0;
+      try {
+        iterator = condition.execute(ctx).iterator();
+      } finally {
+        if (profilingEnabled) {
+          cost += (System.nanoTime() - begin);
+        }
+      }
+    }
+    return new OResultSet() {
+      int internalNext = 0;
+
+      private void fetchNext() {
+        long begin = profilingEnabled ? System.nanoTime() : 0;
+        try {
+          while (iterator.hasNext()) {
+            OIdentifiable nextDoc = (OIdentifiable) ctx.getDatabase().load(iterator.next().getIdentity());
+            if (nextDoc == null) {
+              continue;
+            }
+            nextResult = new OResultInternal();
+            ((OResultInternal) nextResult).setElement(nextDoc);
+            return;
+          }
+        } finally {
+          if (profilingEnabled) {
+            cost += (System.nanoTime() - begin);
+          }
+        }
+      }
+
+      @Override
+      public boolean hasNext() {
+        if (internalNext >= nRecords) {
+          return false;
+        }
+        if (nextResult == null) {
+          fetchNext();
+        }
+        return nextResult != null;
+      }
+
+      @Override
+      public OResult next() {
+        if (!hasNext()) {
+          throw new IllegalStateException();
+        }
+
+        internalNext++;
+        OResult result = nextResult;
+        nextResult = null;
+        return result;
+      }
+
+      @Override
+      public void close() {
+
+      }
+
+      @Override
+      public Optional<OExecutionPlan> getExecutionPlan() {
+        return null;
+      }
+
+      @Override
+      public Map<String, Long> getQueryStats() {
+        return null;
+      }
+    };
+  }
+
+  @Override
+  public void reset() {
+    iterator = null;
+    nextResult = null;
+  }
+
+  @Override
+  public String prettyPrint(int depth, int indent) {
+    String spaces = OExecutionStepInternal.getIndent(depth, indent);
+    String result = spaces + "+ FETCH FROM BITMAP INDEXES " + String.join(", ", condition.getIndexNames());
+    if (profilingEnabled) {
+      result += " (" + getCostFormatted() + ")";
+    }
+    return result + "\n" + spaces + "  " + condition;
+  }
+
+  @Override
+  public long getCost() {
+    return cost;
+  }
+
+  @Override
+  public boolean canBeCached() {
+    return true;
+  }
+
+  @Override
+  public OExecutionStepInternal copy(OCommandContext ctx) {
+    return new FetchFromBitmapIndexesStep(condition.copy(ctx), ctx, profilingEnabled);
+  }
+}
@@ -80,6 +80,16 @@ public class FetchFromClassExecutionStep extends AbstractExecutionStep {
     }
   }
 
+  private FetchFromClassExecutionStep(FetchFromClassExecutionStep copyFrom, OCommandContext ctx) {
+    super(ctx, copyFrom.profilingEnabled);
+    this.className = copyFrom.className;
+    this.orderByRidAsc = copyFrom.orderByRidAsc;
+    this.orderByRidDesc = copyFrom.orderByRidDesc;
+    for (OExecutionStep step : copyFrom.subSteps) {
+      this.subSteps.add(((OExecutionStepInternal) step).copy(ctx));
+    }
+  }
+
   private void sortClusers(int[] clusterIds) {
     if (orderByRidAsc) {
       Arrays.sort(clusterIds);
@@ -234,5 +244,19 @@ public class FetchFromClassExecutionStep extends AbstractExecutionStep {
   public List<OExecutionStep> getSubSteps() {
     return subSteps;
   }
-}
 
+  @Override
+  public boolean canBeCached() {
+    for (OExecutionStep step : subSteps) {
+      if (!((OExecutionStepInternal) step).canBeCached()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public OExecutionStepInternal copy(OCommandContext ctx) {
+    return new FetchFromClassExecutionStep(this, ctx);
+  }
+}
@@ -172,4 +172,16 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
       throw new OCommandExecutionException("");
     }
   }
+
+  @Override
+  public boolean canBeCached() {
+    return true;
+  }
+
+  @Override
+  public OExecutionStepInternal copy(OCommandContext ctx) {
+    FetchFromClusterExecutionStep copy = new FetchFromClusterExecutionStep(clusterId, ctx, profilingEnabled);
+    copy.order = order;
+    return copy;
+  }
 }
@@ -47,6 +47,16 @@ public class FetchFromClustersExecutionStep extends AbstractExecutionStep {
     }
   }
 
+  private FetchFromClustersExecutionStep(FetchFromClustersExecutionStep copyFrom, OCommandContext ctx) {
+    super(ctx, copyFrom.profilingEnabled);
+    this.orderByRidAsc = copyFrom.orderByRidAsc;
+    this.orderByRidDesc = copyFrom.orderByRidDesc;
+    this.subSteps = new ArrayList<>();
+    for (OExecutionStep step : copyFrom.subSteps) {
+      this.subSteps.add(((OExecutionStepInternal) step).copy(ctx));
+    }
+  }
+
   private void sortClusers(int[] clusterIds) {
     if (orderByRidAsc) {
       Arrays.sort(clusterIds);
@@ -197,4 +207,19 @@ public class FetchFromClustersExecutionStep extends AbstractExecutionStep {
       throw new OCommandExecutionException("");
     }
   }
+
+  @Override
+  public boolean canBeCached() {
+    for (OExecutionStep step : subSteps) {
+      if (!((OExecutionStepInternal) step).canBeCached()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public OExecutionStepInternal copy(OCommandContext ctx) {
+    return new FetchFromClustersExecutionStep(this, ctx);
+  }
 }
@@ -12,6 +12,7 @@ import com.orientechnologies.orient.core.index.OCompositeKey;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.index.OIndexCursor;
 import com.orientechnologies.orient.core.index.OIndexDefinition;
+import com.orientechnologies.orient.core.index.OIndexTxAware;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.sql.parser.*;
 
@@ -178,6 +179,9 @@ public class FetchFromIndexStep extends AbstractExecutionStep {
     long begin = profilingEnabled ? System.nanoTime() : 0;
     if (index == null) {
       index = db.getMetadata().getIndexManager().getIndex(indexName);
+    } else if (index instanceof OIndexTxAware && ((OIndexTxAware) index).getDatabase() != db) {
+      //the plan is executed by another session (eg. a parallel sub-plan), the index has to see its transaction
+      index = db.getMetadata().getIndexManager().getIndex(index.getName());
     }
     try {
       if (index.getDefinition() == null) {
@@ -587,4 +591,15 @@ public class FetchFromIndexStep extends AbstractExecutionStep {
       throw new OCommandExecutionException("");
     }
   }
+
+  @Override
+  public boolean canBeCached() {
+    return true;
+  }
+
+  @Override
+  public OExecutionStepInternal copy(OCommandContext ctx) {
+    return new FetchFromIndexStep(OExecutionPlanCache.bindIndex(index, ctx), condition == null ? null : condition.copy(),
+        additionalRangeCondition == null ? null : additionalRangeCondition.copy(), orderAsc, ctx, profilingEnabled);
+  }
 }
@@ -47,4 +47,13 @@ public class FetchFromIndexValuesStep extends FetchFromIndexStep {
     }
   }
 
-}
\ No newline at end of file
+  @Override
+  public boolean canBeCached() {
+    return true;
+  }
+
+  @Override
+  public OExecutionStepInternal copy(OCommandContext ctx) {
+    return new FetchFromIndexValuesStep(OExecutionPlanCache.bindIndex(index, ctx), asc, ctx, profilingEnabled);
+  }
+}
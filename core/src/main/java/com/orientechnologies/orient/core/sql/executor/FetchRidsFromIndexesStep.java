@@ -0,0 +1,289 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.exception.OCommandInterruptedException;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.bitmap.ORidBitmap;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Fetches the RIDs that match the key conditions of several indexes and returns their intersection (for an AND of conditions on
+ * different indexes) or their union (for an OR of conditions), as index entries with the "rid" property, in RID order and without
+ * duplicates.
+ * <p>
+ * The RIDs of the first index are collected in an {@link ORidBitmap}, the RIDs of the next indexes are probed against it for an
+ * intersection or added to it for an union, so no record is loaded before the result is known.
+ * <p>
+ * If {@link OGlobalConfiguration#QUERY_PARALLEL_SUB_PLANS} is enabled, the RIDs of every index are fetched concurrently, each
+ * index in its own database session, and the resulting bitmaps are merged at the end.
+ */
+public class FetchRidsFromIndexesStep extends AbstractExecutionStep {
+  private static final int BATCH_SIZE = 1000;
+
+  private final List<IndexSearchDescriptor> descriptors;
+  private final boolean                     union;
+  /**
+   * number of entries fetched from every index, estimated at planning time (-1 if unknown)
+   */
+  private final long[]                      estimates;
+  private final long                        estimate;
+
+  private Iterator<OIdentifiable> iterator;
+
+  /**
+   * set when the intersection is known to be empty, to stop the concurrent fetches of the other indexes
+   */
+  private volatile boolean cancelled = false;
+
+  private long cost = 0;
+
+  /**
+   * @param descriptors the indexes and their key conditions, intersected in this order
+   * @param union       true to return the union of the RIDs, false to return their intersection
+   * @param estimates   the number of entries of every index, estimated at planning time (-1 if unknown)
+   * @param estimate    the number of RIDs returned, estimated at planning time (-1 if unknown)
+   */
+  public FetchRidsFromIndexesStep(List<IndexSearchDescriptor> descriptors, boolean union, long[] estimates, long estimate,
+      OCommandContext ctx, boolean profilingEnabled) {
+    super(ctx, profilingEnabled);
+    this.descriptors = descriptors;
+    this.union = union;
+    this.estimates = estimates;
+    this.estimate = estimate;
+  }
+
+  @Override
+  public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
+    getPrev().ifPresent(x -> x.syncPull(ctx, nRecords));
+    if (iterator == null) {
+      long begin = profilingEnabled ? System.nanoTime() : 0;
+      try {
+        iterator = (canFetchConcurrently(ctx) ? fetchRidsConcurrently(ctx) : fetchRids(ctx)).iterator();
+      } finally {
+        if (profilingEnabled) {
+          cost += (System.nanoTime() - begin);
+        }
+      }
+    }
+    return new OResultSet() {
+      int localCount = 0;
+
+      @Override
+      public boolean hasNext() {
+        return localCount < nRecords && iterator.hasNext();
+      }
+
+      @Override
+      public OResult next() {
+        if (!hasNext()) {
+          throw new IllegalStateException();
+        }
+        localCount++;
+        OResultInternal result = new OResultInternal();
+        result.setProperty("rid", iterator.next());
+        return result;
+      }
+
+      @Override
+      public void close() {
+
+      }
+
+      @Override
+      public Optional<OExecutionPlan> getExecutionPlan() {
+        return null;
+      }
+
+      @Override
+      public Map<String, Long> getQueryStats() {
+        return null;
+      }
+    };
+  }
+
+  private ORidBitmap fetchRids(OCommandContext ctx) {
+    ORidBitmap result = null;
+    for (IndexSearchDescriptor desc : descriptors) {
+      FetchFromIndexStep fetcher = new FetchFromIndexStep(desc.idx, desc.keyCondition, desc.additionalRangeCondition, ctx,
+          profilingEnabled);
+      if (result == null) {
+        result = new ORidBitmap();
+        addRids(fetcher, null, result, ctx);
+      } else if (union) {
+        addRids(fetcher, null, result, ctx);
+      } else {
+        ORidBitmap intersection = new ORidBitmap();
+        addRids(fetcher, result, intersection, ctx);
+        result = intersection;
+      }
+      if (!union && result.isEmpty()) {
+        break;
+      }
+    }
+    return result;
+  }
+
+  private boolean canFetchConcurrently(OCommandContext ctx) {
+    if (descriptors.size() < 2 || ParallelExecStep.isWorkerThread()) {
+      return false;
+    }
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    if (db == null || !db.getConfiguration().getValueAsBoolean(OGlobalConfiguration.QUERY_PARALLEL_SUB_PLANS)) {
+      return false;
+    }
+    //other sessions cannot see the changes of current transaction
+    return !db.getTransaction().isActive();
+  }
+
+  private ORidBitmap fetchRidsConcurrently(OCommandContext ctx) {
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    ExecutorService executor = db.getSharedContext().getParallelQueryExecutor();
+    List<Future<ORidBitmap>> fetches = new ArrayList<>();
+    try {
+      for (IndexSearchDescriptor desc : descriptors) {
+        //the copy of the database has to be created by the thread that owns the session
+        ODatabaseDocumentInternal localDatabase = db.copy();
+        OCommandContext localCtx = ParallelExecStep.createSubPlanContext(ctx, localDatabase);
+        fetches.add(executor.submit(() -> fetchRids(desc, localCtx, localDatabase)));
+      }
+    } finally {
+      db.activateOnCurrentThread();
+    }
+
+    ORidBitmap result = null;
+    Throwable error = null;
+    //unless this thread is interrupted, all the fetches are waited for, so that no session is still open when this step returns
+    for (Future<ORidBitmap> fetch : fetches) {
+      try {
+        ORidBitmap rids = fetch.get();
+        if (error != null || cancelled) {
+          continue;
+        }
+        if (result == null) {
+          result = rids;
+        } else {
+          result = union ? result.or(rids) : result.and(rids);
+        }
+        if (!union && result.isEmpty()) {
+          cancelled = true;
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        cancelled = true;
+        error = OException.wrapException(new OCommandInterruptedException("Fetch of RIDs from indexes was interrupted"), e);
+        break;
+      } catch (ExecutionException e) {
+        cancelled = true;
+        if (error == null) {
+          error = e.getCause();
+        }
+      }
+    }
+
+    if (error instanceof RuntimeException) {
+      throw (RuntimeException) error;
+    }
+    if (error != null) {
+      throw OException.wrapException(new OCommandExecutionException("Error on fetch of RIDs from indexes"), error);
+    }
+    return result;
+  }
+
+  /**
+   * fetches the RIDs of an index in the given database session, that is closed at the end
+   */
+  private ORidBitmap fetchRids(IndexSearchDescriptor desc, OCommandContext localCtx, ODatabaseDocumentInternal localDatabase) {
+    localDatabase.activateOnCurrentThread();
+    try {
+      FetchFromIndexStep fetcher = new FetchFromIndexStep(OExecutionPlanCache.bindIndex(desc.idx, localCtx),
+          desc.keyCondition == null ? null : desc.keyCondition.copy(),
+          desc.additionalRangeCondition == null ? null : desc.additionalRangeCondition.copy(), localCtx, profilingEnabled);
+      ORidBitmap result = new ORidBitmap();
+      addRids(fetcher, null, result, localCtx);
+      return result;
+    } finally {
+      localDatabase.close();
+    }
+  }
+
+  /**
+   * adds the RIDs fetched from an index to a bitmap
+   *
+   * @param filter if not null, only the RIDs contained in it are added
+   */
+  private void addRids(FetchFromIndexStep fetcher, ORidBitmap filter, ORidBitmap target, OCommandContext ctx) {
+    while (!cancelled) {
+      OResultSet block = fetcher.syncPull(ctx, BATCH_SIZE);
+      if (!block.hasNext()) {
+        return;
+      }
+      while (block.hasNext()) {
+        OIdentifiable rid = block.next().getProperty("rid");
+        if (rid != null && (filter == null || filter.contains(rid))) {
+          target.add(rid);
+        }
+      }
+    }
+  }
+
+  @Override
+  public void reset() {
+    iterator = null;
+    cancelled = false;
+  }
+
+  @Override
+  public String prettyPrint(int depth, int indent) {
+    String spaces = OExecutionStepInternal.getIndent(depth, indent);
+    StringBuilder result = new StringBuilder();
+    result.append(spaces).append("+ FETCH FROM INDEXES, ").append(union ? "UNION" : "INTERSECTION").append(" OF RIDS");
+    if (estimate >= 0) {
+      result.append(" (estimated ").append(estimate).append(" records)");
+    }
+    if (profilingEnabled) {
+      result.append(" (").append(getCostFormatted()).append(")");
+    }
+    for (int i = 0; i < descriptors.size(); i++) {
+      IndexSearchDescriptor desc = descriptors.get(i);
+      result.append("\n").append(spaces).append("  ").append(desc.idx.getName()).append(" ").append(desc.keyCondition);
+      if (desc.additionalRangeCondition != null) {
+        result.append(" and ").append(desc.additionalRangeCondition);
+      }
+      if (estimates[i] >= 0) {
+        result.append(" (estimated ").append(estimates[i]).append(" entries)");
+      }
+    }
+    return result.toString();
+  }
+
+  @Override
+  public long getCost() {
+    return cost;
+  }
+
+  @Override
+  public boolean canBeCached() {
+    return true;
+  }
+
+  @Override
+  public OExecutionStepInternal copy(OCommandContext ctx) {
+    List<IndexSearchDescriptor> descriptorsCopy = new ArrayList<>();
+    for (IndexSearchDescriptor desc : descriptors) {
+      OIndex<?> index = OExecutionPlanCache.bindIndex(desc.idx, ctx);
+      descriptorsCopy.add(new IndexSearchDescriptor(index, desc.keyCondition == null ? null : desc.keyCondition.copy(),
+          desc.additionalRangeCondition == null ? null : desc.additionalRangeCondition.copy(), null));
+    }
+    return new FetchRidsFromIndexesStep(descriptorsCopy, union, estimates, estimate, ctx, profilingEnabled);
+  }
+}
@@ -207,4 +207,16 @@ public class FetchTemporaryFromTxStep extends AbstractExecutionStep {
       throw new OCommandExecutionException("");
     }
   }
+
+  @Override
+  public boolean canBeCached() {
+    return true;
+  }
+
+  @Override
+  public OExecutionStepInternal copy(OCommandContext ctx) {
+    FetchTemporaryFromTxStep copy = new FetchTemporaryFromTxStep(ctx, className, profilingEnabled);
+    copy.order = order;
+    return copy;
+  }
 }
@@ -141,4 +141,14 @@ public class FilterByClassStep extends AbstractExecutionStep {
       throw new OCommandExecutionException("");
     }
   }
-}
\ No newline at end of file
+
+  @Override
+  public boolean canBeCached() {
+    return true;
+  }
+
+  @Override
+  public OExecutionStepInternal copy(OCommandContext ctx) {
+    return new FilterByClassStep(identifier.copy(), ctx, profilingEnabled);
+  }
+}
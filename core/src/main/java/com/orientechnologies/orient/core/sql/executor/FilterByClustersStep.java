@@ -155,4 +155,13 @@ public class FilterByClustersStep extends AbstractExecutionStep {
     }
   }
 
-}
\ No newline at end of file
+  @Override
+  public boolean canBeCached() {
+    return true;
+  }
+
+  @Override
+  public OExecutionStepInternal copy(OCommandContext ctx) {
+    return new FilterByClustersStep(clusters, ctx, profilingEnabled);
+  }
+}
@@ -141,4 +141,13 @@ public class FilterStep extends AbstractExecutionStep {
     }
   }
 
+  @Override
+  public boolean canBeCached() {
+    return true;
+  }
+
+  @Override
+  public OExecutionStepInternal copy(OCommandContext ctx) {
+    return new FilterStep(whereClause.copy(), ctx, profilingEnabled);
+  }
 }
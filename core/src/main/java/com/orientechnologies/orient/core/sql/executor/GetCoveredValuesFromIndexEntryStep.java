@@ -0,0 +1,111 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.OContextualRecordId;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Builds the results from the keys of the index entries and from the values of the fields included in the index, without loading
+ * the records. Entries that do not carry included values (eg. changes of the current transaction) are resolved loading the
+ * record. As the records are not loaded, the READ permission on their clusters is checked here.
+ */
+public class GetCoveredValuesFromIndexEntryStep extends AbstractExecutionStep {
+  /**
+   * names of the fields of the key, by position in the key, null for the parts of the key that do not hold a field value (eg.
+   * collated values or map keys)
+   */
+  private final List<String> keyFields;
+
+  private final ClusterReadCheck readCheck = new ClusterReadCheck();
+
+  public GetCoveredValuesFromIndexEntryStep(List<String> keyFields, OCommandContext ctx, boolean profilingEnabled) {
+    super(ctx, profilingEnabled);
+    this.keyFields = keyFields;
+  }
+
+  @Override
+  public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
+    OResultSet upstream = getPrev().get().syncPull(ctx, nRecords);
+    return new OResultSet() {
+      @Override
+      public boolean hasNext() {
+        return upstream.hasNext();
+      }
+
+      @Override
+      public OResult next() {
+        OResult val = upstream.next();
+        Object finalVal = val.getProperty("rid");
+        if (finalVal instanceof OContextualRecordId && ((OContextualRecordId) finalVal).getContext() != null) {
+          readCheck.check(((OContextualRecordId) finalVal).getClusterId(), ctx);
+          OResultInternal res = new OResultInternal();
+          setKeyFields(res, val.getProperty("key"));
+          for (Map.Entry<String, Object> includedValue : ((OContextualRecordId) finalVal).getContext().entrySet()) {
+            res.setProperty(includedValue.getKey(), includedValue.getValue());
+          }
+          return res;
+        } else if (finalVal instanceof OIdentifiable) {
+          OResultInternal res = new OResultInternal();
+          res.setElement((OIdentifiable) finalVal);
+          return res;
+        } else if (finalVal instanceof OResult) {
+          return (OResult) finalVal;
+        }
+        throw new IllegalStateException();
+      }
+
+      @Override
+      public void close() {
+
+      }
+
+      @Override
+      public Optional<OExecutionPlan> getExecutionPlan() {
+        return null;
+      }
+
+      @Override
+      public Map<String, Long> getQueryStats() {
+        return null;
+      }
+    };
+  }
+
+  private void setKeyFields(OResultInternal res, Object key) {
+    if (keyFields.size() == 1) {
+      if (keyFields.get(0) != null) {
+        res.setProperty(keyFields.get(0), key);
+      }
+    } else if (key instanceof OCompositeKey) {
+      List<Object> keys = ((OCompositeKey) key).getKeys();
+      for (int i = 0; i < keyFields.size() && i < keys.size(); i++) {
+        if (keyFields.get(i) != null) {
+          res.setProperty(keyFields.get(i), keys.get(i));
+        }
+      }
+    }
+  }
+
+  @Override
+  public String prettyPrint(int depth, int indent) {
+    String spaces = OExecutionStepInternal.getIndent(depth, indent);
+    return spaces + "+ EXTRACT COVERED VALUES FROM INDEX ENTRY (NO RECORD LOADING)";
+  }
+
+  @Override
+  public boolean canBeCached() {
+    return true;
+  }
+
+  @Override
+  public OExecutionStepInternal copy(OCommandContext ctx) {
+    return new GetCoveredValuesFromIndexEntryStep(new ArrayList<>(keyFields), ctx, profilingEnabled);
+  }
+}
@@ -3,10 +3,11 @@ package com.orientechnologies.orient.core.sql.executor;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.index.OIndex;
-import com.orientechnologies.orient.core.sql.parser.OAndBlock;
-import com.orientechnologies.orient.core.sql.parser.OBinaryCompareOperator;
-import com.orientechnologies.orient.core.sql.parser.OBinaryCondition;
-import com.orientechnologies.orient.core.sql.parser.OBooleanExpression;
+import com.orientechnologies.orient.core.index.OIndexDefinition;
+import com.orientechnologies.orient.core.index.OIndexStatistics;
+import com.orientechnologies.orient.core.sql.parser.*;
+
+import java.util.List;
 
 /**
  * Created by luigidellaquila on 26/07/16.
@@ -17,6 +18,12 @@ public class IndexSearchDescriptor {
   protected OBinaryCondition   additionalRangeCondition;
   protected OBooleanExpression remainingCondition;
 
+  /**
+   * true if the last estimate from statistics evaluated the keys of the condition while the statement has input parameters, so
+   * it can change from one execution to another
+   */
+  private boolean parametricEstimate;
+
   public IndexSearchDescriptor(OIndex idx, OAndBlock keyCondition, OBinaryCondition additional,
       OBooleanExpression remainingCondition) {
     this.idx = idx;
@@ -30,6 +37,11 @@ public class IndexSearchDescriptor {
   }
 
   public int cost(OCommandContext ctx) {
+    long estimate = estimateFromStatistics(ctx);
+    if (estimate >= 0) {
+      return estimate > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) estimate;
+    }
+
     OQueryStats stats = OQueryStats.get((ODatabaseDocumentInternal) ctx.getDatabase());
 
     String indexName = idx.getName();
@@ -47,4 +59,103 @@ public class IndexSearchDescriptor {
     }
     return Integer.MAX_VALUE;
   }
+
+  /**
+   * estimates the number of entries fetched from the index with the statistics built by ANALYZE INDEX
+   *
+   * @return the estimated number of entries, -1 if the index was not analyzed or the statistics cannot be used for the key
+   * condition
+   */
+  long estimateFromStatistics(OCommandContext ctx) {
+    parametricEstimate = false;
+    OIndexStatistics statistics = idx.getInternal().getStatistics();
+    OIndexDefinition definition = idx.getDefinition();
+    if (statistics == null || definition == null) {
+      return -1;
+    }
+    List<OBooleanExpression> blocks = keyCondition.getSubBlocks();
+    long currentKeys = idx.getKeySize();
+    try {
+      if (blocks.size() == definition.getParamCount() && additionalRangeCondition == null && allEqualities(blocks)) {
+        if (blocks.size() == 1) {
+          Object key = evaluateKey(((OBinaryCondition) blocks.get(0)).getRight(), definition, ctx);
+          parametricEstimate = hasInputParameters(ctx);
+          return statistics.estimateEquals(key, currentKeys);
+        }
+        return statistics.estimateEquals(currentKeys);
+      }
+      if (definition.getParamCount() != 1 || blocks.size() != 1) {
+        return -1;
+      }
+
+      //range on a single field index: [from, fromInclusive, to, toInclusive]
+      Object[] range = new Object[] { null, false, null, false };
+      OBooleanExpression block = blocks.get(0);
+      if (block instanceof OBetweenCondition) {
+        range[0] = evaluateKey(((OBetweenCondition) block).getSecond(), definition, ctx);
+        range[1] = true;
+        range[2] = evaluateKey(((OBetweenCondition) block).getThird(), definition, ctx);
+        range[3] = true;
+      } else if (!(block instanceof OBinaryCondition) || !addRangeBound((OBinaryCondition) block, range, definition, ctx)) {
+        return -1;
+      }
+      if (additionalRangeCondition != null && !addRangeBound(additionalRangeCondition, range, definition, ctx)) {
+        return -1;
+      }
+      parametricEstimate = hasInputParameters(ctx);
+      return statistics.estimateRange(range[0], (Boolean) range[1], range[2], (Boolean) range[3], currentKeys);
+    } catch (RuntimeException e) {
+      //the values cannot be calculated or converted to the index key type
+      return -1;
+    }
+  }
+
+  /**
+   * @return true if the last estimate from statistics depends on the values of the keys, evaluated with input parameters
+   */
+  boolean isParametricEstimate() {
+    return parametricEstimate;
+  }
+
+  private static boolean hasInputParameters(OCommandContext ctx) {
+    return ctx.getInputParameters() != null && !ctx.getInputParameters().isEmpty();
+  }
+
+  private static boolean allEqualities(List<OBooleanExpression> blocks) {
+    for (OBooleanExpression block : blocks) {
+      if (!(block instanceof OBinaryCondition) || !(((OBinaryCondition) block).getOperator() instanceof OEqualsCompareOperator)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean addRangeBound(OBinaryCondition condition, Object[] range, OIndexDefinition definition,
+      OCommandContext ctx) {
+    OBinaryCompareOperator operator = condition.getOperator();
+    Object key = evaluateKey(condition.getRight(), definition, ctx);
+    if (operator instanceof OGtOperator || operator instanceof OGeOperator) {
+      range[0] = key;
+      range[1] = operator instanceof OGeOperator;
+    } else if (operator instanceof OLtOperator || operator instanceof OLeOperator) {
+      range[2] = key;
+      range[3] = operator instanceof OLeOperator;
+    } else if (operator instanceof OEqualsCompareOperator) {
+      range[0] = key;
+      range[1] = true;
+      range[2] = key;
+      range[3] = true;
+    } else {
+      return false;
+    }
+    return true;
+  }
+
+  private static Object evaluateKey(OExpression expression, OIndexDefinition definition, OCommandContext ctx) {
+    if (expression == null || !expression.isEarlyCalculated()) {
+      throw new IllegalArgumentException("The value of " + expression + " is not known before the execution");
+    }
+    Object value = expression.execute((OResult) null, ctx);
+    return value == null ? null : definition.createValue(value);
+  }
 }
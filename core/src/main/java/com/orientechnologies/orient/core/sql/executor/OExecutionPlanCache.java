@@ -0,0 +1,222 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.db.OSharedContext;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexTxAware;
+import com.orientechnologies.orient.core.storage.OCluster;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LRU cache of the execution plans of SQL queries, shared by all the sessions of a database. Plans are kept as templates that
+ * are never executed, every execution gets its own copy (see {@link OInternalExecutionPlan#copy(OCommandContext)}).
+ * <p>
+ * A plan is valid as long as the schema, the indexes and the clusters of the database do not change, otherwise it is discarded
+ * and the query is planned again.
+ */
+public class OExecutionPlanCache {
+
+  /**
+   * the versions of the metadata that were used to build a plan
+   */
+  public static final class MetadataVersion {
+    private final int      schema;
+    private final long     indexes;
+    /**
+     * ids and names of the clusters, a cluster id can be reused by a new cluster after a drop
+     */
+    private final int[]    clusterIds;
+    private final String[] clusterNames;
+
+    private MetadataVersion(int schema, long indexes, int[] clusterIds, String[] clusterNames) {
+      this.schema = schema;
+      this.indexes = indexes;
+      this.clusterIds = clusterIds;
+      this.clusterNames = clusterNames;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o)
+        return true;
+      if (o == null || getClass() != o.getClass())
+        return false;
+      MetadataVersion that = (MetadataVersion) o;
+      return schema == that.schema && indexes == that.indexes && Arrays.equals(clusterIds, that.clusterIds) && Arrays
+          .equals(clusterNames, that.clusterNames);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = schema;
+      result = 31 * result + (int) (indexes ^ (indexes >>> 32));
+      result = 31 * result + Arrays.hashCode(clusterIds);
+      return result;
+    }
+  }
+
+  private static final class Entry {
+    private final OInternalExecutionPlan plan;
+    private final MetadataVersion        version;
+
+    private Entry(OInternalExecutionPlan plan, MetadataVersion version) {
+      this.plan = plan;
+      this.version = version;
+    }
+  }
+
+  private final Map<String, Entry> map;
+  private final int                mapSize;
+
+  private final AtomicLong hits   = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  /**
+   * @param size the size of the cache, 0 to disable it
+   */
+  public OExecutionPlanCache(int size) {
+    this.mapSize = size;
+    map = new LinkedHashMap<String, Entry>(Math.max(size, 16), 0.75f, true) {
+      protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+        return super.size() > mapSize;
+      }
+    };
+  }
+
+  /**
+   * @param db the current DB instance
+   *
+   * @return the plan cache of the database, null if the database does not have one (eg. a remote database)
+   */
+  public static OExecutionPlanCache instance(ODatabaseDocumentInternal db) {
+    if (db == null) {
+      return null;
+    }
+    OSharedContext sharedContext = db.getSharedContext();
+    return sharedContext == null ? null : sharedContext.getExecutionPlanCache();
+  }
+
+  /**
+   * @return the current versions of the schema, the indexes and the clusters of a database, to be taken <b>before</b> a plan is
+   * built and passed to {@link #put(String, OInternalExecutionPlan, MetadataVersion)}
+   */
+  public static MetadataVersion getMetadataVersion(ODatabaseDocumentInternal db) {
+    OSharedContext sharedContext = db.getSharedContext();
+    List<OCluster> clusters = new ArrayList<>(db.getStorage().getClusterInstances());
+    clusters.sort(Comparator.comparingInt(OCluster::getId));
+    int[] clusterIds = new int[clusters.size()];
+    String[] clusterNames = new String[clusters.size()];
+    for (int i = 0; i < clusterIds.length; i++) {
+      clusterIds[i] = clusters.get(i).getId();
+      clusterNames[i] = clusters.get(i).getName();
+    }
+    return new MetadataVersion(sharedContext.getSchema().getVersion(), sharedContext.getIndexManager().getVersion(), clusterIds,
+        clusterNames);
+  }
+
+  /**
+   * @param index an index used by a plan
+   * @param ctx   the context of a copy of the plan
+   *
+   * @return the index to be used by the copy. The transactional view of an index is bound to a database session, a plan kept in
+   * the cache (that has no database) uses the index without it and every copy gets the view of its own session
+   */
+  static OIndex<?> bindIndex(OIndex<?> index, OCommandContext ctx) {
+    if (index == null) {
+      return null;
+    }
+    ODatabase db = ctx == null ? null : ctx.getDatabase();
+    if (db == null) {
+      return index instanceof OIndexTxAware ? index.getInternal() : index;
+    }
+    if (index instanceof OIndexTxAware && ((OIndexTxAware) index).getDatabase() == db) {
+      return index;
+    }
+    OIndex<?> result = db.getMetadata().getIndexManager().getIndex(index.getName());
+    return result == null ? index : result;
+  }
+
+  /**
+   * @param statement the text of the statement
+   * @param ctx       the context of the new execution
+   * @param db        the current DB instance
+   *
+   * @return a copy of the cached plan, that runs in the context passed as parameter, or null if there is no valid plan for the
+   * statement
+   */
+  public OInternalExecutionPlan get(String statement, OCommandContext ctx, ODatabaseDocumentInternal db) {
+    if (mapSize <= 0) {
+      return null;
+    }
+    Entry entry;
+    synchronized (map) {
+      entry = map.get(statement);
+    }
+    if (entry == null) {
+      misses.incrementAndGet();
+      return null;
+    }
+    if (!entry.version.equals(getMetadataVersion(db))) {
+      synchronized (map) {
+        if (map.get(statement) == entry) {
+          map.remove(statement);
+        }
+      }
+      misses.incrementAndGet();
+      return null;
+    }
+    hits.incrementAndGet();
+    OInternalExecutionPlan result = entry.plan.copy(ctx);
+    if (result instanceof OSelectExecutionPlan) {
+      ((OSelectExecutionPlan) result).setCached(true);
+    }
+    return result;
+  }
+
+  /**
+   * puts a plan in the cache. The plan is not executed by the cache, so it has to be a new plan or a copy, made with a context
+   * that has no database (see {@link #bindIndex(OIndex, OCommandContext)})
+   *
+   * @param statement the text of the statement
+   * @param plan      the execution plan, it has to support {@link OInternalExecutionPlan#canBeCached()}
+   * @param version   the versions of the metadata taken before the plan was built
+   */
+  public void put(String statement, OInternalExecutionPlan plan, MetadataVersion version) {
+    if (mapSize <= 0 || !plan.canBeCached()) {
+      return;
+    }
+    synchronized (map) {
+      map.put(statement, new Entry(plan, version));
+    }
+  }
+
+  public void invalidate() {
+    synchronized (map) {
+      map.clear();
+    }
+  }
+
+  public int size() {
+    synchronized (map) {
+      return map.size();
+    }
+  }
+
+  /**
+   * @return the number of times a valid plan was found in the cache
+   */
+  public long getHits() {
+    return hits.get();
+  }
+
+  /**
+   * @return the number of times a plan was not found in the cache or it was not valid anymore
+   */
+  public long getMisses() {
+    return misses.get();
+  }
+}
@@ -6,6 +6,7 @@ import com.orientechnologies.orient.core.command.OCommandContext;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  *
@@ -62,6 +63,16 @@ public interface OExecutionStepInternal extends OExecutionStep {
     return prettyPrint(0, 3);
   }
 
+  /**
+   * returns the statistics collected by this step during the execution (eg. the number of results spilled to disk), see
+   * {@link OResultSet#getQueryStats()}
+   *
+   * @return the statistics of this step, an empty map if the step does not collect any statistics
+   */
+  default Map<String, Long> getQueryStats() {
+    return Collections.emptyMap();
+  }
+
   default String getTargetNode() {
     return "<local>";
   }
@@ -78,6 +89,26 @@ public interface OExecutionStepInternal extends OExecutionStep {
     //do nothing
   }
 
+  /**
+   * @return true if this step can be copied with {@link #copy(OCommandContext)}, so that an execution plan that contains it can be
+   * kept in the {@link OExecutionPlanCache}
+   */
+  default boolean canBeCached() {
+    return false;
+  }
+
+  /**
+   * returns a copy of this step, not executed yet, that runs in a different context. Sub-steps are copied too, the links to
+   * previous and next steps are not
+   *
+   * @param ctx the context of the new execution
+   *
+   * @return a copy of this step
+   */
+  default OExecutionStepInternal copy(OCommandContext ctx) {
+    throw new UnsupportedOperationException();
+  }
+
   default OResult serialize() {
     throw new UnsupportedOperationException();
   }
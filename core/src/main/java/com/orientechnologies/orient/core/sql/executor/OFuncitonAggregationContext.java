@@ -35,4 +35,16 @@ public class OFuncitonAggregationContext implements AggregationContext {
     }
     aggregateFunction.execute(next, null, null, paramValues.toArray(), ctx);
   }
+
+  @Override public boolean isMergeable() {
+    return aggregateFunction.supportsPartialResults();
+  }
+
+  @Override public Object getPartialState() {
+    return aggregateFunction.getPartialResult();
+  }
+
+  @Override public void mergePartialState(Object state) {
+    aggregateFunction.mergePartialResult(state);
+  }
 }
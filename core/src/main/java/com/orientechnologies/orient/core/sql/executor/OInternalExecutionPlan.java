@@ -25,6 +25,24 @@ public interface OInternalExecutionPlan extends OExecutionPlan {
 
   long getCost();
 
+  /**
+   * @return true if this plan can be copied with {@link #copy(OCommandContext)} and kept in the {@link OExecutionPlanCache}
+   */
+  default boolean canBeCached() {
+    return false;
+  }
+
+  /**
+   * returns a copy of this plan, not executed yet, that runs in a different context
+   *
+   * @param ctx the context of the new execution
+   *
+   * @return a copy of this plan
+   */
+  default OInternalExecutionPlan copy(OCommandContext ctx) {
+    throw new UnsupportedOperationException();
+  }
+
   default OResult serialize() {
     throw new UnsupportedOperationException();
   }
@@ -0,0 +1,292 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.OEdge;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.record.OVertex;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.record.impl.OEdgeDelegate;
+import com.orientechnologies.orient.core.record.impl.OVertexDelegate;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinary;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Temporary file that holds a sequence of query results which do not fit in memory (eg. sorted runs of an ORDER BY). Results
+ * are written with {@link ORecordSerializerBinary}, the file is created in {@link Orient#getTempPath()} and it is deleted on
+ * {@link #close()}.
+ * <p>
+ * Results are read back in the same order they were written. Properties of results, metadata and the content of elements are
+ * preserved, nested projections are restored as embedded documents.
+ */
+public class OResultSpillFile implements Closeable {
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private static final byte PROJECTION = 0;
+  private static final byte DOCUMENT   = 1;
+  private static final byte VERTEX     = 2;
+  private static final byte EDGE       = 3;
+  private static final byte RECORD     = 4;
+
+  private final File             file;
+  private       DataOutputStream out;
+  private       DataInputStream  in;
+
+  private long size = 0;
+  private long read = 0;
+
+  public OResultSpillFile(String prefix) {
+    final File directory = new File(Orient.getTempPath());
+    if (!directory.exists() && !directory.mkdirs() && !directory.exists()) {
+      throw new OCommandExecutionException("Cannot create temporary directory " + directory);
+    }
+
+    try {
+      this.file = File.createTempFile(prefix, ".tmp", directory);
+    } catch (IOException e) {
+      throw OException.wrapException(new OCommandExecutionException("Cannot create temporary file for query results"), e);
+    }
+    try {
+      this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE));
+    } catch (IOException e) {
+      file.delete();
+      throw OException.wrapException(new OCommandExecutionException("Cannot open temporary file " + file), e);
+    }
+  }
+
+  /**
+   * @return number of results written to this file
+   */
+  public long size() {
+    return size;
+  }
+
+  public void write(OResult result) {
+    if (out == null) {
+      throw new IllegalStateException("Temporary file " + file + " is not open for writing");
+    }
+    try {
+      writeResult(out, result);
+      size++;
+    } catch (IOException e) {
+      throw OException.wrapException(new OCommandExecutionException("Cannot write query results to " + file), e);
+    }
+  }
+
+  /**
+   * @return true if there are results that have not been read yet. The first invocation closes the file for writing
+   */
+  public boolean hasNext() {
+    openForRead();
+    return read < size;
+  }
+
+  public OResult next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    try {
+      read++;
+      return readResult(in);
+    } catch (IOException e) {
+      throw OException.wrapException(new OCommandExecutionException("Cannot read query results from " + file), e);
+    }
+  }
+
+  private void openForRead() {
+    if (in != null) {
+      return;
+    }
+    try {
+      if (out != null) {
+        out.close();
+        out = null;
+      }
+      in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE));
+    } catch (IOException e) {
+      throw OException.wrapException(new OCommandExecutionException("Cannot read query results from " + file), e);
+    }
+  }
+
+  @Override
+  public void close() {
+    try {
+      if (out != null) {
+        out.close();
+        out = null;
+      }
+      if (in != null) {
+        in.close();
+        in = null;
+      }
+    } catch (IOException e) {
+      OLogManager.instance().warn(this, "Error on closing of temporary file %s", e, file);
+    }
+    if (file.exists() && !file.delete()) {
+      OLogManager.instance().warn(this, "Cannot delete temporary file %s", file);
+    }
+  }
+
+  protected static void writeResult(DataOutput out, OResult result) throws IOException {
+    writeResult(out, result, true);
+  }
+
+  /**
+   * @param withMetadata false to write only the element and the properties of the result, that are the values used by {@link
+   *                     OResultInternal#equals(Object)}
+   */
+  protected static void writeResult(DataOutput out, OResult result, boolean withMetadata) throws IOException {
+    final OIdentifiable element = result.isElement() ? result.getElement().get() : null;
+    final ORecord record = element == null ? null : element.getRecord();
+
+    if (record == null) {
+      out.writeByte(PROJECTION);
+    } else if (record instanceof ODocument) {
+      if (element instanceof OVertex) {
+        out.writeByte(VERTEX);
+      } else if (element instanceof OEdge) {
+        out.writeByte(EDGE);
+      } else {
+        out.writeByte(DOCUMENT);
+      }
+      writeRid(out, record.getIdentity());
+      out.writeInt(record.getVersion());
+      writeBytes(out, ORecordSerializerBinary.INSTANCE.toStream(record, false));
+    } else {
+      //BLOBS ARE NOT COMPARABLE, THEY ARE LOADED AGAIN FROM THE STORAGE
+      out.writeByte(RECORD);
+      writeRid(out, record.getIdentity());
+    }
+
+    Map<String, Object> content;
+    if (result instanceof OResultInternal) {
+      content = ((OResultInternal) result).content;
+    } else if (record == null) {
+      content = new LinkedHashMap<>();
+      for (String name : result.getPropertyNames()) {
+        content.put(name, result.getProperty(name));
+      }
+    } else {
+      content = Collections.emptyMap();
+    }
+    writeMap(out, content);
+    if (!withMetadata) {
+      return;
+    }
+
+    Map<String, Object> metadata = new HashMap<>();
+    for (String key : result.getMetadataKeys()) {
+      metadata.put(key, result.getMetadata(key));
+    }
+    writeMap(out, metadata);
+  }
+
+  protected static OResult readResult(DataInput in) throws IOException {
+    final OResultInternal result = new OResultInternal();
+    final byte type = in.readByte();
+
+    if (type == DOCUMENT || type == VERTEX || type == EDGE) {
+      final ORID rid = readRid(in);
+      final int version = in.readInt();
+      final ODocument doc = new ODocument();
+      ORecordInternal.setRecordSerializer(doc, ORecordSerializerBinary.INSTANCE);
+      ORecordInternal.fill(doc, rid, version, readBytes(in), false);
+
+      if (type == VERTEX) {
+        result.element = new OVertexDelegate(doc);
+      } else if (type == EDGE) {
+        result.element = new OEdgeDelegate(doc);
+      } else {
+        result.element = doc;
+      }
+    } else if (type == RECORD) {
+      result.setElement(readRid(in));
+    } else if (type != PROJECTION) {
+      throw new OCommandExecutionException("Invalid query result type " + type + " in temporary file");
+    }
+
+    final Map<String, Object> content = readMap(in);
+    if (content != null) {
+      result.content.putAll(content);
+    }
+    result.addMetadata(readMap(in));
+    return result;
+  }
+
+  private static void writeRid(DataOutput out, ORID rid) throws IOException {
+    out.writeInt(rid.getClusterId());
+    out.writeLong(rid.getClusterPosition());
+  }
+
+  private static ORID readRid(DataInput in) throws IOException {
+    final int clusterId = in.readInt();
+    return new ORecordId(clusterId, in.readLong());
+  }
+
+  private static void writeMap(DataOutput out, Map<String, Object> map) throws IOException {
+    if (map.isEmpty()) {
+      out.writeInt(0);
+      return;
+    }
+
+    final Map<String, Object> values = new LinkedHashMap<>();
+    for (Map.Entry<String, Object> entry : map.entrySet()) {
+      values.put(entry.getKey(), convertToElement(entry.getValue()));
+    }
+
+    //STORED AS AN EMBEDDED MAP, SO THAT ATTRIBUTE NAMES LIKE @rid ARE KEPT AS PLAIN KEYS
+    final ODocument doc = new ODocument();
+    doc.field("values", values, OType.EMBEDDEDMAP);
+    writeBytes(out, ORecordSerializerBinary.INSTANCE.toStream(doc, false));
+  }
+
+  private static Map<String, Object> readMap(DataInput in) throws IOException {
+    final byte[] bytes = readBytes(in);
+    if (bytes == null) {
+      return null;
+    }
+
+    final ODocument doc = new ODocument();
+    ORecordSerializerBinary.INSTANCE.fromStream(bytes, doc, null);
+    return doc.field("values");
+  }
+
+  private static void writeBytes(DataOutput out, byte[] bytes) throws IOException {
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static byte[] readBytes(DataInput in) throws IOException {
+    final int length = in.readInt();
+    if (length == 0) {
+      return null;
+    }
+
+    final byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return bytes;
+  }
+
+  private static Object convertToElement(Object value) {
+    if (value instanceof OResult) {
+      return ((OResult) value).toElement();
+    }
+    if (value instanceof List) {
+      return ((List<?>) value).stream().map(x -> convertToElement(x)).collect(Collectors.toList());
+    }
+    if (value instanceof Set) {
+      return ((Set<?>) value).stream().map(x -> convertToElement(x)).collect(Collectors.toSet());
+    }
+    return value;
+  }
+}
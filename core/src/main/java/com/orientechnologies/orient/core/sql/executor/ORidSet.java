@@ -47,6 +47,23 @@ public class ORidSet implements Set<ORID> {
     return size <= Integer.MAX_VALUE ? (int) size : Integer.MAX_VALUE;
   }
 
+  /**
+   * @return the approximate number of bytes used by the bitmaps of this set
+   */
+  public long getMemoryUsage() {
+    long result = (long) content.length * 8;
+    for (long[][] cluster : content) {
+      if (cluster != null) {
+        for (long[] block : cluster) {
+          if (block != null) {
+            result += (long) block.length * 8;
+          }
+        }
+      }
+    }
+    return result;
+  }
+
   @Override public boolean isEmpty() {
     return size == 0L;
   }
@@ -20,6 +20,16 @@ public class OSelectExecutionPlan implements OInternalExecutionPlan {
 
   OExecutionStepInternal lastStep = null;
 
+  /**
+   * false if the planner used values that can change from one execution to another (eg. input parameters)
+   */
+  boolean cacheable = true;
+
+  /**
+   * true if this plan was taken from the {@link OExecutionPlanCache}
+   */
+  private boolean cached = false;
+
   public OSelectExecutionPlan(OCommandContext ctx) {
     this.ctx = ctx;
   }
@@ -34,9 +44,20 @@ public class OSelectExecutionPlan implements OInternalExecutionPlan {
     return lastStep.syncPull(ctx, n);
   }
 
+  /**
+   * same as {@link #fetchNext(int)}, but executes the steps in a different context (eg. with a different database session)
+   */
+  public OResultSet fetchNext(OCommandContext ctx, int n) {
+    return lastStep.syncPull(ctx, n);
+  }
+
   @Override
   public String prettyPrint(int depth, int indent) {
     StringBuilder result = new StringBuilder();
+    if (cached) {
+      result.append(OExecutionStepInternal.getIndent(depth, indent));
+      result.append("(cached plan)\n");
+    }
     for (int i = 0; i < steps.size(); i++) {
       OExecutionStepInternal step = steps.get(i);
       result.append(step.prettyPrint(depth, indent));
@@ -82,11 +103,47 @@ public class OSelectExecutionPlan implements OInternalExecutionPlan {
     result.setProperty("type", "QueryExecutionPlan");
     result.setProperty(JAVA_TYPE, getClass().getName());
     result.setProperty("cost", getCost());
+    result.setProperty("cached", cached);
     result.setProperty("prettyPrint", prettyPrint(0, 2));
     result.setProperty("steps", steps == null ? null : steps.stream().map(x -> x.toResult()).collect(Collectors.toList()));
     return result;
   }
 
+  @Override
+  public boolean canBeCached() {
+    if (!cacheable) {
+      return false;
+    }
+    for (OExecutionStepInternal step : steps) {
+      if (!step.canBeCached()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public OInternalExecutionPlan copy(OCommandContext ctx) {
+    OSelectExecutionPlan copy = new OSelectExecutionPlan(ctx);
+    for (OExecutionStepInternal step : steps) {
+      copy.chain(step.copy(ctx));
+    }
+    copy.location = location;
+    copy.cacheable = cacheable;
+    return copy;
+  }
+
+  /**
+   * @return true if this plan was taken from the {@link OExecutionPlanCache}
+   */
+  public boolean isCached() {
+    return cached;
+  }
+
+  void setCached(boolean cached) {
+    this.cached = cached;
+  }
+
   @Override
   public long getCost() {
     return 0l;
@@ -9,9 +9,11 @@ import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
-import com.orientechnologies.orient.core.index.OIndex;
-import com.orientechnologies.orient.core.index.OIndexDefinition;
+import com.orientechnologies.orient.core.collate.OCollate;
+import com.orientechnologies.orient.core.collate.ODefaultCollate;
+import com.orientechnologies.orient.core.index.*;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.security.OSecurityShared;
 import com.orientechnologies.orient.core.sql.OCommandExecutorSQLAbstract;
 import com.orientechnologies.orient.core.sql.parser.*;
 
@@ -23,8 +25,24 @@ import java.util.stream.Collectors;
  */
 public class OSelectExecutionPlanner {
 
+  /**
+   * minimum ratio between the RIDs fetched from the best index of an AND block and the estimated size of their intersection with
+   * the RIDs of another index, to intersect them
+   */
+  private static final int INTERSECTION_MIN_REDUCTION   = 10;
+  /**
+   * maximum ratio between the entries fetched from an index and the estimated size of the intersection it is added to
+   */
+  private static final int INTERSECTION_MAX_FETCH_RATIO = 10;
+
   QueryPlanningInfo info;
 
+  /**
+   * false if the plan depends on values that can change from one execution to another (eg. a target or a LIMIT passed as input
+   * parameter), so that it cannot be kept in the {@link OExecutionPlanCache}
+   */
+  private boolean cacheable = true;
+
   public OSelectExecutionPlanner(OSelectStatement oSelectStatement) {
     //copying the content, so that it can be manipulated and optimized
     info = new QueryPlanningInfo();
@@ -113,6 +131,7 @@ public class OSelectExecutionPlanner {
       }
     }
 
+    result.cacheable = cacheable;
     return result;
   }
 
@@ -442,7 +461,7 @@ public class OSelectExecutionPlanner {
 
   private boolean handleHardwiredOptimizations(OSelectExecutionPlan result, OCommandContext ctx, boolean profilingEnabled) {
     return handleHardwiredCountOnIndex(result, info, ctx, profilingEnabled) || handleHardwiredCountOnClass(result, info, ctx,
-        profilingEnabled);
+        profilingEnabled) || handleHardwiredCountOnBitmapIndexes(result, info, ctx, profilingEnabled);
   }
 
   private boolean handleHardwiredCountOnClass(OSelectExecutionPlan result, QueryPlanningInfo info, OCommandContext ctx,
@@ -489,6 +508,47 @@ public class OSelectExecutionPlanner {
     return true;
   }
 
+  /**
+   * answers a count(*) with a WHERE condition on the BITMAP indexes of the target class with the cardinality of the resulting
+   * bitmap, without loading the records
+   */
+  private boolean handleHardwiredCountOnBitmapIndexes(OSelectExecutionPlan result, QueryPlanningInfo info, OCommandContext ctx,
+      boolean profilingEnabled) {
+    OIdentifier targetClass = info.target == null ? null : info.target.getItem().getIdentifier();
+    if (targetClass == null || info.whereClause == null || info.whereClause.getBaseExpression() == null) {
+      return false;
+    }
+    if (info.distinct || info.expand) {
+      return false;
+    }
+    if (info.preAggregateProjection != null) {
+      return false;
+    }
+    if (!isCountStar(info)) {
+      return false;
+    }
+    if (info.projectionAfterOrderBy != null || info.globalLetClause != null || info.perRecordLetClause != null
+        || info.groupBy != null || info.orderBy != null || info.unwind != null || info.skip != null || info.limit != null) {
+      return false;
+    }
+    OClass clazz = ctx.getDatabase().getMetadata().getSchema().getClass(targetClass.getStringValue());
+    if (clazz == null) {
+      return false;
+    }
+    //access to the records of restricted classes is checked when they are loaded, they have to be counted one by one
+    if (clazz.isSubClassOf(OSecurityShared.RESTRICTED_CLASSNAME)) {
+      return false;
+    }
+    BitmapIndexCondition condition = BitmapIndexCondition.create(info.whereClause.getBaseExpression(), clazz.getIndexes());
+    //indexes of superclasses index also the records of other classes
+    if (condition == null || !condition.isOnClass(clazz.getName())) {
+      return false;
+    }
+    result.chain(
+        new CountFromBitmapIndexesStep(condition, info.projection.getAllAliases().iterator().next(), ctx, profilingEnabled));
+    return true;
+  }
+
   /**
    * returns true if the query is minimal, ie. no WHERE condition, no SKIP/LIMIT, no UNWIND, no GROUP/ORDER BY, no LET
    *
@@ -532,7 +592,9 @@ public class OSelectExecutionPlanner {
   }
 
   private void handleDistinct(OSelectExecutionPlan result, QueryPlanningInfo info, OCommandContext ctx, boolean profilingEnabled) {
-    result.chain(new DistinctExecutionStep(ctx, profilingEnabled));
+    //DISTINCT comes after ORDER BY, the results cannot be spilled without losing their order
+    boolean ordered = info.orderBy != null && info.orderBy.getItems() != null && !info.orderBy.getItems().isEmpty();
+    result.chain(new DistinctExecutionStep(ordered, ctx, profilingEnabled));
   }
 
   private void handleProjectionsBeforeOrderBy(OSelectExecutionPlan result, QueryPlanningInfo info, OCommandContext ctx,
@@ -983,6 +1045,7 @@ public class OSelectExecutionPlanner {
 
   private void handleInputParamAsTarget(OSelectExecutionPlan result, Set<String> filterClusters, QueryPlanningInfo info,
       OInputParameter inputParam, OCommandContext ctx, boolean profilingEnabled) {
+    cacheable = false;
     Object paramValue = inputParam.getValue(ctx.getInputParameters());
     if (paramValue == null) {
       result.chain(new EmptyStep(ctx, profilingEnabled));//nothing to return
@@ -1261,10 +1324,14 @@ public class OSelectExecutionPlanner {
     if (limitSize >= 0) {
       maxResults = skipSize + limitSize;
     }
-    if (info.expand || info.unwind != null) {
+    if (info.expand || info.unwind != null || info.distinct) {
+      //the results are expanded or de-duplicated after the sort, the number of sorted results needed is not known
       maxResults = null;
     }
     if (!info.orderApplied && info.orderBy != null && info.orderBy.getItems() != null && info.orderBy.getItems().size() > 0) {
+      if (maxResults != null && ((info.skip != null && info.skip.getInputParam() != null) || info.limit.getInputParam() != null)) {
+        cacheable = false;
+      }
       plan.chain(new OrderByStep(info.orderBy, maxResults, ctx, profilingEnabled));
       if (info.projectionAfterOrderBy != null) {
         plan.chain(new ProjectionCalculationStep(info.projectionAfterOrderBy, ctx, profilingEnabled));
@@ -1292,11 +1359,20 @@ public class OSelectExecutionPlanner {
       return;
     }
 
-    if (handleClassAsTargetWithIndex(plan, identifier, info, ctx, profilingEnabled)) {
+    if (handleClassAsTargetWithBitmapIndexes(plan, identifier, info, ctx, profilingEnabled, false)
+        || handleClassAsTargetWithBitmapIndexes(plan, identifier, info, ctx, profilingEnabled, true)) {
       plan.chain(new FilterByClassStep(identifier, ctx, profilingEnabled));
       return;
     }
 
+    if (handleClassAsTargetWithIndex(plan, identifier, info, ctx, profilingEnabled)) {
+      if (!info.coveredByIndex) {
+        //the index belongs to the target class, the entries have no record to check
+        plan.chain(new FilterByClassStep(identifier, ctx, profilingEnabled));
+      }
+      return;
+    }
+
     if (info.orderBy != null && handleClassWithIndexForSortOnly(plan, identifier, info, ctx, profilingEnabled)) {
       plan.chain(new FilterByClassStep(identifier, ctx, profilingEnabled));
       return;
@@ -1337,6 +1413,10 @@ public class OSelectExecutionPlanner {
       List<OBinaryCondition> indexedFunctionConditions = block
           .getIndexedFunctionConditions(clazz, (ODatabaseDocumentInternal) ctx.getDatabase());
 
+      if (indexedFunctionConditions != null && indexedFunctionConditions.size() > 0) {
+        //the choice of the indexed function depends on estimates that can use input parameters
+        cacheable = false;
+      }
       indexedFunctionConditions = filterIndexedFunctionsWithoutIndex(indexedFunctionConditions, info.target, ctx);
 
       if (indexedFunctionConditions == null || indexedFunctionConditions.size() == 0) {
@@ -1422,7 +1502,7 @@ public class OSelectExecutionPlanner {
 
     if (indexedFunctionsFound) {
       if (resultSubPlans.size() > 1) { //if resultSubPlans.size() == 1 the step was already chained (see above)
-        plan.chain(new ParallelExecStep(resultSubPlans, ctx, profilingEnabled));
+        plan.chain(new ParallelExecStep(resultSubPlans, ctx, false, profilingEnabled));
         plan.chain(new FilterByClustersStep(filterClusters, ctx, profilingEnabled));
         plan.chain(new DistinctExecutionStep(ctx, profilingEnabled));
       }
@@ -1505,6 +1585,50 @@ public class OSelectExecutionPlanner {
     return false;
   }
 
+  /**
+   * fetches the records that match the WHERE condition evaluating it with the algebra of the bitmaps of the BITMAP indexes of the
+   * target class
+   *
+   * @param partial true to evaluate only the blocks of the top level AND that can be evaluated with the BITMAP indexes, the WHERE
+   *                condition is then checked on the fetched records. Not done if other indexes can be used for the condition
+   *
+   * @return true if the condition (or part of it, if partial) can be evaluated with the BITMAP indexes
+   */
+  private boolean handleClassAsTargetWithBitmapIndexes(OSelectExecutionPlan plan, OIdentifier targetClass, QueryPlanningInfo info,
+      OCommandContext ctx, boolean profilingEnabled, boolean partial) {
+    if (targetClass == null || info.whereClause == null || info.whereClause.getBaseExpression() == null) {
+      return false;
+    }
+    OClass clazz = ctx.getDatabase().getMetadata().getSchema().getClass(targetClass.getStringValue());
+    if (clazz == null) {
+      return false;
+    }
+    Set<OIndex<?>> indexes = clazz.getIndexes();
+    if (indexes.stream().noneMatch(x -> OClass.INDEX_TYPE.BITMAP.toString().equals(x.getType()))) {
+      return false;
+    }
+    if (partial && info.flattenedWhereClause != null) {
+      Set<OIndex<?>> otherIndexes = indexes.stream().filter(x -> !OClass.INDEX_TYPE.BITMAP.toString().equals(x.getType()))
+          .collect(Collectors.toSet());
+      if (info.flattenedWhereClause.stream().anyMatch(x -> findBestIndexFor(ctx, otherIndexes, x, clazz) != null)) {
+        return false;
+      }
+    }
+    OBooleanExpression where = info.whereClause.getBaseExpression();
+    BitmapIndexCondition condition = partial ?
+        BitmapIndexCondition.createPartial(where, indexes) :
+        BitmapIndexCondition.create(where, indexes);
+    if (condition == null) {
+      return false;
+    }
+    plan.chain(new FetchFromBitmapIndexesStep(condition, ctx, profilingEnabled));
+    if (!partial) {
+      info.whereClause = null;
+      info.flattenedWhereClause = null;
+    }
+    return true;
+  }
+
   private boolean handleClassAsTargetWithIndex(OSelectExecutionPlan plan, OIdentifier targetClass, QueryPlanningInfo info,
       OCommandContext ctx, boolean profilingEnabled) {
 
@@ -1544,6 +1668,68 @@ public class OSelectExecutionPlanner {
     return false;
   }
 
+  /**
+   * checks if the query can be answered reading only the entries of the index, ie. if the index of the target class includes
+   * fields (see {@link OIndex#INCLUDED_FIELDS}), the index search leaves no condition to evaluate on the records and the
+   * projections (that also hold the ORDER BY fields at this stage) only read fields of the key or included fields
+   *
+   * @return the names of the fields of the index key by position (null for positions that do not hold a field value), null if the
+   * records have to be loaded
+   */
+  private List<String> getCoveredKeyFields(QueryPlanningInfo info, IndexSearchDescriptor desc, OClass clazz) {
+    if (desc.remainingCondition != null && !desc.remainingCondition.isEmpty()) {
+      return null;
+    }
+    //access to the records of restricted classes is checked when they are loaded
+    if (clazz.isSubClassOf(OSecurityShared.RESTRICTED_CLASSNAME)) {
+      return null;
+    }
+    if (info.projection == null || info.projection.getItems() == null || info.projection.getItems().isEmpty()
+        || info.preAggregateProjection != null || info.aggregateProjection != null || info.groupBy != null || info.expand
+        || info.unwind != null || (info.perRecordLetClause != null && info.perRecordLetClause.getItems() != null
+        && !info.perRecordLetClause.getItems().isEmpty())) {
+      return null;
+    }
+
+    List<String> includedFields = desc.idx.getInternal().getIncludedFields();
+    if (includedFields.isEmpty()) {
+      return null;
+    }
+
+    //indexes of superclasses hold records of other classes too, that could be filtered out only loading them
+    OIndexDefinition definition = desc.idx.getDefinition();
+    if (info.target == null || info.target.getItem().getIdentifier() == null || !info.target.getItem().getIdentifier()
+        .getStringValue().equalsIgnoreCase(definition.getClassName())) {
+      return null;
+    }
+    List<String> keyFields = new ArrayList<>();
+    if (definition instanceof OCompositeIndexDefinition) {
+      String multiValueField = ((OCompositeIndexDefinition) definition).getMultiValueField();
+      List<OCollate> collates = ((OCompositeCollate) definition.getCollate()).getCollates();
+      for (int i = 0; i < definition.getFields().size(); i++) {
+        String field = definition.getFields().get(i);
+        boolean fieldValue = !field.equals(multiValueField) && ODefaultCollate.NAME.equals(collates.get(i).getName());
+        keyFields.add(fieldValue && !field.startsWith("@") ? field : null);
+      }
+    } else {
+      for (String field : definition.getFields()) {
+        boolean fieldValue = !(definition instanceof OIndexDefinitionMultiValue) && ODefaultCollate.NAME
+            .equals(definition.getCollate().getName());
+        keyFields.add(fieldValue && !field.startsWith("@") ? field : null);
+      }
+    }
+
+    Set<String> coveredFields = new HashSet<>(includedFields);
+    coveredFields.addAll(keyFields);
+    for (OProjectionItem item : info.projection.getItems()) {
+      if (item.isAll() || item.getExpression() == null || !item.getExpression().isBaseIdentifier() || !coveredFields
+          .contains(item.getExpression().getDefaultAlias().getStringValue())) {
+        return null;
+      }
+    }
+    return keyFields;
+  }
+
   /**
    * checks if a class is the top of a diamond hierarchy
    *
@@ -1628,24 +1814,114 @@ public class OSelectExecutionPlanner {
       IndexSearchDescriptor desc = indexSearchDescriptors.get(0);
       result = new ArrayList<>();
       Boolean orderAsc = getOrderDirection(info);
+      List<String> coveredKeyFields = getCoveredKeyFields(info, desc, clazz);
+      boolean sortedByIndex = orderAsc != null && info.orderBy != null && fullySorted(info.orderBy, desc.keyCondition, desc.idx);
+      if (coveredKeyFields == null && !sortedByIndex) {
+        List<IndexSearchDescriptor> intersection = findIndexesToIntersect(ctx, indexes, desc, clazz);
+        if (intersection.size() > 1) {
+          IndexSearchDescriptor last = intersection.get(intersection.size() - 1);
+          result.add(createRidsFetch(intersection, false, ctx, clazz, profilingEnabled));
+          result.add(new GetValueFromIndexEntryStep(ctx, profilingEnabled));
+          if (last.remainingCondition != null && !last.remainingCondition.isEmpty()) {
+            result.add(new FilterStep(createWhereFrom(last.remainingCondition), ctx, profilingEnabled));
+          }
+          return result;
+        }
+      }
       result.add(
           new FetchFromIndexStep(desc.idx, desc.keyCondition, desc.additionalRangeCondition, !Boolean.FALSE.equals(orderAsc), ctx,
               profilingEnabled));
-      result.add(new GetValueFromIndexEntryStep(ctx, profilingEnabled));
-      if (orderAsc != null && info.orderBy != null && fullySorted(info.orderBy, desc.keyCondition, desc.idx)
-          && info.serverToClusters.size() == 1) {
+      if (coveredKeyFields != null) {
+        result.add(new GetCoveredValuesFromIndexEntryStep(coveredKeyFields, ctx, profilingEnabled));
+        info.coveredByIndex = true;
+      } else {
+        result.add(new GetValueFromIndexEntryStep(ctx, profilingEnabled));
+      }
+      if (sortedByIndex && info.serverToClusters.size() == 1) {
         info.orderApplied = true;
       }
       if (desc.remainingCondition != null && !desc.remainingCondition.isEmpty()) {
         result.add(new FilterStep(createWhereFrom(desc.remainingCondition), ctx, profilingEnabled));
       }
     } else {
+      //a record can match more than one block, the RIDs are merged so that every record is returned once
       result = new ArrayList<>();
-      result.add(createParallelIndexFetch(optimumIndexSearchDescriptors, ctx, profilingEnabled));
+      result.add(createRidsFetch(optimumIndexSearchDescriptors, true, ctx, clazz, profilingEnabled));
+      result.add(new GetValueFromIndexEntryStep(ctx, profilingEnabled));
+      if (optimumIndexSearchDescriptors.stream().anyMatch(x -> x.remainingCondition != null && !x.remainingCondition.isEmpty())) {
+        //the remaining conditions of the blocks are checked on the records as the whole condition
+        result.add(new FilterStep(info.whereClause.copy(), ctx, profilingEnabled));
+      }
     }
     return result;
   }
 
+  /**
+   * given the best index for a flat AND block, finds other indexes to fetch RIDs from and intersect with the RIDs of the best index,
+   * so that less records are loaded. An index is added only if the statistics (see {@link OIndexStatistics}) estimate, for
+   * independent conditions, that the intersection is at least {@link #INTERSECTION_MIN_REDUCTION} times smaller than both sides
+   * and that the index does not return more than {@link #INTERSECTION_MAX_FETCH_RATIO} times the entries of the current
+   * intersection, as reading an index entry costs much less than loading a record
+   *
+   * @return the best index followed by the indexes to intersect with it, each with the condition left by the previous ones.
+   * The plan is not cached if the estimates depend on the values of the input parameters
+   */
+  private List<IndexSearchDescriptor> findIndexesToIntersect(OCommandContext ctx, Set<OIndex<?>> indexes,
+      IndexSearchDescriptor desc, OClass clazz) {
+    List<IndexSearchDescriptor> result = new ArrayList<>();
+    result.add(desc);
+    long estimate = desc.estimateFromStatistics(ctx);
+    long records = clazz.count();
+    if (estimate < 0 || records <= 0) {
+      return result;
+    }
+    boolean parametricEstimate = desc.isParametricEstimate();
+    Set<OIndex<?>> candidates = new HashSet<>(indexes);
+    IndexSearchDescriptor last = desc;
+    while (last.remainingCondition instanceof OAndBlock && !last.remainingCondition.isEmpty()) {
+      candidates.remove(last.idx);
+      IndexSearchDescriptor next = findBestIndexFor(ctx, candidates, (OAndBlock) last.remainingCondition, clazz);
+      long nextEstimate = next == null ? -1 : next.estimateFromStatistics(ctx);
+      if (nextEstimate < 0) {
+        break;
+      }
+      parametricEstimate |= next.isParametricEstimate();
+      if (parametricEstimate) {
+        //the indexes to intersect and their order depend on the values of the input parameters of this execution
+        cacheable = false;
+      }
+      long intersection = estimate * nextEstimate / records;
+      if (intersection * INTERSECTION_MIN_REDUCTION > Math.min(estimate, nextEstimate)
+          || nextEstimate > estimate * INTERSECTION_MAX_FETCH_RATIO) {
+        break;
+      }
+      result.add(next);
+      estimate = intersection;
+      last = next;
+    }
+    return result;
+  }
+
+  private OExecutionStepInternal createRidsFetch(List<IndexSearchDescriptor> descriptors, boolean union, OCommandContext ctx,
+      OClass clazz, boolean profilingEnabled) {
+    long[] estimates = new long[descriptors.size()];
+    long estimate = -1;
+    long records = clazz.count();
+    for (int i = 0; i < descriptors.size(); i++) {
+      estimates[i] = descriptors.get(i).estimateFromStatistics(ctx);
+      if (i == 0) {
+        estimate = estimates[i];
+      } else if (estimate < 0 || estimates[i] < 0) {
+        estimate = -1;
+      } else if (union) {
+        estimate = Math.min(records, estimate + estimates[i]);
+      } else if (records > 0) {
+        estimate = estimate * estimates[i] / records;
+      }
+    }
+    return new FetchRidsFromIndexesStep(descriptors, union, estimates, estimate, ctx, profilingEnabled);
+  }
+
   private boolean fullySorted(OOrderBy orderBy, OAndBlock conditions, OIndex idx) {
     if (!idx.supportsOrderedIterations())
       return false;
@@ -1734,21 +2010,6 @@ public class OSelectExecutionPlanner {
     return result == null || result.equals(OOrderByItem.ASC) ? true : false;
   }
 
-  private OExecutionStepInternal createParallelIndexFetch(List<IndexSearchDescriptor> indexSearchDescriptors, OCommandContext ctx,
-      boolean profilingEnabled) {
-    List<OInternalExecutionPlan> subPlans = new ArrayList<>();
-    for (IndexSearchDescriptor desc : indexSearchDescriptors) {
-      OSelectExecutionPlan subPlan = new OSelectExecutionPlan(ctx);
-      subPlan.chain(new FetchFromIndexStep(desc.idx, desc.keyCondition, desc.additionalRangeCondition, ctx, profilingEnabled));
-      subPlan.chain(new GetValueFromIndexEntryStep(ctx, profilingEnabled));
-      if (desc.remainingCondition != null && !desc.remainingCondition.isEmpty()) {
-        subPlan.chain(new FilterStep(createWhereFrom(desc.remainingCondition), ctx, profilingEnabled));
-      }
-      subPlans.add(subPlan);
-    }
-    return new ParallelExecStep(subPlans, ctx, profilingEnabled);
-  }
-
   private OWhereClause createWhereFrom(OBooleanExpression remainingCondition) {
     OWhereClause result = new OWhereClause(-1);
     result.setBaseExpression(remainingCondition);
@@ -1766,10 +2027,15 @@ public class OSelectExecutionPlanner {
    * @return
    */
   private IndexSearchDescriptor findBestIndexFor(OCommandContext ctx, Set<OIndex<?>> indexes, OAndBlock block, OClass clazz) {
-    return indexes.stream().filter(x -> x.getInternal().canBeUsedInEqualityOperators())
+    List<IndexSearchDescriptor> candidates = indexes.stream().filter(x -> x.getInternal().canBeUsedInEqualityOperators())
         .map(index -> buildIndexSearchDescriptor(ctx, index, block, clazz)).filter(Objects::nonNull)
-        .filter(x -> x.keyCondition != null).filter(x -> x.keyCondition.getSubBlocks().size() > 0)
-        .min(Comparator.comparing(x -> x.cost(ctx))).orElse(null);
+        .filter(x -> x.keyCondition != null).filter(x -> x.keyCondition.getSubBlocks().size() > 0).collect(Collectors.toList());
+    IndexSearchDescriptor result = candidates.stream().min(Comparator.comparing(x -> x.cost(ctx))).orElse(null);
+    if (candidates.size() > 1 && candidates.stream().anyMatch(IndexSearchDescriptor::isParametricEstimate)) {
+      //the choice depends on the values of the input parameters of this execution
+      cacheable = false;
+    }
+    return result;
   }
 
   /**
@@ -2,22 +2,37 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.sql.parser.OOrderBy;
 
 import java.util.*;
 
 /**
  * Created by luigidellaquila on 11/07/16.
+ * <p>
+ * When the number of results kept in memory exceeds {@link OGlobalConfiguration#QUERY_ORDER_BY_SPILL_THRESHOLD}, the sorted
+ * results are written to a temporary file (a sorted run) and the sort goes on with an empty buffer. At the end the runs and the
+ * last buffer are merged while the results are fetched, so that the first results are returned before the whole merge is done.
  */
 public class OrderByStep extends AbstractExecutionStep {
+  public static final String STATS_MEMORY_BUDGET   = "orderByMemoryBudget";
+  public static final String STATS_SPILLED_RUNS    = "orderBySpilledRuns";
+  public static final String STATS_SPILLED_RECORDS = "orderBySpilledRecords";
+
   private final OOrderBy orderBy;
   private       Integer  maxResults;
+  private final int      spillThreshold;
 
   private long cost = 0;
 
   List<OResult> cachedResult = null;
   int           nextElement  = 0;
 
+  private List<OResultSpillFile> runs = new ArrayList<>();
+  private PriorityQueue<Run>     mergeQueue;
+  private int                    spilledRuns    = 0;
+  private long                   spilledRecords = 0;
+
   public OrderByStep(OOrderBy orderBy, OCommandContext ctx, boolean profilingEnabled) {
     this(orderBy, null, ctx, profilingEnabled);
   }
@@ -29,6 +44,7 @@ public class OrderByStep extends AbstractExecutionStep {
     if (this.maxResults != null && this.maxResults < 0) {
       this.maxResults = null;
     }
+    this.spillThreshold = OGlobalConfiguration.QUERY_ORDER_BY_SPILL_THRESHOLD.getValueAsInteger();
   }
 
   @Override
@@ -40,13 +56,15 @@ public class OrderByStep extends AbstractExecutionStep {
 
     return new OResultSet() {
       int currentBatchReturned = 0;
-      int offset = nextElement;
 
       @Override
       public boolean hasNext() {
         if (currentBatchReturned >= nRecords) {
           return false;
         }
+        if (mergeQueue != null) {
+          return !mergeQueue.isEmpty();
+        }
         if (cachedResult.size() <= nextElement) {
           return false;
         }
@@ -57,13 +75,10 @@ public class OrderByStep extends AbstractExecutionStep {
       public OResult next() {
         long begin = profilingEnabled ? System.nanoTime() : 0;
         try {
-          if (currentBatchReturned >= nRecords) {
+          if (!hasNext()) {
             throw new IllegalStateException();
           }
-          if (cachedResult.size() <= nextElement) {
-            throw new IllegalStateException();
-          }
-          OResult result = cachedResult.get(offset + currentBatchReturned);
+          OResult result = mergeQueue != null ? nextMerged() : cachedResult.get(nextElement);
           nextElement++;
           currentBatchReturned++;
           return result;
@@ -86,7 +101,7 @@ public class OrderByStep extends AbstractExecutionStep {
 
       @Override
       public Map<String, Long> getQueryStats() {
-        return new HashMap<>();
+        return OrderByStep.this.getQueryStats();
       }
     };
   }
@@ -114,6 +129,10 @@ public class OrderByStep extends AbstractExecutionStep {
             cachedResult = new ArrayList<>(cachedResult.subList(0, maxResults));
             sorted = true;
           }
+          if (spillThreshold > 0 && cachedResult.size() >= spillThreshold) {
+            spill(ctx);
+            sorted = true;
+          }
         } finally {
           if (profilingEnabled) {
             cost += (System.nanoTime() - begin);
@@ -142,6 +161,9 @@ public class OrderByStep extends AbstractExecutionStep {
       if (!sorted) {
         cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
       }
+      if (!runs.isEmpty()) {
+        startMerge(ctx);
+      }
     } finally {
       if (profilingEnabled) {
         cost += (System.nanoTime() - begin);
@@ -150,6 +172,79 @@ public class OrderByStep extends AbstractExecutionStep {
 
   }
 
+  /**
+   * sorts the results kept in memory and writes them to a new sorted run. Only the first <code>maxResults</code> results are
+   * written, the others cannot be part of the final result
+   */
+  private void spill(OCommandContext ctx) {
+    cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
+    int toWrite = maxResults == null ? cachedResult.size() : Math.min(maxResults, cachedResult.size());
+
+    OResultSpillFile run = new OResultSpillFile("orderBy");
+    runs.add(run);
+    for (int i = 0; i < toWrite; i++) {
+      run.write(cachedResult.get(i));
+    }
+    spilledRuns++;
+    spilledRecords += toWrite;
+    cachedResult = new ArrayList<>();
+  }
+
+  private void startMerge(OCommandContext ctx) {
+    mergeQueue = new PriorityQueue<>(runs.size() + 1, (a, b) -> orderBy.compare(a.current, b.current, ctx));
+    for (OResultSpillFile file : runs) {
+      Run run = new Run(file);
+      if (run.advance()) {
+        mergeQueue.add(run);
+      }
+    }
+    Run inMemory = new Run(cachedResult.iterator());
+    if (inMemory.advance()) {
+      mergeQueue.add(inMemory);
+    }
+  }
+
+  private OResult nextMerged() {
+    long begin = profilingEnabled ? System.nanoTime() : 0;
+    try {
+      Run run = mergeQueue.poll();
+      OResult result = run.current;
+      if (run.advance()) {
+        mergeQueue.add(run);
+      }
+      if (mergeQueue.isEmpty()) {
+        closeRuns();
+      }
+      return result;
+    } finally {
+      if (profilingEnabled) {
+        cost += (System.nanoTime() - begin);
+      }
+    }
+  }
+
+  private void closeRuns() {
+    for (OResultSpillFile run : runs) {
+      run.close();
+    }
+    runs.clear();
+  }
+
+  @Override
+  public Map<String, Long> getQueryStats() {
+    Map<String, Long> stats = new HashMap<>();
+    stats.put(STATS_MEMORY_BUDGET, (long) spillThreshold);
+    stats.put(STATS_SPILLED_RUNS, (long) spilledRuns);
+    stats.put(STATS_SPILLED_RECORDS, spilledRecords);
+    return stats;
+  }
+
+  @Override
+  public void close() {
+    closeRuns();
+    super.close();
+  }
+
   @Override
   public String prettyPrint(int depth, int indent) {
     String result = OExecutionStepInternal.getIndent(depth, indent) + "+ " + orderBy;
@@ -157,6 +252,9 @@ public class OrderByStep extends AbstractExecutionStep {
       result += " (" + getCostFormatted() + ")";
     }
     result += (maxResults != null ? "\n  (buffer size: " + maxResults + ")" : "");
+    if (spilledRuns > 0) {
+      result += "\n  (spilled " + spilledRecords + " results in " + spilledRuns + " sorted runs)";
+    }
     return result;
   }
 
@@ -164,4 +262,42 @@ public class OrderByStep extends AbstractExecutionStep {
   public long getCost() {
     return cost;
   }
+
+  /**
+   * a sorted source of the final merge, either a sorted run on disk or the last sorted buffer in memory
+   */
+  private static class Run {
+    private final OResultSpillFile  file;
+    private final Iterator<OResult> iterator;
+    private       OResult           current;
+
+    Run(OResultSpillFile file) {
+      this.file = file;
+      this.iterator = null;
+    }
+
+    Run(Iterator<OResult> iterator) {
+      this.file = null;
+      this.iterator = iterator;
+    }
+
+    boolean advance() {
+      if (file != null) {
+        current = file.hasNext() ? file.next() : null;
+      } else {
+        current = iterator.hasNext() ? iterator.next() : null;
+      }
+      return current != null;
+    }
+  }
+
+  @Override
+  public boolean canBeCached() {
+    return true;
+  }
+
+  @Override
+  public OExecutionStepInternal copy(OCommandContext ctx) {
+    return new OrderByStep(orderBy.copy(), maxResults, ctx, profilingEnabled);
+  }
 }
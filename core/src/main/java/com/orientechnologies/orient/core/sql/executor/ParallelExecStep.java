@@ -1,29 +1,79 @@
 package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.exception.OCommandInterruptedException;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
+ * Executes a set of sub-plans and returns the union of their results.
+ * <p>
+ * If {@link OGlobalConfiguration#QUERY_PARALLEL_SUB_PLANS} is enabled, sub-plans are executed concurrently by the executor of the
+ * database ({@link com.orientechnologies.orient.core.db.OSharedContext#getParallelQueryExecutor()}), each one in its own database
+ * session, and pass their results to this step through bounded queues. In <i>ordered</i> mode results are returned sub-plan by
+ * sub-plan, as in sequential execution, otherwise they are returned in the order they are produced.
+ *
  * @author Luigi Dell'Aquila (l.dellaquila-(at)-orientdb.com)
  */
 public class ParallelExecStep extends AbstractExecutionStep {
+  private static final Object END_OF_PLAN = new Object();
+
+  /**
+   * sub-plans of a step that is executed by a worker are executed sequentially, so that workers never wait for other workers
+   */
+  private static final ThreadLocal<Boolean> IN_WORKER = ThreadLocal.withInitial(() -> false);
+
   private final List<OInternalExecutionPlan> subExecutionPlans;
+  private final boolean                      ordered;
 
   int current = 0;
   private OResultSet currentResultSet = null;
 
+  private          Boolean                     concurrent;
+  private          List<BlockingQueue<Object>> queues;
+  private final    List<Future<?>>             workers   = new ArrayList<>();
+  private          int                         finishedPlans;
+  private volatile boolean                     cancelled = false;
+
   public ParallelExecStep(List<OInternalExecutionPlan> subExecuitonPlans, OCommandContext ctx, boolean profilingEnabled) {
+    this(subExecuitonPlans, ctx, true, profilingEnabled);
+  }
+
+  /**
+   * @param ordered if true, the results of the sub-plans are returned in the same order of the sub-plans, otherwise they are
+   *                returned as soon as they are available (this only makes difference when sub-plans are executed concurrently)
+   */
+  public ParallelExecStep(List<OInternalExecutionPlan> subExecuitonPlans, OCommandContext ctx, boolean ordered,
+      boolean profilingEnabled) {
     super(ctx, profilingEnabled);
     this.subExecutionPlans = subExecuitonPlans;
+    this.ordered = ordered;
   }
 
   @Override
   public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
     getPrev().ifPresent(x -> x.syncPull(ctx, nRecords));
+    if (concurrent == null) {
+      concurrent = canRunConcurrently(ctx);
+      if (concurrent) {
+        startSubPlans(ctx, nRecords);
+      }
+    }
     return new OResultSet() {
       int localCount = 0;
 
@@ -74,6 +124,10 @@ public class ParallelExecStep extends AbstractExecutionStep {
   }
 
   void fetchNext(OCommandContext ctx, int nRecords) {
+    if (Boolean.TRUE.equals(concurrent)) {
+      fetchNextConcurrently(nRecords);
+      return;
+    }
     do {
       if (current >= subExecutionPlans.size()) {
         currentResultSet = null;
@@ -86,6 +140,164 @@ public class ParallelExecStep extends AbstractExecutionStep {
     } while (!currentResultSet.hasNext());
   }
 
+  private boolean canRunConcurrently(OCommandContext ctx) {
+    if (subExecutionPlans.size() < 2 || IN_WORKER.get()) {
+      return false;
+    }
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    if (db == null || !db.getConfiguration().getValueAsBoolean(OGlobalConfiguration.QUERY_PARALLEL_SUB_PLANS)) {
+      return false;
+    }
+    //other sessions cannot see the changes of current transaction
+    if (db.getTransaction().isActive()) {
+      return false;
+    }
+    for (OInternalExecutionPlan plan : subExecutionPlans) {
+      if (!(plan instanceof OSelectExecutionPlan)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void startSubPlans(OCommandContext ctx, int nRecords) {
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    int queueSize = db.getConfiguration().getValueAsInteger(OGlobalConfiguration.QUERY_PARALLEL_RESULT_QUEUE_SIZE);
+
+    queues = new ArrayList<>();
+    if (ordered) {
+      int subPlanQueueSize = Math.max(1, queueSize / subExecutionPlans.size());
+      for (int i = 0; i < subExecutionPlans.size(); i++) {
+        queues.add(new ArrayBlockingQueue<>(subPlanQueueSize));
+      }
+    } else {
+      queues.add(new ArrayBlockingQueue<>(Math.max(1, queueSize)));
+    }
+
+    //the executor runs the sub-plans in the order they are submitted, so in ordered mode the sub-plan that is being consumed is
+    //always running even if all the threads are taken, and the workers of the following sub-plans that wait for space in their
+    //queues cannot block it
+    ExecutorService executor = db.getSharedContext().getParallelQueryExecutor();
+    for (int i = 0; i < subExecutionPlans.size(); i++) {
+      //the copy of the database has to be created by the thread that owns the session
+      ODatabaseDocumentInternal localDatabase = db.copy();
+      OCommandContext localCtx = createSubPlanContext(ctx, localDatabase);
+      BlockingQueue<Object> queue = ordered ? queues.get(i) : queues.get(0);
+
+      workers.add(executor
+          .submit(new SubPlanWorker((OSelectExecutionPlan) subExecutionPlans.get(i), localCtx, localDatabase, queue, nRecords)));
+    }
+    db.activateOnCurrentThread();
+  }
+
+  /**
+   * @return true if the current thread executes a sub-plan of a parallel step, that should not start other concurrent tasks
+   */
+  static boolean isWorkerThread() {
+    return IN_WORKER.get();
+  }
+
+  /**
+   * @return a context for the execution of a sub-plan in another database session, with the same parameters and variables of the
+   * given one
+   */
+  static OCommandContext createSubPlanContext(OCommandContext ctx, ODatabaseDocumentInternal localDatabase) {
+    OBasicCommandContext localCtx = new OBasicCommandContext();
+    localCtx.setParentWithoutOverridingChild(ctx.getParent());
+    localCtx.setInputParameters(ctx.getInputParameters());
+    for (Map.Entry<String, Object> variable : ctx.getVariables().entrySet()) {
+      localCtx.setVariable(variable.getKey(), variable.getValue());
+    }
+    localCtx.setDatabase(localDatabase);
+    return localCtx;
+  }
+
+  private void fetchNextConcurrently(int nRecords) {
+    OInternalResultSet result = new OInternalResultSet();
+    OResult item = takeResult(true);
+    while (item != null) {
+      result.add(item);
+      if (--nRecords <= 0) {
+        break;
+      }
+      item = takeResult(false);
+    }
+    currentResultSet = result.hasNext() ? result : null;
+  }
+
+  /**
+   * @param wait if true, waits until a result is available
+   *
+   * @return next result produced by the sub-plans, null if all the sub-plans are completed or if no result is available and
+   * <code>wait</code> is false
+   */
+  private OResult takeResult(boolean wait) {
+    while (finishedPlans < subExecutionPlans.size()) {
+      BlockingQueue<Object> queue = ordered ? queues.get(current) : queues.get(0);
+      Object item;
+      try {
+        item = wait ? queue.take() : queue.poll();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        cancel();
+        throw OException.wrapException(new OCommandInterruptedException("Parallel execution was interrupted"), e);
+      }
+
+      if (item == null) {
+        return null;
+      }
+      if (item instanceof OResult) {
+        return (OResult) item;
+      }
+      if (item instanceof Throwable) {
+        cancel();
+        if (item instanceof RuntimeException) {
+          throw (RuntimeException) item;
+        }
+        throw OException.wrapException(new OCommandExecutionException("Error on execution of parallel sub-plan"), (Throwable) item);
+      }
+
+      finishedPlans++;
+      if (ordered) {
+        current++;
+      }
+    }
+    return null;
+  }
+
+  private void cancel() {
+    if (cancelled) {
+      return;
+    }
+    cancelled = true;
+    if (queues != null) {
+      //release the workers that are waiting for free space in the queues
+      queues.forEach(BlockingQueue::clear);
+    }
+    for (Future<?> worker : workers) {
+      try {
+        worker.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      } catch (Exception e) {
+        OLogManager.instance().error(this, "Error on execution of parallel sub-plan", e);
+      }
+    }
+  }
+
+  @Override
+  public void sendTimeout() {
+    cancel();
+    super.sendTimeout();
+  }
+
+  @Override
+  public void close() {
+    cancel();
+    super.close();
+  }
+
   @Override
   public String prettyPrint(int depth, int indent) {
     String result = "";
@@ -203,4 +415,82 @@ public class ParallelExecStep extends AbstractExecutionStep {
   public List<OExecutionPlan> getSubExecutionPlans() {
     return (List) subExecutionPlans;
   }
+
+  /**
+   * Executes a sub-plan in its own database session and passes the results to the consumer queue
+   */
+  private final class SubPlanWorker implements Runnable {
+    private final OSelectExecutionPlan      plan;
+    private final OCommandContext           localCtx;
+    private final ODatabaseDocumentInternal localDatabase;
+    private final BlockingQueue<Object>     queue;
+    private final int                       batchSize;
+
+    private SubPlanWorker(OSelectExecutionPlan plan, OCommandContext localCtx, ODatabaseDocumentInternal localDatabase,
+        BlockingQueue<Object> queue, int batchSize) {
+      this.plan = plan;
+      this.localCtx = localCtx;
+      this.localDatabase = localDatabase;
+      this.queue = queue;
+      this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run() {
+      IN_WORKER.set(true);
+      localDatabase.activateOnCurrentThread();
+      try {
+        while (!cancelled) {
+          OResultSet resultSet = plan.fetchNext(localCtx, batchSize);
+          if (!resultSet.hasNext()) {
+            break;
+          }
+          while (resultSet.hasNext() && !cancelled) {
+            put(resultSet.next());
+          }
+        }
+      } catch (Throwable e) {
+        put(e);
+      } finally {
+        try {
+          plan.close();
+        } finally {
+          localDatabase.close();
+          IN_WORKER.set(false);
+          put(END_OF_PLAN);
+        }
+      }
+    }
+
+    private void put(Object item) {
+      try {
+        while (!cancelled) {
+          if (queue.offer(item, 100, TimeUnit.MILLISECONDS)) {
+            return;
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  @Override
+  public boolean canBeCached() {
+    for (OInternalExecutionPlan plan : subExecutionPlans) {
+      if (!plan.canBeCached()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public OExecutionStepInternal copy(OCommandContext ctx) {
+    List<OInternalExecutionPlan> subPlans = new ArrayList<>();
+    for (OInternalExecutionPlan plan : subExecutionPlans) {
+      subPlans.add(plan.copy(ctx));
+    }
+    return new ParallelExecStep(subPlans, ctx, ordered, profilingEnabled);
+  }
 }
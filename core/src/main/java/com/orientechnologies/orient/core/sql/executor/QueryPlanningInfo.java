@@ -48,5 +48,10 @@ public class QueryPlanningInfo {
   boolean orderApplied          = false;
   boolean projectionsCalculated = false;
 
+  /**
+   * set to true when the records are not loaded because the index of the target class holds all the fields the query reads
+   */
+  boolean coveredByIndex = false;
+
 
 }
@@ -147,8 +147,9 @@ public class OSQLFilterItemField extends OSQLFilterItemAbstract {
       return null;
 
     final ORecord rec = iRecord.getRecord();
+    final byte[] stream = rec.toStream();
 
-    return ORecordSerializerBinary.INSTANCE.getCurrentSerializer().deserializeField(new BytesContainer(rec.toStream()).skip(1),
+    return ORecordSerializerBinary.INSTANCE.getSerializer(stream[0]).deserializeField(new BytesContainer(stream).skip(1),
         rec instanceof ODocument ? ((ODocument) rec).getSchemaClass() : null, name);
   }
 
@@ -150,4 +150,36 @@ public interface OSQLFunction {
 	 * @return is the valid merged result
 	 */
 	public Object mergeDistributedResult(List<Object> resultsToMerge);
+
+	/**
+	 * Tells if the state of an aggregation can be extracted with {@link #getPartialResult()} and merged into another instance of
+	 * the same function with {@link #mergePartialResult(Object)}. It is used by the query executor to aggregate subsets of the
+	 * records separately (eg. when partial aggregations are written to disk) and to combine them later.
+	 * 
+	 * @return {@code true} if partial results are supported, {@code false} otherwise
+	 */
+	public default boolean supportsPartialResults() {
+		return false;
+	}
+
+	/**
+	 * Returns the current state of the aggregation. The state contains only values that can be serialized as a field of a document
+	 * (numbers, strings, collections, maps, records...).
+	 * 
+	 * @return the partial result of the aggregation
+	 */
+	public default Object getPartialResult() {
+		throw new UnsupportedOperationException("Function '" + getName() + "' does not support partial results");
+	}
+
+	/**
+	 * Merges the partial result of another instance of the same function, returned by {@link #getPartialResult()}, into the state of
+	 * this instance.
+	 * 
+	 * @param partialResult
+	 *          the partial result to merge, can be null
+	 */
+	public default void mergePartialResult(Object partialResult) {
+		throw new UnsupportedOperationException("Function '" + getName() + "' does not support partial results");
+	}
 }
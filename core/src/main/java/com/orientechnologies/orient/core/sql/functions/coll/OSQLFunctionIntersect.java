@@ -101,6 +101,19 @@ public class OSQLFunctionIntersect extends OSQLFunctionMultiValueAbstract<Object
     return OMultiValue.toSet(context);
   }
 
+  @Override
+  public boolean supportsPartialResults() {
+    return true;
+  }
+
+  @Override
+  public Object getPartialResult() {
+    if (context instanceof Iterator)
+      // THE ITERATOR CAN BE CONSUMED ONLY ONCE
+      context = OMultiValue.toSet(context);
+    return context;
+  }
+
   static Collection intersectWith(final Iterator current, Object value) {
     final HashSet tempSet = new HashSet();
 
@@ -58,6 +58,11 @@ public class OSQLFunctionList extends OSQLFunctionMultiValueAbstract<List<Object
     return prepareResult(context);
   }
 
+  @Override
+  public boolean supportsPartialResults() {
+    return true;
+  }
+
   public String getSyntax() {
     return "list(<value>*)";
   }
@@ -80,6 +80,11 @@ public class OSQLFunctionMap extends OSQLFunctionMultiValueAbstract<Map<Object,
     return prepareResult(context);
   }
 
+  @Override
+  public boolean supportsPartialResults() {
+    return true;
+  }
+
   public String getSyntax() {
     return "map(<map>|[<key>,<value>]*)";
   }
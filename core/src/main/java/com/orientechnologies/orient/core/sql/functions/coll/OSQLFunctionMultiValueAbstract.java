@@ -49,4 +49,19 @@ public abstract class OSQLFunctionMultiValueAbstract<T> extends OSQLFunctionConf
   public boolean shouldMergeDistributedResult() {
     return true;
   }
+
+  @Override
+  public Object getPartialResult() {
+    return context;
+  }
+
+  /**
+   * Merges the partial result by executing the function in aggregation mode with the partial result as parameter: every function
+   * of this family adds all the items of a collection parameter to its context.
+   */
+  @Override
+  public void mergePartialResult(final Object partialResult) {
+    if (partialResult != null)
+      execute(null, null, null, new Object[] { partialResult }, null);
+  }
 }
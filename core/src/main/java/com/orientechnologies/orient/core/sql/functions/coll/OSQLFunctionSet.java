@@ -68,6 +68,11 @@ public class OSQLFunctionSet extends OSQLFunctionMultiValueAbstract<Set<Object>>
     return prepareResult(context);
   }
 
+  @Override
+  public boolean supportsPartialResults() {
+    return true;
+  }
+
   public String getSyntax() {
     return "set(<value>*)";
   }
@@ -78,6 +78,11 @@ public class OSQLFunctionUnionAll extends OSQLFunctionMultiValueAbstract<Collect
     }
   }
 
+  @Override
+  public boolean supportsPartialResults() {
+    return true;
+  }
+
   public String getSyntax() {
     return "unionAll(<field>*)";
   }
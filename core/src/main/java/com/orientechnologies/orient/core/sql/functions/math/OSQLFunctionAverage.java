@@ -92,6 +92,36 @@ public class OSQLFunctionAverage extends OSQLFunctionMathAbstract {
     }
   }
 
+  @Override
+  public boolean supportsPartialResults() {
+    return true;
+  }
+
+  @Override
+  public Object getPartialResult() {
+    final Map<String, Object> state = new HashMap<String, Object>();
+    state.put("sum", sum);
+    state.put("total", total);
+    return state;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public void mergePartialResult(final Object partialResult) {
+    if (partialResult == null)
+      return;
+
+    final Map<String, Object> state = (Map<String, Object>) partialResult;
+    final Number partialSum = (Number) state.get("sum");
+    if (partialSum != null) {
+      if (sum == null)
+        sum = partialSum;
+      else
+        sum = OType.increment(sum, partialSum);
+    }
+    total += ((Number) state.get("total")).intValue();
+  }
+
   @SuppressWarnings("unchecked")
   @Override
   public Object mergeDistributedResult(final List<Object> resultsToMerge) {
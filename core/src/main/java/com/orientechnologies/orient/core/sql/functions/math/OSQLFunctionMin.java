@@ -105,6 +105,37 @@ public class OSQLFunctionMin extends OSQLFunctionMathAbstract {
     return context;
   }
 
+  @Override
+  public boolean supportsPartialResults() {
+    return true;
+  }
+
+  @Override
+  public Object getPartialResult() {
+    return context;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public void mergePartialResult(Object partialResult) {
+    if (partialResult == null)
+      return;
+
+    if (context == null)
+      // FIRST TIME
+      context = partialResult;
+    else {
+      if (context instanceof Number && partialResult instanceof Number) {
+        final Number[] casted = OType.castComparableNumber((Number) context, (Number) partialResult);
+        context = casted[0];
+        partialResult = casted[1];
+      }
+      if (((Comparable<Object>) context).compareTo(partialResult) > 0)
+        // SMALLER
+        context = partialResult;
+    }
+  }
+
   @SuppressWarnings("unchecked")
   @Override
   public Object mergeDistributedResult(List<Object> resultsToMerge) {
@@ -82,6 +82,21 @@ public class OSQLFunctionSum extends OSQLFunctionMathAbstract {
     return sum == null ? 0 : sum;
   }
 
+  @Override
+  public boolean supportsPartialResults() {
+    return true;
+  }
+
+  @Override
+  public Object getPartialResult() {
+    return sum;
+  }
+
+  @Override
+  public void mergePartialResult(final Object partialResult) {
+    sum((Number) partialResult);
+  }
+
   @Override
   public Object mergeDistributedResult(List<Object> resultsToMerge) {
     Number sum = null;
@@ -66,6 +66,22 @@ public class OSQLFunctionCount extends OSQLFunctionMathAbstract {
     total = ((Number) iResult).longValue();
   }
 
+  @Override
+  public boolean supportsPartialResults() {
+    return true;
+  }
+
+  @Override
+  public Object getPartialResult() {
+    return total;
+  }
+
+  @Override
+  public void mergePartialResult(final Object partialResult) {
+    if (partialResult != null)
+      total += ((Number) partialResult).longValue();
+  }
+
   @Override
   public Object mergeDistributedResult(List<Object> resultsToMerge) {
     long total = 0;
@@ -0,0 +1,62 @@
+/* Generated By:JJTree: Do not edit this line. OAnalyzeClassStatement.java Version 4.3 */
+/* JavaCCOptions:MULTI=true,NODE_USES_PARSER=false,VISITOR=true,TRACK_TOKENS=true,NODE_PREFIX=O,NODE_EXTENDS=,NODE_FACTORY=,SUPPORT_CLASS_VISIBILITY_PUBLIC=true */
+package com.orientechnologies.orient.core.sql.parser;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+
+import java.util.Map;
+
+public class OAnalyzeClassStatement extends OSimpleExecStatement {
+
+  protected OIdentifier className;
+
+  public OAnalyzeClassStatement(int id) {
+    super(id);
+  }
+
+  public OAnalyzeClassStatement(OrientSql p, int id) {
+    super(p, id);
+  }
+
+  @Override public OResultSet executeSimple(OCommandContext ctx) {
+    final ODatabaseDocument database = getDatabase();
+    OClass clazz = database.getMetadata().getSchema().getClass(className.getStringValue());
+    if (clazz == null) {
+      throw new OCommandExecutionException("Class not found: " + className);
+    }
+    return OAnalyzeIndexStatement.analyze(database, clazz.getIndexes());
+  }
+
+  @Override public void toString(Map<Object, Object> params, StringBuilder builder) {
+    builder.append("ANALYZE CLASS ");
+    className.toString(params, builder);
+  }
+
+  @Override public OAnalyzeClassStatement copy() {
+    OAnalyzeClassStatement result = new OAnalyzeClassStatement(-1);
+    result.className = className == null ? null : className.copy();
+    return result;
+  }
+
+  @Override public boolean equals(Object o) {
+    if (this == o)
+      return true;
+    if (o == null || getClass() != o.getClass())
+      return false;
+
+    OAnalyzeClassStatement that = (OAnalyzeClassStatement) o;
+
+    if (className != null ? !className.equals(that.className) : that.className != null)
+      return false;
+
+    return true;
+  }
+
+  @Override public int hashCode() {
+    return className != null ? className.hashCode() : 0;
+  }
+}
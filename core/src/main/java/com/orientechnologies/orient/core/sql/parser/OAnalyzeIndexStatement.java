@@ -0,0 +1,136 @@
+/* Generated By:JJTree: Do not edit this line. OAnalyzeIndexStatement.java Version 4.3 */
+/* JavaCCOptions:MULTI=true,NODE_USES_PARSER=false,VISITOR=true,TRACK_TOKENS=true,NODE_PREFIX=O,NODE_EXTENDS=,NODE_FACTORY=,SUPPORT_CLASS_VISIBILITY_PUBLIC=true */
+package com.orientechnologies.orient.core.sql.parser;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexStatistics;
+import com.orientechnologies.orient.core.sql.executor.OExecutionPlanCache;
+import com.orientechnologies.orient.core.sql.executor.OInternalResultSet;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+public class OAnalyzeIndexStatement extends OSimpleExecStatement {
+
+  protected boolean all = false;
+  protected OIndexName name;
+
+  public OAnalyzeIndexStatement(int id) {
+    super(id);
+  }
+
+  public OAnalyzeIndexStatement(OrientSql p, int id) {
+    super(p, id);
+  }
+
+  @Override public OResultSet executeSimple(OCommandContext ctx) {
+    final ODatabaseDocument database = getDatabase();
+    Collection<? extends OIndex<?>> indexes;
+    if (all) {
+      indexes = database.getMetadata().getIndexManager().getIndexes();
+    } else {
+      final OIndex<?> idx = database.getMetadata().getIndexManager().getIndex(name.getValue());
+      if (idx == null)
+        throw new OCommandExecutionException("Index '" + name + "' not found");
+      indexes = Collections.singletonList(idx);
+    }
+    return analyze(database, indexes);
+  }
+
+  /**
+   * builds the statistics of a set of indexes and saves them in the index configuration, indexes which do not support statistics
+   * are skipped
+   *
+   * @return a result for each index, with the operation and a summary of the statistics
+   */
+  static OResultSet analyze(ODatabaseDocument database, Collection<? extends OIndex<?>> indexes) {
+    OInternalResultSet rs = new OInternalResultSet();
+    for (OIndex<?> idx : indexes) {
+      if (!idx.getInternal().supportsStatistics())
+        continue;
+
+      final OIndexStatistics statistics = OIndexStatistics.analyze(idx);
+      idx.getInternal().setStatistics(statistics);
+
+      OResultInternal result = new OResultInternal();
+      result.setProperty("operation", "analyze index");
+      result.setProperty("name", idx.getName());
+      result.setProperty("entries", statistics.getEntries());
+      result.setProperty("keys", statistics.getKeys());
+      result.setProperty("buckets", statistics.getBuckets());
+      rs.add(result);
+    }
+    saveStatistics(database);
+    return rs;
+  }
+
+  /**
+   * @return true if at least one of the indexes has statistics
+   */
+  static boolean hasStatistics(Collection<? extends OIndex<?>> indexes) {
+    for (OIndex<?> idx : indexes) {
+      if (idx.getInternal().getStatistics() != null) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * saves the index configuration after statistics of indexes were built or removed, and invalidates the execution plans chosen
+   * with the previous statistics
+   */
+  static void saveStatistics(ODatabaseDocument database) {
+    database.getMetadata().getIndexManager().save();
+
+    OExecutionPlanCache cache = OExecutionPlanCache.instance((ODatabaseDocumentInternal) database);
+    if (cache != null) {
+      cache.invalidate();
+    }
+  }
+
+  @Override public void toString(Map<Object, Object> params, StringBuilder builder) {
+    builder.append("ANALYZE INDEX ");
+    if (all) {
+      builder.append("*");
+    } else {
+      name.toString(params, builder);
+    }
+  }
+
+  @Override public OAnalyzeIndexStatement copy() {
+    OAnalyzeIndexStatement result = new OAnalyzeIndexStatement(-1);
+    result.all = all;
+    result.name = name == null ? null : name.copy();
+    return result;
+  }
+
+  @Override public boolean equals(Object o) {
+    if (this == o)
+      return true;
+    if (o == null || getClass() != o.getClass())
+      return false;
+
+    OAnalyzeIndexStatement that = (OAnalyzeIndexStatement) o;
+
+    if (all != that.all)
+      return false;
+    if (name != null ? !name.equals(that.name) : that.name != null)
+      return false;
+
+    return true;
+  }
+
+  @Override public int hashCode() {
+    int result = (all ? 1 : 0);
+    result = 31 * result + (name != null ? name.hashCode() : 0);
+    return result;
+  }
+}
@@ -11,7 +11,9 @@ import com.orientechnologies.orient.core.index.*;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OClassImpl;
 import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.metadata.schema.OProperty;
 import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.serialization.serializer.binary.OBinarySerializerFactory;
 import com.orientechnologies.orient.core.sql.OSQLEngine;
 import com.orientechnologies.orient.core.sql.executor.OInternalResultSet;
 import com.orientechnologies.orient.core.sql.executor.OResultInternal;
@@ -25,6 +27,7 @@ public class OCreateIndexStatement extends ODDLStatement {
   protected OIndexName  name;
   protected OIdentifier className;
   protected List<Property> propertyList = new ArrayList<Property>();
+  protected List<OIdentifier> includedProperties = new ArrayList<OIdentifier>();
   protected OIdentifier type;
   protected OIdentifier engine;
   protected List<OIdentifier> keyTypes = new ArrayList<OIdentifier>();
@@ -55,6 +58,12 @@ public class OCreateIndexStatement extends ODDLStatement {
     List<OCollate> collatesList = calculateCollates(ctx);
     String engine = this.engine == null ? null : this.engine.getStringValue().toUpperCase(Locale.ENGLISH);
     ODocument metadataDoc = calculateMetadata(ctx);
+    if (includedProperties != null && includedProperties.size() > 0) {
+      if (metadataDoc == null) {
+        metadataDoc = new ODocument();
+      }
+      metadataDoc.field(OIndex.INCLUDED_FIELDS, calculateIncludedProperties(ctx));
+    }
 
     if (propertyList == null || propertyList.size() == 0) {
       OIndexFactory factory = OIndexes.getFactory(type.getStringValue(), null);
@@ -121,6 +130,33 @@ public class OCreateIndexStatement extends ODDLStatement {
     return propertyList.stream().map(x -> x.getCompleteKey()).collect(Collectors.toList()).toArray(new String[] {});
   }
 
+  /**
+   * returns the names of the properties to be stored in the index next to the RID, checking that they are defined in the class
+   * with a type that can be stored in the index
+   *
+   * @param ctx
+   * @return
+   */
+  private List<String> calculateIncludedProperties(OCommandContext ctx) {
+    OClass oClass = getIndexClass(ctx);
+    List<String> result = new ArrayList<>();
+    for (OIdentifier includedProperty : includedProperties) {
+      String propertyName = includedProperty.getStringValue();
+      OProperty property = oClass.getProperty(propertyName);
+      if (property == null) {
+        throw new OIndexException(
+            "Index with name : '" + name.getValue() + "' cannot be created on class : '" + oClass.getName() + "' because field: '"
+                + propertyName + "' is absent in class definition.");
+      }
+      if (OBinarySerializerFactory.getInstance().getObjectSerializer(property.getType()) == null) {
+        throw new OIndexException("Index with name : '" + name.getValue() + "' cannot include field : '" + propertyName
+            + "' of type " + property.getType());
+      }
+      result.add(propertyName);
+    }
+    return result;
+  }
+
   /**
    * calculates the indexed class based on the class name
    *
@@ -209,6 +245,18 @@ public class OCreateIndexStatement extends ODDLStatement {
         first = false;
       }
       builder.append(")");
+      if (includedProperties != null && includedProperties.size() > 0) {
+        builder.append(" INCLUDE (");
+        first = true;
+        for (OIdentifier includedProperty : includedProperties) {
+          if (!first) {
+            builder.append(", ");
+          }
+          includedProperty.toString(params, builder);
+          first = false;
+        }
+        builder.append(")");
+      }
     }
     builder.append(" ");
     type.toString(params, builder);
@@ -239,6 +287,8 @@ public class OCreateIndexStatement extends ODDLStatement {
     result.name = name == null ? null : name.copy();
     result.className = className == null ? null : className.copy();
     result.propertyList = propertyList == null ? null : propertyList.stream().map(x -> x.copy()).collect(Collectors.toList());
+    result.includedProperties =
+        includedProperties == null ? null : includedProperties.stream().map(x -> x.copy()).collect(Collectors.toList());
     result.type = type == null ? null : type.copy();
     result.engine = engine == null ? null : engine.copy();
     result.keyTypes = keyTypes == null ? null : keyTypes.stream().map(x -> x.copy()).collect(Collectors.toList());
@@ -261,6 +311,8 @@ public class OCreateIndexStatement extends ODDLStatement {
       return false;
     if (propertyList != null ? !propertyList.equals(that.propertyList) : that.propertyList != null)
       return false;
+    if (includedProperties != null ? !includedProperties.equals(that.includedProperties) : that.includedProperties != null)
+      return false;
     if (type != null ? !type.equals(that.type) : that.type != null)
       return false;
     if (engine != null ? !engine.equals(that.engine) : that.engine != null)
@@ -278,6 +330,7 @@ public class OCreateIndexStatement extends ODDLStatement {
     int result = name != null ? name.hashCode() : 0;
     result = 31 * result + (className != null ? className.hashCode() : 0);
     result = 31 * result + (propertyList != null ? propertyList.hashCode() : 0);
+    result = 31 * result + (includedProperties != null ? includedProperties.hashCode() : 0);
     result = 31 * result + (type != null ? type.hashCode() : 0);
     result = 31 * result + (engine != null ? engine.hashCode() : 0);
     result = 31 * result + (keyTypes != null ? keyTypes.hashCode() : 0);
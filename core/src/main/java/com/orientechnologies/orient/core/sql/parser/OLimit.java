@@ -57,6 +57,13 @@ public class OLimit extends SimpleNode {
     throw new OCommandExecutionException("No value for LIMIT");
   }
 
+  /**
+   * @return the input parameter that holds the value, null if the value is a number
+   */
+  public OInputParameter getInputParam() {
+    return inputParam;
+  }
+
   public OLimit copy() {
     OLimit result = new OLimit(-1);
     result.num = num == null ? null : num.copy();
@@ -1,11 +1,14 @@
 package com.orientechnologies.orient.core.sql.parser;
 
 import com.orientechnologies.orient.core.sql.executor.OExecutionPlan;
+import com.orientechnologies.orient.core.sql.executor.OExecutionStep;
+import com.orientechnologies.orient.core.sql.executor.OExecutionStepInternal;
 import com.orientechnologies.orient.core.sql.executor.OInternalExecutionPlan;
 import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.core.sql.executor.OResultSet;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -64,7 +67,21 @@ public class OLocalResultSet implements OResultSet {
   }
 
   @Override public Map<String, Long> getQueryStats() {
-    return new HashMap<>();//TODO
+    Map<String, Long> result = new HashMap<>();
+    collectQueryStats(executionPlan.getSteps(), result);
+    return result;
+  }
+
+  private void collectQueryStats(List<OExecutionStep> steps, Map<String, Long> result) {
+    if (steps == null) {
+      return;
+    }
+    for (OExecutionStep step : steps) {
+      if (step instanceof OExecutionStepInternal) {
+        ((OExecutionStepInternal) step).getQueryStats().forEach((key, value) -> result.merge(key, value, Long::sum));
+      }
+      collectQueryStats(step.getSubSteps(), result);
+    }
   }
 
 }
@@ -103,5 +103,9 @@ public class OParenthesisBlock extends OBooleanExpression {
   public void translateLuceneOperator() {
     subElement.translateLuceneOperator();
   }
+
+  public OBooleanExpression getSubElement() {
+    return subElement;
+  }
 }
 /* JavaCC - OriginalChecksum=9a16b6cf7d051382acb94c45067631a9 (do not edit this line) */
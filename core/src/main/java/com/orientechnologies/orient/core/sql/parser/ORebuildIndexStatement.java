@@ -10,6 +10,8 @@ import com.orientechnologies.orient.core.sql.executor.OInternalResultSet;
 import com.orientechnologies.orient.core.sql.executor.OResultInternal;
 import com.orientechnologies.orient.core.sql.executor.OResultSet;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 
 public class ORebuildIndexStatement extends OSimpleExecStatement {
@@ -30,9 +32,13 @@ public class ORebuildIndexStatement extends OSimpleExecStatement {
     result.setProperty("operation", "rebuild index");
 
     final ODatabaseDocument database = getDatabase();
+    final boolean hadStatistics;
     if (all) {
+      final Collection<? extends OIndex<?>> indexes = database.getMetadata().getIndexManager().getIndexes();
+      hadStatistics = OAnalyzeIndexStatement.hasStatistics(indexes);
+
       long totalIndexed = 0;
-      for (OIndex<?> idx : database.getMetadata().getIndexManager().getIndexes()) {
+      for (OIndex<?> idx : indexes) {
         if (idx.isAutomatic())
           totalIndexed += idx.rebuild();
       }
@@ -47,10 +53,17 @@ public class ORebuildIndexStatement extends OSimpleExecStatement {
         throw new OCommandExecutionException(
             "Cannot rebuild index '" + name + "' because it's manual and there aren't indications of what to index");
 
+      hadStatistics = OAnalyzeIndexStatement.hasStatistics(Collections.singletonList(idx));
+
       long val = idx.rebuild();
       result.setProperty("totalIndexed", val);
 
     }
+
+    //rebuilt indexes drop their statistics, the configuration is saved once for all of them
+    if (hadStatistics)
+      OAnalyzeIndexStatement.saveStatistics(database);
+
     OInternalResultSet rs = new OInternalResultSet();
     rs.add(result);
     return rs;
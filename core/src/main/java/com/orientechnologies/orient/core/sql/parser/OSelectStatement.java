@@ -9,6 +9,7 @@ package com.orientechnologies.orient.core.sql.parser;
 import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.sql.OCommandSQLParsingException;
 import com.orientechnologies.orient.core.sql.executor.*;
 import com.orientechnologies.orient.core.storage.OStorage;
@@ -260,8 +261,28 @@ public class OSelectStatement extends OStatement {
   }
 
   public OInternalExecutionPlan createExecutionPlan(OCommandContext ctx, boolean enableProfiling) {
+    ODatabaseDocumentInternal db = ctx.getDatabase() instanceof ODatabaseDocumentInternal ?
+        (ODatabaseDocumentInternal) ctx.getDatabase() :
+        null;
+    OExecutionPlanCache cache = enableProfiling ? null : OExecutionPlanCache.instance(db);
+    if (cache == null) {
+      OSelectExecutionPlanner planner = new OSelectExecutionPlanner(this);
+      return planner.createExecutionPlan(ctx, enableProfiling);
+    }
+
+    String statement = toString();
+    OInternalExecutionPlan result = cache.get(statement, ctx, db);
+    if (result != null) {
+      return result;
+    }
+    OExecutionPlanCache.MetadataVersion version = OExecutionPlanCache.getMetadataVersion(db);
     OSelectExecutionPlanner planner = new OSelectExecutionPlanner(this);
-    return planner.createExecutionPlan(ctx, enableProfiling);
+    result = planner.createExecutionPlan(ctx, enableProfiling);
+    if (result.canBeCached()) {
+      //the cached plan must not keep the session of this execution alive
+      cache.put(statement, result.copy(new OBasicCommandContext()), version);
+    }
+    return result;
   }
 
   @Override
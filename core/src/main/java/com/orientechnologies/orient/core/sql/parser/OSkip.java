@@ -57,6 +57,13 @@ public class OSkip extends SimpleNode {
     throw new OCommandExecutionException("No value for SKIP");
   }
 
+  /**
+   * @return the input parameter that holds the value, null if the value is a number
+   */
+  public OInputParameter getInputParam() {
+    return inputParam;
+  }
+
   public OSkip copy() {
     OSkip result = new OSkip(-1);
     result.num = num == null ? null : num.copy();
@@ -6,7 +6,9 @@ import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.orient.core.cache.OCommandCache;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.metadata.OMetadataInternal;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OSchema;
@@ -16,6 +18,7 @@ import com.orientechnologies.orient.core.sql.executor.OResultSet;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
 
 public class OTruncateClassStatement extends ODDLStatement {
@@ -71,6 +74,15 @@ public class OTruncateClassStatement extends ODDLStatement {
       }
     }
 
+    //truncated indexes drop their statistics, the configuration is saved once for all of them
+    final Collection<OIndex<?>> indexes = new HashSet<>(clazz.getIndexes());
+    if (polymorphic) {
+      for (OClass subclass : subclasses) {
+        indexes.addAll(subclass.getIndexes());
+      }
+    }
+    final boolean hadStatistics = OAnalyzeIndexStatement.hasStatistics(indexes);
+
     try {
       clazz.truncate();
       OResultInternal result = new OResultInternal();
@@ -90,6 +102,10 @@ public class OTruncateClassStatement extends ODDLStatement {
       }
     } catch (IOException e) {
       throw OException.wrapException(new OCommandExecutionException("Error on executing command"), e);
+    } finally {
+      if (hadStatistics) {
+        OAnalyzeIndexStatement.saveStatistics((ODatabaseDocument) db);
+      }
     }
 
 
@@ -122,6 +122,11 @@ public class OWhereClause extends SimpleNode {
       }
     }
     if (key != null) {
+      OIndexStatistics statistics = ((OIndex<?>) index).getInternal().getStatistics();
+      if (statistics != null && nMatchingKeys == definitionFields.size()) {
+        long currentKeys = index.getKeySize();
+        return nMatchingKeys == 1 ? statistics.estimateEquals(key, currentKeys) : statistics.estimateEquals(currentKeys);
+      }
       Object result = null;
       if (conditions.size() == definitionFields.size()) {
         result = index.get(key);
@@ -25,7 +25,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
       if (jj_2_1(4)) {
-        jj_consume_token(250);
+        jj_consume_token(252);
         jjtn000.cluster = Integer();
         jj_consume_token(COLON);
         jjtn000.position = Integer();
@@ -152,6 +152,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         case ALTER:
         case DROP:
         case REBUILD:
+        case ANALYZE:
         case OPTIMIZE:
         case EXPLAIN:
         case GRANT:
@@ -423,9 +424,15 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case ENGINE:
         token = jj_consume_token(ENGINE);
         break;
+      case INCLUDE:
+        token = jj_consume_token(INCLUDE);
+        break;
       case REBUILD:
         token = jj_consume_token(REBUILD);
         break;
+      case ANALYZE:
+        token = jj_consume_token(ANALYZE);
+        break;
       case ID:
         token = jj_consume_token(ID);
         break;
@@ -767,7 +774,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
     jjtree.openNodeScope(jjtn000);
     jjtn000.jjtSetFirstToken(getToken(1));OStatement result = null;
     try {
-      if (jj_2_41(2)) {
+      if (jj_2_43(2)) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case SELECT:
         case TRAVERSE:
@@ -853,12 +860,16 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                     default:
                       jj_la1[12] = jj_gen;
                       if (jj_2_33(2)) {
+                        result = AnalyzeIndexStatement();
+                      } else if (jj_2_34(2)) {
+                        result = AnalyzeClassStatement();
+                      } else if (jj_2_35(2)) {
                         result = DropIndexStatement();
-                      } else if (jj_2_34(2147483647)) {
+                      } else if (jj_2_36(2147483647)) {
                         result = AlterClusterStatement();
-                      } else if (jj_2_35(2)) {
+                      } else if (jj_2_37(2)) {
                         result = DropClusterStatement();
-                      } else if (jj_2_36(2)) {
+                      } else if (jj_2_38(2)) {
                         result = AlterDatabaseStatement();
                       } else {
                         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -894,13 +905,13 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                           break;
                         default:
                           jj_la1[13] = jj_gen;
-                          if (jj_2_37(2147483647)) {
+                          if (jj_2_39(2147483647)) {
                             result = HaRemoveServerStatement();
-                          } else if (jj_2_38(2147483647)) {
+                          } else if (jj_2_40(2147483647)) {
                             result = HaStatusStatement();
-                          } else if (jj_2_39(2147483647)) {
+                          } else if (jj_2_41(2147483647)) {
                             result = HaSyncDatabaseStatement();
-                          } else if (jj_2_40(2147483647)) {
+                          } else if (jj_2_42(2147483647)) {
                             result = HaSyncClusterStatement();
                           } else {
                             jj_consume_token(-1);
@@ -922,7 +933,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           break;
         default:
           jj_la1[14] = jj_gen;
-          if (jj_2_42(2147483647)) {
+          if (jj_2_44(2147483647)) {
             result = ProfileStatement();
           } else {
             switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -971,7 +982,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
  jjtree.openNodeScope(jjtn000);
  jjtn000.jjtSetFirstToken(getToken(1));OStatement result;
     try {
-      if (jj_2_43(2147483647)) {
+      if (jj_2_45(2147483647)) {
         result = SelectStatement();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -986,7 +997,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           break;
         default:
           jj_la1[16] = jj_gen;
-          if (jj_2_44(2147483647)) {
+          if (jj_2_46(2147483647)) {
             result = FindReferencesStatement();
           } else {
             jj_consume_token(-1);
@@ -1238,7 +1249,9 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case INDEX:
       case COLLATE:
       case ENGINE:
+      case INCLUDE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -1297,7 +1310,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 250:
+      case 252:
         jjtn000.projection = Projection();
         break;
       default:
@@ -1538,7 +1551,9 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case INDEX:
       case COLLATE:
       case ENGINE:
+      case INCLUDE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -1711,7 +1726,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                                                 jjtn000.matchExpressions.add(lastMatchExpr);
       }
       jj_consume_token(RETURN);
-      if (jj_2_45(2)) {
+      if (jj_2_47(2)) {
         jj_consume_token(DISTINCT);
                            jjtn000.returnDistinct = true;
         lastReturn = Expression();
@@ -1724,7 +1739,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           jj_la1[53] = jj_gen;
           ;
         }
-      } else if (jj_2_46(2147483647)) {
+      } else if (jj_2_48(2147483647)) {
         lastReturn = Expression();
                                          lastReturnAlias = null;
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1989,15 +2004,15 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
   jjtree.openNodeScope(jjtn000);
   jjtn000.jjtSetFirstToken(getToken(1));ODeleteEdgeStatement result;
     try {
-      if (jj_2_47(2147483647)) {
+      if (jj_2_49(2147483647)) {
         result = DeleteEdgeByRidStatement();
-      } else if (jj_2_48(2147483647)) {
+      } else if (jj_2_50(2147483647)) {
         result = DeleteEdgeFromToStatement();
-      } else if (jj_2_49(2147483647)) {
+      } else if (jj_2_51(2147483647)) {
         result = DeleteEdgeVToStatement();
-      } else if (jj_2_50(2147483647)) {
+      } else if (jj_2_52(2147483647)) {
         result = DeleteEdgeToStatement();
-      } else if (jj_2_51(2147483647)) {
+      } else if (jj_2_53(2147483647)) {
         result = DeleteEdgeWhereStatement();
       } else {
         jj_consume_token(-1);
@@ -2043,7 +2058,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case INTEGER_LITERAL:
       case LBRACE:
       case MINUS:
-      case 250:
+      case 252:
         jjtn000.rid = Rid();
         break;
       case LBRACKET:
@@ -2052,7 +2067,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 250:
+        case 252:
           lastRid = Rid();
                     jjtn000.rids = new ArrayList();
                     jjtn000.rids.add(lastRid);
@@ -2178,7 +2193,9 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case INDEX:
       case COLLATE:
       case ENGINE:
+      case INCLUDE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -2477,7 +2494,9 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case INDEX:
       case COLLATE:
       case ENGINE:
+      case INCLUDE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -2686,7 +2705,9 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -2745,7 +2766,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 250:
+        case 252:
           jjtn000.returnProjection = Projection();
           break;
         default:
@@ -2951,7 +2972,9 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -3010,7 +3033,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 250:
+        case 252:
           jjtn000.returnProjection = Projection();
           break;
         default:
@@ -3504,7 +3527,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
     try {
       jj_consume_token(INSERT);
       jj_consume_token(INTO);
-      if (jj_2_52(2147483647)) {
+      if (jj_2_54(2147483647)) {
         jjtn000.targetIndex = IndexIdentifier();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3559,7 +3582,9 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -3622,7 +3647,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           throw new ParseException();
         }
       }
-      if (jj_2_53(2147483647)) {
+      if (jj_2_55(2147483647)) {
         jjtn000.insertBody = InsertBody();
       } else {
         ;
@@ -3651,7 +3676,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case SELECT:
-          if (jj_2_54(2147483647)) {
+          if (jj_2_56(2147483647)) {
             jjtn000.selectStatement = SelectStatement();
           } else {
             switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3667,9 +3692,9 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           break;
         default:
           jj_la1[126] = jj_gen;
-          if (jj_2_56(2)) {
+          if (jj_2_58(2)) {
             jj_consume_token(LPAREN);
-            if (jj_2_55(2147483647)) {
+            if (jj_2_57(2147483647)) {
               jjtn000.selectStatement = SelectStatement();
             } else {
               switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3739,7 +3764,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
     OExpression lastExpression;
     List<OExpression> lastExpressionList;
     try {
-      if (jj_2_57(3)) {
+      if (jj_2_59(3)) {
         jj_consume_token(LPAREN);
         lastIdentifier = Identifier();
                     jjtn000.identifierList = new ArrayList<OIdentifier>();
@@ -3813,7 +3838,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           }
           jj_consume_token(RPAREN);
         }
-      } else if (jj_2_58(3)) {
+      } else if (jj_2_60(3)) {
         jj_consume_token(SET);
                     jjtn000.setExpressions = new ArrayList<OInsertSetExpression>();
                     OInsertSetExpression lastSetExpr = new OInsertSetExpression();
@@ -3954,7 +3979,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
     try {
       jj_consume_token(CREATE);
       jj_consume_token(VERTEX);
-      if (jj_2_59(2147483647)) {
+      if (jj_2_61(2147483647)) {
         jjtn000.targetClass = Identifier();
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case CLUSTER:
@@ -3965,7 +3990,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           jj_la1[136] = jj_gen;
           ;
         }
-      } else if (jj_2_60(2147483647)) {
+      } else if (jj_2_62(2147483647)) {
         jjtn000.targetCluster = Cluster();
       } else {
         jj_consume_token(-1);
@@ -3980,7 +4005,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jj_la1[137] = jj_gen;
         ;
       }
-      if (jj_2_61(2147483647)) {
+      if (jj_2_63(2147483647)) {
         jjtn000.insertBody = InsertBody();
       } else {
         ;
@@ -4185,7 +4210,9 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case INDEX:
       case COLLATE:
       case ENGINE:
+      case INCLUDE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -4437,7 +4464,9 @@ Token token;
       case INDEX:
       case COLLATE:
       case ENGINE:
+      case INCLUDE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -4536,7 +4565,7 @@ Token token;
     jjtn000.jjtSetFirstToken(getToken(1));java.util.List<OProjectionItem> items = new java.util.ArrayList<OProjectionItem>();
     OProjectionItem lastItem = null;
     try {
-      if (jj_2_62(2147483647)) {
+      if (jj_2_64(2147483647)) {
         lastItem = ProjectionItem();
                                          items.add(lastItem);
         label_17:
@@ -4790,7 +4819,9 @@ Token token;
       case INDEX:
       case COLLATE:
       case ENGINE:
+      case INCLUDE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -4849,7 +4880,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 250:
+      case 252:
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case BANG:
           jj_consume_token(BANG);
@@ -4926,11 +4957,11 @@ Token token;
   jjtree.openNodeScope(jjtn000);
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
-      if (jj_2_63(2147483647)) {
+      if (jj_2_65(2147483647)) {
         jjtn000.rid = Rid();
-      } else if (jj_2_64(2147483647)) {
+      } else if (jj_2_66(2147483647)) {
         jjtn000.inputParam = InputParameter();
-      } else if (jj_2_65(2147483647)) {
+      } else if (jj_2_67(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         jj_consume_token(-1);
@@ -4970,9 +5001,9 @@ Token token;
   jjtree.openNodeScope(jjtn000);
   jjtn000.jjtSetFirstToken(getToken(1));Token tokenVal;
     try {
-      if (jj_2_66(2147483647)) {
+      if (jj_2_68(2147483647)) {
         jjtn000.inputValue = InputParameter();
-      } else if (jj_2_67(2147483647)) {
+      } else if (jj_2_69(2147483647)) {
         tokenVal = jj_consume_token(INTEGER_LITERAL);
                                        jjtn000.integer = Integer.parseInt(tokenVal.image);
       } else {
@@ -5252,7 +5283,9 @@ Token token;
       case INDEX:
       case COLLATE:
       case ENGINE:
+      case INCLUDE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -5359,7 +5392,9 @@ Token token;
       case INDEX:
       case COLLATE:
       case ENGINE:
+      case INCLUDE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -5418,7 +5453,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 250:
+      case 252:
         lastExpression = Expression();
                                            jjtn000.params.add(lastExpression);
         label_21:
@@ -5531,7 +5566,9 @@ Token token;
       case INDEX:
       case COLLATE:
       case ENGINE:
+      case INCLUDE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -5590,7 +5627,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 250:
+      case 252:
         lastExpression = Expression();
                                             jjtn000.params.add(lastExpression);
         label_22:
@@ -5647,7 +5684,7 @@ Token token;
   jjtree.openNodeScope(jjtn000);
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
-      if (jj_2_68(2147483647)) {
+      if (jj_2_70(2147483647)) {
         jjtn000.functionCall = FunctionCall();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -5657,7 +5694,7 @@ Token token;
           break;
         default:
           jj_la1[168] = jj_gen;
-          if (jj_2_69(2147483647)) {
+          if (jj_2_71(2147483647)) {
             jjtn000.collection = Collection();
           } else {
             jj_consume_token(-1);
@@ -5699,9 +5736,9 @@ Token token;
   jjtree.openNodeScope(jjtn000);
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
-      if (jj_2_70(2147483647)) {
+      if (jj_2_72(2147483647)) {
         jjtn000.identifier = Identifier();
-      } else if (jj_2_71(2147483647)) {
+      } else if (jj_2_73(2147483647)) {
         jjtn000.recordAttribute = RecordAttribute();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -5749,9 +5786,9 @@ Token token;
   jjtree.openNodeScope(jjtn000);
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
-      if (jj_2_72(2147483647)) {
+      if (jj_2_74(2147483647)) {
         jjtn000.levelZero = LevelZeroIdentifier();
-      } else if (jj_2_73(2147483647)) {
+      } else if (jj_2_75(2147483647)) {
         jjtn000.suffix = SuffixIdentifier();
       } else {
         jj_consume_token(-1);
@@ -5795,13 +5832,13 @@ Token token;
       case LBRACKET:
         jj_consume_token(LBRACKET);
                              jjtn000.squareBrackets = true;
-        if (jj_2_74(2147483647)) {
+        if (jj_2_76(2147483647)) {
           jjtn000.rightBinaryCondition = RightBinaryCondition();
-        } else if (jj_2_75(2147483647)) {
+        } else if (jj_2_77(2147483647)) {
           jjtn000.arrayRange = ArrayRangeSelector();
-        } else if (jj_2_76(2147483647)) {
+        } else if (jj_2_78(2147483647)) {
           jjtn000.condition = OrBlock();
-        } else if (jj_2_77(2147483647)) {
+        } else if (jj_2_79(2147483647)) {
           jjtn000.arraySingleValues = ArraySingleValuesSelector();
         } else {
           jj_consume_token(-1);
@@ -5811,7 +5848,7 @@ Token token;
         break;
       default:
         jj_la1[170] = jj_gen;
-        if (jj_2_78(2147483647)) {
+        if (jj_2_80(2147483647)) {
           jjtn000.methodCall = MethodCall();
         } else {
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -5826,7 +5863,7 @@ Token token;
           }
         }
       }
-      if (jj_2_79(2147483647)) {
+      if (jj_2_81(2147483647)) {
         jjtn000.next = Modifier();
       } else {
         ;
@@ -5865,7 +5902,7 @@ Token token;
  jjtree.openNodeScope(jjtn000);
  jjtn000.jjtSetFirstToken(getToken(1));Token token;
     try {
-      if (jj_2_80(2147483647)) {
+      if (jj_2_82(2147483647)) {
         jjtn000.arrayConcatExpression = ArrayConcatExpression();
                                                                   jjtn000.value = jjtn000.arrayConcatExpression;
       } else {
@@ -5884,10 +5921,10 @@ Token token;
           break;
         default:
           jj_la1[172] = jj_gen;
-          if (jj_2_81(2147483647)) {
+          if (jj_2_83(2147483647)) {
             jjtn000.rid = Rid();
                               jjtn000.value = jjtn000.rid;
-          } else if (jj_2_82(2147483647)) {
+          } else if (jj_2_84(2147483647)) {
             jjtn000.mathExpression = MathExpression();
                                                     jjtn000.value = jjtn000.mathExpression;
           } else {
@@ -6004,10 +6041,10 @@ Token token;
         break;
       default:
         jj_la1[175] = jj_gen;
-        if (jj_2_83(2147483647)) {
+        if (jj_2_85(2147483647)) {
           jjtn000.rid = Rid();
                               jjtn000.value = jjtn000.rid;
-        } else if (jj_2_84(2147483647)) {
+        } else if (jj_2_86(2147483647)) {
           jjtn000.mathExpression = MathExpression();
                                                     jjtn000.value = jjtn000.mathExpression;
         } else {
@@ -6062,7 +6099,7 @@ Token token;
                                            jjtn000.getChildExpressions().add(sub);
       label_24:
       while (true) {
-        if (jj_2_85(2)) {
+        if (jj_2_87(2)) {
           ;
         } else {
           break label_24;
@@ -6158,9 +6195,9 @@ Token token;
   jjtree.openNodeScope(jjtn000);
   jjtn000.jjtSetFirstToken(getToken(1));OMathExpression expr;
     try {
-      if (jj_2_86(2147483647)) {
+      if (jj_2_88(2147483647)) {
         expr = ParenthesisExpression();
-      } else if (jj_2_87(2147483647)) {
+      } else if (jj_2_89(2147483647)) {
         expr = BaseExpression();
       } else {
         jj_consume_token(-1);
@@ -6201,7 +6238,7 @@ Token token;
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
       jj_consume_token(LPAREN);
-      if (jj_2_88(2)) {
+      if (jj_2_90(2)) {
         jjtn000.statement = QueryStatement();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -6257,7 +6294,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -6316,7 +6355,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 250:
+        case 252:
           jjtn000.expression = Expression();
           break;
         case INSERT:
@@ -6420,7 +6459,9 @@ Token token;
       case INDEX:
       case COLLATE:
       case ENGINE:
+      case INCLUDE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -6468,7 +6509,7 @@ Token token;
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
         jjtn000.identifier = BaseIdentifier();
-        if (jj_2_89(2147483647)) {
+        if (jj_2_91(2147483647)) {
           jjtn000.modifier = Modifier();
         } else {
           ;
@@ -6477,7 +6518,7 @@ Token token;
       case HOOK:
       case COLON:
         jjtn000.inputParam = InputParameter();
-        if (jj_2_90(2147483647)) {
+        if (jj_2_92(2147483647)) {
           jjtn000.modifier = Modifier();
         } else {
           ;
@@ -6500,7 +6541,7 @@ Token token;
           jj_consume_token(-1);
           throw new ParseException();
         }
-        if (jj_2_91(2147483647)) {
+        if (jj_2_93(2147483647)) {
           jjtn000.modifier = Modifier();
         } else {
           ;
@@ -6633,7 +6674,7 @@ Token token;
     try {
       jjtn000.varName = Identifier();
       jj_consume_token(EQ);
-      if (jj_2_92(2147483647)) {
+      if (jj_2_94(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -6689,13 +6730,13 @@ Token token;
       case INTEGER_LITERAL:
       case LBRACE:
       case MINUS:
-      case 250:
+      case 252:
         lastRid = Rid();
                           jjtn000.rids.add(lastRid);
         break;
       default:
         jj_la1[187] = jj_gen;
-        if (jj_2_96(2)) {
+        if (jj_2_98(2)) {
           jj_consume_token(LBRACKET);
           lastRid = Rid();
                                          jjtn000.rids.add(lastRid);
@@ -6770,7 +6811,7 @@ Token token;
             break;
           default:
             jj_la1[188] = jj_gen;
-            if (jj_2_97(2147483647)) {
+            if (jj_2_99(2147483647)) {
               jjtn000.index = IndexIdentifier();
             } else {
               switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -6781,7 +6822,7 @@ Token token;
                 jj_consume_token(LPAREN);
                 jjtn000.statement = QueryStatement();
                 jj_consume_token(RPAREN);
-                if (jj_2_93(2147483647)) {
+                if (jj_2_95(2147483647)) {
                   jjtn000.modifier = Modifier();
                 } else {
                   ;
@@ -6793,9 +6834,9 @@ Token token;
                 break;
               default:
                 jj_la1[189] = jj_gen;
-                if (jj_2_98(2)) {
+                if (jj_2_100(2)) {
                   jjtn000.functionCall = FunctionCall();
-                  if (jj_2_94(2147483647)) {
+                  if (jj_2_96(2147483647)) {
                     jjtn000.modifier = Modifier();
                   } else {
                     ;
@@ -6853,7 +6894,9 @@ Token token;
                   case INDEX:
                   case COLLATE:
                   case ENGINE:
+                  case INCLUDE:
                   case REBUILD:
+                  case ANALYZE:
                   case ID:
                   case DATABASE:
                   case OPTIMIZE:
@@ -6896,7 +6939,7 @@ Token token;
                   case IDENTIFIER:
                   case QUOTED_IDENTIFIER:
                     jjtn000.identifier = Identifier();
-                    if (jj_2_95(2147483647)) {
+                    if (jj_2_97(2147483647)) {
                       jjtn000.modifier = Modifier();
                     } else {
                       ;
@@ -7036,7 +7079,9 @@ Token token;
       case INDEX:
       case COLLATE:
       case ENGINE:
+      case INCLUDE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -7159,8 +7204,8 @@ Token token;
     OIdentifier lastIdentifier;
     try {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 251:
-        jj_consume_token(251);
+      case 253:
+        jj_consume_token(253);
                              builder.append("__@recordmap@___");
         break;
       default:
@@ -7439,9 +7484,9 @@ Token token;
       case NOT:
         jj_consume_token(NOT);
                jjtn000.negate = true;
-        if (jj_2_99(2147483647)) {
+        if (jj_2_101(2147483647)) {
           jjtn000.sub = ConditionBlock();
-        } else if (jj_2_100(2147483647)) {
+        } else if (jj_2_102(2147483647)) {
           jjtn000.sub = ParenthesisBlock();
         } else {
           jj_consume_token(-1);
@@ -7500,7 +7545,9 @@ Token token;
       case INDEX:
       case COLLATE:
       case ENGINE:
+      case INCLUDE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -7559,10 +7606,10 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 250:
-        if (jj_2_101(2147483647)) {
+      case 252:
+        if (jj_2_103(2147483647)) {
           jjtn000.sub = ConditionBlock();
-        } else if (jj_2_102(2147483647)) {
+        } else if (jj_2_104(2147483647)) {
           jjtn000.sub = ParenthesisBlock();
         } else {
           jj_consume_token(-1);
@@ -7645,35 +7692,35 @@ Token token;
  jjtree.openNodeScope(jjtn000);
  jjtn000.jjtSetFirstToken(getToken(1));OBooleanExpression result = null;
     try {
-      if (jj_2_103(2147483647)) {
+      if (jj_2_105(2147483647)) {
         result = IsNotNullCondition();
-      } else if (jj_2_104(2147483647)) {
+      } else if (jj_2_106(2147483647)) {
         result = IsNullCondition();
-      } else if (jj_2_105(2147483647)) {
+      } else if (jj_2_107(2147483647)) {
         result = IsNotDefinedCondition();
-      } else if (jj_2_106(2147483647)) {
+      } else if (jj_2_108(2147483647)) {
         result = IsDefinedCondition();
-      } else if (jj_2_107(2147483647)) {
+      } else if (jj_2_109(2147483647)) {
         result = InCondition();
-      } else if (jj_2_108(2147483647)) {
+      } else if (jj_2_110(2147483647)) {
         result = NotInCondition();
-      } else if (jj_2_109(2147483647)) {
+      } else if (jj_2_111(2147483647)) {
         result = BinaryCondition();
-      } else if (jj_2_110(2147483647)) {
+      } else if (jj_2_112(2147483647)) {
         result = BetweenCondition();
-      } else if (jj_2_111(2147483647)) {
+      } else if (jj_2_113(2147483647)) {
         result = ContainsCondition();
-      } else if (jj_2_112(2147483647)) {
+      } else if (jj_2_114(2147483647)) {
         result = ContainsValueCondition();
-      } else if (jj_2_113(2147483647)) {
+      } else if (jj_2_115(2147483647)) {
         result = ContainsAllCondition();
-      } else if (jj_2_114(2147483647)) {
+      } else if (jj_2_116(2147483647)) {
         result = ContainsTextCondition();
-      } else if (jj_2_115(2147483647)) {
+      } else if (jj_2_117(2147483647)) {
         result = MatchesCondition();
-      } else if (jj_2_116(2147483647)) {
+      } else if (jj_2_118(2147483647)) {
         result = IndexMatchCondition();
-      } else if (jj_2_117(2147483647)) {
+      } else if (jj_2_119(2147483647)) {
         result = InstanceofCondition();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -8222,11 +8269,11 @@ Token token;
     try {
       jjtn000.left = Expression();
       jjtn000.operator = ContainsValueOperator();
-      if (jj_2_118(3)) {
+      if (jj_2_120(3)) {
         jj_consume_token(LPAREN);
         jjtn000.condition = OrBlock();
         jj_consume_token(RPAREN);
-      } else if (jj_2_119(2147483647)) {
+      } else if (jj_2_121(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         jj_consume_token(-1);
@@ -8320,7 +8367,9 @@ Token token;
       case INDEX:
       case COLLATE:
       case ENGINE:
+      case INCLUDE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -8484,7 +8533,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -8543,7 +8594,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 250:
+        case 252:
           lastExpression = Expression();
                                                     jjtn000.leftExpressions.add(lastExpression);
           label_32:
@@ -8624,7 +8675,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -8683,7 +8736,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 250:
+        case 252:
           lastExpression = Expression();
                                                     jjtn000.leftExpressions.add(lastExpression);
           label_33:
@@ -8761,7 +8814,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -8820,7 +8875,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 250:
+        case 252:
           lastExpression = Expression();
                                                     jjtn000.rightExpressions.add(lastExpression);
           label_34:
@@ -9074,11 +9129,11 @@ Token token;
     try {
       jjtn000.left = Expression();
       jj_consume_token(CONTAINS);
-      if (jj_2_120(3)) {
+      if (jj_2_122(3)) {
         jj_consume_token(LPAREN);
         jjtn000.condition = OrBlock();
         jj_consume_token(RPAREN);
-      } else if (jj_2_121(2147483647)) {
+      } else if (jj_2_123(2147483647)) {
         jjtn000.right = Expression();
       } else {
         jj_consume_token(-1);
@@ -9141,11 +9196,11 @@ Token token;
     try {
       jjtn000.left = Expression();
       jjtn000.operator = InOperator();
-      if (jj_2_122(2)) {
+      if (jj_2_124(2)) {
         jj_consume_token(LPAREN);
         jjtn000.rightStatement = SelectStatement();
         jj_consume_token(RPAREN);
-      } else if (jj_2_123(2)) {
+      } else if (jj_2_125(2)) {
         jj_consume_token(LPAREN);
         jjtn000.rightParam = InputParameter();
         jj_consume_token(RPAREN);
@@ -9202,7 +9257,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -9303,11 +9360,11 @@ Token token;
       jjtn000.left = Expression();
       jj_consume_token(NOT);
       InOperator();
-      if (jj_2_124(2)) {
+      if (jj_2_126(2)) {
         jj_consume_token(LPAREN);
         jjtn000.rightStatement = SelectStatement();
         jj_consume_token(RPAREN);
-      } else if (jj_2_125(2)) {
+      } else if (jj_2_127(2)) {
         jj_consume_token(LPAREN);
         jjtn000.rightParam = InputParameter();
         jj_consume_token(RPAREN);
@@ -9364,7 +9421,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -9464,11 +9523,11 @@ Token token;
     try {
       jjtn000.left = Expression();
       jj_consume_token(CONTAINSALL);
-      if (jj_2_126(3)) {
+      if (jj_2_128(3)) {
         jj_consume_token(LPAREN);
         jjtn000.rightBlock = OrBlock();
         jj_consume_token(RPAREN);
-      } else if (jj_2_127(2147483647)) {
+      } else if (jj_2_129(2147483647)) {
         jjtn000.right = Expression();
       } else {
         jj_consume_token(-1);
@@ -9658,7 +9717,9 @@ Token token;
       case INDEX:
       case COLLATE:
       case ENGINE:
+      case INCLUDE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -9704,7 +9765,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 250:
+      case 252:
                     lastItem = new OOrderByItem();
                     jjtn000.items.add(lastItem);
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -9759,7 +9820,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -9817,7 +9880,7 @@ Token token;
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 250:
+        case 252:
           lastItem.rid = Rid();
           break;
         case RECORD_ATTRIBUTE:
@@ -9908,7 +9971,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -9966,7 +10031,7 @@ Token token;
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 250:
+        case 252:
           lastItem.rid = Rid();
           break;
         case RECORD_ATTRIBUTE:
@@ -10070,7 +10135,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -10116,7 +10183,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 250:
+        case 252:
                         lastItem = new OOrderByItem();
                         jjtn000.items.add(lastItem);
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -10171,7 +10238,9 @@ Token token;
           case INDEX:
           case COLLATE:
           case ENGINE:
+          case INCLUDE:
           case REBUILD:
+          case ANALYZE:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -10229,7 +10298,7 @@ Token token;
           case INTEGER_LITERAL:
           case LBRACE:
           case MINUS:
-          case 250:
+          case 252:
             lastItem.rid = Rid();
             break;
           case RECORD_ATTRIBUTE:
@@ -10320,7 +10389,9 @@ Token token;
           case INDEX:
           case COLLATE:
           case ENGINE:
+          case INCLUDE:
           case REBUILD:
+          case ANALYZE:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -10378,7 +10449,7 @@ Token token;
           case INTEGER_LITERAL:
           case LBRACE:
           case MINUS:
-          case 250:
+          case 252:
             lastItem.rid = Rid();
             break;
           case RECORD_ATTRIBUTE:
@@ -10914,7 +10985,9 @@ Token token;
       case INDEX:
       case COLLATE:
       case ENGINE:
+      case INCLUDE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -10973,7 +11046,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 250:
+      case 252:
         lastExpression = Expression();
                                             jjtn000.expressions.add(lastExpression);
         label_38:
@@ -11087,7 +11160,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -11231,7 +11306,9 @@ Token token;
       case INDEX:
       case COLLATE:
       case ENGINE:
+      case INCLUDE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -11384,7 +11461,7 @@ Token token;
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
       jjtn000.base = BaseIdentifier();
-      if (jj_2_128(2147483647)) {
+      if (jj_2_130(2147483647)) {
         jjtn000.modifier = Modifier();
       } else {
         ;
@@ -11477,7 +11554,9 @@ Token token;
       case INDEX:
       case COLLATE:
       case ENGINE:
+      case INCLUDE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -11576,7 +11655,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -11705,7 +11786,9 @@ Token token;
           case INDEX:
           case COLLATE:
           case ENGINE:
+          case INCLUDE:
           case REBUILD:
+          case ANALYZE:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -11825,13 +11908,13 @@ Token token;
           jj_la1[259] = jj_gen;
           break label_42;
         }
-        if (jj_2_129(3)) {
+        if (jj_2_131(3)) {
           nextItem = MatchPathItem();
-        } else if (jj_2_130(3)) {
+        } else if (jj_2_132(3)) {
           nextItem = MultiMatchPathItemArrows();
-        } else if (jj_2_131(3)) {
+        } else if (jj_2_133(3)) {
           nextItem = MultiMatchPathItem();
-        } else if (jj_2_132(2147483647)) {
+        } else if (jj_2_134(2147483647)) {
           nextItem = OutPathItem();
         } else {
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -11840,7 +11923,7 @@ Token token;
             break;
           default:
             jj_la1[260] = jj_gen;
-            if (jj_2_133(2147483647)) {
+            if (jj_2_135(2147483647)) {
               nextItem = BothPathItem();
             } else {
               jj_consume_token(-1);
@@ -11976,7 +12059,7 @@ Token token;
                                               jjtn000.items.add(nextItem);
       label_43:
       while (true) {
-        if (jj_2_134(2147483647)) {
+        if (jj_2_136(2147483647)) {
           ;
         } else {
           break label_43;
@@ -12032,13 +12115,13 @@ Token token;
       jj_consume_token(LPAREN);
       label_44:
       while (true) {
-        if (jj_2_135(2147483647)) {
+        if (jj_2_137(2147483647)) {
           nextItem = OutPathItemOpt();
                                                jjtn000.items.add(nextItem);
-        } else if (jj_2_136(2147483647)) {
+        } else if (jj_2_138(2147483647)) {
           nextItem = InPathItemOpt();
                                               jjtn000.items.add(nextItem);
-        } else if (jj_2_137(2147483647)) {
+        } else if (jj_2_139(2147483647)) {
           nextItem = BothPathItemOpt();
                                                 jjtn000.items.add(nextItem);
         } else {
@@ -12315,7 +12398,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -12476,7 +12561,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -12635,7 +12722,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -12794,7 +12883,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -12962,7 +13053,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -13128,7 +13221,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -13384,7 +13479,9 @@ Token token;
       case INDEX:
       case COLLATE:
       case ENGINE:
+      case INCLUDE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -13486,7 +13583,7 @@ Token token;
       case INTEGER_LITERAL:
       case LBRACE:
       case MINUS:
-      case 250:
+      case 252:
         jjtn000.record = Rid();
         break;
       case LBRACKET:
@@ -13496,7 +13593,7 @@ Token token;
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 250:
+        case 252:
           lastRecord = Rid();
                                                      jjtn000.records.add(lastRecord);
           label_46:
@@ -13565,7 +13662,7 @@ Token token;
       case INTEGER_LITERAL:
       case LBRACE:
       case MINUS:
-      case 250:
+      case 252:
         jjtn000.rid = Rid();
         break;
       case LPAREN:
@@ -13634,7 +13731,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -13751,7 +13850,9 @@ Token token;
           case INDEX:
           case COLLATE:
           case ENGINE:
+          case INCLUDE:
           case REBUILD:
+          case ANALYZE:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -14027,7 +14128,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -14157,7 +14260,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -14267,7 +14372,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -14414,7 +14521,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -14523,7 +14632,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -14657,7 +14768,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -14701,8 +14814,8 @@ Token token;
         case QUOTED_IDENTIFIER:
           jjtn000.identifierValue = Identifier();
           break;
-        case 252:
-          jj_consume_token(252);
+        case 254:
+          jj_consume_token(254);
                                                 jjtn000.customString = "round-robin";
           break;
         case RID_STRING:
@@ -14771,7 +14884,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -14879,7 +14994,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -15059,7 +15176,7 @@ Token token;
       jjtn000.className = Identifier();
       jj_consume_token(DOT);
       jjtn000.propertyName = Identifier();
-      if (jj_2_138(3)) {
+      if (jj_2_140(3)) {
         IfNotExists();
                                                    jjtn000.ifNotExists = true;
       } else {
@@ -15118,7 +15235,9 @@ Token token;
       case INDEX:
       case COLLATE:
       case ENGINE:
+      case INCLUDE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -15279,7 +15398,7 @@ Token token;
       jjtn000.className = Identifier();
       jj_consume_token(DOT);
       jjtn000.propertyName = Identifier();
-      if (jj_2_139(3)) {
+      if (jj_2_141(3)) {
         jj_consume_token(CUSTOM);
         jjtn000.customPropertyName = Identifier();
         jj_consume_token(EQ);
@@ -15337,7 +15456,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -15485,7 +15606,7 @@ Token token;
       jj_consume_token(CREATE);
       jj_consume_token(INDEX);
       jjtn000.name = IndexName();
-      if (jj_2_140(3)) {
+      if (jj_2_143(3)) {
         jj_consume_token(ON);
         jjtn000.className = Identifier();
         jj_consume_token(LPAREN);
@@ -15541,7 +15662,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -15693,7 +15816,9 @@ Token token;
           case INDEX:
           case COLLATE:
           case ENGINE:
+          case INCLUDE:
           case REBUILD:
+          case ANALYZE:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -15784,6 +15909,29 @@ Token token;
           }
         }
         jj_consume_token(RPAREN);
+        if (jj_2_142(2)) {
+          jj_consume_token(INCLUDE);
+          jj_consume_token(LPAREN);
+          lastIdentifier = Identifier();
+                                                jjtn000.includedProperties.add(lastIdentifier);
+          label_53:
+          while (true) {
+            switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+            case COMMA:
+              ;
+              break;
+            default:
+              jj_la1[338] = jj_gen;
+              break label_53;
+            }
+            jj_consume_token(COMMA);
+            lastIdentifier = Identifier();
+                                                            jjtn000.includedProperties.add(lastIdentifier);
+          }
+          jj_consume_token(RPAREN);
+        } else {
+          ;
+        }
         jjtn000.type = Identifier();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -15838,7 +15986,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -15883,12 +16033,12 @@ Token token;
           jjtn000.type = Identifier();
           break;
         default:
-          jj_la1[338] = jj_gen;
+          jj_la1[339] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
       }
-      if (jj_2_143(2)) {
+      if (jj_2_146(2)) {
         jj_consume_token(ENGINE);
         jjtn000.engine = Identifier();
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -15943,7 +16093,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -15985,7 +16137,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-          if (jj_2_141(2)) {
+          if (jj_2_144(2)) {
             jj_consume_token(METADATA);
             jjtn000.metadata = Json();
           } else {
@@ -16041,7 +16193,9 @@ Token token;
             case INDEX:
             case COLLATE:
             case ENGINE:
+            case INCLUDE:
             case REBUILD:
+            case ANALYZE:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -16085,15 +16239,15 @@ Token token;
             case QUOTED_IDENTIFIER:
               lastIdentifier = Identifier();
                                                    jjtn000.keyTypes.add(lastIdentifier);
-              label_53:
+              label_54:
               while (true) {
                 switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
                 case COMMA:
                   ;
                   break;
                 default:
-                  jj_la1[339] = jj_gen;
-                  break label_53;
+                  jj_la1[340] = jj_gen;
+                  break label_54;
                 }
                 jj_consume_token(COMMA);
                 lastIdentifier = Identifier();
@@ -16105,19 +16259,19 @@ Token token;
                 jjtn000.metadata = Json();
                 break;
               default:
-                jj_la1[340] = jj_gen;
+                jj_la1[341] = jj_gen;
                 ;
               }
               break;
             default:
-              jj_la1[341] = jj_gen;
+              jj_la1[342] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
           }
           break;
         default:
-          jj_la1[342] = jj_gen;
+          jj_la1[343] = jj_gen;
           ;
         }
       } else {
@@ -16173,7 +16327,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -16215,7 +16371,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-          if (jj_2_142(2)) {
+          if (jj_2_145(2)) {
             jj_consume_token(METADATA);
             jjtn000.metadata = Json();
           } else {
@@ -16271,7 +16427,9 @@ Token token;
             case INDEX:
             case COLLATE:
             case ENGINE:
+            case INCLUDE:
             case REBUILD:
+            case ANALYZE:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -16315,15 +16473,15 @@ Token token;
             case QUOTED_IDENTIFIER:
               lastIdentifier = Identifier();
                                                    jjtn000.keyTypes.add(lastIdentifier);
-              label_54:
+              label_55:
               while (true) {
                 switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
                 case COMMA:
                   ;
                   break;
                 default:
-                  jj_la1[343] = jj_gen;
-                  break label_54;
+                  jj_la1[344] = jj_gen;
+                  break label_55;
                 }
                 jj_consume_token(COMMA);
                 lastIdentifier = Identifier();
@@ -16335,19 +16493,19 @@ Token token;
                 jjtn000.metadata = Json();
                 break;
               default:
-                jj_la1[344] = jj_gen;
+                jj_la1[345] = jj_gen;
                 ;
               }
               break;
             default:
-              jj_la1[345] = jj_gen;
+              jj_la1[346] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
           }
           break;
         default:
-          jj_la1[346] = jj_gen;
+          jj_la1[347] = jj_gen;
           ;
         }
       }
@@ -16439,7 +16597,9 @@ Token token;
       case INDEX:
       case COLLATE:
       case ENGINE:
+      case INCLUDE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -16481,7 +16641,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 251:
+      case 253:
         jjtn000.name = IndexName();
         break;
       case STAR:
@@ -16489,7 +16649,7 @@ Token token;
                      jjtn000.all = true;
         break;
       default:
-        jj_la1[347] = jj_gen;
+        jj_la1[348] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -16520,14 +16680,14 @@ Token token;
     throw new Error("Missing return statement in function");
   }
 
-  final public ODropIndexStatement DropIndexStatement() throws ParseException {
- /*@bgen(jjtree) DropIndexStatement */
-  ODropIndexStatement jjtn000 = new ODropIndexStatement(JJTDROPINDEXSTATEMENT);
+  final public OAnalyzeIndexStatement AnalyzeIndexStatement() throws ParseException {
+ /*@bgen(jjtree) AnalyzeIndexStatement */
+  OAnalyzeIndexStatement jjtn000 = new OAnalyzeIndexStatement(JJTANALYZEINDEXSTATEMENT);
   boolean jjtc000 = true;
   jjtree.openNodeScope(jjtn000);
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
-      jj_consume_token(DROP);
+      jj_consume_token(ANALYZE);
       jj_consume_token(INDEX);
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case TO:
@@ -16581,7 +16741,9 @@ Token token;
       case INDEX:
       case COLLATE:
       case ENGINE:
+      case INCLUDE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -16623,7 +16785,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 251:
+      case 253:
         jjtn000.name = IndexName();
         break;
       case STAR:
@@ -16631,19 +16793,9 @@ Token token;
                      jjtn000.all = true;
         break;
       default:
-        jj_la1[348] = jj_gen;
+        jj_la1[349] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
-      }
-      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case IF:
-        jj_consume_token(IF);
-        jj_consume_token(EXISTS);
-                          jjtn000.ifExists = true;
-        break;
-      default:
-        jj_la1[349] = jj_gen;
-        ;
       }
           jjtree.closeNodeScope(jjtn000, true);
           jjtc000 = false;
@@ -16672,38 +16824,16 @@ Token token;
     throw new Error("Missing return statement in function");
   }
 
-  final public OCreateClusterStatement CreateClusterStatement() throws ParseException {
- /*@bgen(jjtree) CreateClusterStatement */
-  OCreateClusterStatement jjtn000 = new OCreateClusterStatement(JJTCREATECLUSTERSTATEMENT);
+  final public OAnalyzeClassStatement AnalyzeClassStatement() throws ParseException {
+ /*@bgen(jjtree) AnalyzeClassStatement */
+  OAnalyzeClassStatement jjtn000 = new OAnalyzeClassStatement(JJTANALYZECLASSSTATEMENT);
   boolean jjtc000 = true;
   jjtree.openNodeScope(jjtn000);
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
-      jj_consume_token(CREATE);
-      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case CLUSTER:
-        jj_consume_token(CLUSTER);
-        break;
-      case BLOB:
-        jj_consume_token(BLOB);
-        jj_consume_token(CLUSTER);
-                                 jjtn000.blob = true;
-        break;
-      default:
-        jj_la1[350] = jj_gen;
-        jj_consume_token(-1);
-        throw new ParseException();
-      }
-      jjtn000.name = Identifier();
-      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case ID:
-        jj_consume_token(ID);
-        jjtn000.id = Integer();
-        break;
-      default:
-        jj_la1[351] = jj_gen;
-        ;
-      }
+      jj_consume_token(ANALYZE);
+      jj_consume_token(CLASS);
+      jjtn000.className = Identifier();
           jjtree.closeNodeScope(jjtn000, true);
           jjtc000 = false;
           jjtn000.jjtSetLastToken(getToken(0));
@@ -16731,63 +16861,15 @@ Token token;
     throw new Error("Missing return statement in function");
   }
 
-  final public OAlterClusterStatement AlterClusterStatement() throws ParseException {
- /*@bgen(jjtree) AlterClusterStatement */
-  OAlterClusterStatement jjtn000 = new OAlterClusterStatement(JJTALTERCLUSTERSTATEMENT);
-  boolean jjtc000 = true;
-  jjtree.openNodeScope(jjtn000);
-  jjtn000.jjtSetFirstToken(getToken(1));
-    try {
-      jj_consume_token(ALTER);
-      jj_consume_token(CLUSTER);
-      jjtn000.name = Identifier();
-      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case STAR:
-        jj_consume_token(STAR);
-                   jjtn000.starred = true;
-        break;
-      default:
-        jj_la1[352] = jj_gen;
-        ;
-      }
-      jjtn000.attributeName = Identifier();
-      jjtn000.attributeValue = Expression();
-          jjtree.closeNodeScope(jjtn000, true);
-          jjtc000 = false;
-          jjtn000.jjtSetLastToken(getToken(0));
-          {if (true) return jjtn000;}
-    } catch (Throwable jjte000) {
-          if (jjtc000) {
-            jjtree.clearNodeScope(jjtn000);
-            jjtc000 = false;
-          } else {
-            jjtree.popNode();
-          }
-          if (jjte000 instanceof RuntimeException) {
-            {if (true) throw (RuntimeException)jjte000;}
-          }
-          if (jjte000 instanceof ParseException) {
-            {if (true) throw (ParseException)jjte000;}
-          }
-          {if (true) throw (Error)jjte000;}
-    } finally {
-          if (jjtc000) {
-            jjtree.closeNodeScope(jjtn000, true);
-            jjtn000.jjtSetLastToken(getToken(0));
-          }
-    }
-    throw new Error("Missing return statement in function");
-  }
-
-  final public ODropClusterStatement DropClusterStatement() throws ParseException {
- /*@bgen(jjtree) DropClusterStatement */
-  ODropClusterStatement jjtn000 = new ODropClusterStatement(JJTDROPCLUSTERSTATEMENT);
+  final public ODropIndexStatement DropIndexStatement() throws ParseException {
+ /*@bgen(jjtree) DropIndexStatement */
+  ODropIndexStatement jjtn000 = new ODropIndexStatement(JJTDROPINDEXSTATEMENT);
   boolean jjtc000 = true;
   jjtree.openNodeScope(jjtn000);
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
       jj_consume_token(DROP);
-      jj_consume_token(CLUSTER);
+      jj_consume_token(INDEX);
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case TO:
       case VALUE:
@@ -16840,7 +16922,9 @@ Token token;
       case INDEX:
       case COLLATE:
       case ENGINE:
+      case INCLUDE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -16882,38 +16966,299 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-        jjtn000.name = Identifier();
+      case 253:
+        jjtn000.name = IndexName();
         break;
-      case INTEGER_LITERAL:
-      case MINUS:
-        jjtn000.id = Integer();
+      case STAR:
+        jj_consume_token(STAR);
+                     jjtn000.all = true;
         break;
       default:
-        jj_la1[353] = jj_gen;
+        jj_la1[350] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
+      }
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case IF:
+        jj_consume_token(IF);
+        jj_consume_token(EXISTS);
+                          jjtn000.ifExists = true;
+        break;
+      default:
+        jj_la1[351] = jj_gen;
+        ;
       }
           jjtree.closeNodeScope(jjtn000, true);
           jjtc000 = false;
           jjtn000.jjtSetLastToken(getToken(0));
           {if (true) return jjtn000;}
     } catch (Throwable jjte000) {
-          if (jjtc000) {
-            jjtree.clearNodeScope(jjtn000);
-            jjtc000 = false;
-          } else {
-            jjtree.popNode();
-          }
-          if (jjte000 instanceof RuntimeException) {
-            {if (true) throw (RuntimeException)jjte000;}
-          }
-          if (jjte000 instanceof ParseException) {
-            {if (true) throw (ParseException)jjte000;}
-          }
-          {if (true) throw (Error)jjte000;}
+      if (jjtc000) {
+        jjtree.clearNodeScope(jjtn000);
+        jjtc000 = false;
+      } else {
+        jjtree.popNode();
+      }
+      if (jjte000 instanceof RuntimeException) {
+        {if (true) throw (RuntimeException)jjte000;}
+      }
+      if (jjte000 instanceof ParseException) {
+        {if (true) throw (ParseException)jjte000;}
+      }
+      {if (true) throw (Error)jjte000;}
     } finally {
-          if (jjtc000) {
-            jjtree.closeNodeScope(jjtn000, true);
+      if (jjtc000) {
+        jjtree.closeNodeScope(jjtn000, true);
+        jjtn000.jjtSetLastToken(getToken(0));
+      }
+    }
+    throw new Error("Missing return statement in function");
+  }
+
+  final public OCreateClusterStatement CreateClusterStatement() throws ParseException {
+ /*@bgen(jjtree) CreateClusterStatement */
+  OCreateClusterStatement jjtn000 = new OCreateClusterStatement(JJTCREATECLUSTERSTATEMENT);
+  boolean jjtc000 = true;
+  jjtree.openNodeScope(jjtn000);
+  jjtn000.jjtSetFirstToken(getToken(1));
+    try {
+      jj_consume_token(CREATE);
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case CLUSTER:
+        jj_consume_token(CLUSTER);
+        break;
+      case BLOB:
+        jj_consume_token(BLOB);
+        jj_consume_token(CLUSTER);
+                                 jjtn000.blob = true;
+        break;
+      default:
+        jj_la1[352] = jj_gen;
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
+      jjtn000.name = Identifier();
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case ID:
+        jj_consume_token(ID);
+        jjtn000.id = Integer();
+        break;
+      default:
+        jj_la1[353] = jj_gen;
+        ;
+      }
+          jjtree.closeNodeScope(jjtn000, true);
+          jjtc000 = false;
+          jjtn000.jjtSetLastToken(getToken(0));
+          {if (true) return jjtn000;}
+    } catch (Throwable jjte000) {
+      if (jjtc000) {
+        jjtree.clearNodeScope(jjtn000);
+        jjtc000 = false;
+      } else {
+        jjtree.popNode();
+      }
+      if (jjte000 instanceof RuntimeException) {
+        {if (true) throw (RuntimeException)jjte000;}
+      }
+      if (jjte000 instanceof ParseException) {
+        {if (true) throw (ParseException)jjte000;}
+      }
+      {if (true) throw (Error)jjte000;}
+    } finally {
+      if (jjtc000) {
+        jjtree.closeNodeScope(jjtn000, true);
+        jjtn000.jjtSetLastToken(getToken(0));
+      }
+    }
+    throw new Error("Missing return statement in function");
+  }
+
+  final public OAlterClusterStatement AlterClusterStatement() throws ParseException {
+ /*@bgen(jjtree) AlterClusterStatement */
+  OAlterClusterStatement jjtn000 = new OAlterClusterStatement(JJTALTERCLUSTERSTATEMENT);
+  boolean jjtc000 = true;
+  jjtree.openNodeScope(jjtn000);
+  jjtn000.jjtSetFirstToken(getToken(1));
+    try {
+      jj_consume_token(ALTER);
+      jj_consume_token(CLUSTER);
+      jjtn000.name = Identifier();
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case STAR:
+        jj_consume_token(STAR);
+                   jjtn000.starred = true;
+        break;
+      default:
+        jj_la1[354] = jj_gen;
+        ;
+      }
+      jjtn000.attributeName = Identifier();
+      jjtn000.attributeValue = Expression();
+          jjtree.closeNodeScope(jjtn000, true);
+          jjtc000 = false;
+          jjtn000.jjtSetLastToken(getToken(0));
+          {if (true) return jjtn000;}
+    } catch (Throwable jjte000) {
+          if (jjtc000) {
+            jjtree.clearNodeScope(jjtn000);
+            jjtc000 = false;
+          } else {
+            jjtree.popNode();
+          }
+          if (jjte000 instanceof RuntimeException) {
+            {if (true) throw (RuntimeException)jjte000;}
+          }
+          if (jjte000 instanceof ParseException) {
+            {if (true) throw (ParseException)jjte000;}
+          }
+          {if (true) throw (Error)jjte000;}
+    } finally {
+          if (jjtc000) {
+            jjtree.closeNodeScope(jjtn000, true);
+            jjtn000.jjtSetLastToken(getToken(0));
+          }
+    }
+    throw new Error("Missing return statement in function");
+  }
+
+  final public ODropClusterStatement DropClusterStatement() throws ParseException {
+ /*@bgen(jjtree) DropClusterStatement */
+  ODropClusterStatement jjtn000 = new ODropClusterStatement(JJTDROPCLUSTERSTATEMENT);
+  boolean jjtc000 = true;
+  jjtree.openNodeScope(jjtn000);
+  jjtn000.jjtSetFirstToken(getToken(1));
+    try {
+      jj_consume_token(DROP);
+      jj_consume_token(CLUSTER);
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case TO:
+      case VALUE:
+      case VALUES:
+      case SET:
+      case ADD:
+      case PUT:
+      case MERGE:
+      case CONTENT:
+      case REMOVE:
+      case ORDER:
+      case GROUP:
+      case OFFSET:
+      case RECORD:
+      case CACHE:
+      case LUCENE:
+      case NEAR:
+      case WITHIN:
+      case MINDEPTH:
+      case CLASS:
+      case SUPERCLASS:
+      case CLASSES:
+      case SUPERCLASSES:
+      case EXCEPTION:
+      case PROFILE:
+      case STORAGE:
+      case ON:
+      case OFF:
+      case TRUNCATE:
+      case FIND:
+      case REFERENCES:
+      case EXTENDS:
+      case CLUSTERS:
+      case ABSTRACT:
+      case ALTER:
+      case NAME:
+      case SHORTNAME:
+      case OVERSIZE:
+      case STRICTMODE:
+      case ADDCLUSTER:
+      case REMOVECLUSTER:
+      case CUSTOM:
+      case CLUSTERSELECTION:
+      case DESCRIPTION:
+      case ENCRYPTION:
+      case DROP:
+      case PROPERTY:
+      case FORCE:
+      case METADATA:
+      case INDEX:
+      case COLLATE:
+      case ENGINE:
+      case INCLUDE:
+      case REBUILD:
+      case ANALYZE:
+      case ID:
+      case DATABASE:
+      case OPTIMIZE:
+      case LINK:
+      case TYPE:
+      case INVERSE:
+      case EXPLAIN:
+      case GRANT:
+      case REVOKE:
+      case READ:
+      case EXECUTE:
+      case ALL:
+      case NONE:
+      case FUNCTION:
+      case PARAMETERS:
+      case IDEMPOTENT:
+      case LANGUAGE:
+      case BEGIN:
+      case COMMIT:
+      case ROLLBACK:
+      case IF:
+      case ISOLATION:
+      case SLEEP:
+      case CONSOLE:
+      case BLOB:
+      case SHARED:
+      case DEFAULT_:
+      case SEQUENCE:
+      case START:
+      case OPTIONAL:
+      case COUNT:
+      case HA:
+      case STATUS:
+      case SERVER:
+      case SYNC:
+      case EXISTS:
+      case MOVE:
+      case IN:
+      case KEY:
+      case IDENTIFIER:
+      case QUOTED_IDENTIFIER:
+        jjtn000.name = Identifier();
+        break;
+      case INTEGER_LITERAL:
+      case MINUS:
+        jjtn000.id = Integer();
+        break;
+      default:
+        jj_la1[355] = jj_gen;
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
+          jjtree.closeNodeScope(jjtn000, true);
+          jjtc000 = false;
+          jjtn000.jjtSetLastToken(getToken(0));
+          {if (true) return jjtn000;}
+    } catch (Throwable jjte000) {
+          if (jjtc000) {
+            jjtree.clearNodeScope(jjtn000);
+            jjtc000 = false;
+          } else {
+            jjtree.popNode();
+          }
+          if (jjte000 instanceof RuntimeException) {
+            {if (true) throw (RuntimeException)jjte000;}
+          }
+          if (jjte000 instanceof ParseException) {
+            {if (true) throw (ParseException)jjte000;}
+          }
+          {if (true) throw (Error)jjte000;}
+    } finally {
+          if (jjtc000) {
+            jjtree.closeNodeScope(jjtn000, true);
             jjtn000.jjtSetLastToken(getToken(0));
           }
     }
@@ -16929,7 +17274,7 @@ Token token;
     try {
       jj_consume_token(ALTER);
       jj_consume_token(DATABASE);
-      if (jj_2_144(3)) {
+      if (jj_2_147(3)) {
         jj_consume_token(CUSTOM);
         jjtn000.customPropertyName = Identifier();
         jj_consume_token(EQ);
@@ -16987,7 +17332,9 @@ Token token;
         case INDEX:
         case COLLATE:
         case ENGINE:
+        case INCLUDE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -17033,7 +17380,7 @@ Token token;
           jjtn000.settingValue = Expression();
           break;
         default:
-          jj_la1[354] = jj_gen;
+          jj_la1[356] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -17110,15 +17457,15 @@ Token token;
     try {
       jj_consume_token(OPTIMIZE);
       jj_consume_token(DATABASE);
-      label_55:
+      label_56:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case MINUS:
           ;
           break;
         default:
-          jj_la1[355] = jj_gen;
-          break label_55;
+          jj_la1[357] = jj_gen;
+          break label_56;
         }
         lastOption = CommandLineOption();
                                                jjtn000.options.add(lastOption);
@@ -17217,7 +17564,9 @@ Token token;
       case INDEX:
       case COLLATE:
       case ENGINE:
+      case INCLUDE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -17265,7 +17614,7 @@ Token token;
         jjtn000.sourceRecordAttr = RecordAttribute();
         break;
       default:
-        jj_la1[356] = jj_gen;
+        jj_la1[358] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -17324,7 +17673,9 @@ Token token;
       case INDEX:
       case COLLATE:
       case ENGINE:
+      case INCLUDE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -17372,7 +17723,7 @@ Token token;
         jjtn000.destRecordAttr = RecordAttribute();
         break;
       default:
-        jj_la1[357] = jj_gen;
+        jj_la1[359] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -17382,7 +17733,7 @@ Token token;
                       jjtn000.inverse = true;
         break;
       default:
-        jj_la1[358] = jj_gen;
+        jj_la1[360] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -17521,7 +17872,7 @@ Token token;
                  jjtn000.permission = "NONE";
         break;
       default:
-        jj_la1[359] = jj_gen;
+        jj_la1[361] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -17605,7 +17956,9 @@ Token token;
       case INDEX:
       case COLLATE:
       case ENGINE:
+      case INCLUDE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -17650,7 +18003,7 @@ Token token;
         jjtn000.identifier = Identifier();
         break;
       default:
-        jj_la1[360] = jj_gen;
+        jj_la1[362] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -17693,15 +18046,15 @@ Token token;
       jj_consume_token(ON);
       lastItem = ResourcePathItem();
                                         jjtn000.resourceChain.add(lastItem);
-      label_56:
+      label_57:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case DOT:
           ;
           break;
         default:
-          jj_la1[361] = jj_gen;
-          break label_56;
+          jj_la1[363] = jj_gen;
+          break label_57;
         }
         jj_consume_token(DOT);
         lastItem = ResourcePathItem();
@@ -17748,15 +18101,15 @@ Token token;
       jj_consume_token(ON);
       lastItem = ResourcePathItem();
                                         jjtn000.resourceChain.add(lastItem);
-      label_57:
+      label_58:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case DOT:
           ;
           break;
         default:
-          jj_la1[362] = jj_gen;
-          break label_57;
+          jj_la1[364] = jj_gen;
+          break label_58;
         }
         jj_consume_token(DOT);
         lastItem = ResourcePathItem();
@@ -17811,15 +18164,15 @@ Token token;
         lastIdentifier = Identifier();
                 jjtn000.parameters = new ArrayList<OIdentifier>();
                 jjtn000.parameters.add(lastIdentifier);
-        label_58:
+        label_59:
         while (true) {
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
           case COMMA:
             ;
             break;
           default:
-            jj_la1[363] = jj_gen;
-            break label_58;
+            jj_la1[365] = jj_gen;
+            break label_59;
           }
           jj_consume_token(COMMA);
           lastIdentifier = Identifier();
@@ -17828,7 +18181,7 @@ Token token;
         jj_consume_token(RBRACKET);
         break;
       default:
-        jj_la1[364] = jj_gen;
+        jj_la1[366] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -17844,13 +18197,13 @@ Token token;
                           jjtn000.idempotent = false;
           break;
         default:
-          jj_la1[365] = jj_gen;
+          jj_la1[367] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[366] = jj_gen;
+        jj_la1[368] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -17859,7 +18212,7 @@ Token token;
         jjtn000.language = Identifier();
         break;
       default:
-        jj_la1[367] = jj_gen;
+        jj_la1[369] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -17899,9 +18252,9 @@ Token token;
       jj_consume_token(LET);
       jjtn000.name = Identifier();
       jj_consume_token(EQ);
-      if (jj_2_145(2147483647)) {
+      if (jj_2_148(2147483647)) {
         jjtn000.statement = StatementInternal();
-      } else if (jj_2_146(2147483647)) {
+      } else if (jj_2_149(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         jj_consume_token(-1);
@@ -17948,7 +18301,7 @@ Token token;
         jjtn000.isolation = Identifier();
         break;
       default:
-        jj_la1[368] = jj_gen;
+        jj_la1[370] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -17992,7 +18345,7 @@ Token token;
         jjtn000.retry = Integer();
         break;
       default:
-        jj_la1[369] = jj_gen;
+        jj_la1[371] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -18104,7 +18457,9 @@ Token token;
       case INDEX:
       case COLLATE:
       case ENGINE:
+      case INCLUDE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -18163,11 +18518,11 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 250:
+      case 252:
         jjtn000.expression = Expression();
         break;
       default:
-        jj_la1[370] = jj_gen;
+        jj_la1[372] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -18209,7 +18564,7 @@ Token token;
       jjtn000.expression = OrBlock();
       jj_consume_token(RPAREN);
       jj_consume_token(LBRACE);
-      label_59:
+      label_60:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case SELECT:
@@ -18227,6 +18582,7 @@ Token token;
         case ALTER:
         case DROP:
         case REBUILD:
+        case ANALYZE:
         case OPTIMIZE:
         case EXPLAIN:
         case GRANT:
@@ -18243,10 +18599,10 @@ Token token;
           ;
           break;
         default:
-          jj_la1[371] = jj_gen;
-          break label_59;
+          jj_la1[373] = jj_gen;
+          break label_60;
         }
-        if (jj_2_147(2147483647)) {
+        if (jj_2_150(2147483647)) {
           last = StatementSemicolon();
                                           jjtn000.statements.add(last);
         } else {
@@ -18259,7 +18615,7 @@ Token token;
             jj_consume_token(SEMICOLON);
             break;
           default:
-            jj_la1[372] = jj_gen;
+            jj_la1[374] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -18392,7 +18748,7 @@ Token token;
         jjtn000.start = Expression();
         break;
       default:
-        jj_la1[373] = jj_gen;
+        jj_la1[375] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -18401,7 +18757,7 @@ Token token;
         jjtn000.increment = Expression();
         break;
       default:
-        jj_la1[374] = jj_gen;
+        jj_la1[376] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -18410,7 +18766,7 @@ Token token;
         jjtn000.cache = Expression();
         break;
       default:
-        jj_la1[375] = jj_gen;
+        jj_la1[377] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -18456,7 +18812,7 @@ Token token;
         jjtn000.start = Expression();
         break;
       default:
-        jj_la1[376] = jj_gen;
+        jj_la1[378] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -18465,7 +18821,7 @@ Token token;
         jjtn000.increment = Expression();
         break;
       default:
-        jj_la1[377] = jj_gen;
+        jj_la1[379] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -18474,7 +18830,7 @@ Token token;
         jjtn000.cache = Expression();
         break;
       default:
-        jj_la1[378] = jj_gen;
+        jj_la1[380] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -18550,51 +18906,51 @@ Token token;
     try {
       jj_consume_token(HA);
       jj_consume_token(STATUS);
-      label_60:
+      label_61:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 253:
-        case 254:
         case 255:
         case 256:
         case 257:
         case 258:
+        case 259:
+        case 260:
           ;
           break;
         default:
-          jj_la1[379] = jj_gen;
-          break label_60;
+          jj_la1[381] = jj_gen;
+          break label_61;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 253:
-          token = jj_consume_token(253);
-                                 jjtn000.servers = true;
-          break;
-        case 254:
-          token = jj_consume_token(254);
-                            jjtn000.db = true;
-          break;
         case 255:
           token = jj_consume_token(255);
-                                 jjtn000.latency = true;
+                                 jjtn000.servers = true;
           break;
         case 256:
           token = jj_consume_token(256);
-                                  jjtn000.messages = true;
+                            jjtn000.db = true;
           break;
         case 257:
           token = jj_consume_token(257);
+                                 jjtn000.latency = true;
+          break;
+        case 258:
+          token = jj_consume_token(258);
+                                  jjtn000.messages = true;
+          break;
+        case 259:
+          token = jj_consume_token(259);
                 jjtn000.servers = true;
                 jjtn000.db = true;
                 jjtn000.latency = true;
                 jjtn000.messages = true;
           break;
-        case 258:
-          token = jj_consume_token(258);
+        case 260:
+          token = jj_consume_token(260);
                                      jjtn000.outputText = true;
           break;
         default:
-          jj_la1[380] = jj_gen;
+          jj_la1[382] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -18660,28 +19016,28 @@ Token token;
       jj_consume_token(HA);
       jj_consume_token(SYNC);
       jj_consume_token(DATABASE);
-      label_61:
+      label_62:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 259:
-        case 260:
+        case 261:
+        case 262:
           ;
           break;
         default:
-          jj_la1[381] = jj_gen;
-          break label_61;
+          jj_la1[383] = jj_gen;
+          break label_62;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 259:
-          jj_consume_token(259);
+        case 261:
+          jj_consume_token(261);
                       jjtn000.force = true;
           break;
-        case 260:
-          jj_consume_token(260);
+        case 262:
+          jj_consume_token(262);
                       jjtn000.full = true;
           break;
         default:
-          jj_la1[382] = jj_gen;
+          jj_la1[384] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -18711,25 +19067,25 @@ Token token;
       jj_consume_token(CLUSTER);
       jjtn000.clusterName = Identifier();
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 261:
-      case 262:
+      case 263:
+      case 264:
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 261:
-          jj_consume_token(261);
+        case 263:
+          jj_consume_token(263);
                                  jjtn000.modeFull = true;
           break;
-        case 262:
-          jj_consume_token(262);
+        case 264:
+          jj_consume_token(264);
                           jjtn000.modeMerge = true;
           break;
         default:
-          jj_la1[383] = jj_gen;
+          jj_la1[385] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[384] = jj_gen;
+        jj_la1[386] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -18773,7 +19129,7 @@ Token token;
       jjtn000.loopValues = Expression();
       jj_consume_token(RPAREN);
       jj_consume_token(LBRACE);
-      label_62:
+      label_63:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case SELECT:
@@ -18791,6 +19147,7 @@ Token token;
         case ALTER:
         case DROP:
         case REBUILD:
+        case ANALYZE:
         case OPTIMIZE:
         case EXPLAIN:
         case GRANT:
@@ -18808,10 +19165,10 @@ Token token;
           ;
           break;
         default:
-          jj_la1[385] = jj_gen;
-          break label_62;
+          jj_la1[387] = jj_gen;
+          break label_63;
         }
-        if (jj_2_148(2147483647)) {
+        if (jj_2_151(2147483647)) {
           lastStatement = StatementSemicolon();
                                               jjtn000.statements.add(lastStatement);
         } else {
@@ -18828,7 +19185,7 @@ Token token;
             jj_consume_token(SEMICOLON);
             break;
           default:
-            jj_la1[386] = jj_gen;
+            jj_la1[388] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -19894,1074 +20251,1040 @@ Token token;
     finally { jj_save(147, xla); }
   }
 
-  private boolean jj_3R_450() {
-    if (jj_scan_token(NONE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_761() {
-    if (jj_scan_token(IDEMPOTENT)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_858()) {
-    jj_scanpos = xsp;
-    if (jj_3R_859()) return true;
-    }
-    return false;
-  }
-
-  private boolean jj_3R_449() {
-    if (jj_scan_token(RECORD)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_857() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_148()) return true;
-    return false;
+  private boolean jj_2_149(int xla) {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return !jj_3_149(); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(148, xla); }
   }
 
-  private boolean jj_3R_448() {
-    if (jj_3R_428()) return true;
-    return false;
+  private boolean jj_2_150(int xla) {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return !jj_3_150(); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(149, xla); }
   }
 
-  private boolean jj_3_121() {
-    if (jj_3R_138()) return true;
-    return false;
+  private boolean jj_2_151(int xla) {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return !jj_3_151(); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(150, xla); }
   }
 
-  private boolean jj_3R_241() {
-    if (jj_scan_token(LOCK)) return true;
+  private boolean jj_3R_242() {
+    if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_449()) {
-    jj_scanpos = xsp;
-    if (jj_3R_450()) {
+    if (jj_3R_448()) {
     jj_scanpos = xsp;
-    if (jj_3R_451()) {
+    if (jj_3R_449()) {
     jj_scanpos = xsp;
-    if (jj_3R_452()) return true;
-    }
+    if (jj_3R_450()) return true;
     }
     }
+    xsp = jj_scanpos;
+    if (jj_3R_451()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_240() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_438()) return true;
+  private boolean jj_3R_399() {
+    if (jj_scan_token(IN)) return true;
     return false;
   }
 
-  private boolean jj_3R_445() {
-    if (jj_scan_token(BEFORE)) return true;
+  private boolean jj_3R_403() {
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_188() {
-    if (jj_3R_138()) return true;
-    if (jj_3R_396()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_122()) {
-    jj_scanpos = xsp;
-    if (jj_3_123()) {
-    jj_scanpos = xsp;
-    if (jj_3R_397()) return true;
-    }
-    }
+  private boolean jj_3R_241() {
+    if (jj_scan_token(UPSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_760() {
-    if (jj_scan_token(PARAMETERS)) return true;
-    if (jj_scan_token(LBRACKET)) return true;
-    if (jj_3R_148()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_857()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(RBRACKET)) return true;
+  private boolean jj_3R_240() {
+    if (jj_3R_437()) return true;
     return false;
   }
 
-  private boolean jj_3R_239() {
-    if (jj_scan_token(RETURN)) return true;
+  private boolean jj_3R_284() {
+    if (jj_scan_token(REVOKE)) return true;
+    if (jj_3R_487()) return true;
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_787()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_445()) {
-    jj_scanpos = xsp;
-    if (jj_3R_446()) {
-    jj_scanpos = xsp;
-    if (jj_3R_447()) return true;
-    }
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_789()) { jj_scanpos = xsp; break; }
     }
-    xsp = jj_scanpos;
-    if (jj_3R_448()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_396() {
-    if (jj_scan_token(IN)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_400() {
-    if (jj_3R_138()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_238() {
-    if (jj_scan_token(UPSERT)) return true;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_237() {
-    if (jj_3R_434()) return true;
+  private boolean jj_3_122() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_164()) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_120() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_161()) return true;
-    if (jj_scan_token(RPAREN)) return true;
+  private boolean jj_3R_788() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_787()) return true;
     return false;
   }
 
-  private boolean jj_3R_82() {
+  private boolean jj_3R_83() {
     if (jj_scan_token(UPDATE)) return true;
-    if (jj_3R_229()) return true;
+    if (jj_3R_232()) return true;
     Token xsp;
-    if (jj_3R_237()) return true;
+    if (jj_3R_240()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_237()) { jj_scanpos = xsp; break; }
+      if (jj_3R_240()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_238()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_239()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_240()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_241()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_242()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_243()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_74() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(FUNCTION)) return true;
-    if (jj_3R_148()) return true;
-    if (jj_3R_557()) return true;
-    Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_760()) jj_scanpos = xsp;
+    if (jj_3R_244()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_761()) jj_scanpos = xsp;
+    if (jj_3R_245()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_762()) jj_scanpos = xsp;
+    if (jj_3R_246()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_236() {
-    if (jj_3R_444()) return true;
+  private boolean jj_3R_239() {
+    if (jj_3R_447()) return true;
     return false;
   }
 
-  private boolean jj_3R_235() {
-    if (jj_3R_443()) return true;
+  private boolean jj_3R_238() {
+    if (jj_3R_446()) return true;
     return false;
   }
 
-  private boolean jj_3R_192() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_195() {
+    if (jj_3R_141()) return true;
     if (jj_scan_token(CONTAINS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_120()) {
+    if (jj_3_122()) {
     jj_scanpos = xsp;
-    if (jj_3R_400()) return true;
+    if (jj_3R_403()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_442() {
+  private boolean jj_3R_445() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_437() {
-    if (jj_3R_428()) return true;
+  private boolean jj_3R_440() {
+    if (jj_3R_431()) return true;
     return false;
   }
 
-  private boolean jj_3R_441() {
+  private boolean jj_3R_444() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_784() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_782()) return true;
+  private boolean jj_3R_443() {
+    if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_440() {
-    if (jj_scan_token(NONE)) return true;
+  private boolean jj_3R_442() {
+    if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_439() {
-    if (jj_scan_token(RECORD)) return true;
+  private boolean jj_3R_283() {
+    if (jj_scan_token(GRANT)) return true;
+    if (jj_3R_487()) return true;
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_787()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_788()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_435() {
+  private boolean jj_3R_438() {
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_234() {
+  private boolean jj_3R_237() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_439()) {
+    if (jj_3R_442()) {
     jj_scanpos = xsp;
-    if (jj_3R_440()) {
+    if (jj_3R_443()) {
     jj_scanpos = xsp;
-    if (jj_3R_441()) {
+    if (jj_3R_444()) {
     jj_scanpos = xsp;
-    if (jj_3R_442()) return true;
+    if (jj_3R_445()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_232() {
+  private boolean jj_3R_235() {
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_435()) {
+    if (jj_3R_438()) {
     jj_scanpos = xsp;
-    if (jj_3R_436()) return true;
+    if (jj_3R_439()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_437()) jj_scanpos = xsp;
+    if (jj_3R_440()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_233() {
+  private boolean jj_3R_236() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_438()) return true;
+    if (jj_3R_441()) return true;
     return false;
   }
 
-  private boolean jj_3R_186() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_189() {
+    if (jj_3R_141()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(DEFINED)) return true;
     return false;
   }
 
-  private boolean jj_3R_281() {
-    if (jj_scan_token(REVOKE)) return true;
-    if (jj_3R_484()) return true;
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_782()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_784()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_868() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_231() {
+  private boolean jj_3R_867() {
+    if (jj_scan_token(STAR)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_866() {
+    if (jj_scan_token(CLUSTER)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_234() {
     if (jj_scan_token(UPSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_187() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_190() {
+    if (jj_3R_141()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(DEFINED)) return true;
     return false;
   }
 
-  private boolean jj_3R_230() {
-    if (jj_3R_434()) return true;
+  private boolean jj_3R_233() {
+    if (jj_3R_437()) return true;
     return false;
   }
 
-  private boolean jj_3R_783() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_782()) return true;
+  private boolean jj_3R_787() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_866()) {
+    jj_scanpos = xsp;
+    if (jj_3R_867()) {
+    jj_scanpos = xsp;
+    if (jj_3R_868()) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_184() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_608() {
+    if (jj_scan_token(NONE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_187() {
+    if (jj_3R_141()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_81() {
+  private boolean jj_3R_607() {
+    if (jj_scan_token(ALL)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_606() {
+    if (jj_scan_token(EXECUTE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_605() {
+    if (jj_scan_token(DELETE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_82() {
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EDGE)) return true;
-    if (jj_3R_229()) return true;
+    if (jj_3R_232()) return true;
     Token xsp;
-    if (jj_3R_230()) return true;
+    if (jj_3R_233()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_230()) { jj_scanpos = xsp; break; }
+      if (jj_3R_233()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_231()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_232()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_233()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_234()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_235()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_236()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_237()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_238()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_239()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_185() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_188() {
+    if (jj_3R_141()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_328() {
-    if (jj_3R_432()) return true;
+  private boolean jj_3R_331() {
+    if (jj_3R_435()) return true;
     return false;
   }
 
-  private boolean jj_3R_327() {
-    if (jj_3R_443()) return true;
+  private boolean jj_3R_604() {
+    if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_661() {
+  private boolean jj_3R_330() {
+    if (jj_3R_446()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_664() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_326() {
+  private boolean jj_3R_329() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_438()) return true;
+    if (jj_3R_441()) return true;
     return false;
   }
 
-  private boolean jj_3R_325() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_603() {
+    if (jj_scan_token(READ)) return true;
     return false;
   }
 
-  private boolean jj_3R_280() {
-    if (jj_scan_token(GRANT)) return true;
-    if (jj_3R_484()) return true;
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_782()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_783()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_328() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_560() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_602() {
+    if (jj_scan_token(CREATE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_563() {
+    if (jj_3R_141()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_661()) { jj_scanpos = xsp; break; }
+      if (jj_3R_664()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_660() {
+  private boolean jj_3R_663() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_138()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_863() {
-    if (jj_3R_148()) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_862() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_487() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_602()) {
+    jj_scanpos = xsp;
+    if (jj_3R_603()) {
+    jj_scanpos = xsp;
+    if (jj_3R_604()) {
+    jj_scanpos = xsp;
+    if (jj_3R_605()) {
+    jj_scanpos = xsp;
+    if (jj_3R_606()) {
+    jj_scanpos = xsp;
+    if (jj_3R_607()) {
+    jj_scanpos = xsp;
+    if (jj_3R_608()) return true;
+    }
+    }
+    }
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_191() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_194() {
+    if (jj_3R_141()) return true;
     if (jj_scan_token(BETWEEN)) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     if (jj_scan_token(AND)) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_143() {
+  private boolean jj_3R_146() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_325()) jj_scanpos = xsp;
+    if (jj_3R_328()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_326()) jj_scanpos = xsp;
+    if (jj_3R_329()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_327()) jj_scanpos = xsp;
+    if (jj_3R_330()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_328()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_861() {
-    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_331()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_559() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_562() {
+    if (jj_3R_141()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_660()) { jj_scanpos = xsp; break; }
+      if (jj_3R_663()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_321() {
-    if (jj_3R_432()) return true;
+  private boolean jj_3R_324() {
+    if (jj_3R_435()) return true;
     return false;
   }
 
-  private boolean jj_3R_782() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_861()) {
-    jj_scanpos = xsp;
-    if (jj_3R_862()) {
-    jj_scanpos = xsp;
-    if (jj_3R_863()) return true;
-    }
-    }
+  private boolean jj_3R_323() {
+    if (jj_3R_446()) return true;
     return false;
   }
 
-  private boolean jj_3R_320() {
-    if (jj_3R_443()) return true;
+  private boolean jj_3R_138() {
+    if (jj_scan_token(PROFILE)) return true;
+    if (jj_3R_214()) return true;
     return false;
   }
 
-  private boolean jj_3R_319() {
+  private boolean jj_3R_322() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_438()) return true;
+    if (jj_3R_441()) return true;
     return false;
   }
 
-  private boolean jj_3R_659() {
+  private boolean jj_3R_662() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_138()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_605() {
-    if (jj_scan_token(NONE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_604() {
-    if (jj_scan_token(ALL)) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_558() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_561() {
+    if (jj_3R_141()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_659()) { jj_scanpos = xsp; break; }
+      if (jj_3R_662()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_408() {
+  private boolean jj_3R_411() {
     if (jj_scan_token(BETWEEN)) return true;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_559()) jj_scanpos = xsp;
+    if (jj_3R_562()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     if (jj_scan_token(AND)) return true;
     if (jj_scan_token(LBRACKET)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_560()) jj_scanpos = xsp;
+    if (jj_3R_563()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_603() {
-    if (jj_scan_token(EXECUTE)) return true;
+  private boolean jj_3R_573() {
+    if (jj_scan_token(EXPLAIN)) return true;
+    if (jj_3R_214()) return true;
     return false;
   }
 
-  private boolean jj_3R_602() {
-    if (jj_scan_token(DELETE)) return true;
+  private boolean jj_3R_762() {
+    if (jj_scan_token(INVERSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_601() {
-    if (jj_scan_token(UPDATE)) return true;
+  private boolean jj_3R_761() {
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_600() {
-    if (jj_scan_token(READ)) return true;
+  private boolean jj_3R_760() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_141() {
+  private boolean jj_3R_144() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_319()) jj_scanpos = xsp;
+    if (jj_3R_322()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_320()) jj_scanpos = xsp;
+    if (jj_3R_323()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_321()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_599() {
-    if (jj_scan_token(CREATE)) return true;
+    if (jj_3R_324()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_407() {
-    if (jj_3R_399()) return true;
+  private boolean jj_3R_410() {
+    if (jj_3R_402()) return true;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_558()) jj_scanpos = xsp;
+    if (jj_3R_561()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_324() {
-    if (jj_3R_432()) return true;
+  private boolean jj_3R_759() {
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_484() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_599()) {
-    jj_scanpos = xsp;
-    if (jj_3R_600()) {
-    jj_scanpos = xsp;
-    if (jj_3R_601()) {
-    jj_scanpos = xsp;
-    if (jj_3R_602()) {
-    jj_scanpos = xsp;
-    if (jj_3R_603()) {
-    jj_scanpos = xsp;
-    if (jj_3R_604()) {
-    jj_scanpos = xsp;
-    if (jj_3R_605()) return true;
-    }
-    }
-    }
-    }
-    }
-    }
+  private boolean jj_3R_327() {
+    if (jj_3R_435()) return true;
     return false;
   }
 
-  private boolean jj_3R_323() {
-    if (jj_3R_443()) return true;
+  private boolean jj_3R_326() {
+    if (jj_3R_446()) return true;
     return false;
   }
 
-  private boolean jj_3R_322() {
+  private boolean jj_3R_758() {
+    if (jj_3R_151()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_325() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_438()) return true;
+    if (jj_3R_441()) return true;
     return false;
   }
 
-  private boolean jj_3R_411() {
+  private boolean jj_3R_414() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_410() {
-    if (jj_3R_557()) return true;
+  private boolean jj_3R_413() {
+    if (jj_3R_560()) return true;
     return false;
   }
 
-  private boolean jj_3R_197() {
+  private boolean jj_3R_200() {
     if (jj_scan_token(KEY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_407()) {
+    if (jj_3R_410()) {
     jj_scanpos = xsp;
-    if (jj_3R_408()) return true;
+    if (jj_3R_411()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_409() {
-    if (jj_3R_148()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_135() {
-    if (jj_scan_token(PROFILE)) return true;
-    if (jj_3R_211()) return true;
+  private boolean jj_3R_412() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_142() {
+  private boolean jj_3R_145() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_322()) jj_scanpos = xsp;
+    if (jj_3R_325()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_323()) jj_scanpos = xsp;
+    if (jj_3R_326()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_324()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_570() {
-    if (jj_scan_token(EXPLAIN)) return true;
-    if (jj_3R_211()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_759() {
-    if (jj_scan_token(INVERSE)) return true;
+    if (jj_3R_327()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_758() {
-    if (jj_3R_156()) return true;
+  private boolean jj_3R_74() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(LINK)) return true;
+    if (jj_3R_151()) return true;
+    if (jj_scan_token(TYPE)) return true;
+    if (jj_3R_151()) return true;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_151()) return true;
+    if (jj_scan_token(DOT)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_758()) {
+    jj_scanpos = xsp;
+    if (jj_3R_759()) return true;
+    }
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_151()) return true;
+    if (jj_scan_token(DOT)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_760()) {
+    jj_scanpos = xsp;
+    if (jj_3R_761()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_762()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_119() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_786() {
+    if (jj_3R_865()) return true;
     return false;
   }
 
-  private boolean jj_3R_757() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3_121() {
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_318() {
-    if (jj_3R_432()) return true;
+  private boolean jj_3R_321() {
+    if (jj_3R_435()) return true;
     return false;
   }
 
-  private boolean jj_3R_317() {
-    if (jj_3R_443()) return true;
+  private boolean jj_3R_320() {
+    if (jj_3R_446()) return true;
     return false;
   }
 
-  private boolean jj_3R_198() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_201() {
+    if (jj_3R_141()) return true;
     if (jj_scan_token(INSTANCEOF)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_409()) {
+    if (jj_3R_412()) {
     jj_scanpos = xsp;
-    if (jj_3R_410()) {
+    if (jj_3R_413()) {
     jj_scanpos = xsp;
-    if (jj_3R_411()) return true;
+    if (jj_3R_414()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_315() {
+  private boolean jj_3R_318() {
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_316() {
+  private boolean jj_3R_319() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_438()) return true;
+    if (jj_3R_441()) return true;
     return false;
   }
 
-  private boolean jj_3R_756() {
-    if (jj_3R_156()) return true;
+  private boolean jj_3R_282() {
+    if (jj_scan_token(OPTIMIZE)) return true;
+    if (jj_scan_token(DATABASE)) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_786()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_755() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_405() {
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_402() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_317() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_314() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3_120() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_164()) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_118() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_161()) return true;
-    if (jj_scan_token(RPAREN)) return true;
+  private boolean jj_3R_865() {
+    if (jj_scan_token(MINUS)) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_621() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_152()) return true;
+  private boolean jj_3R_785() {
+    if (jj_3R_151()) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_193() {
-    if (jj_3R_138()) return true;
-    if (jj_3R_401()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_118()) {
-    jj_scanpos = xsp;
-    if (jj_3R_402()) return true;
-    }
+  private boolean jj_3R_624() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_73() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(LINK)) return true;
-    if (jj_3R_148()) return true;
-    if (jj_scan_token(TYPE)) return true;
-    if (jj_3R_148()) return true;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_148()) return true;
-    if (jj_scan_token(DOT)) return true;
+  private boolean jj_3R_196() {
+    if (jj_3R_141()) return true;
+    if (jj_3R_404()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_755()) {
-    jj_scanpos = xsp;
-    if (jj_3R_756()) return true;
-    }
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_148()) return true;
-    if (jj_scan_token(DOT)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_757()) {
+    if (jj_3_120()) {
     jj_scanpos = xsp;
-    if (jj_3R_758()) return true;
+    if (jj_3R_405()) return true;
     }
-    xsp = jj_scanpos;
-    if (jj_3R_759()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_781() {
-    if (jj_3R_860()) return true;
     return false;
   }
 
-  private boolean jj_3R_140() {
+  private boolean jj_3R_143() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_314()) jj_scanpos = xsp;
+    if (jj_3R_317()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_315()) jj_scanpos = xsp;
+    if (jj_3R_318()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_316()) jj_scanpos = xsp;
+    if (jj_3R_319()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_317()) jj_scanpos = xsp;
+    if (jj_3R_320()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_318()) jj_scanpos = xsp;
+    if (jj_3R_321()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_313() {
-    if (jj_3R_432()) return true;
+  private boolean jj_3R_316() {
+    if (jj_3R_435()) return true;
     return false;
   }
 
-  private boolean jj_3R_516() {
-    if (jj_scan_token(NOT)) return true;
+  private boolean jj_3_147() {
+    if (jj_scan_token(CUSTOM)) return true;
+    if (jj_3R_151()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_502() {
-    if (jj_3R_152()) return true;
+  private boolean jj_3R_784() {
+    if (jj_3R_64()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_99() {
+    if (jj_scan_token(ALTER)) return true;
+    if (jj_scan_token(DATABASE)) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_621()) { jj_scanpos = xsp; break; }
+    xsp = jj_scanpos;
+    if (jj_3_147()) {
+    jj_scanpos = xsp;
+    if (jj_3R_785()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_190() {
-    if (jj_3R_138()) return true;
-    if (jj_3R_399()) return true;
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_783() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_279() {
-    if (jj_scan_token(OPTIMIZE)) return true;
-    if (jj_scan_token(DATABASE)) return true;
+  private boolean jj_3R_519() {
+    if (jj_scan_token(NOT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_505() {
+    if (jj_3R_155()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_781()) { jj_scanpos = xsp; break; }
+      if (jj_3R_624()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_351() {
+  private boolean jj_3R_193() {
+    if (jj_3R_141()) return true;
+    if (jj_3R_402()) return true;
+    if (jj_3R_141()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_354() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_516()) jj_scanpos = xsp;
-    if (jj_3R_396()) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_519()) jj_scanpos = xsp;
+    if (jj_3R_399()) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_312() {
+  private boolean jj_3R_315() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_502()) jj_scanpos = xsp;
+    if (jj_3R_505()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_311() {
-    if (jj_3R_152()) return true;
+  private boolean jj_3R_98() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_783()) {
+    jj_scanpos = xsp;
+    if (jj_3R_784()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_350() {
-    if (jj_3R_399()) return true;
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_314() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_860() {
-    if (jj_scan_token(MINUS)) return true;
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_353() {
+    if (jj_3R_402()) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_159() {
+  private boolean jj_3R_162() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_350()) {
+    if (jj_3R_353()) {
     jj_scanpos = xsp;
-    if (jj_3R_351()) return true;
+    if (jj_3R_354()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_780() {
-    if (jj_3R_148()) return true;
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_275() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_727() {
+  private boolean jj_3R_730() {
     if (jj_scan_token(EQEQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_726() {
+  private boolean jj_3R_729() {
     if (jj_scan_token(EQ)) return true;
     return false;
   }
 
-  private boolean jj_3_51() {
-    if (jj_3R_143()) return true;
+  private boolean jj_3_53() {
+    if (jj_3R_146()) return true;
     return false;
   }
 
-  private boolean jj_3_50() {
-    if (jj_3R_142()) return true;
+  private boolean jj_3R_97() {
+    if (jj_scan_token(ALTER)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_151()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_275()) jj_scanpos = xsp;
+    if (jj_3R_151()) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_139() {
+  private boolean jj_3_52() {
+    if (jj_3R_145()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_142() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_311()) {
+    if (jj_3R_314()) {
     jj_scanpos = xsp;
-    if (jj_3R_312()) return true;
+    if (jj_3R_315()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_313()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3_49() {
-    if (jj_3R_141()) return true;
+    if (jj_3R_316()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_144() {
-    if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_148()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_138()) return true;
+  private boolean jj_3_51() {
+    if (jj_3R_144()) return true;
     return false;
   }
 
-  private boolean jj_3R_779() {
-    if (jj_3R_63()) return true;
+  private boolean jj_3R_757() {
+    if (jj_scan_token(ID)) return true;
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_96() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(DATABASE)) return true;
+  private boolean jj_3R_649() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_144()) {
+    if (jj_3R_729()) {
     jj_scanpos = xsp;
-    if (jj_3R_780()) return true;
+    if (jj_3R_730()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_646() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_726()) {
-    jj_scanpos = xsp;
-    if (jj_3R_727()) return true;
-    }
+  private boolean jj_3_50() {
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3_48() {
-    if (jj_3R_140()) return true;
+  private boolean jj_3R_221() {
+    if (jj_scan_token(BLOB)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_778() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_220() {
+    if (jj_3R_146()) return true;
     return false;
   }
 
-  private boolean jj_3R_217() {
-    if (jj_3R_143()) return true;
+  private boolean jj_3_49() {
+    if (jj_3R_142()) return true;
     return false;
   }
 
-  private boolean jj_3_47() {
-    if (jj_3R_139()) return true;
+  private boolean jj_3R_219() {
+    if (jj_3R_145()) return true;
     return false;
   }
 
-  private boolean jj_3R_216() {
-    if (jj_3R_142()) return true;
+  private boolean jj_3R_218() {
+    if (jj_3R_144()) return true;
     return false;
   }
 
-  private boolean jj_3R_215() {
-    if (jj_3R_141()) return true;
+  private boolean jj_3R_404() {
+    if (jj_scan_token(CONTAINSVALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_401() {
-    if (jj_scan_token(CONTAINSVALUE)) return true;
+  private boolean jj_3R_217() {
+    if (jj_3R_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_214() {
-    if (jj_3R_140()) return true;
+  private boolean jj_3R_216() {
+    if (jj_3R_142()) return true;
     return false;
   }
 
-  private boolean jj_3R_95() {
-    if (jj_scan_token(DROP)) return true;
-    if (jj_scan_token(CLUSTER)) return true;
+  private boolean jj_3R_73() {
+    if (jj_scan_token(CREATE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_778()) {
+    if (jj_scan_token(240)) {
     jj_scanpos = xsp;
-    if (jj_3R_779()) return true;
+    if (jj_3R_221()) return true;
     }
+    if (jj_3R_151()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_757()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_213() {
-    if (jj_3R_139()) return true;
+  private boolean jj_3R_782() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_654() {
+  private boolean jj_3R_781() {
+    if (jj_scan_token(STAR)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_657() {
     if (jj_scan_token(CONTAINSKEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_68() {
+  private boolean jj_3R_780() {
+    if (jj_3R_506()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_69() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_213()) {
+    if (jj_3R_216()) {
     jj_scanpos = xsp;
-    if (jj_3R_214()) {
+    if (jj_3R_217()) {
     jj_scanpos = xsp;
-    if (jj_3R_215()) {
+    if (jj_3R_218()) {
     jj_scanpos = xsp;
-    if (jj_3R_216()) {
+    if (jj_3R_219()) {
     jj_scanpos = xsp;
-    if (jj_3R_217()) return true;
+    if (jj_3R_220()) return true;
     }
     }
     }
@@ -20969,646 +21292,629 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_272() {
-    if (jj_scan_token(STAR)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_741() {
+  private boolean jj_3R_744() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_438()) return true;
+    if (jj_3R_441()) return true;
     return false;
   }
 
-  private boolean jj_3R_740() {
+  private boolean jj_3R_743() {
     if (jj_scan_token(RETURN)) return true;
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_743() {
-    if (jj_3R_432()) return true;
+  private boolean jj_3R_746() {
+    if (jj_3R_435()) return true;
     return false;
   }
 
-  private boolean jj_3R_742() {
-    if (jj_3R_443()) return true;
+  private boolean jj_3R_745() {
+    if (jj_3R_446()) return true;
     return false;
   }
 
-  private boolean jj_3R_739() {
+  private boolean jj_3R_742() {
     if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_658() {
+  private boolean jj_3R_661() {
     if (jj_scan_token(SC_AND)) return true;
     return false;
   }
 
-  private boolean jj_3R_94() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_96() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(INDEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_272()) jj_scanpos = xsp;
-    if (jj_3R_148()) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_780()) {
+    jj_scanpos = xsp;
+    if (jj_3R_781()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_782()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_754() {
-    if (jj_scan_token(ID)) return true;
-    if (jj_3R_63()) return true;
+  private boolean jj_3R_660() {
+    if (jj_scan_token(WITHIN)) return true;
     return false;
   }
 
-  private boolean jj_3R_218() {
-    if (jj_scan_token(BLOB)) return true;
-    if (jj_scan_token(CLUSTER)) return true;
+  private boolean jj_3R_741() {
+    if (jj_scan_token(UNSAFE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_740() {
+    if (jj_3R_446()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_739() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_441()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_738() {
+    if (jj_scan_token(RETURN)) return true;
+    if (jj_scan_token(BEFORE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_68() {
+    if (jj_scan_token(DELETE)) return true;
+    if (jj_scan_token(VERTEX)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_742()) jj_scanpos = xsp;
+    if (jj_3R_232()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_743()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_744()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_745()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_746()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_95() {
+    if (jj_scan_token(ANALYZE)) return true;
+    if (jj_scan_token(CLASS)) return true;
+    if (jj_3R_151()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_779() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_657() {
-    if (jj_scan_token(WITHIN)) return true;
+  private boolean jj_3R_659() {
+    if (jj_scan_token(NEAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_738() {
-    if (jj_scan_token(UNSAFE)) return true;
+  private boolean jj_3R_778() {
+    if (jj_3R_506()) return true;
     return false;
   }
 
-  private boolean jj_3R_737() {
-    if (jj_3R_443()) return true;
+  private boolean jj_3R_846() {
+    if (jj_3R_446()) return true;
     return false;
   }
 
-  private boolean jj_3R_736() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_438()) return true;
+  private boolean jj_3R_845() {
+    if (jj_3R_493()) return true;
     return false;
   }
 
-  private boolean jj_3R_735() {
-    if (jj_scan_token(RETURN)) return true;
-    if (jj_scan_token(BEFORE)) return true;
+  private boolean jj_3R_658() {
+    if (jj_scan_token(LUCENE)) return true;
     return false;
   }
 
   private boolean jj_3R_67() {
     if (jj_scan_token(DELETE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_232()) return true;
     Token xsp;
     xsp = jj_scanpos;
+    if (jj_3R_738()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
     if (jj_3R_739()) jj_scanpos = xsp;
-    if (jj_3R_229()) return true;
     xsp = jj_scanpos;
     if (jj_3R_740()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_741()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_742()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_743()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_656() {
-    if (jj_scan_token(NEAR)) return true;
+  private boolean jj_3R_894() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_72() {
-    if (jj_scan_token(CREATE)) return true;
+  private boolean jj_3R_94() {
+    if (jj_scan_token(ANALYZE)) return true;
+    if (jj_scan_token(INDEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(238)) {
+    if (jj_3R_778()) {
     jj_scanpos = xsp;
-    if (jj_3R_218()) return true;
+    if (jj_3R_779()) return true;
     }
-    if (jj_3R_148()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_754()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_777() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_893() {
+    if (jj_3R_513()) return true;
     return false;
   }
 
-  private boolean jj_3R_776() {
+  private boolean jj_3R_777() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_841() {
-    if (jj_3R_443()) return true;
+  private boolean jj_3R_776() {
+    if (jj_3R_506()) return true;
     return false;
   }
 
-  private boolean jj_3R_840() {
-    if (jj_3R_490()) return true;
+  private boolean jj_3R_844() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_141()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_893()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_894()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_775() {
-    if (jj_3R_503()) return true;
+  private boolean jj_3R_656() {
+    if (jj_scan_token(LIKE)) return true;
     return false;
   }
 
-  private boolean jj_3R_655() {
-    if (jj_scan_token(LUCENE)) return true;
+  private boolean jj_3R_916() {
+    if (jj_scan_token(METADATA)) return true;
+    if (jj_3R_211()) return true;
     return false;
   }
 
-  private boolean jj_3R_66() {
-    if (jj_scan_token(DELETE)) return true;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_229()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_735()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_736()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_737()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_738()) jj_scanpos = xsp;
+  private boolean jj_3R_915() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_889() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_148()) return true;
+  private boolean jj_3_48() {
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_888() {
-    if (jj_3R_510()) return true;
+  private boolean jj_3R_892() {
+    if (jj_3R_513()) return true;
     return false;
   }
 
-  private boolean jj_3R_839() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_138()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_888()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_889()) jj_scanpos = xsp;
+  private boolean jj_3R_843() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_653() {
-    if (jj_scan_token(LIKE)) return true;
+  private boolean jj_3R_655() {
+    if (jj_scan_token(LE)) return true;
     return false;
   }
 
-  private boolean jj_3R_93() {
-    if (jj_scan_token(DROP)) return true;
+  private boolean jj_3R_281() {
+    if (jj_scan_token(REBUILD)) return true;
     if (jj_scan_token(INDEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_775()) {
+    if (jj_3R_776()) {
     jj_scanpos = xsp;
-    if (jj_3R_776()) return true;
+    if (jj_3R_777()) return true;
     }
-    xsp = jj_scanpos;
-    if (jj_3R_777()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_774() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_891() {
+    if (jj_3R_513()) return true;
     return false;
   }
 
-  private boolean jj_3_46() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_904() {
+    if (jj_3R_151()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_915()) { jj_scanpos = xsp; break; }
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_916()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_887() {
-    if (jj_3R_510()) return true;
+  private boolean jj_3R_842() {
+    if (jj_3R_141()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_892()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_773() {
-    if (jj_3R_503()) return true;
+  private boolean jj_3R_654() {
+    if (jj_scan_token(GE)) return true;
     return false;
   }
 
-  private boolean jj_3R_838() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_861() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_145()) {
+    jj_scanpos = xsp;
+    if (jj_3R_904()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_652() {
-    if (jj_scan_token(LE)) return true;
+  private boolean jj_3_145() {
+    if (jj_scan_token(METADATA)) return true;
+    if (jj_3R_211()) return true;
     return false;
   }
 
-  private boolean jj_3R_910() {
+  private boolean jj_3R_914() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_208()) return true;
+    if (jj_3R_211()) return true;
     return false;
   }
 
-  private boolean jj_3R_909() {
+  private boolean jj_3R_913() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_886() {
-    if (jj_3R_510()) return true;
+  private boolean jj_3_47() {
+    if (jj_scan_token(DISTINCT)) return true;
+    if (jj_3R_141()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_891()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_837() {
-    if (jj_3R_138()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_887()) jj_scanpos = xsp;
+  private boolean jj_3R_841() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_648()) return true;
     return false;
   }
 
-  private boolean jj_3R_651() {
-    if (jj_scan_token(GE)) return true;
+  private boolean jj_3R_653() {
+    if (jj_scan_token(NEQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_278() {
-    if (jj_scan_token(REBUILD)) return true;
-    if (jj_scan_token(INDEX)) return true;
+  private boolean jj_3R_756() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_773()) {
-    jj_scanpos = xsp;
-    if (jj_3R_774()) return true;
-    }
+    if (jj_3R_861()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_898() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_903() {
+    if (jj_3R_151()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_909()) { jj_scanpos = xsp; break; }
+      if (jj_3R_913()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_910()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3_45() {
-    if (jj_scan_token(DISTINCT)) return true;
-    if (jj_3R_138()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_886()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_836() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_645()) return true;
+    if (jj_3R_914()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_650() {
-    if (jj_scan_token(NEQ)) return true;
+  private boolean jj_3R_652() {
+    if (jj_scan_token(NE)) return true;
     return false;
   }
 
-  private boolean jj_3R_856() {
+  private boolean jj_3R_860() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_142()) {
+    if (jj_3_144()) {
     jj_scanpos = xsp;
-    if (jj_3R_898()) return true;
+    if (jj_3R_903()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_142() {
-    if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_208()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_908() {
+  private boolean jj_3_144() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_208()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_907() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_148()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_649() {
-    if (jj_scan_token(NE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_753() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_856()) jj_scanpos = xsp;
+    if (jj_3R_211()) return true;
     return false;
   }
 
-  private boolean jj_3R_543() {
+  private boolean jj_3R_546() {
     if (jj_scan_token(MATCH)) return true;
-    if (jj_3R_645()) return true;
+    if (jj_3R_648()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_836()) { jj_scanpos = xsp; break; }
+      if (jj_3R_841()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RETURN)) return true;
     xsp = jj_scanpos;
-    if (jj_3_45()) {
+    if (jj_3_47()) {
     jj_scanpos = xsp;
-    if (jj_3R_837()) return true;
+    if (jj_3R_842()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_838()) jj_scanpos = xsp;
+    if (jj_3R_843()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_839()) { jj_scanpos = xsp; break; }
+      if (jj_3R_844()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_840()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_841()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_897() {
-    if (jj_3R_148()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_907()) { jj_scanpos = xsp; break; }
-    }
+    if (jj_3R_845()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_908()) jj_scanpos = xsp;
+    if (jj_3R_846()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_884() {
+  private boolean jj_3R_889() {
     if (jj_scan_token(BREADTH_FIRST)) return true;
     return false;
   }
 
-  private boolean jj_3R_648() {
+  private boolean jj_3R_651() {
     if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  private boolean jj_3R_883() {
+  private boolean jj_3R_888() {
     if (jj_scan_token(DEPTH_FIRST)) return true;
     return false;
   }
 
-  private boolean jj_3R_855() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_141()) {
-    jj_scanpos = xsp;
-    if (jj_3R_897()) return true;
-    }
+  private boolean jj_3R_902() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3_141() {
-    if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_208()) return true;
+  private boolean jj_3_146() {
+    if (jj_scan_token(ENGINE)) return true;
+    if (jj_3R_151()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_860()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_647() {
+  private boolean jj_3R_650() {
     if (jj_scan_token(LT)) return true;
     return false;
   }
 
-  private boolean jj_3R_835() {
+  private boolean jj_3R_840() {
     if (jj_scan_token(STRATEGY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_883()) {
+    if (jj_3R_888()) {
     jj_scanpos = xsp;
-    if (jj_3R_884()) return true;
+    if (jj_3R_889()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_556() {
-    if (jj_3R_658()) return true;
+  private boolean jj_3R_559() {
+    if (jj_3R_661()) return true;
     return false;
   }
 
-  private boolean jj_3R_834() {
-    if (jj_3R_443()) return true;
+  private boolean jj_3R_839() {
+    if (jj_3R_446()) return true;
     return false;
   }
 
-  private boolean jj_3R_555() {
-    if (jj_3R_657()) return true;
+  private boolean jj_3R_558() {
+    if (jj_3R_660()) return true;
     return false;
   }
 
-  private boolean jj_3R_833() {
+  private boolean jj_3R_838() {
     if (jj_scan_token(WHILE)) return true;
-    if (jj_3R_438()) return true;
+    if (jj_3R_441()) return true;
     return false;
   }
 
-  private boolean jj_3R_554() {
-    if (jj_3R_656()) return true;
+  private boolean jj_3R_755() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_882() {
+  private boolean jj_3R_557() {
+    if (jj_3R_659()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_887() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_725()) return true;
+    if (jj_3R_728()) return true;
     return false;
   }
 
-  private boolean jj_3R_832() {
+  private boolean jj_3R_837() {
     if (jj_scan_token(MAXDEPTH)) return true;
-    if (jj_3R_63()) return true;
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_553() {
-    if (jj_3R_655()) return true;
+  private boolean jj_3R_556() {
+    if (jj_3R_658()) return true;
     return false;
   }
 
-  private boolean jj_3R_552() {
-    if (jj_3R_654()) return true;
+  private boolean jj_3R_555() {
+    if (jj_3R_657()) return true;
     return false;
   }
 
-  private boolean jj_3R_544() {
-    if (jj_3R_646()) return true;
+  private boolean jj_3R_547() {
+    if (jj_3R_649()) return true;
     return false;
   }
 
-  private boolean jj_3R_551() {
-    if (jj_3R_653()) return true;
+  private boolean jj_3R_554() {
+    if (jj_3R_656()) return true;
     return false;
   }
 
-  private boolean jj_3R_644() {
-    if (jj_3R_725()) return true;
+  private boolean jj_3R_647() {
+    if (jj_3R_728()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_882()) { jj_scanpos = xsp; break; }
+      if (jj_3R_887()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_550() {
-    if (jj_3R_652()) return true;
+  private boolean jj_3R_553() {
+    if (jj_3R_655()) return true;
     return false;
   }
 
-  private boolean jj_3_143() {
-    if (jj_scan_token(ENGINE)) return true;
-    if (jj_3R_148()) return true;
+  private boolean jj_3_142() {
+    if (jj_scan_token(INCLUDE)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_151()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_855()) jj_scanpos = xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_902()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_615() {
-    if (jj_3R_613()) return true;
+  private boolean jj_3R_618() {
+    if (jj_3R_616()) return true;
     return false;
   }
 
-  private boolean jj_3R_549() {
-    if (jj_3R_651()) return true;
+  private boolean jj_3R_552() {
+    if (jj_3R_654()) return true;
     return false;
   }
 
-  private boolean jj_3R_906() {
+  private boolean jj_3R_912() {
     if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_896() {
+  private boolean jj_3R_901() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_548() {
-    if (jj_3R_650()) return true;
+  private boolean jj_3R_551() {
+    if (jj_3R_653()) return true;
     return false;
   }
 
-  private boolean jj_3R_547() {
-    if (jj_3R_649()) return true;
+  private boolean jj_3R_550() {
+    if (jj_3R_652()) return true;
     return false;
   }
 
-  private boolean jj_3R_905() {
+  private boolean jj_3R_911() {
     if (jj_scan_token(KEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_752() {
-    if (jj_3R_148()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_546() {
-    if (jj_3R_648()) return true;
+  private boolean jj_3R_549() {
+    if (jj_3R_651()) return true;
     return false;
   }
 
-  private boolean jj_3R_614() {
-    if (jj_3R_443()) return true;
+  private boolean jj_3R_617() {
+    if (jj_3R_446()) return true;
     return false;
   }
 
-  private boolean jj_3R_545() {
-    if (jj_3R_647()) return true;
+  private boolean jj_3R_548() {
+    if (jj_3R_650()) return true;
     return false;
   }
 
-  private boolean jj_3R_895() {
+  private boolean jj_3R_900() {
     if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_905()) {
+    if (jj_3R_911()) {
     jj_scanpos = xsp;
-    if (jj_3R_906()) return true;
+    if (jj_3R_912()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_542() {
+  private boolean jj_3R_545() {
     if (jj_scan_token(TRAVERSE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_644()) jj_scanpos = xsp;
+    if (jj_3R_647()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_229()) return true;
+    if (jj_3R_232()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_832()) jj_scanpos = xsp;
+    if (jj_3R_837()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_833()) jj_scanpos = xsp;
+    if (jj_3R_838()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_834()) jj_scanpos = xsp;
+    if (jj_3R_839()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_835()) jj_scanpos = xsp;
+    if (jj_3R_840()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_116() {
-    if (jj_3R_197()) return true;
+  private boolean jj_3_118() {
+    if (jj_3R_200()) return true;
     return false;
   }
 
-  private boolean jj_3_117() {
-    if (jj_3R_198()) return true;
+  private boolean jj_3_119() {
+    if (jj_3R_201()) return true;
     return false;
   }
 
-  private boolean jj_3R_498() {
+  private boolean jj_3R_501() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3_115() {
-    if (jj_3R_196()) return true;
+  private boolean jj_3_117() {
+    if (jj_3R_199()) return true;
     return false;
   }
 
-  private boolean jj_3R_399() {
+  private boolean jj_3R_402() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_544()) {
-    jj_scanpos = xsp;
-    if (jj_3R_545()) {
-    jj_scanpos = xsp;
-    if (jj_3R_546()) {
-    jj_scanpos = xsp;
     if (jj_3R_547()) {
     jj_scanpos = xsp;
     if (jj_3R_548()) {
@@ -21627,7 +21933,13 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_555()) {
     jj_scanpos = xsp;
-    if (jj_3R_556()) return true;
+    if (jj_3R_556()) {
+    jj_scanpos = xsp;
+    if (jj_3R_557()) {
+    jj_scanpos = xsp;
+    if (jj_3R_558()) {
+    jj_scanpos = xsp;
+    if (jj_3R_559()) return true;
     }
     }
     }
@@ -21643,333 +21955,327 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_497() {
+  private boolean jj_3R_500() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_300() {
+  private boolean jj_3R_303() {
     if (jj_scan_token(NOCACHE)) return true;
     return false;
   }
 
-  private boolean jj_3R_894() {
-    if (jj_3R_156()) return true;
+  private boolean jj_3R_899() {
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_299() {
+  private boolean jj_3R_302() {
     if (jj_scan_token(PARALLEL)) return true;
     return false;
   }
 
-  private boolean jj_3R_496() {
+  private boolean jj_3R_499() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_395() {
+  private boolean jj_3R_398() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_495() {
+  private boolean jj_3R_498() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3_113() {
-    if (jj_3R_194()) return true;
+  private boolean jj_3R_397() {
+    if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_394() {
-    if (jj_scan_token(TRUE)) return true;
+  private boolean jj_3_115() {
+    if (jj_3R_197()) return true;
     return false;
   }
 
-  private boolean jj_3_114() {
-    if (jj_3R_195()) return true;
+  private boolean jj_3_116() {
+    if (jj_3R_198()) return true;
     return false;
   }
 
-  private boolean jj_3R_392() {
-    if (jj_3R_197()) return true;
+  private boolean jj_3R_395() {
+    if (jj_3R_200()) return true;
     return false;
   }
 
-  private boolean jj_3R_893() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_898() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3_112() {
-    if (jj_3R_193()) return true;
+  private boolean jj_3R_396() {
+    if (jj_3R_201()) return true;
     return false;
   }
 
-  private boolean jj_3R_393() {
-    if (jj_3R_198()) return true;
+  private boolean jj_3_114() {
+    if (jj_3R_196()) return true;
     return false;
   }
 
-  private boolean jj_3R_391() {
-    if (jj_3R_196()) return true;
+  private boolean jj_3R_394() {
+    if (jj_3R_199()) return true;
     return false;
   }
 
-  private boolean jj_3_111() {
-    if (jj_3R_192()) return true;
+  private boolean jj_3_113() {
+    if (jj_3R_195()) return true;
     return false;
   }
 
-  private boolean jj_3R_900() {
-    if (jj_3R_613()) return true;
+  private boolean jj_3R_906() {
+    if (jj_3R_616()) return true;
     return false;
   }
 
-  private boolean jj_3R_493() {
-    if (jj_3R_443()) return true;
+  private boolean jj_3R_496() {
+    if (jj_3R_446()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_615()) jj_scanpos = xsp;
+    if (jj_3R_618()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_298() {
+  private boolean jj_3R_301() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_495()) {
+    if (jj_3R_498()) {
     jj_scanpos = xsp;
-    if (jj_3R_496()) {
+    if (jj_3R_499()) {
     jj_scanpos = xsp;
-    if (jj_3R_497()) {
+    if (jj_3R_500()) {
     jj_scanpos = xsp;
-    if (jj_3R_498()) return true;
+    if (jj_3R_501()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_854() {
+  private boolean jj_3R_859() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_893()) {
+    if (jj_3R_898()) {
     jj_scanpos = xsp;
-    if (jj_3R_894()) return true;
+    if (jj_3R_899()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_895()) jj_scanpos = xsp;
+    if (jj_3R_900()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_896()) jj_scanpos = xsp;
+    if (jj_3R_901()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_492() {
-    if (jj_3R_613()) return true;
+  private boolean jj_3R_495() {
+    if (jj_3R_616()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_614()) jj_scanpos = xsp;
+    if (jj_3R_617()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_295() {
+  private boolean jj_3R_298() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_492()) {
+    if (jj_3R_495()) {
     jj_scanpos = xsp;
-    if (jj_3R_493()) return true;
+    if (jj_3R_496()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_297() {
-    if (jj_3R_444()) return true;
+  private boolean jj_3R_300() {
+    if (jj_3R_447()) return true;
     return false;
   }
 
-  private boolean jj_3_110() {
-    if (jj_3R_191()) return true;
+  private boolean jj_3_112() {
+    if (jj_3R_194()) return true;
     return false;
   }
 
-  private boolean jj_3R_296() {
-    if (jj_3R_494()) return true;
+  private boolean jj_3R_299() {
+    if (jj_3R_497()) return true;
     return false;
   }
 
-  private boolean jj_3R_899() {
-    if (jj_3R_443()) return true;
+  private boolean jj_3R_905() {
+    if (jj_3R_446()) return true;
     return false;
   }
 
-  private boolean jj_3R_389() {
-    if (jj_3R_194()) return true;
+  private boolean jj_3R_392() {
+    if (jj_3R_197()) return true;
     return false;
   }
 
-  private boolean jj_3_109() {
-    if (jj_3R_190()) return true;
+  private boolean jj_3R_393() {
+    if (jj_3R_198()) return true;
     return false;
   }
 
-  private boolean jj_3R_390() {
-    if (jj_3R_195()) return true;
+  private boolean jj_3_111() {
+    if (jj_3R_193()) return true;
     return false;
   }
 
-  private boolean jj_3R_892() {
+  private boolean jj_3R_897() {
     if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_853() {
+  private boolean jj_3R_858() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_388() {
-    if (jj_3R_193()) return true;
+  private boolean jj_3R_391() {
+    if (jj_3R_196()) return true;
     return false;
   }
 
-  private boolean jj_3R_891() {
+  private boolean jj_3R_896() {
     if (jj_scan_token(KEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_387() {
-    if (jj_3R_192()) return true;
+  private boolean jj_3R_390() {
+    if (jj_3R_195()) return true;
     return false;
   }
 
-  private boolean jj_3R_294() {
-    if (jj_3R_491()) return true;
+  private boolean jj_3R_297() {
+    if (jj_3R_494()) return true;
     return false;
   }
 
-  private boolean jj_3_107() {
-    if (jj_3R_188()) return true;
+  private boolean jj_3_109() {
+    if (jj_3R_191()) return true;
     return false;
   }
 
-  private boolean jj_3R_293() {
-    if (jj_3R_490()) return true;
+  private boolean jj_3R_296() {
+    if (jj_3R_493()) return true;
     return false;
   }
 
-  private boolean jj_3_108() {
-    if (jj_3R_189()) return true;
+  private boolean jj_3_110() {
+    if (jj_3R_192()) return true;
     return false;
   }
 
-  private boolean jj_3R_292() {
-    if (jj_3R_489()) return true;
+  private boolean jj_3R_295() {
+    if (jj_3R_492()) return true;
     return false;
   }
 
-  private boolean jj_3R_386() {
-    if (jj_3R_191()) return true;
+  private boolean jj_3R_389() {
+    if (jj_3R_194()) return true;
     return false;
   }
 
-  private boolean jj_3R_852() {
+  private boolean jj_3R_857() {
     if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_891()) {
+    if (jj_3R_896()) {
     jj_scanpos = xsp;
-    if (jj_3R_892()) return true;
+    if (jj_3R_897()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_291() {
+  private boolean jj_3R_294() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_438()) return true;
+    if (jj_3R_441()) return true;
     return false;
   }
 
-  private boolean jj_3_106() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3_108() {
+    if (jj_3R_190()) return true;
     return false;
   }
 
-  private boolean jj_3R_290() {
-    if (jj_3R_488()) return true;
+  private boolean jj_3R_293() {
+    if (jj_3R_491()) return true;
     return false;
   }
 
-  private boolean jj_3R_385() {
-    if (jj_3R_190()) return true;
+  private boolean jj_3R_388() {
+    if (jj_3R_193()) return true;
     return false;
   }
 
-  private boolean jj_3_105() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3_107() {
+    if (jj_3R_189()) return true;
     return false;
   }
 
-  private boolean jj_3R_289() {
-    if (jj_3R_428()) return true;
+  private boolean jj_3R_292() {
+    if (jj_3R_431()) return true;
     return false;
   }
 
-  private boolean jj_3_104() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3_106() {
+    if (jj_3R_188()) return true;
     return false;
   }
 
-  private boolean jj_3R_851() {
-    if (jj_3R_156()) return true;
+  private boolean jj_3R_856() {
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_383() {
-    if (jj_3R_188()) return true;
+  private boolean jj_3R_386() {
+    if (jj_3R_191()) return true;
     return false;
   }
 
-  private boolean jj_3_103() {
-    if (jj_3R_184()) return true;
+  private boolean jj_3_105() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_384() {
-    if (jj_3R_189()) return true;
+  private boolean jj_3R_387() {
+    if (jj_3R_192()) return true;
     return false;
   }
 
-  private boolean jj_3R_382() {
-    if (jj_3R_187()) return true;
+  private boolean jj_3R_385() {
+    if (jj_3R_190()) return true;
     return false;
   }
 
-  private boolean jj_3R_877() {
-    if (jj_3R_443()) return true;
+  private boolean jj_3R_882() {
+    if (jj_3R_446()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_900()) jj_scanpos = xsp;
+    if (jj_3R_906()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_136() {
+  private boolean jj_3R_139() {
     if (jj_scan_token(SELECT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_289()) jj_scanpos = xsp;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_229()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_290()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_291()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_292()) jj_scanpos = xsp;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_232()) return true;
     xsp = jj_scanpos;
     if (jj_3R_293()) jj_scanpos = xsp;
     xsp = jj_scanpos;
@@ -21986,131 +22292,133 @@ Token token;
     if (jj_3R_299()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_300()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_301()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_302()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_303()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_850() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_855() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_876() {
-    if (jj_3R_613()) return true;
+  private boolean jj_3R_881() {
+    if (jj_3R_616()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_899()) jj_scanpos = xsp;
+    if (jj_3R_905()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_826() {
+  private boolean jj_3R_831() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_876()) {
+    if (jj_3R_881()) {
     jj_scanpos = xsp;
-    if (jj_3R_877()) return true;
+    if (jj_3R_882()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_381() {
-    if (jj_3R_186()) return true;
+  private boolean jj_3R_384() {
+    if (jj_3R_189()) return true;
     return false;
   }
 
-  private boolean jj_3R_881() {
+  private boolean jj_3R_886() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_880() {
+  private boolean jj_3R_885() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_831() {
+  private boolean jj_3R_836() {
     if (jj_scan_token(NOCACHE)) return true;
     return false;
   }
 
-  private boolean jj_3R_380() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_383() {
+    if (jj_3R_188()) return true;
     return false;
   }
 
-  private boolean jj_3R_830() {
+  private boolean jj_3R_835() {
     if (jj_scan_token(PARALLEL)) return true;
     return false;
   }
 
-  private boolean jj_3R_879() {
+  private boolean jj_3R_884() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_379() {
-    if (jj_3R_184()) return true;
+  private boolean jj_3R_382() {
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_878() {
+  private boolean jj_3R_883() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3_140() {
+  private boolean jj_3_143() {
     if (jj_scan_token(ON)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_850()) {
+    if (jj_3R_855()) {
     jj_scanpos = xsp;
-    if (jj_3R_851()) return true;
+    if (jj_3R_856()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_852()) jj_scanpos = xsp;
+    if (jj_3R_857()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_853()) jj_scanpos = xsp;
+    if (jj_3R_858()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_854()) { jj_scanpos = xsp; break; }
+      if (jj_3R_859()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
-    if (jj_3R_148()) return true;
+    xsp = jj_scanpos;
+    if (jj_3_142()) jj_scanpos = xsp;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3_102() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3_104() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_829() {
+  private boolean jj_3R_834() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_878()) {
+    if (jj_3R_883()) {
     jj_scanpos = xsp;
-    if (jj_3R_879()) {
+    if (jj_3R_884()) {
     jj_scanpos = xsp;
-    if (jj_3R_880()) {
+    if (jj_3R_885()) {
     jj_scanpos = xsp;
-    if (jj_3R_881()) return true;
+    if (jj_3R_886()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_182() {
+  private boolean jj_3R_185() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_379()) {
-    jj_scanpos = xsp;
-    if (jj_3R_380()) {
-    jj_scanpos = xsp;
-    if (jj_3R_381()) {
-    jj_scanpos = xsp;
     if (jj_3R_382()) {
     jj_scanpos = xsp;
     if (jj_3R_383()) {
@@ -22137,7 +22445,13 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_394()) {
     jj_scanpos = xsp;
-    if (jj_3R_395()) return true;
+    if (jj_3R_395()) {
+    jj_scanpos = xsp;
+    if (jj_3R_396()) {
+    jj_scanpos = xsp;
+    if (jj_3R_397()) {
+    jj_scanpos = xsp;
+    if (jj_3R_398()) return true;
     }
     }
     }
@@ -22157,232 +22471,232 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_828() {
-    if (jj_3R_444()) return true;
+  private boolean jj_3R_833() {
+    if (jj_3R_447()) return true;
     return false;
   }
 
-  private boolean jj_3R_827() {
-    if (jj_3R_494()) return true;
+  private boolean jj_3R_832() {
+    if (jj_3R_497()) return true;
     return false;
   }
 
-  private boolean jj_3_101() {
-    if (jj_3R_182()) return true;
+  private boolean jj_3_103() {
+    if (jj_3R_185()) return true;
     return false;
   }
 
-  private boolean jj_3R_71() {
+  private boolean jj_3R_72() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(INDEX)) return true;
-    if (jj_3R_503()) return true;
+    if (jj_3R_506()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_140()) {
+    if (jj_3_143()) {
     jj_scanpos = xsp;
-    if (jj_3R_752()) return true;
+    if (jj_3R_755()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3_143()) {
+    if (jj_3_146()) {
     jj_scanpos = xsp;
-    if (jj_3R_753()) return true;
+    if (jj_3R_756()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_100() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3_102() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_183() {
+  private boolean jj_3R_186() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_164()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_99() {
-    if (jj_3R_182()) return true;
+  private boolean jj_3_101() {
+    if (jj_3R_185()) return true;
     return false;
   }
 
-  private boolean jj_3R_825() {
-    if (jj_3R_491()) return true;
+  private boolean jj_3R_830() {
+    if (jj_3R_494()) return true;
     return false;
   }
 
-  private boolean jj_3R_721() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_724() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_824() {
-    if (jj_3R_488()) return true;
+  private boolean jj_3R_829() {
+    if (jj_3R_491()) return true;
     return false;
   }
 
-  private boolean jj_3R_271() {
+  private boolean jj_3R_274() {
     if (jj_scan_token(FORCE)) return true;
     return false;
   }
 
-  private boolean jj_3R_270() {
+  private boolean jj_3R_273() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_720() {
-    if (jj_3R_182()) return true;
+  private boolean jj_3R_723() {
+    if (jj_3R_185()) return true;
     return false;
   }
 
-  private boolean jj_3_44() {
-    if (jj_3R_137()) return true;
+  private boolean jj_3_46() {
+    if (jj_3R_140()) return true;
     return false;
   }
 
-  private boolean jj_3R_719() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_722() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_718() {
-    if (jj_3R_182()) return true;
+  private boolean jj_3R_721() {
+    if (jj_3R_185()) return true;
     return false;
   }
 
-  private boolean jj_3R_634() {
+  private boolean jj_3R_637() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_720()) {
+    if (jj_3R_723()) {
     jj_scanpos = xsp;
-    if (jj_3R_721()) return true;
+    if (jj_3R_724()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_92() {
+  private boolean jj_3R_93() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_270()) jj_scanpos = xsp;
+    if (jj_3R_273()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_271()) jj_scanpos = xsp;
+    if (jj_3R_274()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_269() {
-    if (jj_3R_148()) return true;
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_272() {
+    if (jj_3R_151()) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_332() {
+  private boolean jj_3R_335() {
     if (jj_scan_token(SELECT)) return true;
-    if (jj_3R_428()) return true;
+    if (jj_3R_431()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_824()) jj_scanpos = xsp;
+    if (jj_3R_829()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_825()) jj_scanpos = xsp;
+    if (jj_3R_830()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_826()) jj_scanpos = xsp;
+    if (jj_3R_831()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_827()) jj_scanpos = xsp;
+    if (jj_3R_832()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_828()) jj_scanpos = xsp;
+    if (jj_3R_833()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_829()) jj_scanpos = xsp;
+    if (jj_3R_834()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_830()) jj_scanpos = xsp;
+    if (jj_3R_835()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_831()) jj_scanpos = xsp;
+    if (jj_3R_836()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_43() {
-    if (jj_3R_136()) return true;
+  private boolean jj_3_45() {
+    if (jj_3R_139()) return true;
     return false;
   }
 
-  private boolean jj_3R_378() {
-    if (jj_3R_137()) return true;
+  private boolean jj_3R_381() {
+    if (jj_3R_140()) return true;
     return false;
   }
 
-  private boolean jj_3R_377() {
-    if (jj_3R_543()) return true;
+  private boolean jj_3R_380() {
+    if (jj_3R_546()) return true;
     return false;
   }
 
-  private boolean jj_3_139() {
+  private boolean jj_3_141() {
     if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_376() {
-    if (jj_3R_542()) return true;
+  private boolean jj_3R_379() {
+    if (jj_3R_545()) return true;
     return false;
   }
 
-  private boolean jj_3R_633() {
+  private boolean jj_3R_636() {
     if (jj_scan_token(NOT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_718()) {
+    if (jj_3R_721()) {
     jj_scanpos = xsp;
-    if (jj_3R_719()) return true;
+    if (jj_3R_722()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_375() {
-    if (jj_3R_332()) return true;
+  private boolean jj_3R_378() {
+    if (jj_3R_335()) return true;
     return false;
   }
 
-  private boolean jj_3R_374() {
-    if (jj_3R_136()) return true;
+  private boolean jj_3R_377() {
+    if (jj_3R_139()) return true;
     return false;
   }
 
-  private boolean jj_3R_520() {
+  private boolean jj_3R_523() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_633()) {
+    if (jj_3R_636()) {
     jj_scanpos = xsp;
-    if (jj_3R_634()) return true;
+    if (jj_3R_637()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_521() {
+  private boolean jj_3R_524() {
     if (jj_scan_token(AND)) return true;
-    if (jj_3R_520()) return true;
+    if (jj_3R_523()) return true;
     return false;
   }
 
-  private boolean jj_3R_181() {
+  private boolean jj_3R_184() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_374()) {
+    if (jj_3R_377()) {
     jj_scanpos = xsp;
-    if (jj_3R_375()) {
+    if (jj_3R_378()) {
     jj_scanpos = xsp;
-    if (jj_3R_376()) {
+    if (jj_3R_379()) {
     jj_scanpos = xsp;
-    if (jj_3R_377()) {
+    if (jj_3R_380()) {
     jj_scanpos = xsp;
-    if (jj_3R_378()) return true;
+    if (jj_3R_381()) return true;
     }
     }
     }
@@ -22390,958 +22704,984 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_40() {
-    if (jj_3R_100()) return true;
+  private boolean jj_3_42() {
+    if (jj_3R_103()) return true;
     return false;
   }
 
-  private boolean jj_3_42() {
-    if (jj_3R_135()) return true;
+  private boolean jj_3_44() {
+    if (jj_3R_138()) return true;
     return false;
   }
 
-  private boolean jj_3R_356() {
+  private boolean jj_3R_359() {
     if (jj_scan_token(OR)) return true;
-    if (jj_3R_355()) return true;
+    if (jj_3R_358()) return true;
     return false;
   }
 
-  private boolean jj_3_39() {
-    if (jj_3R_99()) return true;
+  private boolean jj_3_41() {
+    if (jj_3R_102()) return true;
     return false;
   }
 
-  private boolean jj_3R_355() {
-    if (jj_3R_520()) return true;
+  private boolean jj_3R_358() {
+    if (jj_3R_523()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_521()) { jj_scanpos = xsp; break; }
+      if (jj_3R_524()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_91() {
+  private boolean jj_3R_92() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_139()) {
+    if (jj_3_141()) {
     jj_scanpos = xsp;
-    if (jj_3R_269()) return true;
+    if (jj_3R_272()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_38() {
-    if (jj_3R_98()) return true;
+  private boolean jj_3_40() {
+    if (jj_3R_101()) return true;
     return false;
   }
 
-  private boolean jj_3R_426() {
-    if (jj_3R_571()) return true;
+  private boolean jj_3R_429() {
+    if (jj_3R_574()) return true;
     return false;
   }
 
-  private boolean jj_3_37() {
-    if (jj_3R_97()) return true;
+  private boolean jj_3_39() {
+    if (jj_3R_100()) return true;
     return false;
   }
 
-  private boolean jj_3R_134() {
-    if (jj_3R_100()) return true;
+  private boolean jj_3R_137() {
+    if (jj_3R_103()) return true;
     return false;
   }
 
-  private boolean jj_3R_161() {
-    if (jj_3R_355()) return true;
+  private boolean jj_3R_164() {
+    if (jj_3R_358()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_356()) { jj_scanpos = xsp; break; }
+      if (jj_3R_359()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_425() {
-    if (jj_3R_135()) return true;
+  private boolean jj_3R_428() {
+    if (jj_3R_138()) return true;
     return false;
   }
 
-  private boolean jj_3R_890() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_895() {
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_438() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_441() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_424() {
-    if (jj_3R_570()) return true;
+  private boolean jj_3R_427() {
+    if (jj_3R_573()) return true;
     return false;
   }
 
-  private boolean jj_3R_133() {
-    if (jj_3R_99()) return true;
+  private boolean jj_3R_136() {
+    if (jj_3R_102()) return true;
     return false;
   }
 
-  private boolean jj_3R_132() {
-    if (jj_3R_98()) return true;
+  private boolean jj_3R_135() {
+    if (jj_3R_101()) return true;
     return false;
   }
 
-  private boolean jj_3R_506() {
+  private boolean jj_3R_509() {
     if (jj_scan_token(INDEXVALUESDESC_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_849() {
+  private boolean jj_3R_854() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_848()) return true;
+    if (jj_3R_853()) return true;
     return false;
   }
 
-  private boolean jj_3R_751() {
+  private boolean jj_3R_754() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_131() {
-    if (jj_3R_97()) return true;
+  private boolean jj_3R_134() {
+    if (jj_3R_100()) return true;
     return false;
   }
 
-  private boolean jj_3R_505() {
+  private boolean jj_3R_508() {
     if (jj_scan_token(INDEXVALUESASC_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_749() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_752() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_130() {
-    if (jj_3R_288()) return true;
+  private boolean jj_3R_133() {
+    if (jj_3R_291()) return true;
     return false;
   }
 
-  private boolean jj_3R_750() {
+  private boolean jj_3R_753() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_848()) return true;
+    if (jj_3R_853()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_849()) { jj_scanpos = xsp; break; }
+      if (jj_3R_854()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_504() {
+  private boolean jj_3R_507() {
     if (jj_scan_token(INDEXVALUES_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_129() {
-    if (jj_3R_287()) return true;
+  private boolean jj_3R_132() {
+    if (jj_3R_290()) return true;
     return false;
   }
 
-  private boolean jj_3R_848() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_853() {
+    if (jj_3R_151()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_890()) jj_scanpos = xsp;
+    if (jj_3R_895()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_128() {
-    if (jj_3R_286()) return true;
+  private boolean jj_3R_131() {
+    if (jj_3R_289()) return true;
     return false;
   }
 
-  private boolean jj_3R_127() {
-    if (jj_3R_285()) return true;
+  private boolean jj_3R_130() {
+    if (jj_3R_288()) return true;
     return false;
   }
 
-  private boolean jj_3_138() {
-    if (jj_3R_207()) return true;
+  private boolean jj_3_140() {
+    if (jj_3R_210()) return true;
     return false;
   }
 
-  private boolean jj_3R_126() {
-    if (jj_3R_284()) return true;
+  private boolean jj_3R_129() {
+    if (jj_3R_287()) return true;
     return false;
   }
 
-  private boolean jj_3R_125() {
-    if (jj_3R_283()) return true;
+  private boolean jj_3R_128() {
+    if (jj_3R_286()) return true;
     return false;
   }
 
-  private boolean jj_3R_330() {
+  private boolean jj_3R_333() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_504()) {
+    if (jj_3R_507()) {
     jj_scanpos = xsp;
-    if (jj_3R_505()) {
+    if (jj_3R_508()) {
     jj_scanpos = xsp;
-    if (jj_3R_506()) return true;
+    if (jj_3R_509()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_124() {
-    if (jj_3R_282()) return true;
+  private boolean jj_3R_127() {
+    if (jj_3R_285()) return true;
     return false;
   }
 
-  private boolean jj_3R_123() {
-    if (jj_3R_281()) return true;
+  private boolean jj_3R_126() {
+    if (jj_3R_284()) return true;
     return false;
   }
 
-  private boolean jj_3R_122() {
-    if (jj_3R_280()) return true;
+  private boolean jj_3R_125() {
+    if (jj_3R_283()) return true;
     return false;
   }
 
-  private boolean jj_3R_329() {
+  private boolean jj_3R_332() {
     if (jj_scan_token(INDEX_COLON)) return true;
-    if (jj_3R_503()) return true;
+    if (jj_3R_506()) return true;
     return false;
   }
 
-  private boolean jj_3_34() {
-    if (jj_3R_94()) return true;
+  private boolean jj_3_36() {
+    if (jj_3R_97()) return true;
     return false;
   }
 
-  private boolean jj_3R_121() {
-    if (jj_3R_279()) return true;
+  private boolean jj_3R_124() {
+    if (jj_3R_282()) return true;
     return false;
   }
 
-  private boolean jj_3_36() {
-    if (jj_3R_96()) return true;
+  private boolean jj_3_38() {
+    if (jj_3R_99()) return true;
     return false;
   }
 
-  private boolean jj_3R_144() {
+  private boolean jj_3R_147() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_329()) {
+    if (jj_3R_332()) {
     jj_scanpos = xsp;
-    if (jj_3R_330()) return true;
+    if (jj_3R_333()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_35() {
-    if (jj_3R_95()) return true;
-    return false;
-  }
-
-  private boolean jj_3_32() {
-    if (jj_3R_92()) return true;
+  private boolean jj_3_37() {
+    if (jj_3R_98()) return true;
     return false;
   }
 
-  private boolean jj_3R_70() {
+  private boolean jj_3R_71() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_138()) jj_scanpos = xsp;
-    if (jj_3R_148()) return true;
+    if (jj_3_140()) jj_scanpos = xsp;
+    if (jj_3R_151()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_749()) jj_scanpos = xsp;
+    if (jj_3R_752()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_750()) jj_scanpos = xsp;
+    if (jj_3R_753()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_751()) jj_scanpos = xsp;
+    if (jj_3R_754()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_120() {
-    if (jj_3R_94()) return true;
+  private boolean jj_3R_123() {
+    if (jj_3R_97()) return true;
     return false;
   }
 
-  private boolean jj_3_31() {
-    if (jj_3R_91()) return true;
+  private boolean jj_3R_716() {
+    if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_713() {
-    if (jj_scan_token(MINUS)) return true;
+  private boolean jj_3_35() {
+    if (jj_3R_96()) return true;
     return false;
   }
 
-  private boolean jj_3_33() {
+  private boolean jj_3_32() {
     if (jj_3R_93()) return true;
     return false;
   }
 
-  private boolean jj_3_30() {
-    if (jj_3R_90()) return true;
+  private boolean jj_3R_715() {
+    if (jj_scan_token(DOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_712() {
-    if (jj_scan_token(DOT)) return true;
+  private boolean jj_3R_476() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_473() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3_34() {
+    if (jj_3R_95()) return true;
     return false;
   }
 
-  private boolean jj_3R_119() {
-    if (jj_3R_278()) return true;
+  private boolean jj_3_31() {
+    if (jj_3R_92()) return true;
     return false;
   }
 
-  private boolean jj_3R_118() {
-    if (jj_3R_92()) return true;
+  private boolean jj_3_33() {
+    if (jj_3R_94()) return true;
     return false;
   }
 
-  private boolean jj_3R_623() {
+  private boolean jj_3R_626() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_712()) {
+    if (jj_3R_715()) {
     jj_scanpos = xsp;
-    if (jj_3R_713()) return true;
+    if (jj_3R_716()) return true;
     }
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3_28() {
-    if (jj_3R_88()) return true;
+  private boolean jj_3_30() {
+    if (jj_3R_91()) return true;
     return false;
   }
 
-  private boolean jj_3R_207() {
+  private boolean jj_3R_210() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_268() {
+  private boolean jj_3R_271() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_117() {
-    if (jj_3R_91()) return true;
+  private boolean jj_3R_122() {
+    if (jj_3R_281()) return true;
     return false;
   }
 
-  private boolean jj_3R_267() {
+  private boolean jj_3R_270() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_622() {
-    if (jj_scan_token(251)) return true;
+  private boolean jj_3R_625() {
+    if (jj_scan_token(253)) return true;
     return false;
   }
 
-  private boolean jj_3R_472() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_475() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_116() {
-    if (jj_3R_90()) return true;
+  private boolean jj_3R_121() {
+    if (jj_3R_93()) return true;
     return false;
   }
 
-  private boolean jj_3R_90() {
+  private boolean jj_3R_91() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_267()) jj_scanpos = xsp;
+    if (jj_3R_270()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_268()) jj_scanpos = xsp;
+    if (jj_3R_271()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_26() {
-    if (jj_3R_86()) return true;
+  private boolean jj_3_28() {
+    if (jj_3R_89()) return true;
     return false;
   }
 
-  private boolean jj_3_29() {
-    if (jj_3R_89()) return true;
+  private boolean jj_3R_120() {
+    if (jj_3R_92()) return true;
     return false;
   }
 
-  private boolean jj_3R_503() {
+  private boolean jj_3R_506() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_622()) jj_scanpos = xsp;
-    if (jj_3R_148()) return true;
+    if (jj_3R_625()) jj_scanpos = xsp;
+    if (jj_3R_151()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_623()) { jj_scanpos = xsp; break; }
+      if (jj_3R_626()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_25() {
-    if (jj_3R_85()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_115() {
-    if (jj_3R_88()) return true;
+  private boolean jj_3R_119() {
+    if (jj_3R_91()) return true;
     return false;
   }
 
-  private boolean jj_3R_471() {
-    if (jj_3R_557()) return true;
+  private boolean jj_3R_474() {
+    if (jj_3R_560()) return true;
     return false;
   }
 
-  private boolean jj_3R_266() {
+  private boolean jj_3R_269() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3_24() {
-    if (jj_3R_84()) return true;
+  private boolean jj_3_26() {
+    if (jj_3R_87()) return true;
     return false;
   }
 
-  private boolean jj_3R_470() {
-    if (jj_scan_token(252)) return true;
+  private boolean jj_3R_473() {
+    if (jj_scan_token(254)) return true;
     return false;
   }
 
-  private boolean jj_3_27() {
-    if (jj_3R_87()) return true;
+  private boolean jj_3_29() {
+    if (jj_3R_90()) return true;
     return false;
   }
 
-  private boolean jj_3R_265() {
+  private boolean jj_3R_268() {
     if (jj_scan_token(ENCRYPTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_473()) {
+    if (jj_3R_476()) {
     jj_scanpos = xsp;
     if (jj_scan_token(37)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_469() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_472() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3_23() {
-    if (jj_3R_83()) return true;
+  private boolean jj_3_25() {
+    if (jj_3R_86()) return true;
     return false;
   }
 
-  private boolean jj_3R_114() {
-    if (jj_3R_86()) return true;
+  private boolean jj_3R_118() {
+    if (jj_3R_89()) return true;
     return false;
   }
 
-  private boolean jj_3R_866() {
+  private boolean jj_3R_871() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_113() {
+  private boolean jj_3_24() {
     if (jj_3R_85()) return true;
     return false;
   }
 
-  private boolean jj_3_22() {
-    if (jj_3R_82()) return true;
+  private boolean jj_3_27() {
+    if (jj_3R_88()) return true;
     return false;
   }
 
-  private boolean jj_3R_788() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_793() {
+    if (jj_3R_151()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_866()) { jj_scanpos = xsp; break; }
+      if (jj_3R_871()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_673() {
-    if (jj_scan_token(METADATA_IDENTIFIER)) return true;
+  private boolean jj_3_23() {
+    if (jj_3R_84()) return true;
     return false;
   }
 
-  private boolean jj_3R_112() {
-    if (jj_3R_84()) return true;
+  private boolean jj_3R_676() {
+    if (jj_scan_token(METADATA_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3_21() {
-    if (jj_3R_81()) return true;
+  private boolean jj_3R_117() {
+    if (jj_3R_87()) return true;
     return false;
   }
 
-  private boolean jj_3R_264() {
+  private boolean jj_3R_267() {
     if (jj_scan_token(DESCRIPTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_472()) {
+    if (jj_3R_475()) {
     jj_scanpos = xsp;
     if (jj_scan_token(37)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_468() {
+  private boolean jj_3R_471() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_111() {
-    if (jj_3R_83()) return true;
-    return false;
-  }
-
-  private boolean jj_3_20() {
-    if (jj_3R_80()) return true;
+  private boolean jj_3R_116() {
+    if (jj_3R_86()) return true;
     return false;
   }
 
-  private boolean jj_3R_110() {
-    if (jj_3R_277()) return true;
+  private boolean jj_3_22() {
+    if (jj_3R_83()) return true;
     return false;
   }
 
-  private boolean jj_3R_467() {
+  private boolean jj_3R_470() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3_19() {
-    if (jj_3R_79()) return true;
+  private boolean jj_3R_115() {
+    if (jj_3R_85()) return true;
     return false;
   }
 
-  private boolean jj_3R_109() {
+  private boolean jj_3_21() {
     if (jj_3R_82()) return true;
     return false;
   }
 
-  private boolean jj_3_18() {
-    if (jj_3R_78()) return true;
+  private boolean jj_3R_114() {
+    if (jj_3R_84()) return true;
     return false;
   }
 
-  private boolean jj_3R_108() {
+  private boolean jj_3_20() {
     if (jj_3R_81()) return true;
     return false;
   }
 
-  private boolean jj_3R_263() {
+  private boolean jj_3R_113() {
+    if (jj_3R_280()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_266() {
     if (jj_scan_token(CLUSTERSELECTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_469()) {
+    if (jj_3R_472()) {
     jj_scanpos = xsp;
-    if (jj_3R_470()) {
+    if (jj_3R_473()) {
     jj_scanpos = xsp;
-    if (jj_3R_471()) return true;
+    if (jj_3R_474()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3_17() {
-    if (jj_3R_77()) return true;
+  private boolean jj_3_19() {
+    if (jj_3R_80()) return true;
     return false;
   }
 
-  private boolean jj_3R_672() {
+  private boolean jj_3R_675() {
     if (jj_scan_token(CLUSTER)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_788()) jj_scanpos = xsp;
+    if (jj_3R_793()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_107() {
-    if (jj_3R_80()) return true;
+  private boolean jj_3R_112() {
+    if (jj_3R_83()) return true;
     return false;
   }
 
-  private boolean jj_3_95() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3_97() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_334() {
+  private boolean jj_3R_337() {
     if (jj_scan_token(CLUSTER_NUMBER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3_16() {
-    if (jj_3R_76()) return true;
+  private boolean jj_3_18() {
+    if (jj_3R_79()) return true;
     return false;
   }
 
-  private boolean jj_3R_106() {
-    if (jj_3R_79()) return true;
+  private boolean jj_3R_111() {
+    if (jj_3R_82()) return true;
     return false;
   }
 
-  private boolean jj_3R_333() {
+  private boolean jj_3R_336() {
     if (jj_scan_token(CLUSTER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_466() {
-    if (jj_3R_63()) return true;
+  private boolean jj_3_17() {
+    if (jj_3R_78()) return true;
     return false;
   }
 
-  private boolean jj_3R_105() {
-    if (jj_3R_78()) return true;
+  private boolean jj_3R_469() {
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_465() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_110() {
+    if (jj_3R_81()) return true;
     return false;
   }
 
-  private boolean jj_3R_104() {
+  private boolean jj_3R_468() {
+    if (jj_3R_151()) return true;
+    return false;
+  }
+
+  private boolean jj_3_16() {
     if (jj_3R_77()) return true;
     return false;
   }
 
-  private boolean jj_3_94() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_109() {
+    if (jj_3R_80()) return true;
     return false;
   }
 
-  private boolean jj_3R_262() {
+  private boolean jj_3_96() {
+    if (jj_3R_167()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_265() {
     if (jj_scan_token(ABSTRACT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_467()) {
+    if (jj_3R_470()) {
     jj_scanpos = xsp;
-    if (jj_3R_468()) return true;
+    if (jj_3R_471()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_676() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_679() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_103() {
-    if (jj_3R_76()) return true;
+  private boolean jj_3R_108() {
+    if (jj_3R_79()) return true;
     return false;
   }
 
-  private boolean jj_3R_150() {
+  private boolean jj_3R_153() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_333()) {
+    if (jj_3R_336()) {
     jj_scanpos = xsp;
-    if (jj_3R_334()) return true;
+    if (jj_3R_337()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_464() {
-    if (jj_3R_63()) return true;
+  private boolean jj_3R_467() {
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3_15() {
-    if (jj_3R_75()) return true;
+  private boolean jj_3R_107() {
+    if (jj_3R_78()) return true;
     return false;
   }
 
-  private boolean jj_3R_463() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_466() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3_14() {
-    if (jj_3R_74()) return true;
+  private boolean jj_3R_106() {
+    if (jj_3R_77()) return true;
     return false;
   }
 
-  private boolean jj_3R_261() {
+  private boolean jj_3R_264() {
     if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_675() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_678() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3_93() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3_95() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3_13() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3_15() {
+    if (jj_3R_76()) return true;
     return false;
   }
 
-  private boolean jj_3R_584() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_587() {
+    if (jj_3R_151()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_676()) jj_scanpos = xsp;
+    if (jj_3R_679()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_12() {
-    if (jj_3R_72()) return true;
+  private boolean jj_3_14() {
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_462() {
+  private boolean jj_3R_465() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3_11() {
-    if (jj_3R_71()) return true;
+  private boolean jj_3_13() {
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_260() {
+  private boolean jj_3R_263() {
     if (jj_scan_token(REMOVECLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_465()) {
+    if (jj_3R_468()) {
     jj_scanpos = xsp;
-    if (jj_3R_466()) return true;
+    if (jj_3R_469()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_461() {
+  private boolean jj_3R_464() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3_10() {
-    if (jj_3R_70()) return true;
+  private boolean jj_3_12() {
+    if (jj_3R_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_674() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_677() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_596() {
+  private boolean jj_3R_599() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3_98() {
-    if (jj_3R_154()) return true;
+  private boolean jj_3_100() {
+    if (jj_3R_157()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_675()) jj_scanpos = xsp;
+    if (jj_3R_678()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_9() {
-    if (jj_3R_69()) return true;
+  private boolean jj_3_11() {
+    if (jj_3R_72()) return true;
     return false;
   }
-
-  private boolean jj_3R_583() {
-    if (jj_3R_153()) return true;
+
+  private boolean jj_3R_586() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_102() {
-    if (jj_3R_276()) return true;
+  private boolean jj_3_10() {
+    if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3R_259() {
+  private boolean jj_3R_262() {
     if (jj_scan_token(ADDCLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_463()) {
+    if (jj_3R_466()) {
     jj_scanpos = xsp;
-    if (jj_3R_464()) return true;
+    if (jj_3R_467()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_97() {
-    if (jj_3R_144()) return true;
+  private boolean jj_3_99() {
+    if (jj_3R_147()) return true;
     return false;
   }
 
-  private boolean jj_3_8() {
-    if (jj_3R_68()) return true;
+  private boolean jj_3_9() {
+    if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3_7() {
-    if (jj_3R_67()) return true;
+  private boolean jj_3R_105() {
+    if (jj_3R_279()) return true;
     return false;
   }
 
-  private boolean jj_3R_582() {
+  private boolean jj_3R_585() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_181()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_674()) jj_scanpos = xsp;
+    if (jj_3R_677()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_459() {
+  private boolean jj_3R_462() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_581() {
-    if (jj_3R_673()) return true;
+  private boolean jj_3R_584() {
+    if (jj_3R_676()) return true;
     return false;
   }
 
-  private boolean jj_3_6() {
-    if (jj_3R_66()) return true;
+  private boolean jj_3_8() {
+    if (jj_3R_69()) return true;
     return false;
   }
 
-  private boolean jj_3R_101() {
-    if (jj_3R_181()) return true;
+  private boolean jj_3R_792() {
+    if (jj_3R_516()) return true;
     return false;
   }
 
-  private boolean jj_3R_787() {
-    if (jj_3R_513()) return true;
+  private boolean jj_3R_583() {
+    if (jj_3R_147()) return true;
     return false;
   }
 
-  private boolean jj_3R_580() {
-    if (jj_3R_144()) return true;
+  private boolean jj_3_7() {
+    if (jj_3R_68()) return true;
     return false;
   }
 
-  private boolean jj_3R_579() {
-    if (jj_3R_672()) return true;
+  private boolean jj_3R_582() {
+    if (jj_3R_675()) return true;
     return false;
   }
 
-  private boolean jj_3R_258() {
+  private boolean jj_3R_261() {
     if (jj_scan_token(STRICTMODE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_461()) {
+    if (jj_3R_464()) {
     jj_scanpos = xsp;
-    if (jj_3R_462()) return true;
+    if (jj_3R_465()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_786() {
+  private boolean jj_3R_791() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_512()) return true;
+    if (jj_3R_515()) return true;
     return false;
   }
 
-  private boolean jj_3R_671() {
+  private boolean jj_3R_674() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_786()) {
+    if (jj_3R_791()) {
     jj_scanpos = xsp;
-    if (jj_3R_787()) return true;
+    if (jj_3R_792()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_607() {
+  private boolean jj_3R_610() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_606()) return true;
+    if (jj_3R_609()) return true;
     return false;
   }
 
-  private boolean jj_3R_458() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_461() {
+    if (jj_3R_151()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_596()) { jj_scanpos = xsp; break; }
+      if (jj_3R_599()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_578() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3_6() {
+    if (jj_3R_67()) return true;
     return false;
   }
 
-  private boolean jj_3R_670() {
-    if (jj_3R_513()) return true;
+  private boolean jj_3R_581() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_257() {
+  private boolean jj_3R_104() {
+    if (jj_3R_184()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_673() {
+    if (jj_3R_516()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_260() {
     if (jj_scan_token(OVERSIZE)) return true;
-    if (jj_3R_460()) return true;
+    if (jj_3R_463()) return true;
     return false;
   }
 
-  private boolean jj_3R_669() {
-    if (jj_3R_512()) return true;
+  private boolean jj_3R_672() {
+    if (jj_3R_515()) return true;
     return false;
   }
 
-  private boolean jj_3_41() {
+  private boolean jj_3R_460() {
+    if (jj_scan_token(NULL)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_671() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_155()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_459() {
+    if (jj_3R_151()) return true;
+    return false;
+  }
+
+  private boolean jj_3_43() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_101()) {
+    if (jj_3R_104()) {
     jj_scanpos = xsp;
     if (jj_3_6()) {
     jj_scanpos = xsp;
@@ -23349,7 +23689,7 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3_8()) {
     jj_scanpos = xsp;
-    if (jj_3R_102()) {
+    if (jj_3R_105()) {
     jj_scanpos = xsp;
     if (jj_3_9()) {
     jj_scanpos = xsp;
@@ -23365,12 +23705,6 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3_15()) {
     jj_scanpos = xsp;
-    if (jj_3R_103()) {
-    jj_scanpos = xsp;
-    if (jj_3R_104()) {
-    jj_scanpos = xsp;
-    if (jj_3R_105()) {
-    jj_scanpos = xsp;
     if (jj_3R_106()) {
     jj_scanpos = xsp;
     if (jj_3R_107()) {
@@ -23389,34 +23723,38 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_114()) {
     jj_scanpos = xsp;
-    if (jj_3_27()) {
-    jj_scanpos = xsp;
     if (jj_3R_115()) {
     jj_scanpos = xsp;
-    if (jj_3_29()) {
-    jj_scanpos = xsp;
     if (jj_3R_116()) {
     jj_scanpos = xsp;
     if (jj_3R_117()) {
     jj_scanpos = xsp;
+    if (jj_3_27()) {
+    jj_scanpos = xsp;
     if (jj_3R_118()) {
     jj_scanpos = xsp;
-    if (jj_3R_119()) {
+    if (jj_3_29()) {
     jj_scanpos = xsp;
-    if (jj_3_33()) {
+    if (jj_3R_119()) {
     jj_scanpos = xsp;
     if (jj_3R_120()) {
     jj_scanpos = xsp;
-    if (jj_3_35()) {
-    jj_scanpos = xsp;
-    if (jj_3_36()) {
-    jj_scanpos = xsp;
     if (jj_3R_121()) {
     jj_scanpos = xsp;
     if (jj_3R_122()) {
     jj_scanpos = xsp;
+    if (jj_3_33()) {
+    jj_scanpos = xsp;
+    if (jj_3_34()) {
+    jj_scanpos = xsp;
+    if (jj_3_35()) {
+    jj_scanpos = xsp;
     if (jj_3R_123()) {
     jj_scanpos = xsp;
+    if (jj_3_37()) {
+    jj_scanpos = xsp;
+    if (jj_3_38()) {
+    jj_scanpos = xsp;
     if (jj_3R_124()) {
     jj_scanpos = xsp;
     if (jj_3R_125()) {
@@ -23437,8 +23775,13 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_133()) {
     jj_scanpos = xsp;
-    if (jj_3R_134()) return true;
-    }
+    if (jj_3R_134()) {
+    jj_scanpos = xsp;
+    if (jj_3R_135()) {
+    jj_scanpos = xsp;
+    if (jj_3R_136()) {
+    jj_scanpos = xsp;
+    if (jj_3R_137()) return true;
     }
     }
     }
@@ -23486,147 +23829,115 @@ Token token;
     }
     }
     }
-    return false;
-  }
-
-  private boolean jj_3R_457() {
-    if (jj_scan_token(NULL)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_668() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_152()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_456() {
-    if (jj_3R_148()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_211() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_41()) {
-    jj_scanpos = xsp;
-    if (jj_3R_424()) {
-    jj_scanpos = xsp;
-    if (jj_3R_425()) {
-    jj_scanpos = xsp;
-    if (jj_3R_426()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_577() {
+  private boolean jj_3R_580() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_669()) {
+    if (jj_3R_672()) {
     jj_scanpos = xsp;
-    if (jj_3R_670()) return true;
+    if (jj_3R_673()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_671()) { jj_scanpos = xsp; break; }
+      if (jj_3R_674()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_595() {
+  private boolean jj_3R_598() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_594() {
-    if (jj_scan_token(PLUS)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_455() {
+  private boolean jj_3R_214() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_594()) {
+    if (jj_3_43()) {
+    jj_scanpos = xsp;
+    if (jj_3R_427()) {
     jj_scanpos = xsp;
-    if (jj_3R_595()) return true;
+    if (jj_3R_428()) {
+    jj_scanpos = xsp;
+    if (jj_3R_429()) return true;
+    }
+    }
     }
     return false;
   }
 
-  private boolean jj_3R_64() {
-    if (jj_3R_211()) return true;
-    if (jj_scan_token(SEMICOLON)) return true;
+  private boolean jj_3R_597() {
+    if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_256() {
-    if (jj_scan_token(SUPERCLASSES)) return true;
+  private boolean jj_3R_458() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_458()) {
+    if (jj_3R_597()) {
     jj_scanpos = xsp;
-    if (jj_3R_459()) return true;
+    if (jj_3R_598()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_5() {
-    if (jj_3R_65()) return true;
+  private boolean jj_3R_259() {
+    if (jj_scan_token(SUPERCLASSES)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_461()) {
+    jj_scanpos = xsp;
+    if (jj_3R_462()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3_96() {
+  private boolean jj_3_98() {
     if (jj_scan_token(LBRACKET)) return true;
-    if (jj_3R_152()) return true;
+    if (jj_3R_155()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_668()) { jj_scanpos = xsp; break; }
+      if (jj_3R_671()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_576() {
-    if (jj_3R_152()) return true;
+  private boolean jj_3R_579() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3_4() {
-    if (jj_3R_63()) return true;
+  private boolean jj_3R_65() {
+    if (jj_3R_214()) return true;
+    if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_454() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_457() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_209() {
-    if (jj_3R_211()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(179)) jj_scanpos = xsp;
+  private boolean jj_3_5() {
+    if (jj_3R_66()) return true;
     return false;
   }
 
-  private boolean jj_3R_433() {
+  private boolean jj_3R_436() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_576()) {
-    jj_scanpos = xsp;
-    if (jj_3_96()) {
-    jj_scanpos = xsp;
-    if (jj_3R_577()) {
-    jj_scanpos = xsp;
-    if (jj_3R_578()) {
-    jj_scanpos = xsp;
     if (jj_3R_579()) {
     jj_scanpos = xsp;
+    if (jj_3_98()) {
+    jj_scanpos = xsp;
     if (jj_3R_580()) {
     jj_scanpos = xsp;
     if (jj_3R_581()) {
@@ -23635,9 +23946,15 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_583()) {
     jj_scanpos = xsp;
-    if (jj_3_98()) {
+    if (jj_3R_584()) {
+    jj_scanpos = xsp;
+    if (jj_3R_585()) {
+    jj_scanpos = xsp;
+    if (jj_3R_586()) {
+    jj_scanpos = xsp;
+    if (jj_3_100()) {
     jj_scanpos = xsp;
-    if (jj_3R_584()) return true;
+    if (jj_3R_587()) return true;
     }
     }
     }
@@ -23651,127 +23968,129 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_598() {
-    if (jj_3R_65()) return true;
+  private boolean jj_3_4() {
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3_92() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_212() {
+    if (jj_3R_214()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(181)) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_597() {
-    if (jj_3R_63()) return true;
+  private boolean jj_3_94() {
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_255() {
+  private boolean jj_3R_258() {
     if (jj_scan_token(SUPERCLASS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_455()) jj_scanpos = xsp;
+    if (jj_3R_458()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_456()) {
+    if (jj_3R_459()) {
     jj_scanpos = xsp;
-    if (jj_3R_457()) return true;
+    if (jj_3R_460()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_460() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_597()) {
-    jj_scanpos = xsp;
-    if (jj_3R_598()) return true;
-    }
+  private boolean jj_3R_601() {
+    if (jj_3R_66()) return true;
     return false;
   }
 
-  private boolean jj_3R_692() {
+  private boolean jj_3R_695() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_181()) return true;
+    if (jj_3R_184()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_212() {
-    if (jj_scan_token(MINUS)) return true;
+  private boolean jj_3R_600() {
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_691() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_694() {
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_254() {
-    if (jj_scan_token(SHORTNAME)) return true;
+  private boolean jj_3R_463() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_454()) {
+    if (jj_3R_600()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(37)) return true;
+    if (jj_3R_601()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_65() {
+  private boolean jj_3R_257() {
+    if (jj_scan_token(SHORTNAME)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_212()) jj_scanpos = xsp;
-    if (jj_scan_token(FLOATING_POINT_LITERAL)) return true;
+    if (jj_3R_457()) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(37)) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_253() {
+  private boolean jj_3R_215() {
+    if (jj_scan_token(MINUS)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_256() {
     if (jj_scan_token(NAME)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_606() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_609() {
+    if (jj_3R_151()) return true;
     if (jj_scan_token(EQ)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_691()) {
+    if (jj_3R_694()) {
     jj_scanpos = xsp;
-    if (jj_3R_692()) return true;
+    if (jj_3R_695()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_847() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_63()) return true;
+  private boolean jj_3R_66() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_215()) jj_scanpos = xsp;
+    if (jj_scan_token(FLOATING_POINT_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_210() {
-    if (jj_scan_token(MINUS)) return true;
+  private boolean jj_3R_852() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_846() {
+  private boolean jj_3R_851() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_88() {
+  private boolean jj_3R_89() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_253()) {
-    jj_scanpos = xsp;
-    if (jj_3R_254()) {
-    jj_scanpos = xsp;
-    if (jj_3R_255()) {
-    jj_scanpos = xsp;
     if (jj_3R_256()) {
     jj_scanpos = xsp;
     if (jj_3R_257()) {
@@ -23790,7 +24109,13 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_264()) {
     jj_scanpos = xsp;
-    if (jj_3R_265()) return true;
+    if (jj_3R_265()) {
+    jj_scanpos = xsp;
+    if (jj_3R_266()) {
+    jj_scanpos = xsp;
+    if (jj_3R_267()) {
+    jj_scanpos = xsp;
+    if (jj_3R_268()) return true;
     }
     }
     }
@@ -23804,449 +24129,448 @@ Token token;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_266()) jj_scanpos = xsp;
+    if (jj_3R_269()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_488() {
+  private boolean jj_3R_491() {
     if (jj_scan_token(LET)) return true;
-    if (jj_3R_606()) return true;
+    if (jj_3R_609()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_607()) { jj_scanpos = xsp; break; }
+      if (jj_3R_610()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_91() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3_93() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_748() {
+  private boolean jj_3R_751() {
     if (jj_scan_token(ABSTRACT)) return true;
     return false;
   }
 
-  private boolean jj_3R_747() {
+  private boolean jj_3R_750() {
     if (jj_scan_token(CLUSTERS)) return true;
-    if (jj_3R_63()) return true;
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_746() {
+  private boolean jj_3R_749() {
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_63()) return true;
+    if (jj_3R_64()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_847()) { jj_scanpos = xsp; break; }
+      if (jj_3R_852()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_63() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_210()) jj_scanpos = xsp;
-    if (jj_scan_token(INTEGER_LITERAL)) return true;
+  private boolean jj_3R_213() {
+    if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_229() {
-    if (jj_3R_433()) return true;
+  private boolean jj_3R_232() {
+    if (jj_3R_436()) return true;
     return false;
   }
 
-  private boolean jj_3R_745() {
+  private boolean jj_3R_748() {
     if (jj_scan_token(EXTENDS)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_846()) { jj_scanpos = xsp; break; }
+      if (jj_3R_851()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_541() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_544() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3_90() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_64() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_213()) jj_scanpos = xsp;
+    if (jj_scan_token(INTEGER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_540() {
+  private boolean jj_3_92() {
+    if (jj_3R_167()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_543() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_539() {
-    if (jj_3R_557()) return true;
+  private boolean jj_3R_542() {
+    if (jj_3R_560()) return true;
     return false;
   }
 
-  private boolean jj_3R_744() {
+  private boolean jj_3R_747() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_619() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_622() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3_89() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3_91() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_618() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_621() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_538() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_541() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_373() {
+  private boolean jj_3R_376() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_539()) {
+    if (jj_3R_542()) {
     jj_scanpos = xsp;
-    if (jj_3R_540()) return true;
+    if (jj_3R_543()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_541()) jj_scanpos = xsp;
+    if (jj_3R_544()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_69() {
+  private boolean jj_3R_70() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_744()) jj_scanpos = xsp;
+    if (jj_3R_747()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_745()) jj_scanpos = xsp;
+    if (jj_3R_748()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_746()) jj_scanpos = xsp;
+    if (jj_3R_749()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_747()) jj_scanpos = xsp;
+    if (jj_3R_750()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_748()) jj_scanpos = xsp;
+    if (jj_3R_751()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_537() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_540() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_372() {
-    if (jj_3R_153()) return true;
+  private boolean jj_3R_375() {
+    if (jj_3R_156()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_538()) jj_scanpos = xsp;
+    if (jj_3R_541()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_501() {
+  private boolean jj_3R_504() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_618()) {
+    if (jj_3R_621()) {
     jj_scanpos = xsp;
-    if (jj_3R_619()) return true;
+    if (jj_3R_622()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_371() {
-    if (jj_3R_536()) return true;
+  private boolean jj_3R_374() {
+    if (jj_3R_539()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_537()) jj_scanpos = xsp;
+    if (jj_3R_540()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_370() {
-    if (jj_3R_460()) return true;
+  private boolean jj_3R_373() {
+    if (jj_3R_463()) return true;
     return false;
   }
 
-  private boolean jj_3R_500() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_503() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_593() {
+  private boolean jj_3R_596() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_152()) return true;
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_499() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_502() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_180() {
+  private boolean jj_3R_183() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_370()) {
+    if (jj_3R_373()) {
     jj_scanpos = xsp;
-    if (jj_3R_371()) {
+    if (jj_3R_374()) {
     jj_scanpos = xsp;
-    if (jj_3R_372()) {
+    if (jj_3R_375()) {
     jj_scanpos = xsp;
-    if (jj_3R_373()) return true;
+    if (jj_3R_376()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_368() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_371() {
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_369() {
-    if (jj_3R_276()) return true;
+  private boolean jj_3R_372() {
+    if (jj_3R_279()) return true;
     return false;
   }
 
-  private boolean jj_3_88() {
-    if (jj_3R_181()) return true;
+  private boolean jj_3_90() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_303() {
+  private boolean jj_3R_306() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_499()) {
+    if (jj_3R_502()) {
     jj_scanpos = xsp;
-    if (jj_3R_500()) return true;
+    if (jj_3R_503()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_501()) { jj_scanpos = xsp; break; }
+      if (jj_3R_504()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_453() {
-    if (jj_3R_152()) return true;
+  private boolean jj_3R_456() {
+    if (jj_3R_155()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_593()) { jj_scanpos = xsp; break; }
+      if (jj_3R_596()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_87() {
-    if (jj_3R_180()) return true;
+  private boolean jj_3_89() {
+    if (jj_3R_183()) return true;
     return false;
   }
 
-  private boolean jj_3R_302() {
+  private boolean jj_3R_305() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_211()) return true;
+    if (jj_3R_214()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_86() {
-    if (jj_3R_179()) return true;
+  private boolean jj_3_88() {
+    if (jj_3R_182()) return true;
     return false;
   }
 
-  private boolean jj_3R_301() {
-    if (jj_3R_152()) return true;
+  private boolean jj_3R_304() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_179() {
+  private boolean jj_3R_182() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_88()) {
+    if (jj_3_90()) {
     jj_scanpos = xsp;
-    if (jj_3R_368()) {
+    if (jj_3R_371()) {
     jj_scanpos = xsp;
-    if (jj_3R_369()) return true;
+    if (jj_3R_372()) return true;
     }
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_137() {
+  private boolean jj_3R_140() {
     if (jj_scan_token(FIND)) return true;
     if (jj_scan_token(REFERENCES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_301()) {
+    if (jj_3R_304()) {
     jj_scanpos = xsp;
-    if (jj_3R_302()) return true;
+    if (jj_3R_305()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_303()) jj_scanpos = xsp;
+    if (jj_3R_306()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_367() {
-    if (jj_3R_180()) return true;
+  private boolean jj_3R_370() {
+    if (jj_3R_183()) return true;
     return false;
   }
 
-  private boolean jj_3R_366() {
-    if (jj_3R_179()) return true;
+  private boolean jj_3R_369() {
+    if (jj_3R_182()) return true;
     return false;
   }
 
-  private boolean jj_3R_252() {
+  private boolean jj_3R_255() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_453()) jj_scanpos = xsp;
+    if (jj_3R_456()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_251() {
-    if (jj_3R_152()) return true;
+  private boolean jj_3R_254() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_178() {
+  private boolean jj_3R_181() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_366()) {
+    if (jj_3R_369()) {
     jj_scanpos = xsp;
-    if (jj_3R_367()) return true;
+    if (jj_3R_370()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_177() {
+  private boolean jj_3R_180() {
     if (jj_scan_token(XOR)) return true;
     return false;
   }
 
-  private boolean jj_3R_176() {
+  private boolean jj_3R_179() {
     if (jj_scan_token(BIT_OR)) return true;
     return false;
   }
 
-  private boolean jj_3R_175() {
+  private boolean jj_3R_178() {
     if (jj_scan_token(BIT_AND)) return true;
     return false;
   }
 
-  private boolean jj_3R_174() {
+  private boolean jj_3R_177() {
     if (jj_scan_token(RUNSIGNEDSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_173() {
+  private boolean jj_3R_176() {
     if (jj_scan_token(RSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_86() {
+  private boolean jj_3R_87() {
     if (jj_scan_token(TRUNCATE)) return true;
     if (jj_scan_token(RECORD)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_251()) {
+    if (jj_3R_254()) {
     jj_scanpos = xsp;
-    if (jj_3R_252()) return true;
+    if (jj_3R_255()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_249() {
-    if (jj_3R_63()) return true;
+  private boolean jj_3R_252() {
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_172() {
+  private boolean jj_3R_175() {
     if (jj_scan_token(LSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_248() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_251() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_171() {
+  private boolean jj_3R_174() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_250() {
+  private boolean jj_3R_253() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_170() {
+  private boolean jj_3R_173() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_169() {
+  private boolean jj_3R_172() {
     if (jj_scan_token(REM)) return true;
     return false;
   }
 
-  private boolean jj_3R_85() {
+  private boolean jj_3R_86() {
     if (jj_scan_token(TRUNCATE)) return true;
     if (jj_scan_token(CLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_248()) {
+    if (jj_3R_251()) {
     jj_scanpos = xsp;
-    if (jj_3R_249()) return true;
+    if (jj_3R_252()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_250()) jj_scanpos = xsp;
+    if (jj_3R_253()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_168() {
+  private boolean jj_3R_171() {
     if (jj_scan_token(SLASH)) return true;
     return false;
   }
 
-  private boolean jj_3R_167() {
+  private boolean jj_3R_170() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3_85() {
+  private boolean jj_3_87() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_167()) {
-    jj_scanpos = xsp;
-    if (jj_3R_168()) {
-    jj_scanpos = xsp;
-    if (jj_3R_169()) {
-    jj_scanpos = xsp;
     if (jj_3R_170()) {
     jj_scanpos = xsp;
     if (jj_3R_171()) {
@@ -24261,7 +24585,13 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_176()) {
     jj_scanpos = xsp;
-    if (jj_3R_177()) return true;
+    if (jj_3R_177()) {
+    jj_scanpos = xsp;
+    if (jj_3R_178()) {
+    jj_scanpos = xsp;
+    if (jj_3R_179()) {
+    jj_scanpos = xsp;
+    if (jj_3R_180()) return true;
     }
     }
     }
@@ -24272,128 +24602,128 @@ Token token;
     }
     }
     }
-    if (jj_3R_178()) return true;
+    if (jj_3R_181()) return true;
     return false;
   }
 
-  private boolean jj_3R_247() {
+  private boolean jj_3R_250() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_246() {
+  private boolean jj_3R_249() {
     if (jj_scan_token(POLYMORPHIC)) return true;
     return false;
   }
 
-  private boolean jj_3R_84() {
+  private boolean jj_3R_85() {
     if (jj_scan_token(TRUNCATE)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_246()) jj_scanpos = xsp;
+    if (jj_3R_249()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_247()) jj_scanpos = xsp;
+    if (jj_3R_250()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_245() {
+  private boolean jj_3R_248() {
     if (jj_scan_token(OFF)) return true;
     return false;
   }
 
-  private boolean jj_3R_244() {
+  private boolean jj_3R_247() {
     if (jj_scan_token(ON)) return true;
     return false;
   }
 
-  private boolean jj_3R_166() {
-    if (jj_3R_178()) return true;
+  private boolean jj_3R_169() {
+    if (jj_3R_181()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_85()) { jj_scanpos = xsp; break; }
+      if (jj_3_87()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_84() {
-    if (jj_3R_166()) return true;
+  private boolean jj_3_86() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_83() {
+  private boolean jj_3R_84() {
     if (jj_scan_token(PROFILE)) return true;
     if (jj_scan_token(STORAGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_244()) {
+    if (jj_3R_247()) {
     jj_scanpos = xsp;
-    if (jj_3R_245()) return true;
+    if (jj_3R_248()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_83() {
-    if (jj_3R_152()) return true;
+  private boolean jj_3_85() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_535() {
-    if (jj_3R_208()) return true;
+  private boolean jj_3R_538() {
+    if (jj_3R_211()) return true;
     return false;
   }
 
-  private boolean jj_3R_534() {
-    if (jj_3R_166()) return true;
+  private boolean jj_3R_537() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_533() {
-    if (jj_3R_152()) return true;
+  private boolean jj_3R_536() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_532() {
+  private boolean jj_3R_535() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_531() {
+  private boolean jj_3R_534() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_569() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_572() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_530() {
+  private boolean jj_3R_533() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_423() {
-    if (jj_3R_415()) return true;
+  private boolean jj_3R_426() {
+    if (jj_3R_418()) return true;
     return false;
   }
 
-  private boolean jj_3R_364() {
+  private boolean jj_3R_367() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_530()) {
+    if (jj_3R_533()) {
     jj_scanpos = xsp;
-    if (jj_3R_531()) {
+    if (jj_3R_534()) {
     jj_scanpos = xsp;
-    if (jj_3R_532()) {
+    if (jj_3R_535()) {
     jj_scanpos = xsp;
-    if (jj_3R_533()) {
+    if (jj_3R_536()) {
     jj_scanpos = xsp;
-    if (jj_3R_534()) {
+    if (jj_3R_537()) {
     jj_scanpos = xsp;
-    if (jj_3R_535()) return true;
+    if (jj_3R_538()) return true;
     }
     }
     }
@@ -24402,157 +24732,157 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_422() {
+  private boolean jj_3R_425() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_569()) jj_scanpos = xsp;
+    if (jj_3R_572()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_365() {
+  private boolean jj_3R_368() {
     if (jj_scan_token(SC_OR)) return true;
-    if (jj_3R_364()) return true;
+    if (jj_3R_367()) return true;
     return false;
   }
 
-  private boolean jj_3R_206() {
+  private boolean jj_3R_209() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_422()) {
+    if (jj_3R_425()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(200)) return true;
+    if (jj_scan_token(202)) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_423()) jj_scanpos = xsp;
+    if (jj_3R_426()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_165() {
-    if (jj_3R_364()) return true;
+  private boolean jj_3R_168() {
+    if (jj_3R_367()) return true;
     Token xsp;
-    if (jj_3R_365()) return true;
+    if (jj_3R_368()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_365()) { jj_scanpos = xsp; break; }
+      if (jj_3R_368()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_82() {
-    if (jj_3R_166()) return true;
+  private boolean jj_3_84() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3_81() {
-    if (jj_3R_152()) return true;
+  private boolean jj_3_83() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_310() {
-    if (jj_3R_208()) return true;
+  private boolean jj_3R_313() {
+    if (jj_3R_211()) return true;
     return false;
   }
 
-  private boolean jj_3R_568() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_571() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_309() {
-    if (jj_3R_166()) return true;
+  private boolean jj_3R_312() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_421() {
-    if (jj_3R_415()) return true;
+  private boolean jj_3R_424() {
+    if (jj_3R_418()) return true;
     return false;
   }
 
-  private boolean jj_3_80() {
-    if (jj_3R_165()) return true;
+  private boolean jj_3_82() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_308() {
-    if (jj_3R_152()) return true;
+  private boolean jj_3R_311() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_307() {
+  private boolean jj_3R_310() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_420() {
+  private boolean jj_3R_423() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_568()) jj_scanpos = xsp;
+    if (jj_3R_571()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_306() {
+  private boolean jj_3R_309() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3_79() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3_81() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_305() {
+  private boolean jj_3R_308() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_304() {
-    if (jj_3R_165()) return true;
+  private boolean jj_3R_307() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_205() {
+  private boolean jj_3R_208() {
     if (jj_scan_token(LT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_420()) {
+    if (jj_3R_423()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(200)) return true;
+    if (jj_scan_token(202)) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_421()) jj_scanpos = xsp;
+    if (jj_3R_424()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_77() {
-    if (jj_3R_162()) return true;
+  private boolean jj_3_79() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3_78() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3_80() {
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_138() {
+  private boolean jj_3R_141() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_304()) {
-    jj_scanpos = xsp;
-    if (jj_3R_305()) {
-    jj_scanpos = xsp;
-    if (jj_3R_306()) {
-    jj_scanpos = xsp;
     if (jj_3R_307()) {
     jj_scanpos = xsp;
     if (jj_3R_308()) {
     jj_scanpos = xsp;
     if (jj_3R_309()) {
     jj_scanpos = xsp;
-    if (jj_3R_310()) return true;
+    if (jj_3R_310()) {
+    jj_scanpos = xsp;
+    if (jj_3R_311()) {
+    jj_scanpos = xsp;
+    if (jj_3R_312()) {
+    jj_scanpos = xsp;
+    if (jj_3R_313()) return true;
     }
     }
     }
@@ -24562,82 +24892,129 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_76() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3_78() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3_75() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3_77() {
+    if (jj_3R_163()) return true;
     return false;
   }
 
-  private boolean jj_3R_363() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_366() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3_74() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3_76() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_362() {
+  private boolean jj_3R_365() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_158()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_529() {
-    if (jj_3R_162()) return true;
+  private boolean jj_3R_532() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_361() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3R_364() {
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_528() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_531() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_527() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_530() {
+    if (jj_3R_163()) return true;
     return false;
   }
 
-  private boolean jj_3R_567() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_570() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_419() {
-    if (jj_3R_415()) return true;
+  private boolean jj_3R_422() {
+    if (jj_3R_418()) return true;
     return false;
   }
 
-  private boolean jj_3R_526() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_529() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_418() {
+  private boolean jj_3R_421() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_567()) jj_scanpos = xsp;
+    if (jj_3R_570()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_148() {
+  private boolean jj_3R_363() {
+    if (jj_scan_token(LBRACKET)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_529()) {
+    jj_scanpos = xsp;
+    if (jj_3R_530()) {
+    jj_scanpos = xsp;
+    if (jj_3R_531()) {
+    jj_scanpos = xsp;
+    if (jj_3R_532()) return true;
+    }
+    }
+    }
+    if (jj_scan_token(RBRACKET)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_207() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_421()) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(202)) return true;
+    }
+    if (jj_scan_token(GT)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_422()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_517() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_141()) return true;
+    return false;
+  }
+
+  private boolean jj_3_75() {
+    if (jj_3R_161()) return true;
+    return false;
+  }
+
+  private boolean jj_3_74() {
+    if (jj_3R_160()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_151() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(239)) {
+    if (jj_scan_token(241)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(226)) {
+    if (jj_scan_token(228)) {
     jj_scanpos = xsp;
     if (jj_scan_token(28)) {
     jj_scanpos = xsp;
@@ -24653,7 +25030,7 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(39)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(236)) {
+    if (jj_scan_token(238)) {
     jj_scanpos = xsp;
     if (jj_scan_token(45)) {
     jj_scanpos = xsp;
@@ -24799,17 +25176,17 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(134)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(59)) {
-    jj_scanpos = xsp;
     if (jj_scan_token(135)) {
     jj_scanpos = xsp;
     if (jj_scan_token(136)) {
     jj_scanpos = xsp;
+    if (jj_scan_token(59)) {
+    jj_scanpos = xsp;
     if (jj_scan_token(137)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(139)) {
+    if (jj_scan_token(138)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(140)) {
+    if (jj_scan_token(139)) {
     jj_scanpos = xsp;
     if (jj_scan_token(141)) {
     jj_scanpos = xsp;
@@ -24817,9 +25194,13 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(143)) {
     jj_scanpos = xsp;
+    if (jj_scan_token(144)) {
+    jj_scanpos = xsp;
     if (jj_scan_token(145)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(240)) return true;
+    if (jj_scan_token(147)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(242)) return true;
     }
     }
     }
@@ -24912,497 +25293,452 @@ Token token;
     }
     }
     }
-    return false;
-  }
-
-  private boolean jj_3R_360() {
-    if (jj_scan_token(LBRACKET)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_526()) {
-    jj_scanpos = xsp;
-    if (jj_3R_527()) {
-    jj_scanpos = xsp;
-    if (jj_3R_528()) {
-    jj_scanpos = xsp;
-    if (jj_3R_529()) return true;
-    }
     }
     }
-    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_204() {
+  private boolean jj_3R_167() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_418()) {
+    if (jj_3R_363()) {
+    jj_scanpos = xsp;
+    if (jj_3R_364()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(200)) return true;
+    if (jj_3R_365()) return true;
+    }
     }
-    if (jj_scan_token(GT)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_419()) jj_scanpos = xsp;
+    if (jj_3R_366()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_514() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_646() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3_73() {
-    if (jj_3R_158()) return true;
+  private boolean jj_3R_645() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3_72() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_569() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_557() {
+  private boolean jj_3R_560() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(168)) {
+    if (jj_scan_token(170)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(149)) return true;
+    if (jj_scan_token(151)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_164() {
+  private boolean jj_3_73() {
+    if (jj_3R_159()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_539() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_360()) {
-    jj_scanpos = xsp;
-    if (jj_3R_361()) {
+    if (jj_3R_645()) {
     jj_scanpos = xsp;
-    if (jj_3R_362()) return true;
-    }
+    if (jj_3R_646()) return true;
     }
-    xsp = jj_scanpos;
-    if (jj_3R_363()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_643() {
-    if (jj_3R_158()) return true;
+  private boolean jj_3_72() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
   private boolean jj_3_3() {
-    if (jj_3R_64()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_642() {
-    if (jj_3R_157()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_566() {
-    if (jj_3R_148()) return true;
-    return false;
-  }
-
-  private boolean jj_3_71() {
-    if (jj_3R_156()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_536() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_642()) {
-    jj_scanpos = xsp;
-    if (jj_3R_643()) return true;
-    }
-    return false;
-  }
-
-  private boolean jj_3_70() {
-    if (jj_3R_148()) return true;
+    if (jj_3R_65()) return true;
     return false;
   }
 
-  private boolean jj_3R_416() {
+  private boolean jj_3R_419() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_566()) jj_scanpos = xsp;
+    if (jj_3R_569()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_349() {
+  private boolean jj_3R_352() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_348() {
-    if (jj_3R_156()) return true;
+  private boolean jj_3R_351() {
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_203() {
+  private boolean jj_3R_206() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_416()) {
+    if (jj_3R_419()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(200)) return true;
+    if (jj_scan_token(202)) return true;
     }
-    if (jj_3R_415()) return true;
+    if (jj_3R_418()) return true;
     return false;
   }
 
-  private boolean jj_3_69() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3_71() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_347() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_350() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3_68() {
-    if (jj_3R_154()) return true;
+  private boolean jj_3_70() {
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3R_158() {
+  private boolean jj_3R_161() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_347()) {
+    if (jj_3R_350()) {
     jj_scanpos = xsp;
-    if (jj_3R_348()) {
+    if (jj_3R_351()) {
     jj_scanpos = xsp;
-    if (jj_3R_349()) return true;
+    if (jj_3R_352()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_346() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3R_349() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_345() {
+  private boolean jj_3R_348() {
     if (jj_scan_token(THIS)) return true;
     return false;
   }
 
-  private boolean jj_3R_344() {
-    if (jj_3R_154()) return true;
+  private boolean jj_3R_347() {
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3R_917() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_923() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_525() {
+  private boolean jj_3R_528() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_157() {
+  private boolean jj_3R_160() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_344()) {
+    if (jj_3R_347()) {
     jj_scanpos = xsp;
-    if (jj_3R_345()) {
+    if (jj_3R_348()) {
     jj_scanpos = xsp;
-    if (jj_3R_346()) return true;
+    if (jj_3R_349()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_359() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_362() {
+    if (jj_3R_141()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_525()) { jj_scanpos = xsp; break; }
+      if (jj_3R_528()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_915() {
+  private boolean jj_3R_921() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_917()) jj_scanpos = xsp;
+    if (jj_3R_923()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_337() {
-    if (jj_scan_token(LBRACE)) return true;
+  private boolean jj_3R_917() {
+    if (jj_scan_token(LT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(148)) {
+    if (jj_3R_921()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(149)) return true;
+    if (jj_scan_token(202)) return true;
     }
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_138()) return true;
-    if (jj_scan_token(RBRACE)) return true;
-    return false;
-  }
-
-  private boolean jj_3_2() {
-    if (jj_3R_63()) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_63()) return true;
+    if (jj_3R_418()) return true;
     return false;
   }
 
-  private boolean jj_3R_911() {
-    if (jj_scan_token(LT)) return true;
+  private boolean jj_3R_340() {
+    if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_915()) {
+    if (jj_scan_token(150)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(200)) return true;
+    if (jj_scan_token(151)) return true;
     }
-    if (jj_3R_415()) return true;
-    return false;
-  }
-
-  private boolean jj_3_1() {
-    if (jj_scan_token(250)) return true;
-    if (jj_3R_63()) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_63()) return true;
+    if (jj_3R_141()) return true;
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_163() {
+  private boolean jj_3R_166() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_359()) jj_scanpos = xsp;
+    if (jj_3R_362()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_342() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_345() {
+    if (jj_3R_141()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_514()) { jj_scanpos = xsp; break; }
+      if (jj_3R_517()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_152() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_1()) {
-    jj_scanpos = xsp;
-    if (jj_3_2()) {
-    jj_scanpos = xsp;
-    if (jj_3R_337()) return true;
-    }
-    }
+  private boolean jj_3_2() {
+    if (jj_3R_64()) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_341() {
+  private boolean jj_3_1() {
+    if (jj_scan_token(252)) return true;
+    if (jj_3R_64()) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_64()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_344() {
     if (jj_scan_token(DISTINCT)) return true;
     return false;
   }
 
-  private boolean jj_3R_340() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_343() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_564() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_567() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_154() {
+  private boolean jj_3R_155() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_1()) {
+    jj_scanpos = xsp;
+    if (jj_3_2()) {
+    jj_scanpos = xsp;
+    if (jj_3R_340()) return true;
+    }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_157() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_340()) {
+    if (jj_3R_343()) {
     jj_scanpos = xsp;
-    if (jj_3R_341()) return true;
+    if (jj_3R_344()) return true;
     }
     if (jj_scan_token(LPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_342()) jj_scanpos = xsp;
+    if (jj_3R_345()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_414() {
+  private boolean jj_3R_417() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_564()) jj_scanpos = xsp;
+    if (jj_3R_567()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_202() {
+  private boolean jj_3R_205() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_414()) {
+    if (jj_3R_417()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(200)) return true;
+    if (jj_scan_token(202)) return true;
     }
     if (jj_scan_token(GT)) return true;
-    if (jj_3R_415()) return true;
+    if (jj_3R_418()) return true;
     return false;
   }
 
-  private boolean jj_3R_845() {
+  private boolean jj_3R_850() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_156() {
+  private boolean jj_3R_159() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_844() {
+  private boolean jj_3R_849() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_511() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_514() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_519() {
+  private boolean jj_3R_522() {
     if (jj_scan_token(ELLIPSIS)) return true;
     return false;
   }
 
-  private boolean jj_3R_518() {
+  private boolean jj_3R_521() {
     if (jj_scan_token(RANGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_734() {
+  private boolean jj_3R_737() {
     if (jj_scan_token(OPTIONAL)) return true;
     if (jj_scan_token(COLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_844()) {
+    if (jj_3R_849()) {
     jj_scanpos = xsp;
-    if (jj_3R_845()) return true;
+    if (jj_3R_850()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_733() {
+  private boolean jj_3R_736() {
     if (jj_scan_token(MAXDEPTH)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_63()) return true;
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_354() {
-    if (jj_3R_517()) return true;
+  private boolean jj_3R_357() {
+    if (jj_3R_520()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(202)) {
+    if (jj_scan_token(204)) {
     jj_scanpos = xsp;
-    if (jj_3R_518()) {
+    if (jj_3R_521()) {
     jj_scanpos = xsp;
-    if (jj_3R_519()) return true;
+    if (jj_3R_522()) return true;
     }
     }
-    if (jj_3R_517()) return true;
+    if (jj_3R_520()) return true;
     return false;
   }
 
-  private boolean jj_3R_732() {
+  private boolean jj_3R_735() {
     if (jj_scan_token(WHILE)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_438()) return true;
+    if (jj_3R_441()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_731() {
+  private boolean jj_3R_734() {
     if (jj_scan_token(WHERE)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_438()) return true;
+    if (jj_3R_441()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_353() {
+  private boolean jj_3R_356() {
     if (jj_scan_token(ELLIPSIS_INTEGER_RANGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_730() {
+  private boolean jj_3R_733() {
     if (jj_scan_token(AS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_729() {
+  private boolean jj_3R_732() {
     if (jj_scan_token(CLASSES)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_728() {
+  private boolean jj_3R_731() {
     if (jj_scan_token(CLASS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_663() {
+  private boolean jj_3R_666() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_662()) return true;
+    if (jj_3R_665()) return true;
     return false;
   }
 
-  private boolean jj_3R_352() {
+  private boolean jj_3R_355() {
     if (jj_scan_token(INTEGER_RANGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_662() {
+  private boolean jj_3R_665() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_728()) {
-    jj_scanpos = xsp;
-    if (jj_3R_729()) {
-    jj_scanpos = xsp;
-    if (jj_3R_730()) {
-    jj_scanpos = xsp;
     if (jj_3R_731()) {
     jj_scanpos = xsp;
     if (jj_3R_732()) {
     jj_scanpos = xsp;
     if (jj_3R_733()) {
     jj_scanpos = xsp;
-    if (jj_3R_734()) return true;
+    if (jj_3R_734()) {
+    jj_scanpos = xsp;
+    if (jj_3R_735()) {
+    jj_scanpos = xsp;
+    if (jj_3R_736()) {
+    jj_scanpos = xsp;
+    if (jj_3R_737()) return true;
     }
     }
     }
@@ -25412,368 +25748,368 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_565() {
-    if (jj_3R_662()) return true;
+  private boolean jj_3R_568() {
+    if (jj_3R_665()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_663()) { jj_scanpos = xsp; break; }
+      if (jj_3R_666()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_160() {
+  private boolean jj_3R_163() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_352()) {
+    if (jj_3R_355()) {
     jj_scanpos = xsp;
-    if (jj_3R_353()) {
+    if (jj_3R_356()) {
     jj_scanpos = xsp;
-    if (jj_3R_354()) return true;
+    if (jj_3R_357()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_358() {
+  private boolean jj_3R_361() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_357()) return true;
+    if (jj_3R_360()) return true;
     return false;
   }
 
-  private boolean jj_3_137() {
-    if (jj_3R_206()) return true;
+  private boolean jj_3_139() {
+    if (jj_3R_209()) return true;
     return false;
   }
 
-  private boolean jj_3R_162() {
-    if (jj_3R_357()) return true;
+  private boolean jj_3R_165() {
+    if (jj_3R_360()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_358()) { jj_scanpos = xsp; break; }
+      if (jj_3R_361()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_67() {
-    if (jj_3R_63()) return true;
+  private boolean jj_3_69() {
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3_136() {
-    if (jj_3R_205()) return true;
+  private boolean jj_3_138() {
+    if (jj_3R_208()) return true;
     return false;
   }
 
-  private boolean jj_3_66() {
-    if (jj_3R_153()) return true;
+  private boolean jj_3_68() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_415() {
+  private boolean jj_3R_418() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_565()) jj_scanpos = xsp;
+    if (jj_3R_568()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3_135() {
-    if (jj_3R_204()) return true;
+  private boolean jj_3_137() {
+    if (jj_3R_207()) return true;
     return false;
   }
 
-  private boolean jj_3R_912() {
-    if (jj_3R_415()) return true;
+  private boolean jj_3R_918() {
+    if (jj_3R_418()) return true;
     return false;
   }
 
-  private boolean jj_3R_563() {
-    if (jj_3R_206()) return true;
+  private boolean jj_3R_566() {
+    if (jj_3R_209()) return true;
     return false;
   }
 
-  private boolean jj_3R_632() {
+  private boolean jj_3R_635() {
     if (jj_scan_token(INTEGER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_562() {
-    if (jj_3R_205()) return true;
+  private boolean jj_3R_565() {
+    if (jj_3R_208()) return true;
     return false;
   }
 
-  private boolean jj_3_65() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3_67() {
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_631() {
-    if (jj_3R_153()) return true;
+  private boolean jj_3R_634() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_561() {
-    if (jj_3R_204()) return true;
+  private boolean jj_3R_564() {
+    if (jj_3R_207()) return true;
     return false;
   }
 
-  private boolean jj_3_64() {
-    if (jj_3R_153()) return true;
+  private boolean jj_3_66() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_517() {
+  private boolean jj_3R_520() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_631()) {
+    if (jj_3R_634()) {
     jj_scanpos = xsp;
-    if (jj_3R_632()) return true;
+    if (jj_3R_635()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_63() {
-    if (jj_3R_152()) return true;
+  private boolean jj_3_65() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_412() {
+  private boolean jj_3R_415() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_561()) {
+    if (jj_3R_564()) {
     jj_scanpos = xsp;
-    if (jj_3R_562()) {
+    if (jj_3R_565()) {
     jj_scanpos = xsp;
-    if (jj_3R_563()) return true;
+    if (jj_3R_566()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_524() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_527() {
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_523() {
-    if (jj_3R_153()) return true;
+  private boolean jj_3R_526() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3_134() {
-    if (jj_3R_199()) return true;
+  private boolean jj_3_136() {
+    if (jj_3R_202()) return true;
     return false;
   }
 
-  private boolean jj_3R_522() {
-    if (jj_3R_152()) return true;
+  private boolean jj_3R_525() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_200() {
+  private boolean jj_3R_203() {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
-    if (jj_3R_412()) return true;
+    if (jj_3R_415()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_412()) { jj_scanpos = xsp; break; }
+      if (jj_3R_415()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_912()) jj_scanpos = xsp;
+    if (jj_3R_918()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_357() {
+  private boolean jj_3R_360() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_522()) {
+    if (jj_3R_525()) {
     jj_scanpos = xsp;
-    if (jj_3R_523()) {
+    if (jj_3R_526()) {
     jj_scanpos = xsp;
-    if (jj_3R_524()) return true;
+    if (jj_3R_527()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_914() {
-    if (jj_3R_415()) return true;
+  private boolean jj_3R_920() {
+    if (jj_3R_418()) return true;
     return false;
   }
 
-  private boolean jj_3R_913() {
-    if (jj_3R_199()) return true;
+  private boolean jj_3R_919() {
+    if (jj_3R_202()) return true;
     return false;
   }
 
-  private boolean jj_3R_823() {
+  private boolean jj_3R_828() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_717() {
+  private boolean jj_3R_720() {
     if (jj_scan_token(AS)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_716() {
-    if (jj_3R_510()) return true;
+  private boolean jj_3R_719() {
+    if (jj_3R_513()) return true;
     return false;
   }
 
-  private boolean jj_3R_822() {
+  private boolean jj_3R_827() {
     if (jj_scan_token(BANG)) return true;
     return false;
   }
 
-  private boolean jj_3R_715() {
+  private boolean jj_3R_718() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_822()) jj_scanpos = xsp;
-    if (jj_3R_138()) return true;
+    if (jj_3R_827()) jj_scanpos = xsp;
+    if (jj_3R_141()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_823()) jj_scanpos = xsp;
+    if (jj_3R_828()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_667() {
+  private boolean jj_3R_670() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_154()) return true;
     return false;
   }
 
-  private boolean jj_3R_714() {
+  private boolean jj_3R_717() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_201() {
+  private boolean jj_3R_204() {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_413()) return true;
+    if (jj_3R_416()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_913()) { jj_scanpos = xsp; break; }
+      if (jj_3R_919()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_914()) jj_scanpos = xsp;
+    if (jj_3R_920()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_916() {
-    if (jj_3R_415()) return true;
+  private boolean jj_3R_922() {
+    if (jj_3R_418()) return true;
     return false;
   }
 
-  private boolean jj_3R_625() {
+  private boolean jj_3R_628() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_714()) {
+    if (jj_3R_717()) {
     jj_scanpos = xsp;
-    if (jj_3R_715()) return true;
+    if (jj_3R_718()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_716()) jj_scanpos = xsp;
+    if (jj_3R_719()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_717()) jj_scanpos = xsp;
+    if (jj_3R_720()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_666() {
+  private boolean jj_3R_669() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_154()) return true;
     return false;
   }
 
-  private boolean jj_3_133() {
-    if (jj_3R_203()) return true;
+  private boolean jj_3_135() {
+    if (jj_3R_206()) return true;
     return false;
   }
 
-  private boolean jj_3R_413() {
-    if (jj_3R_154()) return true;
+  private boolean jj_3R_416() {
+    if (jj_3R_157()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_916()) jj_scanpos = xsp;
+    if (jj_3R_922()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_417() {
-    if (jj_3R_415()) return true;
+  private boolean jj_3R_420() {
+    if (jj_3R_418()) return true;
     return false;
   }
 
-  private boolean jj_3_132() {
-    if (jj_3R_202()) return true;
+  private boolean jj_3_134() {
+    if (jj_3R_205()) return true;
     return false;
   }
 
-  private boolean jj_3R_904() {
-    if (jj_3R_203()) return true;
+  private boolean jj_3R_910() {
+    if (jj_3R_206()) return true;
     return false;
   }
 
-  private boolean jj_3R_199() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3R_202() {
+    if (jj_3R_166()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_417()) jj_scanpos = xsp;
+    if (jj_3R_420()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_903() {
-    if (jj_3R_911()) return true;
+  private boolean jj_3R_909() {
+    if (jj_3R_917()) return true;
     return false;
   }
 
-  private boolean jj_3R_626() {
+  private boolean jj_3R_629() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_625()) return true;
+    if (jj_3R_628()) return true;
     return false;
   }
 
-  private boolean jj_3R_902() {
-    if (jj_3R_202()) return true;
+  private boolean jj_3R_908() {
+    if (jj_3R_205()) return true;
     return false;
   }
 
-  private boolean jj_3_131() {
-    if (jj_3R_201()) return true;
+  private boolean jj_3_133() {
+    if (jj_3R_204()) return true;
     return false;
   }
 
-  private boolean jj_3_130() {
-    if (jj_3R_200()) return true;
+  private boolean jj_3_132() {
+    if (jj_3R_203()) return true;
     return false;
   }
 
-  private boolean jj_3_129() {
-    if (jj_3R_199()) return true;
+  private boolean jj_3_131() {
+    if (jj_3R_202()) return true;
     return false;
   }
 
-  private boolean jj_3R_885() {
+  private boolean jj_3R_890() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_129()) {
+    if (jj_3_131()) {
     jj_scanpos = xsp;
-    if (jj_3_130()) {
+    if (jj_3_132()) {
     jj_scanpos = xsp;
-    if (jj_3_131()) {
+    if (jj_3_133()) {
     jj_scanpos = xsp;
-    if (jj_3R_902()) {
+    if (jj_3R_908()) {
     jj_scanpos = xsp;
-    if (jj_3R_903()) {
+    if (jj_3R_909()) {
     jj_scanpos = xsp;
-    if (jj_3R_904()) return true;
+    if (jj_3R_910()) return true;
     }
     }
     }
@@ -25782,1889 +26118,1935 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_510() {
+  private boolean jj_3R_513() {
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LBRACE)) return true;
-    if (jj_3R_625()) return true;
+    if (jj_3R_628()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_626()) { jj_scanpos = xsp; break; }
+      if (jj_3R_629()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_336() {
+  private boolean jj_3R_339() {
     if (jj_scan_token(AS)) return true;
-    if (jj_3R_511()) return true;
+    if (jj_3R_514()) return true;
     return false;
   }
 
-  private boolean jj_3R_335() {
-    if (jj_3R_510()) return true;
+  private boolean jj_3R_338() {
+    if (jj_3R_513()) return true;
     return false;
   }
 
-  private boolean jj_3R_875() {
+  private boolean jj_3R_880() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_821() {
+  private boolean jj_3R_826() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_645() {
-    if (jj_3R_415()) return true;
+  private boolean jj_3R_648() {
+    if (jj_3R_418()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_885()) { jj_scanpos = xsp; break; }
+      if (jj_3R_890()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_820() {
-    if (jj_3R_557()) return true;
+  private boolean jj_3R_825() {
+    if (jj_3R_560()) return true;
     return false;
   }
 
-  private boolean jj_3R_819() {
+  private boolean jj_3R_824() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_151() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_154() {
+    if (jj_3R_141()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_335()) jj_scanpos = xsp;
+    if (jj_3R_338()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_336()) jj_scanpos = xsp;
+    if (jj_3R_339()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_818() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_823() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3_62() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3_64() {
+    if (jj_3R_154()) return true;
     return false;
   }
 
-  private boolean jj_3R_573() {
+  private boolean jj_3R_576() {
     if (jj_scan_token(DISTINCT)) return true;
-    if (jj_3R_151()) return true;
+    if (jj_3R_154()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_667()) { jj_scanpos = xsp; break; }
+      if (jj_3R_670()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_711() {
+  private boolean jj_3R_714() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_818()) {
+    if (jj_3R_823()) {
     jj_scanpos = xsp;
-    if (jj_3R_819()) {
+    if (jj_3R_824()) {
     jj_scanpos = xsp;
-    if (jj_3R_820()) {
+    if (jj_3R_825()) {
     jj_scanpos = xsp;
-    if (jj_3R_821()) return true;
+    if (jj_3R_826()) return true;
     }
     }
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_572() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_575() {
+    if (jj_3R_154()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_666()) { jj_scanpos = xsp; break; }
+      if (jj_3R_669()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_710() {
+  private boolean jj_3R_713() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_816() {
+  private boolean jj_3R_821() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_709() {
-    if (jj_3R_557()) return true;
+  private boolean jj_3R_712() {
+    if (jj_3R_560()) return true;
     return false;
   }
 
-  private boolean jj_3R_708() {
+  private boolean jj_3R_711() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_428() {
+  private boolean jj_3R_431() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_572()) {
+    if (jj_3R_575()) {
     jj_scanpos = xsp;
-    if (jj_3R_573()) return true;
+    if (jj_3R_576()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_707() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_710() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_630() {
+  private boolean jj_3R_633() {
     if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_628() {
+  private boolean jj_3R_631() {
     if (jj_scan_token(SKIP2)) return true;
     return false;
   }
 
-  private boolean jj_3R_620() {
+  private boolean jj_3R_623() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_707()) {
+    if (jj_3R_710()) {
     jj_scanpos = xsp;
-    if (jj_3R_708()) {
+    if (jj_3R_711()) {
     jj_scanpos = xsp;
-    if (jj_3R_709()) {
+    if (jj_3R_712()) {
     jj_scanpos = xsp;
-    if (jj_3R_710()) return true;
+    if (jj_3R_713()) return true;
     }
     }
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_711()) { jj_scanpos = xsp; break; }
+      if (jj_3R_714()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_629() {
+  private boolean jj_3R_632() {
     if (jj_scan_token(LIMIT)) return true;
     return false;
   }
 
-  private boolean jj_3R_627() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_630() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3_128() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3_130() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_208() {
+  private boolean jj_3R_211() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_620()) jj_scanpos = xsp;
+    if (jj_3R_623()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_901() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_907() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_513() {
+  private boolean jj_3R_516() {
     if (jj_scan_token(COLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_627()) {
+    if (jj_3R_630()) {
     jj_scanpos = xsp;
-    if (jj_3R_628()) {
+    if (jj_3R_631()) {
     jj_scanpos = xsp;
-    if (jj_3R_629()) {
+    if (jj_3R_632()) {
     jj_scanpos = xsp;
-    if (jj_3R_630()) return true;
+    if (jj_3R_633()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_429() {
+  private boolean jj_3R_432() {
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_725() {
-    if (jj_3R_536()) return true;
+  private boolean jj_3R_728() {
+    if (jj_3R_539()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_901()) jj_scanpos = xsp;
+    if (jj_3R_907()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_512() {
+  private boolean jj_3R_515() {
     if (jj_scan_token(HOOK)) return true;
     return false;
   }
 
-  private boolean jj_3R_339() {
-    if (jj_3R_513()) return true;
+  private boolean jj_3R_342() {
+    if (jj_3R_516()) return true;
     return false;
   }
 
-  private boolean jj_3R_817() {
+  private boolean jj_3R_822() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_875()) jj_scanpos = xsp;
+    if (jj_3R_880()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_338() {
-    if (jj_3R_512()) return true;
+  private boolean jj_3R_341() {
+    if (jj_3R_515()) return true;
     return false;
   }
 
-  private boolean jj_3R_874() {
+  private boolean jj_3R_879() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_153() {
+  private boolean jj_3R_156() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_338()) {
+    if (jj_3R_341()) {
     jj_scanpos = xsp;
-    if (jj_3R_339()) return true;
+    if (jj_3R_342()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_873() {
-    if (jj_3R_63()) return true;
+  private boolean jj_3R_878() {
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_228() {
-    if (jj_3R_432()) return true;
+  private boolean jj_3R_231() {
+    if (jj_3R_435()) return true;
     return false;
   }
 
-  private boolean jj_3R_815() {
+  private boolean jj_3R_820() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_873()) {
+    if (jj_3R_878()) {
     jj_scanpos = xsp;
-    if (jj_3R_874()) return true;
+    if (jj_3R_879()) return true;
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_227() {
-    if (jj_3R_431()) return true;
+  private boolean jj_3R_230() {
+    if (jj_3R_434()) return true;
     return false;
   }
 
-  private boolean jj_3R_226() {
-    if (jj_3R_430()) return true;
+  private boolean jj_3R_229() {
+    if (jj_3R_433()) return true;
     return false;
   }
 
-  private boolean jj_3R_225() {
-    if (jj_3R_145()) return true;
+  private boolean jj_3R_228() {
+    if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_706() {
+  private boolean jj_3R_709() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_815()) jj_scanpos = xsp;
-    if (jj_3R_148()) return true;
+    if (jj_3R_820()) jj_scanpos = xsp;
+    if (jj_3R_151()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_816()) jj_scanpos = xsp;
+    if (jj_3R_821()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_817()) { jj_scanpos = xsp; break; }
+      if (jj_3R_822()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_705() {
+  private boolean jj_3R_708() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_224() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_227() {
+    if (jj_3R_151()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_429()) jj_scanpos = xsp;
+    if (jj_3R_432()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_616() {
+  private boolean jj_3R_619() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_705()) {
+    if (jj_3R_708()) {
     jj_scanpos = xsp;
-    if (jj_3R_706()) return true;
+    if (jj_3R_709()) return true;
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_63()) return true;
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_80() {
+  private boolean jj_3R_81() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_224()) jj_scanpos = xsp;
+    if (jj_3R_227()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_225()) jj_scanpos = xsp;
+    if (jj_3R_228()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_226()) jj_scanpos = xsp;
+    if (jj_3R_229()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_227()) jj_scanpos = xsp;
+    if (jj_3R_230()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_228()) jj_scanpos = xsp;
+    if (jj_3R_231()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_617() {
-    if (jj_3R_616()) return true;
+  private boolean jj_3R_620() {
+    if (jj_3R_619()) return true;
     return false;
   }
 
-  private boolean jj_3R_769() {
-    if (jj_3R_432()) return true;
+  private boolean jj_3R_772() {
+    if (jj_3R_435()) return true;
     return false;
   }
 
-  private boolean jj_3R_768() {
-    if (jj_3R_434()) return true;
+  private boolean jj_3R_771() {
+    if (jj_3R_437()) return true;
     return false;
   }
 
-  private boolean jj_3R_767() {
+  private boolean jj_3R_770() {
     if (jj_scan_token(CLASS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_494() {
+  private boolean jj_3R_497() {
     if (jj_scan_token(FETCHPLAN)) return true;
-    if (jj_3R_616()) return true;
+    if (jj_3R_619()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_617()) { jj_scanpos = xsp; break; }
+      if (jj_3R_620()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_766() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_769() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_515() {
+  private boolean jj_3R_518() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_343() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_346() {
+    if (jj_3R_141()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_515()) { jj_scanpos = xsp; break; }
+      if (jj_3R_518()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_61() {
-    if (jj_3R_145()) return true;
+  private boolean jj_3_63() {
+    if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_277() {
+  private boolean jj_3R_280() {
     if (jj_scan_token(MOVE)) return true;
     if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_433()) return true;
+    if (jj_3R_436()) return true;
     if (jj_scan_token(TO)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_766()) {
+    if (jj_3R_769()) {
     jj_scanpos = xsp;
-    if (jj_3R_767()) return true;
+    if (jj_3R_770()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_768()) jj_scanpos = xsp;
+    if (jj_3R_771()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_769()) jj_scanpos = xsp;
+    if (jj_3R_772()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_60() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3_62() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_155() {
+  private boolean jj_3R_158() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_343()) jj_scanpos = xsp;
+    if (jj_3R_346()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_427() {
+  private boolean jj_3R_430() {
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3_59() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3_61() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_222() {
-    if (jj_3R_145()) return true;
+  private boolean jj_3R_225() {
+    if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_221() {
+  private boolean jj_3R_224() {
     if (jj_scan_token(RETURN)) return true;
-    if (jj_3R_428()) return true;
+    if (jj_3R_431()) return true;
     return false;
   }
 
-  private boolean jj_3R_76() {
+  private boolean jj_3R_77() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_145()) return true;
+    if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_220() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_223() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_219() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3_151() {
+    if (jj_3R_65()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_222() {
+    if (jj_3R_151()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_427()) jj_scanpos = xsp;
+    if (jj_3R_430()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_430() {
+  private boolean jj_3R_433() {
     if (jj_scan_token(RETRY)) return true;
-    if (jj_3R_63()) return true;
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_690() {
+  private boolean jj_3R_693() {
     if (jj_scan_token(EXCEPTION)) return true;
     return false;
   }
 
-  private boolean jj_3R_689() {
+  private boolean jj_3R_692() {
     if (jj_scan_token(RETURN)) return true;
     return false;
   }
 
-  private boolean jj_3R_592() {
+  private boolean jj_3R_595() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_689()) {
+    if (jj_3R_692()) {
     jj_scanpos = xsp;
-    if (jj_3R_690()) return true;
+    if (jj_3R_693()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_431() {
+  private boolean jj_3R_434() {
     if (jj_scan_token(WAIT)) return true;
-    if (jj_3R_63()) return true;
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_77() {
+  private boolean jj_3R_78() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(VERTEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_219()) {
+    if (jj_3R_222()) {
     jj_scanpos = xsp;
-    if (jj_3R_220()) return true;
+    if (jj_3R_223()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_221()) jj_scanpos = xsp;
+    if (jj_3R_224()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_222()) jj_scanpos = xsp;
+    if (jj_3R_225()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_223() {
+  private boolean jj_3R_486() {
+    if (jj_scan_token(264)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_226() {
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3_148() {
-    if (jj_3R_64()) return true;
+  private boolean jj_3R_485() {
+    if (jj_scan_token(263)) return true;
     return false;
   }
 
-  private boolean jj_3R_78() {
+  private boolean jj_3R_278() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_485()) {
+    jj_scanpos = xsp;
+    if (jj_3R_486()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_79() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_223()) jj_scanpos = xsp;
+    if (jj_3R_226()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_444() {
+  private boolean jj_3R_447() {
     if (jj_scan_token(TIMEOUT)) return true;
-    if (jj_3R_63()) return true;
+    if (jj_3R_64()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_592()) jj_scanpos = xsp;
+    if (jj_3R_595()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_575() {
-    if (jj_3R_153()) return true;
+  private boolean jj_3R_578() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_79() {
+  private boolean jj_3R_80() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(VERTEX)) return true;
     return false;
   }
 
-  private boolean jj_3R_574() {
-    if (jj_3R_63()) return true;
+  private boolean jj_3R_577() {
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_331() {
+  private boolean jj_3R_103() {
+    if (jj_scan_token(HA)) return true;
+    if (jj_scan_token(SYNC)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_151()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_278()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_484() {
+    if (jj_scan_token(262)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_334() {
     if (jj_scan_token(CONTENT)) return true;
-    if (jj_3R_208()) return true;
+    if (jj_3R_211()) return true;
     return false;
   }
 
-  private boolean jj_3R_509() {
+  private boolean jj_3R_512() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_138()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_814() {
-    if (jj_3R_153()) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_813() {
-    if (jj_3R_63()) return true;
+  private boolean jj_3R_483() {
+    if (jj_scan_token(261)) return true;
     return false;
   }
 
-  private boolean jj_3R_432() {
-    if (jj_scan_token(BATCH)) return true;
+  private boolean jj_3R_277() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_574()) {
+    if (jj_3R_483()) {
     jj_scanpos = xsp;
-    if (jj_3R_575()) return true;
+    if (jj_3R_484()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_483() {
-    if (jj_scan_token(262)) return true;
+  private boolean jj_3R_819() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_812() {
-    if (jj_3R_153()) return true;
+  private boolean jj_3R_818() {
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_624() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_435() {
+    if (jj_scan_token(BATCH)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_577()) {
+    jj_scanpos = xsp;
+    if (jj_3R_578()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_811() {
-    if (jj_3R_63()) return true;
+  private boolean jj_3R_102() {
+    if (jj_scan_token(HA)) return true;
+    if (jj_scan_token(SYNC)) return true;
+    if (jj_scan_token(DATABASE)) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_277()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_482() {
-    if (jj_scan_token(261)) return true;
+  private boolean jj_3R_817() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_275() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_482()) {
-    jj_scanpos = xsp;
-    if (jj_3R_483()) return true;
-    }
+  private boolean jj_3R_627() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_704() {
+  private boolean jj_3R_816() {
+    if (jj_3R_64()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_707() {
     if (jj_scan_token(OFFSET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_813()) {
+    if (jj_3R_818()) {
     jj_scanpos = xsp;
-    if (jj_3R_814()) return true;
+    if (jj_3R_819()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_58() {
+  private boolean jj_3_60() {
     if (jj_scan_token(SET)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_509()) { jj_scanpos = xsp; break; }
+      if (jj_3R_512()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_872() {
+  private boolean jj_3R_877() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_703() {
+  private boolean jj_3R_100() {
+    if (jj_scan_token(HA)) return true;
+    if (jj_scan_token(REMOVE)) return true;
+    if (jj_scan_token(SERVER)) return true;
+    if (jj_3R_151()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_482() {
+    if (jj_scan_token(260)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_706() {
     if (jj_scan_token(SKIP2)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_811()) {
+    if (jj_3R_816()) {
     jj_scanpos = xsp;
-    if (jj_3R_812()) return true;
+    if (jj_3R_817()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_508() {
+  private boolean jj_3R_511() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_624()) { jj_scanpos = xsp; break; }
+      if (jj_3R_627()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_100() {
-    if (jj_scan_token(HA)) return true;
-    if (jj_scan_token(SYNC)) return true;
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_148()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_275()) jj_scanpos = xsp;
+  private boolean jj_3R_481() {
+    if (jj_scan_token(259)) return true;
     return false;
   }
 
-  private boolean jj_3R_481() {
-    if (jj_scan_token(260)) return true;
+  private boolean jj_3R_480() {
+    if (jj_scan_token(258)) return true;
     return false;
   }
 
-  private boolean jj_3R_613() {
+  private boolean jj_3R_616() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_703()) {
+    if (jj_3R_706()) {
     jj_scanpos = xsp;
-    if (jj_3R_704()) return true;
+    if (jj_3R_707()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_507() {
+  private boolean jj_3R_510() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_591() {
-    if (jj_3R_153()) return true;
+  private boolean jj_3R_594() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_480() {
-    if (jj_scan_token(259)) return true;
+  private boolean jj_3R_479() {
+    if (jj_scan_token(257)) return true;
     return false;
   }
 
-  private boolean jj_3R_274() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_480()) {
-    jj_scanpos = xsp;
-    if (jj_3R_481()) return true;
-    }
+  private boolean jj_3R_593() {
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_590() {
-    if (jj_3R_63()) return true;
+  private boolean jj_3R_478() {
+    if (jj_scan_token(256)) return true;
     return false;
   }
 
-  private boolean jj_3R_869() {
-    if (jj_scan_token(ASC)) return true;
+  private boolean jj_3R_477() {
+    if (jj_scan_token(255)) return true;
     return false;
   }
 
-  private boolean jj_3R_99() {
-    if (jj_scan_token(HA)) return true;
-    if (jj_scan_token(SYNC)) return true;
-    if (jj_scan_token(DATABASE)) return true;
+  private boolean jj_3R_276() {
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_274()) { jj_scanpos = xsp; break; }
+    xsp = jj_scanpos;
+    if (jj_3R_477()) {
+    jj_scanpos = xsp;
+    if (jj_3R_478()) {
+    jj_scanpos = xsp;
+    if (jj_3R_479()) {
+    jj_scanpos = xsp;
+    if (jj_3R_480()) {
+    jj_scanpos = xsp;
+    if (jj_3R_481()) {
+    jj_scanpos = xsp;
+    if (jj_3R_482()) return true;
+    }
+    }
+    }
+    }
     }
     return false;
   }
 
-  private boolean jj_3R_149() {
+  private boolean jj_3R_874() {
+    if (jj_scan_token(ASC)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_152() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_443() {
+  private boolean jj_3R_446() {
     if (jj_scan_token(LIMIT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_590()) {
+    if (jj_3R_593()) {
     jj_scanpos = xsp;
-    if (jj_3R_591()) return true;
+    if (jj_3R_594()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_612() {
+  private boolean jj_3R_615() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_97() {
+  private boolean jj_3R_101() {
     if (jj_scan_token(HA)) return true;
-    if (jj_scan_token(REMOVE)) return true;
-    if (jj_scan_token(SERVER)) return true;
-    if (jj_3R_148()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_479() {
-    if (jj_scan_token(258)) return true;
+    if (jj_scan_token(STATUS)) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_276()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_608() {
+  private boolean jj_3R_611() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_138()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_478() {
-    if (jj_scan_token(257)) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_477() {
-    if (jj_scan_token(256)) return true;
+  private boolean jj_3R_90() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(SEQUENCE)) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3_57() {
+  private boolean jj_3_59() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_149()) { jj_scanpos = xsp; break; }
+      if (jj_3R_152()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(VALUES)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_507()) { jj_scanpos = xsp; break; }
+      if (jj_3R_510()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_508()) { jj_scanpos = xsp; break; }
+      if (jj_3R_511()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_491() {
+  private boolean jj_3R_494() {
     if (jj_scan_token(UNWIND)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_612()) { jj_scanpos = xsp; break; }
+      if (jj_3R_615()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_870() {
-    if (jj_3R_164()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_476() {
-    if (jj_scan_token(255)) return true;
+  private boolean jj_3R_875() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_809() {
+  private boolean jj_3R_814() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_475() {
-    if (jj_scan_token(254)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_808() {
-    if (jj_3R_152()) return true;
+  private boolean jj_3R_775() {
+    if (jj_scan_token(CACHE)) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3_55() {
-    if (jj_3R_136()) return true;
+  private boolean jj_3R_813() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_871() {
-    if (jj_scan_token(DESC)) return true;
+  private boolean jj_3R_774() {
+    if (jj_scan_token(INCREMENT)) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_810() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_871()) {
-    jj_scanpos = xsp;
-    if (jj_3R_872()) return true;
-    }
+  private boolean jj_3_57() {
+    if (jj_3R_139()) return true;
     return false;
   }
 
-  private boolean jj_3R_474() {
-    if (jj_scan_token(253)) return true;
+  private boolean jj_3R_876() {
+    if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_273() {
+  private boolean jj_3R_815() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_474()) {
-    jj_scanpos = xsp;
-    if (jj_3R_475()) {
-    jj_scanpos = xsp;
-    if (jj_3R_476()) {
-    jj_scanpos = xsp;
-    if (jj_3R_477()) {
-    jj_scanpos = xsp;
-    if (jj_3R_478()) {
+    if (jj_3R_876()) {
     jj_scanpos = xsp;
-    if (jj_3R_479()) return true;
-    }
-    }
-    }
-    }
+    if (jj_3R_877()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_802() {
+  private boolean jj_3R_773() {
+    if (jj_scan_token(START)) return true;
+    if (jj_3R_141()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_807() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_722() {
+  private boolean jj_3R_725() {
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_148()) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_807() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_812() {
+    if (jj_3R_151()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_870()) jj_scanpos = xsp;
+    if (jj_3R_875()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_145() {
+  private boolean jj_3R_148() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_57()) {
+    if (jj_3_59()) {
     jj_scanpos = xsp;
-    if (jj_3_58()) {
+    if (jj_3_60()) {
     jj_scanpos = xsp;
-    if (jj_3R_331()) return true;
+    if (jj_3R_334()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_489() {
+  private boolean jj_3R_492() {
     if (jj_scan_token(GROUP)) return true;
     if (jj_scan_token(BY)) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_608()) { jj_scanpos = xsp; break; }
+      if (jj_3R_611()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_147() {
-    if (jj_3R_332()) return true;
+  private boolean jj_3R_150() {
+    if (jj_3R_335()) return true;
     return false;
   }
 
-  private boolean jj_3R_146() {
-    if (jj_3R_136()) return true;
+  private boolean jj_3R_88() {
+    if (jj_scan_token(ALTER)) return true;
+    if (jj_scan_token(SEQUENCE)) return true;
+    if (jj_3R_151()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_773()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_774()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_775()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_98() {
-    if (jj_scan_token(HA)) return true;
-    if (jj_scan_token(STATUS)) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_273()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_149() {
+    if (jj_3R_139()) return true;
     return false;
   }
 
-  private boolean jj_3_54() {
-    if (jj_3R_136()) return true;
+  private boolean jj_3_56() {
+    if (jj_3R_139()) return true;
     return false;
   }
 
-  private boolean jj_3R_641() {
+  private boolean jj_3R_768() {
+    if (jj_scan_token(CACHE)) return true;
+    if (jj_3R_141()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_767() {
+    if (jj_scan_token(INCREMENT)) return true;
+    if (jj_3R_141()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_644() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_867() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_766() {
+    if (jj_scan_token(START)) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_805() {
+  private boolean jj_3R_872() {
+    if (jj_3R_167()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_810() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_843() {
-    if (jj_3R_332()) return true;
+  private boolean jj_3R_848() {
+    if (jj_3R_335()) return true;
     return false;
   }
 
-  private boolean jj_3R_804() {
-    if (jj_3R_152()) return true;
+  private boolean jj_3R_809() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_868() {
+  private boolean jj_3R_873() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_806() {
+  private boolean jj_3R_811() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_868()) {
+    if (jj_3R_873()) {
     jj_scanpos = xsp;
-    if (jj_3R_869()) return true;
+    if (jj_3R_874()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_56() {
+  private boolean jj_3_58() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_146()) {
+    if (jj_3R_149()) {
     jj_scanpos = xsp;
-    if (jj_3R_147()) return true;
+    if (jj_3R_150()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_842() {
-    if (jj_3R_136()) return true;
+  private boolean jj_3R_847() {
+    if (jj_3R_139()) return true;
     return false;
   }
 
-  private boolean jj_3R_799() {
+  private boolean jj_3R_804() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_702() {
+  private boolean jj_3R_705() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_807()) {
+    if (jj_3R_812()) {
     jj_scanpos = xsp;
-    if (jj_3R_808()) {
+    if (jj_3R_813()) {
     jj_scanpos = xsp;
-    if (jj_3R_809()) return true;
+    if (jj_3R_814()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_810()) jj_scanpos = xsp;
+    if (jj_3R_815()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_89() {
-    if (jj_scan_token(DROP)) return true;
-    if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_148()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_803() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_808() {
+    if (jj_3R_151()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_867()) jj_scanpos = xsp;
+    if (jj_3R_872()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_724() {
+  private boolean jj_3R_727() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_842()) {
+    if (jj_3R_847()) {
     jj_scanpos = xsp;
-    if (jj_3R_843()) return true;
+    if (jj_3R_848()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_772() {
-    if (jj_scan_token(CACHE)) return true;
-    if (jj_3R_138()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_771() {
-    if (jj_scan_token(INCREMENT)) return true;
-    if (jj_3R_138()) return true;
-    return false;
-  }
-
-  private boolean jj_3_53() {
-    if (jj_3R_145()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_770() {
-    if (jj_scan_token(START)) return true;
-    if (jj_3R_138()) return true;
+  private boolean jj_3_55() {
+    if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3_52() {
-    if (jj_3R_144()) return true;
+  private boolean jj_3_54() {
+    if (jj_3R_147()) return true;
     return false;
   }
 
-  private boolean jj_3R_723() {
+  private boolean jj_3R_726() {
     if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_640() {
+  private boolean jj_3R_643() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_723()) jj_scanpos = xsp;
+    if (jj_3R_726()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_724()) {
+    if (jj_3R_727()) {
     jj_scanpos = xsp;
-    if (jj_3_56()) return true;
+    if (jj_3_58()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_637() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_76() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(SEQUENCE)) return true;
+    if (jj_3R_151()) return true;
+    if (jj_scan_token(TYPE)) return true;
+    if (jj_3R_151()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_766()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_767()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_768()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_639() {
+  private boolean jj_3R_640() {
+    if (jj_3R_153()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_642() {
     if (jj_scan_token(RETURN)) return true;
-    if (jj_3R_428()) return true;
+    if (jj_3R_431()) return true;
     return false;
   }
 
-  private boolean jj_3R_636() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_639() {
+    if (jj_3R_151()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_722()) jj_scanpos = xsp;
+    if (jj_3R_725()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_701() {
+  private boolean jj_3R_704() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_803()) {
+    if (jj_3R_808()) {
     jj_scanpos = xsp;
-    if (jj_3R_804()) {
+    if (jj_3R_809()) {
     jj_scanpos = xsp;
-    if (jj_3R_805()) return true;
+    if (jj_3R_810()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_806()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_638() {
-    if (jj_3R_145()) return true;
+    if (jj_3R_811()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_87() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(SEQUENCE)) return true;
+  private boolean jj_3R_641() {
     if (jj_3R_148()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_770()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_771()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_772()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_635() {
-    if (jj_3R_144()) return true;
     return false;
   }
 
-  private boolean jj_3R_765() {
-    if (jj_scan_token(CACHE)) return true;
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_638() {
+    if (jj_3R_147()) return true;
     return false;
   }
 
-  private boolean jj_3R_800() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_805() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_796() {
+  private boolean jj_3R_801() {
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_138()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_764() {
-    if (jj_scan_token(INCREMENT)) return true;
-    if (jj_3R_138()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_763() {
-    if (jj_scan_token(START)) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_699() {
+  private boolean jj_3R_702() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_611() {
+  private boolean jj_3R_614() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_701()) {
+    if (jj_3R_704()) {
     jj_scanpos = xsp;
-    if (jj_3R_702()) return true;
+    if (jj_3R_705()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_698() {
-    if (jj_3R_152()) return true;
+  private boolean jj_3R_701() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_801() {
+  private boolean jj_3R_806() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_700() {
+  private boolean jj_3R_703() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_801()) {
+    if (jj_3R_806()) {
     jj_scanpos = xsp;
-    if (jj_3R_802()) return true;
+    if (jj_3R_807()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_697() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_290() {
+    if (jj_scan_token(CONSOLE)) return true;
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_151()) return true;
+    if (jj_3R_141()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_700() {
+    if (jj_3R_151()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_800()) jj_scanpos = xsp;
+    if (jj_3R_805()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_276() {
+  private boolean jj_3_150() {
+    if (jj_3R_65()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_279() {
     if (jj_scan_token(INSERT)) return true;
     if (jj_scan_token(INTO)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_635()) {
+    if (jj_3R_638()) {
     jj_scanpos = xsp;
-    if (jj_3R_636()) {
+    if (jj_3R_639()) {
     jj_scanpos = xsp;
-    if (jj_3R_637()) return true;
+    if (jj_3R_640()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_638()) jj_scanpos = xsp;
+    if (jj_3R_641()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_639()) jj_scanpos = xsp;
+    if (jj_3R_642()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_640()) jj_scanpos = xsp;
+    if (jj_3R_643()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_641()) jj_scanpos = xsp;
+    if (jj_3R_644()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_797() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_289() {
+    if (jj_scan_token(SLEEP)) return true;
+    if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_75() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_148()) return true;
-    if (jj_scan_token(TYPE)) return true;
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_870() {
+    if (jj_3R_291()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_869() {
+    if (jj_3R_65()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_790() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_763()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_764()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_765()) jj_scanpos = xsp;
+    if (jj_3R_869()) {
+    jj_scanpos = xsp;
+    if (jj_3R_870()) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(181)) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_695() {
+  private boolean jj_3R_802() {
+    if (jj_3R_167()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_698() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_694() {
-    if (jj_3R_152()) return true;
+  private boolean jj_3R_697() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_798() {
+  private boolean jj_3R_803() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_696() {
+  private boolean jj_3R_699() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_798()) {
+    if (jj_3R_803()) {
     jj_scanpos = xsp;
-    if (jj_3R_799()) return true;
+    if (jj_3R_804()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_610() {
+  private boolean jj_3R_613() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_697()) {
+    if (jj_3R_700()) {
     jj_scanpos = xsp;
-    if (jj_3R_698()) {
+    if (jj_3R_701()) {
     jj_scanpos = xsp;
-    if (jj_3R_699()) return true;
+    if (jj_3R_702()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_700()) jj_scanpos = xsp;
+    if (jj_3R_703()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_693() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_696() {
+    if (jj_3R_151()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_797()) jj_scanpos = xsp;
+    if (jj_3R_802()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_679() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_682() {
+    if (jj_3R_151()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_138()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_287() {
-    if (jj_scan_token(CONSOLE)) return true;
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_148()) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_795() {
+  private boolean jj_3R_291() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_164()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_687() {
-    if (jj_3R_138()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    if (jj_scan_token(LBRACE)) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_796()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3_147() {
-    if (jj_3R_64()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_790()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_286() {
-    if (jj_scan_token(SLEEP)) return true;
-    if (jj_3R_63()) return true;
+  private boolean jj_3R_490() {
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_865() {
-    if (jj_3R_288()) return true;
+  private boolean jj_3R_800() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_609() {
+  private boolean jj_3R_690() {
+    if (jj_3R_141()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_693()) {
-    jj_scanpos = xsp;
-    if (jj_3R_694()) {
-    jj_scanpos = xsp;
-    if (jj_3R_695()) return true;
-    }
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_696()) jj_scanpos = xsp;
+    if (jj_3R_801()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_864() {
-    if (jj_3R_64()) return true;
+  private boolean jj_3R_288() {
+    if (jj_scan_token(RETURN)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_490()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_785() {
+  private boolean jj_3R_612() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_864()) {
+    if (jj_3R_696()) {
     jj_scanpos = xsp;
-    if (jj_3R_865()) {
+    if (jj_3R_697()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(179)) return true;
+    if (jj_3R_698()) return true;
     }
     }
+    xsp = jj_scanpos;
+    if (jj_3R_699()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_685() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_688() {
+    if (jj_3R_151()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_795()) jj_scanpos = xsp;
+    if (jj_3R_800()) jj_scanpos = xsp;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_794() {
+  private boolean jj_3R_287() {
+    if (jj_scan_token(ROLLBACK)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_799() {
     if (jj_scan_token(SLASHASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_793() {
+  private boolean jj_3R_489() {
+    if (jj_scan_token(RETRY)) return true;
+    if (jj_3R_64()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_798() {
     if (jj_scan_token(STARASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_791() {
+  private boolean jj_3R_796() {
     if (jj_scan_token(PLUSASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_490() {
+  private boolean jj_3R_493() {
     if (jj_scan_token(ORDER)) return true;
     if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_609()) {
+    if (jj_3R_612()) {
     jj_scanpos = xsp;
-    if (jj_3R_610()) return true;
+    if (jj_3R_613()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_611()) { jj_scanpos = xsp; break; }
+      if (jj_3R_614()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_792() {
+  private boolean jj_3R_797() {
     if (jj_scan_token(MINUSASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_790() {
+  private boolean jj_3R_795() {
     if (jj_scan_token(EQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_447() {
+  private boolean jj_3R_450() {
     if (jj_scan_token(COUNT)) return true;
     return false;
   }
 
-  private boolean jj_3R_789() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_794() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_406() {
-    if (jj_3R_153()) return true;
+  private boolean jj_3R_409() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_288() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_161()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    if (jj_scan_token(LBRACE)) return true;
+  private boolean jj_3R_408() {
+    if (jj_scan_token(CHARACTER_LITERAL)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_286() {
+    if (jj_scan_token(COMMIT)) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_785()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(RBRACE)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_489()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_487() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_407() {
+    if (jj_3R_560()) return true;
     return false;
   }
 
-  private boolean jj_3R_405() {
-    if (jj_scan_token(CHARACTER_LITERAL)) return true;
+  private boolean jj_3R_488() {
+    if (jj_scan_token(ISOLATION)) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_404() {
-    if (jj_3R_557()) return true;
+  private boolean jj_3_149() {
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_688() {
+  private boolean jj_3R_691() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_687()) return true;
+    if (jj_3R_690()) return true;
     return false;
   }
 
-  private boolean jj_3_127() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3_148() {
+    if (jj_3R_212()) return true;
     return false;
   }
 
-  private boolean jj_3R_677() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3_129() {
+    if (jj_3R_141()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_680() {
+    if (jj_3R_151()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_789()) jj_scanpos = xsp;
+    if (jj_3R_794()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_790()) {
+    if (jj_3R_795()) {
     jj_scanpos = xsp;
-    if (jj_3R_791()) {
+    if (jj_3R_796()) {
     jj_scanpos = xsp;
-    if (jj_3R_792()) {
+    if (jj_3R_797()) {
     jj_scanpos = xsp;
-    if (jj_3R_793()) {
+    if (jj_3R_798()) {
     jj_scanpos = xsp;
-    if (jj_3R_794()) return true;
+    if (jj_3R_799()) return true;
     }
     }
     }
     }
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
   private boolean jj_3R_285() {
-    if (jj_scan_token(RETURN)) return true;
+    if (jj_scan_token(BEGIN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_487()) jj_scanpos = xsp;
+    if (jj_3R_488()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_196() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_668() {
+    if (jj_3R_141()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_199() {
+    if (jj_3R_141()) return true;
     if (jj_scan_token(MATCHES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_404()) {
+    if (jj_3R_407()) {
     jj_scanpos = xsp;
-    if (jj_3R_405()) {
+    if (jj_3R_408()) {
     jj_scanpos = xsp;
-    if (jj_3R_406()) return true;
+    if (jj_3R_409()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_686() {
+  private boolean jj_3R_689() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_685()) return true;
+    if (jj_3R_688()) return true;
     return false;
   }
 
-  private boolean jj_3R_589() {
+  private boolean jj_3R_667() {
+    if (jj_3R_214()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_592() {
     if (jj_scan_token(REMOVE)) return true;
-    if (jj_3R_687()) return true;
+    if (jj_3R_690()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_688()) { jj_scanpos = xsp; break; }
+      if (jj_3R_691()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_684() {
-    if (jj_scan_token(ADD)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_284() {
-    if (jj_scan_token(ROLLBACK)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_683() {
-    if (jj_scan_token(INCREMENT)) return true;
+  private boolean jj_3R_687() {
+    if (jj_scan_token(ADD)) return true;
     return false;
   }
 
-  private boolean jj_3R_403() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_686() {
+    if (jj_scan_token(INCREMENT)) return true;
     return false;
   }
 
-  private boolean jj_3R_486() {
-    if (jj_scan_token(RETRY)) return true;
-    if (jj_3R_63()) return true;
+  private boolean jj_3R_406() {
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_195() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_198() {
+    if (jj_3R_141()) return true;
     if (jj_scan_token(CONTAINSTEXT)) return true;
-    if (jj_3R_138()) return true;
+    if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3_126() {
+  private boolean jj_3_128() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_161()) return true;
+    if (jj_3R_164()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_682() {
+  private boolean jj_3R_685() {
     if (jj_scan_token(CONTENT)) return true;
     return false;
   }
 
-  private boolean jj_3R_681() {
+  private boolean jj_3R_684() {
     if (jj_scan_token(MERGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_588() {
+  private boolean jj_3R_574() {
+    if (jj_scan_token(LET)) return true;
+    if (jj_3R_151()) return true;
+    if (jj_scan_token(EQ)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_683()) {
+    if (jj_3R_667()) {
     jj_scanpos = xsp;
-    if (jj_3R_684()) return true;
+    if (jj_3R_668()) return true;
     }
-    if (jj_3R_685()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_591() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_686()) {
+    jj_scanpos = xsp;
+    if (jj_3R_687()) return true;
+    }
+    if (jj_3R_688()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_686()) { jj_scanpos = xsp; break; }
+      if (jj_3R_689()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_283() {
-    if (jj_scan_token(COMMIT)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_486()) jj_scanpos = xsp;
+  private boolean jj_3R_864() {
+    if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_485() {
-    if (jj_scan_token(ISOLATION)) return true;
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_765() {
+    if (jj_scan_token(LANGUAGE)) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3_146() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_863() {
+    if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_680() {
+  private boolean jj_3R_683() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_679()) return true;
+    if (jj_3R_682()) return true;
     return false;
   }
 
-  private boolean jj_3R_446() {
+  private boolean jj_3R_449() {
     if (jj_scan_token(AFTER)) return true;
     return false;
   }
 
-  private boolean jj_3_145() {
-    if (jj_3R_209()) return true;
+  private boolean jj_3R_590() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_684()) {
+    jj_scanpos = xsp;
+    if (jj_3R_685()) return true;
+    }
+    if (jj_3R_211()) return true;
     return false;
   }
 
-  private boolean jj_3R_587() {
+  private boolean jj_3R_197() {
+    if (jj_3R_141()) return true;
+    if (jj_scan_token(CONTAINSALL)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_681()) {
+    if (jj_3_128()) {
     jj_scanpos = xsp;
-    if (jj_3R_682()) return true;
+    if (jj_3R_406()) return true;
     }
-    if (jj_3R_208()) return true;
     return false;
   }
 
-  private boolean jj_3R_194() {
-    if (jj_3R_138()) return true;
-    if (jj_scan_token(CONTAINSALL)) return true;
+  private boolean jj_3R_764() {
+    if (jj_scan_token(IDEMPOTENT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_126()) {
+    if (jj_3R_863()) {
     jj_scanpos = xsp;
-    if (jj_3R_403()) return true;
+    if (jj_3R_864()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_398() {
-    if (jj_3R_166()) return true;
+  private boolean jj_3R_401() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_282() {
-    if (jj_scan_token(BEGIN)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_485()) jj_scanpos = xsp;
+  private boolean jj_3R_862() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_678() {
+  private boolean jj_3R_681() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_677()) return true;
+    if (jj_3R_680()) return true;
     return false;
   }
 
-  private boolean jj_3_125() {
+  private boolean jj_3_127() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_153()) return true;
+    if (jj_3R_156()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_665() {
-    if (jj_3R_138()) return true;
-    return false;
-  }
-
-  private boolean jj_3_124() {
+  private boolean jj_3_126() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_136()) return true;
+    if (jj_3R_139()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_664() {
-    if (jj_3R_211()) return true;
+  private boolean jj_3R_589() {
+    if (jj_scan_token(PUT)) return true;
+    if (jj_3R_682()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_683()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_586() {
-    if (jj_scan_token(PUT)) return true;
-    if (jj_3R_679()) return true;
+  private boolean jj_3R_763() {
+    if (jj_scan_token(PARAMETERS)) return true;
+    if (jj_scan_token(LBRACKET)) return true;
+    if (jj_3R_151()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_680()) { jj_scanpos = xsp; break; }
+      if (jj_3R_862()) { jj_scanpos = xsp; break; }
     }
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_585() {
+  private boolean jj_3R_588() {
     if (jj_scan_token(SET)) return true;
-    if (jj_3R_677()) return true;
+    if (jj_3R_680()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_678()) { jj_scanpos = xsp; break; }
+      if (jj_3R_681()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_189() {
-    if (jj_3R_138()) return true;
+  private boolean jj_3R_192() {
+    if (jj_3R_141()) return true;
     if (jj_scan_token(NOT)) return true;
-    if (jj_3R_396()) return true;
+    if (jj_3R_399()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_124()) {
+    if (jj_3_126()) {
     jj_scanpos = xsp;
-    if (jj_3_125()) {
+    if (jj_3_127()) {
     jj_scanpos = xsp;
-    if (jj_3R_398()) return true;
-    }
+    if (jj_3R_401()) return true;
     }
-    return false;
-  }
-
-  private boolean jj_3R_571() {
-    if (jj_scan_token(LET)) return true;
-    if (jj_3R_148()) return true;
-    if (jj_scan_token(EQ)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_664()) {
-    jj_scanpos = xsp;
-    if (jj_3R_665()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_434() {
+  private boolean jj_3R_437() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_585()) {
+    if (jj_3R_588()) {
     jj_scanpos = xsp;
-    if (jj_3R_586()) {
+    if (jj_3R_589()) {
     jj_scanpos = xsp;
-    if (jj_3R_587()) {
+    if (jj_3R_590()) {
     jj_scanpos = xsp;
-    if (jj_3R_588()) {
+    if (jj_3R_591()) {
     jj_scanpos = xsp;
-    if (jj_3R_589()) return true;
+    if (jj_3R_592()) return true;
     }
     }
     }
@@ -27672,63 +28054,131 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_123() {
+  private boolean jj_3_125() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_153()) return true;
+    if (jj_3R_156()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_859() {
-    if (jj_scan_token(FALSE)) return true;
+  private boolean jj_3R_400() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_762() {
-    if (jj_scan_token(LANGUAGE)) return true;
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_455() {
+    if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_397() {
-    if (jj_3R_166()) return true;
+  private boolean jj_3_124() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_139()) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_858() {
-    if (jj_scan_token(TRUE)) return true;
+  private boolean jj_3R_454() {
+    if (jj_scan_token(SHARED)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_439() {
+    if (jj_scan_token(AFTER)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_246() {
+    if (jj_3R_447()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_245() {
+    if (jj_3R_446()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_453() {
+    if (jj_scan_token(NONE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_75() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(FUNCTION)) return true;
+    if (jj_3R_151()) return true;
+    if (jj_3R_560()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_763()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_764()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_765()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3R_452() {
-    if (jj_scan_token(DEFAULT_)) return true;
+    if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3_122() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_136()) return true;
-    if (jj_scan_token(RPAREN)) return true;
+  private boolean jj_3R_789() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_787()) return true;
     return false;
   }
 
   private boolean jj_3R_451() {
-    if (jj_scan_token(SHARED)) return true;
+    if (jj_3R_431()) return true;
     return false;
   }
 
-  private boolean jj_3R_436() {
-    if (jj_scan_token(AFTER)) return true;
+  private boolean jj_3_123() {
+    if (jj_3R_141()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_244() {
+    if (jj_scan_token(LOCK)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_452()) {
+    jj_scanpos = xsp;
+    if (jj_3R_453()) {
+    jj_scanpos = xsp;
+    if (jj_3R_454()) {
+    jj_scanpos = xsp;
+    if (jj_3R_455()) return true;
+    }
+    }
+    }
     return false;
   }
 
   private boolean jj_3R_243() {
-    if (jj_3R_444()) return true;
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_441()) return true;
     return false;
   }
 
-  private boolean jj_3R_242() {
-    if (jj_3R_443()) return true;
+  private boolean jj_3R_448() {
+    if (jj_scan_token(BEFORE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_191() {
+    if (jj_3R_141()) return true;
+    if (jj_3R_399()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_124()) {
+    jj_scanpos = xsp;
+    if (jj_3_125()) {
+    jj_scanpos = xsp;
+    if (jj_3R_400()) return true;
+    }
+    }
     return false;
   }
 
@@ -27742,7 +28192,7 @@ Token token;
   private Token jj_scanpos, jj_lastpos;
   private int jj_la;
   private int jj_gen;
-  final private int[] jj_la1 = new int[387];
+  final private int[] jj_la1 = new int[389];
   static private int[] jj_la1_0;
   static private int[] jj_la1_1;
   static private int[] jj_la1_2;
@@ -27764,33 +28214,33 @@ Token token;
       jj_la1_init_8();
    }
    private static void jj_la1_init_0() {
-      jj_la1_0 = new int[] {0x0,0x0,0x9f800,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x3800,0x4000,0x0,0x0,0x0,0x0,0x0,0x3800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x200000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x400000,0x800000,0x0,0x0,0x800000,0x0,0x0,0x800000,0x0,0x0,0xfc400000,0x800000,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x20000000,0x0,0x0,0xf0000000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x200000,0x800,0x800,0x800,0x200800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf0000000,0x0,0x0,0xfc400000,0x10000000,0x0,0x0,0x0,0x0,0xfc600000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc404000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1800000,0x0,0x1800000,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x98000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x9f800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x9f800,0x0,};
+      jj_la1_0 = new int[] {0x0,0x0,0x9f800,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x3800,0x4000,0x0,0x0,0x0,0x0,0x0,0x3800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x200000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x400000,0x800000,0x0,0x0,0x800000,0x0,0x0,0x800000,0x0,0x0,0xfc400000,0x800000,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x20000000,0x0,0x0,0xf0000000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x200000,0x800,0x800,0x800,0x200800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf0000000,0x0,0x0,0xfc400000,0x10000000,0x0,0x0,0x0,0x0,0xfc600000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc404000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1800000,0x0,0x1800000,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0xfc400000,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x98000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x9f800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x9f800,0x0,};
    }
    private static void jj_la1_init_1() {
-      jj_la1_1 = new int[] {0x0,0x0,0x4080000,0x0,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x0,0x4000000,0x0,0x4000000,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x40000000,0x10000000,0x88021a3,0x4000000,0x0,0x100,0x80,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x40000000,0x10000000,0x0,0x8802183,0x0,0x0,0x400,0x0,0x80000000,0x0,0x0,0x0,0x10000,0x0,0x0,0x10000,0x80,0x400,0x80000,0x0,0x400,0x20000000,0x0,0x80000,0x0,0x400,0x1000,0x0,0x0,0x0,0x1000,0x8802183,0x0,0x0,0x400,0x1000,0x0,0x400,0x1000,0x0,0x400,0x1000,0x8802183,0x0,0x400,0x1000,0x7,0x0,0x300000,0x88021a3,0x80000,0x0,0x800000,0x400000,0x400,0x4000,0x7,0x0,0x300000,0x88021a3,0x80000,0x0,0x800000,0x400000,0x400,0x4000,0x0,0x0,0x1,0x4,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x8802183,0x80000,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x80000,0x0,0x7,0x1000,0x0,0x8802183,0x1,0x2000000,0x1000000,0x1000,0x0,0x8802d83,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0x88021a3,0x0,0x10000,0x0,0x0,0x0,0x8802183,0x0,0x88021a3,0x0,0x88021a3,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x20,0x0,0x0,0x88021a3,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x10,0x8,0x88021a3,0x0,0x0,0x0,0x0,0x0,0x8802183,0x0,0x88021a3,0x0,0x88021a3,0x0,0x88021a3,0x0,0x8802183,0x8802183,0x0,0x0,0x8802183,0x28000,0x28000,0x0,0x8802183,0x28000,0x28000,0x8802183,0x0,0x0,0x8802183,0x28000,0x28000,0x0,0x8802183,0x28000,0x28000,0x8802183,0x0,0x0,0x0,0x0,0x0,0x2800,0x0,0x80000,0x80000,0x0,0x88021a3,0x8802183,0x0,0x0,0x0,0x0,0x0,0x8802183,0x8802183,0x0,0x8802183,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x10000,0x8802183,0x0,0x8802183,0x0,0x8802183,0x0,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x0,0x0,0x20000000,0x8802183,0x20000000,0x0,0x0,0x0,0x0,0x8802183,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x88021a3,0x0,0x0,0x88021a3,0x0,0x88021a3,0x0,0x8802183,0x8802183,0x0,0x8802183,0x88021a3,0x88021a3,0x0,0x20000000,0x0,0x20000000,0x8802183,0x0,0x0,0x20000000,0x8802183,0x0,0x0,0x8802183,0x0,0x200,0x0,0x0,0x8802183,0x0,0x200,0x0,0x8802183,0x0,0x0,0x8802183,0x8802183,0x0,0x0,0x8802183,0x8802183,0x8802183,0x8802183,0x0,0x0,0x0,0x0,0x8802183,0x8802183,0x0,0x8802183,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x88021a3,0x4080000,0x0,0x0,0x4,0x8000000,0x0,0x4,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0x4080000,0x0,};
+      jj_la1_1 = new int[] {0x0,0x0,0x4080000,0x0,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x0,0x4000000,0x0,0x4000000,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x40000000,0x10000000,0x88021a3,0x4000000,0x0,0x100,0x80,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x40000000,0x10000000,0x0,0x8802183,0x0,0x0,0x400,0x0,0x80000000,0x0,0x0,0x0,0x10000,0x0,0x0,0x10000,0x80,0x400,0x80000,0x0,0x400,0x20000000,0x0,0x80000,0x0,0x400,0x1000,0x0,0x0,0x0,0x1000,0x8802183,0x0,0x0,0x400,0x1000,0x0,0x400,0x1000,0x0,0x400,0x1000,0x8802183,0x0,0x400,0x1000,0x7,0x0,0x300000,0x88021a3,0x80000,0x0,0x800000,0x400000,0x400,0x4000,0x7,0x0,0x300000,0x88021a3,0x80000,0x0,0x800000,0x400000,0x400,0x4000,0x0,0x0,0x1,0x4,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x8802183,0x80000,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x80000,0x0,0x7,0x1000,0x0,0x8802183,0x1,0x2000000,0x1000000,0x1000,0x0,0x8802d83,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0x88021a3,0x0,0x10000,0x0,0x0,0x0,0x8802183,0x0,0x88021a3,0x0,0x88021a3,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x20,0x0,0x0,0x88021a3,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x10,0x8,0x88021a3,0x0,0x0,0x0,0x0,0x0,0x8802183,0x0,0x88021a3,0x0,0x88021a3,0x0,0x88021a3,0x0,0x8802183,0x8802183,0x0,0x0,0x8802183,0x28000,0x28000,0x0,0x8802183,0x28000,0x28000,0x8802183,0x0,0x0,0x8802183,0x28000,0x28000,0x0,0x8802183,0x28000,0x28000,0x8802183,0x0,0x0,0x0,0x0,0x0,0x2800,0x0,0x80000,0x80000,0x0,0x88021a3,0x8802183,0x0,0x0,0x0,0x0,0x0,0x8802183,0x8802183,0x0,0x8802183,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x10000,0x8802183,0x0,0x8802183,0x0,0x8802183,0x0,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x0,0x0,0x20000000,0x8802183,0x20000000,0x0,0x0,0x0,0x0,0x8802183,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x88021a3,0x0,0x0,0x88021a3,0x0,0x88021a3,0x0,0x8802183,0x8802183,0x0,0x8802183,0x88021a3,0x88021a3,0x0,0x20000000,0x0,0x20000000,0x8802183,0x0,0x0,0x20000000,0x8802183,0x0,0x0,0x8802183,0x0,0x200,0x0,0x0,0x8802183,0x0,0x200,0x0,0x0,0x8802183,0x0,0x0,0x8802183,0x8802183,0x0,0x0,0x8802183,0x8802183,0x8802183,0x8802183,0x8802183,0x0,0x0,0x0,0x0,0x8802183,0x8802183,0x0,0x8802183,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x88021a3,0x4080000,0x0,0x0,0x4,0x8000000,0x0,0x4,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0x4080000,0x0,};
    }
    private static void jj_la1_init_2() {
-      jj_la1_2 = new int[] {0x0,0x0,0x10a2000,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x40,0x0,0x0,0x3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x1c,0x0,0x0,0x1c,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x1c,0xfffbff9c,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x1000,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0xfffbff9c,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x540,0x0,0x540,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x18000,0x40000,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0x0,0x0,0x200000,0x0,0x0,0x400000,0x800000,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0xfffbff9c,0x0,0xfffbff9c,0xfffbff9c,0xfffbff9c,0xfe800a00,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0xfffbff9c,0xfffbff9c,0xfffbff9c,0xfffbff9c,0x0,0x0,0x0,0x0,0xfffbff9c,0xfffbff9c,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x10a2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10a2000,0x0,};
+      jj_la1_2 = new int[] {0x0,0x0,0x10a2000,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x40,0x0,0x0,0x3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x1c,0x0,0x0,0x1c,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x1c,0xfffbff9c,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x1000,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0xfffbff9c,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x540,0x0,0x540,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x18000,0x40000,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0x0,0x0,0x200000,0x0,0x0,0x400000,0x800000,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0xfffbff9c,0x0,0xfffbff9c,0xfffbff9c,0xfffbff9c,0xfe800a00,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0xfffbff9c,0xfffbff9c,0xfffbff9c,0xfffbff9c,0xfffbff9c,0x0,0x0,0x0,0x0,0xfffbff9c,0xfffbff9c,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x10a2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10a2000,0x0,};
    }
    private static void jj_la1_init_3() {
-      jj_la1_3 = new int[] {0x0,0x0,0xf00e2408,0x80000000,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0xf00c2000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,0x7,0x0,0x80000000,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x80000000,0x20,0xffffffff,0x0,0x0,0x100,0x0,0xffffffff,0x0,0x0,0x100,0xffffffff,0x0,0x40,0xffffffff,0xffffffff,0x0,0x40,0xffffffff,0xffffffff,0xffffffff,0xffffffff,0x80000000,0x0,0x800,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0x10000,0xf00000,0xffffffff,0x0,0x0,0x0,0x2000000,0x0,0x4000000,0x8000000,0x0,0x0,0xffffffff,0xf00e2408,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf00e2408,0x80000000,};
+      jj_la1_3 = new int[] {0x0,0x0,0xc0389808,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0xc0308000,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x2000000,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x2000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,0x7,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x20,0xffffffff,0x0,0x0,0x100,0x0,0xffffffff,0x0,0x0,0x100,0x0,0xffffffff,0x0,0x40,0xffffffff,0xffffffff,0x0,0x40,0xffffffff,0xffffffff,0xffffffff,0xffffffff,0xffffffff,0x0,0x0,0x2000,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0x40000,0x3c00000,0xffffffff,0x0,0x0,0x0,0x8000000,0x0,0x10000000,0x20000000,0x0,0x0,0xffffffff,0xc0389808,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc0389808,0x0,};
    }
    private static void jj_la1_init_4() {
-      jj_la1_4 = new int[] {0x300000,0x0,0x30806,0x10000,0x200000,0x2fbff,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30,0x0,0x0,0x0,0x402effff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30,0x0,0x0,0x0,0x0,0xeffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x40000000,0x0,0x2fbff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2fbff,0x0,0x0,0x0,0x0,0x0,0x0,0x402effff,0x0,0x0,0x30,0x0,0x0,0x0,0x0,0x0,0x200,0x402effff,0x0,0x0,0x30,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2fbff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2fbff,0x0,0x0,0x0,0x0,0x0,0x2fbff,0x0,0x0,0x400,0x0,0x0,0x0,0x0,0x0,0x402effff,0x0,0x0,0x0,0x0,0x40000000,0x2ffff,0x0,0x402effff,0x0,0x402effff,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x402effff,0x200000,0x402effff,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x2fbff,0x0,0x0,0x2fbff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x402effff,0x0,0x0,0x0,0x0,0x0,0x22fbff,0x0,0x402effff,0x0,0x402effff,0x0,0x402effff,0x0,0x402effff,0x402effff,0x200000,0x0,0x400afbff,0x0,0x0,0x0,0x400afbff,0x0,0x0,0x400afbff,0x0,0x0,0x400afbff,0x0,0x0,0x0,0x400afbff,0x0,0x0,0x400afbff,0x0,0x0,0x40000000,0x40000000,0x40000000,0x0,0x40000000,0x0,0x0,0x0,0x402effff,0x2fbff,0x40000000,0x0,0x0,0x0,0x0,0x2fbff,0x2afbff,0x0,0x2afbff,0x2afbff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x100,0x2fbff,0x0,0x2fbff,0x0,0x2fbff,0x0,0x2fbff,0x0,0x0,0x2fbff,0x0,0x0,0x2fbff,0x0,0x0,0x0,0x0,0x0,0x4002fbff,0x0,0x0,0x40000000,0x40000000,0x40000000,0x2fbff,0x0,0x2fbff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2fbff,0x0,0x0,0x2fbff,0x0,0x2fbff,0x0,0x4002fbff,0x4002fbff,0x0,0x22fbff,0x2fbff,0x2fbff,0x0,0x0,0x0,0x0,0x2fbff,0x0,0x0,0x0,0x2fbff,0x0,0x0,0xafbff,0x0,0x0,0x0,0x0,0xafbff,0x0,0x0,0x0,0x2fbff,0x0,0x0,0x2fbff,0x2fbff,0x0,0x0,0x2fbff,0x2fbff,0x2fbff,0x2fbff,0x0,0x8,0x0,0x0,0x4002fbff,0x2fbff,0x0,0xafbff,0xafbff,0x0,0x0,0x2fbff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x402effff,0x20806,0x0,0x80,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30806,0x10000,};
+      jj_la1_4 = new int[] {0xc00000,0x0,0xc201b,0x40002,0x800000,0xbefff,0x0,0x0,0x0,0x0,0x0,0x80000,0x0,0x1b,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc0,0x0,0x0,0x0,0xbbffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc0,0x0,0x0,0x0,0x0,0x3bffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbefff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbefff,0x0,0x0,0x0,0x0,0x0,0x0,0xbbffff,0x0,0x0,0xc0,0x0,0x0,0x0,0x0,0x0,0x800,0xbbffff,0x0,0x0,0xc0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbefff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbefff,0x0,0x0,0x0,0x0,0x0,0xbefff,0x0,0x0,0x1000,0x0,0x0,0x0,0x0,0x0,0xbbffff,0x0,0x0,0x0,0x0,0x0,0xbffff,0x0,0xbbffff,0x0,0xbbffff,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbbffff,0x800000,0xbbffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbefff,0x0,0x0,0xbefff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbbffff,0x0,0x0,0x0,0x0,0x0,0x8befff,0x0,0xbbffff,0x0,0xbbffff,0x0,0xbbffff,0x0,0xbbffff,0xbbffff,0x800000,0x0,0x2befff,0x0,0x0,0x0,0x2befff,0x0,0x0,0x2befff,0x0,0x0,0x2befff,0x0,0x0,0x0,0x2befff,0x0,0x0,0x2befff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbbffff,0xbefff,0x0,0x0,0x0,0x0,0x0,0xbefff,0xabefff,0x0,0xabefff,0xabefff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0x0,0x400,0xbefff,0x0,0xbefff,0x0,0xbefff,0x0,0xbefff,0x0,0x0,0xbefff,0x0,0x0,0xbefff,0x0,0x0,0x0,0x0,0x0,0xbefff,0x0,0x0,0x0,0x0,0x0,0xbefff,0x0,0xbefff,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0xbefff,0x0,0x0,0xbefff,0x0,0xbefff,0x0,0xbefff,0xbefff,0x0,0x8befff,0xbefff,0xbefff,0x0,0x0,0x2,0x0,0xbefff,0x0,0x0,0x0,0xbefff,0x2,0x0,0x2befff,0x0,0x0,0x0,0x0,0x2befff,0x0,0x0,0x0,0x0,0xbefff,0x0,0x0,0xbefff,0xbefff,0x0,0x0,0xbefff,0xbefff,0xbefff,0xbefff,0xbefff,0x2,0x20,0x0,0x0,0xbefff,0xbefff,0x0,0x2befff,0x2befff,0x0,0x0,0xbefff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0xbbffff,0x8201b,0x2,0x200,0x0,0x0,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc201b,0x40002,};
    }
    private static void jj_la1_init_5() {
-      jj_la1_5 = new int[] {0x0,0x8000,0x80000,0x80000,0x100,0x0,0x0,0x0,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8002b984,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x20000,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x0,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x8000,0x28000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8002b984,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8002b984,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x100000,0x0,0x0,0x100000,0x100000,0x0,0x220000,0x2000000,0x220000,0x2000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x100000,0x100000,0x100000,0x100000,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x80000000,0x0,0x100000,0x100000,0x0,0x0,0x0,0x100000,0x20000000,0x0,0xa002b984,0x0,0x0,0x100000,0x0,0x80000600,0x0,0x100000,0x8002b984,0x100000,0x8002b984,0x0,0x0,0x20000,0x200000,0x1800,0x8000,0x0,0x1800,0x8000,0x0,0x8002b984,0x180,0x80020184,0x100000,0x2000,0x100000,0x80000000,0x100000,0x100000,0x8000,0x20000,0x80002000,0x0,0x0,0x100000,0x0,0x0,0x200000,0x200000,0x0,0x0,0x0,0x0,0x8002b984,0x1800,0x1e000000,0x6000000,0x0,0x1e000000,0x180,0x100000,0x8002b984,0x100000,0x8002b984,0x100000,0x8002b984,0x1e000000,0x80022184,0x80022184,0x80000180,0x220000,0x8000,0x0,0x0,0x220000,0x8000,0x0,0x0,0xa000,0x100000,0x220000,0x8000,0x0,0x0,0x220000,0x8000,0x0,0x0,0xa000,0x100000,0x100000,0x80000000,0x80000000,0x80000000,0x0,0x80000000,0x0,0x0,0x100000,0x8002b984,0x20000,0x0,0x20000,0x0,0x200000,0x0,0x20000,0x180,0x100000,0x180,0x180,0x8200000,0x8000000,0x8000,0x8000,0x8000,0x8000000,0x8000,0x100000,0x0,0x1800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0x0,0x0,0x8000,0x0,0x0,0x8000,0x0,0x0,0x0,0x0,0x0,0x100000,0x8000,0x28000,0xa000,0x0,0x100000,0x0,0x20000,0x0,0x100000,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x1800,0x0,0x0,0x1800,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x0,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x200000,0x100000,0x0,0x1800,0x0,0x0,0x0,0x0,0x8002b984,0x80000,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x80000,};
+      jj_la1_5 = new int[] {0x0,0x20000,0x200000,0x200000,0x400,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xae611,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x80000,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x20001,0xa0001,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xae611,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xae611,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x400000,0x0,0x0,0x400000,0x400000,0x0,0x880000,0x8000000,0x880000,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0x0,0x400000,0x400000,0x400000,0x400000,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0x0,0x0,0x0,0x0,0x0,0x400000,0x400000,0x0,0x0,0x0,0x400000,0x80000000,0x0,0x800ae611,0x0,0x0,0x400000,0x0,0x1801,0x0,0x400000,0xae611,0x400000,0xae611,0x0,0x0,0x80000,0x800000,0x6000,0x20000,0x0,0x6000,0x20000,0x0,0xae611,0x600,0x80611,0x400000,0x8000,0x400000,0x0,0x400000,0x400000,0x20001,0x80000,0x8000,0x0,0x0,0x400000,0x0,0x0,0x800000,0x800000,0x0,0x0,0x0,0x0,0xae611,0x6000,0x78000000,0x18000000,0x0,0x78000000,0x600,0x400000,0xae611,0x400000,0xae611,0x400000,0xae611,0x78000000,0x88611,0x88611,0x600,0x880000,0x20001,0x0,0x0,0x880000,0x20001,0x0,0x0,0x28001,0x400000,0x880000,0x20001,0x0,0x0,0x880000,0x20001,0x0,0x0,0x28001,0x400000,0x400000,0x1,0x1,0x1,0x0,0x1,0x0,0x0,0x400000,0xae611,0x80000,0x1,0x80000,0x0,0x800000,0x0,0x80000,0x600,0x400000,0x600,0x600,0x20800000,0x20000000,0x20000,0x20000,0x20000,0x20000000,0x20000,0x400000,0x0,0x6000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x0,0x1,0x0,0x400000,0x20001,0xa0001,0x28001,0x0,0x400000,0x0,0x80000,0x0,0x400000,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x6000,0x1,0x1,0x6000,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x8000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x400000,0x0,0x400000,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x800000,0x400000,0x0,0x6000,0x0,0x0,0x0,0x0,0xae611,0x200000,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x200000,};
    }
    private static void jj_la1_init_6() {
-      jj_la1_6 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x400,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc01,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x1,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc01,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc01,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3c0000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x800,0xc01,0x1,0x0,0x0,0x80000400,0x1,0x0,0x0,0xc01,0x0,0xc01,0x0,0x800,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x6003fe00,0xc01,0x0,0xc01,0x0,0x0,0x0,0x1,0x1,0x1,0x400,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x400,0x400,0x0,0x0,0x0,0x0,0xc01,0x0,0x5e,0x0,0x0,0x5e,0x0,0x0,0xc01,0x0,0xc01,0x0,0xc01,0x5e,0xc01,0xc01,0x1,0x0,0x400,0x0,0x0,0x0,0x400,0x0,0x0,0x400,0x0,0x0,0x400,0x0,0x0,0x0,0x400,0x0,0x0,0x400,0x0,0x0,0x401,0x401,0x401,0x0,0x401,0x0,0x0,0x0,0xc01,0x800,0xc00,0x0,0x800,0x0,0x800,0x800,0x0,0x0,0x0,0x0,0x500,0x0,0x0,0x0,0x0,0x500,0x0,0x0,0x0,0x0,0x0,0x0,0x500,0x0,0x500,0x0,0x500,0x0,0x500,0x0,0x0,0x500,0x0,0x0,0x500,0x0,0x0,0x0,0x0,0x400,0x0,0x0,0x400,0x400,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x600,0x600,0x0,0x0,0x0,0x0,0x400,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0x800,0x0,0x0,0x0,0x800,0x400,0x0,0x400,0x0,0x0,0x0,0x0,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc01,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_6 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x1000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3006,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x4,0x0,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x1000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3006,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3006,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf00000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x2000,0x3006,0x4,0x0,0x0,0x1000,0x6,0x0,0x0,0x3006,0x0,0x3006,0x0,0x2000,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x800ff800,0x3006,0x0,0x3006,0x0,0x0,0x0,0x6,0x4,0x4,0x1000,0x0,0x6,0x0,0x0,0x0,0x0,0x0,0x1000,0x1000,0x0,0x0,0x0,0x0,0x3006,0x0,0x178,0x0,0x0,0x178,0x0,0x0,0x3006,0x0,0x3006,0x0,0x3006,0x178,0x3006,0x3006,0x6,0x0,0x1000,0x0,0x0,0x0,0x1000,0x0,0x0,0x1000,0x0,0x0,0x1000,0x0,0x0,0x0,0x1000,0x0,0x0,0x1000,0x0,0x0,0x1006,0x1006,0x1006,0x0,0x1006,0x0,0x0,0x0,0x3006,0x2000,0x3000,0x0,0x2000,0x0,0x2000,0x2000,0x0,0x0,0x0,0x0,0x1400,0x0,0x0,0x0,0x0,0x1400,0x0,0x0,0x0,0x0,0x0,0x0,0x1400,0x0,0x1400,0x0,0x1400,0x0,0x1400,0x0,0x0,0x1400,0x0,0x0,0x1400,0x0,0x0,0x0,0x0,0x1000,0x0,0x0,0x1000,0x1000,0x1000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1800,0x1800,0x0,0x0,0x0,0x0,0x1000,0x1000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x2000,0x2000,0x0,0x0,0x0,0x2000,0x1000,0x0,0x1000,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3006,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_7() {
-      jj_la1_7 = new int[] {0x0,0x0,0x0,0x0,0x0,0x19004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4019004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x19004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x4000000,0x0,0x19004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x19004,0x0,0x0,0x0,0x0,0x0,0x0,0x4019004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4019004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x619004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x4000,0x0,0x600000,0x0,0x0,0x4000,0x19004,0x0,0x0,0x0,0x0,0x0,0x19004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4019004,0x0,0x0,0x0,0x1,0x0,0x19004,0x0,0x4019004,0x0,0x4019004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4019004,0x0,0x19004,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x604000,0x800000,0x19004,0x600000,0x0,0x19004,0x8000000,0x0,0x0,0x1c0000,0x1e0000,0x0,0x0,0x4019006,0x0,0x108,0x0,0x2,0x10e,0x19004,0x0,0x4019004,0x0,0x4019004,0x0,0x4019004,0x128,0x19004,0x19004,0x0,0x0,0x4019004,0x0,0x0,0x0,0x4019004,0x0,0x0,0x4019004,0x0,0x0,0x4019004,0x0,0x0,0x0,0x4019004,0x0,0x0,0x4019004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4019004,0x19004,0x0,0x0,0x0,0x0,0x0,0x19004,0x19004,0x0,0x19004,0x19004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x19004,0x0,0x19004,0x0,0x19004,0x0,0x19004,0x0,0x0,0x19004,0x0,0x0,0x19004,0x0,0x0,0x0,0x0,0x0,0x19004,0x0,0x0,0x4000000,0x4000000,0x4000000,0x619004,0x0,0x619004,0x0,0x0,0x0,0x0,0x0,0x4000,0x0,0x0,0x19004,0x0,0x0,0x19004,0x0,0x19004,0x0,0x19004,0x19004,0x0,0x10019004,0x19004,0x19004,0x0,0x0,0x0,0x0,0x19004,0x0,0x0,0x0,0x19004,0x0,0x0,0x19004,0x1000,0x0,0x0,0x0,0x19004,0x1000,0x0,0x0,0x19004,0x0,0x0,0x19004,0x19004,0x0,0x0,0x19004,0x19004,0x8019004,0x8019004,0x0,0x4000,0x0,0x0,0x19004,0x19004,0x0,0x19004,0x19004,0x0,0x0,0x1d004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4019004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe0000000,0xe0000000,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_7 = new int[] {0x0,0x0,0x0,0x0,0x0,0x64010,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10064010,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x64010,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x10000000,0x0,0x64010,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x64010,0x0,0x0,0x0,0x0,0x0,0x0,0x10064010,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10064010,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x1864010,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x10000,0x0,0x1800000,0x0,0x0,0x10000,0x64010,0x0,0x0,0x0,0x0,0x0,0x64010,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10064010,0x0,0x0,0x0,0x6,0x0,0x64010,0x0,0x10064010,0x0,0x10064010,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x10064010,0x0,0x64010,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x1810000,0x2000000,0x64010,0x1800000,0x0,0x64010,0x20000000,0x0,0x0,0x700000,0x780000,0x0,0x0,0x10064018,0x0,0x420,0x0,0x8,0x438,0x64010,0x0,0x10064010,0x0,0x10064010,0x0,0x10064010,0x4a0,0x64010,0x64010,0x0,0x0,0x10064010,0x0,0x0,0x0,0x10064010,0x0,0x0,0x10064010,0x0,0x0,0x10064010,0x0,0x0,0x0,0x10064010,0x0,0x0,0x10064010,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10064010,0x64010,0x0,0x0,0x0,0x0,0x0,0x64010,0x64010,0x0,0x64010,0x64010,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x64010,0x0,0x64010,0x0,0x64010,0x0,0x64010,0x0,0x0,0x64010,0x0,0x0,0x64010,0x0,0x0,0x0,0x0,0x0,0x64010,0x0,0x0,0x10000000,0x10000000,0x10000000,0x1864010,0x0,0x1864010,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x64010,0x0,0x0,0x64010,0x0,0x64010,0x0,0x64010,0x64010,0x0,0x40064010,0x64010,0x64010,0x0,0x0,0x0,0x0,0x64010,0x0,0x0,0x0,0x64010,0x0,0x0,0x64010,0x4000,0x0,0x0,0x0,0x64010,0x4000,0x0,0x0,0x0,0x64010,0x0,0x0,0x64010,0x64010,0x0,0x0,0x64010,0x64010,0x20064010,0x20064010,0x20064010,0x0,0x10000,0x0,0x0,0x64010,0x64010,0x0,0x64010,0x64010,0x0,0x0,0x74010,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10064010,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_8() {
-      jj_la1_8 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7,0x7,0x18,0x18,0x60,0x60,0x0,0x0,};
+      jj_la1_8 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1f,0x1f,0x60,0x60,0x180,0x180,0x0,0x0,};
    }
-  final private JJCalls[] jj_2_rtns = new JJCalls[148];
+  final private JJCalls[] jj_2_rtns = new JJCalls[151];
   private boolean jj_rescan = false;
   private int jj_gc = 0;
 
@@ -27800,7 +28250,7 @@ Token token;
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 387; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 389; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -27811,7 +28261,7 @@ Token token;
     jj_ntk = -1;
     jjtree.reset();
     jj_gen = 0;
-    for (int i = 0; i < 387; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 389; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -27821,7 +28271,7 @@ Token token;
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 387; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 389; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -27832,7 +28282,7 @@ Token token;
     jj_ntk = -1;
     jjtree.reset();
     jj_gen = 0;
-    for (int i = 0; i < 387; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 389; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -27944,12 +28394,12 @@ Token token;
   /** Generate ParseException. */
   public ParseException generateParseException() {
     jj_expentries.clear();
-    boolean[] la1tokens = new boolean[263];
+    boolean[] la1tokens = new boolean[265];
     if (jj_kind >= 0) {
       la1tokens[jj_kind] = true;
       jj_kind = -1;
     }
-    for (int i = 0; i < 387; i++) {
+    for (int i = 0; i < 389; i++) {
       if (jj_la1[i] == jj_gen) {
         for (int j = 0; j < 32; j++) {
           if ((jj_la1_0[i] & (1<<j)) != 0) {
@@ -27982,7 +28432,7 @@ Token token;
         }
       }
     }
-    for (int i = 0; i < 263; i++) {
+    for (int i = 0; i < 265; i++) {
       if (la1tokens[i]) {
         jj_expentry = new int[1];
         jj_expentry[0] = i;
@@ -28009,7 +28459,7 @@ Token token;
 
   private void jj_rescan_token() {
     jj_rescan = true;
-    for (int i = 0; i < 148; i++) {
+    for (int i = 0; i < 151; i++) {
     try {
       JJCalls p = jj_2_rtns[i];
       do {
@@ -28164,6 +28614,9 @@ Token token;
             case 145: jj_3_146(); break;
             case 146: jj_3_147(); break;
             case 147: jj_3_148(); break;
+            case 148: jj_3_149(); break;
+            case 149: jj_3_150(); break;
+            case 150: jj_3_151(); break;
           }
         }
         p = p.next;
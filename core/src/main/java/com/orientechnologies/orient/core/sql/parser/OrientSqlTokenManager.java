@@ -19,267 +19,267 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
    switch (pos)
    {
       case 0:
-         if ((active0 & 0x80L) != 0L || (active3 & 0x201000L) != 0L)
-            return 2;
          if ((active2 & 0x100000000000000L) != 0L)
+            return 1022;
+         if ((active0 & 0x80L) != 0L || (active3 & 0x804000L) != 0L)
+            return 2;
+         if ((active2 & 0x400000000000000L) != 0L)
             return 37;
-         if ((active2 & 0x80000000000000L) != 0L)
+         if ((active2 & 0x200000000000000L) != 0L)
             return 31;
-         if ((active3 & 0xe000000000080500L) != 0L || (active4 & 0x7fL) != 0L)
-            return 1104;
-         if ((active2 & 0x20000000000000L) != 0L || (active3 & 0x180000000L) != 0L)
-            return 13;
-         if ((active3 & 0x1000000000000000L) != 0L)
+         if ((active3 & 0x4000000000000000L) != 0L)
          {
-            jjmatchedKind = 239;
-            return 819;
+            jjmatchedKind = 241;
+            return 831;
          }
-         if ((active3 & 0x800000000000000L) != 0L)
+         if ((active3 & 0x2000000000000000L) != 0L)
          {
-            jjmatchedKind = 239;
+            jjmatchedKind = 241;
             return 31;
          }
-         if ((active2 & 0x40000000000000L) != 0L)
-            return 1010;
+         if ((active3 & 0x8000000000201400L) != 0L || (active4 & 0x1ffL) != 0L)
+            return 1116;
+         if ((active2 & 0x80000000000000L) != 0L || (active3 & 0x600000000L) != 0L)
+            return 13;
          return -1;
       case 1:
-         if ((active3 & 0x800000000000000L) != 0L)
+         if ((active0 & 0x80L) != 0L)
+            return 0;
+         if ((active3 & 0x4000000000000000L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 239;
+               jjmatchedKind = 241;
                jjmatchedPos = 1;
             }
-            return 31;
+            return 886;
          }
-         if ((active0 & 0x80L) != 0L)
-            return 0;
-         if ((active3 & 0x1000000000000000L) != 0L)
+         if ((active3 & 0x2000000000000000L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 239;
+               jjmatchedKind = 241;
                jjmatchedPos = 1;
             }
-            return 874;
+            return 31;
          }
          return -1;
       case 2:
-         if ((active3 & 0x800000000000000L) != 0L)
-         {
-            if (jjmatchedPos < 1)
-            {
-               jjmatchedKind = 239;
-               jjmatchedPos = 1;
-            }
-            return -1;
-         }
-         if ((active3 & 0x1000000000000000L) != 0L)
+         if ((active3 & 0x4000000000000000L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 239;
+               jjmatchedKind = 241;
                jjmatchedPos = 2;
             }
             return 31;
          }
-         return -1;
-      case 3:
-         if ((active3 & 0x800000000000000L) != 0L)
+         if ((active3 & 0x2000000000000000L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 239;
+               jjmatchedKind = 241;
                jjmatchedPos = 1;
             }
             return -1;
          }
-         if ((active3 & 0x1000000000000000L) != 0L)
+         return -1;
+      case 3:
+         if ((active3 & 0x4000000000000000L) != 0L)
          {
-            jjmatchedKind = 239;
+            jjmatchedKind = 241;
             jjmatchedPos = 3;
             return 31;
          }
+         if ((active3 & 0x2000000000000000L) != 0L)
+         {
+            if (jjmatchedPos < 1)
+            {
+               jjmatchedKind = 241;
+               jjmatchedPos = 1;
+            }
+            return -1;
+         }
          return -1;
       case 4:
-         if ((active3 & 0x800000000000000L) != 0L)
+         if ((active3 & 0x2000000000000000L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 239;
+               jjmatchedKind = 241;
                jjmatchedPos = 1;
             }
             return -1;
          }
-         if ((active3 & 0x1000000000000000L) != 0L)
+         if ((active3 & 0x4000000000000000L) != 0L)
          {
             if (jjmatchedPos != 4)
             {
-               jjmatchedKind = 239;
+               jjmatchedKind = 241;
                jjmatchedPos = 4;
             }
             return 31;
          }
          return -1;
       case 5:
-         if ((active3 & 0x800000000000000L) != 0L)
-         {
-            if (jjmatchedPos < 1)
-            {
-               jjmatchedKind = 239;
-               jjmatchedPos = 1;
-            }
-            return -1;
-         }
-         if ((active3 & 0x1000000000000000L) != 0L)
+         if ((active3 & 0x4000000000000000L) != 0L)
          {
             if (jjmatchedPos < 4)
             {
-               jjmatchedKind = 239;
+               jjmatchedKind = 241;
                jjmatchedPos = 4;
             }
             return -1;
          }
-         return -1;
-      case 6:
-         if ((active3 & 0x800000000000000L) != 0L)
+         if ((active3 & 0x2000000000000000L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 239;
+               jjmatchedKind = 241;
                jjmatchedPos = 1;
             }
             return -1;
          }
-         if ((active3 & 0x1000000000000000L) != 0L)
+         return -1;
+      case 6:
+         if ((active3 & 0x4000000000000000L) != 0L)
          {
             if (jjmatchedPos < 4)
             {
-               jjmatchedKind = 239;
+               jjmatchedKind = 241;
                jjmatchedPos = 4;
             }
             return -1;
          }
-         return -1;
-      case 7:
-         if ((active3 & 0x800000000000000L) != 0L)
+         if ((active3 & 0x2000000000000000L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 239;
+               jjmatchedKind = 241;
                jjmatchedPos = 1;
             }
             return -1;
          }
-         if ((active3 & 0x1000000000000000L) != 0L)
+         return -1;
+      case 7:
+         if ((active3 & 0x4000000000000000L) != 0L)
          {
             if (jjmatchedPos < 4)
             {
-               jjmatchedKind = 239;
+               jjmatchedKind = 241;
                jjmatchedPos = 4;
             }
             return -1;
          }
-         return -1;
-      case 8:
-         if ((active3 & 0x800000000000000L) != 0L)
+         if ((active3 & 0x2000000000000000L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 239;
+               jjmatchedKind = 241;
                jjmatchedPos = 1;
             }
             return -1;
          }
-         if ((active3 & 0x1000000000000000L) != 0L)
+         return -1;
+      case 8:
+         if ((active3 & 0x4000000000000000L) != 0L)
          {
             if (jjmatchedPos < 4)
             {
-               jjmatchedKind = 239;
+               jjmatchedKind = 241;
                jjmatchedPos = 4;
             }
             return -1;
          }
-         return -1;
-      case 9:
-         if ((active3 & 0x800000000000000L) != 0L)
+         if ((active3 & 0x2000000000000000L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 239;
+               jjmatchedKind = 241;
                jjmatchedPos = 1;
             }
             return -1;
          }
-         if ((active3 & 0x1000000000000000L) != 0L)
+         return -1;
+      case 9:
+         if ((active3 & 0x4000000000000000L) != 0L)
          {
             if (jjmatchedPos < 4)
             {
-               jjmatchedKind = 239;
+               jjmatchedKind = 241;
                jjmatchedPos = 4;
             }
             return -1;
          }
-         return -1;
-      case 10:
-         if ((active3 & 0x800000000000000L) != 0L)
+         if ((active3 & 0x2000000000000000L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 239;
+               jjmatchedKind = 241;
                jjmatchedPos = 1;
             }
             return -1;
          }
-         if ((active3 & 0x1000000000000000L) != 0L)
+         return -1;
+      case 10:
+         if ((active3 & 0x4000000000000000L) != 0L)
          {
             if (jjmatchedPos < 4)
             {
-               jjmatchedKind = 239;
+               jjmatchedKind = 241;
                jjmatchedPos = 4;
             }
             return -1;
          }
+         if ((active3 & 0x2000000000000000L) != 0L)
+         {
+            if (jjmatchedPos < 1)
+            {
+               jjmatchedKind = 241;
+               jjmatchedPos = 1;
+            }
+            return -1;
+         }
          return -1;
       case 11:
-         if ((active3 & 0x800000000000000L) != 0L)
+         if ((active3 & 0x2000000000000000L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 239;
+               jjmatchedKind = 241;
                jjmatchedPos = 1;
             }
             return -1;
          }
          return -1;
       case 12:
-         if ((active3 & 0x800000000000000L) != 0L)
+         if ((active3 & 0x2000000000000000L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 239;
+               jjmatchedKind = 241;
                jjmatchedPos = 1;
             }
             return -1;
          }
          return -1;
       case 13:
-         if ((active3 & 0x800000000000000L) != 0L)
+         if ((active3 & 0x2000000000000000L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 239;
+               jjmatchedKind = 241;
                jjmatchedPos = 1;
             }
             return -1;
          }
          return -1;
       case 14:
-         if ((active3 & 0x800000000000000L) != 0L)
+         if ((active3 & 0x2000000000000000L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 239;
+               jjmatchedKind = 241;
                jjmatchedPos = 1;
             }
             return -1;
@@ -304,78 +304,78 @@ private int jjMoveStringLiteralDfa0_0()
    switch(curChar)
    {
       case 33:
-         jjmatchedKind = 189;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x8L, 0x0L);
+         jjmatchedKind = 191;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x20L, 0x0L);
       case 35:
-         return jjStopAtPos(0, 250);
+         return jjStopAtPos(0, 252);
       case 36:
-         return jjStartNfaWithStates_0(0, 183, 31);
+         return jjStartNfaWithStates_0(0, 185, 31);
       case 37:
-         jjmatchedKind = 208;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x2000000L, 0x0L);
+         jjmatchedKind = 210;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x8000000L, 0x0L);
       case 38:
-         jjmatchedKind = 205;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x400040L, 0x0L);
+         jjmatchedKind = 207;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x1000100L, 0x0L);
       case 40:
-         return jjStopAtPos(0, 173);
+         return jjStopAtPos(0, 175);
       case 41:
-         return jjStopAtPos(0, 174);
+         return jjStopAtPos(0, 176);
       case 42:
-         jjmatchedKind = 203;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x100000L, 0x0L);
+         jjmatchedKind = 205;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x400000L, 0x0L);
       case 43:
-         jjmatchedKind = 201;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x40080L, 0x0L);
+         jjmatchedKind = 203;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x100200L, 0x0L);
       case 44:
-         return jjStopAtPos(0, 180);
+         return jjStopAtPos(0, 182);
       case 45:
-         jjmatchedKind = 202;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0xe000000000080100L, 0x7fL);
+         jjmatchedKind = 204;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x8000000000200400L, 0x1ffL);
       case 46:
-         jjmatchedKind = 181;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x180000000L, 0x0L);
+         jjmatchedKind = 183;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x600000000L, 0x0L);
       case 47:
-         jjmatchedKind = 204;
-         return jjMoveStringLiteralDfa1_0(0x80L, 0x0L, 0x200000L, 0x0L);
+         jjmatchedKind = 206;
+         return jjMoveStringLiteralDfa1_0(0x80L, 0x0L, 0x800000L, 0x0L);
       case 58:
-         return jjStopAtPos(0, 192);
+         return jjStopAtPos(0, 194);
       case 59:
-         return jjStopAtPos(0, 179);
+         return jjStopAtPos(0, 181);
       case 60:
-         jjmatchedKind = 187;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x4020012L, 0x0L);
+         jjmatchedKind = 189;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x10080048L, 0x0L);
       case 61:
-         jjmatchedKind = 185;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x400000000000000L, 0x0L, 0x0L);
+         jjmatchedKind = 187;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x1000000000000000L, 0x0L, 0x0L);
       case 62:
-         jjmatchedKind = 188;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x78000004L, 0x0L);
+         jjmatchedKind = 190;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x1e0000010L, 0x0L);
       case 63:
-         return jjStopAtPos(0, 191);
+         return jjStopAtPos(0, 193);
       case 64:
-         return jjStartNfaWithStates_0(0, 182, 1010);
+         return jjStartNfaWithStates_0(0, 184, 1022);
       case 91:
-         return jjStopAtPos(0, 177);
+         return jjStopAtPos(0, 179);
       case 93:
-         return jjStopAtPos(0, 178);
+         return jjStopAtPos(0, 180);
       case 94:
-         jjmatchedKind = 207;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x1000000L, 0x0L);
+         jjmatchedKind = 209;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x4000000L, 0x0L);
       case 95:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x800000000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x2000000000000000L, 0x0L);
       case 96:
-         return jjStartNfaWithStates_0(0, 184, 37);
+         return jjStartNfaWithStates_0(0, 186, 37);
       case 114:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x1000000000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x4000000000000000L, 0x0L);
       case 123:
-         return jjStopAtPos(0, 175);
+         return jjStopAtPos(0, 177);
       case 124:
-         jjmatchedKind = 206;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x800020L, 0x0L);
+         jjmatchedKind = 208;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x2000080L, 0x0L);
       case 125:
-         return jjStopAtPos(0, 176);
+         return jjStopAtPos(0, 178);
       case 126:
-         return jjStopAtPos(0, 190);
+         return jjStopAtPos(0, 192);
       default :
          return jjMoveNfa_0(3, 0);
    }
@@ -390,48 +390,44 @@ private int jjMoveStringLiteralDfa1_0(long active0, long active2, long active3,
    switch(curChar)
    {
       case 38:
-         if ((active3 & 0x40L) != 0L)
-            return jjStopAtPos(1, 198);
+         if ((active3 & 0x100L) != 0L)
+            return jjStopAtPos(1, 200);
          break;
       case 42:
          if ((active0 & 0x80L) != 0L)
             return jjStartNfaWithStates_0(1, 7, 0);
          break;
       case 43:
-         if ((active3 & 0x80L) != 0L)
-            return jjStopAtPos(1, 199);
+         if ((active3 & 0x200L) != 0L)
+            return jjStopAtPos(1, 201);
          break;
       case 45:
-         if ((active3 & 0x100L) != 0L)
-            return jjStopAtPos(1, 200);
+         if ((active3 & 0x400L) != 0L)
+            return jjStopAtPos(1, 202);
          break;
       case 46:
-         if ((active3 & 0x100000000L) != 0L)
+         if ((active3 & 0x400000000L) != 0L)
          {
-            jjmatchedKind = 224;
+            jjmatchedKind = 226;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active2, 0L, active3, 0x80000000L, active4, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active2, 0L, active3, 0x200000000L, active4, 0L);
       case 60:
-         if ((active3 & 0x20000L) != 0L)
+         if ((active3 & 0x80000L) != 0L)
          {
-            jjmatchedKind = 209;
+            jjmatchedKind = 211;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active2, 0L, active3, 0x4000000L, active4, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active2, 0L, active3, 0x10000000L, active4, 0L);
       case 61:
-         if ((active2 & 0x400000000000000L) != 0L)
-            return jjStopAtPos(1, 186);
-         else if ((active3 & 0x2L) != 0L)
-            return jjStopAtPos(1, 193);
-         else if ((active3 & 0x4L) != 0L)
-            return jjStopAtPos(1, 194);
+         if ((active2 & 0x1000000000000000L) != 0L)
+            return jjStopAtPos(1, 188);
          else if ((active3 & 0x8L) != 0L)
             return jjStopAtPos(1, 195);
-         else if ((active3 & 0x40000L) != 0L)
-            return jjStopAtPos(1, 210);
-         else if ((active3 & 0x80000L) != 0L)
-            return jjStopAtPos(1, 211);
+         else if ((active3 & 0x10L) != 0L)
+            return jjStopAtPos(1, 196);
+         else if ((active3 & 0x20L) != 0L)
+            return jjStopAtPos(1, 197);
          else if ((active3 & 0x100000L) != 0L)
             return jjStopAtPos(1, 212);
          else if ((active3 & 0x200000L) != 0L)
@@ -444,35 +440,39 @@ private int jjMoveStringLiteralDfa1_0(long active0, long active2, long active3,
             return jjStopAtPos(1, 216);
          else if ((active3 & 0x2000000L) != 0L)
             return jjStopAtPos(1, 217);
+         else if ((active3 & 0x4000000L) != 0L)
+            return jjStopAtPos(1, 218);
+         else if ((active3 & 0x8000000L) != 0L)
+            return jjStopAtPos(1, 219);
          break;
       case 62:
-         if ((active3 & 0x10L) != 0L)
-            return jjStopAtPos(1, 196);
-         else if ((active3 & 0x20000000L) != 0L)
+         if ((active3 & 0x40L) != 0L)
+            return jjStopAtPos(1, 198);
+         else if ((active3 & 0x80000000L) != 0L)
          {
-            jjmatchedKind = 221;
+            jjmatchedKind = 223;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active2, 0L, active3, 0x58000000L, active4, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active2, 0L, active3, 0x160000000L, active4, 0L);
       case 95:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active2, 0L, active3, 0x800000000000000L, active4, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active2, 0L, active3, 0x2000000000000000L, active4, 0L);
       case 97:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active2, 0L, active3, 0L, active4, 0x2L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active2, 0L, active3, 0L, active4, 0x8L);
       case 100:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active2, 0L, active3, 0x4000000000000000L, active4, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active2, 0L, active3, 0L, active4, 0x1L);
       case 102:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active2, 0L, active3, 0L, active4, 0x38L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active2, 0L, active3, 0L, active4, 0xe0L);
       case 108:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active2, 0L, active3, 0x8000000000000000L, active4, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active2, 0L, active3, 0L, active4, 0x2L);
       case 109:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active2, 0L, active3, 0L, active4, 0x41L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active2, 0L, active3, 0L, active4, 0x104L);
       case 111:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active2, 0L, active3, 0x1000000000000000L, active4, 0x4L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active2, 0L, active3, 0x4000000000000000L, active4, 0x10L);
       case 115:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active2, 0L, active3, 0x2000000000000000L, active4, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active2, 0L, active3, 0x8000000000000000L, active4, 0L);
       case 124:
-         if ((active3 & 0x20L) != 0L)
-            return jjStopAtPos(1, 197);
+         if ((active3 & 0x80L) != 0L)
+            return jjStopAtPos(1, 199);
          break;
       default :
          break;
@@ -491,38 +491,38 @@ private int jjMoveStringLiteralDfa2_0(long old0, long active0, long old2, long a
    switch(curChar)
    {
       case 46:
-         if ((active3 & 0x80000000L) != 0L)
-            return jjStopAtPos(2, 223);
+         if ((active3 & 0x200000000L) != 0L)
+            return jjStopAtPos(2, 225);
          break;
       case 61:
-         if ((active3 & 0x4000000L) != 0L)
-            return jjStopAtPos(2, 218);
-         else if ((active3 & 0x8000000L) != 0L)
-            return jjStopAtPos(2, 219);
+         if ((active3 & 0x10000000L) != 0L)
+            return jjStopAtPos(2, 220);
+         else if ((active3 & 0x20000000L) != 0L)
+            return jjStopAtPos(2, 221);
          break;
       case 62:
-         if ((active3 & 0x40000000L) != 0L)
+         if ((active3 & 0x100000000L) != 0L)
          {
-            jjmatchedKind = 222;
+            jjmatchedKind = 224;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active3, 0x10000000L, active4, 0L);
+         return jjMoveStringLiteralDfa3_0(active3, 0x40000000L, active4, 0L);
       case 64:
-         return jjMoveStringLiteralDfa3_0(active3, 0x800000000000000L, active4, 0L);
+         return jjMoveStringLiteralDfa3_0(active3, 0x2000000000000000L, active4, 0L);
       case 97:
-         return jjMoveStringLiteralDfa3_0(active3, 0x8000000000000000L, active4, 0L);
+         return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x2L);
       case 98:
-         if ((active3 & 0x4000000000000000L) != 0L)
-            return jjStopAtPos(2, 254);
+         if ((active4 & 0x1L) != 0L)
+            return jjStopAtPos(2, 256);
          break;
       case 101:
-         return jjMoveStringLiteralDfa3_0(active3, 0x2000000000000000L, active4, 0x41L);
+         return jjMoveStringLiteralDfa3_0(active3, 0x8000000000000000L, active4, 0x104L);
       case 108:
-         return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x2L);
-      case 111:
          return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x8L);
+      case 111:
+         return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x20L);
       case 117:
-         return jjMoveStringLiteralDfa3_0(active3, 0x1000000000000000L, active4, 0x34L);
+         return jjMoveStringLiteralDfa3_0(active3, 0x4000000000000000L, active4, 0xd0L);
       default :
          break;
    }
@@ -540,21 +540,21 @@ private int jjMoveStringLiteralDfa3_0(long old3, long active3, long old4, long a
    switch(curChar)
    {
       case 61:
-         if ((active3 & 0x10000000L) != 0L)
-            return jjStopAtPos(3, 220);
+         if ((active3 & 0x40000000L) != 0L)
+            return jjStopAtPos(3, 222);
          break;
       case 108:
-         if ((active4 & 0x2L) != 0L)
-            return jjStopAtPos(3, 257);
-         return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x30L);
+         if ((active4 & 0x8L) != 0L)
+            return jjStopAtPos(3, 259);
+         return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0xc0L);
       case 110:
-         return jjMoveStringLiteralDfa4_0(active3, 0x1000000000000000L, active4, 0L);
+         return jjMoveStringLiteralDfa4_0(active3, 0x4000000000000000L, active4, 0L);
       case 114:
-         return jjMoveStringLiteralDfa4_0(active3, 0x2800000000000000L, active4, 0x48L);
+         return jjMoveStringLiteralDfa4_0(active3, 0xa000000000000000L, active4, 0x120L);
       case 115:
-         return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x1L);
+         return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x4L);
       case 116:
-         return jjMoveStringLiteralDfa4_0(active3, 0x8000000000000000L, active4, 0x4L);
+         return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x12L);
       default :
          break;
    }
@@ -572,26 +572,26 @@ private int jjMoveStringLiteralDfa4_0(long old3, long active3, long old4, long a
    switch(curChar)
    {
       case 99:
-         return jjMoveStringLiteralDfa5_0(active3, 0L, active4, 0x8L);
+         return jjMoveStringLiteralDfa5_0(active3, 0L, active4, 0x20L);
       case 100:
-         return jjMoveStringLiteralDfa5_0(active3, 0x1000000000000000L, active4, 0L);
+         return jjMoveStringLiteralDfa5_0(active3, 0x4000000000000000L, active4, 0L);
       case 101:
-         return jjMoveStringLiteralDfa5_0(active3, 0x8800000000000000L, active4, 0L);
+         return jjMoveStringLiteralDfa5_0(active3, 0x2000000000000000L, active4, 0x2L);
       case 103:
-         return jjMoveStringLiteralDfa5_0(active3, 0L, active4, 0x40L);
+         return jjMoveStringLiteralDfa5_0(active3, 0L, active4, 0x100L);
       case 108:
-         if ((active4 & 0x10L) != 0L)
+         if ((active4 & 0x40L) != 0L)
          {
-            jjmatchedKind = 260;
+            jjmatchedKind = 262;
             jjmatchedPos = 4;
          }
-         return jjMoveStringLiteralDfa5_0(active3, 0L, active4, 0x20L);
+         return jjMoveStringLiteralDfa5_0(active3, 0L, active4, 0x80L);
       case 112:
-         return jjMoveStringLiteralDfa5_0(active3, 0L, active4, 0x4L);
+         return jjMoveStringLiteralDfa5_0(active3, 0L, active4, 0x10L);
       case 115:
-         return jjMoveStringLiteralDfa5_0(active3, 0L, active4, 0x1L);
+         return jjMoveStringLiteralDfa5_0(active3, 0L, active4, 0x4L);
       case 118:
-         return jjMoveStringLiteralDfa5_0(active3, 0x2000000000000000L, active4, 0L);
+         return jjMoveStringLiteralDfa5_0(active3, 0x8000000000000000L, active4, 0L);
       default :
          break;
    }
@@ -609,23 +609,23 @@ private int jjMoveStringLiteralDfa5_0(long old3, long active3, long old4, long a
    switch(curChar)
    {
       case 45:
-         return jjMoveStringLiteralDfa6_0(active3, 0x1000000000000000L, active4, 0L);
+         return jjMoveStringLiteralDfa6_0(active3, 0x4000000000000000L, active4, 0L);
       case 95:
-         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x20L);
+         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x80L);
       case 97:
-         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x1L);
+         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x4L);
       case 99:
-         return jjMoveStringLiteralDfa6_0(active3, 0x800000000000000L, active4, 0L);
-      case 101:
-         if ((active4 & 0x8L) != 0L)
-            return jjStopAtPos(5, 259);
-         else if ((active4 & 0x40L) != 0L)
-            return jjStopAtPos(5, 262);
          return jjMoveStringLiteralDfa6_0(active3, 0x2000000000000000L, active4, 0L);
-      case 110:
+      case 101:
+         if ((active4 & 0x20L) != 0L)
+            return jjStopAtPos(5, 261);
+         else if ((active4 & 0x100L) != 0L)
+            return jjStopAtPos(5, 264);
          return jjMoveStringLiteralDfa6_0(active3, 0x8000000000000000L, active4, 0L);
+      case 110:
+         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x2L);
       case 117:
-         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x4L);
+         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x10L);
       default :
          break;
    }
@@ -643,15 +643,15 @@ private int jjMoveStringLiteralDfa6_0(long old3, long active3, long old4, long a
    switch(curChar)
    {
       case 99:
-         return jjMoveStringLiteralDfa7_0(active3, 0x8000000000000000L, active4, 0L);
+         return jjMoveStringLiteralDfa7_0(active3, 0L, active4, 0x2L);
       case 103:
-         return jjMoveStringLiteralDfa7_0(active3, 0L, active4, 0x1L);
+         return jjMoveStringLiteralDfa7_0(active3, 0L, active4, 0x4L);
       case 111:
-         return jjMoveStringLiteralDfa7_0(active3, 0x800000000000000L, active4, 0L);
+         return jjMoveStringLiteralDfa7_0(active3, 0x2000000000000000L, active4, 0L);
       case 114:
-         return jjMoveStringLiteralDfa7_0(active3, 0x3000000000000000L, active4, 0x20L);
+         return jjMoveStringLiteralDfa7_0(active3, 0xc000000000000000L, active4, 0x80L);
       case 116:
-         return jjMoveStringLiteralDfa7_0(active3, 0L, active4, 0x4L);
+         return jjMoveStringLiteralDfa7_0(active3, 0L, active4, 0x10L);
       default :
          break;
    }
@@ -669,21 +669,21 @@ private int jjMoveStringLiteralDfa7_0(long old3, long active3, long old4, long a
    switch(curChar)
    {
       case 61:
-         return jjMoveStringLiteralDfa8_0(active3, 0L, active4, 0x4L);
+         return jjMoveStringLiteralDfa8_0(active3, 0L, active4, 0x10L);
       case 101:
-         return jjMoveStringLiteralDfa8_0(active3, 0L, active4, 0x21L);
+         return jjMoveStringLiteralDfa8_0(active3, 0L, active4, 0x84L);
       case 111:
-         return jjMoveStringLiteralDfa8_0(active3, 0x1000000000000000L, active4, 0L);
+         return jjMoveStringLiteralDfa8_0(active3, 0x4000000000000000L, active4, 0L);
       case 114:
-         return jjMoveStringLiteralDfa8_0(active3, 0x800000000000000L, active4, 0L);
+         return jjMoveStringLiteralDfa8_0(active3, 0x2000000000000000L, active4, 0L);
       case 115:
-         if ((active3 & 0x2000000000000000L) != 0L)
-            return jjStopAtPos(7, 253);
-         break;
-      case 121:
          if ((active3 & 0x8000000000000000L) != 0L)
             return jjStopAtPos(7, 255);
          break;
+      case 121:
+         if ((active4 & 0x2L) != 0L)
+            return jjStopAtPos(7, 257);
+         break;
       default :
          break;
    }
@@ -701,17 +701,17 @@ private int jjMoveStringLiteralDfa8_0(long old3, long active3, long old4, long a
    switch(curChar)
    {
       case 98:
-         return jjMoveStringLiteralDfa9_0(active3, 0x1000000000000000L, active4, 0L);
+         return jjMoveStringLiteralDfa9_0(active3, 0x4000000000000000L, active4, 0L);
       case 100:
-         return jjMoveStringLiteralDfa9_0(active3, 0x800000000000000L, active4, 0L);
+         return jjMoveStringLiteralDfa9_0(active3, 0x2000000000000000L, active4, 0L);
       case 112:
-         return jjMoveStringLiteralDfa9_0(active3, 0L, active4, 0x20L);
+         return jjMoveStringLiteralDfa9_0(active3, 0L, active4, 0x80L);
       case 115:
-         if ((active4 & 0x1L) != 0L)
-            return jjStopAtPos(8, 256);
+         if ((active4 & 0x4L) != 0L)
+            return jjStopAtPos(8, 258);
          break;
       case 116:
-         return jjMoveStringLiteralDfa9_0(active3, 0L, active4, 0x4L);
+         return jjMoveStringLiteralDfa9_0(active3, 0L, active4, 0x10L);
       default :
          break;
    }
@@ -729,13 +729,13 @@ private int jjMoveStringLiteralDfa9_0(long old3, long active3, long old4, long a
    switch(curChar)
    {
       case 101:
-         return jjMoveStringLiteralDfa10_0(active3, 0L, active4, 0x4L);
+         return jjMoveStringLiteralDfa10_0(active3, 0L, active4, 0x10L);
       case 105:
-         return jjMoveStringLiteralDfa10_0(active3, 0x1000000000000000L, active4, 0L);
+         return jjMoveStringLiteralDfa10_0(active3, 0x4000000000000000L, active4, 0L);
       case 108:
-         return jjMoveStringLiteralDfa10_0(active3, 0L, active4, 0x20L);
+         return jjMoveStringLiteralDfa10_0(active3, 0L, active4, 0x80L);
       case 109:
-         return jjMoveStringLiteralDfa10_0(active3, 0x800000000000000L, active4, 0L);
+         return jjMoveStringLiteralDfa10_0(active3, 0x2000000000000000L, active4, 0L);
       default :
          break;
    }
@@ -753,13 +753,13 @@ private int jjMoveStringLiteralDfa10_0(long old3, long active3, long old4, long
    switch(curChar)
    {
       case 97:
-         return jjMoveStringLiteralDfa11_0(active3, 0x800000000000000L, active4, 0x20L);
+         return jjMoveStringLiteralDfa11_0(active3, 0x2000000000000000L, active4, 0x80L);
       case 110:
-         if ((active3 & 0x1000000000000000L) != 0L)
-            return jjStopAtPos(10, 252);
+         if ((active3 & 0x4000000000000000L) != 0L)
+            return jjStopAtPos(10, 254);
          break;
       case 120:
-         return jjMoveStringLiteralDfa11_0(active3, 0L, active4, 0x4L);
+         return jjMoveStringLiteralDfa11_0(active3, 0L, active4, 0x10L);
       default :
          break;
    }
@@ -777,12 +777,12 @@ private int jjMoveStringLiteralDfa11_0(long old3, long active3, long old4, long
    switch(curChar)
    {
       case 99:
-         return jjMoveStringLiteralDfa12_0(active3, 0L, active4, 0x20L);
+         return jjMoveStringLiteralDfa12_0(active3, 0L, active4, 0x80L);
       case 112:
-         return jjMoveStringLiteralDfa12_0(active3, 0x800000000000000L, active4, 0L);
+         return jjMoveStringLiteralDfa12_0(active3, 0x2000000000000000L, active4, 0L);
       case 116:
-         if ((active4 & 0x4L) != 0L)
-            return jjStopAtPos(11, 258);
+         if ((active4 & 0x10L) != 0L)
+            return jjStopAtPos(11, 260);
          break;
       default :
          break;
@@ -801,10 +801,10 @@ private int jjMoveStringLiteralDfa12_0(long old3, long active3, long old4, long
    switch(curChar)
    {
       case 64:
-         return jjMoveStringLiteralDfa13_0(active3, 0x800000000000000L, active4, 0L);
+         return jjMoveStringLiteralDfa13_0(active3, 0x2000000000000000L, active4, 0L);
       case 101:
-         if ((active4 & 0x20L) != 0L)
-            return jjStopAtPos(12, 261);
+         if ((active4 & 0x80L) != 0L)
+            return jjStopAtPos(12, 263);
          break;
       default :
          break;
@@ -823,7 +823,7 @@ private int jjMoveStringLiteralDfa13_0(long old3, long active3, long old4, long
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa14_0(active3, 0x800000000000000L);
+         return jjMoveStringLiteralDfa14_0(active3, 0x2000000000000000L);
       default :
          break;
    }
@@ -841,7 +841,7 @@ private int jjMoveStringLiteralDfa14_0(long old3, long active3)
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa15_0(active3, 0x800000000000000L);
+         return jjMoveStringLiteralDfa15_0(active3, 0x2000000000000000L);
       default :
          break;
    }
@@ -859,8 +859,8 @@ private int jjMoveStringLiteralDfa15_0(long old3, long active3)
    switch(curChar)
    {
       case 95:
-         if ((active3 & 0x800000000000000L) != 0L)
-            return jjStopAtPos(15, 251);
+         if ((active3 & 0x2000000000000000L) != 0L)
+            return jjStopAtPos(15, 253);
          break;
       default :
          break;
@@ -884,7 +884,7 @@ static final long[] jjbitVec2 = {
 private int jjMoveNfa_0(int startState, int curPos)
 {
    int startsAt = 0;
-   jjnewStateCnt = 1131;
+   jjnewStateCnt = 1143;
    int i = 1;
    jjstateSet[0] = startState;
    int kind = 0x7fffffff;
@@ -899,69 +899,69 @@ private int jjMoveNfa_0(int startState, int curPos)
          {
             switch(jjstateSet[--i])
             {
-               case 819:
-               case 31:
-                  if ((0x3ff000000000000L & l) == 0L)
-                     break;
-                  if (kind > 239)
-                     kind = 239;
-                  jjCheckNAdd(31);
-                  break;
                case 37:
                case 33:
                   jjCheckNAddStates(0, 2);
                   break;
-               case 1104:
-                  if ((0x3fe000000000000L & l) != 0L)
-                     jjCheckNAddStates(3, 5);
-                  else if (curChar == 48)
-                     jjCheckNAddStates(6, 9);
-                  if ((0x3fe000000000000L & l) != 0L)
-                     jjCheckNAddStates(10, 12);
-                  else if (curChar == 48)
-                     jjCheckNAddStates(13, 16);
-                  break;
-               case 874:
-                  if ((0x3ff000000000000L & l) == 0L)
-                     break;
-                  if (kind > 239)
-                     kind = 239;
-                  jjCheckNAdd(31);
-                  break;
                case 3:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjCheckNAddStates(17, 23);
+                     jjCheckNAddStates(3, 9);
                   else if (curChar == 45)
-                     jjAddStates(24, 27);
+                     jjAddStates(10, 13);
                   else if (curChar == 39)
-                     jjCheckNAddStates(28, 32);
+                     jjCheckNAddStates(14, 18);
                   else if (curChar == 36)
                   {
-                     if (kind > 239)
-                        kind = 239;
+                     if (kind > 241)
+                        kind = 241;
                      jjCheckNAdd(31);
                   }
                   else if (curChar == 34)
-                     jjCheckNAddStates(33, 35);
+                     jjCheckNAddStates(19, 21);
                   else if (curChar == 46)
                      jjCheckNAdd(13);
                   else if (curChar == 47)
                      jjstateSet[jjnewStateCnt++] = 2;
                   if ((0x3fe000000000000L & l) != 0L)
                   {
-                     if (kind > 158)
-                        kind = 158;
-                     jjCheckNAddStates(36, 43);
+                     if (kind > 160)
+                        kind = 160;
+                     jjCheckNAddStates(22, 29);
                   }
                   else if (curChar == 48)
                   {
-                     if (kind > 158)
-                        kind = 158;
-                     jjCheckNAddStates(44, 56);
+                     if (kind > 160)
+                        kind = 160;
+                     jjCheckNAddStates(30, 42);
                   }
                   else if (curChar == 34)
                      jjstateSet[jjnewStateCnt++] = 6;
                   break;
+               case 886:
+               case 31:
+                  if ((0x3ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 241)
+                     kind = 241;
+                  jjCheckNAdd(31);
+                  break;
+               case 831:
+                  if ((0x3ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 241)
+                     kind = 241;
+                  jjCheckNAdd(31);
+                  break;
+               case 1116:
+                  if ((0x3fe000000000000L & l) != 0L)
+                     jjCheckNAddStates(43, 45);
+                  else if (curChar == 48)
+                     jjCheckNAddStates(46, 49);
+                  if ((0x3fe000000000000L & l) != 0L)
+                     jjCheckNAddStates(50, 52);
+                  else if (curChar == 48)
+                     jjCheckNAddStates(53, 56);
+                  break;
                case 0:
                   if (curChar == 42)
                      jjstateSet[jjnewStateCnt++] = 1;
@@ -975,8 +975,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 0;
                   break;
                case 10:
-                  if (curChar == 34 && kind > 149)
-                     kind = 149;
+                  if (curChar == 34 && kind > 151)
+                     kind = 151;
                   break;
                case 11:
                   if (curChar == 34)
@@ -989,8 +989,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 13:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 162)
-                     kind = 162;
+                  if (kind > 164)
+                     kind = 164;
                   jjCheckNAddStates(57, 59);
                   break;
                case 15:
@@ -1000,25 +1000,25 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 16:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 162)
-                     kind = 162;
+                  if (kind > 164)
+                     kind = 164;
                   jjCheckNAddTwoStates(16, 17);
                   break;
                case 18:
                   if (curChar == 34)
-                     jjCheckNAddStates(33, 35);
+                     jjCheckNAddStates(19, 21);
                   break;
                case 19:
                   if ((0xfffffffbffffdbffL & l) != 0L)
-                     jjCheckNAddStates(33, 35);
+                     jjCheckNAddStates(19, 21);
                   break;
                case 21:
                   if ((0x808400000000L & l) != 0L)
-                     jjCheckNAddStates(33, 35);
+                     jjCheckNAddStates(19, 21);
                   break;
                case 22:
-                  if (curChar == 34 && kind > 168)
-                     kind = 168;
+                  if (curChar == 34 && kind > 170)
+                     kind = 170;
                   break;
                case 23:
                   if ((0xff000000000000L & l) != 0L)
@@ -1026,7 +1026,7 @@ private int jjMoveNfa_0(int startState, int curPos)
                   break;
                case 24:
                   if ((0xff000000000000L & l) != 0L)
-                     jjCheckNAddStates(33, 35);
+                     jjCheckNAddStates(19, 21);
                   break;
                case 25:
                   if ((0xf000000000000L & l) != 0L)
@@ -1039,8 +1039,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 30:
                   if (curChar != 36)
                      break;
-                  if (kind > 239)
-                     kind = 239;
+                  if (kind > 241)
+                     kind = 241;
                   jjCheckNAdd(31);
                   break;
                case 38:
@@ -1050,20 +1050,20 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 39:
                   if (curChar != 36)
                      break;
-                  if (kind > 247)
-                     kind = 247;
+                  if (kind > 249)
+                     kind = 249;
                   jjCheckNAdd(40);
                   break;
                case 40:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 247)
-                     kind = 247;
+                  if (kind > 249)
+                     kind = 249;
                   jjCheckNAdd(40);
                   break;
                case 53:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjCheckNAddStates(17, 23);
+                     jjCheckNAddStates(3, 9);
                   break;
                case 54:
                   if ((0x3ff000000000000L & l) != 0L)
@@ -1088,8 +1088,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 61:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 162)
-                     kind = 162;
+                  if (kind > 164)
+                     kind = 164;
                   jjCheckNAddTwoStates(61, 17);
                   break;
                case 62:
@@ -1099,15 +1099,15 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 63:
                   if (curChar != 46)
                      break;
-                  if (kind > 162)
-                     kind = 162;
+                  if (kind > 164)
+                     kind = 164;
                   jjCheckNAddStates(67, 69);
                   break;
                case 64:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 162)
-                     kind = 162;
+                  if (kind > 164)
+                     kind = 164;
                   jjCheckNAddStates(67, 69);
                   break;
                case 66:
@@ -1117,453 +1117,453 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 67:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 162)
-                     kind = 162;
+                  if (kind > 164)
+                     kind = 164;
                   jjCheckNAddTwoStates(67, 17);
                   break;
-               case 289:
-                  if (curChar == 58 && kind > 241)
-                     kind = 241;
+               case 295:
+                  if (curChar == 58 && kind > 243)
+                     kind = 243;
                   break;
-               case 300:
+               case 306:
                   if (curChar == 58)
                      jjAddStates(70, 71);
                   break;
-               case 302:
+               case 308:
                   if (curChar != 36)
                      break;
-                  if (kind > 242)
-                     kind = 242;
-                  jjCheckNAddTwoStates(303, 304);
+                  if (kind > 244)
+                     kind = 244;
+                  jjCheckNAddTwoStates(309, 310);
                   break;
-               case 303:
+               case 309:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 242)
-                     kind = 242;
-                  jjCheckNAddTwoStates(303, 304);
+                  if (kind > 244)
+                     kind = 244;
+                  jjCheckNAddTwoStates(309, 310);
                   break;
-               case 304:
+               case 310:
                   if ((0x600000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 305;
+                     jjstateSet[jjnewStateCnt++] = 311;
                   break;
-               case 305:
+               case 311:
                   if (curChar != 36)
                      break;
-                  if (kind > 242)
-                     kind = 242;
-                  jjCheckNAddTwoStates(304, 306);
+                  if (kind > 244)
+                     kind = 244;
+                  jjCheckNAddTwoStates(310, 312);
                   break;
-               case 306:
+               case 312:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 242)
-                     kind = 242;
-                  jjCheckNAddTwoStates(304, 306);
+                  if (kind > 244)
+                     kind = 244;
+                  jjCheckNAddTwoStates(310, 312);
                   break;
-               case 335:
+               case 341:
                   if (curChar == 58)
                      jjAddStates(72, 73);
                   break;
-               case 337:
+               case 343:
                   if (curChar != 36)
                      break;
-                  if (kind > 243)
-                     kind = 243;
-                  jjCheckNAddTwoStates(338, 339);
+                  if (kind > 245)
+                     kind = 245;
+                  jjCheckNAddTwoStates(344, 345);
                   break;
-               case 338:
+               case 344:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 243)
-                     kind = 243;
-                  jjCheckNAddTwoStates(338, 339);
+                  if (kind > 245)
+                     kind = 245;
+                  jjCheckNAddTwoStates(344, 345);
                   break;
-               case 339:
+               case 345:
                   if ((0x600000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 340;
+                     jjstateSet[jjnewStateCnt++] = 346;
                   break;
-               case 340:
+               case 346:
                   if (curChar != 36)
                      break;
-                  if (kind > 243)
-                     kind = 243;
-                  jjCheckNAddTwoStates(339, 341);
+                  if (kind > 245)
+                     kind = 245;
+                  jjCheckNAddTwoStates(345, 347);
                   break;
-               case 341:
+               case 347:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 243)
-                     kind = 243;
-                  jjCheckNAddTwoStates(339, 341);
+                  if (kind > 245)
+                     kind = 245;
+                  jjCheckNAddTwoStates(345, 347);
                   break;
-               case 371:
+               case 377:
                   if (curChar == 58)
                      jjAddStates(74, 75);
                   break;
-               case 373:
+               case 379:
                   if (curChar != 36)
                      break;
-                  if (kind > 244)
-                     kind = 244;
-                  jjCheckNAddTwoStates(374, 375);
+                  if (kind > 246)
+                     kind = 246;
+                  jjCheckNAddTwoStates(380, 381);
                   break;
-               case 374:
+               case 380:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 244)
-                     kind = 244;
-                  jjCheckNAddTwoStates(374, 375);
+                  if (kind > 246)
+                     kind = 246;
+                  jjCheckNAddTwoStates(380, 381);
                   break;
-               case 375:
+               case 381:
                   if ((0x600000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 376;
+                     jjstateSet[jjnewStateCnt++] = 382;
                   break;
-               case 376:
+               case 382:
                   if (curChar != 36)
                      break;
-                  if (kind > 244)
-                     kind = 244;
-                  jjCheckNAddTwoStates(375, 377);
+                  if (kind > 246)
+                     kind = 246;
+                  jjCheckNAddTwoStates(381, 383);
                   break;
-               case 377:
+               case 383:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 244)
-                     kind = 244;
-                  jjCheckNAddTwoStates(375, 377);
+                  if (kind > 246)
+                     kind = 246;
+                  jjCheckNAddTwoStates(381, 383);
                   break;
-               case 529:
+               case 535:
                   if (curChar == 58)
-                     jjstateSet[jjnewStateCnt++] = 530;
+                     jjstateSet[jjnewStateCnt++] = 536;
                   break;
-               case 530:
+               case 536:
                   if (curChar != 36)
                      break;
-                  if (kind > 245)
-                     kind = 245;
-                  jjCheckNAdd(531);
+                  if (kind > 247)
+                     kind = 247;
+                  jjCheckNAdd(537);
                   break;
-               case 531:
+               case 537:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 245)
-                     kind = 245;
-                  jjCheckNAdd(531);
+                  if (kind > 247)
+                     kind = 247;
+                  jjCheckNAdd(537);
                   break;
-               case 538:
+               case 544:
                   if (curChar == 58)
                      jjAddStates(76, 77);
                   break;
-               case 539:
+               case 545:
                   if ((0x3fe000000000000L & l) == 0L)
                      break;
-                  if (kind > 246)
-                     kind = 246;
-                  jjCheckNAddTwoStates(540, 541);
+                  if (kind > 248)
+                     kind = 248;
+                  jjCheckNAddTwoStates(546, 547);
                   break;
-               case 540:
+               case 546:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 246)
-                     kind = 246;
-                  jjCheckNAddTwoStates(540, 541);
+                  if (kind > 248)
+                     kind = 248;
+                  jjCheckNAddTwoStates(546, 547);
                   break;
-               case 542:
+               case 548:
                   if (curChar != 48)
                      break;
-                  if (kind > 246)
-                     kind = 246;
+                  if (kind > 248)
+                     kind = 248;
                   jjCheckNAddStates(78, 80);
                   break;
-               case 544:
+               case 550:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 246)
-                     kind = 246;
-                  jjCheckNAddTwoStates(544, 541);
+                  if (kind > 248)
+                     kind = 248;
+                  jjCheckNAddTwoStates(550, 547);
                   break;
-               case 545:
+               case 551:
                   if ((0xff000000000000L & l) == 0L)
                      break;
-                  if (kind > 246)
-                     kind = 246;
-                  jjCheckNAddTwoStates(545, 541);
+                  if (kind > 248)
+                     kind = 248;
+                  jjCheckNAddTwoStates(551, 547);
                   break;
-               case 1058:
+               case 1070:
                   if ((0x3fe000000000000L & l) == 0L)
                      break;
-                  if (kind > 158)
-                     kind = 158;
-                  jjCheckNAddStates(36, 43);
+                  if (kind > 160)
+                     kind = 160;
+                  jjCheckNAddStates(22, 29);
                   break;
-               case 1059:
+               case 1071:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 158)
-                     kind = 158;
-                  jjCheckNAddTwoStates(1059, 1060);
+                  if (kind > 160)
+                     kind = 160;
+                  jjCheckNAddTwoStates(1071, 1072);
                   break;
-               case 1061:
+               case 1073:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjCheckNAddStates(10, 12);
+                     jjCheckNAddStates(50, 52);
                   break;
-               case 1063:
+               case 1075:
                   if (curChar == 46)
                      jjCheckNAddStates(81, 83);
                   break;
-               case 1064:
+               case 1076:
                   if (curChar == 45)
-                     jjCheckNAddTwoStates(1065, 1068);
+                     jjCheckNAddTwoStates(1077, 1080);
                   break;
-               case 1065:
+               case 1077:
                   if ((0x3fe000000000000L & l) == 0L)
                      break;
-                  if (kind > 169)
-                     kind = 169;
-                  jjCheckNAddTwoStates(1066, 1067);
+                  if (kind > 171)
+                     kind = 171;
+                  jjCheckNAddTwoStates(1078, 1079);
                   break;
-               case 1066:
+               case 1078:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 169)
-                     kind = 169;
-                  jjCheckNAddTwoStates(1066, 1067);
+                  if (kind > 171)
+                     kind = 171;
+                  jjCheckNAddTwoStates(1078, 1079);
                   break;
-               case 1068:
+               case 1080:
                   if (curChar != 48)
                      break;
-                  if (kind > 169)
-                     kind = 169;
+                  if (kind > 171)
+                     kind = 171;
                   jjCheckNAddStates(84, 86);
                   break;
-               case 1070:
+               case 1082:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 169)
-                     kind = 169;
-                  jjCheckNAddTwoStates(1070, 1067);
+                  if (kind > 171)
+                     kind = 171;
+                  jjCheckNAddTwoStates(1082, 1079);
                   break;
-               case 1071:
+               case 1083:
                   if ((0xff000000000000L & l) == 0L)
                      break;
-                  if (kind > 169)
-                     kind = 169;
-                  jjCheckNAddTwoStates(1071, 1067);
+                  if (kind > 171)
+                     kind = 171;
+                  jjCheckNAddTwoStates(1083, 1079);
                   break;
-               case 1072:
+               case 1084:
                   if (curChar == 46)
-                     jjstateSet[jjnewStateCnt++] = 1063;
+                     jjstateSet[jjnewStateCnt++] = 1075;
                   break;
-               case 1073:
+               case 1085:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjCheckNAddStates(3, 5);
+                     jjCheckNAddStates(43, 45);
                   break;
-               case 1075:
+               case 1087:
                   if (curChar == 46)
                      jjCheckNAddStates(87, 89);
                   break;
-               case 1076:
+               case 1088:
                   if (curChar == 45)
-                     jjCheckNAddTwoStates(1077, 1080);
+                     jjCheckNAddTwoStates(1089, 1092);
                   break;
-               case 1077:
+               case 1089:
                   if ((0x3fe000000000000L & l) == 0L)
                      break;
-                  if (kind > 170)
-                     kind = 170;
-                  jjCheckNAddTwoStates(1078, 1079);
+                  if (kind > 172)
+                     kind = 172;
+                  jjCheckNAddTwoStates(1090, 1091);
                   break;
-               case 1078:
+               case 1090:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 170)
-                     kind = 170;
-                  jjCheckNAddTwoStates(1078, 1079);
+                  if (kind > 172)
+                     kind = 172;
+                  jjCheckNAddTwoStates(1090, 1091);
                   break;
-               case 1080:
+               case 1092:
                   if (curChar != 48)
                      break;
-                  if (kind > 170)
-                     kind = 170;
+                  if (kind > 172)
+                     kind = 172;
                   jjCheckNAddStates(90, 92);
                   break;
-               case 1082:
+               case 1094:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 170)
-                     kind = 170;
-                  jjCheckNAddTwoStates(1082, 1079);
+                  if (kind > 172)
+                     kind = 172;
+                  jjCheckNAddTwoStates(1094, 1091);
                   break;
-               case 1083:
+               case 1095:
                   if ((0xff000000000000L & l) == 0L)
                      break;
-                  if (kind > 170)
-                     kind = 170;
-                  jjCheckNAddTwoStates(1083, 1079);
+                  if (kind > 172)
+                     kind = 172;
+                  jjCheckNAddTwoStates(1095, 1091);
                   break;
-               case 1084:
+               case 1096:
                   if (curChar == 46)
-                     jjstateSet[jjnewStateCnt++] = 1075;
+                     jjstateSet[jjnewStateCnt++] = 1087;
                   break;
-               case 1085:
+               case 1097:
                   if (curChar == 46)
-                     jjstateSet[jjnewStateCnt++] = 1084;
+                     jjstateSet[jjnewStateCnt++] = 1096;
                   break;
-               case 1086:
+               case 1098:
                   if (curChar == 39)
-                     jjCheckNAddStates(28, 32);
+                     jjCheckNAddStates(14, 18);
                   break;
-               case 1087:
+               case 1099:
                   if ((0xffffff7fffffdbffL & l) != 0L)
-                     jjCheckNAdd(1088);
+                     jjCheckNAdd(1100);
                   break;
-               case 1088:
-                  if (curChar == 39 && kind > 167)
-                     kind = 167;
+               case 1100:
+                  if (curChar == 39 && kind > 169)
+                     kind = 169;
                   break;
-               case 1090:
+               case 1102:
                   if ((0x808400000000L & l) != 0L)
-                     jjCheckNAdd(1088);
+                     jjCheckNAdd(1100);
                   break;
-               case 1091:
+               case 1103:
                   if ((0xff000000000000L & l) != 0L)
-                     jjCheckNAddTwoStates(1092, 1088);
+                     jjCheckNAddTwoStates(1104, 1100);
                   break;
-               case 1092:
+               case 1104:
                   if ((0xff000000000000L & l) != 0L)
-                     jjCheckNAdd(1088);
+                     jjCheckNAdd(1100);
                   break;
-               case 1093:
+               case 1105:
                   if ((0xf000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1094;
+                     jjstateSet[jjnewStateCnt++] = 1106;
                   break;
-               case 1094:
+               case 1106:
                   if ((0xff000000000000L & l) != 0L)
-                     jjCheckNAdd(1092);
+                     jjCheckNAdd(1104);
                   break;
-               case 1095:
+               case 1107:
                   if ((0xffffff7fffffdbffL & l) != 0L)
                      jjCheckNAddStates(93, 95);
                   break;
-               case 1097:
+               case 1109:
                   if ((0x808400000000L & l) != 0L)
                      jjCheckNAddStates(93, 95);
                   break;
-               case 1098:
-                  if (curChar == 39 && kind > 168)
-                     kind = 168;
+               case 1110:
+                  if (curChar == 39 && kind > 170)
+                     kind = 170;
                   break;
-               case 1099:
+               case 1111:
                   if ((0xff000000000000L & l) != 0L)
                      jjCheckNAddStates(96, 99);
                   break;
-               case 1100:
+               case 1112:
                   if ((0xff000000000000L & l) != 0L)
                      jjCheckNAddStates(93, 95);
                   break;
-               case 1101:
+               case 1113:
                   if ((0xf000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1102;
+                     jjstateSet[jjnewStateCnt++] = 1114;
                   break;
-               case 1102:
+               case 1114:
                   if ((0xff000000000000L & l) != 0L)
-                     jjCheckNAdd(1100);
+                     jjCheckNAdd(1112);
                   break;
-               case 1103:
+               case 1115:
                   if (curChar == 45)
-                     jjAddStates(24, 27);
+                     jjAddStates(10, 13);
                   break;
-               case 1105:
+               case 1117:
                   if ((0x3fe000000000000L & l) != 0L)
-                     jjCheckNAddStates(3, 5);
+                     jjCheckNAddStates(43, 45);
                   break;
-               case 1106:
+               case 1118:
                   if (curChar == 48)
-                     jjCheckNAddStates(13, 16);
+                     jjCheckNAddStates(53, 56);
                   break;
-               case 1108:
+               case 1120:
                   if ((0x3ff000000000000L & l) != 0L)
                      jjCheckNAddStates(100, 102);
                   break;
-               case 1109:
+               case 1121:
                   if ((0xff000000000000L & l) != 0L)
                      jjCheckNAddStates(103, 105);
                   break;
-               case 1110:
+               case 1122:
                   if (curChar == 48)
-                     jjCheckNAddStates(6, 9);
+                     jjCheckNAddStates(46, 49);
                   break;
-               case 1112:
+               case 1124:
                   if ((0x3ff000000000000L & l) != 0L)
                      jjCheckNAddStates(106, 108);
                   break;
-               case 1113:
+               case 1125:
                   if ((0xff000000000000L & l) != 0L)
                      jjCheckNAddStates(109, 111);
                   break;
-               case 1114:
+               case 1126:
                   if (curChar != 48)
                      break;
-                  if (kind > 158)
-                     kind = 158;
-                  jjCheckNAddStates(44, 56);
+                  if (kind > 160)
+                     kind = 160;
+                  jjCheckNAddStates(30, 42);
                   break;
-               case 1116:
+               case 1128:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 158)
-                     kind = 158;
-                  jjCheckNAddTwoStates(1116, 1060);
+                  if (kind > 160)
+                     kind = 160;
+                  jjCheckNAddTwoStates(1128, 1072);
                   break;
-               case 1117:
+               case 1129:
                   if ((0xff000000000000L & l) == 0L)
                      break;
-                  if (kind > 158)
-                     kind = 158;
-                  jjCheckNAddTwoStates(1117, 1060);
+                  if (kind > 160)
+                     kind = 160;
+                  jjCheckNAddTwoStates(1129, 1072);
                   break;
-               case 1119:
+               case 1131:
                   if ((0x3ff000000000000L & l) != 0L)
                      jjAddStates(112, 113);
                   break;
-               case 1120:
+               case 1132:
                   if (curChar == 46)
-                     jjCheckNAdd(1121);
+                     jjCheckNAdd(1133);
                   break;
-               case 1121:
+               case 1133:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjCheckNAddTwoStates(1121, 1122);
+                     jjCheckNAddTwoStates(1133, 1134);
                   break;
-               case 1123:
+               case 1135:
                   if ((0x280000000000L & l) != 0L)
-                     jjCheckNAdd(1124);
+                     jjCheckNAdd(1136);
                   break;
-               case 1124:
+               case 1136:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 162)
-                     kind = 162;
-                  jjCheckNAddTwoStates(1124, 17);
+                  if (kind > 164)
+                     kind = 164;
+                  jjCheckNAddTwoStates(1136, 17);
                   break;
-               case 1126:
+               case 1138:
                   if ((0x3ff000000000000L & l) != 0L)
                      jjCheckNAddStates(114, 116);
                   break;
-               case 1127:
+               case 1139:
                   if (curChar == 46)
-                     jjCheckNAdd(1128);
+                     jjCheckNAdd(1140);
                   break;
-               case 1129:
+               case 1141:
                   if ((0x280000000000L & l) != 0L)
-                     jjCheckNAdd(1130);
+                     jjCheckNAdd(1142);
                   break;
-               case 1130:
+               case 1142:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 162)
-                     kind = 162;
-                  jjCheckNAddTwoStates(1130, 17);
+                  if (kind > 164)
+                     kind = 164;
+                  jjCheckNAddTwoStates(1142, 17);
                   break;
                default : break;
             }
@@ -1576,79 +1576,17 @@ private int jjMoveNfa_0(int startState, int curPos)
          {
             switch(jjstateSet[--i])
             {
-               case 819:
-                  if ((0x7fffffe87fffffeL & l) != 0L)
-                  {
-                     if (kind > 239)
-                        kind = 239;
-                     jjCheckNAdd(31);
-                  }
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 874;
-                  else if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 871;
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 866;
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 860;
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 848;
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 839;
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 835;
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 830;
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 825;
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 820;
-                  break;
                case 37:
                   if ((0xfffffffeffffffffL & l) != 0L)
                      jjCheckNAddStates(0, 2);
                   if (curChar == 92)
                      jjCheckNAdd(34);
                   break;
-               case 1010:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1056;
-                  else if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1051;
-                  else if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1034;
-                  else if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1030;
-                  else if ((0x40000000400000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1023;
-                  else if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1018;
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1045;
-                  else if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1011;
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1040;
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1037;
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1015;
-                  break;
-               case 874:
-                  if ((0x7fffffe87fffffeL & l) != 0L)
-                  {
-                     if (kind > 239)
-                        kind = 239;
-                     jjCheckNAdd(31);
-                  }
-                  if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 875;
-                  break;
                case 3:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 239)
-                        kind = 239;
+                     if (kind > 241)
+                        kind = 241;
                      jjCheckNAdd(31);
                   }
                   else if (curChar == 64)
@@ -1670,29 +1608,29 @@ private int jjMoveNfa_0(int startState, int curPos)
                   else if ((0x1000000010000L & l) != 0L)
                      jjAddStates(168, 173);
                   else if ((0x200000002L & l) != 0L)
-                     jjAddStates(174, 182);
+                     jjAddStates(174, 183);
                   else if ((0x80000000800000L & l) != 0L)
-                     jjAddStates(183, 186);
+                     jjAddStates(184, 187);
                   else if ((0x4000000040L & l) != 0L)
-                     jjAddStates(187, 193);
+                     jjAddStates(188, 194);
                   else if ((0x20000000200000L & l) != 0L)
-                     jjAddStates(194, 197);
+                     jjAddStates(195, 198);
                   else if ((0x2000000020L & l) != 0L)
-                     jjAddStates(198, 205);
+                     jjAddStates(199, 206);
                   else if ((0x40000000400000L & l) != 0L)
-                     jjAddStates(206, 208);
+                     jjAddStates(207, 209);
                   else if ((0x1000000010L & l) != 0L)
-                     jjAddStates(209, 217);
+                     jjAddStates(210, 218);
                   else if ((0x800000008L & l) != 0L)
-                     jjAddStates(218, 237);
+                     jjAddStates(219, 238);
                   else if ((0x20000000200L & l) != 0L)
-                     jjAddStates(238, 252);
+                     jjAddStates(239, 254);
                   else if ((0x200000002000L & l) != 0L)
-                     jjAddStates(253, 259);
+                     jjAddStates(255, 261);
                   else if ((0x10000000100000L & l) != 0L)
-                     jjAddStates(260, 265);
+                     jjAddStates(262, 267);
                   else if ((0x8000000080000L & l) != 0L)
-                     jjAddStates(266, 281);
+                     jjAddStates(268, 283);
                   else if ((0x80000000800L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 28;
                   else if ((0x10000000100L & l) != 0L)
@@ -1704,6 +1642,68 @@ private int jjMoveNfa_0(int startState, int curPos)
                   else if (curChar == 109)
                      jjstateSet[jjnewStateCnt++] = 47;
                   break;
+               case 886:
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                  {
+                     if (kind > 241)
+                        kind = 241;
+                     jjCheckNAdd(31);
+                  }
+                  if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 887;
+                  break;
+               case 1022:
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1068;
+                  else if ((0x4000000040L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1063;
+                  else if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1046;
+                  else if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1042;
+                  else if ((0x40000000400000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1035;
+                  else if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1030;
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1057;
+                  else if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1023;
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1052;
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1049;
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1027;
+                  break;
+               case 831:
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                  {
+                     if (kind > 241)
+                        kind = 241;
+                     jjCheckNAdd(31);
+                  }
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 886;
+                  else if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 883;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 878;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 872;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 860;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 851;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 847;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 842;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 837;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 832;
+                  break;
                case 1:
                   if (kind > 6)
                      kind = 6;
@@ -1713,8 +1713,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 5;
                   break;
                case 5:
-                  if ((0x200000002L & l) != 0L && kind > 139)
-                     kind = 139;
+                  if ((0x200000002L & l) != 0L && kind > 141)
+                     kind = 141;
                   break;
                case 6:
                   if (curChar == 64)
@@ -1734,23 +1734,23 @@ private int jjMoveNfa_0(int startState, int curPos)
                   break;
                case 14:
                   if ((0x2000000020L & l) != 0L)
-                     jjAddStates(282, 283);
+                     jjAddStates(284, 285);
                   break;
                case 17:
-                  if ((0x5000000050L & l) != 0L && kind > 162)
-                     kind = 162;
+                  if ((0x5000000050L & l) != 0L && kind > 164)
+                     kind = 164;
                   break;
                case 19:
                   if ((0xffffffffefffffffL & l) != 0L)
-                     jjCheckNAddStates(33, 35);
+                     jjCheckNAddStates(19, 21);
                   break;
                case 20:
                   if (curChar == 92)
-                     jjAddStates(284, 286);
+                     jjAddStates(286, 288);
                   break;
                case 21:
                   if ((0x14404410000000L & l) != 0L)
-                     jjCheckNAddStates(33, 35);
+                     jjCheckNAddStates(19, 21);
                   break;
                case 27:
                   if ((0x80000000800L & l) != 0L)
@@ -1761,21 +1761,21 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 29;
                   break;
                case 29:
-                  if ((0x200000002000000L & l) != 0L && kind > 236)
-                     kind = 236;
+                  if ((0x200000002000000L & l) != 0L && kind > 238)
+                     kind = 238;
                   break;
                case 30:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 239)
-                     kind = 239;
+                  if (kind > 241)
+                     kind = 241;
                   jjCheckNAdd(31);
                   break;
                case 31:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 239)
-                     kind = 239;
+                  if (kind > 241)
+                     kind = 241;
                   jjCheckNAdd(31);
                   break;
                case 32:
@@ -1795,15 +1795,15 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAdd(34);
                   break;
                case 36:
-                  if (curChar == 96 && kind > 240)
-                     kind = 240;
+                  if (curChar == 96 && kind > 242)
+                     kind = 242;
                   break;
                case 39:
                case 40:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 247)
-                     kind = 247;
+                  if (kind > 249)
+                     kind = 249;
                   jjCheckNAdd(40);
                   break;
                case 41:
@@ -1843,12 +1843,12 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddTwoStates(50, 51);
                   break;
                case 50:
-                  if (curChar == 115 && kind > 228)
-                     kind = 228;
+                  if (curChar == 115 && kind > 230)
+                     kind = 230;
                   break;
                case 51:
-                  if (curChar == 83 && kind > 228)
-                     kind = 228;
+                  if (curChar == 83 && kind > 230)
+                     kind = 230;
                   break;
                case 52:
                   if (curChar == 73)
@@ -1856,19 +1856,19 @@ private int jjMoveNfa_0(int startState, int curPos)
                   break;
                case 55:
                   if ((0x2000000020L & l) != 0L)
-                     jjAddStates(287, 288);
+                     jjAddStates(289, 290);
                   break;
                case 59:
                   if ((0x2000000020L & l) != 0L)
-                     jjAddStates(289, 290);
+                     jjAddStates(291, 292);
                   break;
                case 65:
                   if ((0x2000000020L & l) != 0L)
-                     jjAddStates(291, 292);
+                     jjAddStates(293, 294);
                   break;
                case 68:
                   if ((0x8000000080000L & l) != 0L)
-                     jjAddStates(266, 281);
+                     jjAddStates(268, 283);
                   break;
                case 69:
                   if ((0x2000000020L & l) != 0L)
@@ -2123,8 +2123,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 132;
                   break;
                case 132:
-                  if ((0x1000000010000L & l) != 0L && kind > 129)
-                     kind = 129;
+                  if ((0x1000000010000L & l) != 0L && kind > 131)
+                     kind = 131;
                   break;
                case 133:
                   if ((0x10000000100L & l) != 0L)
@@ -2143,8 +2143,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 137;
                   break;
                case 137:
-                  if ((0x1000000010L & l) != 0L && kind > 132)
-                     kind = 132;
+                  if ((0x1000000010L & l) != 0L && kind > 134)
+                     kind = 134;
                   break;
                case 138:
                   if ((0x2000000020L & l) != 0L)
@@ -2171,8 +2171,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 144;
                   break;
                case 144:
-                  if ((0x2000000020L & l) != 0L && kind > 134)
-                     kind = 134;
+                  if ((0x2000000020L & l) != 0L && kind > 136)
+                     kind = 136;
                   break;
                case 145:
                   if ((0x10000000100000L & l) != 0L)
@@ -2187,8 +2187,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 148;
                   break;
                case 148:
-                  if ((0x10000000100000L & l) != 0L && kind > 135)
-                     kind = 135;
+                  if ((0x10000000100000L & l) != 0L && kind > 137)
+                     kind = 137;
                   break;
                case 149:
                   if ((0x10000000100000L & l) != 0L)
@@ -2207,8 +2207,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 153;
                   break;
                case 153:
-                  if ((0x8000000080000L & l) != 0L && kind > 140)
-                     kind = 140;
+                  if ((0x8000000080000L & l) != 0L && kind > 142)
+                     kind = 142;
                   break;
                case 154:
                   if ((0x2000000020L & l) != 0L)
@@ -2227,8 +2227,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 158;
                   break;
                case 158:
-                  if ((0x4000000040000L & l) != 0L && kind > 141)
-                     kind = 141;
+                  if ((0x4000000040000L & l) != 0L && kind > 143)
+                     kind = 143;
                   break;
                case 159:
                   if ((0x200000002000000L & l) != 0L)
@@ -2239,12 +2239,12 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 161;
                   break;
                case 161:
-                  if ((0x800000008L & l) != 0L && kind > 142)
-                     kind = 142;
+                  if ((0x800000008L & l) != 0L && kind > 144)
+                     kind = 144;
                   break;
                case 162:
                   if ((0x10000000100000L & l) != 0L)
-                     jjAddStates(260, 265);
+                     jjAddStates(262, 267);
                   break;
                case 163:
                   if ((0x4000000040000L & l) != 0L)
@@ -2339,8 +2339,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 186;
                   break;
                case 186:
-                  if ((0x2000000020L & l) != 0L && kind > 111)
-                     kind = 111;
+                  if ((0x2000000020L & l) != 0L && kind > 113)
+                     kind = 113;
                   break;
                case 187:
                   if ((0x4000000040000L & l) != 0L)
@@ -2351,12 +2351,12 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 189;
                   break;
                case 189:
-                  if ((0x2000000020L & l) != 0L && kind > 171)
-                     kind = 171;
+                  if ((0x2000000020L & l) != 0L && kind > 173)
+                     kind = 173;
                   break;
                case 190:
                   if ((0x200000002000L & l) != 0L)
-                     jjAddStates(253, 259);
+                     jjAddStates(255, 261);
                   break;
                case 191:
                   if ((0x200000002L & l) != 0L)
@@ -2483,8 +2483,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 222;
                   break;
                case 222:
-                  if ((0x2000000020L & l) != 0L && kind > 145)
-                     kind = 145;
+                  if ((0x2000000020L & l) != 0L && kind > 147)
+                     kind = 147;
                   break;
                case 223:
                   if ((0x200000002L & l) != 0L)
@@ -2507,12 +2507,12 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 228;
                   break;
                case 228:
-                  if ((0x8000000080000L & l) != 0L && kind > 235)
-                     kind = 235;
+                  if ((0x8000000080000L & l) != 0L && kind > 237)
+                     kind = 237;
                   break;
                case 229:
                   if ((0x20000000200L & l) != 0L)
-                     jjAddStates(238, 252);
+                     jjAddStates(239, 254);
                   break;
                case 230:
                   if ((0x400000004000L & l) != 0L)
@@ -2595,191 +2595,191 @@ private int jjMoveNfa_0(int startState, int curPos)
                      kind = 103;
                   break;
                case 250:
-                  if ((0x1000000010L & l) != 0L && kind > 107)
-                     kind = 107;
+                  if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 251;
                   break;
                case 251:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 252;
                   break;
                case 252:
-                  if ((0x40000000400000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 253;
                   break;
                case 253:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 254;
                   break;
                case 254:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 255;
                   break;
                case 255:
-                  if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 256;
+                  if ((0x2000000020L & l) != 0L && kind > 106)
+                     kind = 106;
                   break;
                case 256:
-                  if ((0x2000000020L & l) != 0L && kind > 112)
-                     kind = 112;
+                  if ((0x1000000010L & l) != 0L && kind > 109)
+                     kind = 109;
                   break;
                case 257:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 258;
                   break;
                case 258:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x40000000400000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 259;
                   break;
                case 259:
-                  if ((0x200000002000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 260;
                   break;
                case 260:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 261;
                   break;
                case 261:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 262;
                   break;
                case 262:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 263;
+                  if ((0x2000000020L & l) != 0L && kind > 114)
+                     kind = 114;
                   break;
                case 263:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 264;
                   break;
                case 264:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 265;
                   break;
                case 265:
-                  if ((0x10000000100000L & l) != 0L && kind > 122)
-                     kind = 122;
+                  if ((0x200000002000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 266;
                   break;
                case 266:
-                  if ((0x4000000040L & l) != 0L && kind > 127)
-                     kind = 127;
+                  if ((0x1000000010000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 267;
                   break;
                case 267:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 268;
                   break;
                case 268:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 269;
                   break;
                case 269:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 270;
                   break;
                case 270:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 271;
                   break;
                case 271:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 272;
+                  if ((0x10000000100000L & l) != 0L && kind > 124)
+                     kind = 124;
                   break;
                case 272:
-                  if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 273;
+                  if ((0x4000000040L & l) != 0L && kind > 129)
+                     kind = 129;
                   break;
                case 273:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 274;
                   break;
                case 274:
-                  if ((0x400000004000L & l) != 0L && kind > 128)
-                     kind = 128;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 275;
                   break;
                case 275:
-                  if ((0x400000004000L & l) != 0L && kind > 226)
-                     kind = 226;
+                  if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 276;
                   break;
                case 276:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 277;
                   break;
                case 277:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 278;
                   break;
                case 278:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 279;
                   break;
                case 279:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 280;
                   break;
                case 280:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 281;
+                  if ((0x400000004000L & l) != 0L && kind > 130)
+                     kind = 130;
                   break;
                case 281:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 282;
+                  if ((0x400000004000L & l) != 0L && kind > 228)
+                     kind = 228;
                   break;
                case 282:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 283;
                   break;
                case 283:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 284;
                   break;
                case 284:
-                  if ((0x4000000040L & l) != 0L && kind > 237)
-                     kind = 237;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 285;
                   break;
                case 285:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 286;
                   break;
                case 286:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 287;
                   break;
                case 287:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 288;
                   break;
                case 288:
-                  if ((0x100000001000000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 289;
                   break;
+               case 289:
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 290;
+                  break;
                case 290:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 291;
+                  if ((0x4000000040L & l) != 0L && kind > 239)
+                     kind = 239;
                   break;
                case 291:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 292;
                   break;
                case 292:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 293;
                   break;
                case 293:
-                  if ((0x100000001000000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 294;
                   break;
                case 294:
-                  if ((0x40000000400000L & l) != 0L)
+                  if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 295;
                   break;
-               case 295:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 296;
-                  break;
                case 296:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 297;
                   break;
                case 297:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 298;
                   break;
                case 298:
@@ -2787,119 +2787,119 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 299;
                   break;
                case 299:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 300;
                   break;
+               case 300:
+                  if ((0x40000000400000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 301;
+                  break;
                case 301:
-                  if (curChar == 95)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 302;
                   break;
                case 302:
+                  if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 303;
+                  break;
                case 303:
-                  if ((0x7fffffe87fffffeL & l) == 0L)
-                     break;
-                  if (kind > 242)
-                     kind = 242;
-                  jjCheckNAddTwoStates(303, 304);
+                  if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 304;
                   break;
-               case 305:
-               case 306:
-                  if ((0x7fffffe87fffffeL & l) == 0L)
-                     break;
-                  if (kind > 242)
-                     kind = 242;
-                  jjCheckNAddTwoStates(304, 306);
+               case 304:
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 305;
+                  break;
+               case 305:
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 306;
                   break;
                case 307:
                   if (curChar == 95)
-                     jjstateSet[jjnewStateCnt++] = 301;
+                     jjstateSet[jjnewStateCnt++] = 308;
                   break;
                case 308:
-                  if (curChar == 95)
-                     jjstateSet[jjnewStateCnt++] = 307;
-                  break;
                case 309:
-                  if (curChar == 64)
-                     jjstateSet[jjnewStateCnt++] = 308;
-                  break;
-               case 310:
-                  if (curChar == 112)
-                     jjstateSet[jjnewStateCnt++] = 309;
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                     break;
+                  if (kind > 244)
+                     kind = 244;
+                  jjCheckNAddTwoStates(309, 310);
                   break;
                case 311:
-                  if (curChar == 97)
-                     jjstateSet[jjnewStateCnt++] = 310;
-                  break;
                case 312:
-                  if (curChar == 109)
-                     jjstateSet[jjnewStateCnt++] = 311;
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                     break;
+                  if (kind > 244)
+                     kind = 244;
+                  jjCheckNAddTwoStates(310, 312);
                   break;
                case 313:
-                  if (curChar == 100)
-                     jjstateSet[jjnewStateCnt++] = 312;
+                  if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 307;
                   break;
                case 314:
-                  if (curChar == 114)
+                  if (curChar == 95)
                      jjstateSet[jjnewStateCnt++] = 313;
                   break;
                case 315:
-                  if (curChar == 111)
+                  if (curChar == 64)
                      jjstateSet[jjnewStateCnt++] = 314;
                   break;
                case 316:
-                  if (curChar == 99)
+                  if (curChar == 112)
                      jjstateSet[jjnewStateCnt++] = 315;
                   break;
                case 317:
-                  if (curChar == 101)
+                  if (curChar == 97)
                      jjstateSet[jjnewStateCnt++] = 316;
                   break;
                case 318:
-                  if (curChar == 114)
+                  if (curChar == 109)
                      jjstateSet[jjnewStateCnt++] = 317;
                   break;
                case 319:
-                  if (curChar == 64)
+                  if (curChar == 100)
                      jjstateSet[jjnewStateCnt++] = 318;
                   break;
                case 320:
-                  if (curChar == 95)
+                  if (curChar == 114)
                      jjstateSet[jjnewStateCnt++] = 319;
                   break;
                case 321:
-                  if (curChar == 95)
+                  if (curChar == 111)
                      jjstateSet[jjnewStateCnt++] = 320;
                   break;
                case 322:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 323;
+                  if (curChar == 99)
+                     jjstateSet[jjnewStateCnt++] = 321;
                   break;
                case 323:
-                  if ((0x1000000010L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 324;
+                  if (curChar == 101)
+                     jjstateSet[jjnewStateCnt++] = 322;
                   break;
                case 324:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 325;
+                  if (curChar == 114)
+                     jjstateSet[jjnewStateCnt++] = 323;
                   break;
                case 325:
-                  if ((0x100000001000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 326;
+                  if (curChar == 64)
+                     jjstateSet[jjnewStateCnt++] = 324;
                   break;
                case 326:
-                  if ((0x40000000400000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 327;
+                  if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 325;
                   break;
                case 327:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 328;
+                  if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 326;
                   break;
                case 328:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 329;
                   break;
                case 329:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 330;
                   break;
                case 330:
@@ -2907,131 +2907,131 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 331;
                   break;
                case 331:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 332;
                   break;
                case 332:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x40000000400000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 333;
                   break;
                case 333:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 334;
                   break;
                case 334:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 335;
                   break;
+               case 335:
+                  if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 336;
+                  break;
                case 336:
-                  if (curChar == 95)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 337;
                   break;
                case 337:
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 338;
+                  break;
                case 338:
-                  if ((0x7fffffe87fffffeL & l) == 0L)
-                     break;
-                  if (kind > 243)
-                     kind = 243;
-                  jjCheckNAddTwoStates(338, 339);
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 339;
+                  break;
+               case 339:
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 340;
                   break;
                case 340:
-               case 341:
-                  if ((0x7fffffe87fffffeL & l) == 0L)
-                     break;
-                  if (kind > 243)
-                     kind = 243;
-                  jjCheckNAddTwoStates(339, 341);
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 341;
                   break;
                case 342:
                   if (curChar == 95)
-                     jjstateSet[jjnewStateCnt++] = 336;
+                     jjstateSet[jjnewStateCnt++] = 343;
                   break;
                case 343:
-                  if (curChar == 95)
-                     jjstateSet[jjnewStateCnt++] = 342;
-                  break;
                case 344:
-                  if (curChar == 64)
-                     jjstateSet[jjnewStateCnt++] = 343;
-                  break;
-               case 345:
-                  if (curChar == 112)
-                     jjstateSet[jjnewStateCnt++] = 344;
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                     break;
+                  if (kind > 245)
+                     kind = 245;
+                  jjCheckNAddTwoStates(344, 345);
                   break;
                case 346:
-                  if (curChar == 97)
-                     jjstateSet[jjnewStateCnt++] = 345;
-                  break;
                case 347:
-                  if (curChar == 109)
-                     jjstateSet[jjnewStateCnt++] = 346;
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                     break;
+                  if (kind > 245)
+                     kind = 245;
+                  jjCheckNAddTwoStates(345, 347);
                   break;
                case 348:
-                  if (curChar == 100)
-                     jjstateSet[jjnewStateCnt++] = 347;
+                  if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 342;
                   break;
                case 349:
-                  if (curChar == 114)
+                  if (curChar == 95)
                      jjstateSet[jjnewStateCnt++] = 348;
                   break;
                case 350:
-                  if (curChar == 111)
+                  if (curChar == 64)
                      jjstateSet[jjnewStateCnt++] = 349;
                   break;
                case 351:
-                  if (curChar == 99)
+                  if (curChar == 112)
                      jjstateSet[jjnewStateCnt++] = 350;
                   break;
                case 352:
-                  if (curChar == 101)
+                  if (curChar == 97)
                      jjstateSet[jjnewStateCnt++] = 351;
                   break;
                case 353:
-                  if (curChar == 114)
+                  if (curChar == 109)
                      jjstateSet[jjnewStateCnt++] = 352;
                   break;
                case 354:
-                  if (curChar == 64)
+                  if (curChar == 100)
                      jjstateSet[jjnewStateCnt++] = 353;
                   break;
                case 355:
-                  if (curChar == 95)
+                  if (curChar == 114)
                      jjstateSet[jjnewStateCnt++] = 354;
                   break;
                case 356:
-                  if (curChar == 95)
+                  if (curChar == 111)
                      jjstateSet[jjnewStateCnt++] = 355;
                   break;
                case 357:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 358;
+                  if (curChar == 99)
+                     jjstateSet[jjnewStateCnt++] = 356;
                   break;
                case 358:
-                  if ((0x1000000010L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 359;
+                  if (curChar == 101)
+                     jjstateSet[jjnewStateCnt++] = 357;
                   break;
                case 359:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 360;
+                  if (curChar == 114)
+                     jjstateSet[jjnewStateCnt++] = 358;
                   break;
                case 360:
-                  if ((0x100000001000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 361;
+                  if (curChar == 64)
+                     jjstateSet[jjnewStateCnt++] = 359;
                   break;
                case 361:
-                  if ((0x40000000400000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 362;
+                  if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 360;
                   break;
                case 362:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 363;
+                  if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 361;
                   break;
                case 363:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 364;
                   break;
                case 364:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 365;
                   break;
                case 365:
@@ -3039,215 +3039,215 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 366;
                   break;
                case 366:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 367;
                   break;
                case 367:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x40000000400000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 368;
                   break;
                case 368:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 369;
                   break;
                case 369:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 370;
                   break;
                case 370:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 371;
                   break;
+               case 371:
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 372;
+                  break;
                case 372:
-                  if (curChar == 95)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 373;
                   break;
                case 373:
+                  if ((0x1000000010L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 374;
+                  break;
                case 374:
-                  if ((0x7fffffe87fffffeL & l) == 0L)
-                     break;
-                  if (kind > 244)
-                     kind = 244;
-                  jjCheckNAddTwoStates(374, 375);
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 375;
+                  break;
+               case 375:
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 376;
                   break;
                case 376:
-               case 377:
-                  if ((0x7fffffe87fffffeL & l) == 0L)
-                     break;
-                  if (kind > 244)
-                     kind = 244;
-                  jjCheckNAddTwoStates(375, 377);
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 377;
                   break;
                case 378:
                   if (curChar == 95)
-                     jjstateSet[jjnewStateCnt++] = 372;
+                     jjstateSet[jjnewStateCnt++] = 379;
                   break;
                case 379:
-                  if (curChar == 95)
-                     jjstateSet[jjnewStateCnt++] = 378;
-                  break;
                case 380:
-                  if (curChar == 64)
-                     jjstateSet[jjnewStateCnt++] = 379;
-                  break;
-               case 381:
-                  if (curChar == 112)
-                     jjstateSet[jjnewStateCnt++] = 380;
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                     break;
+                  if (kind > 246)
+                     kind = 246;
+                  jjCheckNAddTwoStates(380, 381);
                   break;
                case 382:
-                  if (curChar == 97)
-                     jjstateSet[jjnewStateCnt++] = 381;
-                  break;
                case 383:
-                  if (curChar == 109)
-                     jjstateSet[jjnewStateCnt++] = 382;
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                     break;
+                  if (kind > 246)
+                     kind = 246;
+                  jjCheckNAddTwoStates(381, 383);
                   break;
                case 384:
-                  if (curChar == 100)
-                     jjstateSet[jjnewStateCnt++] = 383;
+                  if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 378;
                   break;
                case 385:
-                  if (curChar == 114)
+                  if (curChar == 95)
                      jjstateSet[jjnewStateCnt++] = 384;
                   break;
                case 386:
-                  if (curChar == 111)
+                  if (curChar == 64)
                      jjstateSet[jjnewStateCnt++] = 385;
                   break;
                case 387:
-                  if (curChar == 99)
+                  if (curChar == 112)
                      jjstateSet[jjnewStateCnt++] = 386;
                   break;
                case 388:
-                  if (curChar == 101)
+                  if (curChar == 97)
                      jjstateSet[jjnewStateCnt++] = 387;
                   break;
                case 389:
-                  if (curChar == 114)
+                  if (curChar == 109)
                      jjstateSet[jjnewStateCnt++] = 388;
                   break;
                case 390:
-                  if (curChar == 64)
+                  if (curChar == 100)
                      jjstateSet[jjnewStateCnt++] = 389;
                   break;
                case 391:
-                  if (curChar == 95)
+                  if (curChar == 114)
                      jjstateSet[jjnewStateCnt++] = 390;
                   break;
                case 392:
-                  if (curChar == 95)
+                  if (curChar == 111)
                      jjstateSet[jjnewStateCnt++] = 391;
                   break;
                case 393:
-                  if ((0x800000008L & l) != 0L)
-                     jjAddStates(218, 237);
+                  if (curChar == 99)
+                     jjstateSet[jjnewStateCnt++] = 392;
                   break;
                case 394:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 395;
+                  if (curChar == 101)
+                     jjstateSet[jjnewStateCnt++] = 393;
                   break;
                case 395:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 396;
+                  if (curChar == 114)
+                     jjstateSet[jjnewStateCnt++] = 394;
                   break;
                case 396:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 397;
+                  if (curChar == 64)
+                     jjstateSet[jjnewStateCnt++] = 395;
                   break;
                case 397:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 398;
+                  if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 396;
                   break;
                case 398:
-                  if ((0x2000000020L & l) != 0L && kind > 15)
-                     kind = 15;
+                  if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 397;
                   break;
                case 399:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 400;
+                  if ((0x800000008L & l) != 0L)
+                     jjAddStates(219, 238);
                   break;
                case 400:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 401;
                   break;
                case 401:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 402;
                   break;
                case 402:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 403;
                   break;
                case 403:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 404;
                   break;
                case 404:
-                  if ((0x10000000100000L & l) != 0L && kind > 32)
-                     kind = 32;
+                  if ((0x2000000020L & l) != 0L && kind > 15)
+                     kind = 15;
                   break;
                case 405:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 406;
                   break;
                case 406:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 407;
                   break;
                case 407:
-                  if ((0x10000000100L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 408;
                   break;
                case 408:
-                  if ((0x2000000020L & l) != 0L && kind > 59)
-                     kind = 59;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 409;
                   break;
                case 409:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 410;
                   break;
                case 410:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 411;
+                  if ((0x10000000100000L & l) != 0L && kind > 32)
+                     kind = 32;
                   break;
                case 411:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 412;
                   break;
                case 412:
-                  if ((0x8000000080000L & l) != 0L && kind > 72)
-                     kind = 72;
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 413;
                   break;
                case 413:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x10000000100L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 414;
                   break;
                case 414:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 415;
+                  if ((0x2000000020L & l) != 0L && kind > 59)
+                     kind = 59;
                   break;
                case 415:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 416;
                   break;
                case 416:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 417;
                   break;
                case 417:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 418;
                   break;
                case 418:
-                  if ((0x8000000080000L & l) != 0L && kind > 74)
-                     kind = 74;
+                  if ((0x8000000080000L & l) != 0L && kind > 72)
+                     kind = 72;
                   break;
                case 419:
                   if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 420;
                   break;
                case 420:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 421;
                   break;
                case 421:
@@ -3255,7 +3255,7 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 422;
                   break;
                case 422:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 423;
                   break;
                case 423:
@@ -3263,12 +3263,12 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 424;
                   break;
                case 424:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 425;
+                  if ((0x8000000080000L & l) != 0L && kind > 74)
+                     kind = 74;
                   break;
                case 425:
-                  if ((0x8000000080000L & l) != 0L && kind > 86)
-                     kind = 86;
+                  if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 426;
                   break;
                case 426:
                   if ((0x20000000200000L & l) != 0L)
@@ -3283,16 +3283,16 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 429;
                   break;
                case 429:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 430;
                   break;
                case 430:
-                  if ((0x200000002000L & l) != 0L && kind > 95)
-                     kind = 95;
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 431;
                   break;
                case 431:
-                  if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 432;
+                  if ((0x8000000080000L & l) != 0L && kind > 86)
+                     kind = 86;
                   break;
                case 432:
                   if ((0x20000000200000L & l) != 0L)
@@ -3307,203 +3307,203 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 435;
                   break;
                case 435:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 436;
                   break;
                case 436:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 437;
+                  if ((0x200000002000L & l) != 0L && kind > 95)
+                     kind = 95;
                   break;
                case 437:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 438;
                   break;
                case 438:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 439;
                   break;
                case 439:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 440;
                   break;
                case 440:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 441;
                   break;
                case 441:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 442;
                   break;
                case 442:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 443;
                   break;
                case 443:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 444;
                   break;
                case 444:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 445;
                   break;
                case 445:
-                  if ((0x400000004000L & l) != 0L && kind > 96)
-                     kind = 96;
+                  if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 446;
                   break;
                case 446:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 447;
                   break;
                case 447:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 448;
                   break;
                case 448:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 449;
                   break;
                case 449:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 450;
                   break;
                case 450:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 451;
                   break;
                case 451:
-                  if ((0x2000000020L & l) != 0L && kind > 104)
-                     kind = 104;
+                  if ((0x400000004000L & l) != 0L && kind > 96)
+                     kind = 96;
                   break;
                case 452:
                   if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 453;
                   break;
                case 453:
-                  if ((0x200000002000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 454;
                   break;
                case 454:
-                  if ((0x200000002000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 455;
                   break;
                case 455:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 456;
                   break;
                case 456:
-                  if ((0x10000000100000L & l) != 0L && kind > 125)
-                     kind = 125;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 457;
                   break;
                case 457:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 458;
+                  if ((0x2000000020L & l) != 0L && kind > 104)
+                     kind = 104;
                   break;
                case 458:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 459;
                   break;
                case 459:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 460;
                   break;
                case 460:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 461;
                   break;
                case 461:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 462;
                   break;
                case 462:
-                  if ((0x2000000020L & l) != 0L && kind > 130)
-                     kind = 130;
+                  if ((0x10000000100000L & l) != 0L && kind > 127)
+                     kind = 127;
                   break;
                case 463:
                   if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 464;
                   break;
                case 464:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 465;
                   break;
                case 465:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 466;
                   break;
                case 466:
-                  if ((0x10000000100000L & l) != 0L && kind > 137)
-                     kind = 137;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 467;
                   break;
                case 467:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 468;
                   break;
                case 468:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 469;
+                  if ((0x2000000020L & l) != 0L && kind > 132)
+                     kind = 132;
                   break;
                case 469:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 470;
                   break;
                case 470:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 471;
                   break;
                case 471:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 472;
                   break;
                case 472:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 473;
+                  if ((0x10000000100000L & l) != 0L && kind > 139)
+                     kind = 139;
                   break;
                case 473:
-                  if ((0x8000000080000L & l) != 0L && kind > 230)
-                     kind = 230;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 474;
                   break;
                case 474:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 475;
                   break;
                case 475:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 476;
                   break;
                case 476:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 477;
                   break;
                case 477:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 478;
                   break;
                case 478:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 479;
                   break;
                case 479:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 480;
+                  if ((0x8000000080000L & l) != 0L && kind > 232)
+                     kind = 232;
                   break;
                case 480:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 481;
                   break;
                case 481:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 482;
                   break;
                case 482:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 483;
                   break;
                case 483:
-                  if ((0x100000001000L & l) != 0L && kind > 231)
-                     kind = 231;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 484;
                   break;
                case 484:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 485;
                   break;
                case 485:
@@ -3511,7 +3511,7 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 486;
                   break;
                case 486:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 487;
                   break;
                case 487:
@@ -3519,31 +3519,31 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 488;
                   break;
                case 488:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 489;
                   break;
                case 489:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 490;
+                  if ((0x100000001000L & l) != 0L && kind > 233)
+                     kind = 233;
                   break;
                case 490:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 491;
                   break;
                case 491:
-                  if ((0x80000000800L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 492;
                   break;
                case 492:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 493;
                   break;
                case 493:
-                  if ((0x200000002000000L & l) != 0L && kind > 232)
-                     kind = 232;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 494;
                   break;
                case 494:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 495;
                   break;
                case 495:
@@ -3551,112 +3551,112 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 496;
                   break;
                case 496:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 497;
                   break;
                case 497:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x80000000800L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 498;
                   break;
                case 498:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 499;
                   break;
                case 499:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 500;
+                  if ((0x200000002000000L & l) != 0L && kind > 234)
+                     kind = 234;
                   break;
                case 500:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 501;
                   break;
                case 501:
-                  if ((0x40000000400000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 502;
                   break;
                case 502:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 503;
                   break;
                case 503:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 504;
                   break;
                case 504:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 505;
                   break;
                case 505:
-                  if ((0x2000000020L & l) != 0L && kind > 233)
-                     kind = 233;
+                  if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 506;
                   break;
                case 506:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 507;
                   break;
                case 507:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x40000000400000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 508;
                   break;
                case 508:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 509;
                   break;
                case 509:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 510;
                   break;
                case 510:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 511;
                   break;
                case 511:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 512;
+                  if ((0x2000000020L & l) != 0L && kind > 235)
+                     kind = 235;
                   break;
                case 512:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 513;
                   break;
                case 513:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 514;
                   break;
                case 514:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 515;
                   break;
                case 515:
-                  if ((0x100000001000000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 516;
                   break;
                case 516:
-                  if ((0x10000000100000L & l) != 0L && kind > 234)
-                     kind = 234;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 517;
                   break;
                case 517:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 518;
                   break;
                case 518:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 519;
                   break;
                case 519:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 520;
                   break;
                case 520:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 521;
                   break;
                case 521:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 522;
                   break;
                case 522:
-                  if ((0x4000000040000L & l) != 0L && kind > 238)
-                     kind = 238;
+                  if ((0x10000000100000L & l) != 0L && kind > 236)
+                     kind = 236;
                   break;
                case 523:
                   if ((0x100000001000L & l) != 0L)
@@ -3679,166 +3679,166 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 528;
                   break;
                case 528:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 529;
+                  if ((0x4000000040000L & l) != 0L && kind > 240)
+                     kind = 240;
+                  break;
+               case 529:
+                  if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 530;
                   break;
                case 530:
+                  if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 531;
+                  break;
                case 531:
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 532;
+                  break;
+               case 532:
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 533;
+                  break;
+               case 533:
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 534;
+                  break;
+               case 534:
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 535;
+                  break;
+               case 536:
+               case 537:
                   if ((0x7fffffe87fffffeL & l) == 0L)
-                     break;
-                  if (kind > 245)
-                     kind = 245;
-                  jjCheckNAdd(531);
+                     break;
+                  if (kind > 247)
+                     kind = 247;
+                  jjCheckNAdd(537);
                   break;
-               case 532:
+               case 538:
                   if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 533;
+                     jjstateSet[jjnewStateCnt++] = 539;
                   break;
-               case 533:
+               case 539:
                   if ((0x20000000200000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 534;
+                     jjstateSet[jjnewStateCnt++] = 540;
                   break;
-               case 534:
+               case 540:
                   if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 535;
+                     jjstateSet[jjnewStateCnt++] = 541;
                   break;
-               case 535:
+               case 541:
                   if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 536;
+                     jjstateSet[jjnewStateCnt++] = 542;
                   break;
-               case 536:
+               case 542:
                   if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 537;
-                  break;
-               case 537:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 538;
-                  break;
-               case 541:
-                  if ((0x100000001000L & l) != 0L && kind > 246)
-                     kind = 246;
+                     jjstateSet[jjnewStateCnt++] = 543;
                   break;
                case 543:
-                  if ((0x100000001000000L & l) != 0L)
-                     jjCheckNAdd(544);
-                  break;
-               case 544:
-                  if ((0x7e0000007eL & l) == 0L)
-                     break;
-                  if (kind > 246)
-                     kind = 246;
-                  jjCheckNAddTwoStates(544, 541);
-                  break;
-               case 546:
-                  if ((0x1000000010L & l) != 0L)
-                     jjAddStates(209, 217);
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 544;
                   break;
                case 547:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 548;
-                  break;
-               case 548:
-                  if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 549;
+                  if ((0x100000001000L & l) != 0L && kind > 248)
+                     kind = 248;
                   break;
                case 549:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 550;
+                  if ((0x100000001000000L & l) != 0L)
+                     jjCheckNAdd(550);
                   break;
                case 550:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 551;
-                  break;
-               case 551:
-                  if ((0x2000000020L & l) != 0L && kind > 16)
-                     kind = 16;
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 248)
+                     kind = 248;
+                  jjCheckNAddTwoStates(550, 547);
                   break;
                case 552:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 553;
+                  if ((0x1000000010L & l) != 0L)
+                     jjAddStates(210, 218);
                   break;
                case 553:
-                  if ((0x4000000040L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 554;
                   break;
                case 554:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 555;
                   break;
                case 555:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 556;
                   break;
                case 556:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 557;
                   break;
                case 557:
-                  if ((0x1000000010L & l) != 0L && kind > 38)
-                     kind = 38;
+                  if ((0x2000000020L & l) != 0L && kind > 16)
+                     kind = 16;
                   break;
                case 558:
                   if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 559;
                   break;
                case 559:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 560;
                   break;
                case 560:
-                  if ((0x800000008L & l) != 0L && kind > 49)
-                     kind = 49;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 561;
                   break;
                case 561:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 562;
                   break;
                case 562:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 563;
                   break;
                case 563:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 564;
+                  if ((0x1000000010L & l) != 0L && kind > 38)
+                     kind = 38;
                   break;
                case 564:
-                  if ((0x10000000100L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 565;
                   break;
                case 565:
-                  if (curChar == 95)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 566;
                   break;
                case 566:
-                  if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 567;
+                  if ((0x800000008L & l) != 0L && kind > 49)
+                     kind = 49;
                   break;
                case 567:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 568;
                   break;
                case 568:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 569;
                   break;
                case 569:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 570;
                   break;
                case 570:
-                  if ((0x10000000100000L & l) != 0L && kind > 64)
-                     kind = 64;
+                  if ((0x10000000100L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 571;
                   break;
                case 571:
-                  if ((0x2000000020L & l) != 0L)
+                  if (curChar == 95)
                      jjstateSet[jjnewStateCnt++] = 572;
                   break;
                case 572:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 573;
                   break;
                case 573:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 574;
                   break;
                case 574:
@@ -3846,391 +3846,391 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 575;
                   break;
                case 575:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 576;
                   break;
                case 576:
-                  if ((0x1000000010000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 577;
+                  if ((0x10000000100000L & l) != 0L && kind > 64)
+                     kind = 64;
                   break;
                case 577:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 578;
                   break;
                case 578:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 579;
                   break;
                case 579:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 580;
                   break;
                case 580:
-                  if ((0x400000004000L & l) != 0L && kind > 97)
-                     kind = 97;
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 581;
                   break;
                case 581:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 582;
                   break;
                case 582:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 583;
                   break;
                case 583:
-                  if ((0x1000000010000L & l) != 0L && kind > 99)
-                     kind = 99;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 584;
                   break;
                case 584:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 585;
                   break;
                case 585:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 586;
                   break;
                case 586:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 587;
+                  if ((0x400000004000L & l) != 0L && kind > 97)
+                     kind = 97;
                   break;
                case 587:
-                  if ((0x400000004L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 588;
                   break;
                case 588:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 589;
                   break;
                case 589:
-                  if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 590;
+                  if ((0x1000000010000L & l) != 0L && kind > 99)
+                     kind = 99;
                   break;
                case 590:
-                  if ((0x2000000020L & l) != 0L && kind > 108)
-                     kind = 108;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 591;
                   break;
                case 591:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 592;
                   break;
                case 592:
-                  if ((0x4000000040L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 593;
                   break;
                case 593:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x400000004L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 594;
                   break;
                case 594:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 595;
                   break;
                case 595:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 596;
                   break;
                case 596:
-                  if ((0x10000000100000L & l) != 0L && kind > 133)
-                     kind = 133;
+                  if ((0x2000000020L & l) != 0L && kind > 110)
+                     kind = 110;
                   break;
                case 597:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 598;
                   break;
                case 598:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 599;
                   break;
                case 599:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 600;
                   break;
                case 600:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 601;
                   break;
                case 601:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 602;
                   break;
                case 602:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 603;
+                  if ((0x10000000100000L & l) != 0L && kind > 135)
+                     kind = 135;
                   break;
                case 603:
-                  if ((0x10000000100000L & l) != 0L && kind > 138)
-                     kind = 138;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 604;
                   break;
                case 604:
-                  if ((0x40000000400000L & l) != 0L)
-                     jjAddStates(206, 208);
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 605;
                   break;
                case 605:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 606;
                   break;
                case 606:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 607;
                   break;
                case 607:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 608;
                   break;
                case 608:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 609;
                   break;
                case 609:
-                  if ((0x100000001000000L & l) != 0L && kind > 17)
-                     kind = 17;
+                  if ((0x10000000100000L & l) != 0L && kind > 140)
+                     kind = 140;
                   break;
                case 610:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 611;
+                  if ((0x40000000400000L & l) != 0L)
+                     jjAddStates(207, 209);
                   break;
                case 611:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 612;
                   break;
                case 612:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 613;
                   break;
                case 613:
-                  if ((0x2000000020L & l) != 0L && kind > 26)
-                     kind = 26;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 614;
                   break;
                case 614:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 615;
                   break;
                case 615:
-                  if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 616;
+                  if ((0x100000001000000L & l) != 0L && kind > 17)
+                     kind = 17;
                   break;
                case 616:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 617;
                   break;
                case 617:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 618;
                   break;
                case 618:
-                  if ((0x8000000080000L & l) != 0L && kind > 27)
-                     kind = 27;
+                  if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 619;
                   break;
                case 619:
-                  if ((0x2000000020L & l) != 0L)
-                     jjAddStates(198, 205);
+                  if ((0x2000000020L & l) != 0L && kind > 26)
+                     kind = 26;
                   break;
                case 620:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 621;
                   break;
                case 621:
-                  if ((0x8000000080L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 622;
                   break;
                case 622:
-                  if ((0x2000000020L & l) != 0L && kind > 18)
-                     kind = 18;
+                  if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 623;
                   break;
                case 623:
-                  if ((0x100000001000000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 624;
                   break;
                case 624:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 625;
+                  if ((0x8000000080000L & l) != 0L && kind > 27)
+                     kind = 27;
                   break;
                case 625:
                   if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 626;
+                     jjAddStates(199, 206);
                   break;
                case 626:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 627;
                   break;
                case 627:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x8000000080L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 628;
                   break;
                case 628:
-                  if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 629;
+                  if ((0x2000000020L & l) != 0L && kind > 18)
+                     kind = 18;
                   break;
                case 629:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 630;
                   break;
                case 630:
-                  if ((0x400000004000L & l) != 0L && kind > 76)
-                     kind = 76;
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 631;
                   break;
                case 631:
-                  if ((0x100000001000000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 632;
                   break;
                case 632:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 633;
                   break;
                case 633:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 634;
                   break;
                case 634:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 635;
                   break;
                case 635:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 636;
                   break;
                case 636:
-                  if ((0x8000000080000L & l) != 0L && kind > 85)
-                     kind = 85;
+                  if ((0x400000004000L & l) != 0L && kind > 76)
+                     kind = 76;
                   break;
                case 637:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 638;
                   break;
                case 638:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 639;
                   break;
                case 639:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 640;
                   break;
                case 640:
-                  if ((0x200000002000000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 641;
                   break;
                case 641:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 642;
                   break;
                case 642:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 643;
+                  if ((0x8000000080000L & l) != 0L && kind > 85)
+                     kind = 85;
                   break;
                case 643:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 644;
                   break;
                case 644:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 645;
                   break;
                case 645:
-                  if ((0x400000004000L & l) != 0L && kind > 98)
-                     kind = 98;
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 646;
                   break;
                case 646:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x200000002000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 647;
                   break;
                case 647:
-                  if ((0x8000000080L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 648;
                   break;
                case 648:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 649;
                   break;
                case 649:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 650;
                   break;
                case 650:
-                  if ((0x2000000020L & l) != 0L && kind > 105)
-                     kind = 105;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 651;
                   break;
                case 651:
-                  if ((0x100000001000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 652;
+                  if ((0x400000004000L & l) != 0L && kind > 98)
+                     kind = 98;
                   break;
                case 652:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 653;
                   break;
                case 653:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x8000000080L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 654;
                   break;
                case 654:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 655;
                   break;
                case 655:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 656;
                   break;
                case 656:
-                  if ((0x400000004000L & l) != 0L && kind > 113)
-                     kind = 113;
+                  if ((0x2000000020L & l) != 0L && kind > 105)
+                     kind = 105;
                   break;
                case 657:
                   if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 658;
                   break;
                case 658:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 659;
                   break;
                case 659:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 660;
                   break;
                case 660:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 661;
                   break;
                case 661:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 662;
                   break;
                case 662:
-                  if ((0x2000000020L & l) != 0L && kind > 117)
-                     kind = 117;
+                  if ((0x400000004000L & l) != 0L && kind > 115)
+                     kind = 115;
                   break;
                case 663:
                   if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 664;
                   break;
                case 664:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 665;
                   break;
                case 665:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 666;
                   break;
                case 666:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 667;
                   break;
                case 667:
-                  if ((0x8000000080000L & l) != 0L && kind > 143)
-                     kind = 143;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 668;
                   break;
                case 668:
-                  if ((0x20000000200000L & l) != 0L)
-                     jjAddStates(194, 197);
+                  if ((0x2000000020L & l) != 0L && kind > 119)
+                     kind = 119;
                   break;
                case 669:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 670;
                   break;
                case 670:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 671;
                   break;
                case 671:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 672;
                   break;
                case 672:
@@ -4238,359 +4238,359 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 673;
                   break;
                case 673:
-                  if ((0x2000000020L & l) != 0L && kind > 19)
-                     kind = 19;
+                  if ((0x8000000080000L & l) != 0L && kind > 145)
+                     kind = 145;
                   break;
                case 674:
-                  if ((0x1000000010000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 675;
+                  if ((0x20000000200000L & l) != 0L)
+                     jjAddStates(195, 198);
                   break;
                case 675:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 676;
                   break;
                case 676:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 677;
                   break;
                case 677:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 678;
                   break;
                case 678:
-                  if ((0x10000000100000L & l) != 0L && kind > 20)
-                     kind = 20;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 679;
                   break;
                case 679:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 680;
+                  if ((0x2000000020L & l) != 0L && kind > 19)
+                     kind = 19;
                   break;
                case 680:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 681;
                   break;
                case 681:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 682;
                   break;
                case 682:
-                  if ((0x4000000040L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 683;
                   break;
                case 683:
-                  if ((0x2000000020L & l) != 0L && kind > 61)
-                     kind = 61;
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 684;
                   break;
                case 684:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 685;
+                  if ((0x10000000100000L & l) != 0L && kind > 20)
+                     kind = 20;
                   break;
                case 685:
-                  if ((0x80000000800000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 686;
                   break;
                case 686:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 687;
                   break;
                case 687:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 688;
                   break;
                case 688:
-                  if ((0x1000000010L & l) != 0L && kind > 69)
-                     kind = 69;
+                  if ((0x4000000040L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 689;
                   break;
                case 689:
-                  if ((0x4000000040L & l) != 0L)
-                     jjAddStates(187, 193);
+                  if ((0x2000000020L & l) != 0L && kind > 61)
+                     kind = 61;
                   break;
                case 690:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 691;
                   break;
                case 691:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x80000000800000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 692;
                   break;
                case 692:
-                  if ((0x200000002000L & l) != 0L && kind > 21)
-                     kind = 21;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 693;
                   break;
                case 693:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 694;
                   break;
                case 694:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 695;
+                  if ((0x1000000010L & l) != 0L && kind > 69)
+                     kind = 69;
                   break;
                case 695:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 696;
+                  if ((0x4000000040L & l) != 0L)
+                     jjAddStates(188, 194);
                   break;
                case 696:
-                  if ((0x10000000100L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 697;
                   break;
                case 697:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 698;
                   break;
                case 698:
-                  if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 699;
+                  if ((0x200000002000L & l) != 0L && kind > 21)
+                     kind = 21;
                   break;
                case 699:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 700;
                   break;
                case 700:
-                  if ((0x400000004000L & l) != 0L && kind > 50)
-                     kind = 50;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 701;
                   break;
                case 701:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 702;
                   break;
                case 702:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x10000000100L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 703;
                   break;
                case 703:
-                  if ((0x1000000010L & l) != 0L && kind > 83)
-                     kind = 83;
+                  if ((0x1000000010000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 704;
                   break;
                case 704:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 705;
                   break;
                case 705:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 706;
                   break;
                case 706:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 707;
+                  if ((0x400000004000L & l) != 0L && kind > 50)
+                     kind = 50;
                   break;
                case 707:
-                  if ((0x2000000020L & l) != 0L && kind > 101)
-                     kind = 101;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 708;
                   break;
                case 708:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 709;
                   break;
                case 709:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 710;
+                  if ((0x1000000010L & l) != 0L && kind > 83)
+                     kind = 83;
                   break;
                case 710:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 711;
                   break;
                case 711:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 712;
                   break;
                case 712:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 713;
                   break;
                case 713:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 714;
+                  if ((0x2000000020L & l) != 0L && kind > 101)
+                     kind = 101;
                   break;
                case 714:
-                  if ((0x400000004000L & l) != 0L && kind > 120)
-                     kind = 120;
+                  if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 715;
                   break;
                case 715:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 716;
                   break;
                case 716:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 717;
                   break;
                case 717:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 718;
                   break;
                case 718:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 719;
                   break;
                case 719:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 720;
                   break;
                case 720:
-                  if ((0x10000000100L & l) != 0L && kind > 144)
-                     kind = 144;
+                  if ((0x400000004000L & l) != 0L && kind > 122)
+                     kind = 122;
                   break;
                case 721:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 722;
                   break;
                case 722:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 723;
                   break;
                case 723:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 724;
                   break;
                case 724:
-                  if ((0x2000000020L & l) != 0L && kind > 172)
-                     kind = 172;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 725;
                   break;
                case 725:
-                  if ((0x80000000800000L & l) != 0L)
-                     jjAddStates(183, 186);
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 726;
                   break;
                case 726:
-                  if ((0x10000000100L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 727;
+                  if ((0x10000000100L & l) != 0L && kind > 146)
+                     kind = 146;
                   break;
                case 727:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 728;
                   break;
                case 728:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 729;
                   break;
                case 729:
-                  if ((0x2000000020L & l) != 0L && kind > 23)
-                     kind = 23;
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 730;
                   break;
                case 730:
-                  if ((0x10000000100L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 731;
+                  if ((0x2000000020L & l) != 0L && kind > 174)
+                     kind = 174;
                   break;
                case 731:
-                  if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 732;
+                  if ((0x80000000800000L & l) != 0L)
+                     jjAddStates(184, 187);
                   break;
                case 732:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x10000000100L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 733;
                   break;
                case 733:
-                  if ((0x2000000020L & l) != 0L && kind > 24)
-                     kind = 24;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 734;
                   break;
                case 734:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 735;
                   break;
                case 735:
-                  if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 736;
+                  if ((0x2000000020L & l) != 0L && kind > 23)
+                     kind = 23;
                   break;
                case 736:
-                  if ((0x10000000100000L & l) != 0L && kind > 56)
-                     kind = 56;
+                  if ((0x10000000100L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 737;
                   break;
                case 737:
                   if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 738;
                   break;
                case 738:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 739;
                   break;
                case 739:
-                  if ((0x10000000100L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 740;
+                  if ((0x2000000020L & l) != 0L && kind > 24)
+                     kind = 24;
                   break;
                case 740:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 741;
                   break;
                case 741:
-                  if ((0x400000004000L & l) != 0L && kind > 68)
-                     kind = 68;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 742;
                   break;
                case 742:
-                  if ((0x200000002L & l) != 0L)
-                     jjAddStates(174, 182);
+                  if ((0x10000000100000L & l) != 0L && kind > 56)
+                     kind = 56;
                   break;
                case 743:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 744;
                   break;
                case 744:
-                  if ((0x1000000010L & l) != 0L && kind > 29)
-                     kind = 29;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 745;
                   break;
                case 745:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x10000000100L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 746;
                   break;
                case 746:
-                  if ((0x1000000010L & l) != 0L && kind > 35)
-                     kind = 35;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 747;
                   break;
                case 747:
-                  if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 748;
+                  if ((0x400000004000L & l) != 0L && kind > 68)
+                     kind = 68;
                   break;
                case 748:
-                  if ((0x800000008L & l) != 0L && kind > 47)
-                     kind = 47;
+                  if ((0x200000002L & l) != 0L)
+                     jjAddStates(174, 183);
                   break;
                case 749:
-                  if ((0x8000000080000L & l) != 0L && kind > 48)
-                     kind = 48;
+                  if ((0x1000000010L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 750;
                   break;
                case 750:
-                  if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 751;
+                  if ((0x1000000010L & l) != 0L && kind > 29)
+                     kind = 29;
                   break;
                case 751:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 752;
                   break;
                case 752:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 753;
+                  if ((0x1000000010L & l) != 0L && kind > 35)
+                     kind = 35;
                   break;
                case 753:
-                  if ((0x4000000040000L & l) != 0L && kind > 53)
-                     kind = 53;
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 754;
                   break;
                case 754:
-                  if ((0x400000004L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 755;
+                  if ((0x800000008L & l) != 0L && kind > 47)
+                     kind = 47;
                   break;
                case 755:
-                  if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 756;
+                  if ((0x8000000080000L & l) != 0L && kind > 48)
+                     kind = 48;
                   break;
                case 756:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 757;
                   break;
                case 757:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 758;
                   break;
                case 758:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 759;
                   break;
                case 759:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 760;
+                  if ((0x4000000040000L & l) != 0L && kind > 53)
+                     kind = 53;
                   break;
                case 760:
-                  if ((0x10000000100000L & l) != 0L && kind > 87)
-                     kind = 87;
+                  if ((0x400000004L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 761;
                   break;
                case 761:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 762;
                   break;
                case 762:
@@ -4598,75 +4598,75 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 763;
                   break;
                case 763:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 764;
                   break;
                case 764:
-                  if ((0x4000000040000L & l) != 0L && kind > 88)
-                     kind = 88;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 765;
                   break;
                case 765:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 766;
                   break;
                case 766:
-                  if ((0x1000000010L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 767;
+                  if ((0x10000000100000L & l) != 0L && kind > 87)
+                     kind = 87;
                   break;
                case 767:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 768;
                   break;
                case 768:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 769;
                   break;
                case 769:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 770;
                   break;
                case 770:
-                  if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 771;
+                  if ((0x4000000040000L & l) != 0L && kind > 88)
+                     kind = 88;
                   break;
                case 771:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 772;
                   break;
                case 772:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 773;
                   break;
                case 773:
-                  if ((0x4000000040000L & l) != 0L && kind > 93)
-                     kind = 93;
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 774;
                   break;
                case 774:
                   if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 775;
                   break;
                case 775:
-                  if ((0x100000001000L & l) != 0L && kind > 118)
-                     kind = 118;
+                  if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 776;
                   break;
                case 776:
-                  if ((0x1000000010000L & l) != 0L)
-                     jjAddStates(168, 173);
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 777;
                   break;
                case 777:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 778;
                   break;
                case 778:
-                  if ((0x10000000100000L & l) != 0L && kind > 30)
-                     kind = 30;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 779;
                   break;
                case 779:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 780;
+                  if ((0x4000000040000L & l) != 0L && kind > 93)
+                     kind = 93;
                   break;
                case 780:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 781;
                   break;
                case 781:
@@ -4678,295 +4678,295 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 783;
                   break;
                case 783:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x200000002000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 784;
                   break;
                case 784:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x400000004000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 785;
                   break;
                case 785:
-                  if ((0x100000001000L & l) != 0L && kind > 62)
-                     kind = 62;
+                  if ((0x2000000020L & l) != 0L && kind > 108)
+                     kind = 108;
                   break;
                case 786:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 787;
                   break;
                case 787:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 788;
+                  if ((0x100000001000L & l) != 0L && kind > 120)
+                     kind = 120;
                   break;
                case 788:
-                  if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 789;
+                  if ((0x1000000010000L & l) != 0L)
+                     jjAddStates(168, 173);
                   break;
                case 789:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 790;
                   break;
                case 790:
-                  if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 791;
+                  if ((0x10000000100000L & l) != 0L && kind > 30)
+                     kind = 30;
                   break;
                case 791:
-                  if ((0x2000000020L & l) != 0L && kind > 77)
-                     kind = 77;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 792;
                   break;
                case 792:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 793;
                   break;
                case 793:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 794;
                   break;
                case 794:
-                  if ((0x200000002000000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 795;
                   break;
                case 795:
-                  if ((0x200000002000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 796;
                   break;
                case 796:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 797;
                   break;
                case 797:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 798;
+                  if ((0x100000001000L & l) != 0L && kind > 62)
+                     kind = 62;
                   break;
                case 798:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 799;
                   break;
                case 799:
-                  if ((0x10000000100L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 800;
                   break;
                case 800:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 801;
                   break;
                case 801:
-                  if ((0x800000008L & l) != 0L && kind > 82)
-                     kind = 82;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 802;
                   break;
                case 802:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 803;
                   break;
                case 803:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 804;
+                  if ((0x2000000020L & l) != 0L && kind > 77)
+                     kind = 77;
                   break;
                case 804:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 805;
                   break;
                case 805:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 806;
                   break;
                case 806:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x200000002000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 807;
                   break;
                case 807:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 808;
                   break;
                case 808:
-                  if ((0x200000002000000L & l) != 0L && kind > 100)
-                     kind = 100;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 809;
                   break;
                case 809:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 810;
                   break;
                case 810:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 811;
                   break;
                case 811:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x10000000100L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 812;
                   break;
                case 812:
-                  if ((0x200000002000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 813;
                   break;
                case 813:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 814;
+                  if ((0x800000008L & l) != 0L && kind > 82)
+                     kind = 82;
                   break;
                case 814:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 815;
                   break;
                case 815:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 816;
                   break;
                case 816:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 817;
                   break;
                case 817:
-                  if ((0x8000000080000L & l) != 0L && kind > 121)
-                     kind = 121;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 818;
                   break;
                case 818:
                   if ((0x4000000040000L & l) != 0L)
-                     jjAddStates(158, 167);
+                     jjstateSet[jjnewStateCnt++] = 819;
+                  break;
+               case 819:
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 820;
                   break;
                case 820:
-                  if ((0x200000002000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 821;
+                  if ((0x200000002000000L & l) != 0L && kind > 100)
+                     kind = 100;
                   break;
                case 821:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 822;
                   break;
                case 822:
-                  if ((0x40000000400000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 823;
                   break;
                case 823:
-                  if ((0x2000000020L & l) != 0L && kind > 33)
-                     kind = 33;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 824;
                   break;
                case 824:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 825;
                   break;
                case 825:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 826;
                   break;
                case 826:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 827;
                   break;
                case 827:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 828;
                   break;
                case 828:
-                  if ((0x400000004000L & l) != 0L && kind > 51)
-                     kind = 51;
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 829;
                   break;
                case 829:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 830;
+                  if ((0x8000000080000L & l) != 0L && kind > 123)
+                     kind = 123;
                   break;
                case 830:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 831;
-                  break;
-               case 831:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 832;
+                  if ((0x4000000040000L & l) != 0L)
+                     jjAddStates(158, 167);
                   break;
                case 832:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 833;
                   break;
                case 833:
-                  if ((0x1000000010L & l) != 0L && kind > 55)
-                     kind = 55;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 834;
                   break;
                case 834:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x40000000400000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 835;
                   break;
                case 835:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 836;
+                  if ((0x2000000020L & l) != 0L && kind > 33)
+                     kind = 33;
                   break;
                case 836:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 837;
                   break;
                case 837:
-                  if ((0x200000002000000L & l) != 0L && kind > 57)
-                     kind = 57;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 838;
                   break;
                case 838:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 839;
                   break;
                case 839:
-                  if ((0x4000000040L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 840;
                   break;
                case 840:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 841;
+                  if ((0x400000004000L & l) != 0L && kind > 51)
+                     kind = 51;
                   break;
                case 841:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 842;
                   break;
                case 842:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 843;
                   break;
                case 843:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 844;
                   break;
                case 844:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 845;
                   break;
                case 845:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 846;
+                  if ((0x1000000010L & l) != 0L && kind > 55)
+                     kind = 55;
                   break;
                case 846:
-                  if ((0x8000000080000L & l) != 0L && kind > 84)
-                     kind = 84;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 847;
                   break;
                case 847:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 848;
                   break;
                case 848:
-                  if ((0x200000002000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 849;
                   break;
                case 849:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 850;
+                  if ((0x200000002000000L & l) != 0L && kind > 57)
+                     kind = 57;
                   break;
                case 850:
-                  if ((0x40000000400000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 851;
                   break;
                case 851:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 852;
                   break;
                case 852:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 853;
                   break;
                case 853:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 854;
                   break;
                case 854:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 855;
                   break;
                case 855:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 856;
                   break;
                case 856:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 857;
                   break;
                case 857:
@@ -4974,207 +4974,207 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 858;
                   break;
                case 858:
-                  if ((0x4000000040000L & l) != 0L && kind > 94)
-                     kind = 94;
+                  if ((0x8000000080000L & l) != 0L && kind > 84)
+                     kind = 84;
                   break;
                case 859:
                   if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 860;
                   break;
                case 860:
-                  if ((0x400000004L & l) != 0L)
+                  if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 861;
                   break;
                case 861:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 862;
                   break;
                case 862:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x40000000400000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 863;
                   break;
                case 863:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 864;
                   break;
                case 864:
-                  if ((0x1000000010L & l) != 0L && kind > 106)
-                     kind = 106;
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 865;
                   break;
                case 865:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 866;
                   break;
                case 866:
-                  if ((0x40000000400000L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 867;
                   break;
                case 867:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 868;
                   break;
                case 868:
-                  if ((0x80000000800L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 869;
                   break;
                case 869:
-                  if ((0x2000000020L & l) != 0L && kind > 115)
-                     kind = 115;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 870;
                   break;
                case 870:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 871;
+                  if ((0x4000000040000L & l) != 0L && kind > 94)
+                     kind = 94;
                   break;
                case 871:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 872;
                   break;
                case 872:
-                  if ((0x1000000010L & l) != 0L && kind > 116)
-                     kind = 116;
+                  if ((0x400000004L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 873;
                   break;
                case 873:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 874;
                   break;
+               case 874:
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 875;
+                  break;
                case 875:
                   if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 876;
                   break;
                case 876:
-                  if ((0x400000004L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 877;
+                  if ((0x1000000010L & l) != 0L && kind > 107)
+                     kind = 107;
                   break;
                case 877:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 878;
                   break;
                case 878:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x40000000400000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 879;
                   break;
                case 879:
-                  if ((0x80000000800L & l) != 0L && kind > 126)
-                     kind = 126;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 880;
                   break;
                case 880:
-                  if ((0x800000008000L & l) != 0L)
-                     jjAddStates(150, 157);
+                  if ((0x80000000800L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 881;
                   break;
                case 881:
-                  if ((0x4000000040000L & l) != 0L && kind > 36)
-                     kind = 36;
+                  if ((0x2000000020L & l) != 0L && kind > 117)
+                     kind = 117;
                   break;
                case 882:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 883;
                   break;
                case 883:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 884;
                   break;
                case 884:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 885;
+                  if ((0x1000000010L & l) != 0L && kind > 118)
+                     kind = 118;
                   break;
                case 885:
-                  if ((0x4000000040000L & l) != 0L && kind > 39)
-                     kind = 39;
-                  break;
-               case 886:
-                  if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 887;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 886;
                   break;
                case 887:
-                  if ((0x4000000040L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 888;
                   break;
                case 888:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x400000004L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 889;
                   break;
                case 889:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 890;
                   break;
                case 890:
-                  if ((0x10000000100000L & l) != 0L && kind > 45)
-                     kind = 45;
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 891;
                   break;
                case 891:
-                  if ((0x400000004000L & l) != 0L && kind > 79)
-                     kind = 79;
+                  if ((0x80000000800L & l) != 0L && kind > 128)
+                     kind = 128;
                   break;
                case 892:
-                  if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 893;
+                  if ((0x800000008000L & l) != 0L)
+                     jjAddStates(150, 157);
                   break;
                case 893:
-                  if ((0x4000000040L & l) != 0L && kind > 80)
-                     kind = 80;
+                  if ((0x4000000040000L & l) != 0L && kind > 36)
+                     kind = 36;
                   break;
                case 894:
-                  if ((0x40000000400000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 895;
                   break;
                case 895:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 896;
                   break;
                case 896:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 897;
                   break;
                case 897:
-                  if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 898;
+                  if ((0x4000000040000L & l) != 0L && kind > 39)
+                     kind = 39;
                   break;
                case 898:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 899;
                   break;
                case 899:
-                  if ((0x400000004000000L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 900;
                   break;
                case 900:
-                  if ((0x2000000020L & l) != 0L && kind > 91)
-                     kind = 91;
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 901;
                   break;
                case 901:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 902;
                   break;
                case 902:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 903;
+                  if ((0x10000000100000L & l) != 0L && kind > 45)
+                     kind = 45;
                   break;
                case 903:
-                  if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 904;
+                  if ((0x400000004000L & l) != 0L && kind > 79)
+                     kind = 79;
                   break;
                case 904:
-                  if ((0x200000002000L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 905;
                   break;
                case 905:
-                  if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 906;
+                  if ((0x4000000040L & l) != 0L && kind > 80)
+                     kind = 80;
                   break;
                case 906:
-                  if ((0x400000004000000L & l) != 0L)
+                  if ((0x40000000400000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 907;
                   break;
                case 907:
-                  if ((0x2000000020L & l) != 0L && kind > 109)
-                     kind = 109;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 908;
                   break;
                case 908:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 909;
                   break;
                case 909:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 910;
                   break;
                case 910:
@@ -5182,199 +5182,199 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 911;
                   break;
                case 911:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x400000004000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 912;
                   break;
                case 912:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 913;
+                  if ((0x2000000020L & l) != 0L && kind > 91)
+                     kind = 91;
                   break;
                case 913:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 914;
                   break;
                case 914:
-                  if ((0x100000001000L & l) != 0L && kind > 136)
-                     kind = 136;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 915;
                   break;
                case 915:
-                  if ((0x400000004000L & l) != 0L)
-                     jjAddStates(144, 149);
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 916;
                   break;
                case 916:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 917;
                   break;
                case 917:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 918;
                   break;
                case 918:
-                  if ((0x100000001000L & l) != 0L && kind > 37)
-                     kind = 37;
+                  if ((0x400000004000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 919;
                   break;
                case 919:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 920;
+                  if ((0x2000000020L & l) != 0L && kind > 111)
+                     kind = 111;
                   break;
                case 920:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 921;
                   break;
                case 921:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 922;
                   break;
                case 922:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 923;
                   break;
                case 923:
-                  if ((0x10000000100L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 924;
                   break;
                case 924:
-                  if ((0x2000000020L & l) != 0L && kind > 60)
-                     kind = 60;
+                  if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 925;
                   break;
                case 925:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 926;
                   break;
                case 926:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 927;
+                  if ((0x100000001000L & l) != 0L && kind > 138)
+                     kind = 138;
                   break;
                case 927:
-                  if ((0x4000000040000L & l) != 0L && kind > 67)
-                     kind = 67;
+                  if ((0x400000004000L & l) != 0L)
+                     jjAddStates(144, 149);
                   break;
                case 928:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 929;
                   break;
                case 929:
-                  if ((0x200000002000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 930;
                   break;
                case 930:
-                  if ((0x2000000020L & l) != 0L && kind > 89)
-                     kind = 89;
+                  if ((0x100000001000L & l) != 0L && kind > 37)
+                     kind = 37;
                   break;
                case 931:
                   if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 932;
                   break;
                case 932:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 933;
                   break;
                case 933:
-                  if ((0x2000000020L & l) != 0L && kind > 119)
-                     kind = 119;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 934;
                   break;
                case 934:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 935;
                   break;
                case 935:
-                  if ((0x10000000100000L & l) != 0L && kind > 225)
-                     kind = 225;
+                  if ((0x10000000100L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 936;
                   break;
                case 936:
-                  if ((0x8000000080L & l) != 0L)
-                     jjAddStates(142, 143);
+                  if ((0x2000000020L & l) != 0L && kind > 60)
+                     kind = 60;
                   break;
                case 937:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 938;
                   break;
                case 938:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 939;
                   break;
                case 939:
-                  if ((0x20000000200000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 940;
+                  if ((0x4000000040000L & l) != 0L && kind > 67)
+                     kind = 67;
                   break;
                case 940:
-                  if ((0x1000000010000L & l) != 0L && kind > 40)
-                     kind = 40;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 941;
                   break;
                case 941:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 942;
                   break;
                case 942:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 943;
+                  if ((0x2000000020L & l) != 0L && kind > 89)
+                     kind = 89;
                   break;
                case 943:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 944;
                   break;
                case 944:
-                  if ((0x10000000100000L & l) != 0L && kind > 114)
-                     kind = 114;
+                  if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 945;
                   break;
                case 945:
-                  if ((0x400000004L & l) != 0L)
-                     jjAddStates(135, 141);
+                  if ((0x2000000020L & l) != 0L && kind > 121)
+                     kind = 121;
                   break;
                case 946:
-                  if ((0x200000002000000L & l) != 0L && kind > 41)
-                     kind = 41;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 947;
                   break;
                case 947:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 948;
+                  if ((0x10000000100000L & l) != 0L && kind > 227)
+                     kind = 227;
                   break;
                case 948:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 949;
+                  if ((0x8000000080L & l) != 0L)
+                     jjAddStates(142, 143);
                   break;
                case 949:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 950;
                   break;
                case 950:
-                  if ((0x10000000100L & l) != 0L && kind > 44)
-                     kind = 44;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 951;
                   break;
                case 951:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 952;
                   break;
                case 952:
-                  if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 953;
+                  if ((0x1000000010000L & l) != 0L && kind > 40)
+                     kind = 40;
                   break;
                case 953:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 954;
                   break;
                case 954:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 955;
                   break;
                case 955:
-                  if ((0x2000000020L & l) != 0L && kind > 52)
-                     kind = 52;
+                  if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 956;
                   break;
                case 956:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 957;
+                  if ((0x10000000100000L & l) != 0L && kind > 116)
+                     kind = 116;
                   break;
                case 957:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 958;
+                  if ((0x400000004L & l) != 0L)
+                     jjAddStates(135, 141);
                   break;
                case 958:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 959;
+                  if ((0x200000002000000L & l) != 0L && kind > 41)
+                     kind = 41;
                   break;
                case 959:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 960;
                   break;
                case 960:
@@ -5382,416 +5382,445 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 961;
                   break;
                case 961:
-                  if ((0x10000000100L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 962;
                   break;
                case 962:
-                  if (curChar == 95)
-                     jjstateSet[jjnewStateCnt++] = 963;
+                  if ((0x10000000100L & l) != 0L && kind > 44)
+                     kind = 44;
                   break;
                case 963:
-                  if ((0x4000000040L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 964;
                   break;
                case 964:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 965;
                   break;
                case 965:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 966;
                   break;
                case 966:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 967;
                   break;
                case 967:
-                  if ((0x10000000100000L & l) != 0L && kind > 65)
-                     kind = 65;
+                  if ((0x2000000020L & l) != 0L && kind > 52)
+                     kind = 52;
                   break;
                case 968:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 969;
                   break;
                case 969:
-                  if ((0x8000000080L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 970;
                   break;
                case 970:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 971;
                   break;
                case 971:
-                  if ((0x400000004000L & l) != 0L && kind > 124)
-                     kind = 124;
+                  if ((0x1000000010L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 972;
                   break;
                case 972:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 973;
                   break;
                case 973:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x10000000100L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 974;
                   break;
                case 974:
-                  if ((0x400000004L & l) != 0L && kind > 131)
-                     kind = 131;
+                  if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 975;
                   break;
                case 975:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 976;
                   break;
                case 976:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 977;
                   break;
                case 977:
-                  if ((0x80000000800000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 978;
                   break;
                case 978:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 979;
                   break;
                case 979:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 980;
+                  if ((0x10000000100000L & l) != 0L && kind > 65)
+                     kind = 65;
                   break;
                case 980:
-                  if ((0x400000004000L & l) != 0L && kind > 229)
-                     kind = 229;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 981;
                   break;
                case 981:
-                  if ((0x100000001000L & l) != 0L)
-                     jjAddStates(128, 134);
+                  if ((0x8000000080L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 982;
                   break;
                case 982:
                   if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 983;
                   break;
                case 983:
-                  if ((0x200000002000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 984;
+                  if ((0x400000004000L & l) != 0L && kind > 126)
+                     kind = 126;
                   break;
                case 984:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 985;
                   break;
                case 985:
-                  if ((0x10000000100000L & l) != 0L && kind > 42)
-                     kind = 42;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 986;
                   break;
                case 986:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 987;
+                  if ((0x400000004L & l) != 0L && kind > 133)
+                     kind = 133;
                   break;
                case 987:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 988;
                   break;
                case 988:
-                  if ((0x80000000800L & l) != 0L && kind > 54)
-                     kind = 54;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 989;
                   break;
                case 989:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x80000000800000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 990;
                   break;
                case 990:
-                  if ((0x10000000100000L & l) != 0L && kind > 58)
-                     kind = 58;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 991;
                   break;
                case 991:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 992;
                   break;
                case 992:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 993;
+                  if ((0x400000004000L & l) != 0L && kind > 231)
+                     kind = 231;
                   break;
                case 993:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 994;
+                  if ((0x100000001000L & l) != 0L)
+                     jjAddStates(128, 134);
                   break;
                case 994:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 995;
                   break;
                case 995:
-                  if ((0x2000000020L & l) != 0L && kind > 66)
-                     kind = 66;
+                  if ((0x200000002000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 996;
                   break;
                case 996:
                   if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 997;
                   break;
                case 997:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 998;
+                  if ((0x10000000100000L & l) != 0L && kind > 42)
+                     kind = 42;
                   break;
                case 998:
-                  if ((0x80000000800L & l) != 0L && kind > 110)
-                     kind = 110;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 999;
                   break;
                case 999:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1000;
                   break;
                case 1000:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1001;
+                  if ((0x80000000800L & l) != 0L && kind > 54)
+                     kind = 54;
                   break;
                case 1001:
-                  if ((0x8000000080L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1002;
                   break;
                case 1002:
-                  if ((0x20000000200000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1003;
+                  if ((0x10000000100000L & l) != 0L && kind > 58)
+                     kind = 58;
                   break;
                case 1003:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1004;
                   break;
                case 1004:
-                  if ((0x8000000080L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1005;
                   break;
                case 1005:
-                  if ((0x2000000020L & l) != 0L && kind > 123)
-                     kind = 123;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1006;
                   break;
                case 1006:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1007;
                   break;
                case 1007:
-                  if ((0x80000000800L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1008;
+                  if ((0x2000000020L & l) != 0L && kind > 66)
+                     kind = 66;
                   break;
                case 1008:
-                  if ((0x2000000020L & l) != 0L && kind > 227)
-                     kind = 227;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1009;
                   break;
                case 1009:
-                  if (curChar == 64)
-                     jjAddStates(117, 127);
+                  if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1010;
+                  break;
+               case 1010:
+                  if ((0x80000000800L & l) != 0L && kind > 112)
+                     kind = 112;
                   break;
                case 1011:
-                  if ((0x10000000100L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1012;
                   break;
                case 1012:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1013;
                   break;
                case 1013:
-                  if ((0x8000000080000L & l) != 0L && kind > 146)
-                     kind = 146;
+                  if ((0x8000000080L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1014;
                   break;
                case 1014:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1015;
                   break;
                case 1015:
-               case 1043:
-                  if ((0x20000000200L & l) != 0L)
-                     jjCheckNAdd(1016);
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1016;
                   break;
                case 1016:
-                  if ((0x1000000010L & l) != 0L && kind > 147)
-                     kind = 147;
+                  if ((0x8000000080L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1017;
                   break;
                case 1017:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1018;
+                  if ((0x2000000020L & l) != 0L && kind > 125)
+                     kind = 125;
                   break;
                case 1018:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1019;
                   break;
                case 1019:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x80000000800L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1020;
                   break;
                case 1020:
-                  if ((0x8000000080000L & l) != 0L)
-                     jjCheckNAdd(1021);
+                  if ((0x2000000020L & l) != 0L && kind > 229)
+                     kind = 229;
                   break;
                case 1021:
-                  if ((0x8000000080000L & l) != 0L && kind > 147)
-                     kind = 147;
-                  break;
-               case 1022:
-                  if ((0x40000000400000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1023;
+                  if (curChar == 64)
+                     jjAddStates(117, 127);
                   break;
                case 1023:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1024;
                   break;
                case 1024:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1025;
                   break;
                case 1025:
-                  if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1026;
+                  if ((0x8000000080000L & l) != 0L && kind > 148)
+                     kind = 148;
                   break;
                case 1026:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1027;
                   break;
                case 1027:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1028;
+               case 1055:
+                  if ((0x20000000200L & l) != 0L)
+                     jjCheckNAdd(1028);
                   break;
                case 1028:
-                  if ((0x400000004000L & l) != 0L && kind > 147)
-                     kind = 147;
+                  if ((0x1000000010L & l) != 0L && kind > 149)
+                     kind = 149;
                   break;
                case 1029:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1030;
                   break;
                case 1030:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1031;
                   break;
                case 1031:
-                  if ((0x400000004000000L & l) != 0L)
-                     jjCheckNAdd(1032);
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1032;
                   break;
                case 1032:
-                  if ((0x2000000020L & l) != 0L && kind > 147)
-                     kind = 147;
+                  if ((0x8000000080000L & l) != 0L)
+                     jjCheckNAdd(1033);
                   break;
                case 1033:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1034;
+                  if ((0x8000000080000L & l) != 0L && kind > 149)
+                     kind = 149;
                   break;
                case 1034:
-                  if ((0x200000002000000L & l) != 0L)
+                  if ((0x40000000400000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1035;
                   break;
                case 1035:
-                  if ((0x1000000010000L & l) != 0L)
-                     jjCheckNAdd(1032);
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1036;
                   break;
                case 1036:
                   if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1037;
                   break;
                case 1037:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1038;
                   break;
                case 1038:
-                  if ((0x80000000800000L & l) != 0L && kind > 147)
-                     kind = 147;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1039;
                   break;
                case 1039:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1040;
                   break;
                case 1040:
-                  if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1041;
+                  if ((0x400000004000L & l) != 0L && kind > 149)
+                     kind = 149;
                   break;
                case 1041:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1042;
                   break;
                case 1042:
-                  if (curChar == 95)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1043;
                   break;
+               case 1043:
+                  if ((0x400000004000000L & l) != 0L)
+                     jjCheckNAdd(1044);
+                  break;
                case 1044:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1045;
+                  if ((0x2000000020L & l) != 0L && kind > 149)
+                     kind = 149;
                   break;
                case 1045:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1046;
                   break;
                case 1046:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x200000002000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1047;
                   break;
                case 1047:
-                  if (curChar == 95)
-                     jjstateSet[jjnewStateCnt++] = 1048;
+                  if ((0x1000000010000L & l) != 0L)
+                     jjCheckNAdd(1044);
                   break;
                case 1048:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1049;
                   break;
                case 1049:
-                  if ((0x800000008000L & l) != 0L)
-                     jjCheckNAdd(1021);
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1050;
                   break;
                case 1050:
-                  if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1051;
+                  if ((0x80000000800000L & l) != 0L && kind > 149)
+                     kind = 149;
                   break;
                case 1051:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1052;
                   break;
                case 1052:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1053;
                   break;
                case 1053:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1054;
                   break;
                case 1054:
-                  if ((0x1000000010L & l) != 0L)
-                     jjCheckNAdd(1021);
-                  break;
-               case 1055:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1056;
+                  if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 1055;
                   break;
                case 1056:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1057;
                   break;
                case 1057:
-                  if ((0x1000000010L & l) != 0L && kind > 148)
-                     kind = 148;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1058;
+                  break;
+               case 1058:
+                  if ((0x1000000010L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1059;
+                  break;
+               case 1059:
+                  if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 1060;
                   break;
                case 1060:
-                  if ((0x100000001000L & l) != 0L && kind > 158)
-                     kind = 158;
+                  if ((0x1000000010000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1061;
+                  break;
+               case 1061:
+                  if ((0x800000008000L & l) != 0L)
+                     jjCheckNAdd(1033);
                   break;
                case 1062:
+                  if ((0x4000000040L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1063;
+                  break;
+               case 1063:
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1064;
+                  break;
+               case 1064:
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1065;
+                  break;
+               case 1065:
                   if ((0x100000001000L & l) != 0L)
-                     jjCheckNAdd(1072);
+                     jjstateSet[jjnewStateCnt++] = 1066;
+                  break;
+               case 1066:
+                  if ((0x1000000010L & l) != 0L)
+                     jjCheckNAdd(1033);
                   break;
                case 1067:
-                  if ((0x100000001000L & l) != 0L && kind > 169)
-                     kind = 169;
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1068;
+                  break;
+               case 1068:
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1069;
                   break;
                case 1069:
-                  if ((0x100000001000000L & l) != 0L)
-                     jjCheckNAdd(1070);
+                  if ((0x1000000010L & l) != 0L && kind > 150)
+                     kind = 150;
                   break;
-               case 1070:
-                  if ((0x7e0000007eL & l) == 0L)
-                     break;
-                  if (kind > 169)
-                     kind = 169;
-                  jjCheckNAddTwoStates(1070, 1067);
+               case 1072:
+                  if ((0x100000001000L & l) != 0L && kind > 160)
+                     kind = 160;
                   break;
                case 1074:
                   if ((0x100000001000L & l) != 0L)
-                     jjCheckNAdd(1085);
+                     jjCheckNAdd(1084);
                   break;
                case 1079:
-                  if ((0x100000001000L & l) != 0L && kind > 170)
-                     kind = 170;
+                  if ((0x100000001000L & l) != 0L && kind > 171)
+                     kind = 171;
                   break;
                case 1081:
                   if ((0x100000001000000L & l) != 0L)
@@ -5800,88 +5829,107 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 1082:
                   if ((0x7e0000007eL & l) == 0L)
                      break;
-                  if (kind > 170)
-                     kind = 170;
+                  if (kind > 171)
+                     kind = 171;
                   jjCheckNAddTwoStates(1082, 1079);
                   break;
-               case 1087:
+               case 1086:
+                  if ((0x100000001000L & l) != 0L)
+                     jjCheckNAdd(1097);
+                  break;
+               case 1091:
+                  if ((0x100000001000L & l) != 0L && kind > 172)
+                     kind = 172;
+                  break;
+               case 1093:
+                  if ((0x100000001000000L & l) != 0L)
+                     jjCheckNAdd(1094);
+                  break;
+               case 1094:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 172)
+                     kind = 172;
+                  jjCheckNAddTwoStates(1094, 1091);
+                  break;
+               case 1099:
                   if ((0xffffffffefffffffL & l) != 0L)
-                     jjCheckNAdd(1088);
+                     jjCheckNAdd(1100);
                   break;
-               case 1089:
+               case 1101:
                   if (curChar == 92)
-                     jjAddStates(293, 295);
+                     jjAddStates(295, 297);
                   break;
-               case 1090:
+               case 1102:
                   if ((0x14404410000000L & l) != 0L)
-                     jjCheckNAdd(1088);
+                     jjCheckNAdd(1100);
                   break;
-               case 1095:
+               case 1107:
                   if ((0xffffffffefffffffL & l) != 0L)
                      jjCheckNAddStates(93, 95);
                   break;
-               case 1096:
+               case 1108:
                   if (curChar == 92)
-                     jjAddStates(296, 298);
+                     jjAddStates(298, 300);
                   break;
-               case 1097:
+               case 1109:
                   if ((0x14404410000000L & l) != 0L)
                      jjCheckNAddStates(93, 95);
                   break;
-               case 1107:
+               case 1119:
                   if ((0x100000001000000L & l) != 0L)
-                     jjCheckNAdd(1108);
+                     jjCheckNAdd(1120);
                   break;
-               case 1108:
+               case 1120:
                   if ((0x7e0000007eL & l) != 0L)
                      jjCheckNAddStates(100, 102);
                   break;
-               case 1111:
+               case 1123:
                   if ((0x100000001000000L & l) != 0L)
-                     jjCheckNAdd(1112);
+                     jjCheckNAdd(1124);
                   break;
-               case 1112:
+               case 1124:
                   if ((0x7e0000007eL & l) != 0L)
                      jjCheckNAddStates(106, 108);
                   break;
-               case 1115:
+               case 1127:
                   if ((0x100000001000000L & l) != 0L)
-                     jjCheckNAdd(1116);
+                     jjCheckNAdd(1128);
                   break;
-               case 1116:
+               case 1128:
                   if ((0x7e0000007eL & l) == 0L)
                      break;
-                  if (kind > 158)
-                     kind = 158;
-                  jjCheckNAddTwoStates(1116, 1060);
+                  if (kind > 160)
+                     kind = 160;
+                  jjCheckNAddTwoStates(1128, 1072);
                   break;
-               case 1118:
+               case 1130:
                   if ((0x100000001000000L & l) != 0L)
-                     jjCheckNAddTwoStates(1119, 1120);
+                     jjCheckNAddTwoStates(1131, 1132);
                   break;
-               case 1119:
+               case 1131:
                   if ((0x7e0000007eL & l) != 0L)
-                     jjCheckNAddTwoStates(1119, 1120);
+                     jjCheckNAddTwoStates(1131, 1132);
                   break;
-               case 1121:
+               case 1133:
                   if ((0x7e0000007eL & l) != 0L)
-                     jjAddStates(299, 300);
+                     jjAddStates(301, 302);
                   break;
-               case 1122:
+               case 1134:
                   if ((0x1000000010000L & l) != 0L)
-                     jjAddStates(301, 302);
+                     jjAddStates(303, 304);
                   break;
-               case 1125:
+               case 1137:
                   if ((0x100000001000000L & l) != 0L)
-                     jjCheckNAdd(1126);
+                     jjCheckNAdd(1138);
                   break;
-               case 1126:
+               case 1138:
                   if ((0x7e0000007eL & l) != 0L)
                      jjCheckNAddStates(114, 116);
                   break;
-               case 1128:
+               case 1140:
                   if ((0x1000000010000L & l) != 0L)
-                     jjAddStates(303, 304);
+                     jjAddStates(305, 306);
                   break;
                default : break;
             }
@@ -5909,13 +5957,13 @@ private int jjMoveNfa_0(int startState, int curPos)
                   break;
                case 19:
                   if (jjCanMove_0(hiByte, i1, i2, l1, l2))
-                     jjAddStates(33, 35);
+                     jjAddStates(19, 21);
                   break;
-               case 1087:
+               case 1099:
                   if (jjCanMove_0(hiByte, i1, i2, l1, l2))
-                     jjstateSet[jjnewStateCnt++] = 1088;
+                     jjstateSet[jjnewStateCnt++] = 1100;
                   break;
-               case 1095:
+               case 1107:
                   if (jjCanMove_0(hiByte, i1, i2, l1, l2))
                      jjAddStates(93, 95);
                   break;
@@ -5930,7 +5978,7 @@ private int jjMoveNfa_0(int startState, int curPos)
          kind = 0x7fffffff;
       }
       ++curPos;
-      if ((i = jjnewStateCnt) == (startsAt = 1131 - (jjnewStateCnt = startsAt)))
+      if ((i = jjnewStateCnt) == (startsAt = 1143 - (jjnewStateCnt = startsAt)))
          return curPos;
       try { curChar = input_stream.readChar(); }
       catch(java.io.IOException e) { return curPos; }
@@ -5991,26 +6039,26 @@ private int jjMoveStringLiteralDfa1_1(long active0)
    return 2;
 }
 static final int[] jjnextStates = {
-   33, 35, 36, 1073, 1074, 1085, 1111, 1113, 1062, 1072, 1061, 1062, 1072, 1107, 1109, 1074, 
-   1085, 54, 55, 17, 58, 59, 62, 63, 1104, 1105, 1106, 1110, 1087, 1089, 1095, 1096, 
-   1098, 19, 20, 22, 1059, 1060, 1061, 1062, 1072, 1073, 1074, 1085, 1115, 1117, 1060, 1118, 
-   1125, 1111, 1113, 1062, 1072, 1107, 1109, 1074, 1085, 13, 14, 17, 19, 20, 24, 22, 
-   54, 55, 17, 64, 65, 17, 321, 302, 356, 337, 392, 373, 539, 542, 543, 545, 
-   541, 1064, 1065, 1068, 1069, 1071, 1067, 1076, 1077, 1080, 1081, 1083, 1079, 1095, 1096, 1098, 
-   1095, 1096, 1100, 1098, 1108, 1074, 1085, 1109, 1074, 1085, 1112, 1062, 1072, 1113, 1062, 1072, 
-   1119, 1120, 1126, 1127, 1128, 1010, 1014, 1017, 1022, 1029, 1033, 1036, 1039, 1044, 1050, 1055, 
-   982, 986, 989, 991, 996, 999, 1006, 946, 947, 951, 956, 968, 972, 975, 937, 941, 
-   916, 919, 925, 928, 931, 934, 881, 882, 886, 891, 892, 894, 901, 908, 819, 824, 
-   829, 834, 838, 847, 859, 865, 870, 873, 777, 779, 786, 792, 802, 809, 743, 745, 
-   747, 749, 750, 754, 761, 765, 774, 726, 730, 734, 737, 690, 693, 701, 704, 708, 
-   715, 721, 669, 674, 679, 684, 620, 623, 631, 637, 646, 651, 657, 663, 605, 610, 
-   614, 547, 552, 558, 561, 571, 581, 584, 591, 597, 394, 399, 405, 409, 413, 419, 
-   426, 431, 446, 452, 457, 463, 467, 474, 484, 494, 506, 517, 523, 532, 230, 235, 
-   238, 246, 250, 251, 257, 266, 267, 275, 276, 285, 290, 322, 357, 191, 195, 199, 
-   206, 213, 220, 223, 163, 170, 171, 177, 184, 187, 69, 74, 76, 79, 86, 95, 
-   106, 112, 120, 129, 133, 138, 145, 149, 154, 159, 15, 16, 21, 23, 25, 56, 
-   57, 60, 61, 66, 67, 1090, 1091, 1093, 1097, 1099, 1101, 1121, 1122, 1123, 1124, 1129, 
-   1130, 
+   33, 35, 36, 54, 55, 17, 58, 59, 62, 63, 1116, 1117, 1118, 1122, 1099, 1101, 
+   1107, 1108, 1110, 19, 20, 22, 1071, 1072, 1073, 1074, 1084, 1085, 1086, 1097, 1127, 1129, 
+   1072, 1130, 1137, 1123, 1125, 1074, 1084, 1119, 1121, 1086, 1097, 1085, 1086, 1097, 1123, 1125, 
+   1074, 1084, 1073, 1074, 1084, 1119, 1121, 1086, 1097, 13, 14, 17, 19, 20, 24, 22, 
+   54, 55, 17, 64, 65, 17, 327, 308, 362, 343, 398, 379, 545, 548, 549, 551, 
+   547, 1076, 1077, 1080, 1081, 1083, 1079, 1088, 1089, 1092, 1093, 1095, 1091, 1107, 1108, 1110, 
+   1107, 1108, 1112, 1110, 1120, 1086, 1097, 1121, 1086, 1097, 1124, 1074, 1084, 1125, 1074, 1084, 
+   1131, 1132, 1138, 1139, 1140, 1022, 1026, 1029, 1034, 1041, 1045, 1048, 1051, 1056, 1062, 1067, 
+   994, 998, 1001, 1003, 1008, 1011, 1018, 958, 959, 963, 968, 980, 984, 987, 949, 953, 
+   928, 931, 937, 940, 943, 946, 893, 894, 898, 903, 904, 906, 913, 920, 831, 836, 
+   841, 846, 850, 859, 871, 877, 882, 885, 789, 791, 798, 804, 814, 821, 749, 751, 
+   753, 755, 756, 760, 767, 771, 780, 786, 732, 736, 740, 743, 696, 699, 707, 710, 
+   714, 721, 727, 675, 680, 685, 690, 626, 629, 637, 643, 652, 657, 663, 669, 611, 
+   616, 620, 553, 558, 564, 567, 577, 587, 590, 597, 603, 400, 405, 411, 415, 419, 
+   425, 432, 437, 452, 458, 463, 469, 473, 480, 490, 500, 512, 523, 529, 538, 230, 
+   235, 238, 246, 250, 256, 257, 263, 272, 273, 281, 282, 291, 296, 328, 363, 191, 
+   195, 199, 206, 213, 220, 223, 163, 170, 171, 177, 184, 187, 69, 74, 76, 79, 
+   86, 95, 106, 112, 120, 129, 133, 138, 145, 149, 154, 159, 15, 16, 21, 23, 
+   25, 56, 57, 60, 61, 66, 67, 1102, 1103, 1105, 1109, 1111, 1113, 1133, 1134, 1135, 
+   1136, 1141, 1142, 
 };
 private static final boolean jjCanMove_0(int hiByte, int i1, int i2, long l1, long l2)
 {
@@ -6039,19 +6087,19 @@ null, null, null, null, null, null, null, null, null, null, null, null, null, nu
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
-null, null, null, null, null, null, "\50", "\51", "\173", "\175", "\133", "\135", 
-"\73", "\54", "\56", "\100", "\44", "\140", "\75", "\75\75", "\74", "\76", "\41", 
-"\176", "\77", "\72", "\74\75", "\76\75", "\41\75", "\74\76", "\174\174", "\46\46", 
-"\53\53", "\55\55", "\53", "\55", "\52", "\57", "\46", "\174", "\136", "\45", "\74\74", 
-"\53\75", "\55\75", "\52\75", "\57\75", "\46\75", "\174\75", "\136\75", "\45\75", 
-"\74\74\75", "\76\76\75", "\76\76\76\75", "\76\76", "\76\76\76", "\56\56\56", "\56\56", 
+null, null, null, null, null, null, null, null, "\50", "\51", "\173", "\175", 
+"\133", "\135", "\73", "\54", "\56", "\100", "\44", "\140", "\75", "\75\75", "\74", 
+"\76", "\41", "\176", "\77", "\72", "\74\75", "\76\75", "\41\75", "\74\76", 
+"\174\174", "\46\46", "\53\53", "\55\55", "\53", "\55", "\52", "\57", "\46", "\174", 
+"\136", "\45", "\74\74", "\53\75", "\55\75", "\52\75", "\57\75", "\46\75", "\174\75", 
+"\136\75", "\45\75", "\74\74\75", "\76\76\75", "\76\76\76\75", "\76\76", "\76\76\76", 
+"\56\56\56", "\56\56", null, null, null, null, null, null, null, null, null, null, null, 
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
-null, null, null, null, null, null, null, null, null, null, null, "\43", 
-"\137\137\100\162\145\143\157\162\144\155\141\160\100\137\137\137", "\162\157\165\156\144\55\162\157\142\151\156", 
-"\55\163\145\162\166\145\162\163", "\55\144\142", "\55\154\141\164\145\156\143\171", 
-"\55\155\145\163\163\141\147\145\163", "\55\141\154\154", "\55\157\165\164\160\165\164\75\164\145\170\164", 
-"\55\146\157\162\143\145", "\55\146\165\154\154", "\55\146\165\154\154\137\162\145\160\154\141\143\145", 
-"\55\155\145\162\147\145", };
+"\43", "\137\137\100\162\145\143\157\162\144\155\141\160\100\137\137\137", 
+"\162\157\165\156\144\55\162\157\142\151\156", "\55\163\145\162\166\145\162\163", "\55\144\142", 
+"\55\154\141\164\145\156\143\171", "\55\155\145\163\163\141\147\145\163", "\55\141\154\154", 
+"\55\157\165\164\160\165\164\75\164\145\170\164", "\55\146\157\162\143\145", "\55\146\165\154\154", 
+"\55\146\165\154\154\137\162\145\160\154\141\143\145", "\55\155\145\162\147\145", };
 
 /** Lexer state names. */
 public static final String[] lexStateNames = {
@@ -6072,11 +6120,11 @@ public static final int[] jjnewLexState = {
    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-   -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+   -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
 };
 static final long[] jjtoToken = {
-   0xfffffffffffff801L, 0xffffffffffffffffL, 0xffffff84403fffffL, 0xfcffffffffffffffL, 
-   0x7fL, 
+   0xfffffffffffff801L, 0xffffffffffffffffL, 0xfffffe1100ffffffL, 0xf3ffffffffffffffL, 
+   0x1ffL, 
 };
 static final long[] jjtoSkip = {
    0x33eL, 0x0L, 0x0L, 0x0L, 
@@ -6091,8 +6139,8 @@ static final long[] jjtoMore = {
    0x0L, 
 };
 protected CharStream input_stream;
-private final int[] jjrounds = new int[1131];
-private final int[] jjstateSet = new int[2262];
+private final int[] jjrounds = new int[1143];
+private final int[] jjstateSet = new int[2286];
 private final StringBuilder jjimage = new StringBuilder();
 private StringBuilder image = jjimage;
 private int jjimageLen;
@@ -6121,7 +6169,7 @@ private void ReInitRounds()
 {
    int i;
    jjround = 0x80000001;
-   for (i = 1131; i-- > 0;)
+   for (i = 1143; i-- > 0;)
       jjrounds[i] = 0x80000000;
 }
 
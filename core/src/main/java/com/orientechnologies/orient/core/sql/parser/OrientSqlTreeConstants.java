@@ -158,37 +158,39 @@ public interface OrientSqlTreeConstants
   public int JJTDROPPROPERTYSTATEMENT = 152;
   public int JJTCREATEINDEXSTATEMENT = 153;
   public int JJTREBUILDINDEXSTATEMENT = 154;
-  public int JJTDROPINDEXSTATEMENT = 155;
-  public int JJTCREATECLUSTERSTATEMENT = 156;
-  public int JJTALTERCLUSTERSTATEMENT = 157;
-  public int JJTDROPCLUSTERSTATEMENT = 158;
-  public int JJTALTERDATABASESTATEMENT = 159;
-  public int JJTCOMMANDLINEOPTION = 160;
-  public int JJTOPTIMIZEDATABASESTATEMENT = 161;
-  public int JJTCREATELINKSTATEMENT = 162;
-  public int JJTEXPLAINSTATEMENT = 163;
-  public int JJTPROFILESTATEMENT = 164;
-  public int JJTPERMISSION = 165;
-  public int JJTRESOURCEPATHITEM = 166;
-  public int JJTGRANTSTATEMENT = 167;
-  public int JJTREVOKESTATEMENT = 168;
-  public int JJTCREATEFUNCTIONSTATEMENT = 169;
-  public int JJTLETSTATEMENT = 170;
-  public int JJTBEGINSTATEMENT = 171;
-  public int JJTCOMMITSTATEMENT = 172;
-  public int JJTROLLBACKSTATEMENT = 173;
-  public int JJTRETURNSTATEMENT = 174;
-  public int JJTIFSTATEMENT = 175;
-  public int JJTSLEEPSTATEMENT = 176;
-  public int JJTCONSOLESTATEMENT = 177;
-  public int JJTCREATESEQUENCESTATEMENT = 178;
-  public int JJTALTERSEQUENCESTATEMENT = 179;
-  public int JJTDROPSEQUENCESTATEMENT = 180;
-  public int JJTHASTATUSSTATEMENT = 181;
-  public int JJTHAREMOVESERVERSTATEMENT = 182;
-  public int JJTHASYNCDATABASESTATEMENT = 183;
-  public int JJTHASYNCCLUSTERSTATEMENT = 184;
-  public int JJTFOREACHBLOCK = 185;
+  public int JJTANALYZEINDEXSTATEMENT = 155;
+  public int JJTANALYZECLASSSTATEMENT = 156;
+  public int JJTDROPINDEXSTATEMENT = 157;
+  public int JJTCREATECLUSTERSTATEMENT = 158;
+  public int JJTALTERCLUSTERSTATEMENT = 159;
+  public int JJTDROPCLUSTERSTATEMENT = 160;
+  public int JJTALTERDATABASESTATEMENT = 161;
+  public int JJTCOMMANDLINEOPTION = 162;
+  public int JJTOPTIMIZEDATABASESTATEMENT = 163;
+  public int JJTCREATELINKSTATEMENT = 164;
+  public int JJTEXPLAINSTATEMENT = 165;
+  public int JJTPROFILESTATEMENT = 166;
+  public int JJTPERMISSION = 167;
+  public int JJTRESOURCEPATHITEM = 168;
+  public int JJTGRANTSTATEMENT = 169;
+  public int JJTREVOKESTATEMENT = 170;
+  public int JJTCREATEFUNCTIONSTATEMENT = 171;
+  public int JJTLETSTATEMENT = 172;
+  public int JJTBEGINSTATEMENT = 173;
+  public int JJTCOMMITSTATEMENT = 174;
+  public int JJTROLLBACKSTATEMENT = 175;
+  public int JJTRETURNSTATEMENT = 176;
+  public int JJTIFSTATEMENT = 177;
+  public int JJTSLEEPSTATEMENT = 178;
+  public int JJTCONSOLESTATEMENT = 179;
+  public int JJTCREATESEQUENCESTATEMENT = 180;
+  public int JJTALTERSEQUENCESTATEMENT = 181;
+  public int JJTDROPSEQUENCESTATEMENT = 182;
+  public int JJTHASTATUSSTATEMENT = 183;
+  public int JJTHAREMOVESERVERSTATEMENT = 184;
+  public int JJTHASYNCDATABASESTATEMENT = 185;
+  public int JJTHASYNCCLUSTERSTATEMENT = 186;
+  public int JJTFOREACHBLOCK = 187;
 
 
   public String[] jjtNodeName = {
@@ -347,6 +349,8 @@ public interface OrientSqlTreeConstants
     "DropPropertyStatement",
     "CreateIndexStatement",
     "RebuildIndexStatement",
+    "AnalyzeIndexStatement",
+    "AnalyzeClassStatement",
     "DropIndexStatement",
     "CreateClusterStatement",
     "AlterClusterStatement",
@@ -380,4 +384,4 @@ public interface OrientSqlTreeConstants
     "ForEachBlock",
   };
 }
-/* JavaCC - OriginalChecksum=d53b78aced9d53565d34969c6ed15302 (do not edit this line) */
+/* JavaCC - OriginalChecksum=42086d7dec079ecbaea978bf4b3e6cbb (do not edit this line) */
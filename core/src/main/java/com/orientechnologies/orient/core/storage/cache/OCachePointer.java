@@ -69,6 +69,10 @@ public class OCachePointer {
   private final long fileId;
   private final long pageIndex;
 
+  /**
+   * @param bufferPool Pool to which buffer is returned once pointer is not used any more or <code>null</code> if buffer is not
+   *                   owned by the pool, for example if it is backed by memory mapped region of the file.
+   */
   public OCachePointer(final ByteBuffer buffer, final OByteBufferPool bufferPool, final long fileId, final long pageIndex) {
     this.buffer = buffer;
     this.bufferPool = bufferPool;
@@ -194,7 +198,7 @@ public class OCachePointer {
 
   public void decrementReferrer() {
     final int rf = referrersCount.decrementAndGet();
-    if (rf == 0 && buffer != null) {
+    if (rf == 0 && buffer != null && bufferPool != null) {
       bufferPool.release(buffer);
     }
 
@@ -268,10 +272,10 @@ public class OCachePointer {
       OLogManager.instance().error(this, "OCachePointer.finalize: writers != 0");
     }
 
-    if (needInfo && buffer != null)
+    if (needInfo && buffer != null && bufferPool != null)
       bufferPool.logTrackedBufferInfo("finalizing", buffer);
 
-    if (referrersCount.get() > 0 && buffer != null) {
+    if (referrersCount.get() > 0 && buffer != null && bufferPool != null) {
       if (!needInfo) // not logged yet
         bufferPool.logTrackedBufferInfo("finalizing", buffer);
       bufferPool.release(buffer);
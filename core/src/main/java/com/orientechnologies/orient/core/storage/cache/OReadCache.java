@@ -70,6 +70,16 @@ public interface OReadCache {
   OCacheEntry loadForRead(long fileId, long pageIndex, boolean checkPinnedPages, OWriteCache writeCache, int pageCount,
       boolean verifyChecksums) throws IOException;
 
+  /**
+   * Loads pages into the cache by single read of write cache without acquiring of them. Loaded pages are treated as pages which
+   * were not used yet, so they are evicted first if they are not requested later and do not push out pages which are used often.
+   * Pages which are already in the cache are not changed.
+   *
+   * @param pageIndex Index of the first page to load.
+   * @param pageCount Amount of pages to load, pages which are outside of the file are ignored.
+   */
+  void prefetch(long fileId, long pageIndex, int pageCount, OWriteCache writeCache, boolean verifyChecksums) throws IOException;
+
   void releaseFromRead(OCacheEntry cacheEntry, OWriteCache writeCache);
 
   void releaseFromWrite(OCacheEntry cacheEntry, OWriteCache writeCache);
@@ -29,6 +29,7 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSe
 import com.orientechnologies.orient.core.storage.impl.local.statistic.OPerformanceStatisticManager;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
@@ -102,6 +103,18 @@ public interface OWriteCache {
 
   long getFilledUpTo(long fileId) throws IOException;
 
+  /**
+   * Copies content of the page in the same form in which it is stored on disk. If page is not flushed yet its content is taken
+   * from the write cache, so copy contains all changes which were applied to the page before the call.
+   *
+   * @param fileId    Id of file which contains the page.
+   * @param pageIndex Index of the page.
+   * @param buffer    Buffer of page size with native byte order into which content of the page is copied.
+   *
+   * @return {@code false} if file or page do not exist anymore, in such case content of buffer is not changed.
+   */
+  boolean copyPage(long fileId, long pageIndex, ByteBuffer buffer) throws IOException;
+
   long getExclusiveWriteCachePagesSize();
 
   void deleteFile(long fileId) throws IOException;
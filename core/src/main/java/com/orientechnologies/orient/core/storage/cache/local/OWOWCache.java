@@ -35,6 +35,7 @@ import com.orientechnologies.common.serialization.types.OLongSerializer;
 import com.orientechnologies.common.types.OModifiableBoolean;
 import com.orientechnologies.common.util.OTriple;
 import com.orientechnologies.orient.core.command.OCommandOutputListener;
+import com.orientechnologies.orient.core.compression.OCompression;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.exception.ODatabaseException;
 import com.orientechnologies.orient.core.exception.OStorageException;
@@ -47,7 +48,9 @@ import com.orientechnologies.orient.core.storage.cache.OAbstractWriteCache;
 import com.orientechnologies.orient.core.storage.cache.OCachePointer;
 import com.orientechnologies.orient.core.storage.cache.OPageDataVerificationError;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+import com.orientechnologies.orient.core.storage.fs.OCompressedPageFile;
 import com.orientechnologies.orient.core.storage.fs.OFileClassic;
+import com.orientechnologies.orient.core.storage.fs.OMappedFileWindow;
 import com.orientechnologies.orient.core.storage.impl.local.OLowDiskSpaceInformation;
 import com.orientechnologies.orient.core.storage.impl.local.OLowDiskSpaceListener;
 import com.orientechnologies.orient.core.storage.impl.local.OPageIsBrokenListener;
@@ -430,6 +433,24 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
 
   private volatile OChecksumMode checksumMode;
 
+  /**
+   * Compression of pages of files created by this cache, <code>null</code> if pages of new files are not compressed. Files which
+   * already exist keep the format in which they were created.
+   */
+  private final OCompression pageCompression;
+
+  /**
+   * Memory mapped windows of data files, pages which are absent in write cache are read from them without copying if
+   * {@link OGlobalConfiguration#STORAGE_MMAP_READS} is switched on, <code>null</code> otherwise. Windows are mapped on demand and
+   * only windows which are completely inside of the file are mapped, so mapping never changes size of the file.
+   */
+  private final OClosableLinkedContainer<PageKey, OMappedFileWindow> mappedWindows;
+
+  /**
+   * Size of memory mapped window of data file, it is always multiple of the page size.
+   */
+  private final int mappedWindowSize;
+
   /**
    * Current mode of data flush in {@link PeriodicFlushTask}.
    */
@@ -443,6 +464,13 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
   public OWOWCache(int pageSize, OByteBufferPool bufferPool, OWriteAheadLog writeAheadLog, long pageFlushInterval,
       long exclusiveWriteCacheMaxSize, OLocalPaginatedStorage storageLocal, boolean checkMinSize,
       OClosableLinkedContainer<Long, OFileClassic> files, int id, OChecksumMode checksumMode) {
+    this(pageSize, bufferPool, writeAheadLog, pageFlushInterval, exclusiveWriteCacheMaxSize, storageLocal, checkMinSize, files, id,
+        checksumMode, null);
+  }
+
+  public OWOWCache(int pageSize, OByteBufferPool bufferPool, OWriteAheadLog writeAheadLog, long pageFlushInterval,
+      long exclusiveWriteCacheMaxSize, OLocalPaginatedStorage storageLocal, boolean checkMinSize,
+      OClosableLinkedContainer<Long, OFileClassic> files, int id, OChecksumMode checksumMode, OCompression pageCompression) {
     filesLock.acquireWriteLock();
     try {
       this.id = id;
@@ -453,6 +481,16 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
       this.bufferPool = bufferPool;
 
       this.checksumMode = checksumMode;
+      this.pageCompression = pageCompression;
+
+      if (OGlobalConfiguration.STORAGE_MMAP_READS.getValueAsBoolean()) {
+        this.mappedWindows = new OClosableLinkedContainer<>(OGlobalConfiguration.STORAGE_MMAP_WINDOWS_LIMIT.getValueAsInteger());
+        this.mappedWindowSize =
+            Math.max(1, OGlobalConfiguration.STORAGE_MMAP_WINDOW_SIZE.getValueAsInteger() * 1024 * 1024 / pageSize) * pageSize;
+      } else {
+        this.mappedWindows = null;
+        this.mappedWindowSize = 0;
+      }
 
       int exclusiveWriteNormalizedSize = normalizeMemory(exclusiveWriteCacheMaxSize, pageSize);
       if (checkMinSize && exclusiveWriteNormalizedSize < MIN_CACHE_SIZE)
@@ -1264,6 +1302,59 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
     }
   }
 
+  @Override
+  public boolean copyPage(long fileId, long pageIndex, ByteBuffer buffer) throws IOException {
+    final int intId = extractFileId(fileId);
+    fileId = composeFileId(id, intId);
+
+    filesLock.acquireReadLock();
+    try {
+      if (files.get(fileId) == null)
+        return false;
+
+      final PageKey pageKey = new PageKey(intId, pageIndex);
+      final Lock pageLock = lockManager.acquireSharedLock(pageKey);
+      try {
+        //page is removed from write cache only after it is written to the disk, so if it is absent we may read it from file
+        final OCachePointer pointer = writeCachePages.get(pageKey);
+        if (pointer != null) {
+          pointer.acquireSharedLock();
+          try {
+            final ByteBuffer pageBuffer = pointer.getSharedBuffer();
+            pageBuffer.position(0);
+
+            buffer.position(0);
+            buffer.put(pageBuffer);
+          } finally {
+            pointer.releaseSharedLock();
+          }
+
+          addMagicAndChecksum(buffer);
+          return true;
+        }
+
+        final OClosableEntry<Long, OFileClassic> entry = files.acquire(fileId);
+        try {
+          final OFileClassic fileClassic = entry.get();
+          if (fileClassic.getFileSize() < (pageIndex + 1) * pageSize)
+            return false;
+
+          buffer.position(0);
+          fileClassic.read(pageIndex * pageSize, buffer, true);
+          return true;
+        } finally {
+          files.release(entry);
+        }
+      } finally {
+        pageLock.unlock();
+      }
+    } catch (InterruptedException e) {
+      throw OException.wrapException(new OStorageException("Copying of page was interrupted"), e);
+    } finally {
+      filesLock.releaseReadLock();
+    }
+  }
+
   @Override
   public long getExclusiveWriteCachePagesSize() {
     return exclusiveWriteCacheSize.get();
@@ -1298,6 +1389,8 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
     filesLock.acquireWriteLock();
     try {
       removeCachedPages(intId);
+      removeMappedWindows(intId);
+
       OClosableEntry<Long, OFileClassic> entry = files.acquire(fileId);
       try {
         entry.get().shrink(0);
@@ -1319,6 +1412,7 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
     filesLock.acquireWriteLock();
     try {
       removeCachedPages(intId);
+      removeMappedWindows(intId);
 
       final OClosableEntry<Long, OFileClassic> entry = files.acquire(fileId);
       try {
@@ -1398,6 +1492,9 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
       final List<Long> closedIds = new ArrayList<>();
       final Map<Integer, String> idFileNameMap = new HashMap<>();
 
+      if (mappedWindows != null)
+        mappedWindows.clear();
+
       for (Integer intId : fileIds) {
         if (intId >= 0) {
           final long extId = composeFileId(id, intId);
@@ -1457,6 +1554,8 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
       else
         removeCachedPages(intId);
 
+      removeMappedWindows(intId);
+
       if (!files.close(fileId))
         throw new OStorageException("Can not close file with id " + internalFileId(fileId) + " because it is still in use");
     } finally {
@@ -1759,7 +1858,14 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
 
   private OFileClassic createFileInstance(String fileName, int fileId) {
     final String internalFileName = createInternalFileName(fileName, fileId);
-    return new OFileClassic(storagePath.resolve(internalFileName));
+    return createFileInstance(storagePath.resolve(internalFileName));
+  }
+
+  private OFileClassic createFileInstance(Path path) {
+    if (OCompressedPageFile.isCompressed(path) || (pageCompression != null && !Files.exists(path)))
+      return new OCompressedPageFile(path, pageSize, pageCompression);
+
+    return new OFileClassic(path);
   }
 
   private String createInternalFileName(String fileName, int fileId) {
@@ -1837,7 +1943,7 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
           final String path = storageLocal.getVariableParser()
               .resolveVariables(storageLocal.getStoragePath() + File.separator + idFileNameMap.get(nameIdEntry.getValue()));
 
-          final OFileClassic fileClassic = new OFileClassic(Paths.get(path));
+          final OFileClassic fileClassic = createFileInstance(Paths.get(path));
 
           if (fileClassic.exists()) {
             fileClassic.open();
@@ -1909,7 +2015,7 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
         final long externalId = composeFileId(id, nameIdEntry.getValue());
 
         if (files.get(externalId) == null) {
-          final OFileClassic fileClassic = new OFileClassic(storagePath.resolve(nameIdEntry.getKey()));
+          final OFileClassic fileClassic = createFileInstance(storagePath.resolve(nameIdEntry.getKey()));
 
           if (fileClassic.exists()) {
             fileClassic.open();
@@ -2046,6 +2152,7 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
     fileId = composeFileId(id, intId);
 
     removeCachedPages(intId);
+    removeMappedWindows(intId);
 
     final OFileClassic fileClassic = files.remove(fileId);
 
@@ -2100,6 +2207,16 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
           int pagesRead = 0;
 
           try {
+            if (mappedWindows != null && fileClassic.isMappable()) {
+              final OCachePointer[] dataPointers = loadMappedContent(intId, fileClassic, startPageIndex, pageCount,
+                  verifyChecksums);
+
+              if (dataPointers != null) {
+                pagesRead = dataPointers.length;
+                return dataPointers;
+              }
+            }
+
             if (pageCount == 1) {
               final ByteBuffer buffer = bufferPool.acquireDirect(false);
               assert buffer.position() == 0;
@@ -2155,6 +2272,101 @@ public class OWOWCache extends OAbstractWriteCache implements OWriteCache, OCach
     }
   }
 
+  /**
+   * Loads pages from memory mapped windows of the file. Returned pointers share memory with the mapped windows, changes of pages
+   * are not written back to the file because windows are mapped in copy-on-write mode.
+   *
+   * @return Pointers to the loaded pages or <code>null</code> if the first page is not covered by mapped windows yet, in such case
+   * pages have to be read from the file.
+   */
+  private OCachePointer[] loadMappedContent(final int intId, final OFileClassic fileClassic, final long startPageIndex,
+      final int pageCount, final boolean verifyChecksums) throws InterruptedException {
+    final long fileId = composeFileId(id, intId);
+    final long pagesInWindow = mappedWindowSize / pageSize;
+
+    //tail of the file which is smaller than the window is read using file channel
+    final long mappedPages = fileClassic.getFileSize() / mappedWindowSize * pagesInWindow;
+    if (startPageIndex >= mappedPages)
+      return null;
+
+    final int realPageCount = (int) Math.min(pageCount, mappedPages - startPageIndex);
+    final OCachePointer[] dataPointers = new OCachePointer[realPageCount];
+
+    OClosableEntry<PageKey, OMappedFileWindow> windowEntry = null;
+    try {
+      for (int n = 0; n < realPageCount; n++) {
+        final long pageIndex = startPageIndex + n;
+        final long windowIndex = pageIndex / pagesInWindow;
+
+        if (windowEntry == null || pageIndex % pagesInWindow == 0) {
+          if (windowEntry != null)
+            mappedWindows.release(windowEntry);
+
+          windowEntry = acquireMappedWindow(new PageKey(intId, windowIndex), fileClassic);
+        }
+
+        final ByteBuffer buffer = windowEntry.get().page(pageIndex * pageSize, pageSize);
+
+        //mapped pages are not owned by the buffer pool, so there is nothing to release if verification fails
+        if (verifyChecksums && (checksumMode == OChecksumMode.StoreAndVerify || checksumMode == OChecksumMode.StoreAndThrow
+            || checksumMode == OChecksumMode.StoreAndSwitchReadOnlyMode))
+          verifyMagicAndChecksum(buffer, fileId, pageIndex, new ByteBuffer[0]);
+
+        buffer.position(0);
+        dataPointers[n] = new OCachePointer(buffer, null, fileId, pageIndex);
+      }
+    } finally {
+      if (windowEntry != null)
+        mappedWindows.release(windowEntry);
+    }
+
+    return dataPointers;
+  }
+
+  private OClosableEntry<PageKey, OMappedFileWindow> acquireMappedWindow(final PageKey windowKey, final OFileClassic fileClassic)
+      throws InterruptedException {
+    OClosableEntry<PageKey, OMappedFileWindow> entry = mappedWindows.acquire(windowKey);
+    if (entry != null)
+      return entry;
+
+    //windows are removed only under exclusive files lock, so window can not be removed between add and acquire
+    synchronized (mappedWindows) {
+      entry = mappedWindows.acquire(windowKey);
+
+      if (entry == null) {
+        final OMappedFileWindow window = new OMappedFileWindow(fileClassic, windowKey.pageIndex * mappedWindowSize,
+            mappedWindowSize);
+        window.open();
+
+        mappedWindows.add(windowKey, window);
+        entry = mappedWindows.acquire(windowKey);
+      }
+    }
+
+    return entry;
+  }
+
+  /**
+   * Removes memory mapped windows of the file, has to be called under exclusive files lock before the file is truncated, closed or
+   * deleted. Pages which are already loaded from the windows stay valid till they are removed from the cache, but access to them
+   * after the file is truncated crashes the JVM, so read cache removes pages of the file before the file is truncated.
+   */
+  private void removeMappedWindows(final int intId) {
+    if (mappedWindows == null)
+      return;
+
+    final OFileClassic fileClassic = files.get(composeFileId(id, intId));
+    if (fileClassic == null)
+      return;
+
+    final long windows = fileClassic.getFileSize() / mappedWindowSize;
+    for (long windowIndex = 0; windowIndex < windows; windowIndex++) {
+      final OMappedFileWindow window = mappedWindows.remove(new PageKey(intId, windowIndex));
+      if (window != null)
+        window.close();
+    }
+  }
+
   private void addMagicAndChecksum(final ByteBuffer buffer) {
     assert buffer.order() == ByteOrder.nativeOrder();
 
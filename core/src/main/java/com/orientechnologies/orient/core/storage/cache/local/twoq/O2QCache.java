@@ -24,6 +24,7 @@ import com.orientechnologies.common.concur.lock.OInterruptedException;
 import com.orientechnologies.common.concur.lock.OPartitionedLockManager;
 import com.orientechnologies.common.concur.lock.OReadersWriterSpinLock;
 import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.exception.OSystemException;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.types.OModifiableBoolean;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
@@ -31,29 +32,38 @@ import com.orientechnologies.orient.core.exception.OAllCacheEntriesAreUsedExcept
 import com.orientechnologies.orient.core.exception.OLoadCacheStateException;
 import com.orientechnologies.orient.core.exception.OReadCacheException;
 import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.OStorageAbstract;
 import com.orientechnologies.orient.core.storage.cache.*;
 import com.orientechnologies.orient.core.storage.impl.local.statistic.OSessionStoragePerformanceStatistic;
 
+import javax.management.*;
 import java.io.*;
+import java.lang.management.ManagementFactory;
 import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * @author Andrey Lomakin (a.lomakin-at-orientdb.com)
  * @since 7/24/13
  */
-public class O2QCache implements OReadCache {
+public class O2QCache implements OReadCache, O2QCacheMXBean {
+  /**
+   * Name of MBean of this cache.
+   */
+  private static final String MBEAN_NAME = "com.orientechnologies.orient.core.storage.cache.local.twoq:type=O2QCacheMXBean";
+
   /**
    * Maximum amount of times when we will show message that limit of pinned pages was exhausted.
    */
@@ -82,6 +92,11 @@ public class O2QCache implements OReadCache {
    */
   public static final String CACHE_STATISTIC_FILE_EXTENSION = ".stt";
 
+  /**
+   * Maximum amount of pages which are loaded by single task of cache warm-up.
+   */
+  private static final int WARM_UP_BATCH_SIZE = 64;
+
   private final LRUList am;
   private final LRUList a1out;
   private final LRUList a1in;
@@ -113,6 +128,26 @@ public class O2QCache implements OReadCache {
 
   private final AtomicBoolean coldPagesRemovalInProgress = new AtomicBoolean();
 
+  /**
+   * Tracks the status of the MBean registration.
+   */
+  private final AtomicBoolean mbeanIsRegistered = new AtomicBoolean();
+
+  /**
+   * Warm-ups of cache which are in progress, key is id of write cache (storage) pages of which are loaded.
+   */
+  private final ConcurrentMap<Integer, WarmUp> warmUps = new ConcurrentHashMap<>();
+
+  private final Object          warmUpExecutorLock = new Object();
+  private       ExecutorService warmUpExecutor;
+
+  private final AtomicLong    warmUpTotalPages  = new AtomicLong();
+  private final AtomicLong    warmUpLoadedPages = new AtomicLong();
+  private final AtomicInteger warmUpsInProgress = new AtomicInteger();
+
+  private volatile long warmUpStartTime;
+  private volatile long warmUpEndTime;
+
   /**
    * @param readCacheMaxMemory   Maximum amount of direct memory which can allocated by disk cache in bytes.
    * @param pageSize             Cache page size in bytes.
@@ -280,6 +315,52 @@ public class O2QCache implements OReadCache {
     return cacheEntry;
   }
 
+  @Override
+  public void prefetch(long fileId, long pageIndex, int pageCount, OWriteCache writeCache, boolean verifyChecksums)
+      throws IOException {
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    boolean removeColdPages = false;
+
+    cacheLock.acquireReadLock();
+    try {
+      final Lock fileLock = fileLockManager.acquireSharedLock(fileId);
+      try {
+        //pages which are already cached are not read again
+        while (pageCount > 0 && (am.get(fileId, pageIndex) != null || a1in.get(fileId, pageIndex) != null)) {
+          pageIndex++;
+          pageCount--;
+        }
+
+        if (pageCount == 0)
+          return;
+
+        final PageKey[] pageKeys = new PageKey[pageCount];
+        for (int i = 0; i < pageKeys.length; i++)
+          pageKeys[i] = new PageKey(fileId, pageIndex + i);
+
+        final Lock[] pageLocks = pageLockManager.acquireExclusiveLocksInBatch(pageKeys);
+        try {
+          final OCachePointer[] dataPointers = writeCache
+              .load(fileId, pageIndex, pageCount, false, new OModifiableBoolean(false), verifyChecksums);
+
+          for (OCachePointer dataPointer : dataPointers)
+            removeColdPages = processFetchedPage(removeColdPages, dataPointer, true);
+        } finally {
+          for (Lock pageLock : pageLocks)
+            pageLock.unlock();
+        }
+      } finally {
+        fileLock.unlock();
+      }
+    } finally {
+      cacheLock.releaseReadLock();
+    }
+
+    if (removeColdPages)
+      removeColdestPagesIfNeeded();
+  }
+
   @Override
   public void releaseFromRead(OCacheEntry cacheEntry, OWriteCache writeCache) {
     cacheEntry.releaseSharedLock();
@@ -549,6 +630,8 @@ public class O2QCache implements OReadCache {
   }
 
   public void clear() {
+    cancelAllWarmUps();
+
     cacheLock.acquireWriteLock();
     try {
       clearCacheContent();
@@ -567,9 +650,10 @@ public class O2QCache implements OReadCache {
       fileLock = fileLockManager.acquireExclusiveLock(fileId);
       try {
 
-        writeCache.truncateFile(fileId);
-
+        //pages loaded from memory mapped windows of the file must not be accessed once the file is shrunk
         clearFile(fileId);
+
+        writeCache.truncateFile(fileId);
       } finally {
         fileLock.unlock();
       }
@@ -683,6 +767,8 @@ public class O2QCache implements OReadCache {
     if (writeCache == null)
       return;
 
+    cancelWarmUp(writeCache);
+
     cacheLock.acquireWriteLock();
     try {
       final long[] filesToClear = writeCache.close();
@@ -699,85 +785,307 @@ public class O2QCache implements OReadCache {
    * Loads state of 2Q cache queues stored during storage close {@link #closeStorage(OWriteCache)} back into memory if flag
    * {@link OGlobalConfiguration#STORAGE_KEEP_DISK_CACHE_STATE} is set to <code>true</code>.
    * <p>
+   * Only stubs of <code>a1out</code> queue are restored during this call. Pages of <code>am</code> and <code>a1in</code> queues
+   * are loaded in background by {@link OGlobalConfiguration#STORAGE_DISK_CACHE_WARM_UP_THREADS} threads, pages of
+   * <code>am</code> queue first, each of queues sorted by file and page index, so storage may be used before warm-up is
+   * completed. Pages requested by queries are loaded as usual, warm-up skips them later. If amount of warm-up threads is set
+   * to 0, pages are loaded by current thread.
+   * <p>
    * If maximum size of cache was decreased cache state will not be restored.
    *
    * @param writeCache Write cache is used to load pages back into cache if needed.
    *
    * @see #closeStorage(OWriteCache)
+   * @see #getWarmUpProgress()
    */
   public void loadCacheState(final OWriteCache writeCache) {
     if (!OGlobalConfiguration.STORAGE_KEEP_DISK_CACHE_STATE.getValueAsBoolean()) {
       return;
     }
 
+    final List<PageKey> hotPages;
+    final List<PageKey> pages;
+
     cacheLock.acquireWriteLock();
     try {
       final Path statePath = writeCache.getRootDirectory().resolve(CACHE_STATE_FILE);
 
-      if (Files.exists(statePath)) {
-        try (FileChannel channel = FileChannel.open(statePath, StandardOpenOption.READ)) {
-          final InputStream stream = Channels.newInputStream(channel);
-          final BufferedInputStream bufferedInputStream = new BufferedInputStream(stream, 64 * 1024);
-          try (DataInputStream dataInputStream = new DataInputStream(bufferedInputStream)) {
-            final long maxCacheSize;
-
-            try {
-              maxCacheSize = dataInputStream.readLong();
-            } catch (IOException ioe) {
-              throw OException.wrapException(new OLoadCacheStateException("Can not restore state of cache from file"), ioe);
-            }
+      if (!Files.exists(statePath))
+        return;
 
-            final long currentMaxCacheSize = memoryDataContainer.get().maxSize;
+      try (FileChannel channel = FileChannel.open(statePath, StandardOpenOption.READ)) {
+        final InputStream stream = Channels.newInputStream(channel);
+        final BufferedInputStream bufferedInputStream = new BufferedInputStream(stream, 64 * 1024);
+        try (DataInputStream dataInputStream = new DataInputStream(bufferedInputStream)) {
+          final long maxCacheSize;
 
-            if (maxCacheSize > currentMaxCacheSize) {
-              OLogManager.instance().info(this,
-                  "Previous maximum cache size was %d current maximum cache size is %d. Cache state for storage %s will not be restored.",
-                  maxCacheSize, currentMaxCacheSize, writeCache.getRootDirectory());
-              return;
-            }
+          try {
+            maxCacheSize = dataInputStream.readLong();
+          } catch (IOException ioe) {
+            throw OException.wrapException(new OLoadCacheStateException("Can not restore state of cache from file"), ioe);
+          }
 
-            restoreQueue(writeCache, am, dataInputStream, true);
-            restoreQueue(writeCache, a1in, dataInputStream, true);
+          final long currentMaxCacheSize = memoryDataContainer.get().maxSize;
 
-            restoreQueue(writeCache, a1out, dataInputStream, false);
+          if (maxCacheSize > currentMaxCacheSize) {
+            OLogManager.instance().info(this,
+                "Previous maximum cache size was %d current maximum cache size is %d. Cache state for storage %s will not be restored.",
+                maxCacheSize, currentMaxCacheSize, writeCache.getRootDirectory());
+            return;
           }
 
+          hotPages = readQueueState(writeCache, dataInputStream);
+          pages = readQueueState(writeCache, dataInputStream);
+
+          restoreQueueWithoutPageLoad(writeCache, a1out, dataInputStream);
         }
       }
     } catch (OLoadCacheStateException lcse) {
       OLogManager.instance().warn(this, "Cannot restore state of cache for storage placed under " + writeCache.getRootDirectory());
+      return;
     } catch (Exception e) {
       throw OException.wrapException(
           new OStorageException("Cannot restore state of cache for storage placed under " + writeCache.getRootDirectory()), e);
     } finally {
       cacheLock.releaseWriteLock();
     }
+
+    final WarmUp warmUp = new WarmUp(writeCache);
+    warmUp.addBatches(hotPages, true);
+    warmUp.addBatches(pages, false);
+
+    if (warmUp.batches.isEmpty())
+      return;
+
+    startWarmUp(warmUp);
+
+    final int threads = OGlobalConfiguration.STORAGE_DISK_CACHE_WARM_UP_THREADS.getValueAsInteger();
+    if (threads <= 0) {
+      for (Batch batch : warmUp.batches)
+        warmUp(warmUp, batch);
+
+      return;
+    }
+
+    final ExecutorService executor = getWarmUpExecutor(threads);
+    for (final Batch batch : warmUp.batches)
+      warmUp.futures.add(executor.submit(new Runnable() {
+        @Override
+        public void run() {
+          warmUp(warmUp, batch);
+        }
+      }));
+  }
+
+  private void startWarmUp(WarmUp warmUp) {
+    final WarmUp oldWarmUp = warmUps.put(warmUp.writeCache.getId(), warmUp);
+    if (oldWarmUp != null)
+      stopWarmUp(oldWarmUp);
+
+    if (warmUpsInProgress.getAndIncrement() == 0) {
+      warmUpTotalPages.set(0);
+      warmUpLoadedPages.set(0);
+      warmUpStartTime = System.nanoTime();
+    }
+
+    warmUpTotalPages.addAndGet(warmUp.pages);
+  }
+
+  private void finishWarmUp(WarmUp warmUp) {
+    if (!warmUp.finished.compareAndSet(false, true))
+      return;
+
+    warmUps.remove(warmUp.writeCache.getId(), warmUp);
+
+    long notLoadedPages = 0;
+    for (Batch batch : warmUp.batches)
+      if (!batch.done)
+        notLoadedPages += batch.pages.length;
+
+    warmUpTotalPages.addAndGet(-notLoadedPages);
+
+    if (warmUpsInProgress.decrementAndGet() == 0)
+      warmUpEndTime = System.nanoTime();
   }
 
   /**
-   * Following format is used to store queue state:
-   * <p>
-   * <ol>
-   * <li>File id or -1 if end of queue is reached (int)</li>
-   * <li>Page index (long), is absent if end of the queue is reached</li>
-   * </ol>
+   * Stops warm-up of cache for given storage if it is in progress, call of this method waits till loading of batches which
+   * are processed at the moment is completed.
    *
-   * @param dataInputStream Stream of file which contains state of the cache.
-   * @param queue           Queue, state of which should be restored.
-   * @param loadPages       Indicates whether pages should be loaded from disk or only stubs should be added.
-   * @param writeCache      Write cache is used to load data from disk if needed.
+   * @return Warm-up which was stopped, or <code>null</code> if there is no warm-up in progress for given storage.
    */
-  private void restoreQueue(OWriteCache writeCache, LRUList queue, DataInputStream dataInputStream, boolean loadPages)
-      throws IOException {
-    if (loadPages) {
-      restoreQueueWithPageLoad(writeCache, queue, dataInputStream);
-    } else {
-      restoreQueueWithoutPageLoad(writeCache, queue, dataInputStream);
+  private WarmUp cancelWarmUp(OWriteCache writeCache) {
+    final WarmUp warmUp = warmUps.get(writeCache.getId());
+    if (warmUp != null)
+      stopWarmUp(warmUp);
+
+    return warmUp;
+  }
+
+  private void cancelAllWarmUps() {
+    for (WarmUp warmUp : warmUps.values())
+      stopWarmUp(warmUp);
+  }
+
+  private void stopWarmUp(WarmUp warmUp) {
+    warmUp.cancel();
+    finishWarmUp(warmUp);
+  }
+
+  private ExecutorService getWarmUpExecutor(int threads) {
+    synchronized (warmUpExecutorLock) {
+      if (warmUpExecutor == null) {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 1, TimeUnit.MINUTES,
+            new LinkedBlockingQueue<Runnable>(), new WarmUpThreadFactory());
+        executor.allowCoreThreadTimeOut(true);
+
+        warmUpExecutor = executor;
+      }
+
+      return warmUpExecutor;
+    }
+  }
+
+  private void warmUp(WarmUp warmUp, Batch batch) {
+    warmUp.lock.readLock().lock();
+    try {
+      if (warmUp.cancelled)
+        return;
+
+      loadBatch(warmUp.writeCache, batch);
+
+      batch.done = true;
+      warmUpLoadedPages.addAndGet(batch.pages.length);
+    } catch (IOException | RuntimeException e) {
+      warmUp.cancelled = true;
+      OLogManager.instance()
+          .warn(this, "Warm up of disk cache for storage placed under %s is stopped", e, warmUp.writeCache.getRootDirectory());
+    } finally {
+      warmUp.lock.readLock().unlock();
     }
+
+    if (warmUp.pendingBatches.decrementAndGet() == 0)
+      finishWarmUp(warmUp);
   }
 
   /**
-   * Restores queues state if it is NOT needed to load cache page from disk to cache.
+   * Loads pages of single warm-up batch, pages which were loaded by other threads since the cache state was read are skipped,
+   * rest of pages are loaded by sequential reads of adjacent pages.
+   */
+  private void loadBatch(OWriteCache writeCache, Batch batch) throws IOException {
+    final long fileId = batch.fileId;
+    final long[] pages = batch.pages;
+    final OModifiableBoolean cacheHit = new OModifiableBoolean(false);
+
+    boolean removeColdPages = false;
+
+    cacheLock.acquireReadLock();
+    try {
+      final Lock fileLock = fileLockManager.acquireSharedLock(fileId);
+      try {
+        if (writeCache.fileNameById(fileId) == null) // file was deleted after storage open
+          return;
+
+        final long filledUpTo = writeCache.getFilledUpTo(fileId);
+
+        int start = 0;
+        while (start < pages.length && pages[start] < filledUpTo) {
+          int end = start + 1;
+          while (end < pages.length && pages[end] == pages[end - 1] + 1 && pages[end] < filledUpTo)
+            end++;
+
+          final PageKey[] pageKeys = new PageKey[end - start];
+          for (int i = 0; i < pageKeys.length; i++)
+            pageKeys[i] = new PageKey(fileId, pages[start + i]);
+
+          final Lock[] pageLocks = pageLockManager.acquireExclusiveLocksInBatch(pageKeys);
+          try {
+            int i = start;
+            while (i < end) {
+              if (isLoaded(fileId, pages[i])) {
+                i++;
+                continue;
+              }
+
+              int j = i + 1;
+              while (j < end && !isLoaded(fileId, pages[j]))
+                j++;
+
+              final OCachePointer[] dataPointers = writeCache.load(fileId, pages[i], j - i, false, cacheHit, true);
+              if (dataPointers.length == 0)
+                break;
+
+              for (OCachePointer dataPointer : dataPointers)
+                removeColdPages = warmUpPage(dataPointer, batch.hot) || removeColdPages;
+
+              i += dataPointers.length;
+            }
+          } finally {
+            for (Lock pageLock : pageLocks)
+              pageLock.unlock();
+          }
+
+          start = end;
+        }
+      } finally {
+        fileLock.unlock();
+      }
+    } finally {
+      cacheLock.releaseReadLock();
+    }
+
+    if (removeColdPages)
+      removeColdestPagesIfNeeded();
+  }
+
+  private boolean isLoaded(long fileId, long pageIndex) {
+    return am.get(fileId, pageIndex) != null || a1in.get(fileId, pageIndex) != null || pinnedPages
+        .containsKey(new PinnedPage(fileId, pageIndex));
+  }
+
+  /**
+   * Puts page loaded during warm-up into the cache, pages of <code>am</code> queue are returned back into <code>am</code>
+   * queue, all other pages are processed the same way as pages loaded on demand.
+   */
+  private boolean warmUpPage(OCachePointer dataPointer, boolean hot) {
+    final long fileId = dataPointer.getFileId();
+    final long pageIndex = dataPointer.getPageIndex();
+
+    if (isLoaded(fileId, pageIndex)) {
+      dataPointer.decrementReadersReferrer();
+      return false;
+    }
+
+    OCacheEntry cacheEntry = a1out.remove(fileId, pageIndex);
+    if (cacheEntry != null)
+      return entryWasInA1OutQueue(fileId, pageIndex, dataPointer, cacheEntry);
+
+    if (!hot)
+      return entryIsAbsentInQueues(fileId, pageIndex, dataPointer).removeColdPages;
+
+    cacheEntry = new OCacheEntryImpl(fileId, pageIndex, dataPointer, false);
+    am.putToMRU(cacheEntry);
+
+    addFilePage(fileId, pageIndex);
+    return true;
+  }
+
+  private void addFilePage(long fileId, long pageIndex) {
+    Set<Long> pages = filePages.get(fileId);
+    if (pages == null) {
+      pages = Collections.newSetFromMap(new ConcurrentHashMap<Long, Boolean>());
+      Set<Long> oldPages = filePages.putIfAbsent(fileId, pages);
+
+      if (oldPages != null)
+        pages = oldPages;
+    }
+
+    pages.add(pageIndex);
+  }
+
+  /**
+   * Reads pages of single queue stored in cache state file, pages of unknown files and pages which are already in cache are
+   * skipped.
    * <p>
    * Following format is used to store queue state:
    * <p>
@@ -787,14 +1095,12 @@ public class O2QCache implements OReadCache {
    * </ol>
    *
    * @param dataInputStream Stream of file which contains state of the cache.
-   * @param queue           Queue, state of which should be restored.
-   * @param writeCache      Write cache is used to load data from disk if needed.
+   * @param writeCache      Write cache is used to convert internal file ids to external ones.
+   *
+   * @return Pages sorted by file and page index.
    */
-  private void restoreQueueWithoutPageLoad(OWriteCache writeCache, LRUList queue, DataInputStream dataInputStream)
-      throws IOException {
-
-    //this set is only needed to rollback changes in case of IO Exception
-    final Set<PageKey> addedPages = new HashSet<>();
+  private List<PageKey> readQueueState(OWriteCache writeCache, DataInputStream dataInputStream) {
+    final TreeSet<PageKey> filePositions = new TreeSet<>();
 
     try {
       int internalFileId = dataInputStream.readInt();
@@ -807,43 +1113,21 @@ public class O2QCache implements OReadCache {
           if (writeCache.fileNameById(fileId) == null) // skip potentially outdated information about unknown files
             continue;
 
-          if (get(fileId, pageIndex) == null && !pinnedPages.containsKey(new PinnedPage(fileId, pageIndex))) {
-            final OCacheEntry cacheEntry = new OCacheEntryImpl(fileId, pageIndex, null, false);
-
-            Set<Long> pages = filePages.get(fileId);
-            if (pages == null) {
-              pages = new HashSet<>();
-
-              Set<Long> op = filePages.putIfAbsent(fileId, pages);
-              if (op != null) {
-                pages = op;
-              }
-            }
-
-            queue.putToMRU(cacheEntry);
-            pages.add(cacheEntry.getPageIndex());
-
-            addedPages.add(new PageKey(fileId, pageIndex));
-            removeColdPagesWithCacheLock();
-          }
+          if (get(fileId, pageIndex) == null && !pinnedPages.containsKey(new PinnedPage(fileId, pageIndex)))
+            filePositions.add(new PageKey(fileId, pageIndex));
         } finally {
           internalFileId = dataInputStream.readInt();
         }
       }
     } catch (IOException e) {
-      for (PageKey pageKey : addedPages) {
-        queue.remove(pageKey.fileId, pageKey.pageIndex);
-
-        final Set<Long> pages = filePages.get(pageKey.fileId);
-        pages.remove(pageKey.pageIndex);
-      }
-
       throw OException.wrapException(new OLoadCacheStateException("Can not restore state of cache from file"), e);
     }
+
+    return new ArrayList<>(filePositions);
   }
 
   /**
-   * Restores queues state if it is needed to load cache page from disk to cache.
+   * Restores queues state if it is NOT needed to load cache page from disk to cache.
    * <p>
    * Following format is used to store queue state:
    * <p>
@@ -856,13 +1140,11 @@ public class O2QCache implements OReadCache {
    * @param queue           Queue, state of which should be restored.
    * @param writeCache      Write cache is used to load data from disk if needed.
    */
-  private void restoreQueueWithPageLoad(OWriteCache writeCache, LRUList queue, DataInputStream dataInputStream) throws IOException {
-    // used only for statistics, and there is passed merely as stub
-    final OModifiableBoolean cacheHit = new OModifiableBoolean();
+  private void restoreQueueWithoutPageLoad(OWriteCache writeCache, LRUList queue, DataInputStream dataInputStream)
+      throws IOException {
 
-    // first step, we will create set to sort data by position in file and load them with maximum speed and
-    // then to put data into the queue to restore position of entries in LRU list.
-    final TreeSet<PageKey> filePositions = new TreeSet<>();
+    //this set is only needed to rollback changes in case of IO Exception
+    final Set<PageKey> addedPages = new HashSet<>();
 
     try {
       int internalFileId = dataInputStream.readInt();
@@ -875,29 +1157,13 @@ public class O2QCache implements OReadCache {
           if (writeCache.fileNameById(fileId) == null) // skip potentially outdated information about unknown files
             continue;
 
-          //we replace only pages which are not loaded yet
           if (get(fileId, pageIndex) == null && !pinnedPages.containsKey(new PinnedPage(fileId, pageIndex))) {
-            filePositions.add(new PageKey(fileId, pageIndex));
-
-            //we put placeholder to the queue, later we will replace it with real data
-            //it is done to prevent cases when disk cache size will exceed limits
-            //set by configuration
             final OCacheEntry cacheEntry = new OCacheEntryImpl(fileId, pageIndex, null, false);
-            queue.putToMRU(cacheEntry);
-
-            Set<Long> pages = filePages.get(fileId);
-            if (pages == null) {
-              pages = new HashSet<>();
-
-              Set<Long> op = filePages.putIfAbsent(fileId, pages);
-              if (op != null) {
-                pages = op;
-              }
-            }
 
-            pages.add(pageIndex);
+            queue.putToMRU(cacheEntry);
+            addFilePage(fileId, cacheEntry.getPageIndex());
 
-            //remove part of the queue if queue size is bigger than allowed
+            addedPages.add(new PageKey(fileId, pageIndex));
             removeColdPagesWithCacheLock();
           }
         } finally {
@@ -905,8 +1171,7 @@ public class O2QCache implements OReadCache {
         }
       }
     } catch (IOException e) {
-      for (PageKey pageKey : filePositions) {
-        //clear all place holders
+      for (PageKey pageKey : addedPages) {
         queue.remove(pageKey.fileId, pageKey.pageIndex);
 
         final Set<Long> pages = filePages.get(pageKey.fileId);
@@ -915,29 +1180,6 @@ public class O2QCache implements OReadCache {
 
       throw OException.wrapException(new OLoadCacheStateException("Can not restore state of cache from file"), e);
     }
-
-    //second step: load pages sorted by position in a file and replace placeholders by real data
-    for (PageKey pageKey : filePositions) {
-      final OCacheEntry cacheEntry = queue.get(pageKey.fileId, pageKey.pageIndex);
-
-      //some queue items may be deleted because it reached size limit
-      if (cacheEntry != null && cacheEntry.getCachePointer() == null) {
-        final OCachePointer[] pointers = writeCache.load(pageKey.fileId, pageKey.pageIndex, 1, false, cacheHit, true);
-
-        if (pointers.length == 0) {
-          queue.remove(pageKey.fileId, pageKey.pageIndex);
-
-          final Set<Long> pages = filePages.get(pageKey.fileId);
-
-          if (pages != null) {
-            pages.remove(pageKey.pageIndex);
-          }
-          continue;
-        }
-
-        cacheEntry.setCachePointer(pointers[0]);
-      }
-    }
   }
 
   /**
@@ -962,6 +1204,8 @@ public class O2QCache implements OReadCache {
     if (writeCache == null)
       return;
 
+    final WarmUp warmUp = cancelWarmUp(writeCache);
+
     cacheLock.acquireWriteLock();
     try {
       final Path rootDirectory = writeCache.getRootDirectory();
@@ -981,9 +1225,11 @@ public class O2QCache implements OReadCache {
           dataOutputStream.writeLong(memoryDataContainer.get().maxSize);
 
           storeQueueState(writeCache, filesToStore, dataOutputStream, am);
+          storeWarmUpState(writeCache, filesToStore, dataOutputStream, warmUp, true);
           dataOutputStream.writeInt(-1);
 
           storeQueueState(writeCache, filesToStore, dataOutputStream, a1in);
+          storeWarmUpState(writeCache, filesToStore, dataOutputStream, warmUp, false);
           dataOutputStream.writeInt(-1);
 
           storeQueueState(writeCache, filesToStore, dataOutputStream, a1out);
@@ -1034,8 +1280,34 @@ public class O2QCache implements OReadCache {
     }
   }
 
+  /**
+   * Stores pages which were not loaded by interrupted warm-up of the cache, so they will be loaded during next open of
+   * storage. Format of the data is the same as format of {@link #storeQueueState(OWriteCache, Set, DataOutputStream, LRUList)}.
+   *
+   * @param warmUp Interrupted warm-up or <code>null</code> if warm-up was not in progress.
+   * @param hot    Whether pages of <code>am</code> or <code>a1in</code> queue should be stored.
+   */
+  private static void storeWarmUpState(OWriteCache writeCache, Set<Long> filesToStore, DataOutputStream dataOutputStream,
+      WarmUp warmUp, boolean hot) throws IOException {
+    if (warmUp == null)
+      return;
+
+    for (Batch batch : warmUp.batches) {
+      if (batch.done || batch.hot != hot || !filesToStore.contains(batch.fileId))
+        continue;
+
+      final int internalId = writeCache.internalFileId(batch.fileId);
+      for (long pageIndex : batch.pages) {
+        dataOutputStream.writeInt(internalId);
+        dataOutputStream.writeLong(pageIndex);
+      }
+    }
+  }
+
   @Override
   public void deleteStorage(OWriteCache writeCache) throws IOException {
+    cancelWarmUp(writeCache);
+
     cacheLock.acquireWriteLock();
     try {
       final long[] filesToClear = writeCache.delete();
@@ -1154,6 +1426,23 @@ public class O2QCache implements OReadCache {
     return true;
   }
 
+  @SuppressWarnings("SameReturnValue")
+  private boolean prefetchedEntryWasInA1OutQueue(final long fileId, final long pageIndex, final OCachePointer dataPointer,
+      final OCacheEntry cacheEntry) {
+    assert filePages.get(fileId) != null;
+    assert filePages.get(fileId).contains(pageIndex);
+
+    assert dataPointer != null;
+    assert cacheEntry.getCachePointer() == null;
+    assert !cacheEntry.isDirty();
+
+    cacheEntry.setCachePointer(dataPointer);
+
+    a1in.putToMRU(cacheEntry);
+
+    return true;
+  }
+
   @SuppressWarnings("SameReturnValue")
   private boolean entryIsInA1InQueue(final long fileId, final long pageIndex) {
     assert filePages.get(fileId) != null;
@@ -1167,16 +1456,7 @@ public class O2QCache implements OReadCache {
     cacheEntry = new OCacheEntryImpl(fileId, pageIndex, dataPointer, false);
     a1in.putToMRU(cacheEntry);
 
-    Set<Long> pages = filePages.get(fileId);
-    if (pages == null) {
-      pages = Collections.newSetFromMap(new ConcurrentHashMap<Long, Boolean>());
-      Set<Long> oldPages = filePages.putIfAbsent(fileId, pages);
-
-      if (oldPages != null)
-        pages = oldPages;
-    }
-
-    pages.add(pageIndex);
+    addFilePage(fileId, pageIndex);
     return new UpdateCacheResult(true, cacheEntry);
   }
 
@@ -1223,25 +1503,36 @@ public class O2QCache implements OReadCache {
 
     if (dataPointers != null) {
       for (int n = 1; n < dataPointers.length; n++) {
-        removeColdPages = processFetchedPage(removeColdPages, dataPointers[n]);
+        removeColdPages = processFetchedPage(removeColdPages, dataPointers[n], false);
       }
     }
 
     return new UpdateCacheResult(removeColdPages, cacheEntry);
   }
 
-  private boolean processFetchedPage(boolean removeColdPages, OCachePointer dataPointer) {
+  /**
+   * @param probationary If <code>true</code> page is not promoted to the hot queue even if it was in a1out queue and order of
+   *                     pages in hot queue is not changed, used for the pages which are read ahead of the requests.
+   */
+  private boolean processFetchedPage(boolean removeColdPages, OCachePointer dataPointer, boolean probationary) {
     final long fileId = dataPointer.getFileId();
     final long pageIndex = dataPointer.getPageIndex();
 
     if (pinnedPages.containsKey(new PinnedPage(fileId, pageIndex))) {
+      if (probationary)
+        dataPointer.decrementReadersReferrer();
+
       return removeColdPages;
     }
 
     OCacheEntry cacheEntry = am.get(fileId, pageIndex);
     if (cacheEntry != null) {
-      final boolean rcp = entryIsInAmQueue(fileId, pageIndex, cacheEntry);
-      removeColdPages = removeColdPages || rcp;
+      //page which is read ahead is not accessed yet, so position of hot page is not changed
+      if (!probationary) {
+        final boolean rcp = entryIsInAmQueue(fileId, pageIndex, cacheEntry);
+        removeColdPages = removeColdPages || rcp;
+      }
+
       dataPointer.decrementReadersReferrer();
 
       return removeColdPages;
@@ -1249,7 +1540,12 @@ public class O2QCache implements OReadCache {
 
     cacheEntry = a1out.remove(fileId, pageIndex);
     if (cacheEntry != null) {
-      final boolean rcp = entryWasInA1OutQueue(fileId, pageIndex, dataPointer, cacheEntry);
+      final boolean rcp;
+      if (probationary)
+        rcp = prefetchedEntryWasInA1OutQueue(fileId, pageIndex, dataPointer, cacheEntry);
+      else
+        rcp = entryWasInA1OutQueue(fileId, pageIndex, dataPointer, cacheEntry);
+
       removeColdPages = removeColdPages || rcp;
       return removeColdPages;
     }
@@ -1311,7 +1607,7 @@ public class O2QCache implements OReadCache {
 
           final OCachePointer cachePointer = removedFromAInEntry.getCachePointer();
           //cache pointer can be null if we load initial state of cache from disk
-          //see #restoreQueueWithPageLoad for details
+          //see #restoreQueueWithoutPageLoad for details
           if (cachePointer != null) {
             cachePointer.decrementReadersReferrer();
             removedFromAInEntry.clearCachePointer();
@@ -1340,7 +1636,7 @@ public class O2QCache implements OReadCache {
 
           final OCachePointer cachePointer = removedEntry.getCachePointer();
           //cache pointer can be null if we load initial state of cache from disk
-          //see #restoreQueueWithPageLoad for details
+          //see #restoreQueueWithoutPageLoad for details
           if (cachePointer != null) {
             cachePointer.decrementReadersReferrer();
             removedEntry.clearCachePointer();
@@ -1463,11 +1759,124 @@ public class O2QCache implements OReadCache {
     return memoryDataContainer.get().maxSize;
   }
 
+  /**
+   * Waits till all warm-ups of the cache which are in progress are completed.
+   */
+  void waitForWarmUp() throws InterruptedException {
+    while (isWarmUpInProgress())
+      Thread.sleep(10);
+  }
+
   @Override
   public long getUsedMemory() {
     return ((long) (am.size() + a1in.size())) * pageSize;
   }
 
+  @Override
+  public int getA1InSize() {
+    return a1in.size();
+  }
+
+  @Override
+  public int getA1OutSize() {
+    return a1out.size();
+  }
+
+  @Override
+  public int getAmSize() {
+    return am.size();
+  }
+
+  @Override
+  public long getUsedMemoryInMB() {
+    return getUsedMemory() / (1024 * 1024);
+  }
+
+  @Override
+  public double getUsedMemoryInGB() {
+    return Math.ceil((getUsedMemory() * 100) / (1024.0 * 1024 * 1024)) / 100;
+  }
+
+  @Override
+  public long getWarmUpTotalPages() {
+    return warmUpTotalPages.get();
+  }
+
+  @Override
+  public long getWarmUpLoadedPages() {
+    return warmUpLoadedPages.get();
+  }
+
+  @Override
+  public double getWarmUpProgress() {
+    final long total = warmUpTotalPages.get();
+    if (total == 0)
+      return 100;
+
+    return Math.min(100.0, 100.0 * warmUpLoadedPages.get() / total);
+  }
+
+  @Override
+  public long getWarmUpPagesPerSecond() {
+    final long startTime = warmUpStartTime;
+    if (startTime == 0)
+      return 0;
+
+    final long endTime = warmUpsInProgress.get() > 0 ? System.nanoTime() : warmUpEndTime;
+    final long time = endTime - startTime;
+    if (time <= 0)
+      return 0;
+
+    return warmUpLoadedPages.get() * 1000000000L / time;
+  }
+
+  @Override
+  public boolean isWarmUpInProgress() {
+    return warmUpsInProgress.get() > 0;
+  }
+
+  /**
+   * Registers the MBean for this cache.
+   *
+   * @see O2QCacheMXBean
+   */
+  public void registerMBean() {
+    if (mbeanIsRegistered.compareAndSet(false, true)) {
+      try {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName mbeanName = new ObjectName(MBEAN_NAME);
+
+        if (!server.isRegistered(mbeanName)) {
+          server.registerMBean(this, mbeanName);
+        } else {
+          mbeanIsRegistered.set(false);
+          OLogManager.instance().warn(this,
+              "MBean with name %s has already registered. Probably your system was not shutdown correctly"
+                  + " or you have several running applications which use OrientDB engine inside", mbeanName.getCanonicalName());
+        }
+      } catch (MalformedObjectNameException | InstanceAlreadyExistsException | MBeanRegistrationException | NotCompliantMBeanException e) {
+        throw OException.wrapException(new OSystemException("Error during registration of disk cache MBean"), e);
+      }
+    }
+  }
+
+  /**
+   * Unregisters the MBean for this cache.
+   *
+   * @see O2QCacheMXBean
+   */
+  public void unregisterMBean() {
+    if (mbeanIsRegistered.compareAndSet(true, false)) {
+      try {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName mbeanName = new ObjectName(MBEAN_NAME);
+        server.unregisterMBean(mbeanName);
+      } catch (MalformedObjectNameException | InstanceNotFoundException | MBeanRegistrationException e) {
+        throw OException.wrapException(new OSystemException("Error during unregistration of disk cache MBean"), e);
+      }
+    }
+  }
+
   private OCacheEntry remove(long fileId, long pageIndex) {
     OCacheEntry cacheEntry = am.remove(fileId, pageIndex);
     if (cacheEntry != null) {
@@ -1599,6 +2008,91 @@ public class O2QCache implements OReadCache {
     }
   }
 
+  /**
+   * Warm-up of the cache for single storage, pages are split into batches of adjacent pages of the same file.
+   */
+  private static final class WarmUp {
+    private final OWriteCache     writeCache;
+    private final List<Batch>     batches = new ArrayList<>();
+    private final Queue<Future<?>> futures = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Batches which are being loaded hold read lock, so warm-up can not be cancelled in the middle of loading of batch.
+     */
+    private final ReadWriteLock lock           = new ReentrantReadWriteLock();
+    private final AtomicInteger pendingBatches = new AtomicInteger();
+    private final AtomicBoolean finished       = new AtomicBoolean();
+
+    private volatile boolean cancelled;
+    private          long    pages;
+
+    private WarmUp(OWriteCache writeCache) {
+      this.writeCache = writeCache;
+    }
+
+    /**
+     * @param pageKeys Pages sorted by file and page index.
+     * @param hot      Whether pages belong to <code>am</code> queue.
+     */
+    private void addBatches(List<PageKey> pageKeys, boolean hot) {
+      int start = 0;
+      while (start < pageKeys.size()) {
+        final long fileId = pageKeys.get(start).fileId;
+
+        int end = start + 1;
+        while (end < pageKeys.size() && end - start < WARM_UP_BATCH_SIZE && pageKeys.get(end).fileId == fileId)
+          end++;
+
+        final long[] batchPages = new long[end - start];
+        for (int i = 0; i < batchPages.length; i++)
+          batchPages[i] = pageKeys.get(start + i).pageIndex;
+
+        batches.add(new Batch(fileId, batchPages, hot));
+        pendingBatches.incrementAndGet();
+        pages += batchPages.length;
+
+        start = end;
+      }
+    }
+
+    private void cancel() {
+      cancelled = true;
+
+      //wait till batches which are loaded at the moment are completed
+      lock.writeLock().lock();
+      lock.writeLock().unlock();
+
+      for (Future<?> future : futures)
+        future.cancel(false);
+    }
+  }
+
+  private static final class Batch {
+    private final long    fileId;
+    private final long[]  pages;
+    private final boolean hot;
+
+    private volatile boolean done;
+
+    private Batch(long fileId, long[] pages, boolean hot) {
+      this.fileId = fileId;
+      this.pages = pages;
+      this.hot = hot;
+    }
+  }
+
+  private static final class WarmUpThreadFactory implements ThreadFactory {
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable r) {
+      final Thread thread = new Thread(OStorageAbstract.storageThreadGroup, r);
+      thread.setDaemon(true);
+      thread.setName("OrientDB Disk Cache Warm Up Task " + counter.incrementAndGet());
+      return thread;
+    }
+  }
+
   private final static class UpdateCacheResult {
     private final boolean     removeColdPages;
     private final OCacheEntry cacheEntry;
@@ -32,4 +32,27 @@ public interface O2QCacheMXBean {
   long getUsedMemoryInMB();
 
   double getUsedMemoryInGB();
+
+  /**
+   * @return Amount of pages which should be loaded by warm-ups of the cache started since the moment when cache was not
+   * warmed up.
+   */
+  long getWarmUpTotalPages();
+
+  /**
+   * @return Amount of pages already loaded by warm-ups of the cache started since the moment when cache was not warmed up.
+   */
+  long getWarmUpLoadedPages();
+
+  /**
+   * @return Percent of pages of the stored cache state which are loaded back into the cache, 100 if warm-up is completed.
+   */
+  double getWarmUpProgress();
+
+  /**
+   * @return Speed of the last (or current) warm-up of the cache in pages per second.
+   */
+  long getWarmUpPagesPerSecond();
+
+  boolean isWarmUpInProgress();
 }
@@ -0,0 +1,114 @@
+package com.orientechnologies.orient.core.storage.cache.local.wtinylfu;
+
+/**
+ * Count-min sketch which estimates how often a page was accessed recently, it is used by {@link OWTinyLFUCache} to decide
+ * whether a page should be admitted into the main area of the cache.
+ * <p>
+ * Each estimation is kept in four 4-bit counters (so maximum estimated frequency is 15) placed in the same <code>long</code>
+ * value of the table, when amount of increments reaches ten times of the cache size all counters are halved, so frequency of
+ * pages which are not accessed any more decays with time.
+ * <p>
+ * Class is not thread safe, all calls are performed under the eviction lock of the cache.
+ */
+final class OFrequencySketch {
+  private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+
+  private static final long RESET_MASK = 0x7777777777777777L;
+  private static final long ONE_MASK   = 0x1111111111111111L;
+
+  private static final int MAX_FREQUENCY = 15;
+
+  private long[] table;
+  private int    tableMask;
+  private int    sampleSize;
+  private int    size;
+
+  OFrequencySketch(int maximumSize) {
+    ensureCapacity(maximumSize);
+  }
+
+  /**
+   * Resizes the sketch if cache may contain more pages than the sketch is able to count precisely, all collected frequencies
+   * are lost in such case.
+   *
+   * @param maximumSize Maximum amount of pages contained in cache.
+   */
+  void ensureCapacity(int maximumSize) {
+    final int maximum = Math.min(Math.max(maximumSize, 1), 1 << 30);
+    if (table != null && table.length >= maximum)
+      return;
+
+    table = new long[maximum == 1 ? 1 : Integer.highestOneBit(maximum - 1) << 1];
+    tableMask = table.length - 1;
+    sampleSize = maximum <= Integer.MAX_VALUE / 10 ? 10 * maximum : Integer.MAX_VALUE;
+    size = 0;
+  }
+
+  /**
+   * @return Estimated amount of recent accesses to the item with given hash code.
+   */
+  int frequency(int hashCode) {
+    final int hash = spread(hashCode);
+    final int start = (hash & 3) << 2;
+
+    int frequency = MAX_FREQUENCY;
+    for (int i = 0; i < 4; i++) {
+      final int index = indexOf(hash, i);
+      final int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+      frequency = Math.min(frequency, count);
+    }
+
+    return frequency;
+  }
+
+  /**
+   * Registers access to the item with given hash code.
+   */
+  void increment(int hashCode) {
+    final int hash = spread(hashCode);
+    final int start = (hash & 3) << 2;
+
+    boolean added = false;
+    for (int i = 0; i < 4; i++)
+      added |= incrementAt(indexOf(hash, i), start + i);
+
+    if (added && ++size >= sampleSize)
+      reset();
+  }
+
+  private boolean incrementAt(int index, int counter) {
+    final int offset = counter << 2;
+    final long mask = 0xfL << offset;
+    if ((table[index] & mask) != mask) {
+      table[index] += 1L << offset;
+      return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * Halves all counters, odd counters lose one increment which is taken into account to estimate new size of the sample.
+   */
+  private void reset() {
+    int odd = 0;
+    for (int i = 0; i < table.length; i++) {
+      odd += Long.bitCount(table[i] & ONE_MASK);
+      table[i] = (table[i] >>> 1) & RESET_MASK;
+    }
+
+    size = (size >>> 1) - (odd >>> 2);
+  }
+
+  private int indexOf(int hash, int i) {
+    long h = (hash + SEEDS[i]) * SEEDS[i];
+    h += h >>> 32;
+    return ((int) h) & tableMask;
+  }
+
+  private static int spread(int x) {
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    return (x >>> 16) ^ x;
+  }
+}
@@ -0,0 +1,1143 @@
+package com.orientechnologies.orient.core.storage.cache.local.wtinylfu;
+
+import com.orientechnologies.common.concur.lock.OInterruptedException;
+import com.orientechnologies.common.concur.lock.OPartitionedLockManager;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.types.OModifiableBoolean;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.exception.OReadCacheException;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.cache.*;
+import com.orientechnologies.orient.core.storage.cache.local.twoq.O2QCache;
+import com.orientechnologies.orient.core.storage.impl.local.statistic.OSessionStoragePerformanceStatistic;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Read cache which uses W-TinyLFU policy to decide which pages should be kept in memory.
+ * <p>
+ * Pages are kept in {@link ConcurrentHashMap} and found without any lock, the access to the page is only recorded into one of
+ * striped lossy buffers. Changes of the policy state are replayed from those buffers in batches by the thread which manages to
+ * acquire the eviction lock, so readers never wait for eviction. New pages are placed in small LRU window (1% of the cache), pages
+ * evicted from the window are admitted to the main segmented LRU area only if they were accessed more often than the page which
+ * would be evicted instead of them. Frequency of accesses is estimated by {@link OFrequencySketch}, so single scan of big file
+ * cannot flush pages which are accessed often.
+ * <p>
+ * Page which is used (loaded but not released) cannot be evicted, its usage counter is changed with CAS and eviction freezes only
+ * unused pages, in such case page is removed from the cache and the next load of it will be a cache miss.
+ *
+ * @see O2QCache
+ */
+public class OWTinyLFUCache implements OReadCache {
+  /**
+   * Maximum amount of times when we will show message that limit of pinned pages was exhausted.
+   */
+  private static final int MAX_AMOUNT_OF_WARNINGS_PINNED_PAGES = 10;
+
+  /**
+   * Maximum percent of pinned pages which may be contained in this cache.
+   */
+  private static final int MAX_PERCENT_OF_PINED_PAGES = 50;
+
+  /**
+   * Percent of the cache occupied by the window LRU queue.
+   */
+  private static final int WINDOW_PERCENT = 1;
+
+  /**
+   * Percent of the main area occupied by the protected queue.
+   */
+  private static final int PROTECTED_PERCENT = 80;
+
+  /**
+   * Size of the single buffer of page accesses, should be power of two.
+   */
+  private static final int READ_BUFFER_SIZE = 64;
+
+  private final int pageSize;
+  private final int percentOfPinnedPages;
+
+  private final AtomicInteger pinnedPagesWarningCounter = new AtomicInteger();
+
+  private final ConcurrentHashMap<PageKey, Entry>  data            = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<Long, Set<Long>> filePages       = new ConcurrentHashMap<>();
+  private final OPartitionedLockManager<Object>    fileLockManager = new OPartitionedLockManager<>(true);
+  private final OPartitionedLockManager<PageKey>   pageLockManager = new OPartitionedLockManager<>();
+
+  private final ReadBuffer[]                 readBuffers;
+  private final ConcurrentLinkedQueue<Entry> writeBuffer  = new ConcurrentLinkedQueue<>();
+  private final ReentrantLock                evictionLock = new ReentrantLock();
+
+  /**
+   * Maximum size of the cache in pages.
+   */
+  private volatile int maxSize;
+
+  /**
+   * Amount of pinned pages, changed under eviction lock.
+   */
+  private volatile int pinnedPages;
+
+  //following fields are accessed only under eviction lock
+  private final OFrequencySketch sketch;
+  private final EntryQueue       window         = new EntryQueue();
+  private final EntryQueue       probation      = new EntryQueue();
+  private final EntryQueue       protectedQueue = new EntryQueue();
+
+  /**
+   * @param readCacheMaxMemory   Maximum amount of direct memory which can allocated by disk cache in bytes.
+   * @param pageSize             Cache page size in bytes.
+   * @param checkMinSize         If this flat is set size of cache may be {@link O2QCache#MIN_CACHE_SIZE} or bigger.
+   * @param percentOfPinnedPages Maximum percent of pinned pages which may be hold by this cache.
+   */
+  public OWTinyLFUCache(final long readCacheMaxMemory, final int pageSize, final boolean checkMinSize,
+      final int percentOfPinnedPages) {
+    if (percentOfPinnedPages > MAX_PERCENT_OF_PINED_PAGES)
+      throw new IllegalArgumentException(
+          "Percent of pinned pages cannot be more than " + MAX_PERCENT_OF_PINED_PAGES + " but passed value is "
+              + percentOfPinnedPages);
+
+    this.percentOfPinnedPages = percentOfPinnedPages;
+    this.pageSize = pageSize;
+
+    int normalizedSize = normalizeMemory(readCacheMaxMemory, pageSize);
+    if (checkMinSize && normalizedSize < O2QCache.MIN_CACHE_SIZE)
+      normalizedSize = O2QCache.MIN_CACHE_SIZE;
+
+    this.maxSize = normalizedSize;
+    this.sketch = new OFrequencySketch(normalizedSize);
+
+    final int processors = Runtime.getRuntime().availableProcessors();
+    readBuffers = new ReadBuffer[processors <= 1 ? 1 : Integer.highestOneBit(processors - 1) << 1];
+    for (int i = 0; i < readBuffers.length; i++)
+      readBuffers[i] = new ReadBuffer();
+  }
+
+  @Override
+  public long addFile(String fileName, OWriteCache writeCache) throws IOException {
+    final long fileId = writeCache.addFile(fileName);
+    final Set<Long> oldPages = filePages.put(fileId, Collections.newSetFromMap(new ConcurrentHashMap<>()));
+    assert oldPages == null || oldPages.isEmpty();
+    return fileId;
+  }
+
+  @Override
+  public long addFile(String fileName, long fileId, OWriteCache writeCache) throws IOException {
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    final long fid = writeCache.addFile(fileName, fileId);
+    final Set<Long> oldPages = filePages.put(fid, Collections.newSetFromMap(new ConcurrentHashMap<>()));
+    assert oldPages == null || oldPages.isEmpty();
+
+    return fid;
+  }
+
+  @Override
+  public OCacheEntry loadForWrite(long fileId, long pageIndex, boolean checkPinnedPages, OWriteCache writeCache, int pageCount,
+      boolean verifyChecksums) throws IOException {
+    final OCacheEntry cacheEntry = doLoad(fileId, pageIndex, false, writeCache, pageCount, verifyChecksums);
+
+    if (cacheEntry != null) {
+      cacheEntry.acquireExclusiveLock();
+      writeCache.updateDirtyPagesTable(cacheEntry.getCachePointer());
+    }
+
+    return cacheEntry;
+  }
+
+  @Override
+  public OCacheEntry loadForRead(long fileId, long pageIndex, boolean checkPinnedPages, OWriteCache writeCache, int pageCount,
+      boolean verifyChecksums) throws IOException {
+    final OCacheEntry cacheEntry = doLoad(fileId, pageIndex, false, writeCache, pageCount, verifyChecksums);
+
+    if (cacheEntry != null)
+      cacheEntry.acquireSharedLock();
+
+    return cacheEntry;
+  }
+
+  @Override
+  public void prefetch(long fileId, long pageIndex, int pageCount, OWriteCache writeCache, boolean verifyChecksums)
+      throws IOException {
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    final Lock fileLock = fileLockManager.acquireSharedLock(fileId);
+    try {
+      //pages which are already cached are not read again
+      while (pageCount > 0 && data.containsKey(new PageKey(fileId, pageIndex))) {
+        pageIndex++;
+        pageCount--;
+      }
+
+      if (pageCount == 0)
+        return;
+
+      final PageKey[] pageKeys = new PageKey[pageCount];
+      for (int i = 0; i < pageKeys.length; i++)
+        pageKeys[i] = new PageKey(fileId, pageIndex + i);
+
+      final Lock[] pageLocks = pageLockManager.acquireExclusiveLocksInBatch(pageKeys);
+      try {
+        final OCachePointer[] dataPointers = writeCache
+            .load(fileId, pageIndex, pageCount, false, new OModifiableBoolean(), verifyChecksums);
+
+        //prefetched pages enter the window with zero frequency, so they can not push out pages of the main space
+        for (OCachePointer dataPointer : dataPointers) {
+          final PageKey key = new PageKey(dataPointer.getFileId(), dataPointer.getPageIndex());
+
+          if (data.containsKey(key))
+            dataPointer.decrementReadersReferrer();
+          else
+            add(new Entry(key, dataPointer, 0));
+        }
+      } finally {
+        for (Lock pageLock : pageLocks)
+          pageLock.unlock();
+      }
+    } finally {
+      fileLock.unlock();
+    }
+
+    tryToDrainBuffers();
+  }
+
+  @Override
+  public void releaseFromRead(OCacheEntry cacheEntry, OWriteCache writeCache) {
+    cacheEntry.releaseSharedLock();
+    ((Entry) cacheEntry).release();
+  }
+
+  @Override
+  public void releaseFromWrite(OCacheEntry cacheEntry, OWriteCache writeCache) {
+    final Entry entry = (Entry) cacheEntry;
+    entry.releaseExclusiveLock();
+
+    CountDownLatch latch = null;
+    if (entry.isDirty()) {
+      //flag is cleared before the page is passed to the write cache, so changes done by concurrent writer after this point
+      //will be passed to the write cache by the writer itself
+      entry.clearDirty();
+
+      final OSessionStoragePerformanceStatistic sessionStoragePerformanceStatistic = writeCache.getPerformanceStatisticManager()
+          .getSessionPerformanceStatistic();
+
+      if (sessionStoragePerformanceStatistic != null) {
+        sessionStoragePerformanceStatistic.startPageWriteInCacheTimer();
+      }
+
+      try {
+        latch = writeCache.store(entry.getFileId(), entry.getPageIndex(), entry.getCachePointer());
+      } finally {
+        if (sessionStoragePerformanceStatistic != null) {
+          sessionStoragePerformanceStatistic.stopPageWriteInCacheTimer();
+        }
+      }
+    }
+
+    entry.release();
+
+    if (latch != null) {
+      try {
+        latch.await();
+      } catch (InterruptedException e) {
+        Thread.interrupted();
+        throw new OInterruptedException("File flush was interrupted");
+      } catch (Exception e) {
+        throw OException.wrapException(new OReadCacheException("File flush was abnormally terminated"), e);
+      }
+    }
+  }
+
+  @Override
+  public void pinPage(OCacheEntry cacheEntry) throws IOException {
+    if ((100 * (pinnedPages + 1)) / maxSize > percentOfPinnedPages) {
+      if (pinnedPagesWarningCounter.get() < MAX_AMOUNT_OF_WARNINGS_PINNED_PAGES) {
+
+        final long warnings = pinnedPagesWarningCounter.getAndIncrement();
+        if (warnings < MAX_AMOUNT_OF_WARNINGS_PINNED_PAGES) {
+          OLogManager.instance().warn(this, "Maximum amount of pinned pages is reached, given page " + cacheEntry
+              + " will not be marked as pinned which may lead to performance degradation. You may consider to increase the percent of pinned pages "
+              + "by changing the property '" + OGlobalConfiguration.DISK_CACHE_PINNED_PAGES.getKey() + "'");
+        }
+      }
+
+      return;
+    }
+
+    final Entry entry = (Entry) cacheEntry;
+
+    evictionLock.lock();
+    try {
+      //entry may be still in the write buffer
+      drainBuffers();
+
+      if (!entry.pinned && entry.state.get() != Entry.DEAD) {
+        if (entry.queue != null)
+          entry.queue.remove(entry);
+
+        entry.pinned = true;
+        pinnedPages++;
+      }
+
+      evict();
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  /**
+   * Changes amount of memory which may be used by given cache.
+   *
+   * @param readCacheMaxMemory New maximum size of cache in bytes.
+   *
+   * @throws IllegalStateException In case of new size of disk cache is too small to hold existing pinned pages.
+   */
+  public void changeMaximumAmountOfMemory(final long readCacheMaxMemory) throws IllegalStateException {
+    final int newMemorySize = normalizeMemory(readCacheMaxMemory, pageSize);
+
+    final int oldMemorySize;
+    evictionLock.lock();
+    try {
+      oldMemorySize = maxSize;
+      if (oldMemorySize == newMemorySize)
+        return;
+
+      if ((100 * pinnedPages / newMemorySize) > percentOfPinnedPages) {
+        throw new IllegalStateException("Cannot decrease amount of memory used by disk cache "
+            + "because limit of pinned pages will be more than allowed limit " + percentOfPinnedPages);
+      }
+
+      maxSize = newMemorySize;
+      sketch.ensureCapacity(newMemorySize);
+
+      drainBuffers();
+    } finally {
+      evictionLock.unlock();
+    }
+
+    OLogManager.instance().info(this, "Disk cache size was changed from " + oldMemorySize + " pages to " + newMemorySize + " pages");
+  }
+
+  @Override
+  public OCacheEntry allocateNewPage(long fileId, OWriteCache writeCache, boolean verifyChecksums) throws IOException {
+    final OSessionStoragePerformanceStatistic sessionStoragePerformanceStatistic = writeCache.getPerformanceStatisticManager()
+        .getSessionPerformanceStatistic();
+
+    if (sessionStoragePerformanceStatistic != null) {
+      sessionStoragePerformanceStatistic.startPageReadFromCacheTimer();
+    }
+
+    try {
+      fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+      final Entry entry;
+      final Lock fileLock = fileLockManager.acquireExclusiveLock(fileId);
+      try {
+        final long filledUpTo = writeCache.getFilledUpTo(fileId);
+        assert filledUpTo >= 0;
+        entry = doLoad(fileId, filledUpTo, true, writeCache, 1, sessionStoragePerformanceStatistic, verifyChecksums);
+      } finally {
+        fileLock.unlock();
+      }
+
+      assert entry != null;
+
+      entry.acquireExclusiveLock();
+      writeCache.updateDirtyPagesTable(entry.getCachePointer());
+
+      return entry;
+    } finally {
+      if (sessionStoragePerformanceStatistic != null) {
+        sessionStoragePerformanceStatistic.stopPageReadFromCacheTimer();
+      }
+    }
+  }
+
+  private Entry doLoad(long fileId, long pageIndex, boolean addNewPages, OWriteCache writeCache, int pageCount,
+      boolean verifyChecksums) throws IOException {
+    final OSessionStoragePerformanceStatistic sessionStoragePerformanceStatistic = writeCache.getPerformanceStatisticManager()
+        .getSessionPerformanceStatistic();
+
+    if (sessionStoragePerformanceStatistic != null) {
+      sessionStoragePerformanceStatistic.startPageReadFromCacheTimer();
+    }
+
+    try {
+      fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+      return doLoad(fileId, pageIndex, addNewPages, writeCache, pageCount, sessionStoragePerformanceStatistic, verifyChecksums);
+    } finally {
+      if (sessionStoragePerformanceStatistic != null) {
+        sessionStoragePerformanceStatistic.stopPageReadFromCacheTimer();
+      }
+    }
+  }
+
+  private Entry doLoad(long fileId, long pageIndex, boolean addNewPages, OWriteCache writeCache, int pageCount,
+      OSessionStoragePerformanceStatistic sessionStoragePerformanceStatistic, boolean verifyChecksums) throws IOException {
+    if (pageCount < 1)
+      throw new IllegalArgumentException(
+          "Amount of pages to load from cache should be not less than 1 but passed value is " + pageCount);
+
+    final PageKey pageKey = new PageKey(fileId, pageIndex);
+
+    //fast path, page is found without any lock
+    Entry entry = data.get(pageKey);
+    if (entry != null && entry.acquire()) {
+      afterRead(entry);
+
+      if (sessionStoragePerformanceStatistic != null)
+        sessionStoragePerformanceStatistic.incrementPageAccessOnCacheLevel(true);
+
+      return entry;
+    }
+
+    final OModifiableBoolean cacheHit = new OModifiableBoolean(false);
+
+    final Lock fileLock = fileLockManager.acquireSharedLock(fileId);
+    try {
+      final PageKey[] pageKeys = new PageKey[pageCount];
+      pageKeys[0] = pageKey;
+      for (int i = 1; i < pageKeys.length; i++)
+        pageKeys[i] = new PageKey(fileId, pageIndex + i);
+
+      final Lock[] pageLocks = pageLockManager.acquireExclusiveLocksInBatch(pageKeys);
+      try {
+        entry = data.get(pageKey);
+        while (entry != null) {
+          if (entry.acquire()) {
+            cacheHit.setValue(true);
+            afterRead(entry);
+            break;
+          }
+
+          //page is removed by eviction right now, it does not take any locks so we may wait for it here
+          Thread.yield();
+          entry = data.get(pageKey);
+        }
+
+        if (entry == null) {
+          final OCachePointer[] dataPointers = writeCache.load(fileId, pageIndex, pageCount, addNewPages, cacheHit, verifyChecksums);
+          if (dataPointers.length == 0)
+            return null;
+
+          entry = new Entry(pageKey, dataPointers[0], 1);
+          add(entry);
+
+          //the rest of pages are prefetched ones, they are added only if they are absent in cache
+          for (int n = 1; n < dataPointers.length; n++) {
+            final OCachePointer dataPointer = dataPointers[n];
+            final PageKey key = new PageKey(dataPointer.getFileId(), dataPointer.getPageIndex());
+
+            if (data.containsKey(key))
+              dataPointer.decrementReadersReferrer();
+            else
+              add(new Entry(key, dataPointer, 0));
+          }
+        }
+      } finally {
+        for (Lock pageLock : pageLocks)
+          pageLock.unlock();
+      }
+    } finally {
+      fileLock.unlock();
+    }
+
+    if (sessionStoragePerformanceStatistic != null)
+      sessionStoragePerformanceStatistic.incrementPageAccessOnCacheLevel(cacheHit.getValue());
+
+    if (!cacheHit.getValue())
+      tryToDrainBuffers();
+
+    return entry;
+  }
+
+  private void add(Entry entry) {
+    data.put(entry.key, entry);
+
+    Set<Long> pages = filePages.get(entry.getFileId());
+    if (pages == null) {
+      pages = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+      final Set<Long> op = filePages.putIfAbsent(entry.getFileId(), pages);
+      if (op != null)
+        pages = op;
+    }
+
+    pages.add(entry.getPageIndex());
+
+    writeBuffer.offer(entry);
+  }
+
+  /**
+   * Records access to the page, if buffer of accesses is full it is drained, if eviction lock is acquired by other thread access
+   * is simply lost.
+   */
+  private void afterRead(Entry entry) {
+    final ReadBuffer buffer = readBuffers[(int) Thread.currentThread().getId() & (readBuffers.length - 1)];
+    if (!buffer.offer(entry))
+      tryToDrainBuffers();
+  }
+
+  private void tryToDrainBuffers() {
+    do {
+      if (!evictionLock.tryLock())
+        return;
+
+      try {
+        drainBuffers();
+      } finally {
+        evictionLock.unlock();
+      }
+      //new pages could be added by threads which failed to acquire the lock
+    } while (!writeBuffer.isEmpty());
+  }
+
+  /**
+   * Replays recorded accesses and additions of pages and evicts pages if cache is overflown. Should be called under eviction lock.
+   */
+  private void drainBuffers() {
+    for (ReadBuffer buffer : readBuffers)
+      buffer.drain(this);
+
+    Entry entry;
+    while ((entry = writeBuffer.poll()) != null)
+      onAdd(entry);
+
+    evict();
+  }
+
+  private void onAdd(Entry entry) {
+    if (entry.pinned || entry.queue != null || entry.state.get() == Entry.DEAD)
+      return;
+
+    sketch.increment(entry.hash);
+    window.addLast(entry);
+  }
+
+  private void onAccess(Entry entry) {
+    sketch.increment(entry.hash);
+
+    final EntryQueue queue = entry.queue;
+    if (queue == null)
+      //entry is pinned, removed or not added yet
+      return;
+
+    if (queue == probation) {
+      probation.remove(entry);
+      protectedQueue.addLast(entry);
+    } else {
+      queue.moveToTail(entry);
+    }
+  }
+
+  private void evict() {
+    final int capacity = Math.max(maxSize - pinnedPages, 1);
+    final int windowMaxSize = Math.max(capacity * WINDOW_PERCENT / 100, 1);
+    final int mainMaxSize = capacity - windowMaxSize;
+    final int protectedMaxSize = mainMaxSize * PROTECTED_PERCENT / 100;
+
+    while (window.size > windowMaxSize) {
+      final Entry candidate = window.head;
+      window.remove(candidate);
+      admit(candidate, mainMaxSize);
+    }
+
+    while (protectedQueue.size > protectedMaxSize) {
+      final Entry entry = protectedQueue.head;
+      protectedQueue.remove(entry);
+      probation.addLast(entry);
+    }
+
+    //cache is overflown if size was decreased or pages were used and could not be evicted before
+    int attempts = probation.size + protectedQueue.size;
+    while (probation.size + protectedQueue.size > mainMaxSize && attempts-- > 0) {
+      final EntryQueue queue = probation.size > 0 ? probation : protectedQueue;
+      final Entry victim = queue.head;
+      if (!evictEntry(victim))
+        queue.moveToTail(victim);
+    }
+  }
+
+  /**
+   * Decides whether page evicted from the window should be placed into the main area of the cache, page is admitted if it was
+   * accessed more often than the least recently used page of the probation queue.
+   */
+  private void admit(Entry candidate, int mainMaxSize) {
+    if (probation.size + protectedQueue.size < mainMaxSize) {
+      probation.addLast(candidate);
+      return;
+    }
+
+    final Entry victim = probation.size > 0 ? probation.head : protectedQueue.head;
+    if (victim != null && sketch.frequency(candidate.hash) > sketch.frequency(victim.hash) && evictEntry(victim)) {
+      probation.addLast(candidate);
+      return;
+    }
+
+    //page which is used right now is kept till next eviction
+    if (!evictEntry(candidate))
+      probation.addLast(candidate);
+  }
+
+  private boolean evictEntry(Entry entry) {
+    if (!entry.state.compareAndSet(0, Entry.FROZEN))
+      return false;
+
+    removeEntry(entry);
+    return true;
+  }
+
+  /**
+   * Removes frozen entry from the cache. Should be called under eviction lock.
+   */
+  private void removeEntry(Entry entry) {
+    data.remove(entry.key, entry);
+
+    if (entry.queue != null)
+      entry.queue.remove(entry);
+
+    if (entry.pinned) {
+      entry.pinned = false;
+      pinnedPages--;
+    }
+
+    final Set<Long> pages = filePages.get(entry.getFileId());
+    if (pages != null)
+      pages.remove(entry.getPageIndex());
+
+    final OCachePointer cachePointer = entry.getCachePointer();
+    if (cachePointer != null) {
+      cachePointer.decrementReadersReferrer();
+      entry.clearCachePointer();
+    }
+
+    entry.state.set(Entry.DEAD);
+  }
+
+  public void clear() {
+    evictionLock.lock();
+    try {
+      drainBuffers();
+
+      for (Entry entry : data.values()) {
+        if (!entry.state.compareAndSet(0, Entry.FROZEN))
+          throw new OStorageException(
+              "Page with index " + entry.getPageIndex() + " for file with id " + entry.getFileId() + " cannot be freed because it is used.");
+
+        removeEntry(entry);
+      }
+
+      filePages.clear();
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public void truncateFile(long fileId, OWriteCache writeCache) throws IOException {
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    final Lock fileLock = fileLockManager.acquireExclusiveLock(fileId);
+    try {
+      //pages loaded from memory mapped windows of the file must not be accessed once the file is shrunk
+      clearFile(fileId);
+
+      writeCache.truncateFile(fileId);
+    } finally {
+      fileLock.unlock();
+    }
+  }
+
+  @Override
+  public void closeFile(long fileId, boolean flush, OWriteCache writeCache) throws IOException {
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    final Lock fileLock = fileLockManager.acquireExclusiveLock(fileId);
+    try {
+      writeCache.close(fileId, flush);
+
+      clearFile(fileId);
+    } finally {
+      fileLock.unlock();
+    }
+  }
+
+  @Override
+  public void deleteFile(long fileId, OWriteCache writeCache) throws IOException {
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    final Lock fileLock = fileLockManager.acquireExclusiveLock(fileId);
+    try {
+      clearFile(fileId);
+      filePages.remove(fileId);
+      writeCache.deleteFile(fileId);
+    } finally {
+      fileLock.unlock();
+    }
+  }
+
+  @Override
+  public void closeStorage(OWriteCache writeCache) throws IOException {
+    if (writeCache == null)
+      return;
+
+    final long[] filesToClear = writeCache.close();
+    for (long fileId : filesToClear) {
+      final Lock fileLock = fileLockManager.acquireExclusiveLock(fileId);
+      try {
+        clearFile(fileId);
+      } finally {
+        fileLock.unlock();
+      }
+    }
+  }
+
+  @Override
+  public void deleteStorage(OWriteCache writeCache) throws IOException {
+    final long[] filesToClear = writeCache.delete();
+    for (long fileId : filesToClear) {
+      final Lock fileLock = fileLockManager.acquireExclusiveLock(fileId);
+      try {
+        clearFile(fileId);
+      } finally {
+        fileLock.unlock();
+      }
+    }
+
+    final Path stateFile = writeCache.getRootDirectory().resolve(O2QCache.CACHE_STATE_FILE);
+    if (Files.exists(stateFile)) {
+      Files.delete(stateFile);
+    }
+  }
+
+  /**
+   * Removes all pages of the file from the cache. Should be called under exclusive lock of the file.
+   */
+  private void clearFile(long fileId) {
+    evictionLock.lock();
+    try {
+      //pages of the file may be still in the buffers
+      drainBuffers();
+
+      final Set<Long> pageEntries = filePages.get(fileId);
+      if (pageEntries == null || pageEntries.isEmpty())
+        return;
+
+      for (Long pageIndex : pageEntries) {
+        final Entry entry = data.get(new PageKey(fileId, pageIndex));
+        if (entry == null)
+          throw new OStorageException("Page with index " + pageIndex + " was  not found in cache for file with id " + fileId);
+
+        if (!entry.state.compareAndSet(0, Entry.FROZEN))
+          throw new OStorageException(
+              "Page with index " + pageIndex + " for file with id " + fileId + " cannot be freed because it is used.");
+
+        removeEntry(entry);
+      }
+
+      pageEntries.clear();
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  /**
+   * Loads pages stored by {@link #storeCacheState(OWriteCache)} back into the cache if flag
+   * {@link OGlobalConfiguration#STORAGE_KEEP_DISK_CACHE_STATE} is set to <code>true</code>. Pages of protected queue are accessed
+   * twice, so they are placed into the protected queue again.
+   * <p>
+   * State stored by {@link O2QCache} may be loaded too, pages of <code>am</code> queue are treated as pages of the protected queue
+   * and pages of <code>a1in</code> queue as pages of the probation queue.
+   * <p>
+   * If maximum size of cache was decreased cache state will not be restored.
+   */
+  @Override
+  public void loadCacheState(OWriteCache writeCache) {
+    if (!OGlobalConfiguration.STORAGE_KEEP_DISK_CACHE_STATE.getValueAsBoolean()) {
+      return;
+    }
+
+    final Path statePath = writeCache.getRootDirectory().resolve(O2QCache.CACHE_STATE_FILE);
+    if (!Files.exists(statePath))
+      return;
+
+    final List<PageKey> hotPages;
+    final TreeSet<PageKey> filePositions = new TreeSet<>();
+
+    try (DataInputStream dataInputStream = new DataInputStream(
+        new BufferedInputStream(Files.newInputStream(statePath), 64 * 1024))) {
+      final long maxCacheSize = dataInputStream.readLong();
+      if (maxCacheSize > maxSize) {
+        OLogManager.instance().info(this,
+            "Previous maximum cache size was %d current maximum cache size is %d. Cache state for storage %s will not be restored.",
+            maxCacheSize, maxSize, writeCache.getRootDirectory());
+        return;
+      }
+
+      hotPages = readPages(writeCache, dataInputStream);
+      filePositions.addAll(hotPages);
+      filePositions.addAll(readPages(writeCache, dataInputStream));
+    } catch (IOException e) {
+      OLogManager.instance().warn(this, "Cannot restore state of cache for storage placed under " + writeCache.getRootDirectory());
+      return;
+    }
+
+    try {
+      //pages are loaded sorted by position in a file to load them with maximum speed
+      for (PageKey pageKey : filePositions)
+        touch(pageKey, writeCache);
+
+      for (PageKey pageKey : hotPages)
+        touch(pageKey, writeCache);
+
+      evictionLock.lock();
+      try {
+        drainBuffers();
+      } finally {
+        evictionLock.unlock();
+      }
+    } catch (Exception e) {
+      throw OException.wrapException(
+          new OStorageException("Cannot restore state of cache for storage placed under " + writeCache.getRootDirectory()), e);
+    }
+  }
+
+  private void touch(PageKey pageKey, OWriteCache writeCache) throws IOException {
+    final Entry entry = doLoad(pageKey.fileId, pageKey.pageIndex, false, writeCache, 1, null, true);
+    if (entry != null)
+      entry.release();
+  }
+
+  private static List<PageKey> readPages(OWriteCache writeCache, DataInputStream dataInputStream) throws IOException {
+    final List<PageKey> pages = new ArrayList<>();
+
+    int internalFileId = dataInputStream.readInt();
+    while (internalFileId >= 0) {
+      final long pageIndex = dataInputStream.readLong();
+      final long fileId = writeCache.externalFileId(internalFileId);
+
+      // skip potentially outdated information about unknown files
+      if (writeCache.fileNameById(fileId) != null)
+        pages.add(new PageKey(fileId, pageIndex));
+
+      internalFileId = dataInputStream.readInt();
+    }
+
+    return pages;
+  }
+
+  /**
+   * Stores pages contained in the cache inside of {@link O2QCache#CACHE_STATE_FILE} file if flag
+   * {@link OGlobalConfiguration#STORAGE_KEEP_DISK_CACHE_STATE} is set to <code>true</code>. The same format as in
+   * {@link O2QCache#storeCacheState(OWriteCache)} is used, pages of the protected queue are stored in place of the <code>am</code>
+   * queue, pages of the probation and window queues in place of the <code>a1in</code> queue.
+   */
+  @Override
+  public void storeCacheState(OWriteCache writeCache) {
+    if (!OGlobalConfiguration.STORAGE_KEEP_DISK_CACHE_STATE.getValueAsBoolean()) {
+      return;
+    }
+
+    if (writeCache == null)
+      return;
+
+    evictionLock.lock();
+    try {
+      drainBuffers();
+
+      final Path stateFile = writeCache.getRootDirectory().resolve(O2QCache.CACHE_STATE_FILE);
+      if (Files.exists(stateFile)) {
+        Files.delete(stateFile);
+      }
+
+      final Set<Long> filesToStore = new HashSet<>(writeCache.files().values());
+
+      try (DataOutputStream dataOutputStream = new DataOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(stateFile), 64 * 1024))) {
+        dataOutputStream.writeLong(maxSize);
+
+        storeQueueState(writeCache, filesToStore, dataOutputStream, protectedQueue);
+        dataOutputStream.writeInt(-1);
+
+        storeQueueState(writeCache, filesToStore, dataOutputStream, probation);
+        storeQueueState(writeCache, filesToStore, dataOutputStream, window);
+        dataOutputStream.writeInt(-1);
+
+        //there is no queue of evicted pages
+        dataOutputStream.writeInt(-1);
+      }
+    } catch (Exception e) {
+      OLogManager.instance()
+          .error(this, "Cannot store state of cache for storage placed under %s (error: %s)", writeCache.getRootDirectory(), e);
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  private static void storeQueueState(OWriteCache writeCache, Set<Long> filesToStore, DataOutputStream dataOutputStream,
+      EntryQueue queue) throws IOException {
+    for (Entry entry = queue.head; entry != null; entry = entry.next) {
+      final long fileId = entry.getFileId();
+      if (filesToStore.contains(fileId)) {
+        dataOutputStream.writeInt(writeCache.internalFileId(fileId));
+        dataOutputStream.writeLong(entry.getPageIndex());
+      }
+    }
+  }
+
+  @Override
+  public long getUsedMemory() {
+    return ((long) data.size()) * pageSize;
+  }
+
+  /**
+   * @return Maximum size of the cache in pages.
+   */
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  boolean isCached(long fileId, long pageIndex) {
+    return data.containsKey(new PageKey(fileId, pageIndex));
+  }
+
+  /**
+   * Applies all pending changes of the policy state, used in tests to get predictable state of the cache.
+   */
+  void drain() {
+    evictionLock.lock();
+    try {
+      drainBuffers();
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  private static int normalizeMemory(long maxSize, int pageSize) {
+    final long tmpMaxSize = maxSize / pageSize;
+    if (tmpMaxSize >= Integer.MAX_VALUE) {
+      return Integer.MAX_VALUE;
+    } else {
+      return (int) tmpMaxSize;
+    }
+  }
+
+  /**
+   * Cache entry which tracks amount of its users in atomic counter, so it can be acquired without any lock. Negative values of the
+   * counter mean that entry is removed or is being removed from the cache.
+   */
+  private static final class Entry extends OCacheEntryImpl {
+    private static final int FROZEN = -1;
+    private static final int DEAD   = -2;
+
+    private final PageKey       key;
+    private final int           hash;
+    private final AtomicInteger state;
+
+    //following fields are accessed only under eviction lock
+    private Entry      prev;
+    private Entry      next;
+    private EntryQueue queue;
+    private boolean    pinned;
+
+    private Entry(PageKey key, OCachePointer dataPointer, int usages) {
+      super(key.fileId, key.pageIndex, dataPointer, false);
+      this.key = key;
+      this.hash = key.hashCode();
+      this.state = new AtomicInteger(usages);
+    }
+
+    private boolean acquire() {
+      while (true) {
+        final int usages = state.get();
+        if (usages < 0)
+          return false;
+
+        if (state.compareAndSet(usages, usages + 1))
+          return true;
+      }
+    }
+
+    private void release() {
+      final int usages = state.decrementAndGet();
+      assert usages >= 0;
+    }
+
+    @Override
+    public int getUsagesCount() {
+      return Math.max(state.get(), 0);
+    }
+
+    @Override
+    public void incrementUsages() {
+      if (!acquire())
+        throw new IllegalStateException("Page " + key + " is removed from cache");
+    }
+
+    @Override
+    public void decrementUsages() {
+      release();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return this == o;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  /**
+   * LRU queue of cache entries, the least recently used entry is the head of the queue.
+   */
+  private static final class EntryQueue {
+    private Entry head;
+    private Entry tail;
+    private int   size;
+
+    private void addLast(Entry entry) {
+      entry.queue = this;
+      entry.prev = tail;
+      entry.next = null;
+
+      if (tail == null)
+        head = entry;
+      else
+        tail.next = entry;
+
+      tail = entry;
+      size++;
+    }
+
+    private void remove(Entry entry) {
+      assert entry.queue == this;
+
+      if (entry.prev == null)
+        head = entry.next;
+      else
+        entry.prev.next = entry.next;
+
+      if (entry.next == null)
+        tail = entry.prev;
+      else
+        entry.next.prev = entry.prev;
+
+      entry.prev = null;
+      entry.next = null;
+      entry.queue = null;
+      size--;
+    }
+
+    private void moveToTail(Entry entry) {
+      if (tail != entry) {
+        remove(entry);
+        addLast(entry);
+      }
+    }
+  }
+
+  /**
+   * Lossy buffer of page accesses, it is filled by readers without locks and drained under eviction lock.
+   */
+  private static final class ReadBuffer {
+    private static final int MASK = READ_BUFFER_SIZE - 1;
+
+    private final AtomicReferenceArray<Entry> buffer       = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final AtomicLong                  writeCounter = new AtomicLong();
+    private volatile long readCounter;
+
+    /**
+     * @return <code>false</code> if buffer is full and should be drained.
+     */
+    private boolean offer(Entry entry) {
+      final long head = readCounter;
+      final long tail = writeCounter.get();
+      if (tail - head >= READ_BUFFER_SIZE)
+        return false;
+
+      //if other thread has taken the same slot access is lost
+      if (writeCounter.compareAndSet(tail, tail + 1))
+        buffer.lazySet((int) (tail & MASK), entry);
+
+      return true;
+    }
+
+    private void drain(OWTinyLFUCache cache) {
+      long head = readCounter;
+      final long tail = writeCounter.get();
+
+      for (; head < tail; head++) {
+        final int index = (int) (head & MASK);
+        final Entry entry = buffer.get(index);
+        if (entry == null)
+          //slot is taken but entry is not written yet
+          break;
+
+        buffer.lazySet(index, null);
+        cache.onAccess(entry);
+      }
+
+      readCounter = head;
+    }
+  }
+
+  private static final class PageKey implements Comparable<PageKey> {
+    private final long fileId;
+    private final long pageIndex;
+
+    private PageKey(long fileId, long pageIndex) {
+      this.fileId = fileId;
+      this.pageIndex = pageIndex;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o)
+        return true;
+      if (o == null || getClass() != o.getClass())
+        return false;
+
+      PageKey pageKey = (PageKey) o;
+
+      return fileId == pageKey.fileId && pageIndex == pageKey.pageIndex;
+    }
+
+    @Override
+    public int compareTo(PageKey other) {
+      if (fileId != other.fileId)
+        return fileId > other.fileId ? 1 : -1;
+
+      if (pageIndex != other.pageIndex)
+        return pageIndex > other.pageIndex ? 1 : -1;
+
+      return 0;
+    }
+
+    @Override
+    public int hashCode() {
+      int result = (int) (fileId ^ (fileId >>> 32));
+      result = 31 * result + (int) (pageIndex ^ (pageIndex >>> 32));
+      return result;
+    }
+
+    @Override
+    public String toString() {
+      return "PageKey{fileId=" + fileId + ", pageIndex=" + pageIndex + '}';
+    }
+  }
+}
@@ -0,0 +1,901 @@
+package com.orientechnologies.orient.core.storage.fs;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.io.OIOException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.compression.OCompression;
+import com.orientechnologies.orient.core.compression.OCompressionFactory;
+
+import java.io.EOFException;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.orientechnologies.common.io.OIOUtils.readByteBuffer;
+import static com.orientechnologies.common.io.OIOUtils.writeByteBuffer;
+
+/**
+ * File which keeps every page compressed. It has the same logical content as {@link OFileClassic}, so it is transparent for the
+ * write cache: pages are compressed on write and uncompressed on read, magic numbers and checksums are calculated and verified
+ * by the write cache on uncompressed content.
+ * <p>
+ * Compressed page is stored in slot of variable size inside of data file. Slot starts from the length of the page content and
+ * flag which indicates whether content is stored uncompressed because compression does not give any gain. Position and capacity
+ * of the slot of each page are stored in page translation map, the file with the same name as data file and
+ * {@link #MAP_EXTENSION} extension.
+ * <p>
+ * If compressed page still fits into its slot it is overwritten in place, the same way as page of {@link OFileClassic}, so
+ * consistency of such page after crash is guaranteed by WAL the same way. If page does not fit, it is written into new slot
+ * and the old slot is not reused till page translation map which does not reference it is written to the disk by
+ * {@link #synch()}. So after crash map always points to the slots which contain either the latest flushed version of page or
+ * page overwritten in place. Page which can not be uncompressed is returned filled by zeros, which is detected by the write
+ * cache as broken magic number.
+ */
+public final class OCompressedPageFile extends OFileClassic {
+  public static final String MAP_EXTENSION = ".ptm";
+
+  private static final long MAP_MAGIC_NUMBER = 0x6F70746D61705F31L;
+  private static final int  MAP_VERSION      = 1;
+
+  private static final int MAP_MAGIC_NUMBER_OFFSET = 0;
+  private static final int MAP_VERSION_OFFSET      = MAP_MAGIC_NUMBER_OFFSET + 8;
+  private static final int MAP_PAGE_SIZE_OFFSET    = MAP_VERSION_OFFSET + 4;
+  private static final int MAP_SIZE_OFFSET         = MAP_PAGE_SIZE_OFFSET + 4;
+  private static final int MAP_COMPRESSION_OFFSET  = MAP_SIZE_OFFSET + 8;
+
+  private static final int MAP_HEADER_SIZE = 128;
+  private static final int MAP_ENTRY_SIZE  = 12;
+
+  private static final int SLOT_HEADER_SIZE  = 4;
+  private static final int SLOT_ALIGNMENT    = 256;
+  private static final int UNCOMPRESSED_FLAG = 0x80000000;
+
+  private final ReadWriteLock lock     = new ReentrantReadWriteLock();
+  private final Object        syncLock = new Object();
+
+  private final int pageSize;
+
+  private volatile Path osFile;
+
+  private OCompression compression;
+  private FileChannel  dataChannel;
+  private FileChannel  mapChannel;
+
+  private volatile long size;
+
+  private long[] slotOffsets    = new long[0];
+  private int[]  slotCapacities = new int[0];
+
+  private final BitSet  dirtyEntries = new BitSet();
+  private       boolean headerDirty;
+
+  private final FreeSpace freeSpace = new FreeSpace();
+
+  /**
+   * Slots which are not used any more but may be still referenced by the page translation map stored on disk.
+   */
+  private List<long[]> releasedSlots = new ArrayList<>();
+
+  /**
+   * @param osFile      Path to the data file.
+   * @param pageSize    Size of the page.
+   * @param compression Compression which is used if file is created, compression of existing file is read from its page
+   *                    translation map.
+   */
+  public OCompressedPageFile(Path osFile, int pageSize, OCompression compression) {
+    super(osFile);
+
+    this.osFile = osFile;
+    this.pageSize = pageSize;
+    this.compression = compression;
+  }
+
+  /**
+   * @return Path to the page translation map of given data file.
+   */
+  public static Path mapFile(Path osFile) {
+    return osFile.resolveSibling(osFile.getFileName().toString() + MAP_EXTENSION);
+  }
+
+  /**
+   * @return <code>true</code> if given data file exists and is compressed.
+   */
+  public static boolean isCompressed(Path osFile) {
+    return Files.exists(mapFile(osFile));
+  }
+
+  /**
+   * @return Amount of bytes occupied by slots of the pages in data file.
+   */
+  public long getCompressedSize() {
+    lock.readLock().lock();
+    try {
+      return freeSpace.end;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public long allocateSpace(long size) throws IOException {
+    lock.writeLock().lock();
+    try {
+      final long currentSize = this.size;
+      this.size += size;
+      headerDirty = true;
+
+      return currentSize;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void shrink(long size) throws IOException {
+    lock.writeLock().lock();
+    try {
+      final long pagesCount = (size + pageSize - 1) / pageSize;
+
+      for (int index = (int) pagesCount; index < slotOffsets.length; index++) {
+        if (slotOffsets[index] >= 0) {
+          releaseSlot(slotOffsets[index], slotCapacities[index]);
+
+          slotOffsets[index] = -1;
+          slotCapacities[index] = 0;
+          dirtyEntries.set(index);
+        }
+      }
+
+      this.size = size;
+      headerDirty = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public long getFileSize() {
+    return size;
+  }
+
+  /**
+   * Pages are stored in slots of variable size, so they can not be read from mapped regions of the file.
+   */
+  @Override
+  public boolean isMappable() {
+    return false;
+  }
+
+  @Override
+  public MappedByteBuffer map(long offset, int length) {
+    throw new UnsupportedOperationException("Pages of compressed file can not be mapped into memory");
+  }
+
+  @Override
+  public void read(long offset, byte[] iData, int iLength, int iArrayOffset) throws IOException {
+    checkRegions(offset, iLength);
+    readRange(offset, ByteBuffer.wrap(iData, iArrayOffset, iLength), true);
+  }
+
+  @Override
+  public void read(long iOffset, byte[] iDestBuffer, int iLength) throws IOException {
+    read(iOffset, iDestBuffer, iLength, 0);
+  }
+
+  @Override
+  public void read(long offset, ByteBuffer buffer, boolean throwOnEof) throws IOException {
+    checkRegions(offset, buffer.limit());
+
+    buffer.position(0);
+    readRange(offset, buffer, throwOnEof);
+  }
+
+  @Override
+  public void read(long offset, ByteBuffer[] buffers, boolean throwOnEof) throws IOException {
+    for (ByteBuffer buffer : buffers) {
+      buffer.position(0);
+      final int length = buffer.limit();
+
+      readRange(offset, buffer, throwOnEof);
+      offset += length;
+    }
+  }
+
+  @Override
+  public void write(long offset, ByteBuffer buffer) throws IOException {
+    buffer.position(0);
+    writeRange(offset, buffer);
+  }
+
+  @Override
+  public void write(long offset, ByteBuffer[] buffers) throws IOException {
+    for (ByteBuffer buffer : buffers) {
+      buffer.position(0);
+      final int length = buffer.limit();
+
+      writeRange(offset, buffer);
+      offset += length;
+    }
+  }
+
+  @Override
+  public void write(long iOffset, byte[] iData, int iSize, int iArrayOffset) throws IOException {
+    if (iData != null)
+      writeRange(iOffset, ByteBuffer.wrap(iData, iArrayOffset, iSize));
+  }
+
+  @Override
+  public void write(long iOffset, byte[] iSourceBuffer) throws IOException {
+    if (iSourceBuffer != null)
+      writeRange(iOffset, ByteBuffer.wrap(iSourceBuffer));
+  }
+
+  @Override
+  public int readInt(long iOffset) throws IOException {
+    return readData(iOffset, 4).getInt();
+  }
+
+  @Override
+  public long readLong(long iOffset) throws IOException {
+    return readData(iOffset, 8).getLong();
+  }
+
+  @Override
+  public short readShort(long iOffset) throws IOException {
+    return readData(iOffset, 2).getShort();
+  }
+
+  @Override
+  public byte readByte(long iOffset) throws IOException {
+    return readData(iOffset, 1).get();
+  }
+
+  @Override
+  public void writeInt(long iOffset, int iValue) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(4);
+    buffer.putInt(iValue);
+    write(iOffset, buffer.array());
+  }
+
+  @Override
+  public void writeLong(long iOffset, long iValue) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(8);
+    buffer.putLong(iValue);
+    write(iOffset, buffer.array());
+  }
+
+  @Override
+  public void writeShort(long iOffset, short iValue) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(2);
+    buffer.putShort(iValue);
+    write(iOffset, buffer.array());
+  }
+
+  @Override
+  public void writeByte(long iOffset, byte iValue) throws IOException {
+    write(iOffset, new byte[] { iValue });
+  }
+
+  /**
+   * Forces changes of data file to the disk and then writes changed entries of page translation map and forces them too. Only
+   * after that slots released since previous call are reused by the next writes.
+   */
+  @Override
+  public boolean synch() throws IOException {
+    synchronized (syncLock) {
+      final int[] indexes;
+      final long[] offsets;
+      final int[] capacities;
+      final long currentSize;
+      final boolean writeHeader;
+      final List<long[]> slotsToRelease;
+      final FileChannel data;
+      final FileChannel map;
+
+      lock.writeLock().lock();
+      try {
+        if (dataChannel == null)
+          return true;
+
+        data = dataChannel;
+        map = mapChannel;
+
+        indexes = new int[dirtyEntries.cardinality()];
+        offsets = new long[indexes.length];
+        capacities = new int[indexes.length];
+
+        int n = 0;
+        for (int index = dirtyEntries.nextSetBit(0); index >= 0; index = dirtyEntries.nextSetBit(index + 1)) {
+          indexes[n] = index;
+          offsets[n] = slotOffsets[index];
+          capacities[n] = slotCapacities[index];
+          n++;
+        }
+        dirtyEntries.clear();
+
+        currentSize = size;
+        writeHeader = headerDirty;
+        headerDirty = false;
+
+        slotsToRelease = releasedSlots;
+        releasedSlots = new ArrayList<>();
+      } finally {
+        lock.writeLock().unlock();
+      }
+
+      data.force(false);
+
+      if (indexes.length > 0 || writeHeader) {
+        final ByteBuffer entry = ByteBuffer.allocate(MAP_ENTRY_SIZE);
+        for (int i = 0; i < indexes.length; i++) {
+          entry.position(0);
+          entry.putLong(offsets[i] + 1);
+          entry.putInt(capacities[i]);
+
+          entry.position(0);
+          writeByteBuffer(entry, map, MAP_HEADER_SIZE + (long) indexes[i] * MAP_ENTRY_SIZE);
+        }
+
+        final ByteBuffer sizeBuffer = ByteBuffer.allocate(8);
+        sizeBuffer.putLong(0, currentSize);
+        writeByteBuffer(sizeBuffer, map, MAP_SIZE_OFFSET);
+
+        map.force(false);
+      }
+
+      if (!slotsToRelease.isEmpty()) {
+        lock.writeLock().lock();
+        try {
+          for (long[] slot : slotsToRelease)
+            freeSpace.release(slot[0], slot[1]);
+
+          if (dataChannel != null && dataChannel.size() > freeSpace.end)
+            dataChannel.truncate(freeSpace.end);
+        } finally {
+          lock.writeLock().unlock();
+        }
+      }
+
+      return true;
+    }
+  }
+
+  @Override
+  public void create() throws IOException {
+    lock.writeLock().lock();
+    try {
+      if (compression == null)
+        throw new IllegalStateException("Compression of pages of file " + osFile + " is not specified");
+
+      Files.createDirectories(osFile.getParent());
+      dataChannel = FileChannel.open(osFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      mapChannel = FileChannel
+          .open(mapFile(osFile), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+      final byte[] compressionName = compression.name().getBytes(StandardCharsets.UTF_8);
+      if (MAP_COMPRESSION_OFFSET + 4 + compressionName.length > MAP_HEADER_SIZE)
+        throw new OIOException("Name of compression " + compression.name() + " is too long");
+
+      final ByteBuffer header = ByteBuffer.allocate(MAP_HEADER_SIZE);
+      header.putLong(MAP_MAGIC_NUMBER_OFFSET, MAP_MAGIC_NUMBER);
+      header.putInt(MAP_VERSION_OFFSET, MAP_VERSION);
+      header.putInt(MAP_PAGE_SIZE_OFFSET, pageSize);
+      header.putLong(MAP_SIZE_OFFSET, 0);
+      header.putInt(MAP_COMPRESSION_OFFSET, compressionName.length);
+      header.position(MAP_COMPRESSION_OFFSET + 4);
+      header.put(compressionName);
+
+      mapChannel.truncate(0);
+      writeByteBuffer(header, mapChannel, 0);
+
+      size = 0;
+      resetEntries(0);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void open() {
+    lock.writeLock().lock();
+    try {
+      if (!Files.exists(osFile))
+        throw new FileNotFoundException("File: " + osFile);
+
+      dataChannel = FileChannel.open(osFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      mapChannel = FileChannel.open(mapFile(osFile), StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+      readMap();
+    } catch (IOException e) {
+      closeChannels();
+      throw OException.wrapException(new OIOException("Error during file open"), e);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Writes page translation map to the disk and closes file.
+   */
+  @Override
+  public void close() {
+    try {
+      synch();
+    } catch (IOException e) {
+      throw OException.wrapException(new OIOException("Error during file close"), e);
+    }
+
+    lock.writeLock().lock();
+    try {
+      closeChannels();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void delete() throws IOException {
+    lock.writeLock().lock();
+    try {
+      closeChannels();
+
+      Files.deleteIfExists(osFile);
+      Files.deleteIfExists(mapFile(osFile));
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public boolean isOpen() {
+    lock.readLock().lock();
+    try {
+      return dataChannel != null;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public boolean exists() {
+    return Files.exists(osFile);
+  }
+
+  @Override
+  public String getName() {
+    return osFile.getFileName().toString();
+  }
+
+  @Override
+  public String getPath() {
+    return osFile.toString();
+  }
+
+  @Override
+  public void renameTo(Path newFile) throws IOException {
+    close();
+
+    lock.writeLock().lock();
+    try {
+      Files.move(mapFile(osFile), mapFile(newFile));
+      osFile = Files.move(osFile, newFile);
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    open();
+  }
+
+  /**
+   * Replaces content of this file by content of file in format of {@link OFileClassic}. Pages are compressed during copy.
+   */
+  @Override
+  public void replaceContentWith(Path newContentFile) throws IOException {
+    final OFileClassic newContent = new OFileClassic(newContentFile);
+    newContent.open();
+    try {
+      final long newSize = newContent.getFileSize();
+      shrink(0);
+      allocateSpace(newSize);
+
+      final byte[] page = new byte[pageSize];
+      for (long position = 0; position < newSize; position += pageSize) {
+        final int length = (int) Math.min(pageSize, newSize - position);
+        if (length < pageSize)
+          Arrays.fill(page, (byte) 0);
+
+        newContent.read(position, page, length);
+        write(position, page);
+      }
+    } finally {
+      newContent.close();
+    }
+
+    synch();
+  }
+
+  @Override
+  public String toString() {
+    return "File: " + osFile.getFileName() + ", stored=" + getFileSize() + ", compressed=" + getCompressedSize();
+  }
+
+  private void checkRegions(long offset, long length) {
+    final long size = this.size;
+    if (offset < 0 || offset + length > size)
+      throw new OIOException(
+          "You cannot access outside the file size (" + size + " bytes). You have requested portion " + offset + "-" + (offset
+              + length) + " bytes. File: " + toString());
+  }
+
+  private ByteBuffer readData(long offset, int length) throws IOException {
+    final byte[] data = new byte[length];
+    read(offset, data, length);
+    return ByteBuffer.wrap(data);
+  }
+
+  /**
+   * Reads content of the file into the buffer from its current position till its limit.
+   */
+  private void readRange(long offset, ByteBuffer buffer, boolean throwOnEof) throws IOException {
+    final byte[] page = new byte[pageSize];
+
+    while (buffer.hasRemaining()) {
+      final long pageIndex = offset / pageSize;
+      final int pageOffset = (int) (offset - pageIndex * pageSize);
+      final int length = Math.min(pageSize - pageOffset, buffer.remaining());
+
+      lock.readLock().lock();
+      try {
+        if (throwOnEof && offset >= size)
+          throw new EOFException("End of file is reached");
+
+        readPage(pageIndex, page);
+      } finally {
+        lock.readLock().unlock();
+      }
+
+      buffer.put(page, pageOffset, length);
+      offset += length;
+    }
+  }
+
+  /**
+   * Writes content of the buffer from its current position till its limit into the file.
+   */
+  private void writeRange(long offset, ByteBuffer buffer) throws IOException {
+    final byte[] page = new byte[pageSize];
+
+    while (buffer.hasRemaining()) {
+      final long pageIndex = offset / pageSize;
+      final int pageOffset = (int) (offset - pageIndex * pageSize);
+      final int length = Math.min(pageSize - pageOffset, buffer.remaining());
+
+      if (length == pageSize) {
+        //the most common case, whole page is written, so it is compressed without lock
+        buffer.get(page);
+
+        final ByteBuffer slot = encodePage(page);
+        lock.writeLock().lock();
+        try {
+          writePage(pageIndex, slot);
+        } finally {
+          lock.writeLock().unlock();
+        }
+      } else {
+        lock.writeLock().lock();
+        try {
+          readPage(pageIndex, page);
+          buffer.get(page, pageOffset, length);
+          writePage(pageIndex, encodePage(page));
+        } finally {
+          lock.writeLock().unlock();
+        }
+      }
+
+      offset += length;
+    }
+  }
+
+  private void readPage(long pageIndex, byte[] page) throws IOException {
+    checkOpen();
+
+    final int index = pageIndex(pageIndex);
+    if (index >= slotOffsets.length || slotOffsets[index] < 0) {
+      Arrays.fill(page, (byte) 0);
+      return;
+    }
+
+    final ByteBuffer slot = ByteBuffer.allocate(slotCapacities[index]);
+    readByteBuffer(slot, dataChannel, slotOffsets[index], false);
+
+    final int slotHeader = slot.getInt(0);
+    final int length = slotHeader & ~UNCOMPRESSED_FLAG;
+
+    if (length <= 0 || length > slot.capacity() - SLOT_HEADER_SIZE) {
+      brokenPage(pageIndex, page);
+      return;
+    }
+
+    if ((slotHeader & UNCOMPRESSED_FLAG) != 0) {
+      if (length != pageSize) {
+        brokenPage(pageIndex, page);
+        return;
+      }
+
+      System.arraycopy(slot.array(), SLOT_HEADER_SIZE, page, 0, pageSize);
+      return;
+    }
+
+    final byte[] content;
+    try {
+      content = compression.uncompress(slot.array(), SLOT_HEADER_SIZE, length);
+    } catch (RuntimeException e) {
+      OLogManager.instance().error(this, "Error during uncompression of page %d of file %s", e, pageIndex, getName());
+      brokenPage(pageIndex, page);
+      return;
+    }
+
+    if (content == null || content.length != pageSize) {
+      brokenPage(pageIndex, page);
+      return;
+    }
+
+    System.arraycopy(content, 0, page, 0, pageSize);
+  }
+
+  private void brokenPage(long pageIndex, byte[] page) {
+    OLogManager.instance().warn(this, "Content of page %d of file %s is broken", pageIndex, getName());
+    Arrays.fill(page, (byte) 0);
+  }
+
+  private ByteBuffer encodePage(byte[] page) {
+    final byte[] compressed = compression.compress(page);
+
+    final ByteBuffer slot;
+    if (compressed.length + SLOT_HEADER_SIZE >= pageSize) {
+      slot = ByteBuffer.allocate(SLOT_HEADER_SIZE + pageSize);
+      slot.putInt(pageSize | UNCOMPRESSED_FLAG);
+      slot.put(page);
+    } else {
+      slot = ByteBuffer.allocate(SLOT_HEADER_SIZE + compressed.length);
+      slot.putInt(compressed.length);
+      slot.put(compressed);
+    }
+
+    slot.position(0);
+    return slot;
+  }
+
+  private void writePage(long pageIndex, ByteBuffer slot) throws IOException {
+    checkOpen();
+
+    final int index = pageIndex(pageIndex);
+    if (index >= slotOffsets.length)
+      resetEntries(Math.max(index + 1, slotOffsets.length * 2));
+
+    final int requiredCapacity = slotCapacity(slot.limit());
+
+    long offset = slotOffsets[index];
+    int capacity = slotCapacities[index];
+
+    if (offset < 0 || capacity < requiredCapacity) {
+      if (offset >= 0)
+        releaseSlot(offset, capacity);
+
+      offset = freeSpace.allocate(requiredCapacity);
+      capacity = requiredCapacity;
+
+      slotOffsets[index] = offset;
+      slotCapacities[index] = capacity;
+      dirtyEntries.set(index);
+    } else if (capacity - requiredCapacity >= pageSize / 2) {
+      //page became much more compressible, tail of the slot is given back
+      releaseSlot(offset + requiredCapacity, capacity - requiredCapacity);
+
+      slotCapacities[index] = requiredCapacity;
+      dirtyEntries.set(index);
+    }
+
+    writeByteBuffer(slot, dataChannel, offset);
+  }
+
+  private void releaseSlot(long offset, int capacity) {
+    releasedSlots.add(new long[] { offset, capacity });
+  }
+
+  private static int slotCapacity(int length) {
+    return (length + SLOT_ALIGNMENT - 1) / SLOT_ALIGNMENT * SLOT_ALIGNMENT;
+  }
+
+  private int pageIndex(long pageIndex) {
+    if (pageIndex > Integer.MAX_VALUE)
+      throw new OIOException("Page index " + pageIndex + " is too big for compressed file " + getName());
+
+    return (int) pageIndex;
+  }
+
+  private void checkOpen() throws IOException {
+    if (dataChannel == null)
+      throw new OIOException("File " + getName() + " is closed");
+  }
+
+  private void resetEntries(int length) {
+    final int oldLength = slotOffsets.length;
+
+    slotOffsets = Arrays.copyOf(slotOffsets, length);
+    slotCapacities = Arrays.copyOf(slotCapacities, length);
+
+    if (length > oldLength)
+      Arrays.fill(slotOffsets, oldLength, length, -1);
+  }
+
+  private void readMap() throws IOException {
+    final ByteBuffer header = ByteBuffer.allocate(MAP_HEADER_SIZE);
+    readByteBuffer(header, mapChannel, 0, true);
+
+    if (header.getLong(MAP_MAGIC_NUMBER_OFFSET) != MAP_MAGIC_NUMBER)
+      throw new OIOException("File " + mapFile(osFile) + " is not a page translation map");
+
+    if (header.getInt(MAP_VERSION_OFFSET) != MAP_VERSION)
+      throw new OIOException(
+          "Unsupported version " + header.getInt(MAP_VERSION_OFFSET) + " of page translation map " + mapFile(osFile));
+
+    if (header.getInt(MAP_PAGE_SIZE_OFFSET) != pageSize)
+      throw new OIOException(
+          "Compressed file " + osFile + " has page size " + header.getInt(MAP_PAGE_SIZE_OFFSET) + " but " + pageSize
+              + " is expected");
+
+    size = header.getLong(MAP_SIZE_OFFSET);
+
+    final byte[] compressionName = new byte[header.getInt(MAP_COMPRESSION_OFFSET)];
+    header.position(MAP_COMPRESSION_OFFSET + 4);
+    header.get(compressionName);
+    compression = OCompressionFactory.INSTANCE.getCompression(new String(compressionName, StandardCharsets.UTF_8), null);
+
+    final int pagesCount = pageIndex((size + pageSize - 1) / pageSize);
+    resetEntries(0);
+    resetEntries(pagesCount);
+
+    final long storedEntries = Math.min(pagesCount, (mapChannel.size() - MAP_HEADER_SIZE) / MAP_ENTRY_SIZE);
+    final ByteBuffer entries = ByteBuffer.allocate((int) Math.max(storedEntries, 0) * MAP_ENTRY_SIZE);
+    readByteBuffer(entries, mapChannel, MAP_HEADER_SIZE, true);
+
+    final TreeMap<Long, Integer> slots = new TreeMap<>();
+    for (int index = 0; index < storedEntries; index++) {
+      final long offset = entries.getLong(index * MAP_ENTRY_SIZE) - 1;
+      final int capacity = entries.getInt(index * MAP_ENTRY_SIZE + 8);
+
+      if (offset >= 0) {
+        slotOffsets[index] = offset;
+        slotCapacities[index] = capacity;
+
+        slots.put(offset, capacity);
+      }
+    }
+
+    dirtyEntries.clear();
+    headerDirty = false;
+    releasedSlots = new ArrayList<>();
+
+    freeSpace.clear();
+    long position = 0;
+    for (Map.Entry<Long, Integer> slot : slots.entrySet()) {
+      if (slot.getKey() > position)
+        freeSpace.add(position, slot.getKey() - position);
+
+      position = Math.max(position, slot.getKey() + slot.getValue());
+    }
+    freeSpace.end = position;
+  }
+
+  private void closeChannels() {
+    try {
+      if (dataChannel != null)
+        dataChannel.close();
+
+      if (mapChannel != null)
+        mapChannel.close();
+    } catch (IOException e) {
+      throw OException.wrapException(new OIOException("Error during closing of file " + getName()), e);
+    } finally {
+      dataChannel = null;
+      mapChannel = null;
+    }
+  }
+
+  /**
+   * Free areas of data file. Area of the best fit is chosen for the new slot, adjacent released areas are merged, area at the end
+   * of the file is not kept but moves the end of the file back.
+   */
+  private static final class FreeSpace {
+    private final TreeMap<Long, Long> areasByOffset = new TreeMap<>();
+    private final TreeSet<FreeArea>   areasBySize   = new TreeSet<>();
+    private       long                end;
+
+    private long allocate(int capacity) {
+      final FreeArea area = areasBySize.ceiling(new FreeArea(-1, capacity));
+      if (area == null) {
+        final long offset = end;
+        end += capacity;
+        return offset;
+      }
+
+      remove(area.offset, area.size);
+      if (area.size > capacity)
+        add(area.offset + capacity, area.size - capacity);
+
+      return area.offset;
+    }
+
+    private void release(long offset, long size) {
+      final Map.Entry<Long, Long> previous = areasByOffset.floorEntry(offset);
+      if (previous != null && previous.getKey() + previous.getValue() == offset) {
+        remove(previous.getKey(), previous.getValue());
+
+        offset = previous.getKey();
+        size += previous.getValue();
+      }
+
+      final Long next = areasByOffset.get(offset + size);
+      if (next != null) {
+        remove(offset + size, next);
+        size += next;
+      }
+
+      if (offset + size == end)
+        end = offset;
+      else
+        add(offset, size);
+    }
+
+    private void add(long offset, long size) {
+      areasByOffset.put(offset, size);
+      areasBySize.add(new FreeArea(offset, size));
+    }
+
+    private void remove(long offset, long size) {
+      areasByOffset.remove(offset);
+      areasBySize.remove(new FreeArea(offset, size));
+    }
+
+    private void clear() {
+      areasByOffset.clear();
+      areasBySize.clear();
+      end = 0;
+    }
+  }
+
+  private static final class FreeArea implements Comparable<FreeArea> {
+    private final long offset;
+    private final long size;
+
+    private FreeArea(long offset, long size) {
+      this.offset = offset;
+      this.size = size;
+    }
+
+    @Override
+    public int compareTo(FreeArea other) {
+      final int result = Long.compare(size, other.size);
+      if (result != 0)
+        return result;
+
+      return Long.compare(offset, other.offset);
+    }
+  }
+}
@@ -30,6 +30,7 @@ import com.orientechnologies.orient.core.serialization.OBinaryProtocol;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -65,6 +66,22 @@ public class OFileClassic implements OFile, OClosableItem {
     this.osFile = osFile;
   }
 
+  /**
+   * Creates header of the file with content of given size. Header is needed to write copy of the file page by page without
+   * access to the file itself, for example during online backup.
+   *
+   * @param size Size of content of the file without header.
+   *
+   * @return Buffer of {@link #HEADER_SIZE} bytes which should be written before content of the file.
+   */
+  public static ByteBuffer createHeader(long size) {
+    final ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE);
+    buffer.put(VERSION_OFFSET, (byte) CURRENT_VERSION);
+    buffer.putLong(SIZE_OFFSET, size);
+
+    return buffer;
+  }
+
   @Override
   public long allocateSpace(long size) throws IOException {
     acquireWriteLock();
@@ -114,6 +131,30 @@ public class OFileClassic implements OFile, OClosableItem {
     return size;
   }
 
+  /**
+   * @return <code>true</code> if content of the file may be read from regions returned by {@link #map(long, int)}.
+   */
+  public boolean isMappable() {
+    return true;
+  }
+
+  /**
+   * Maps region of the file into memory in copy-on-write mode, so changes of the mapped region are not written back to the file
+   * and are not visible to other mappings. Region is unmapped once returned buffer and all its slices are garbage collected.
+   *
+   * @param offset Offset of the region from the start of the file content.
+   * @param length Length of the region, region has to be inside of the file.
+   */
+  public MappedByteBuffer map(long offset, int length) throws IOException {
+    acquireReadLock();
+    try {
+      offset = checkRegions(offset, length);
+      return channel.map(FileChannel.MapMode.PRIVATE, offset, length);
+    } finally {
+      releaseReadLock();
+    }
+  }
+
   public void read(long offset, byte[] iData, int iLength, int iArrayOffset) throws IOException {
     int attempts = 0;
 
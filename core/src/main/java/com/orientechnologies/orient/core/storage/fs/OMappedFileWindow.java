@@ -0,0 +1,69 @@
+package com.orientechnologies.orient.core.storage.fs;
+
+import com.orientechnologies.common.collection.closabledictionary.OClosableItem;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.io.OIOException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Region of the file of fixed size which is mapped into memory, see {@link OFileClassic#map(long, int)}. Windows are kept in
+ * {@link com.orientechnologies.common.collection.closabledictionary.OClosableLinkedContainer}, so only limited amount of them is
+ * mapped at the same time.
+ * <p>
+ * Close of the window only removes reference to the mapped region, region itself is unmapped by the garbage collector once all
+ * pages returned by {@link #page(long, int)} are not used any more, so pages stay valid after close of the window.
+ */
+public final class OMappedFileWindow implements OClosableItem {
+  private final OFileClassic file;
+  private final long         offset;
+  private final int          size;
+
+  private volatile ByteBuffer buffer;
+
+  public OMappedFileWindow(OFileClassic file, long offset, int size) {
+    this.file = file;
+    this.offset = offset;
+    this.size = size;
+  }
+
+  @Override
+  public boolean isOpen() {
+    return buffer != null;
+  }
+
+  @Override
+  public void open() {
+    try {
+      buffer = file.map(offset, size);
+    } catch (IOException e) {
+      throw OException.wrapException(
+          new OIOException("Can not map region " + offset + "-" + (offset + size) + " of file '" + file.getName() + "'"), e);
+    }
+  }
+
+  @Override
+  public void close() {
+    buffer = null;
+  }
+
+  /**
+   * Returns part of the mapped region without copying of its content. Window has to be open.
+   *
+   * @param pageOffset Offset of the page from the start of the file content, page has to be inside of the window.
+   * @param pageSize   Size of the page.
+   *
+   * @return Buffer in native byte order which content is backed by the mapped region.
+   */
+  public ByteBuffer page(long pageOffset, int pageSize) {
+    assert pageOffset >= offset && pageOffset + pageSize <= offset + size;
+
+    final ByteBuffer page = buffer.duplicate();
+    page.position((int) (pageOffset - offset));
+    page.limit(page.position() + pageSize);
+
+    return page.slice().order(ByteOrder.nativeOrder());
+  }
+}
@@ -33,6 +33,7 @@ import com.orientechnologies.common.util.OCommonConst;
 import com.orientechnologies.common.util.OPair;
 import com.orientechnologies.orient.core.OConstants;
 import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.cache.OSharedRecordCache;
 import com.orientechnologies.orient.core.command.OCommandExecutor;
 import com.orientechnologies.orient.core.command.OCommandManager;
 import com.orientechnologies.orient.core.command.OCommandOutputListener;
@@ -64,6 +65,7 @@ import com.orientechnologies.orient.core.record.ORecordVersionHelper;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
 import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OCompositeKeySerializer;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OOrderPreservingKeySerializer;
 import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OSimpleKeySerializer;
 import com.orientechnologies.orient.core.serialization.serializer.record.ORecordSerializer;
 import com.orientechnologies.orient.core.storage.*;
@@ -152,10 +154,20 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
   protected volatile ScheduledExecutorService fuzzyCheckpointExecutor;
 
+  /**
+   * Executes reads of pages ahead of sequential scans of clusters, tasks which do not fit into the queue are discarded.
+   */
+  private volatile ThreadPoolExecutor readAheadExecutor;
+
   private volatile Throwable dataFlushException = null;
 
   private final int id;
 
+  /**
+   * Names of clusters which records are kept in {@link OSharedRecordCache}, <code>null</code> means all clusters.
+   */
+  private volatile Set<String> sharedRecordCacheClusters = Collections.emptySet();
+
   private final Map<String, OIndexEngine> indexEngineNameMap        = new HashMap<>();
   private final List<OIndexEngine>        indexEngines              = new ArrayList<>();
   private       boolean                   wereDataRestoredAfterOpen = false;
@@ -214,6 +226,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
           throw new OStorageException("Cannot open the storage '" + name + "' because it does not exist in path: " + url);
 
         fuzzyCheckpointExecutor = Executors.newScheduledThreadPool(1, new FuzzyCheckpointThreadFactory());
+        readAheadExecutor = createReadAheadExecutor();
         transaction = new ThreadLocal<>();
         configuration.load(contextConfiguration);
 
@@ -247,6 +260,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         openClusters();
         openIndexes();
 
+        initSharedRecordCache();
+
         status = STATUS.OPEN;
 
         readCache.loadCacheState(writeCache);
@@ -376,6 +391,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
           throw new OStorageExistsException("Cannot create new storage '" + getURL() + "' because it already exists");
 
         fuzzyCheckpointExecutor = Executors.newScheduledThreadPool(1, new FuzzyCheckpointThreadFactory());
+        readAheadExecutor = createReadAheadExecutor();
 
         configuration.initConfiguration(contextConfiguration);
         componentsFactory = new OCurrentStorageComponentsFactory(configuration);
@@ -396,6 +412,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
         preCreateSteps();
 
+        initSharedRecordCache();
+
         status = STATUS.OPEN;
 
         // ADD THE METADATA CLUSTER TO STORE INTERNAL STUFF
@@ -631,6 +649,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
           cluster.truncate();
         cluster.delete();
 
+        OSharedRecordCache.instance().invalidate(id, clusterId);
+
         makeStorageDirty();
         clusterMap.remove(cluster.getName().toLowerCase(configuration.getLocaleInstance()));
         clusters.set(clusterId, null);
@@ -879,7 +899,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
           return null;
         }
 
-        writeAheadLog.preventCutTill(startLsn);
+        writeAheadLog.addCutTillLimit(startLsn);
         try {
           // start record is absent there is nothing that we can do
           OWALRecord walRecord = writeAheadLog.read(startLsn);
@@ -927,7 +947,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
               outputListener.onMessage("read " + read + " records from WAL and collected " + sortedRids.size() + " records");
           }
         } finally {
-          writeAheadLog.preventCutTill(null);
+          writeAheadLog.removeCutTillLimit(startLsn);
         }
 
         final int totalRecords = sortedRids.size();
@@ -1177,6 +1197,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         }
       } finally {
         stateLock.releaseReadLock();
+        invalidateSharedRecord(rid);
       }
     } catch (RuntimeException ee) {
       throw logAndPrepareForRethrow(ee);
@@ -1214,6 +1235,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         }
       } finally {
         stateLock.releaseReadLock();
+        invalidateSharedRecord(rid);
       }
     } catch (RuntimeException ee) {
       throw logAndPrepareForRethrow(ee);
@@ -1255,6 +1277,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         return doDeleteRecord(rid, version, cluster);
       } finally {
         stateLock.releaseReadLock();
+        invalidateSharedRecord(rid);
       }
     } catch (RuntimeException ee) {
       throw logAndPrepareForRethrow(ee);
@@ -1289,6 +1312,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         }
       } finally {
         stateLock.releaseReadLock();
+        invalidateSharedRecord(rid);
       }
     } catch (RuntimeException ee) {
       throw logAndPrepareForRethrow(ee);
@@ -1539,6 +1563,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
             endStorageTx();
 
+            invalidateSharedRecords(entries);
+
             OTransactionAbstract.updateCacheFromEntries(clientTx, entries, true);
 
             txCommit.incrementAndGet();
@@ -1689,6 +1715,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
             endStorageTx();
 
+            invalidateSharedRecords(recordOperations);
+
             microTransaction.updateRecordCacheAfterCommit();
 
             txCommit.incrementAndGet();
@@ -1806,7 +1834,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
         makeStorageDirty();
 
-        final OBinarySerializer keySerializer = determineKeySerializer(indexDefinition);
+        final OBinarySerializer keySerializer = determineKeySerializer(indexDefinition, null);
         final int keySize = determineKeySize(indexDefinition);
         final OType[] keyTypes = indexDefinition != null ? indexDefinition.getTypes() : null;
         final boolean nullValuesSupport = indexDefinition != null && !indexDefinition.isNullValuesIgnored();
@@ -1865,7 +1893,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
         makeStorageDirty();
 
-        final OBinarySerializer keySerializer = determineKeySerializer(indexDefinition);
+        final OBinarySerializer keySerializer = determineKeySerializer(indexDefinition, algorithm);
         final int keySize = determineKeySize(indexDefinition);
         final OType[] keyTypes = indexDefinition != null ? indexDefinition.getTypes() : null;
         final boolean nullValuesSupport = indexDefinition != null && !indexDefinition.isNullValuesIgnored();
@@ -1914,13 +1942,20 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       return indexDefinition.getTypes().length;
   }
 
-  private OBinarySerializer determineKeySerializer(OIndexDefinition indexDefinition) {
+  /**
+   * @param algorithm algorithm of the index engine or <code>null</code> for external index engines
+   */
+  private OBinarySerializer determineKeySerializer(OIndexDefinition indexDefinition, String algorithm) {
     final OBinarySerializer keySerializer;
     if (indexDefinition != null) {
       if (indexDefinition instanceof ORuntimeKeyIndexDefinition) {
         keySerializer = ((ORuntimeKeyIndexDefinition) indexDefinition).getSerializer();
       } else {
-        if (indexDefinition.getTypes().length > 1) {
+        if (ODefaultIndexFactory.SBTREE_ALGORITHM.equals(algorithm) && getConfiguration().getContextConfiguration()
+            .getValueAsBoolean(OGlobalConfiguration.INDEX_ORDER_PRESERVING_KEYS) && OOrderPreservingKeySerializer
+            .isSupported(indexDefinition.getTypes())) {
+          keySerializer = OOrderPreservingKeySerializer.INSTANCE;
+        } else if (indexDefinition.getTypes().length > 1) {
           keySerializer = OCompositeKeySerializer.INSTANCE;
         } else {
           OCurrentStorageComponentsFactory currentStorageComponentsFactory = componentsFactory;
@@ -2716,6 +2751,63 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     return engine.hasRangeQuerySupport();
   }
 
+  public boolean hasIndexBulkLoadSupport(int indexId) throws OInvalidIndexEngineIdException {
+    try {
+      checkOpenness();
+
+      stateLock.acquireReadLock();
+      try {
+        checkOpenness();
+        checkIndexId(indexId);
+
+        return indexEngines.get(indexId).hasBulkLoadSupport();
+      } finally {
+        stateLock.releaseReadLock();
+      }
+    } catch (OInvalidIndexEngineIdException ie) {
+      throw logAndPrepareForRethrow(ie);
+    } catch (RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
+  /**
+   * Fills an empty index with entries sorted by key, see {@link OIndexEngine#bulkLoad(Iterator)}.
+   *
+   * @return number of loaded entries
+   */
+  public long bulkLoadIndex(int indexId, Iterator<Map.Entry<Object, Object>> entries) throws OInvalidIndexEngineIdException {
+    try {
+      checkOpenness();
+
+      stateLock.acquireReadLock();
+      try {
+        checkOpenness();
+        checkLowDiskSpaceRequestsAndBackgroundDataFlushExceptionsAndBrokenPages();
+        checkIndexId(indexId);
+
+        final OIndexEngine engine = indexEngines.get(indexId);
+        makeStorageDirty();
+
+        return engine.bulkLoad(entries);
+      } finally {
+        stateLock.releaseReadLock();
+      }
+    } catch (OInvalidIndexEngineIdException ie) {
+      throw logAndPrepareForRethrow(ie);
+    } catch (RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
   private void makeRollback(OTransaction clientTx, Exception e) {
     // WE NEED TO CALL ROLLBACK HERE, IN THE LOCK
     OLogManager.instance()
@@ -3701,12 +3793,74 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     stateLock.acquireReadLock();
     try {
       checkOpenness();
+
+      if (isSharedRecordCacheCluster(clusterSegment) && atomicOperationsManager.getCurrentOperation() == null)
+        return doReadRecordThroughSharedCache(clusterSegment, rid, prefetchRecords);
+
       return doReadRecord(clusterSegment, rid, prefetchRecords);
     } finally {
       stateLock.releaseReadLock();
     }
   }
 
+  private ORawBuffer doReadRecordThroughSharedCache(final OCluster clusterSegment, final ORecordId rid, boolean prefetchRecords) {
+    final OSharedRecordCache sharedRecordCache = OSharedRecordCache.instance();
+
+    ORawBuffer buff = sharedRecordCache.get(id, rid);
+    if (buff != null)
+      return buff;
+
+    final long stamp = sharedRecordCache.readStamp(id, rid);
+    buff = doReadRecord(clusterSegment, rid, prefetchRecords);
+
+    if (buff != null && buff.buffer != null)
+      sharedRecordCache.put(id, rid, buff, stamp);
+
+    return buff;
+  }
+
+  private boolean isSharedRecordCacheCluster(final OCluster cluster) {
+    if (!OSharedRecordCache.instance().isEnabled())
+      return false;
+
+    final Set<String> clusters = sharedRecordCacheClusters;
+    return clusters == null || clusters.contains(cluster.getName().toLowerCase(Locale.ENGLISH));
+  }
+
+  private void initSharedRecordCache() {
+    final String clusters = getConfiguration().getContextConfiguration()
+        .getValueAsString(OGlobalConfiguration.STORAGE_SHARED_RECORD_CACHE_CLUSTERS);
+
+    if (clusters == null || clusters.trim().isEmpty())
+      sharedRecordCacheClusters = Collections.emptySet();
+    else if (clusters.trim().equals("*"))
+      sharedRecordCacheClusters = null;
+    else {
+      final Set<String> names = new HashSet<>();
+      for (String clusterName : clusters.split(","))
+        if (!clusterName.trim().isEmpty())
+          names.add(clusterName.trim().toLowerCase(Locale.ENGLISH));
+
+      sharedRecordCacheClusters = names;
+    }
+
+    //records cached by the previous instance of the storage may be changed by restore of backup or data restore after crash
+    OSharedRecordCache.instance().invalidate(id);
+  }
+
+  private void invalidateSharedRecord(final ORID rid) {
+    if (OSharedRecordCache.instance().isEnabled())
+      OSharedRecordCache.instance().invalidate(id, rid);
+  }
+
+  private void invalidateSharedRecords(final Iterable<ORecordOperation> recordOperations) {
+    if (!OSharedRecordCache.instance().isEnabled())
+      return;
+
+    for (ORecordOperation recordOperation : recordOperations)
+      OSharedRecordCache.instance().invalidate(id, recordOperation.getRID());
+  }
+
   private void endStorageTx() throws IOException {
     atomicOperationsManager.endAtomicOperation(false, null);
 
@@ -4214,6 +4368,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
       status = STATUS.CLOSING;
 
+      stopReadAhead();
+
       readCache.storeCacheState(writeCache);
 
       if (!onDelete)
@@ -4289,6 +4445,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       transaction = null;
       fuzzyCheckpointExecutor = null;
 
+      OSharedRecordCache.instance().invalidate(id);
+
       status = STATUS.CLOSED;
     } catch (IOException e) {
       final String message = "Error on closing of storage '" + name;
@@ -4314,6 +4472,49 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  /**
+   * Submits task which loads pages into the read cache ahead of the sequential scan. Task is silently discarded if there are too
+   * many of them queued already or storage is not opened.
+   */
+  public void submitReadAhead(Runnable task) {
+    final ThreadPoolExecutor executor = readAheadExecutor;
+    if (executor != null && status == STATUS.OPEN)
+      executor.execute(task);
+  }
+
+  private static ThreadPoolExecutor createReadAheadExecutor() {
+    final int threads = OGlobalConfiguration.STORAGE_READ_AHEAD_THREADS.getValueAsInteger();
+    if (threads <= 0)
+      return null;
+
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(16 * threads), new ReadAheadThreadFactory(), new ThreadPoolExecutor.DiscardPolicy());
+    executor.allowCoreThreadTimeOut(true);
+
+    return executor;
+  }
+
+  /**
+   * Waits till pages which are read ahead are loaded, so files are not closed in the middle of the read. Threads are not
+   * interrupted because interruption of the read closes file channel.
+   */
+  private void stopReadAhead() {
+    final ThreadPoolExecutor executor = readAheadExecutor;
+    if (executor == null)
+      return;
+
+    readAheadExecutor = null;
+
+    executor.getQueue().clear();
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(1, TimeUnit.MINUTES))
+        OLogManager.instance().warn(this, "Read ahead of pages of storage '%s' was not finished in time", name);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
   @SuppressWarnings("unused")
   protected void closeClusters(boolean onDelete) throws IOException {
     for (OCluster cluster : clusters)
@@ -4642,6 +4843,11 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     final int reportBatchSize = OGlobalConfiguration.WAL_REPORT_AFTER_OPERATIONS_DURING_RESTORE.getValueAsInteger();
     final Map<OOperationUnitId, List<OWALRecord>> operationUnits = new HashMap<>();
 
+    final int restoreThreads = OGlobalConfiguration.WAL_RESTORE_THREADS.getValueAsInteger();
+    final OWALRedoExecutor redoExecutor =
+        restoreThreads > 1 ? new OWALRedoExecutor(restoreThreads, name, this::restorePageChanges) : null;
+
+    final long startTime = System.currentTimeMillis();
     long lastReportTime = 0;
 
     try {
@@ -4657,7 +4863,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
           // in case of data restore from fuzzy checkpoint part of operations may be already flushed to the disk
           if (atomicUnit != null) {
             atomicUnit.add(walRecord);
-            restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate);
+            restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate, redoExecutor);
           }
 
         } else if (walRecord instanceof OAtomicUnitStartRecord) {
@@ -4688,23 +4894,42 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         final long currentTime = System.currentTimeMillis();
         if (reportBatchSize > 0 && recordsProcessed % reportBatchSize == 0
             || currentTime - lastReportTime > WAL_RESTORE_REPORT_INTERVAL) {
-          OLogManager.instance().info(this, "%d operations were processed, current LSN is %s last LSN is %s", recordsProcessed, lsn,
-              writeAheadLog.end());
+          final OLogSequenceNumber endLsn = writeAheadLog.end();
+          final long recordsPerSecond = recordsProcessed * 1000 / Math.max(currentTime - startTime, 1);
+
+          OLogManager.instance()
+              .info(this, "%d operations were processed (%d operations per second), current LSN is %s last LSN is %s",
+                  recordsProcessed, recordsPerSecond, lsn, endLsn);
+
+          final OStorageRecoverListener listener = recoverListener;
+          if (listener != null)
+            listener.onStorageRecoverProgress(recordsProcessed, recordsPerSecond, lsn, endLsn);
+
           lastReportTime = currentTime;
         }
 
         lsn = writeAheadLog.next(lsn);
       }
+
+      completeRedo(redoExecutor);
     } catch (OWALPageBrokenException e) {
       OLogManager.instance()
           .error(this, "Data restore was paused because broken WAL page was found. The rest of changes will be rolled back.");
+      completeRedo(redoExecutor);
     } catch (RuntimeException e) {
       OLogManager.instance().error(this,
           "Data restore was paused because of exception. The rest of changes will be rolled back and WAL files will be backed up."
               + " Please report issue about this exception to bug tracker and provide WAL files which are backed up in 'wal_backup' directory.");
       backUpWAL(e);
+    } finally {
+      if (redoExecutor != null)
+        redoExecutor.shutdown();
     }
 
+    final long time = System.currentTimeMillis() - startTime;
+    OLogManager.instance().info(this, "%d operations were processed in %d ms (%d operations per second)", recordsProcessed, time,
+        recordsProcessed * 1000 / Math.max(time, 1));
+
     if (atLeastOnePageUpdate.getValue())
       return logSequenceNumber;
 
@@ -4784,21 +5009,61 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  /**
+   * Waits till all page changes submitted to the redo executor are applied, errors are handled the same way as errors of
+   * sequential data restore.
+   */
+  private void completeRedo(OWALRedoExecutor redoExecutor) {
+    if (redoExecutor == null)
+      return;
+
+    try {
+      redoExecutor.await();
+    } catch (RuntimeException e) {
+      OLogManager.instance().error(this,
+          "Data restore was paused because of exception. The rest of changes will be rolled back and WAL files will be backed up."
+              + " Please report issue about this exception to bug tracker and provide WAL files which are backed up in 'wal_backup' directory.");
+      backUpWAL(e);
+    }
+  }
+
   @SuppressWarnings("WeakerAccess")
   protected void restoreAtomicUnit(List<OWALRecord> atomicUnit, OModifiableBoolean atLeastOnePageUpdate) throws IOException {
+    restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate, null);
+  }
+
+  /**
+   * Restores changes of single atomic unit. If redo executor is passed page changes are only submitted to it, so they may be
+   * applied after this method returns, operations on files wait till all submitted changes are applied.
+   */
+  private void restoreAtomicUnit(List<OWALRecord> atomicUnit, OModifiableBoolean atLeastOnePageUpdate,
+      OWALRedoExecutor redoExecutor) throws IOException {
     assert atomicUnit.get(atomicUnit.size() - 1) instanceof OAtomicUnitEndRecord;
 
     for (OWALRecord walRecord : atomicUnit) {
       if (walRecord instanceof OFileDeletedWALRecord) {
+        if (redoExecutor != null)
+          redoExecutor.await();
+
         OFileDeletedWALRecord fileDeletedWALRecord = (OFileDeletedWALRecord) walRecord;
         if (writeCache.exists(fileDeletedWALRecord.getFileId()))
           readCache.deleteFile(fileDeletedWALRecord.getFileId(), writeCache);
       } else if (walRecord instanceof OFileCreatedWALRecord) {
+        if (redoExecutor != null)
+          redoExecutor.await();
+
         OFileCreatedWALRecord fileCreatedCreatedWALRecord = (OFileCreatedWALRecord) walRecord;
 
         if (!writeCache.exists(fileCreatedCreatedWALRecord.getFileName())) {
           readCache.addFile(fileCreatedCreatedWALRecord.getFileName(), fileCreatedCreatedWALRecord.getFileId(), writeCache);
         }
+      } else if (walRecord instanceof OFileTruncatedWALRecord) {
+        if (redoExecutor != null)
+          redoExecutor.await();
+
+        final OFileTruncatedWALRecord fileTruncatedWALRecord = (OFileTruncatedWALRecord) walRecord;
+        if (writeCache.exists(fileTruncatedWALRecord.getFileId()))
+          readCache.truncateFile(fileTruncatedWALRecord.getFileId(), writeCache);
       } else if (walRecord instanceof OUpdatePageRecord) {
         final OUpdatePageRecord updatePageRecord = (OUpdatePageRecord) walRecord;
 
@@ -4815,26 +5080,10 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
           }
         }
 
-        final long pageIndex = updatePageRecord.getPageIndex();
-        fileId = writeCache.externalFileId(writeCache.internalFileId(fileId));
-
-        OCacheEntry cacheEntry = readCache.loadForWrite(fileId, pageIndex, true, writeCache, 1, false);
-        if (cacheEntry == null) {
-          do {
-            if (cacheEntry != null)
-              readCache.releaseFromWrite(cacheEntry, writeCache);
-
-            cacheEntry = readCache.allocateNewPage(fileId, writeCache, false);
-          } while (cacheEntry.getPageIndex() != pageIndex);
-        }
-
-        try {
-          ODurablePage durablePage = new ODurablePage(cacheEntry);
-          durablePage.restoreChanges(updatePageRecord.getChanges());
-          durablePage.setLsn(updatePageRecord.getLsn());
-        } finally {
-          readCache.releaseFromWrite(cacheEntry, writeCache);
-        }
+        if (redoExecutor != null)
+          redoExecutor.submit(writeCache.internalFileId(fileId), updatePageRecord);
+        else
+          restorePageChanges(updatePageRecord);
 
         atLeastOnePageUpdate.setValue(true);
       } else if (walRecord instanceof OAtomicUnitStartRecord) {
@@ -4852,6 +5101,43 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  /**
+   * Applies changes of single page restored from WAL. Changes are skipped if page already contains them, it is possible if page
+   * was flushed to the disk after the checkpoint from which data restore is started.
+   */
+  private void restorePageChanges(OUpdatePageRecord updatePageRecord) throws IOException {
+    final long pageIndex = updatePageRecord.getPageIndex();
+    final long fileId = writeCache.externalFileId(writeCache.internalFileId(updatePageRecord.getFileId()));
+
+    OCacheEntry cacheEntry = readCache.loadForWrite(fileId, pageIndex, true, writeCache, 1, false);
+    while (cacheEntry == null) {
+      final OCacheEntry newEntry = readCache.allocateNewPage(fileId, writeCache, false);
+      final long newPageIndex = newEntry.getPageIndex();
+
+      if (newPageIndex == pageIndex) {
+        cacheEntry = newEntry;
+      } else {
+        readCache.releaseFromWrite(newEntry, writeCache);
+
+        //page may be allocated by other thread which restores changes of pages with bigger index
+        if (newPageIndex > pageIndex)
+          cacheEntry = readCache.loadForWrite(fileId, pageIndex, true, writeCache, 1, false);
+      }
+    }
+
+    try {
+      final OLogSequenceNumber pageLsn = ODurablePage.getLogSequenceNumberFromPage(cacheEntry.getCachePointer().getSharedBuffer());
+      if (pageLsn.compareTo(updatePageRecord.getLsn()) >= 0)
+        return;
+
+      ODurablePage durablePage = new ODurablePage(cacheEntry);
+      durablePage.restoreChanges(updatePageRecord.getChanges());
+      durablePage.setLsn(updatePageRecord.getLsn());
+    } finally {
+      readCache.releaseFromWrite(cacheEntry, writeCache);
+    }
+  }
+
   /**
    * Method which is called before any data modification operation to check alarm conditions such as:
    * <ol>
@@ -5087,6 +5373,18 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  private static class ReadAheadThreadFactory implements ThreadFactory {
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable r) {
+      final Thread thread = new Thread(storageThreadGroup, r);
+      thread.setDaemon(true);
+      thread.setName("OrientDB Read Ahead Task " + counter.incrementAndGet());
+      return thread;
+    }
+  }
+
   private final class WALVacuum implements Runnable {
 
     WALVacuum() {
@@ -1,5 +1,7 @@
 package com.orientechnologies.orient.core.storage.impl.local;
 
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+
 /**
  * Allows listeners to be notified in case of recovering is started at storage open.
  * 
@@ -7,4 +9,16 @@ package com.orientechnologies.orient.core.storage.impl.local;
  */
 public interface OStorageRecoverListener {
   void onStorageRecover();
+
+  /**
+   * Is called periodically while data are restored from WAL.
+   *
+   * @param recordsProcessed Amount of WAL records processed so far.
+   * @param recordsPerSecond Average speed of data restore.
+   * @param currentLsn       LSN of the last processed record.
+   * @param endLsn           LSN of the last record of WAL.
+   */
+  default void onStorageRecoverProgress(long recordsProcessed, long recordsPerSecond, OLogSequenceNumber currentLsn,
+      OLogSequenceNumber endLsn) {
+  }
 }
@@ -0,0 +1,174 @@
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import com.orientechnologies.common.concur.lock.OInterruptedException;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.OStorageAbstract;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OUpdatePageRecord;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies page changes restored from WAL by several threads. Changes of the same page are always applied by the same thread in
+ * order of their submission, so they are applied in order of their LSNs, while changes of different pages commute and are
+ * applied in parallel.
+ * <p>
+ * Operations which change set of files (file creation, deletion or truncation) are not thread safe relatively to the changes of
+ * pages of the same file, so {@link #await()} has to be called before such operation is restored.
+ */
+final class OWALRedoExecutor {
+  /**
+   * Amount of page changes which may wait in queue of single worker, it limits memory consumed by restore if workers can not
+   * keep up with WAL reading.
+   */
+  private static final int WORKER_QUEUE_SIZE = 4 * 1024;
+
+  /**
+   * Interval in milliseconds in which idle workers check whether executor is stopped.
+   */
+  private static final long STOP_CHECK_INTERVAL = 100;
+
+  interface PageChangesApplier {
+    void applyChanges(OUpdatePageRecord updatePageRecord) throws IOException;
+  }
+
+  private final PageChangesApplier applier;
+  private final Worker[]           workers;
+
+  private final Object pendingLock = new Object();
+  private       long   pending;
+
+  private volatile Throwable failure;
+  private volatile boolean   stopped;
+
+  OWALRedoExecutor(int threads, String storageName, PageChangesApplier applier) {
+    this.applier = applier;
+    this.workers = new Worker[threads];
+
+    for (int i = 0; i < threads; i++) {
+      final Worker worker = new Worker();
+      worker.setName("OrientDB WAL Redo Worker " + (i + 1) + " (" + storageName + ")");
+      worker.setDaemon(true);
+
+      workers[i] = worker;
+      worker.start();
+    }
+  }
+
+  /**
+   * Schedules applying of changes of single page.
+   *
+   * @param internalFileId Internal id of the file, is used together with page index to choose thread which applies changes.
+   */
+  void submit(int internalFileId, OUpdatePageRecord updatePageRecord) {
+    checkFailure();
+
+    final long pageIndex = updatePageRecord.getPageIndex();
+    int hash = 31 * internalFileId + (int) (pageIndex ^ (pageIndex >>> 32));
+    hash ^= hash >>> 16;
+
+    synchronized (pendingLock) {
+      pending++;
+    }
+
+    final Worker worker = workers[(hash & Integer.MAX_VALUE) % workers.length];
+    try {
+      while (!worker.queue.offer(updatePageRecord, 100, TimeUnit.MILLISECONDS))
+        checkFailure();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new OInterruptedException("Data restore was interrupted");
+    }
+  }
+
+  /**
+   * Waits till all submitted changes are applied.
+   *
+   * @throws OStorageException if changes of one of the pages can not be applied.
+   */
+  void await() {
+    synchronized (pendingLock) {
+      while (pending > 0 && failure == null) {
+        try {
+          pendingLock.wait();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new OInterruptedException("Data restore was interrupted");
+        }
+      }
+    }
+
+    checkFailure();
+  }
+
+  /**
+   * Stops all threads, changes which are not applied yet are discarded.
+   * <p>
+   * Workers are not interrupted because interruption of a thread which reads or writes a file closes the file channel, they stop
+   * themselves once they see the stop flag and their queues are empty.
+   */
+  void shutdown() {
+    stopped = true;
+
+    for (Worker worker : workers) {
+      try {
+        worker.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new OInterruptedException("Data restore was interrupted");
+      }
+    }
+  }
+
+  private void checkFailure() {
+    final Throwable exception = failure;
+    if (exception != null)
+      throw OException.wrapException(new OStorageException("Error during restore of page changes from WAL"), exception);
+  }
+
+  private final class Worker extends Thread {
+    private final BlockingQueue<OUpdatePageRecord> queue = new ArrayBlockingQueue<>(WORKER_QUEUE_SIZE);
+
+    private Worker() {
+      super(OStorageAbstract.storageThreadGroup, "OrientDB WAL Redo Worker");
+    }
+
+    @Override
+    public void run() {
+      while (true) {
+        final OUpdatePageRecord updatePageRecord;
+        try {
+          updatePageRecord = queue.poll(STOP_CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+          return;
+        }
+
+        if (updatePageRecord == null) {
+          if (stopped)
+            return;
+
+          continue;
+        }
+
+        //changes are not applied after the first failure or stop, they are only taken from the queue to release submitter
+        if (failure == null && !stopped) {
+          try {
+            applier.applyChanges(updatePageRecord);
+          } catch (IOException | RuntimeException | Error e) {
+            failure = e;
+          }
+        }
+
+        synchronized (pendingLock) {
+          pending--;
+
+          if (pending == 0 || failure != null)
+            pendingLock.notifyAll();
+        }
+      }
+    }
+  }
+}
@@ -27,6 +27,10 @@ import com.orientechnologies.common.io.OIOUtils;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.parser.OSystemVariableResolver;
 import com.orientechnologies.orient.core.command.OCommandOutputListener;
+import com.orientechnologies.orient.core.compression.OCompression;
+import com.orientechnologies.orient.core.compression.OCompressionFactory;
+import com.orientechnologies.orient.core.compression.impl.ONothingCompression;
+import com.orientechnologies.orient.core.compression.impl.OParallelGZIPOutputStream;
 import com.orientechnologies.orient.core.compression.impl.OZIPCompressionUtil;
 import com.orientechnologies.orient.core.config.OContextConfiguration;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
@@ -41,6 +45,7 @@ import com.orientechnologies.orient.core.storage.OChecksumMode;
 import com.orientechnologies.orient.core.storage.cache.OReadCache;
 import com.orientechnologies.orient.core.storage.cache.local.OWOWCache;
 import com.orientechnologies.orient.core.storage.cache.local.twoq.O2QCache;
+import com.orientechnologies.orient.core.storage.fs.OCompressedPageFile;
 import com.orientechnologies.orient.core.storage.fs.OFileClassic;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.OStorageConfigurationSegment;
@@ -50,15 +55,24 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSe
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWriteAheadLog;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 
 /**
@@ -73,10 +87,24 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
       OHashTableIndexEngine.TREE_FILE_EXTENSION, OHashTableIndexEngine.NULL_BUCKET_FILE_EXTENSION,
       OClusterPositionMap.DEF_EXTENSION, OSBTreeIndexEngine.DATA_FILE_EXTENSION, OWOWCache.NAME_ID_MAP_EXTENSION,
       OIndexRIDContainer.INDEX_FILE_EXTENSION, OSBTreeCollectionManagerShared.DEFAULT_EXTENSION,
-      OSBTreeIndexEngine.NULL_BUCKET_FILE_EXTENSION, O2QCache.CACHE_STATISTIC_FILE_EXTENSION };
+      OSBTreeIndexEngine.NULL_BUCKET_FILE_EXTENSION, O2QCache.CACHE_STATISTIC_FILE_EXTENSION, OCompressedPageFile.MAP_EXTENSION };
 
   private static final int ONE_KB = 1024;
 
+  /**
+   * Name of the first entry of archive created by online backup, it is used to distinguish online backups during restore.
+   */
+  private static final String ONLINE_BACKUP_MARKER = "online_backup.obm";
+
+  /**
+   * Extensions of files which are not copied during online backup. WAL segments written during backup are copied explicitly
+   * and WAL master record is skipped to restore data starting from the first backed up segment. Pages are copied uncompressed,
+   * so page translation maps of compressed files are skipped too and files are restored uncompressed.
+   */
+  private static final String[] ONLINE_BACKUP_SKIPPED_EXTENSIONS = { ODiskWriteAheadLog.WAL_SEGMENT_EXTENSION,
+      ODiskWriteAheadLog.MASTER_RECORD_EXTENSION, ".fl", O2QCache.CACHE_STATISTIC_FILE_EXTENSION,
+      OCompressedPageFile.MAP_EXTENSION };
+
   private final int DELETE_MAX_RETRIES;
   private final int DELETE_WAIT_TIME;
 
@@ -189,6 +217,12 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
       if (out == null)
         throw new IllegalArgumentException("Backup output is null");
 
+      //online backup is restored to the state at its end, callers such as distributed sync capture the state they
+      //synchronize from in the callback and need it before the backup is finished, so frozen backup is used for them
+      if (callable == null && writeAheadLog != null && configuration.getContextConfiguration()
+          .getValueAsBoolean(OGlobalConfiguration.STORAGE_BACKUP_ONLINE))
+        return onlineBackup(out, iOutput, compressionLevel, bufferSize);
+
       freeze(false);
       try {
         if (callable != null)
@@ -227,7 +261,11 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
       if (!isClosed())
         close(true, false);
 
-      OZIPCompressionUtil.uncompressDirectory(in, getStoragePath().toString(), iListener);
+      final BufferedInputStream bufferedInputStream = new BufferedInputStream(in);
+      if (isOnlineBackup(bufferedInputStream))
+        restoreOnlineBackup(bufferedInputStream, iListener);
+      else
+        OZIPCompressionUtil.uncompressDirectory(bufferedInputStream, getStoragePath().toString(), iListener);
 
       final Path cacheStateFile = getStoragePath().resolve(O2QCache.CACHE_STATE_FILE);
       if (Files.exists(cacheStateFile)) {
@@ -264,6 +302,194 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
     }
   }
 
+  /**
+   * Makes full backup without freezing of the storage for the whole time of backup.
+   * <p>
+   * At the start of backup new WAL segment is created while atomic operations are frozen, so all changes made after that point
+   * are logged in this and following segments. Files managed by write cache are copied page by page while writes continue, copy
+   * of each page contains all changes logged in WAL before some LSN which may be different for different pages. At the end
+   * atomic operations are frozen again for a short time to copy files which are not managed by write cache and to finish WAL
+   * segment, after that all segments written during backup are added to the archive. During restore the storage is marked as
+   * dirty, so those segments are replayed on open and bring all pages to the state of the end of backup.
+   * <p>
+   * Archive made this way can not be restored by versions which do not support online backup.
+   * <p>
+   * Content of every file is compressed by several threads, see {@link OGlobalConfiguration#STORAGE_BACKUP_COMPRESSION_THREADS},
+   * speed of reading of data files may be limited by {@link OGlobalConfiguration#STORAGE_BACKUP_RATE_LIMIT}.
+   */
+  private List<String> onlineBackup(OutputStream out, OCommandOutputListener iOutput, int compressionLevel, int bufferSize)
+      throws IOException, InterruptedException {
+    checkOpenness();
+
+    final OContextConfiguration contextConfiguration = configuration.getContextConfiguration();
+    final int compressionThreads = Math
+        .max(1, contextConfiguration.getValueAsInteger(OGlobalConfiguration.STORAGE_BACKUP_COMPRESSION_THREADS));
+    final BackupThrottle throttle = new BackupThrottle(
+        contextConfiguration.getValueAsInteger(OGlobalConfiguration.STORAGE_BACKUP_RATE_LIMIT));
+
+    final long startSegment;
+    final OLogSequenceNumber cutTillLimit;
+    final Map<String, Long> backedUpFiles;
+
+    long freezeId = getAtomicOperationsManager().freezeAtomicOperations(null, null);
+    try {
+      writeAheadLog.newSegment();
+      startSegment = writeAheadLog.activeSegment();
+      cutTillLimit = new OLogSequenceNumber(startSegment, 0);
+      writeAheadLog.addCutTillLimit(cutTillLimit);
+
+      try {
+        backedUpFiles = new TreeMap<>(writeCache.files());
+      } catch (RuntimeException | Error e) {
+        writeAheadLog.removeCutTillLimit(cutTillLimit);
+        throw e;
+      }
+    } finally {
+      getAtomicOperationsManager().releaseAtomicOperations(freezeId);
+    }
+
+    final ExecutorService compressionExecutor = Executors
+        .newFixedThreadPool(compressionThreads, new BackupCompressionThreadFactory(getName()));
+    try {
+      final OnlineBackupArchive archive = new OnlineBackupArchive(
+          new ZipOutputStream(bufferSize > 0 ? new BufferedOutputStream(out, bufferSize) : out), compressionExecutor,
+          compressionThreads, compressionLevel, iOutput);
+      try {
+        for (long fileId : backedUpFiles.values())
+          archive.addPagedFile(fileId, throttle);
+
+        final File[] walSegments;
+
+        freezeId = getAtomicOperationsManager().freezeAtomicOperations(null, null);
+        try {
+          writeAheadLog.newSegment();
+          walSegments = writeAheadLog.nonActiveSegments(startSegment);
+
+          //pages are restored from segments which start from the one created at the start of backup,
+          //if this segment was removed backup can not be restored to consistent state,
+          //segment stays active only if nothing was logged during backup and then there is nothing to restore from it
+          final String startSegmentName = getName() + "." + startSegment + ODiskWriteAheadLog.WAL_SEGMENT_EXTENSION;
+          final boolean startSegmentIsArchived;
+          if (walSegments.length == 0)
+            startSegmentIsArchived = writeAheadLog.activeSegment() == startSegment;
+          else
+            startSegmentIsArchived = walSegments[0].getName().equals(startSegmentName);
+
+          if (!startSegmentIsArchived)
+            throw new OStorageException(
+                "WAL segment " + startSegment + " created at the start of backup of storage '" + getName()
+                    + "' was removed, backup is not complete");
+
+          //files created during backup are copied while atomic operations are frozen,
+          //so their pages do not contain changes which are absent in backed up WAL segments
+          final Map<String, Long> files = writeCache.files();
+          final Set<String> pagedFiles = new HashSet<>();
+          for (Map.Entry<String, Long> file : new TreeMap<>(files).entrySet()) {
+            if (!backedUpFiles.containsKey(file.getKey()))
+              archive.addPagedFile(file.getValue(), BackupThrottle.UNLIMITED);
+
+            final String nativeFileName = writeCache.nativeFileNameById(file.getValue());
+            if (nativeFileName != null)
+              pagedFiles.add(nativeFileName);
+          }
+
+          for (String backedUpFile : archive.getEntries())
+            pagedFiles.add(backedUpFile);
+
+          archive.addNonPagedFiles(storagePath, pagedFiles);
+        } finally {
+          getAtomicOperationsManager().releaseAtomicOperations(freezeId);
+        }
+
+        for (File walSegment : walSegments)
+          archive.addFile(walSegment.toPath(), walSegment.getName(), throttle);
+      } finally {
+        archive.close();
+      }
+
+      return archive.getEntries();
+    } finally {
+      writeAheadLog.removeCutTillLimit(cutTillLimit);
+      compressionExecutor.shutdown();
+    }
+  }
+
+  private static boolean isOnlineBackup(BufferedInputStream in) throws IOException {
+    in.mark(64 * ONE_KB);
+    try {
+      //stream is not closed to keep the source stream open, it holds no resources except of memory
+      @SuppressWarnings("resource")
+      final ZipInputStream zipInputStream = new ZipInputStream(in);
+      final ZipEntry entry = zipInputStream.getNextEntry();
+
+      return entry != null && entry.getName().equals(ONLINE_BACKUP_MARKER);
+    } finally {
+      in.reset();
+    }
+  }
+
+  private void restoreOnlineBackup(InputStream in, OCommandOutputListener iListener) throws IOException {
+    final String walPath = OGlobalConfiguration.WAL_LOCATION.getValueAsString();
+    final Path walLocation = walPath == null ? storagePath : Paths.get(walPath);
+
+    Files.createDirectories(storagePath);
+    Files.createDirectories(walLocation);
+
+    //WAL of previous content of storage should not be mixed with WAL stored in backup
+    try (DirectoryStream<Path> walFiles = Files.newDirectoryStream(walLocation, getName() + ".*")) {
+      for (Path walFile : walFiles) {
+        final String fileName = walFile.getFileName().toString();
+        if (fileName.endsWith(ODiskWriteAheadLog.WAL_SEGMENT_EXTENSION) || fileName
+            .endsWith(ODiskWriteAheadLog.MASTER_RECORD_EXTENSION))
+          Files.delete(walFile);
+      }
+    }
+
+    boolean walIsRestored = false;
+
+    final ZipInputStream zipInputStream = new ZipInputStream(in);
+    ZipEntry entry;
+    while ((entry = zipInputStream.getNextEntry()) != null) {
+      final String entryName = entry.getName();
+      if (entryName.equals(ONLINE_BACKUP_MARKER))
+        continue;
+
+      final Path file;
+      if (entryName.endsWith(ODiskWriteAheadLog.WAL_SEGMENT_EXTENSION)) {
+        //name of WAL segment contains name of storage, which may be different from the name of backed up storage
+        final String segmentName = entryName.substring(0, entryName.length() - ODiskWriteAheadLog.WAL_SEGMENT_EXTENSION.length());
+        final String segmentOrder = segmentName.substring(segmentName.lastIndexOf('.') + 1);
+
+        file = walLocation.resolve(getName() + "." + segmentOrder + ODiskWriteAheadLog.WAL_SEGMENT_EXTENSION);
+        walIsRestored = true;
+      } else
+        file = storagePath.resolve(entryName);
+
+      if (iListener != null)
+        iListener.onMessage("\n- Uncompressing file " + entryName + "...");
+
+      if (file.getParent() != null)
+        Files.createDirectories(file.getParent());
+
+      //file is restored uncompressed, so page translation map left by previous content of storage has to be removed
+      Files.deleteIfExists(OCompressedPageFile.mapFile(file));
+
+      try (OutputStream out = Files.newOutputStream(file)) {
+        //GZIP stream is not closed because it would close the archive stream
+        @SuppressWarnings("resource")
+        final GZIPInputStream gzipInputStream = new GZIPInputStream(zipInputStream);
+        OIOUtils.copyStream(gzipInputStream, out, -1);
+      }
+    }
+
+    //storage is marked as dirty, so all backed up WAL segments are replayed during open,
+    //if there are no segments nothing was changed during backup and data files are already consistent
+    dirtyFlag.create();
+    if (!walIsRestored)
+      dirtyFlag.clearDirty();
+    dirtyFlag.close();
+  }
+
   @Override
   public OStorageConfiguration getConfiguration() {
     try {
@@ -494,7 +720,8 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
     final OWOWCache wowCache = new OWOWCache(OGlobalConfiguration.DISK_CACHE_PAGE_SIZE.getValueAsInteger() * ONE_KB,
         OByteBufferPool.instance(), writeAheadLog, OGlobalConfiguration.DISK_WRITE_CACHE_PAGE_FLUSH_INTERVAL.getValueAsInteger(),
         writeCacheSize, this, true, files, getId(),
-        contextConfiguration.getValueAsEnum(OGlobalConfiguration.STORAGE_CHECKSUM_MODE, OChecksumMode.class));
+        contextConfiguration.getValueAsEnum(OGlobalConfiguration.STORAGE_CHECKSUM_MODE, OChecksumMode.class),
+        pageCompression(contextConfiguration));
 
     wowCache.addLowDiskSpaceListener(this);
     wowCache.loadRegisteredFiles();
@@ -504,10 +731,198 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
     writeCache = wowCache;
   }
 
+  private static OCompression pageCompression(OContextConfiguration contextConfiguration) {
+    final String compressionName = contextConfiguration.getValueAsString(OGlobalConfiguration.STORAGE_PAGE_COMPRESSION);
+    if (compressionName == null || compressionName.isEmpty() || compressionName.equals(ONothingCompression.NAME))
+      return null;
+
+    return OCompressionFactory.INSTANCE.getCompression(compressionName, null);
+  }
+
   public static boolean exists(final Path path) {
     return Files.exists(path.resolve("database.ocf"));
   }
 
+  /**
+   * Archive produced by online backup. Every entry is a sequence of GZIP members compressed in parallel by
+   * {@link OParallelGZIPOutputStream}, ZIP compression itself is switched off.
+   */
+  private final class OnlineBackupArchive {
+    private final ZipOutputStream        zipOutputStream;
+    private final ExecutorService        compressionExecutor;
+    private final int                    compressionThreads;
+    private final int                    compressionLevel;
+    private final OCommandOutputListener output;
+    private final ByteBuffer             pageBuffer;
+
+    private final List<String> entries = new ArrayList<>();
+
+    private OnlineBackupArchive(ZipOutputStream zipOutputStream, ExecutorService compressionExecutor, int compressionThreads,
+        int compressionLevel, OCommandOutputListener output) throws IOException {
+      this.zipOutputStream = zipOutputStream;
+      this.compressionExecutor = compressionExecutor;
+      this.compressionThreads = compressionThreads;
+      this.compressionLevel = compressionLevel;
+      this.output = output;
+      this.pageBuffer = ByteBuffer.allocate(OGlobalConfiguration.DISK_CACHE_PAGE_SIZE.getValueAsInteger() * ONE_KB)
+          .order(ByteOrder.nativeOrder());
+
+      zipOutputStream.setComment("OrientDB online backup executed on " + new Date());
+      zipOutputStream.setLevel(Deflater.NO_COMPRESSION);
+
+      zipOutputStream.putNextEntry(new ZipEntry(ONLINE_BACKUP_MARKER));
+      zipOutputStream.closeEntry();
+    }
+
+    /**
+     * Copies file managed by write cache page by page. Pages which are absent because file was truncated or deleted during
+     * backup are filled by zeros, they are restored from WAL.
+     */
+    private void addPagedFile(long fileId, BackupThrottle throttle) throws IOException, InterruptedException {
+      final String fileName = writeCache.nativeFileNameById(fileId);
+      if (fileName == null || !writeCache.exists(fileId))
+        return;
+
+      final long filledUpTo = writeCache.getFilledUpTo(fileId);
+      final int pageSize = pageBuffer.capacity();
+
+      final long begin = System.currentTimeMillis();
+      if (output != null)
+        output.onMessage("\n- Copying file " + fileName + "...");
+
+      zipOutputStream.putNextEntry(new ZipEntry(fileName));
+      try {
+        final OParallelGZIPOutputStream stream = new OParallelGZIPOutputStream(zipOutputStream, compressionExecutor,
+            compressionThreads, compressionLevel);
+        stream.write(OFileClassic.createHeader(filledUpTo * pageSize).array());
+
+        for (long pageIndex = 0; pageIndex < filledUpTo; pageIndex++) {
+          if (!writeCache.copyPage(fileId, pageIndex, pageBuffer))
+            Arrays.fill(pageBuffer.array(), (byte) 0);
+
+          stream.write(pageBuffer.array(), 0, pageSize);
+          throttle.onDataCopied(pageSize);
+        }
+
+        stream.close();
+      } finally {
+        zipOutputStream.closeEntry();
+      }
+
+      entries.add(fileName);
+
+      if (output != null)
+        output.onMessage("ok pages=" + filledUpTo + " elapsed=" + OIOUtils.getTimeAsString(System.currentTimeMillis() - begin));
+    }
+
+    /**
+     * Copies files of the directory which are not managed by write cache, like storage configuration, including files of
+     * subdirectories.
+     */
+    private void addNonPagedFiles(Path directory, Set<String> pagedFiles) throws IOException, InterruptedException {
+      final List<Path> files = new ArrayList<>();
+      try (Stream<Path> stream = Files.walk(directory)) {
+        stream.filter(Files::isRegularFile).forEach(files::add);
+      }
+
+      Collections.sort(files);
+
+      nextFile:
+      for (Path file : files) {
+        final String entryName = directory.relativize(file).toString().replace(File.separatorChar, '/');
+        if (pagedFiles.contains(entryName))
+          continue;
+
+        for (String extension : ONLINE_BACKUP_SKIPPED_EXTENSIONS)
+          if (entryName.endsWith(extension))
+            continue nextFile;
+
+        addFile(file, entryName, BackupThrottle.UNLIMITED);
+      }
+    }
+
+    private void addFile(Path file, String entryName, BackupThrottle throttle) throws IOException, InterruptedException {
+      final long begin = System.currentTimeMillis();
+      if (output != null)
+        output.onMessage("\n- Copying file " + entryName + "...");
+
+      zipOutputStream.putNextEntry(new ZipEntry(entryName));
+      try (InputStream in = Files.newInputStream(file)) {
+        final OParallelGZIPOutputStream stream = new OParallelGZIPOutputStream(zipOutputStream, compressionExecutor,
+            compressionThreads, compressionLevel);
+
+        final byte[] buffer = new byte[64 * ONE_KB];
+        int bytesRead;
+        while ((bytesRead = in.read(buffer)) >= 0) {
+          stream.write(buffer, 0, bytesRead);
+          throttle.onDataCopied(bytesRead);
+        }
+
+        stream.close();
+      } finally {
+        zipOutputStream.closeEntry();
+      }
+
+      entries.add(entryName);
+
+      if (output != null)
+        output.onMessage("ok elapsed=" + OIOUtils.getTimeAsString(System.currentTimeMillis() - begin));
+    }
+
+    private List<String> getEntries() {
+      return entries;
+    }
+
+    private void close() throws IOException {
+      zipOutputStream.close();
+    }
+  }
+
+  /**
+   * Limits speed of reading of data during online backup, so backup does not take all I/O bandwidth from other operations.
+   */
+  private static final class BackupThrottle {
+    private static final BackupThrottle UNLIMITED = new BackupThrottle(0);
+
+    private final long bytesPerSecond;
+    private final long startTs = System.nanoTime();
+
+    private long bytesCopied;
+
+    private BackupThrottle(int megabytesPerSecond) {
+      this.bytesPerSecond = megabytesPerSecond * 1024L * 1024;
+    }
+
+    private void onDataCopied(int bytes) throws InterruptedException {
+      if (bytesPerSecond <= 0)
+        return;
+
+      bytesCopied += bytes;
+
+      final long expectedTs = startTs + (long) (bytesCopied * 1000_000_000.0 / bytesPerSecond);
+      final long delay = expectedTs - System.nanoTime();
+      if (delay > 0)
+        TimeUnit.NANOSECONDS.sleep(delay);
+    }
+  }
+
+  private static final class BackupCompressionThreadFactory implements ThreadFactory {
+    private final String storageName;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    private BackupCompressionThreadFactory(String storageName) {
+      this.storageName = storageName;
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+      final Thread thread = new Thread(storageThreadGroup, r);
+      thread.setDaemon(true);
+      thread.setName("OrientDB Backup Compression Thread " + counter.incrementAndGet() + " (" + storageName + ")");
+      return thread;
+    }
+  }
+
   private class PeriodicFuzzyCheckpoint implements Runnable {
     @Override
     public void run() {
@@ -22,6 +22,7 @@ import com.orientechnologies.common.serialization.types.OByteSerializer;
 import com.orientechnologies.common.serialization.types.OIntegerSerializer;
 import com.orientechnologies.common.serialization.types.OLongSerializer;
 import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.cache.OSharedRecordCache;
 import com.orientechnologies.orient.core.compression.OCompression;
 import com.orientechnologies.orient.core.compression.OCompressionFactory;
 import com.orientechnologies.orient.core.config.OContextConfiguration;
@@ -85,6 +86,28 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
   private          long                                  pinnedStateEntryIndex;
   private          ORecordConflictStrategy               recordConflictStrategy;
 
+  private final ThreadLocal<ReadAheadState> readAheadState = ThreadLocal.withInitial(ReadAheadState::new);
+
+  /**
+   * State of the sequential scan of the cluster performed by the current thread.
+   */
+  private static final class ReadAheadState {
+    /**
+     * Index of the last data page read by the scan.
+     */
+    private long lastPageIndex = -1;
+
+    /**
+     * Index of the page next to the last one which is requested to be loaded into the cache.
+     */
+    private long readAheadUpTo = -1;
+
+    /**
+     * Amount of pages which are requested to be loaded by the last read ahead.
+     */
+    private int window;
+  }
+
   private static final class AddEntryResult {
     private final long pageIndex;
     private final int  pagePosition;
@@ -641,11 +664,11 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
     if (prefetchRecords)
       pagesToPrefetch = OGlobalConfiguration.QUERY_SCAN_PREFETCH_PAGES.getValueAsInteger();
 
-    return readRecord(clusterPosition, pagesToPrefetch);
+    return readRecord(clusterPosition, pagesToPrefetch, prefetchRecords);
 
   }
 
-  private ORawBuffer readRecord(final long clusterPosition, final int pageCount) throws IOException {
+  private ORawBuffer readRecord(final long clusterPosition, final int pageCount, final boolean readAhead) throws IOException {
     startOperation();
     OSessionStoragePerformanceStatistic statistic = performanceStatisticManager.getSessionPerformanceStatistic();
     if (statistic != null)
@@ -663,9 +686,13 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
           final long pageIndex = positionEntry.getPageIndex();
 
           final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
-          if (getFilledUpTo(atomicOperation, fileId) <= pageIndex)
+          final long filledUpTo = getFilledUpTo(atomicOperation, fileId);
+          if (filledUpTo <= pageIndex)
             return null;
 
+          if (readAhead && atomicOperation == null)
+            readAhead(pageIndex, Math.max(pageCount, 1), filledUpTo);
+
           int recordVersion = 0;
           final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false, pageCount);
           try {
@@ -710,6 +737,46 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
 
   }
 
+  /**
+   * Detects sequential reads of data pages by the current thread and loads pages which follow them into the read cache in
+   * background. Amount of pages read ahead starts from amount of pages prefetched by the read itself and is doubled each time
+   * scan consumes half of the pages which were read ahead, till {@link OGlobalConfiguration#QUERY_SCAN_READ_AHEAD_MAX_PAGES} is
+   * reached. Once scan jumps to the page which is not close to the previous one read ahead is started from scratch.
+   */
+  private void readAhead(final long pageIndex, final int pageCount, final long filledUpTo) {
+    final int maxPages = OGlobalConfiguration.QUERY_SCAN_READ_AHEAD_MAX_PAGES.getValueAsInteger();
+    if (maxPages <= 0)
+      return;
+
+    final ReadAheadState state = readAheadState.get();
+    if (pageIndex < state.lastPageIndex || pageIndex > Math.max(state.lastPageIndex + 1, state.readAheadUpTo)) {
+      //page prefetched by the read itself is not read again
+      state.window = pageCount;
+      state.readAheadUpTo = pageIndex + pageCount;
+    }
+
+    state.lastPageIndex = pageIndex;
+
+    if (state.readAheadUpTo - pageIndex > state.window / 2 || state.readAheadUpTo >= filledUpTo)
+      return;
+
+    state.window = Math.min(state.window * 2, maxPages);
+
+    final long startIndex = state.readAheadUpTo;
+    final int count = (int) Math.min(state.window, filledUpTo - startIndex);
+    state.readAheadUpTo = startIndex + count;
+
+    final long fileId = this.fileId;
+    storageLocal.submitReadAhead(() -> {
+      try {
+        prefetchPages(fileId, startIndex, count);
+      } catch (IOException | RuntimeException e) {
+        //cluster may be dropped or truncated in the meantime, read ahead is only a hint so the error is not propagated
+        OLogManager.instance().debug(this, "Error during read ahead of pages of cluster '%s'", e, getName());
+      }
+    });
+  }
+
   @Override
   public ORawBuffer readRecordIfVersionIsNotLatest(long clusterPosition, final int recordVersion)
       throws IOException, ORecordNotFoundException {
@@ -1331,6 +1398,7 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
         throw OException.wrapException(new OPaginatedClusterException("Error during cluster truncate", this), e);
       } finally {
         releaseExclusiveLock();
+        OSharedRecordCache.instance().invalidate(storageLocal.getId(), id);
       }
     } finally {
       completeOperation();
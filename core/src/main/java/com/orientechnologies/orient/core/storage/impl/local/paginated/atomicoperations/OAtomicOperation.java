@@ -19,6 +19,8 @@
  */
 package com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations;
 
+import com.orientechnologies.orient.core.compression.OCompression;
+import com.orientechnologies.orient.core.compression.OCompressionFactory;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.exception.OStorageException;
 import com.orientechnologies.orient.core.storage.cache.*;
@@ -48,6 +50,7 @@ public class OAtomicOperation {
   private Exception rollbackException;
 
   private Set<String>            lockedObjects        = new HashSet<String>();
+  private Set<String>            deletedComponents    = new HashSet<String>();
   private Map<Long, FileChanges> fileChanges          = new HashMap<Long, FileChanges>();
   private Map<String, Long>      newFileNamesId       = new HashMap<String, Long>();
   private Set<Long>              deletedFiles         = new HashSet<Long>();
@@ -353,6 +356,11 @@ public class OAtomicOperation {
 
     try {
       if (writeAheadLog != null) {
+        final boolean compactPageChanges = OGlobalConfiguration.WAL_COMPACT_PAGE_CHANGES.getValueAsBoolean();
+        final OCompression pageChangesCompression = compactPageChanges ?
+            OCompressionFactory.INSTANCE.getCompression(OGlobalConfiguration.WAL_PAGE_CHANGES_COMPRESSION.getValueAsString(), null) :
+            null;
+
         for (long deletedFileId : deletedFiles) {
           writeAheadLog.log(new OFileDeletedWALRecord(operationUnitId, deletedFileId));
         }
@@ -373,8 +381,14 @@ public class OAtomicOperation {
               final long pageIndex = filePageChangesEntry.getKey();
               final OCacheEntryChanges filePageChanges = filePageChangesEntry.getValue();
 
-              filePageChanges.lsn = writeAheadLog
-                  .log(new OUpdatePageRecord(pageIndex, fileId, operationUnitId, filePageChanges.changes));
+              final OUpdatePageRecord updatePageRecord;
+              if (compactPageChanges && filePageChanges.changes instanceof OWALPageChangesPortion)
+                updatePageRecord = new OCompactUpdatePageRecord(pageIndex, fileId, operationUnitId,
+                    (OWALPageChangesPortion) filePageChanges.changes, pageChangesCompression);
+              else
+                updatePageRecord = new OUpdatePageRecord(pageIndex, fileId, operationUnitId, filePageChanges.changes);
+
+              filePageChanges.lsn = writeAheadLog.log(updatePageRecord);
             } else
               filePageChangesIterator.remove();
           }
@@ -472,6 +486,14 @@ public class OAtomicOperation {
     return lockedObjects;
   }
 
+  void addDeletedComponent(String lockName) {
+    deletedComponents.add(lockName);
+  }
+
+  Iterable<String> deletedComponents() {
+    return deletedComponents;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o)
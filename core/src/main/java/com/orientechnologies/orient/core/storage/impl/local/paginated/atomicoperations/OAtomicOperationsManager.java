@@ -105,6 +105,18 @@ public class OAtomicOperationsManager implements OAtomicOperationsMangerMXBean {
 
   private final Map<OOperationUnitId, OPair<String, StackTraceElement[]>> activeAtomicOperations = new ConcurrentHashMap<OOperationUnitId, OPair<String, StackTraceElement[]>>();
 
+  /**
+   * Commit stamps of the components, odd while the changes of an atomic operation are applied to a component. See {@link
+   * #startOptimisticRead(ODurableComponent)}.
+   */
+  private final ConcurrentMap<String, AtomicLong> commitStamps = new ConcurrentHashMap<String, AtomicLong>();
+
+  /**
+   * Initial value of the last created commit stamp. Stamps of a component created after a stamp of the component with the same
+   * name was dropped start from a new value, so stamps taken before the drop are never validated.
+   */
+  private final AtomicLong lastInitialCommitStamp = new AtomicLong();
+
   public OAtomicOperationsManager(OAbstractPaginatedStorage storage) {
     this.storage = storage;
     this.writeAheadLog = storage.getWALInstance();
@@ -383,9 +395,20 @@ public class OAtomicOperationsManager implements OAtomicOperationsMangerMXBean {
     if (counter == 1) {
       final boolean useWal = useWal();
 
-      if (!operation.isRollback())
+      if (!operation.isRollback()) {
+        for (String lockObject : operation.lockedObjects())
+          commitStamp(lockObject).incrementAndGet();
+
         operation.commitChanges(useWal ? writeAheadLog : null);
 
+        // if the commit fails stamps stay odd and optimistic reads of the components fall back to locks
+        for (String lockObject : operation.lockedObjects())
+          commitStamp(lockObject).incrementAndGet();
+
+        for (String deletedComponent : operation.deletedComponents())
+          commitStamps.remove(deletedComponent);
+      }
+
       if (useWal)
         writeAheadLog.logAtomicOperationEndRecord(operation.getOperationUnitId(), rollback, operation.getStartLSN(),
             operation.getMetadata());
@@ -445,6 +468,62 @@ public class OAtomicOperationsManager implements OAtomicOperationsMangerMXBean {
     lockManager.releaseLock(this, durableComponent.getLockName(), OOneEntryPerKeyLockManager.LOCK.SHARED);
   }
 
+  /**
+   * Starts a read of the committed state of the component without acquiring of its read lock, so the read does not wait for the
+   * atomic operations which modify the component. Changes of an atomic operation are not visible till its commit, so the read is
+   * consistent if no atomic operation is committed in the meantime, that has to be checked by {@link
+   * #validateOptimisticRead(ODurableComponent, long)} before the result of the read is used.
+   *
+   * @return stamp to be validated at the end of the read, or -1 if changes are being committed to the component and read lock has
+   * to be used.
+   *
+   * @see #acquireReadLock(ODurableComponent)
+   */
+  public long startOptimisticRead(ODurableComponent durableComponent) {
+    assert durableComponent.getLockName() != null;
+
+    final OAtomicOperation operation = currentOperation.get();
+    if (operation != null && operation.containsInLockedObjects(durableComponent.getLockName()))
+      return -1;
+
+    final long stamp = commitStamp(durableComponent.getLockName()).get();
+    return (stamp & 1) == 0 ? stamp : -1;
+  }
+
+  /**
+   * @return <code>true</code> if no changes were committed to the component since the stamp was returned by {@link
+   * #startOptimisticRead(ODurableComponent)}.
+   */
+  public boolean validateOptimisticRead(ODurableComponent durableComponent, long stamp) {
+    return stamp >= 0 && commitStamp(durableComponent.getLockName()).get() == stamp;
+  }
+
+  /**
+   * Drops the commit stamp of the component deleted by the current atomic operation, the stamp is dropped when the operation is
+   * committed.
+   */
+  public void dropCommitStamp(ODurableComponent durableComponent) {
+    assert durableComponent.getLockName() != null;
+
+    final OAtomicOperation operation = currentOperation.get();
+    assert operation != null;
+
+    operation.addDeletedComponent(durableComponent.getLockName());
+  }
+
+  private AtomicLong commitStamp(String lockName) {
+    AtomicLong stamp = commitStamps.get(lockName);
+    if (stamp == null) {
+      //stamps of components with the same name do not overlap unless a component is committed 2^31 times
+      stamp = new AtomicLong(lastInitialCommitStamp.addAndGet(1L << 32));
+      final AtomicLong oldStamp = commitStamps.putIfAbsent(lockName, stamp);
+      if (oldStamp != null)
+        stamp = oldStamp;
+    }
+
+    return stamp;
+  }
+
   public void registerMBean() {
     if (mbeanIsRegistered.compareAndSet(false, true)) {
       try {
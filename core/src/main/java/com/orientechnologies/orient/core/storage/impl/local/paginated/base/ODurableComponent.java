@@ -155,6 +155,14 @@ public abstract class ODurableComponent extends OSharedResourceAdaptive {
     return atomicOperation.loadPage(fileId, pageIndex, checkPinnedPages, pageCount);
   }
 
+  /**
+   * Loads pages into the read cache without acquiring of them, so they can be read later without access to the disk. Changes
+   * done inside of atomic operations are not visible here, so it is intended to be called outside of them.
+   */
+  protected void prefetchPages(long fileId, long pageIndex, int pageCount) throws IOException {
+    readCache.prefetch(fileId, pageIndex, pageCount, writeCache, true);
+  }
+
   protected void pinPage(OAtomicOperation atomicOperation, OCacheEntry cacheEntry) throws IOException {
     if (atomicOperation == null)
       readCache.pinPage(cacheEntry);
@@ -31,6 +31,7 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSe
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALChanges;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 /**
  * Base page class for all durable data structures, that is data structures state of which can be consistently restored after system
@@ -126,6 +127,45 @@ public class ODurablePage {
     return changes.getBinaryValue(buffer, pageOffset, valLen);
   }
 
+  /**
+   * Compares bytes of the page with passed in value as unsigned bytes without copying of them. Only the first
+   * <code>min(valLen, value.length)</code> bytes are compared.
+   *
+   * @return negative number, zero or positive number if bytes of the page are less than, equal to or greater than bytes of
+   * the value
+   */
+  protected int compareBinaryValue(int pageOffset, int valLen, byte[] value) {
+    assert cacheEntry.getCachePointer().getSharedBuffer() == null || cacheEntry.isLockAcquiredByCurrentThread();
+
+    final ByteBuffer buffer = pointer.getSharedBuffer();
+    final int length = Math.min(valLen, value.length);
+
+    int i = 0;
+    if (changes == null) {
+      //compare eight bytes at once while it is possible
+      final boolean bigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+      for (; i + OLongSerializer.LONG_SIZE <= length; i += OLongSerializer.LONG_SIZE) {
+        final long pageLong = bigEndian ? buffer.getLong(pageOffset + i) : Long.reverseBytes(buffer.getLong(pageOffset + i));
+
+        long valueLong = 0;
+        for (int n = 0; n < OLongSerializer.LONG_SIZE; n++)
+          valueLong = (valueLong << 8) | (value[i + n] & 0xFF);
+
+        if (pageLong != valueLong)
+          return (pageLong ^ Long.MIN_VALUE) < (valueLong ^ Long.MIN_VALUE) ? -1 : 1;
+      }
+    }
+
+    for (; i < length; i++) {
+      final byte pageByte = changes == null ? buffer.get(pageOffset + i) : changes.getByteValue(buffer, pageOffset + i);
+      final int cmp = (pageByte & 0xFF) - (value[i] & 0xFF);
+      if (cmp != 0)
+        return cmp;
+    }
+
+    return 0;
+  }
+
   protected int getObjectSizeInDirectMemory(OBinarySerializer binarySerializer, int offset) {
     assert cacheEntry.getCachePointer().getSharedBuffer() == null || cacheEntry.isLockAcquiredByCurrentThread();
 
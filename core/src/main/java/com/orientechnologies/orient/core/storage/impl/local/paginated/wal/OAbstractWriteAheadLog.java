@@ -32,7 +32,7 @@ import java.util.concurrent.locks.ReentrantLock;
  * @since 6/25/14
  */
 public abstract class OAbstractWriteAheadLog implements OWriteAheadLog {
-  protected boolean            closed;
+  protected volatile boolean   closed;
 
   protected final Lock         syncObject = new ReentrantLock();
   protected OLogSequenceNumber lastCheckpoint;
@@ -0,0 +1,119 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
+
+import com.orientechnologies.orient.core.compression.OCompression;
+import com.orientechnologies.orient.core.compression.OCompressionFactory;
+import com.orientechnologies.orient.core.compression.impl.ONothingCompression;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.BytesContainer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.OVarIntSerializer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Page update record which stores changes of the page in compact form, see
+ * {@link OWALPageChangesPortion#toCompactStream(BytesContainer)}. If size of the changes exceeds {@link #COMPRESSION_THRESHOLD}
+ * they are compressed by passed in compression, name of the compression is stored in the record, so records written with
+ * different compression methods can be read back. Records of this type are read together with {@link OUpdatePageRecord} ones
+ * during restore of the storage.
+ */
+public class OCompactUpdatePageRecord extends OUpdatePageRecord {
+  /**
+   * Minimum size of the changes in bytes which are compressed.
+   */
+  static final int COMPRESSION_THRESHOLD = 1024;
+
+  private static final byte RAW        = 0;
+  private static final byte COMPRESSED = 1;
+
+  /**
+   * Maximum size of varint encoded integer.
+   */
+  private static final int MAX_VARINT_SIZE = 5;
+
+  private OCompression compression;
+
+  /**
+   * Serialized changes, they are calculated once because size of compressed changes is not known till they are compressed.
+   */
+  private byte[] serializedChanges;
+
+  public OCompactUpdatePageRecord() {
+  }
+
+  public OCompactUpdatePageRecord(final long pageIndex, final long fileId, final OOperationUnitId operationUnitId,
+      final OWALPageChangesPortion changes, final OCompression compression) {
+    super(pageIndex, fileId, operationUnitId, changes);
+    this.compression = compression;
+  }
+
+  @Override
+  protected int changesSerializedSize() {
+    return serializeChanges().length;
+  }
+
+  @Override
+  protected int changesToStream(final byte[] content, final int offset) {
+    final byte[] serializedChanges = serializeChanges();
+    System.arraycopy(serializedChanges, 0, content, offset, serializedChanges.length);
+
+    return offset + serializedChanges.length;
+  }
+
+  @Override
+  protected int changesFromStream(final byte[] content, final int offset) {
+    final OWALPageChangesPortion changes = new OWALPageChangesPortion();
+    final BytesContainer container = new BytesContainer(content, offset + 1);
+
+    if (content[offset] == COMPRESSED) {
+      final int nameLength = (int) OVarIntSerializer.readUnsignedVarLong(container);
+      final String compressionName = new String(content, container.offset, nameLength, StandardCharsets.UTF_8);
+      container.offset += nameLength;
+
+      final int compressedLength = (int) OVarIntSerializer.readUnsignedVarLong(container);
+      final byte[] uncompressed = OCompressionFactory.INSTANCE.getCompression(compressionName, null)
+          .uncompress(content, container.offset, compressedLength);
+      container.offset += compressedLength;
+
+      changes.fromCompactStream(new BytesContainer(uncompressed));
+    } else {
+      changes.fromCompactStream(container);
+    }
+
+    this.changes = changes;
+    return container.offset;
+  }
+
+  private byte[] serializeChanges() {
+    if (serializedChanges != null)
+      return serializedChanges;
+
+    //gap and length of the run take at most four bytes per chunk, position of the chunk takes two bytes in previous format
+    final int serializedSize = changes.serializedSize();
+    final BytesContainer container = new BytesContainer(new byte[1 + serializedSize + serializedSize / 16 + MAX_VARINT_SIZE]);
+    container.bytes[container.alloc(1)] = RAW;
+    ((OWALPageChangesPortion) changes).toCompactStream(container);
+
+    final int rawLength = container.offset - 1;
+    if (rawLength >= COMPRESSION_THRESHOLD && compression != null && !(compression instanceof ONothingCompression)) {
+      final byte[] compressed = compression.compress(container.bytes, 1, rawLength);
+      final byte[] name = compression.name().getBytes(StandardCharsets.UTF_8);
+
+      if (compressed.length + name.length + 2 * MAX_VARINT_SIZE < rawLength) {
+        final BytesContainer compressedContainer = new BytesContainer(
+            new byte[1 + compressed.length + name.length + 2 * MAX_VARINT_SIZE]);
+        compressedContainer.bytes[compressedContainer.alloc(1)] = COMPRESSED;
+
+        OVarIntSerializer.writeUnsignedVarLong(name.length, compressedContainer);
+        System.arraycopy(name, 0, compressedContainer.bytes, compressedContainer.alloc(name.length), name.length);
+
+        OVarIntSerializer.writeUnsignedVarLong(compressed.length, compressedContainer);
+        System.arraycopy(compressed, 0, compressedContainer.bytes, compressedContainer.alloc(compressed.length), compressed.length);
+
+        serializedChanges = compressedContainer.fitBytes();
+        return serializedChanges;
+      }
+    }
+
+    serializedChanges = container.fitBytes();
+    return serializedChanges;
+  }
+}
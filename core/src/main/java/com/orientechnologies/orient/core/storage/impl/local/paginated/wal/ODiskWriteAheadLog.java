@@ -22,6 +22,7 @@ package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
 
 import com.orientechnologies.common.concur.executors.SubScheduledExecutorService;
 import com.orientechnologies.common.concur.lock.OInterruptedException;
+import com.orientechnologies.common.concur.lock.OReadersWriterSpinLock;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.io.OIOUtils;
 import com.orientechnologies.common.log.OLogManager;
@@ -49,6 +50,7 @@ import java.util.*;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Condition;
 import java.util.stream.Stream;
@@ -71,9 +73,27 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
   private final    long freeSpaceLimit = OGlobalConfiguration.DISK_CACHE_FREE_SPACE_LIMIT.getValueAsLong() * ONE_KB * ONE_KB;
   private volatile long freeSpace      = -1;
 
-  private volatile OLogSequenceNumber end;
+  private final AtomicReference<OLogSequenceNumber> end = new AtomicReference<>();
 
   private final List<OLogSegment> logSegments = new ArrayList<>();
+
+  /**
+   * Last segment of {@link #logSegments}, it is used to append records without acquiring of {@link #syncObject}.
+   */
+  private volatile OLogSegment activeSegment;
+
+  /**
+   * Indicates whether records may be appended to the active segment by several threads at once.
+   *
+   * @see OGlobalConfiguration#WAL_GROUP_COMMIT
+   */
+  private final boolean groupCommit = OGlobalConfiguration.WAL_GROUP_COMMIT.getValueAsBoolean();
+
+  /**
+   * Shared lock is held by threads which append records without acquiring of {@link #syncObject}, exclusive lock is held when
+   * active segment is changed or WAL is closed.
+   */
+  private final OReadersWriterSpinLock appendLock = new OReadersWriterSpinLock();
   private final int  maxPagesCacheSize;
   private final int  commitDelay;
   private final long maxSegmentSize;
@@ -92,18 +112,21 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
   private final OPerformanceStatisticManager performanceStatisticManager;
 
   private boolean useFirstMasterRecord = true;
-  private volatile long               logSize;
-  private          Path               masterRecordPath;
-  private          OLogSequenceNumber firstMasterRecord;
-  private          OLogSequenceNumber secondMasterRecord;
+  private final AtomicLong         logSize = new AtomicLong();
+  private       Path               masterRecordPath;
+  private       OLogSequenceNumber firstMasterRecord;
+  private       OLogSequenceNumber secondMasterRecord;
 
   private final AtomicReference<OLogSequenceNumber> flushedLsn = new AtomicReference<>();
 
-  private volatile OLogSequenceNumber preventCutTill;
+  /**
+   * LSNs which prevent cut of WAL segments mapped to count of their registrations, guarded by {@link #syncObject}.
+   */
+  private final NavigableMap<OLogSequenceNumber, Integer> cutTillLimits = new TreeMap<>();
 
   private volatile long cacheOverflowCount = 0;
 
-  private       boolean   segmentCreationFlag     = false;
+  private volatile boolean segmentCreationFlag     = false;
   private final Condition segmentCreationComplete = syncObject.newCondition();
 
   private final Set<OOperationUnitId>                           activeOperations        = new HashSet<>();
@@ -201,7 +224,7 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
         throw new IllegalStateException(
             "Location passed in WAL does not exist, or IO error was happened. DB cannot work in durable mode in such case");
 
-      logSize = 0;
+      logSize.set(0);
       walFiles.forEach((Path path) -> {
         try {
           FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
@@ -232,7 +255,7 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
           logSegment.init();
 
           logSegments.add(logSegment);
-          logSize += logSegment.filledUpTo();
+          logSize.addAndGet(logSegment.filledUpTo());
         } catch (IOException e) {
           throw OException
               .wrapException(new OStorageException("Error during file initialization for storage '" + this.storage.getName() + "'"),
@@ -255,9 +278,11 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
 
         flushedLsn.set(findFlushedLSN());
 
-        end = calculateEndLSN();
+        end.set(calculateEndLSN());
       }
 
+      activeSegment = logSegments.get(logSegments.size() - 1);
+
       masterRecordPath = walLocation.resolve(this.storage.getName() + MASTER_RECORD_EXTENSION);
       masterRecordLSNHolder = FileChannel
           .open(masterRecordPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE,
@@ -312,6 +337,14 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
     cacheOverflowCount++;
   }
 
+  void incrementLogSize(long delta) {
+    logSize.addAndGet(delta);
+  }
+
+  boolean isGroupCommit() {
+    return groupCommit;
+  }
+
   public long getCacheOverflowCount() {
     return cacheOverflowCount;
   }
@@ -432,7 +465,7 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
 
   @Override
   public OLogSequenceNumber end() {
-    return end;
+    return end.get();
   }
 
   @Override
@@ -460,6 +493,8 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
     try {
       OAtomicUnitStartRecord record = new OAtomicUnitStartRecord(isRollbackSupported, unitId);
       byte[] content = OWALRecordsFactory.INSTANCE.toStream(record);
+      if (statistic != null)
+        statistic.incrementWALBytes(content.length);
       syncObject.lock();
       try {
         checkForClose();
@@ -486,6 +521,8 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
     try {
       OAtomicUnitEndRecord record = new OAtomicUnitEndRecord(operationUnitId, rollback, atomicOperationMetadata);
       byte[] content = OWALRecordsFactory.INSTANCE.toStream(record);
+      if (statistic != null)
+        statistic.incrementWALBytes(content.length);
       syncObject.lock();
       try {
         checkForClose();
@@ -509,7 +546,11 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
     if (statistic != null)
       statistic.startWALLogRecordTimer();
     try {
-      return internalLog(record, OWALRecordsFactory.INSTANCE.toStream(record));
+      final byte[] content = OWALRecordsFactory.INSTANCE.toStream(record);
+      if (statistic != null)
+        statistic.incrementWALBytes(content.length);
+
+      return internalLog(record, content);
     } finally {
       if (statistic != null)
         statistic.stopWALRecordTimer(false, false);
@@ -521,6 +562,12 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
    * it log a record getting the serialized content as parameter.
    */
   private OLogSequenceNumber internalLog(OWALRecord record, byte[] recordContent) throws IOException {
+    if (groupCommit && !record.isUpdateMasterRecord()) {
+      final OLogSequenceNumber lsn = appendConcurrently(record, recordContent);
+      if (lsn != null)
+        return lsn;
+    }
+
     syncObject.lock();
     try {
       checkForClose();
@@ -543,7 +590,7 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
       final OLogSequenceNumber lsn = last.logRecord(recordContent);
       record.setLsn(lsn);
 
-      end = lsn;
+      casEnd(lsn);
 
       if (record.isUpdateMasterRecord()) {
         lastCheckpoint = lsn;
@@ -558,44 +605,123 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
         }
       }
 
-      final long sizeDiff = last.filledUpTo() - lastSize;
-      logSize += sizeDiff;
+      //in group commit mode segment calculates size of the log by itself
+      if (!isConcurrentAppendSupported(last)) {
+        final long sizeDiff = last.filledUpTo() - lastSize;
+        logSize.addAndGet(sizeDiff);
+      }
+
+      switchSegmentIfNeeded(record, last);
+      requestCheckpointIfNeeded();
+
+      return lsn;
+
+    } finally {
+      syncObject.unlock();
+    }
+  }
+
+  /**
+   * Appends record to the active segment without acquiring of {@link #syncObject}. Several threads reserve space in the segment
+   * concurrently and records are written to the disk by the flush task of the segment in a single group. Exclusive lock is
+   * acquired only if the segment is full or size of WAL exceeds the limit.
+   *
+   * @return LSN of the record or <code>null</code> if record can not be appended concurrently and should be logged under
+   * exclusive lock.
+   */
+  private OLogSequenceNumber appendConcurrently(OWALRecord record, byte[] recordContent) throws IOException {
+    final OLogSegment last;
+    final OLogSequenceNumber lsn;
 
-      if (last.filledUpTo() >= maxSegmentSize) {
-        segmentCreationFlag = true;
+    appendLock.acquireReadLock();
+    try {
+      checkForClose();
 
-        if (record instanceof OAtomicUnitEndRecord && activeOperations.size() == 1 || (!(record instanceof OOperationUnitRecord)
-            && activeOperations.isEmpty())) {
-          last.stopBackgroundWrite(true);
+      last = activeSegment;
+      //threads which are not participants of active operations should wait till new segment will be created
+      if (segmentCreationFlag || !isConcurrentAppendSupported(last))
+        return null;
 
-          last = new OLogSegmentV2(this, walLocation.resolve(getSegmentName(last.getOrder() + 1)), maxPagesCacheSize, fileTTL,
-              segmentBufferSize, new SubScheduledExecutorService(autoFileCloser), new SubScheduledExecutorService(commitExecutor));
-          last.init();
-          last.startBackgroundWrite();
+      lsn = last.logRecord(recordContent);
+      record.setLsn(lsn);
 
-          logSegments.add(last);
+      casEnd(lsn);
+    } finally {
+      appendLock.releaseReadLock();
+    }
 
-          segmentCreationFlag = false;
-          segmentCreationComplete.signalAll();
+    if (last.filledUpTo() >= maxSegmentSize || (walSizeLimit > -1 && logSize.get() > walSizeLimit)) {
+      syncObject.lock();
+      try {
+        if (!closed) {
+          switchSegmentIfNeeded(record, last);
+          requestCheckpointIfNeeded();
         }
+      } finally {
+        syncObject.unlock();
       }
+    }
+
+    return lsn;
+  }
+
+  private boolean isConcurrentAppendSupported(OLogSegment segment) {
+    return groupCommit && segment instanceof OLogSegmentV2;
+  }
+
+  /**
+   * Starts new segment if passed in segment is still active and its size exceeds the limit. Segment is not changed till all atomic
+   * operations started inside of it will be completed, new atomic operations wait for segment creation in meantime.
+   */
+  private void switchSegmentIfNeeded(OWALRecord record, OLogSegment last) throws IOException {
+    if (last != activeSegment || last.filledUpTo() < maxSegmentSize)
+      return;
 
-      if (walSizeHardLimit < 0 && freeSpace > -1) {
-        walSizeLimit += (logSize + freeSpace) / 2;
+    segmentCreationFlag = true;
+
+    if (record instanceof OAtomicUnitEndRecord && activeOperations.size() == 1 || (!(record instanceof OOperationUnitRecord)
+        && activeOperations.isEmpty())) {
+      appendLock.acquireWriteLock();
+      try {
+        last.stopBackgroundWrite(true);
+
+        last = new OLogSegmentV2(this, walLocation.resolve(getSegmentName(last.getOrder() + 1)), maxPagesCacheSize, fileTTL,
+            segmentBufferSize, new SubScheduledExecutorService(autoFileCloser), new SubScheduledExecutorService(commitExecutor));
+        last.init();
+        last.startBackgroundWrite();
+
+        logSegments.add(last);
+        activeSegment = last;
+      } finally {
+        appendLock.releaseWriteLock();
       }
 
-      if (walSizeLimit > -1 && logSize > walSizeLimit && logSegments.size() > 1) {
-        for (WeakReference<OCheckpointRequestListener> listenerWeakReference : fullCheckpointListeners) {
-          final OCheckpointRequestListener listener = listenerWeakReference.get();
-          if (listener != null)
-            listener.requestCheckpoint();
-        }
+      segmentCreationFlag = false;
+      segmentCreationComplete.signalAll();
+    }
+  }
+
+  private void requestCheckpointIfNeeded() {
+    if (walSizeHardLimit < 0 && freeSpace > -1) {
+      walSizeLimit += (logSize.get() + freeSpace) / 2;
+    }
+
+    if (walSizeLimit > -1 && logSize.get() > walSizeLimit && logSegments.size() > 1) {
+      for (WeakReference<OCheckpointRequestListener> listenerWeakReference : fullCheckpointListeners) {
+        final OCheckpointRequestListener listener = listenerWeakReference.get();
+        if (listener != null)
+          listener.requestCheckpoint();
       }
+    }
+  }
 
-      return lsn;
+  private void casEnd(OLogSequenceNumber lsn) {
+    OLogSequenceNumber lastLsn = end.get();
+    while (lastLsn == null || lsn.compareTo(lastLsn) > 0) {
+      if (end.compareAndSet(lastLsn, lsn))
+        return;
 
-    } finally {
-      syncObject.unlock();
+      lastLsn = end.get();
     }
   }
 
@@ -612,20 +738,26 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
       if (end().compareTo(lsn) > 0)
         return;
 
-      OLogSegment last = logSegments.get(logSegments.size() - 1);
-      last.stopBackgroundWrite(true);
+      appendLock.acquireWriteLock();
+      try {
+        OLogSegment last = logSegments.get(logSegments.size() - 1);
+        last.stopBackgroundWrite(true);
 
-      if (last.filledUpTo() == 0) {
-        last.delete(false);
-        logSegments.remove(logSegments.size() - 1);
-      }
+        if (last.filledUpTo() == 0) {
+          last.delete(false);
+          logSegments.remove(logSegments.size() - 1);
+        }
 
-      last = new OLogSegmentV2(this, walLocation.resolve(getSegmentName(lsn.getSegment() + 1)), maxPagesCacheSize, fileTTL,
-          segmentBufferSize, new SubScheduledExecutorService(autoFileCloser), new SubScheduledExecutorService(commitExecutor));
-      last.init();
-      last.startBackgroundWrite();
+        last = new OLogSegmentV2(this, walLocation.resolve(getSegmentName(lsn.getSegment() + 1)), maxPagesCacheSize, fileTTL,
+            segmentBufferSize, new SubScheduledExecutorService(autoFileCloser), new SubScheduledExecutorService(commitExecutor));
+        last.init();
+        last.startBackgroundWrite();
 
-      logSegments.add(last);
+        logSegments.add(last);
+        activeSegment = last;
+      } finally {
+        appendLock.releaseWriteLock();
+      }
 
     } finally {
       syncObject.unlock();
@@ -639,19 +771,25 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
       if (!activeOperations.isEmpty())
         throw new OStorageException("Can not change end of WAL because there are active atomic operations in the log.");
 
-      OLogSegment last = logSegments.get(logSegments.size() - 1);
-      if (last.filledUpTo() == 0) {
-        return;
-      }
+      appendLock.acquireWriteLock();
+      try {
+        OLogSegment last = logSegments.get(logSegments.size() - 1);
+        if (last.filledUpTo() == 0) {
+          return;
+        }
 
-      last.stopBackgroundWrite(true);
+        last.stopBackgroundWrite(true);
 
-      last = new OLogSegmentV2(this, walLocation.resolve(getSegmentName(last.getOrder() + 1)), maxPagesCacheSize, fileTTL,
-          segmentBufferSize, new SubScheduledExecutorService(autoFileCloser), new SubScheduledExecutorService(commitExecutor));
-      last.init();
-      last.startBackgroundWrite();
+        last = new OLogSegmentV2(this, walLocation.resolve(getSegmentName(last.getOrder() + 1)), maxPagesCacheSize, fileTTL,
+            segmentBufferSize, new SubScheduledExecutorService(autoFileCloser), new SubScheduledExecutorService(commitExecutor));
+        last.init();
+        last.startBackgroundWrite();
 
-      logSegments.add(last);
+        logSegments.add(last);
+        activeSegment = last;
+      } finally {
+        appendLock.releaseWriteLock();
+      }
     } finally {
       syncObject.unlock();
     }
@@ -713,7 +851,7 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
   }
 
   public long size() {
-    return logSize;
+    return logSize.get();
   }
 
   public List<String> getWalFiles() {
@@ -771,7 +909,12 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
       if (closed)
         return;
 
-      closed = true;
+      appendLock.acquireWriteLock();
+      try {
+        closed = true;
+      } finally {
+        appendLock.releaseWriteLock();
+      }
 
       for (OLogSegment logSegment : logSegments)
         logSegment.close(flush);
@@ -898,7 +1041,7 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
 
       flush();
 
-      final OLogSequenceNumber maxLsn = preventCutTill;
+      final OLogSequenceNumber maxLsn = cutTillLimits.isEmpty() ? null : cutTillLimits.firstKey();
 
       if (maxLsn != null && lsn.compareTo(maxLsn) > 0)
         lsn = maxLsn;
@@ -934,7 +1077,7 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
       checkForClose();
       flush();
 
-      final OLogSequenceNumber maxSegmentLSN = preventCutTill;
+      final OLogSequenceNumber maxSegmentLSN = cutTillLimits.isEmpty() ? null : cutTillLimits.firstKey();
 
       if (maxSegmentLSN != null) {
         if (segmentId > maxSegmentLSN.getSegment()) {
@@ -968,8 +1111,36 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
   }
 
   @Override
-  public void preventCutTill(OLogSequenceNumber lsn) throws IOException {
-    preventCutTill = lsn;
+  public void addCutTillLimit(OLogSequenceNumber lsn) {
+    if (lsn == null)
+      throw new NullPointerException("LSN of cut limit can not be null");
+
+    syncObject.lock();
+    try {
+      cutTillLimits.merge(lsn, 1, Integer::sum);
+    } finally {
+      syncObject.unlock();
+    }
+  }
+
+  @Override
+  public void removeCutTillLimit(OLogSequenceNumber lsn) {
+    if (lsn == null)
+      throw new NullPointerException("LSN of cut limit can not be null");
+
+    syncObject.lock();
+    try {
+      final Integer counter = cutTillLimits.get(lsn);
+      if (counter == null)
+        throw new IllegalArgumentException("Cut limit " + lsn + " is not registered");
+
+      if (counter == 1)
+        cutTillLimits.remove(lsn);
+      else
+        cutTillLimits.put(lsn, counter - 1);
+    } finally {
+      syncObject.unlock();
+    }
   }
 
   private OLogSegment removeHeadSegmentFromList() {
@@ -980,10 +1151,12 @@ public class ODiskWriteAheadLog extends OAbstractWriteAheadLog {
   }
 
   private void recalculateLogSize() throws IOException {
-    logSize = 0;
+    long size = 0;
 
     for (OLogSegment segment : logSegments)
-      logSize += segment.filledUpTo();
+      size += segment.filledUpTo();
+
+    logSize.set(size);
   }
 
   private void fixMasterRecords() throws IOException {
@@ -16,9 +16,13 @@ import java.nio.ByteOrder;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Matcher;
@@ -26,6 +30,9 @@ import java.util.regex.Pattern;
 import java.util.zip.CRC32;
 
 final class OLogSegmentV2 implements OLogSegment {
+  private static final AtomicLongFieldUpdater<OLogSegmentV2> FILLED_UP_TO_UPDATER = AtomicLongFieldUpdater
+      .newUpdater(OLogSegmentV2.class, "filledUpTo");
+
   private final ODiskWriteAheadLog writeAheadLog;
 
   private volatile long               writtenUpTo;
@@ -40,11 +47,30 @@ final class OLogSegmentV2 implements OLogSegment {
   private final    Lock             cacheLock  = new ReentrantLock();
   private volatile List<OLogRecord> writeCache = new ArrayList<>();
 
+  /**
+   * Indicates whether space for records is reserved by CAS operation, so records may be appended by several threads at once.
+   *
+   * @see com.orientechnologies.orient.core.config.OGlobalConfiguration#WAL_GROUP_COMMIT
+   */
+  private final boolean groupCommit;
+
+  /**
+   * Records appended in group commit mode, key is the value of {@link #filledUpTo} from which space for the record was reserved.
+   * Records are added in arbitrary order, so flush task writes only records which form continuous range of reserved space.
+   */
+  private final ConcurrentSkipListMap<Long, OLogRecord> reservedRecords = new ConcurrentSkipListMap<>();
+
+  /**
+   * End of reserved space which is already passed to the flush task in group commit mode.
+   */
+  private volatile long writtenReservation;
+
   private final ScheduledExecutorService commitExecutor;
 
   private volatile long    filledUpTo;
   private          boolean closed;
-  private OLogSequenceNumber last = null;
+
+  private final AtomicReference<OLogSequenceNumber> last = new AtomicReference<>();
 
   private volatile boolean flushNewData = true;
 
@@ -63,15 +89,21 @@ final class OLogSegmentV2 implements OLogSegment {
         flushNewData = false;
 
         List<OLogRecord> toFlush;
-        try {
-          cacheLock.lock();
-          if (writeCache.isEmpty())
+        if (groupCommit) {
+          toFlush = pollReservedRecords();
+          if (toFlush.isEmpty())
             return;
-
-          toFlush = writeCache;
-          writeCache = new ArrayList<>();
-        } finally {
-          cacheLock.unlock();
+        } else {
+          try {
+            cacheLock.lock();
+            if (writeCache.isEmpty())
+              return;
+
+            toFlush = writeCache;
+            writeCache = new ArrayList<>();
+          } finally {
+            cacheLock.unlock();
+          }
         }
 
         ByteBuffer buffer;
@@ -164,6 +196,28 @@ final class OLogSegmentV2 implements OLogSegment {
       }
     }
 
+    /**
+     * Removes from the queue of reserved records all records which follow each other without gaps starting from the end of already
+     * written space. Records which follow the gap are left in the queue till the thread which reserved the space of the gap will
+     * add its own record.
+     */
+    private List<OLogRecord> pollReservedRecords() {
+      final List<OLogRecord> records = new ArrayList<>();
+      long reservation = writtenReservation;
+
+      Map.Entry<Long, OLogRecord> entry = reservedRecords.firstEntry();
+      while (entry != null && entry.getKey() == reservation) {
+        reservedRecords.remove(entry.getKey());
+        records.add(entry.getValue());
+
+        reservation = entry.getValue().writeTo;
+        entry = reservedRecords.firstEntry();
+      }
+
+      writtenReservation = reservation;
+      return records;
+    }
+
     /**
      * Write the content in the page and return the new page cursor position.
      *
@@ -215,6 +269,7 @@ final class OLogSegmentV2 implements OLogSegment {
     this.path = path;
     this.maxPagesCacheSize = maxPagesCacheSize;
     this.commitExecutor = commitExecutor;
+    this.groupCommit = writeAheadLog.isGroupCommit();
 
     order = extractOrder(path.getFileName().toString());
 
@@ -296,8 +351,9 @@ final class OLogSegmentV2 implements OLogSegment {
     final long pages = segmentCache.filledUpTo();
 
     if (pages == 0) {
-      last = null;
+      last.set(null);
       filledUpTo = 0;
+      writtenReservation = 0;
 
       return;
     }
@@ -313,8 +369,9 @@ final class OLogSegmentV2 implements OLogSegment {
       currentPage--;
 
       if (currentPage < 0) {
-        last = null;
+        last.set(null);
         filledUpTo = 0;
+        writtenReservation = 0;
 
         OLogManager.instance()
             .error(this, "%d pages in WAL segment %s are broken and will be truncated, some data will be lost after restore.",
@@ -367,9 +424,10 @@ final class OLogSegmentV2 implements OLogSegment {
       segmentCache.sync();
     }
 
-    last = new OLogSequenceNumber(order, lastPosition);
+    last.set(new OLogSequenceNumber(order, lastPosition));
     final int freeSpace = buffer.getInt(OWALPage.FREE_SPACE_OFFSET);
     filledUpTo = currentPage * OWALPage.PAGE_SIZE + (OWALPage.PAGE_SIZE - freeSpace);
+    writtenReservation = filledUpTo;
   }
 
   @Override
@@ -415,7 +473,7 @@ final class OLogSegmentV2 implements OLogSegment {
    */
   @Override
   public OLogSequenceNumber begin() throws IOException {
-    if (!writeCache.isEmpty())
+    if (hasNotWrittenRecords())
       return new OLogSequenceNumber(order, OWALPageV2.RECORDS_OFFSET);
 
     if (segmentCache.filledUpTo() > 0)
@@ -429,7 +487,7 @@ final class OLogSegmentV2 implements OLogSegment {
    */
   @Override
   public OLogSequenceNumber end() {
-    return last;
+    return last.get();
   }
 
   /**
@@ -506,17 +564,24 @@ final class OLogSegmentV2 implements OLogSegment {
    */
   @Override
   public OLogSequenceNumber logRecord(byte[] record) {
-    flushNewData = true;
+    final OLogSequenceNumber lsn;
 
-    OLogRecord rec = generateLogRecord(filledUpTo, record);
-    filledUpTo = rec.writeTo;
-    last = new OLogSequenceNumber(order, rec.writeFrom);
-    try {
-      cacheLock.lock();
-      writeCache.add(rec);
-    } finally {
-      cacheLock.unlock();
+    if (groupCommit) {
+      lsn = reserveRecord(record);
+    } else {
+      flushNewData = true;
+
+      OLogRecord rec = generateLogRecord(filledUpTo, record);
+      filledUpTo = rec.writeTo;
+      lsn = new OLogSequenceNumber(order, rec.writeFrom);
+      last.set(lsn);
+      try {
+        cacheLock.lock();
+        writeCache.add(rec);
+      } finally {
+        cacheLock.unlock();
 
+      }
     }
 
     long pagesInCache = (filledUpTo - writtenUpTo) / OWALPage.PAGE_SIZE;
@@ -537,7 +602,46 @@ final class OLogSegmentV2 implements OLogSegment {
 
     }
 
-    return last;
+    return lsn;
+  }
+
+  /**
+   * Reserves space for the record by CAS operation and puts record in the queue of the flush task. This method may be called by
+   * several threads at once, so it does not update the last LSN unless LSN of the record is bigger than current one.
+   */
+  private OLogSequenceNumber reserveRecord(byte[] record) {
+    long starting;
+    OLogRecord rec;
+
+    do {
+      starting = filledUpTo;
+      rec = generateLogRecord(starting, record);
+    } while (!FILLED_UP_TO_UPDATER.compareAndSet(this, starting, rec.writeTo));
+
+    reservedRecords.put(starting, rec);
+    //flag is set after record is added to the queue, otherwise flush task may clear it and miss the record
+    flushNewData = true;
+
+    writeAheadLog.incrementLogSize(rec.writeTo - starting);
+
+    final OLogSequenceNumber lsn = new OLogSequenceNumber(order, rec.writeFrom);
+
+    OLogSequenceNumber lastLSN = last.get();
+    while (lastLSN == null || lsn.compareTo(lastLSN) > 0) {
+      if (last.compareAndSet(lastLSN, lsn))
+        break;
+
+      lastLSN = last.get();
+    }
+
+    return lsn;
+  }
+
+  private boolean hasNotWrittenRecords() {
+    if (groupCommit)
+      return writtenReservation < filledUpTo;
+
+    return !writeCache.isEmpty();
   }
 
   /**
@@ -554,7 +658,7 @@ final class OLogSegmentV2 implements OLogSegment {
     if (lsn.getPosition() >= filledUpTo)
       return null;
 
-    if (!writeCache.isEmpty())
+    if (hasNotWrittenRecords())
       flush();
 
     long pageIndex = lsn.getPosition() / OWALPage.PAGE_SIZE;
@@ -668,17 +772,28 @@ final class OLogSegmentV2 implements OLogSegment {
   }
 
   private void writeData() {
-    if (!commitExecutor.isShutdown()) {
-      try {
-        commitExecutor.submit(new WriteTask()).get();
-      } catch (InterruptedException e) {
-        Thread.interrupted();
-        throw OException.wrapException(new OStorageException("Thread was interrupted during flush"), e);
-      } catch (ExecutionException e) {
-        throw OException.wrapException(new OStorageException("Error during WAL segment '" + getPath() + "' flush"), e);
+    //in group commit mode some of records may be still in process of addition to the queue,
+    //we wait till all records which are logged before the flush are written
+    final long flushUpTo = filledUpTo;
+
+    while (true) {
+      if (!commitExecutor.isShutdown()) {
+        try {
+          commitExecutor.submit(new WriteTask()).get();
+        } catch (InterruptedException e) {
+          Thread.interrupted();
+          throw OException.wrapException(new OStorageException("Thread was interrupted during flush"), e);
+        } catch (ExecutionException e) {
+          throw OException.wrapException(new OStorageException("Error during WAL segment '" + getPath() + "' flush"), e);
+        }
+      } else {
+        new WriteTask().run();
       }
-    } else {
-      new WriteTask().run();
+
+      if (!groupCommit || writtenReservation >= flushUpTo)
+        break;
+
+      Thread.yield();
     }
   }
 
@@ -116,7 +116,11 @@ public class OMemoryWriteAheadLog extends OAbstractWriteAheadLog {
   }
 
   @Override
-  public void preventCutTill(OLogSequenceNumber lsn) throws IOException {
+  public void addCutTillLimit(OLogSequenceNumber lsn) {
+  }
+
+  @Override
+  public void removeCutTillLimit(OLogSequenceNumber lsn) {
   }
 
   @Override
@@ -25,7 +25,7 @@ package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
  * @since 26.04.13
  */
 public class OUpdatePageRecord extends OAbstractPageWALRecord {
-  private OWALChanges changes;
+  protected OWALChanges changes;
 
   public OUpdatePageRecord() {
   }
@@ -43,7 +43,7 @@ public class OUpdatePageRecord extends OAbstractPageWALRecord {
   @Override
   public int serializedSize() {
     int serializedSize = super.serializedSize();
-    serializedSize += changes.serializedSize();
+    serializedSize += changesSerializedSize();
 
     return serializedSize;
   }
@@ -51,7 +51,7 @@ public class OUpdatePageRecord extends OAbstractPageWALRecord {
   @Override
   public int toStream(final byte[] content, int offset) {
     offset = super.toStream(content, offset);
-    offset = changes.toStream(offset, content);
+    offset = changesToStream(content, offset);
 
     return offset;
   }
@@ -59,13 +59,24 @@ public class OUpdatePageRecord extends OAbstractPageWALRecord {
   @Override
   public int fromStream(final byte[] content, int offset) {
     offset = super.fromStream(content, offset);
-
-    changes = new OWALPageChangesPortion();
-    offset = changes.fromStream(offset, content);
+    offset = changesFromStream(content, offset);
 
     return offset;
   }
 
+  protected int changesSerializedSize() {
+    return changes.serializedSize();
+  }
+
+  protected int changesToStream(final byte[] content, final int offset) {
+    return changes.toStream(offset, content);
+  }
+
+  protected int changesFromStream(final byte[] content, final int offset) {
+    changes = new OWALPageChangesPortion();
+    return changes.fromStream(offset, content);
+  }
+
   @Override
   public boolean isUpdateMasterRecord() {
     return false;
@@ -6,6 +6,8 @@ import com.orientechnologies.common.serialization.types.OIntegerSerializer;
 import com.orientechnologies.common.serialization.types.OLongSerializer;
 import com.orientechnologies.common.serialization.types.OShortSerializer;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.BytesContainer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.OVarIntSerializer;
 
 import java.nio.ByteBuffer;
 
@@ -192,6 +194,104 @@ public class OWALPageChangesPortion implements OWALChanges {
     return offset;
   }
 
+  /**
+   * Writes changes in compact form which is used by {@link OCompactUpdatePageRecord}. Changed chunks which follow each other are
+   * merged into single run. Each run is written as varint distance in chunks from the end of previous run, varint amount of chunks
+   * in run and content of chunks.
+   *
+   * @param container Container where changes are written.
+   */
+  public void toCompactStream(BytesContainer container) {
+    if (pageChunks == null) {
+      OVarIntSerializer.writeUnsignedVarLong(0, container);
+      return;
+    }
+
+    //portions without changes are skipped as a whole, they can not contain part of the run
+    int runs = 0;
+    boolean inRun = false;
+    for (byte[][] portion : pageChunks) {
+      if (portion == null) {
+        inRun = false;
+        continue;
+      }
+
+      for (byte[] chunk : portion) {
+        final boolean changed = chunk != null;
+        if (changed && !inRun)
+          runs++;
+
+        inRun = changed;
+      }
+    }
+
+    OVarIntSerializer.writeUnsignedVarLong(runs, container);
+
+    final int chunksCount = pageChunks.length * PORTION_SIZE;
+    int previousRunEnd = 0;
+    int n = 0;
+    while (n < chunksCount) {
+      if (pageChunks[n / PORTION_SIZE] == null) {
+        n += PORTION_SIZE;
+        continue;
+      }
+
+      if (getChunk(n) == null) {
+        n++;
+        continue;
+      }
+
+      final int runStart = n;
+      while (n < chunksCount && getChunk(n) != null)
+        n++;
+
+      OVarIntSerializer.writeUnsignedVarLong(runStart - previousRunEnd, container);
+      OVarIntSerializer.writeUnsignedVarLong(n - runStart, container);
+
+      final int runPosition = container.alloc((n - runStart) * CHUNK_SIZE);
+      for (int i = runStart; i < n; i++)
+        System.arraycopy(getChunk(i), 0, container.bytes, runPosition + (i - runStart) * CHUNK_SIZE, CHUNK_SIZE);
+
+      previousRunEnd = n;
+    }
+  }
+
+  /**
+   * Reads changes written by {@link #toCompactStream(BytesContainer)}.
+   *
+   * @param container Container positioned at the start of the changes, after the call it is positioned at the end of them.
+   */
+  public void fromCompactStream(BytesContainer container) {
+    final int runs = (int) OVarIntSerializer.readUnsignedVarLong(container);
+
+    int chunkIndex = 0;
+    for (int r = 0; r < runs; r++) {
+      chunkIndex += (int) OVarIntSerializer.readUnsignedVarLong(container);
+      final int runLength = (int) OVarIntSerializer.readUnsignedVarLong(container);
+
+      if (pageChunks == null)
+        pageChunks = new byte[(pageSize + (PORTION_BYTES - 1)) / PORTION_BYTES][][];
+
+      for (int n = 0; n < runLength; n++, chunkIndex++) {
+        final int portionIndex = chunkIndex / PORTION_SIZE;
+        if (pageChunks[portionIndex] == null)
+          pageChunks[portionIndex] = new byte[PORTION_SIZE][];
+
+        final byte[] chunk = pageChunks[portionIndex][chunkIndex % PORTION_SIZE] = new byte[CHUNK_SIZE];
+        System.arraycopy(container.bytes, container.offset, chunk, 0, CHUNK_SIZE);
+        container.offset += CHUNK_SIZE;
+      }
+    }
+  }
+
+  private byte[] getChunk(int chunkIndex) {
+    final byte[][] portion = pageChunks[chunkIndex / PORTION_SIZE];
+    if (portion == null)
+      return null;
+
+    return portion[chunkIndex % PORTION_SIZE];
+  }
+
   @Override
   public OWALChanges inverse(ByteBuffer buffer) {
     final OWALPageChangesPortion inverse = new OWALPageChangesPortion(pageSize);
@@ -37,7 +37,9 @@ public class OWALRecordsFactory {
     int contentSize = walRecord.serializedSize() + 1;
     byte[] content = new byte[contentSize];
 
-    if (walRecord instanceof OUpdatePageRecord)
+    if (walRecord instanceof OCompactUpdatePageRecord)
+      content[0] = 14;
+    else if (walRecord instanceof OUpdatePageRecord)
       content[0] = 0;
     else if (walRecord instanceof OFuzzyCheckpointStartRecord)
       content[0] = 1;
@@ -105,6 +107,9 @@ public class OWALRecordsFactory {
     case 13:
       walRecord = new OFileTruncatedWALRecord();
       break;
+    case 14:
+      walRecord = new OCompactUpdatePageRecord();
+      break;
     default:
       if (idToTypeMap.containsKey(content[0]))
         try {
@@ -88,7 +88,18 @@ public interface OWriteAheadLog {
 
   void moveLsnAfter(OLogSequenceNumber lsn) throws IOException;
 
-  void preventCutTill(OLogSequenceNumber lsn) throws IOException;
+  /**
+   * Prevents removal of segments which contain passed in LSN or follow it. Limits are reference counted, so several callers may
+   * register the same LSN, segments are cut only till the smallest registered LSN.
+   *
+   * @see #removeCutTillLimit(OLogSequenceNumber)
+   */
+  void addCutTillLimit(OLogSequenceNumber lsn);
+
+  /**
+   * Releases limit registered by {@link #addCutTillLimit(OLogSequenceNumber)}.
+   */
+  void removeCutTillLimit(OLogSequenceNumber lsn);
 
   File[] nonActiveSegments(long fromSegment);
 
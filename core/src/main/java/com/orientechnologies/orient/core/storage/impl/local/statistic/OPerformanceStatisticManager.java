@@ -30,6 +30,7 @@ import com.orientechnologies.orient.core.storage.cache.OReadCache;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
 import com.orientechnologies.orient.core.storage.cache.local.OWOWCache;
 import com.orientechnologies.orient.core.storage.cache.local.twoq.O2QCache;
+import com.orientechnologies.orient.core.storage.cache.local.wtinylfu.OWTinyLFUCache;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.ODiskWriteAheadLog;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWriteAheadLog;
@@ -241,7 +242,7 @@ public class OPerformanceStatisticManager {
    * disk based storage.
    * Initialized on demand.
    */
-  private volatile O2QCache readCache;
+  private volatile OReadCache readCache;
 
   /**
    * Flags which indicates whether {@link #writeAheadLog} field is initialized on demand.
@@ -288,13 +289,13 @@ public class OPerformanceStatisticManager {
   /**
    * @return Returns current instance of read cache and initializes local reference if such one is not initialized yet.
    */
-  private O2QCache gerReadCache() {
+  private OReadCache gerReadCache() {
     if (readCacheInitialized)
       return readCache;
 
     final OReadCache cache = storage.getReadCache();
-    if (cache instanceof O2QCache) {
-      this.readCache = (O2QCache) cache;
+    if (cache instanceof O2QCache || cache instanceof OWTinyLFUCache) {
+      this.readCache = cache;
     } else {
       this.readCache = null;
     }
@@ -633,6 +634,29 @@ public class OPerformanceStatisticManager {
     }
   }
 
+  /**
+   * @return Average amount of bytes written into write ahead log by single atomic operation or value which is less than 0, which
+   * means that value cannot be calculated.
+   */
+  public long getWALBytesPerCommit() {
+    switchLock.acquireReadLock();
+    try {
+      if (enabled) {
+        final PerformanceCountersHolder countersHolder = ComponentType.GENERAL.newCountersHolder();
+        fetchSystemCounters(countersHolder);
+        return countersHolder.getWALBytesPerCommit();
+      } else {
+        final ImmutableStatistic post = postMeasurementStatistic;
+        if (post == null)
+          return -1;
+
+        return post.countersHolder.getWALBytesPerCommit();
+      }
+    } finally {
+      switchLock.releaseReadLock();
+    }
+  }
+
   /**
    * @return Read speed of data in pages per second on cache level or value which is less than 0, which means that value cannot be
    * calculated.
@@ -942,7 +966,7 @@ public class OPerformanceStatisticManager {
     switchLock.acquireReadLock();
     try {
       if (enabled) {
-        final O2QCache cache = gerReadCache();
+        final OReadCache cache = gerReadCache();
         if (cache != null)
           readCacheSize = cache.getUsedMemory();
 
@@ -50,6 +50,11 @@ public class OPerformanceStatisticManagerMBean implements DynamicMBean {
    */
   public static final String COMMIT_TIME = "commitTime";
 
+  /**
+   * Name of "walBytesPerCommit" performance attribute
+   */
+  public static final String WAL_BYTES_PER_COMMIT = "walBytesPerCommit";
+
   /**
    * Name of "readSpeedFromCache" performance attribute
    */
@@ -202,6 +207,11 @@ public class OPerformanceStatisticManagerMBean implements DynamicMBean {
         return manager.getCommitTime();
       else
         return throwComponentsAreNotSupported(COMMIT_TIME);
+    } else if (attributeName.equals(WAL_BYTES_PER_COMMIT)) {
+      if (componentName == null)
+        return manager.getWALBytesPerCommit();
+      else
+        return throwComponentsAreNotSupported(WAL_BYTES_PER_COMMIT);
     } else if (attributeName.equals(READ_SPEED_FROM_CACHE)) {
       if (componentName == null)
         return manager.getReadSpeedFromCacheInPages();
@@ -398,6 +408,7 @@ public class OPerformanceStatisticManagerMBean implements DynamicMBean {
 
     populateCacheHits(performanceAttributes, components);
     populateCommitTime(performanceAttributes);
+    populateWALBytesPerCommit(performanceAttributes);
     populateReadSpeedFromCache(performanceAttributes, components);
     populateReadSpeedFromFile(performanceAttributes, components);
     populateWriteSpeedInCache(performanceAttributes, components);
@@ -468,6 +479,12 @@ public class OPerformanceStatisticManagerMBean implements DynamicMBean {
     performanceAttributes.add(commitTime);
   }
 
+  private void populateWALBytesPerCommit(List<MBeanAttributeInfo> performanceAttributes) {
+    final MBeanAttributeInfo walBytesPerCommit = new ModelMBeanAttributeInfo(WAL_BYTES_PER_COMMIT, long.class.getName(),
+        "Average amount of bytes written into write ahead log by single commit", true, false, false);
+    performanceAttributes.add(walBytesPerCommit);
+  }
+
   private void populateCacheHits(List<MBeanAttributeInfo> performanceAttributes, Collection<String> components) {
     final MBeanAttributeInfo cacheHits = new MBeanAttributeInfo(CACHE_HITS, int.class.getName(),
         "Cache hits of read disk cache in percents", true, false, false);
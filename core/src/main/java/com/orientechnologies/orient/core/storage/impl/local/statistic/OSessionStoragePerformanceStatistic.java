@@ -402,6 +402,14 @@ public class OSessionStoragePerformanceStatistic {
     return performanceCountersHolder.getCommitTime();
   }
 
+  /**
+   * @return Average amount of bytes written into write ahead log by single atomic operation or value which is less than 0, which
+   *         means that value cannot be calculated.
+   */
+  public long getWALBytesPerCommit() {
+    return performanceCountersHolder.getWALBytesPerCommit();
+  }
+
   /**
    * @return Percent of cache hits or value which is less than 0, which means that value cannot be calculated.
    */
@@ -594,6 +602,7 @@ public class OSessionStoragePerformanceStatistic {
     final ODocument document = performanceCountersHolder.toDocument();
 
     document.field("commitTime", getCommitTime(), OType.LONG);
+    document.field("walBytesPerCommit", getWALBytesPerCommit(), OType.LONG);
 
     final Map<String, ODocument> countersMap = new HashMap<String, ODocument>();
     for (Map.Entry<String, PerformanceCountersHolder> entry : countersByComponent.entrySet()) {
@@ -1134,6 +1143,16 @@ public class OSessionStoragePerformanceStatistic {
     makeSnapshotIfNeeded(endTs);
   }
 
+  /**
+   * Increments counter of bytes written into write ahead log.
+   *
+   * @param bytes
+   *          Size of serialized write ahead log record
+   */
+  public void incrementWALBytes(int bytes) {
+    performanceCountersHolder.walBytes += bytes;
+  }
+
   /**
    * Starts timer which counts how much time was spent on logging of single write ahead log record
    */
@@ -1874,6 +1893,11 @@ public class OSessionStoragePerformanceStatistic {
      */
     private long       commitTime             = 0;
 
+    /**
+     * Amount of bytes written into write ahead log.
+     */
+    private long       walBytes               = 0;
+
     /**
      * Amount of operations performed by related component.
      */
@@ -1927,6 +1951,7 @@ public class OSessionStoragePerformanceStatistic {
     public void clean() {
       commitCount = 0;
       commitTime = 0;
+      walBytes = 0;
       operationsCount = 0;
       cacheAccessCount = 0;
       cacheHit = 0;
@@ -1956,6 +1981,7 @@ public class OSessionStoragePerformanceStatistic {
       aggregator.pageWriteToCacheCount += pageWriteToCacheCount;
       aggregator.commitTime += commitTime;
       aggregator.commitCount += commitCount;
+      aggregator.walBytes += walBytes;
     }
 
     /**
@@ -1968,6 +1994,16 @@ public class OSessionStoragePerformanceStatistic {
       return commitTime / commitCount;
     }
 
+    /**
+     * @return Average amount of bytes written into write ahead log by single atomic operation.
+     */
+    public long getWALBytesPerCommit() {
+      if (commitCount == 0)
+        return -1;
+
+      return walBytes / commitCount;
+    }
+
     /**
      * @return Read speed of data in pages per second on cache level or value which is less than 0, which means that value cannot be
      *         calculated.
@@ -2059,6 +2095,7 @@ public class OSessionStoragePerformanceStatistic {
       writeMetric(document, "cacheHits", getCacheHits(), OType.INTEGER);
       writeMetric(document, "amountOfPagesPerOperation", getAmountOfPagesPerOperation(), OType.LONG);
       writeMetric(document, "commitTime", getCommitTime(), OType.LONG);
+      writeMetric(document, "walBytesPerCommit", getWALBytesPerCommit(), OType.LONG);
 
       return document;
     }
@@ -204,6 +204,11 @@ public class ODirectMemoryOnlyDiskCache extends OAbstractWriteCache implements O
     return cacheEntry;
   }
 
+  @Override
+  public void prefetch(long fileId, long pageIndex, int pageCount, OWriteCache writeCache, boolean verifyChecksums) {
+    //all pages are kept in memory
+  }
+
   private OCacheEntry doLoad(long fileId, long pageIndex) {
     final OSessionStoragePerformanceStatistic sessionStoragePerformanceStatistic = performanceStatisticManager
         .getSessionPerformanceStatistic();
@@ -306,6 +311,11 @@ public class ODirectMemoryOnlyDiskCache extends OAbstractWriteCache implements O
     return memoryFile.size();
   }
 
+  @Override
+  public boolean copyPage(long fileId, long pageIndex, ByteBuffer buffer) {
+    throw new UnsupportedOperationException("copying of pages is not supported for memory storage");
+  }
+
   @Override
   public void flush(long fileId) {
   }
@@ -0,0 +1,159 @@
+package com.orientechnologies.orient.core.cache;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+
+public class OSharedRecordCacheTest {
+  @Test
+  public void testReadRecordIsReturnedAsCopy() {
+    final OSharedRecordCache cache = new OSharedRecordCache(1024 * 1024);
+    final ORecordId rid = new ORecordId(10, 1);
+
+    Assert.assertNull(cache.get(1, rid));
+
+    cache.put(1, rid, new ORawBuffer(new byte[] { 1, 2, 3 }, 5, (byte) 'd'), cache.readStamp(1, rid));
+
+    final ORawBuffer buffer = cache.get(1, rid);
+    Assert.assertArrayEquals(new byte[] { 1, 2, 3 }, buffer.buffer);
+    Assert.assertEquals(5, buffer.version);
+    Assert.assertEquals('d', buffer.recordType);
+
+    buffer.buffer[0] = 42;
+    Assert.assertArrayEquals(new byte[] { 1, 2, 3 }, cache.get(1, rid).buffer);
+
+    Assert.assertNull(cache.get(2, rid));
+    Assert.assertEquals(2, cache.getHits());
+    Assert.assertEquals(2, cache.getMisses());
+  }
+
+  @Test
+  public void testRecordInvalidatedDuringReadIsNotCached() {
+    final OSharedRecordCache cache = new OSharedRecordCache(1024 * 1024);
+    final ORecordId rid = new ORecordId(10, 1);
+
+    final long stamp = cache.readStamp(1, rid);
+    cache.invalidate(1, rid);
+    cache.put(1, rid, new ORawBuffer(new byte[] { 1 }, 1, (byte) 'd'), stamp);
+
+    Assert.assertNull(cache.get(1, rid));
+
+    cache.put(1, rid, new ORawBuffer(new byte[] { 2 }, 2, (byte) 'd'), cache.readStamp(1, rid));
+    Assert.assertEquals(2, cache.get(1, rid).version);
+
+    cache.invalidate(1, rid);
+    Assert.assertNull(cache.get(1, rid));
+    Assert.assertEquals(0, cache.getSize());
+  }
+
+  @Test
+  public void testClusterAndStorageInvalidation() {
+    final OSharedRecordCache cache = new OSharedRecordCache(1024 * 1024);
+
+    for (int storageId = 1; storageId <= 2; storageId++)
+      for (int clusterId = 10; clusterId <= 11; clusterId++)
+        for (int position = 0; position < 10; position++) {
+          final ORecordId rid = new ORecordId(clusterId, position);
+          cache.put(storageId, rid, new ORawBuffer(new byte[] { 1 }, 1, (byte) 'd'), cache.readStamp(storageId, rid));
+        }
+
+    Assert.assertEquals(40, cache.getRecords());
+
+    cache.invalidate(1, 10);
+    Assert.assertEquals(30, cache.getRecords());
+    Assert.assertNull(cache.get(1, new ORecordId(10, 0)));
+    Assert.assertNotNull(cache.get(1, new ORecordId(11, 0)));
+
+    cache.invalidate(2);
+    Assert.assertEquals(10, cache.getRecords());
+    Assert.assertNull(cache.get(2, new ORecordId(11, 0)));
+
+    cache.clear();
+    Assert.assertEquals(0, cache.getRecords());
+    Assert.assertEquals(0, cache.getSize());
+  }
+
+  @Test
+  public void testRecentlyReadRecordsSurviveEviction() {
+    final int recordSize = 1024;
+    final OSharedRecordCache cache = new OSharedRecordCache(100 * recordSize);
+
+    for (int position = 0; position < 1000; position++) {
+      final ORecordId rid = new ORecordId(10, position);
+      cache.put(1, rid, new ORawBuffer(new byte[recordSize], 1, (byte) 'd'), cache.readStamp(1, rid));
+
+      //the first record is read constantly, so it should stay in the cache
+      Assert.assertNotNull(cache.get(1, new ORecordId(10, 0)));
+    }
+
+    Assert.assertTrue(cache.getSize() <= cache.getMaxSize());
+    Assert.assertTrue(cache.getEvictions() > 800);
+    Assert.assertNotNull(cache.get(1, new ORecordId(10, 999)));
+
+    cache.changeMaximumSize(0);
+    Assert.assertFalse(cache.isEnabled());
+    Assert.assertEquals(0, cache.getRecords());
+  }
+
+  @Test
+  public void testCachedRecordsAreInvalidatedOnCommit() {
+    final long size = OGlobalConfiguration.STORAGE_SHARED_RECORD_CACHE_SIZE.getValueAsLong();
+    final String clusters = OGlobalConfiguration.STORAGE_SHARED_RECORD_CACHE_CLUSTERS.getValueAsString();
+
+    OGlobalConfiguration.STORAGE_SHARED_RECORD_CACHE_SIZE.setValue(16L);
+    OGlobalConfiguration.STORAGE_SHARED_RECORD_CACHE_CLUSTERS.setValue("country");
+
+    final String buildDirectory = System.getProperty("buildDirectory", ".");
+    final ODatabaseDocumentTx db = new ODatabaseDocumentTx(
+        "plocal:" + buildDirectory + File.separator + OSharedRecordCacheTest.class.getSimpleName());
+    try {
+      if (db.exists()) {
+        db.open("admin", "admin");
+        db.drop();
+      }
+
+      db.create();
+      db.getMetadata().getSchema().createClass("Country");
+
+      final ODocument country = new ODocument("Country");
+      country.field("name", "Italy");
+      country.save();
+
+      final OSharedRecordCache cache = OSharedRecordCache.instance();
+      cache.resetStatistics();
+
+      for (int i = 0; i < 10; i++) {
+        db.getLocalCache().clear();
+        Assert.assertEquals("Italy", db.<ODocument>load(country.getIdentity()).field("name"));
+      }
+
+      Assert.assertEquals(9, cache.getHits());
+
+      db.begin();
+      final ODocument loaded = db.load(country.getIdentity());
+      loaded.field("name", "Spain");
+      loaded.save();
+      db.commit();
+
+      db.getLocalCache().clear();
+      Assert.assertEquals("Spain", db.<ODocument>load(country.getIdentity()).field("name"));
+
+      db.getLocalCache().clear();
+      db.<ODocument>load(country.getIdentity()).field("name", "France").save();
+
+      db.getLocalCache().clear();
+      Assert.assertEquals("France", db.<ODocument>load(country.getIdentity()).field("name"));
+
+      db.drop();
+    } finally {
+      OGlobalConfiguration.STORAGE_SHARED_RECORD_CACHE_SIZE.setValue(size);
+      OGlobalConfiguration.STORAGE_SHARED_RECORD_CACHE_CLUSTERS.setValue(clusters);
+    }
+  }
+}
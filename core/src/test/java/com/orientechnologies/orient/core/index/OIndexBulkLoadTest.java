@@ -0,0 +1,223 @@
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.common.listener.OProgressListener;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+
+public class OIndexBulkLoadTest {
+  private static final int RECORDS = 3000;
+
+  private ODatabaseDocumentTx db;
+  private Object              bufferSize;
+  private Object              bulkLoad;
+
+  @Before
+  public void before() {
+    //a small buffer forces the keys to be sorted in several runs
+    bufferSize = OGlobalConfiguration.INDEX_BULK_LOAD_SORT_BUFFER_SIZE.getValue();
+    OGlobalConfiguration.INDEX_BULK_LOAD_SORT_BUFFER_SIZE.setValue(100);
+    bulkLoad = OGlobalConfiguration.INDEX_BULK_LOAD.getValue();
+    OGlobalConfiguration.INDEX_BULK_LOAD.setValue(true);
+
+    db = new ODatabaseDocumentTx("memory:OIndexBulkLoadTest");
+    db.create();
+    OClass clazz = db.getMetadata().getSchema().createClass("BulkLoadTest");
+    clazz.createProperty("id", OType.INTEGER);
+    clazz.createProperty("group", OType.STRING);
+    clazz.createProperty("tags", OType.EMBEDDEDLIST, OType.STRING);
+
+    for (int i = RECORDS - 1; i >= 0; i--) {
+      OElement element = db.newElement("BulkLoadTest");
+      element.setProperty("id", i);
+      element.setProperty("group", "g" + (i % 10));
+      element.setProperty("tags", Arrays.asList("t" + (i % 3), "t" + (i % 5)));
+      element.save();
+    }
+  }
+
+  @After
+  public void after() {
+    db.drop();
+    OGlobalConfiguration.INDEX_BULK_LOAD_SORT_BUFFER_SIZE.setValue(bufferSize);
+    OGlobalConfiguration.INDEX_BULK_LOAD.setValue(bulkLoad);
+  }
+
+  @Test
+  public void testUnique() {
+    OIndex<?> index = db.getMetadata().getSchema().getClass("BulkLoadTest")
+        .createIndex("BulkLoadTest.id", OClass.INDEX_TYPE.UNIQUE, "id");
+    Assert.assertEquals(RECORDS, index.getSize());
+    assertUnique(index);
+
+    Assert.assertEquals(RECORDS, index.rebuild());
+    Assert.assertEquals(RECORDS, index.getSize());
+    assertUnique(index);
+  }
+
+  @Test
+  public void testUniqueDuplicates() {
+    OClass clazz = db.getMetadata().getSchema().getClass("BulkLoadTest");
+    try {
+      clazz.createIndex("BulkLoadTest.group", OClass.INDEX_TYPE.UNIQUE, "group");
+      Assert.fail();
+    } catch (ORecordDuplicatedException e) {
+      //same as when the index is filled without bulk load
+    }
+    Assert.assertNull(db.getMetadata().getIndexManager().getIndex("BulkLoadTest.group"));
+    Assert.assertTrue(clazz.getIndexes().isEmpty());
+  }
+
+  @Test
+  public void testUniqueCollectionWithRepeatedItem() {
+    OClass clazz = db.getMetadata().getSchema().createClass("RepeatedItems");
+    clazz.createProperty("names", OType.EMBEDDEDLIST, OType.STRING);
+    for (int i = 0; i < RECORDS; i++) {
+      OElement element = db.newElement("RepeatedItems");
+      element.setProperty("names", Arrays.asList("n" + i, "n" + i));
+      element.save();
+    }
+
+    //the same record is not a duplicate of itself, as when the index is filled without bulk load
+    OIndex<?> index = clazz.createIndex("RepeatedItems.names", OClass.INDEX_TYPE.UNIQUE, "names");
+    Assert.assertEquals(RECORDS, index.getSize());
+
+    Assert.assertEquals(RECORDS, index.rebuild());
+    Assert.assertEquals(RECORDS, index.getSize());
+    for (int i = 0; i < RECORDS; i += 7) {
+      ODocument document = ((OIdentifiable) index.get("n" + i)).getRecord();
+      Assert.assertEquals(Arrays.asList("n" + i, "n" + i), document.field("names"));
+    }
+  }
+
+  @Test
+  public void testProgress() {
+    OIndex<?> index = db.getMetadata().getSchema().getClass("BulkLoadTest")
+        .createIndex("BulkLoadTest.id", OClass.INDEX_TYPE.UNIQUE, "id");
+
+    final List<Float> percents = new ArrayList<Float>();
+    index.rebuild(new OProgressListener() {
+      @Override
+      public void onBegin(Object iTask, long iTotal, Object metadata) {
+      }
+
+      @Override
+      public boolean onProgress(Object iTask, long iCounter, float iPercent) {
+        percents.add(iPercent);
+        return true;
+      }
+
+      @Override
+      public void onCompletition(Object iTask, boolean iSucceed) {
+      }
+    });
+
+    //both the scan of the records and the load of the sorted keys are reported
+    Assert.assertTrue(percents.size() >= 2 * RECORDS);
+    for (int i = 1; i < percents.size(); i++)
+      Assert.assertTrue(percents.get(i) >= percents.get(i - 1));
+    Assert.assertEquals(100f, percents.get(percents.size() - 1), 0.01f);
+  }
+
+  @Test
+  public void testNotUnique() {
+    OIndex<?> index = db.getMetadata().getSchema().getClass("BulkLoadTest")
+        .createIndex("BulkLoadTest.group", OClass.INDEX_TYPE.NOTUNIQUE, "group");
+    Assert.assertEquals(RECORDS, index.getSize());
+    assertNotUnique(index);
+
+    Assert.assertEquals(RECORDS, index.rebuild());
+    assertNotUnique(index);
+
+    //the index is updated as usual after the load
+    OElement element = db.newElement("BulkLoadTest");
+    element.setProperty("id", RECORDS);
+    element.setProperty("group", "g0");
+    element.save();
+    Assert.assertEquals(RECORDS / 10 + 1, ((Collection<?>) index.get("g0")).size());
+  }
+
+  @Test
+  public void testCollection() {
+    OIndex<?> index = db.getMetadata().getSchema().getClass("BulkLoadTest")
+        .createIndex("BulkLoadTest.tags", OClass.INDEX_TYPE.NOTUNIQUE, "tags");
+    //"t0" is in both the lists of the records with id multiple of 15
+    Assert.assertEquals(RECORDS / 3 + RECORDS / 5 - RECORDS / 15, ((Collection<?>) index.get("t0")).size());
+    Assert.assertEquals(RECORDS / 5, ((Collection<?>) index.get("t4")).size());
+  }
+
+  @Test
+  public void testDictionary() {
+    OIndex<?> index = db.getMetadata().getSchema().getClass("BulkLoadTest")
+        .createIndex("BulkLoadTest.group", OClass.INDEX_TYPE.DICTIONARY, "group");
+    Assert.assertEquals(10, index.getSize());
+    for (int i = 0; i < 10; i++)
+      Assert.assertNotNull(index.get("g" + i));
+  }
+
+  @Test
+  public void testComposite() {
+    OIndex<?> index = db.getMetadata().getSchema().getClass("BulkLoadTest")
+        .createIndex("BulkLoadTest.groupId", OClass.INDEX_TYPE.UNIQUE, "group", "id");
+    Assert.assertEquals(RECORDS, index.getSize());
+    for (int i = 0; i < RECORDS; i += 7) {
+      ODocument document = ((OIdentifiable) index.get(new OCompositeKey("g" + (i % 10), i))).getRecord();
+      Assert.assertEquals(i, (int) document.<Integer>field("id"));
+    }
+
+    int count = 0;
+    Object previous = null;
+    OIndexCursor cursor = index.cursor();
+    Map.Entry<Object, OIdentifiable> entry;
+    while ((entry = cursor.nextEntry()) != null) {
+      if (previous != null)
+        Assert.assertTrue(((OCompositeKey) previous).compareTo((OCompositeKey) entry.getKey()) < 0);
+      previous = entry.getKey();
+      count++;
+    }
+    Assert.assertEquals(RECORDS, count);
+  }
+
+  @Test
+  public void testBulkLoadDisabled() {
+    OGlobalConfiguration.INDEX_BULK_LOAD.setValue(false);
+    OIndex<?> index = db.getMetadata().getSchema().getClass("BulkLoadTest")
+        .createIndex("BulkLoadTest.id", OClass.INDEX_TYPE.UNIQUE, "id");
+    Assert.assertEquals(RECORDS, index.getSize());
+    assertUnique(index);
+  }
+
+  private static void assertUnique(OIndex<?> index) {
+    for (int i = 0; i < RECORDS; i += 7) {
+      ODocument document = ((OIdentifiable) index.get(i)).getRecord();
+      Assert.assertEquals(i, (int) document.<Integer>field("id"));
+    }
+    Assert.assertEquals(0, index.getFirstKey());
+    Assert.assertEquals(RECORDS - 1, index.getLastKey());
+  }
+
+  private static void assertNotUnique(OIndex<?> index) {
+    for (int i = 0; i < 10; i++) {
+      Collection<?> values = (Collection<?>) index.get("g" + i);
+      Assert.assertEquals(RECORDS / 10, values.size());
+      Set<Object> ids = new HashSet<Object>();
+      for (Object value : values) {
+        ODocument document = ((OIdentifiable) value).getRecord();
+        Assert.assertEquals("g" + i, document.field("group"));
+        ids.add(document.field("id"));
+      }
+      Assert.assertEquals(RECORDS / 10, ids.size());
+    }
+  }
+}
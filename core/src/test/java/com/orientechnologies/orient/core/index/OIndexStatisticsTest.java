@@ -0,0 +1,239 @@
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.core.sql.executor.OSelectExecutionPlan;
+import com.orientechnologies.orient.core.storage.OStorage;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+
+public class OIndexStatisticsTest {
+  private static ODatabaseDocumentTx db;
+
+  @BeforeClass
+  public static void beforeClass() {
+    db = new ODatabaseDocumentTx("memory:OIndexStatisticsTest");
+    db.create();
+    OClass clazz = db.getMetadata().getSchema().createClass("StatisticsTest");
+    clazz.createProperty("kind", OType.STRING);
+    clazz.createProperty("value", OType.INTEGER);
+    clazz.createIndex("StatisticsTest.kind", OClass.INDEX_TYPE.NOTUNIQUE, "kind");
+    clazz.createIndex("StatisticsTest.value", OClass.INDEX_TYPE.NOTUNIQUE, "value");
+
+    //"common" is in 90% of the records, values are uniformly distributed in [0, 100)
+    for (int i = 0; i < 1000; i++) {
+      OElement element = db.newElement("StatisticsTest");
+      element.setProperty("kind", i % 10 == 0 ? "rare" + i : "common");
+      element.setProperty("value", i % 100);
+      element.save();
+    }
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    db.drop();
+  }
+
+  @Test
+  public void testAnalyzeIndex() {
+    OResultSet rs = db.command("analyze index StatisticsTest.kind");
+    OResult result = rs.next();
+    Assert.assertFalse(rs.hasNext());
+    rs.close();
+    Assert.assertEquals("StatisticsTest.kind", result.getProperty("name"));
+    Assert.assertEquals(1000L, (long) result.<Long>getProperty("entries"));
+    Assert.assertEquals(101L, (long) result.<Long>getProperty("keys"));
+
+    OIndexStatistics statistics = getStatistics("StatisticsTest.kind");
+    Assert.assertNotNull(statistics);
+    Assert.assertTrue(statistics.hasHistogram());
+    Assert.assertEquals(900, statistics.estimateEquals("common", 101));
+    Assert.assertTrue(statistics.estimateEquals("rare10", 101) < 10);
+  }
+
+  @Test
+  public void testAnalyzeClass() {
+    OResultSet rs = db.command("analyze class StatisticsTest");
+    int count = 0;
+    while (rs.hasNext()) {
+      rs.next();
+      count++;
+    }
+    rs.close();
+    Assert.assertEquals(2, count);
+
+    OIndexStatistics statistics = getStatistics("StatisticsTest.value");
+    Assert.assertNotNull(statistics);
+    long estimate = statistics.estimateRange(10, true, 30, false, 100);
+    Assert.assertTrue("estimate " + estimate, estimate >= 150 && estimate <= 250);
+    Assert.assertEquals(1000, statistics.estimateRange(null, false, null, false, 100));
+
+    //the statistics are saved with the index configuration
+    OIndexStatistics loaded = OIndexStatistics.fromDocument(statistics.toDocument());
+    Assert.assertEquals(statistics.getEntries(), loaded.getEntries());
+    Assert.assertEquals(statistics.getBuckets(), loaded.getBuckets());
+    Assert.assertEquals(estimate, loaded.estimateRange(10, true, 30, false, 100));
+    Assert.assertNotNull(db.getMetadata().getIndexManager().getIndex("StatisticsTest.value").getConfiguration()
+        .field(OIndexInternal.STATISTICS));
+  }
+
+  @Test
+  public void testPlannerUsesStatistics() {
+    db.command("analyze class StatisticsTest").close();
+
+    //without statistics both indexes look equally selective, "kind = common" matches 900 records and "value = 3" only 10
+    OResultSet rs = db.query("select from StatisticsTest where kind = 'common' and value = 3");
+    String plan = rs.getExecutionPlan().get().prettyPrint(0, 2);
+    int count = 0;
+    while (rs.hasNext()) {
+      rs.next();
+      count++;
+    }
+    rs.close();
+    Assert.assertEquals(10, count);
+    Assert.assertTrue(plan, plan.contains("FETCH FROM INDEX StatisticsTest.value"));
+    Assert.assertFalse(plan, plan.contains("FETCH FROM INDEX StatisticsTest.kind"));
+  }
+
+  @Test
+  public void testPlanWithParametersNotCached() {
+    db.command("analyze class StatisticsTest").close();
+    String query = "select from StatisticsTest where kind = ? and value = ?";
+
+    //the best index depends on the values of the parameters, the plan is not reused by the next execution
+    OResultSet rs = db.query(query, "common", 3);
+    String plan = rs.getExecutionPlan().get().prettyPrint(0, 2);
+    rs.close();
+    Assert.assertTrue(plan, plan.contains("FETCH FROM INDEX StatisticsTest.value"));
+    Assert.assertFalse(plan, plan.contains("StatisticsTest.kind"));
+
+    rs = db.query(query, "rare10", 10);
+    OSelectExecutionPlan executionPlan = (OSelectExecutionPlan) rs.getExecutionPlan().get();
+    plan = executionPlan.prettyPrint(0, 2);
+    Assert.assertEquals(1, rs.stream().count());
+    rs.close();
+    Assert.assertFalse(executionPlan.isCached());
+    Assert.assertTrue(plan, plan.contains("StatisticsTest.kind"));
+  }
+
+  @Test
+  public void testIntersectionWithParametersNotCached() {
+    db.command("analyze class StatisticsTest").close();
+    String query = "select from StatisticsTest where value = ? and kind = ?";
+
+    //"kind = rare10" and "value = 10" are both selective, the RIDs of both indexes are intersected
+    OResultSet rs = db.query(query, 10, "rare10");
+    OSelectExecutionPlan executionPlan = (OSelectExecutionPlan) rs.getExecutionPlan().get();
+    String plan = executionPlan.prettyPrint(0, 2);
+    Assert.assertEquals(1, rs.stream().count());
+    rs.close();
+    Assert.assertFalse(executionPlan.isCached());
+    Assert.assertTrue(plan, plan.contains("INTERSECTION OF RIDS"));
+
+    //"kind = common" matches most of the records, intersecting it does not pay off
+    rs = db.query(query, 3, "common");
+    executionPlan = (OSelectExecutionPlan) rs.getExecutionPlan().get();
+    plan = executionPlan.prettyPrint(0, 2);
+    Assert.assertEquals(10, rs.stream().count());
+    rs.close();
+    Assert.assertFalse(executionPlan.isCached());
+    Assert.assertFalse(plan, plan.contains("INTERSECTION OF RIDS"));
+  }
+
+  @Test
+  public void testRebuildDropsStatistics() {
+    createAndAnalyze("StatisticsRebuildTest");
+    Assert.assertNotNull(getStatistics("StatisticsRebuildTest.value"));
+
+    db.command("rebuild index StatisticsRebuildTest.value").close();
+
+    Assert.assertNull(getStatistics("StatisticsRebuildTest.value"));
+    Assert.assertNull(db.getMetadata().getIndexManager().getIndex("StatisticsRebuildTest.value").getConfiguration()
+        .field(OIndexInternal.STATISTICS));
+  }
+
+  @Test
+  public void testTruncateDropsStatistics() {
+    createAndAnalyze("StatisticsTruncateTest");
+    Assert.assertNotNull(getStatistics("StatisticsTruncateTest.value"));
+    OResultSet rs = db.query("select from StatisticsTruncateTest where value = 3");
+    Assert.assertEquals(10, rs.stream().count());
+    rs.close();
+
+    db.command("truncate class StatisticsTruncateTest").close();
+
+    Assert.assertNull(getStatistics("StatisticsTruncateTest.value"));
+    Assert.assertNull(db.getMetadata().getIndexManager().getIndex("StatisticsTruncateTest.value").getConfiguration()
+        .field(OIndexInternal.STATISTICS));
+
+    rs = db.query("select from StatisticsTruncateTest where value = 3");
+    Assert.assertEquals(0, rs.stream().count());
+    rs.close();
+  }
+
+  @Test
+  public void testStatisticsPersisted() {
+    String buildDirectory = System.getProperty("buildDirectory", ".");
+    ODatabaseDocumentTx local = new ODatabaseDocumentTx(
+        "plocal:" + buildDirectory + File.separator + OIndexStatisticsTest.class.getSimpleName());
+    if (local.exists()) {
+      local.open("admin", "admin");
+      local.drop();
+    }
+    local.create();
+    try {
+      OClass clazz = local.getMetadata().getSchema().createClass("StatisticsTest");
+      clazz.createProperty("value", OType.INTEGER);
+      clazz.createIndex("StatisticsTest.value", OClass.INDEX_TYPE.NOTUNIQUE, "value");
+      for (int i = 0; i < 1000; i++) {
+        OElement element = local.newElement("StatisticsTest");
+        element.setProperty("value", i % 100);
+        element.save();
+      }
+      local.command("analyze index StatisticsTest.value").close();
+      long estimate = getStatistics(local, "StatisticsTest.value").estimateRange(10, true, 30, false, 100);
+
+      OStorage storage = local.getStorage();
+      local.close();
+      storage.close(true, false);
+
+      local.open("admin", "admin");
+      OIndexStatistics statistics = getStatistics(local, "StatisticsTest.value");
+      Assert.assertNotNull(statistics);
+      Assert.assertEquals(1000, statistics.getEntries());
+      Assert.assertEquals(estimate, statistics.estimateRange(10, true, 30, false, 100));
+    } finally {
+      local.activateOnCurrentThread();
+      local.drop();
+      db.activateOnCurrentThread();
+    }
+  }
+
+  private static void createAndAnalyze(String className) {
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("value", OType.INTEGER);
+    clazz.createIndex(className + ".value", OClass.INDEX_TYPE.NOTUNIQUE, "value");
+    for (int i = 0; i < 100; i++) {
+      OElement element = db.newElement(className);
+      element.setProperty("value", i % 10);
+      element.save();
+    }
+    db.command("analyze index " + className + ".value").close();
+  }
+
+  private static OIndexStatistics getStatistics(String indexName) {
+    return getStatistics(db, indexName);
+  }
+
+  private static OIndexStatistics getStatistics(ODatabaseDocumentTx db, String indexName) {
+    return db.getMetadata().getIndexManager().getIndex(indexName).getInternal().getStatistics();
+  }
+}
@@ -0,0 +1,151 @@
+package com.orientechnologies.orient.core.index.bitmap;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexCursor;
+import com.orientechnologies.orient.core.index.OIndexKeyCursor;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.OElement;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class OIndexBitmapTest {
+  private ODatabaseDocumentTx db;
+
+  @Before
+  public void before() {
+    db = new ODatabaseDocumentTx("memory:OIndexBitmapTest");
+    db.create();
+    OClass clazz = db.getMetadata().getSchema().createClass("BitmapTest");
+    clazz.createProperty("status", OType.STRING);
+    clazz.createIndex("BitmapTest.status", OClass.INDEX_TYPE.BITMAP, "status");
+  }
+
+  @After
+  public void after() {
+    db.drop();
+  }
+
+  @Test
+  public void testPutAndGet() {
+    for (int i = 0; i < 10000; i++) {
+      createElement(i % 3 == 0 ? "open" : "closed");
+    }
+    createElement(null);
+
+    OIndex<?> index = getIndex();
+    Assert.assertEquals(OBitmapIndexFactory.BITMAP_ALGORITHM, index.getAlgorithm());
+    Assert.assertTrue(index.getInternal() instanceof OIndexBitmap);
+
+    Collection<OIdentifiable> open = (Collection<OIdentifiable>) index.get("open");
+    Assert.assertTrue(open instanceof ORidBitmap);
+    Assert.assertEquals(3334, open.size());
+    Assert.assertEquals(6666, ((Collection<?>) index.get("closed")).size());
+    Assert.assertEquals(1, ((Collection<?>) index.get(null)).size());
+    Assert.assertTrue(((Collection<?>) index.get("missing")).isEmpty());
+    Assert.assertEquals(3334, index.count("open"));
+    Assert.assertEquals(10001, index.getSize());
+    Assert.assertEquals(2, index.getKeySize());
+    Assert.assertEquals("closed", index.getFirstKey());
+    Assert.assertEquals("open", index.getLastKey());
+
+    for (OIdentifiable rid : open) {
+      Assert.assertEquals("open", ((OElement) rid.getRecord()).getProperty("status"));
+    }
+  }
+
+  @Test
+  public void testCursors() {
+    for (int i = 0; i < 100; i++) {
+      createElement("s" + (i % 10));
+    }
+    createElement(null);
+
+    OIndex<?> index = getIndex();
+    Assert.assertEquals(30, countEntries(index.iterateEntriesBetween("s2", true, "s4", true, true), "s2", "s4"));
+    Assert.assertEquals(20, countEntries(index.iterateEntriesBetween("s2", false, "s4", true, false), "s3", "s4"));
+    Assert.assertEquals(70, countEntries(index.iterateEntriesMajor("s3", true, true), "s3", "s9"));
+    Assert.assertEquals(30, countEntries(index.iterateEntriesMinor("s2", true, true), "s0", "s2"));
+    Assert.assertEquals(100, countEntries(index.cursor(), "s0", "s9"));
+    Assert.assertEquals(100, countEntries(index.descCursor(), "s0", "s9"));
+
+    Set<Object> keys = new HashSet<>();
+    OIndexKeyCursor keyCursor = index.keyCursor();
+    for (Object key = keyCursor.next(-1); key != null; key = keyCursor.next(-1)) {
+      Assert.assertTrue(keys.add(key));
+    }
+    Assert.assertEquals(10, keys.size());
+  }
+
+  @Test
+  public void testUpdateAndDelete() {
+    OElement element = createElement("open");
+    createElement("open");
+
+    element.setProperty("status", "closed");
+    element.save();
+    Assert.assertEquals(1, getIndex().count("open"));
+    Assert.assertEquals(1, getIndex().count("closed"));
+
+    element.delete();
+    Assert.assertEquals(1, getIndex().count("open"));
+    Assert.assertEquals(0, getIndex().count("closed"));
+  }
+
+  @Test
+  public void testTransaction() {
+    createElement("open");
+
+    db.begin();
+    OElement element = createElement("open");
+    Assert.assertEquals(2, ((Collection<?>) getIndex().get("open")).size());
+    db.rollback();
+    Assert.assertEquals(1, ((Collection<?>) getIndex().get("open")).size());
+
+    db.begin();
+    element = createElement("open");
+    db.commit();
+    Assert.assertEquals(2, ((Collection<?>) getIndex().get("open")).size());
+    Assert.assertTrue(((Collection<?>) getIndex().get("open")).contains(element.getIdentity()));
+  }
+
+  @Test
+  public void testRebuild() {
+    for (int i = 0; i < 1000; i++) {
+      createElement(i % 2 == 0 ? "open" : "closed");
+    }
+    Assert.assertEquals(1000, getIndex().rebuild());
+    Assert.assertEquals(500, getIndex().count("open"));
+    Assert.assertEquals(500, ((Collection<?>) getIndex().get("closed")).size());
+  }
+
+  private OElement createElement(String status) {
+    OElement element = db.newElement("BitmapTest");
+    element.setProperty("status", status);
+    element.save();
+    return element;
+  }
+
+  private OIndex<?> getIndex() {
+    return db.getMetadata().getIndexManager().getIndex("BitmapTest.status");
+  }
+
+  private static int countEntries(OIndexCursor cursor, String min, String max) {
+    int count = 0;
+    for (Map.Entry<Object, OIdentifiable> entry = cursor.nextEntry(); entry != null; entry = cursor.nextEntry()) {
+      String key = (String) entry.getKey();
+      Assert.assertTrue(key, key.compareTo(min) >= 0 && key.compareTo(max) <= 0);
+      count++;
+    }
+    return count;
+  }
+}
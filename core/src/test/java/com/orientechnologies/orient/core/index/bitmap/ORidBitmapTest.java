@@ -0,0 +1,191 @@
+package com.orientechnologies.orient.core.index.bitmap;
+
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORecordId;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+
+public class ORidBitmapTest {
+
+  @Test
+  public void testContainerArrayToBitmap() {
+    OBitmapContainer container = new OBitmapContainer();
+    for (int i = 0; i <= OBitmapContainer.MAX_VALUE; i += 2) {
+      Assert.assertTrue(container.add(i));
+    }
+    Assert.assertFalse(container.add(0));
+    Assert.assertTrue(container.isBitmap());
+    Assert.assertEquals(32768, container.getCardinality());
+    Assert.assertTrue(container.contains(65534));
+    Assert.assertFalse(container.contains(65535));
+
+    for (int i = 0; i <= OBitmapContainer.MAX_VALUE; i += 4) {
+      Assert.assertTrue(container.remove(i));
+    }
+    Assert.assertFalse(container.remove(0));
+    Assert.assertEquals(16384, container.getCardinality());
+    Assert.assertTrue(container.isBitmap());
+
+    for (int i = 2; i < 50000; i += 4) {
+      container.remove(i);
+    }
+    Assert.assertFalse(container.isBitmap());
+    Assert.assertEquals(3884, container.getCardinality());
+
+    int previous = -1;
+    for (PrimitiveIterator.OfInt iterator = container.iterator(); iterator.hasNext(); ) {
+      int value = iterator.nextInt();
+      Assert.assertTrue(value > previous);
+      Assert.assertEquals(2, value % 4);
+      Assert.assertTrue(value >= 50000);
+      previous = value;
+    }
+  }
+
+  @Test
+  public void testContainerAlgebra() {
+    Random random = new Random(42);
+    for (int sizes : new int[] { 10, 3000, 20000 }) {
+      OBitmapContainer first = new OBitmapContainer();
+      OBitmapContainer second = new OBitmapContainer();
+      Set<Integer> firstValues = new TreeSet<>();
+      Set<Integer> secondValues = new TreeSet<>();
+      for (int i = 0; i < sizes; i++) {
+        int value = random.nextInt(OBitmapContainer.MAX_VALUE + 1);
+        first.add(value);
+        firstValues.add(value);
+        value = random.nextInt(OBitmapContainer.MAX_VALUE + 1);
+        second.add(value);
+        secondValues.add(value);
+      }
+      //mix array and bitmap containers
+      OBitmapContainer sparse = new OBitmapContainer();
+      Set<Integer> sparseValues = new TreeSet<>();
+      for (int i = 0; i < 100; i++) {
+        int value = random.nextInt(OBitmapContainer.MAX_VALUE + 1);
+        sparse.add(value);
+        sparseValues.add(value);
+      }
+
+      assertContainer(intersection(firstValues, secondValues), first.and(second));
+      assertContainer(union(firstValues, secondValues), first.or(second));
+      assertContainer(difference(firstValues, secondValues), first.andNot(second));
+      assertContainer(intersection(firstValues, sparseValues), first.and(sparse));
+      assertContainer(intersection(firstValues, sparseValues), sparse.and(first));
+      assertContainer(union(firstValues, sparseValues), sparse.or(first));
+      assertContainer(difference(firstValues, sparseValues), first.andNot(sparse));
+      assertContainer(difference(sparseValues, firstValues), sparse.andNot(first));
+      assertContainer(firstValues, first.copy());
+    }
+  }
+
+  @Test
+  public void testRidBitmap() {
+    ORidBitmap bitmap = new ORidBitmap();
+    Set<OIdentifiable> expected = new HashSet<>();
+    Random random = new Random(7);
+    for (int i = 0; i < 50000; i++) {
+      ORecordId rid = new ORecordId(random.nextInt(5) + 10, random.nextInt(300000));
+      Assert.assertEquals(expected.add(rid), bitmap.add(rid));
+    }
+    Assert.assertEquals(expected.size(), bitmap.size());
+    Assert.assertEquals(expected.size(), bitmap.cardinality());
+    Assert.assertEquals(expected, new HashSet<>(bitmap));
+    Assert.assertTrue(bitmap.contains(expected.iterator().next()));
+    Assert.assertFalse(bitmap.contains(new ORecordId(20, 1)));
+
+    ORecordId previous = null;
+    for (OIdentifiable identifiable : bitmap) {
+      ORecordId rid = (ORecordId) identifiable.getIdentity();
+      if (previous != null) {
+        Assert.assertTrue(previous.compareTo(rid) < 0);
+      }
+      previous = rid;
+    }
+
+    Iterator<OIdentifiable> iterator = bitmap.iterator();
+    while (iterator.hasNext()) {
+      OIdentifiable rid = iterator.next();
+      if (rid.getIdentity().getClusterPosition() % 2 == 0) {
+        iterator.remove();
+        expected.remove(rid);
+      }
+    }
+    Assert.assertEquals(expected, new HashSet<>(bitmap));
+
+    for (OIdentifiable rid : new ArrayList<>(expected)) {
+      Assert.assertTrue(bitmap.remove(rid));
+    }
+    Assert.assertTrue(bitmap.isEmpty());
+    Assert.assertEquals(0, bitmap.getChunks());
+  }
+
+  @Test
+  public void testTemporaryRids() {
+    ORidBitmap bitmap = new ORidBitmap();
+    bitmap.add(new ORecordId(-1, -2));
+    bitmap.add(new ORecordId(-1, -70000));
+    bitmap.add(new ORecordId(3, 0));
+    Assert.assertTrue(bitmap.contains(new ORecordId(-1, -2)));
+    Assert.assertTrue(bitmap.contains(new ORecordId(-1, -70000)));
+    Assert.assertEquals(new HashSet<>(Arrays.asList(new ORecordId(-1, -2), new ORecordId(-1, -70000), new ORecordId(3, 0))),
+        new HashSet<>(bitmap));
+  }
+
+  @Test
+  public void testRidBitmapAlgebra() {
+    Random random = new Random(13);
+    ORidBitmap first = new ORidBitmap();
+    ORidBitmap second = new ORidBitmap();
+    Set<OIdentifiable> firstRids = new HashSet<>();
+    Set<OIdentifiable> secondRids = new HashSet<>();
+    for (int i = 0; i < 30000; i++) {
+      ORecordId rid = new ORecordId(random.nextInt(3) + 10, random.nextInt(200000));
+      first.add(rid);
+      firstRids.add(rid);
+      rid = new ORecordId(random.nextInt(3) + 11, random.nextInt(200000));
+      second.add(rid);
+      secondRids.add(rid);
+    }
+
+    assertRids(intersection(firstRids, secondRids), first.and(second));
+    assertRids(union(firstRids, secondRids), first.or(second));
+    assertRids(difference(firstRids, secondRids), first.andNot(second));
+    assertRids(difference(secondRids, firstRids), second.andNot(first));
+    assertRids(firstRids, first.or(new ORidBitmap()));
+    assertRids(Collections.emptySet(), first.and(new ORidBitmap()));
+  }
+
+  private static void assertContainer(Set<Integer> expected, OBitmapContainer container) {
+    Assert.assertEquals(expected.size(), container.getCardinality());
+    Assert.assertEquals(container.getCardinality() > OBitmapContainer.MAX_ARRAY_SIZE, container.isBitmap());
+    List<Integer> values = new ArrayList<>();
+    container.iterator().forEachRemaining((int value) -> values.add(value));
+    Assert.assertEquals(new ArrayList<>(expected), values);
+  }
+
+  private static void assertRids(Set<OIdentifiable> expected, ORidBitmap bitmap) {
+    Assert.assertEquals(expected.size(), bitmap.cardinality());
+    Assert.assertEquals(expected, new HashSet<>(bitmap));
+  }
+
+  private static <T> Set<T> intersection(Set<T> first, Set<T> second) {
+    Set<T> result = new TreeSet<>(first);
+    result.retainAll(second);
+    return result;
+  }
+
+  private static <T> Set<T> union(Set<T> first, Set<T> second) {
+    Set<T> result = new TreeSet<>(first);
+    result.addAll(second);
+    return result;
+  }
+
+  private static <T> Set<T> difference(Set<T> first, Set<T> second) {
+    Set<T> result = new TreeSet<>(first);
+    result.removeAll(second);
+    return result;
+  }
+}
@@ -0,0 +1,123 @@
+package com.orientechnologies.orient.core.index.sbtree.local;
+
+import com.orientechnologies.DatabaseAbstractTest;
+import com.orientechnologies.common.serialization.types.OStringSerializer;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.OLinkSerializer;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+
+public class SBTreeBulkLoadTest extends DatabaseAbstractTest {
+  //about 16 keys fit in a page, so few hundreds of keys build trees of 3 levels
+  private static final String PADDING = new String(new char[2000]).replace('\0', 'x');
+
+  @Test
+  public void testBulkLoad() {
+    for (int count = 0; count < 700; count += 7) {
+      final OSBTree<String, OIdentifiable> sbTree = createTree("sbTreeBulkLoad" + count, false);
+      try {
+        final List<Map.Entry<String, OIdentifiable>> entries = new ArrayList<Map.Entry<String, OIdentifiable>>();
+        for (int i = 0; i < count; i++)
+          entries.add(new AbstractMap.SimpleEntry<String, OIdentifiable>(key(2 * i), new ORecordId(1, 2 * i)));
+
+        Assert.assertEquals(count, sbTree.bulkLoad(entries.iterator()));
+        Assert.assertEquals(count, sbTree.size());
+        assertContent(sbTree, count, 2);
+
+        //the tree is updated as usual after the load
+        for (int i = 0; i < count; i++)
+          sbTree.put(key(2 * i + 1), new ORecordId(1, 2 * i + 1));
+
+        Assert.assertEquals(2 * count, sbTree.size());
+        assertContent(sbTree, 2 * count, 1);
+
+        for (int i = 0; i < count; i++)
+          Assert.assertNotNull(sbTree.remove(key(2 * i + 1)));
+
+        assertContent(sbTree, count, 2);
+      } finally {
+        sbTree.delete();
+      }
+    }
+  }
+
+  @Test
+  public void testBulkLoadNullKey() {
+    final OSBTree<String, OIdentifiable> sbTree = createTree("sbTreeBulkLoadNull", true);
+    try {
+      final List<Map.Entry<String, OIdentifiable>> entries = new ArrayList<Map.Entry<String, OIdentifiable>>();
+      entries.add(new AbstractMap.SimpleEntry<String, OIdentifiable>(null, new ORecordId(1, 100)));
+      for (int i = 0; i < 50; i++)
+        entries.add(new AbstractMap.SimpleEntry<String, OIdentifiable>(key(i), new ORecordId(1, i)));
+
+      Assert.assertEquals(50, sbTree.bulkLoad(entries.iterator()));
+      Assert.assertEquals(51, sbTree.size());
+      Assert.assertEquals(new ORecordId(1, 100), sbTree.get(null));
+      assertContent(sbTree, 50, 1);
+    } finally {
+      sbTree.delete();
+    }
+  }
+
+  @Test
+  public void testUnsortedKeys() {
+    final OSBTree<String, OIdentifiable> sbTree = createTree("sbTreeBulkLoadUnsorted", false);
+    try {
+      final List<Map.Entry<String, OIdentifiable>> entries = new ArrayList<Map.Entry<String, OIdentifiable>>();
+      entries.add(new AbstractMap.SimpleEntry<String, OIdentifiable>(key(2), new ORecordId(1, 2)));
+      entries.add(new AbstractMap.SimpleEntry<String, OIdentifiable>(key(1), new ORecordId(1, 1)));
+
+      try {
+        sbTree.bulkLoad(entries.iterator());
+        Assert.fail();
+      } catch (OSBTreeException e) {
+        //expected
+      }
+
+      try {
+        sbTree.bulkLoad(Collections.<Map.Entry<String, OIdentifiable>>emptyIterator());
+      } catch (OSBTreeException e) {
+        Assert.fail("Empty tree is expected after a failed bulk load");
+      }
+    } finally {
+      sbTree.delete();
+    }
+  }
+
+  private OSBTree<String, OIdentifiable> createTree(String name, boolean nullPointerSupport) {
+    final OSBTree<String, OIdentifiable> sbTree = new OSBTree<String, OIdentifiable>(name, ".sbt", false, ".nbt",
+        (OAbstractPaginatedStorage) database.getStorage().getUnderlying());
+    sbTree.create(OStringSerializer.INSTANCE, OLinkSerializer.INSTANCE, null, 1, nullPointerSupport);
+    return sbTree;
+  }
+
+  private static void assertContent(OSBTree<String, OIdentifiable> sbTree, int count, int step) {
+    for (int i = 0; i < count; i++)
+      Assert.assertEquals(new ORecordId(1, step * i), sbTree.get(key(step * i)));
+
+    Assert.assertNull(sbTree.get(key(-1)));
+    if (count == 0)
+      return;
+
+    Assert.assertEquals(key(0), sbTree.firstKey());
+    Assert.assertEquals(key(step * (count - 1)), sbTree.lastKey());
+
+    OSBTree.OSBTreeCursor<String, OIdentifiable> cursor = sbTree.iterateEntriesMajor(key(0), true, true);
+    for (int i = 0; i < count; i++)
+      Assert.assertEquals(key(step * i), cursor.next(-1).getKey());
+    Assert.assertNull(cursor.next(-1));
+
+    cursor = sbTree.iterateEntriesMinor(key(step * (count - 1)), true, false);
+    for (int i = count - 1; i >= 0; i--)
+      Assert.assertEquals(key(step * i), cursor.next(-1).getKey());
+    Assert.assertNull(cursor.next(-1));
+  }
+
+  private static String key(int i) {
+    return String.format("%05d", i) + PADDING;
+  }
+}
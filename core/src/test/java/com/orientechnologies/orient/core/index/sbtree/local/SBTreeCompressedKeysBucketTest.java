@@ -0,0 +1,194 @@
+package com.orientechnologies.orient.core.index.sbtree.local;
+
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.serialization.types.OStringSerializer;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.OLinkSerializer;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntryImpl;
+import com.orientechnologies.orient.core.storage.cache.OCachePointer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+public class SBTreeCompressedKeysBucketTest {
+  private OCachePointer cachePointer;
+  private OCacheEntry   cacheEntry;
+
+  @Before
+  public void before() {
+    final OByteBufferPool bufferPool = OByteBufferPool.instance();
+    final ByteBuffer buffer = bufferPool.acquireDirect(true);
+
+    cachePointer = new OCachePointer(buffer, bufferPool, 0, 0);
+    cachePointer.incrementReferrer();
+
+    cacheEntry = new OCacheEntryImpl(0, 0, cachePointer, false);
+    cacheEntry.acquireExclusiveLock();
+  }
+
+  @After
+  public void after() {
+    cacheEntry.releaseExclusiveLock();
+    cachePointer.decrementReferrer();
+  }
+
+  @Test
+  public void testInitialization() throws Exception {
+    OSBTreeBucket<String, OIdentifiable> treeBucket = new OSBTreeBucket<String, OIdentifiable>(cacheEntry, false, true,
+        OStringSerializer.INSTANCE, null, OLinkSerializer.INSTANCE);
+    Assert.assertFalse(treeBucket.isLeaf());
+    Assert.assertTrue(treeBucket.isCompressedKeys());
+
+    treeBucket = new OSBTreeBucket<String, OIdentifiable>(cacheEntry, OStringSerializer.INSTANCE, null, OLinkSerializer.INSTANCE);
+    Assert.assertEquals(0, treeBucket.size());
+    Assert.assertFalse(treeBucket.isLeaf());
+    Assert.assertTrue(treeBucket.isCompressedKeys());
+
+    new OSBTreeBucket<String, OIdentifiable>(cacheEntry, true, true, OStringSerializer.INSTANCE, null, OLinkSerializer.INSTANCE);
+    treeBucket = new OSBTreeBucket<String, OIdentifiable>(cacheEntry, OStringSerializer.INSTANCE, null, OLinkSerializer.INSTANCE);
+    Assert.assertTrue(treeBucket.isLeaf());
+    Assert.assertTrue(treeBucket.isCompressedKeys());
+
+    new OSBTreeBucket<String, OIdentifiable>(cacheEntry, true, OStringSerializer.INSTANCE, null, OLinkSerializer.INSTANCE);
+    treeBucket = new OSBTreeBucket<String, OIdentifiable>(cacheEntry, OStringSerializer.INSTANCE, null, OLinkSerializer.INSTANCE);
+    Assert.assertTrue(treeBucket.isLeaf());
+    Assert.assertFalse(treeBucket.isCompressedKeys());
+  }
+
+  @Test
+  public void testCompressedPageKeepsMoreKeys() throws Exception {
+    final List<String> keys = new ArrayList<String>(urls(new Random(42), 5000));
+
+    final int plainSize = fill(new OSBTreeBucket<String, OIdentifiable>(cacheEntry, true, false, OStringSerializer.INSTANCE, null,
+        OLinkSerializer.INSTANCE), keys);
+    final int compressedSize = fill(new OSBTreeBucket<String, OIdentifiable>(cacheEntry, true, true, OStringSerializer.INSTANCE,
+        null, OLinkSerializer.INSTANCE), keys);
+
+    Assert.assertTrue(plainSize < keys.size());
+    Assert.assertTrue("plain " + plainSize + ", compressed " + compressedSize, compressedSize > 2 * plainSize);
+  }
+
+  @Test
+  public void testSearchAndRemove() throws Exception {
+    final long seed = System.currentTimeMillis();
+    System.out.println("testSearchAndRemove seed : " + seed);
+    final Random random = new Random(seed);
+
+    final OSBTreeBucket<String, OIdentifiable> treeBucket = new OSBTreeBucket<String, OIdentifiable>(cacheEntry, true, true,
+        OStringSerializer.INSTANCE, null, OLinkSerializer.INSTANCE);
+    final List<String> keys = new ArrayList<String>(urls(random, 2000));
+    final int size = fill(treeBucket, keys);
+    final List<String> addedKeys = new ArrayList<String>(keys.subList(0, size));
+
+    assertBucket(treeBucket, addedKeys);
+
+    while (addedKeys.size() > 1) {
+      final int index = random.nextInt(addedKeys.size());
+      treeBucket.remove(index);
+      addedKeys.remove(index);
+
+      if (addedKeys.size() % 10 == 0)
+        assertBucket(treeBucket, addedKeys);
+    }
+
+    treeBucket.remove(0);
+    Assert.assertTrue(treeBucket.isEmpty());
+
+    //page is anchored on the new key when it becomes empty
+    Assert.assertTrue(treeBucket.addEntry(0, leafEntry("another key", 1), true));
+    Assert.assertEquals("another key", treeBucket.getKey(0));
+    Assert.assertEquals(new ORecordId(1, 1), treeBucket.getValue(0).getValue());
+  }
+
+  @Test
+  public void testUpdateValue() throws Exception {
+    final OSBTreeBucket<String, OIdentifiable> treeBucket = new OSBTreeBucket<String, OIdentifiable>(cacheEntry, true, true,
+        OStringSerializer.INSTANCE, null, OLinkSerializer.INSTANCE);
+    final List<String> keys = new ArrayList<String>(urls(new Random(), 100));
+    fill(treeBucket, keys);
+
+    for (int i = 0; i < keys.size(); i++)
+      Assert.assertEquals(1, treeBucket.updateValue(i, new OSBTreeValue<OIdentifiable>(false, -1, new ORecordId(2, i))));
+
+    for (int i = 0; i < keys.size(); i++) {
+      Assert.assertEquals(keys.get(i), treeBucket.getKey(i));
+      Assert.assertEquals(new ORecordId(2, i), treeBucket.getValue(i).getValue());
+    }
+  }
+
+  @Test
+  public void testShrinkAndNonLeafEntries() throws Exception {
+    final List<String> keys = new ArrayList<String>(urls(new Random(), 300));
+
+    final OSBTreeBucket<String, OIdentifiable> treeBucket = new OSBTreeBucket<String, OIdentifiable>(cacheEntry, false, true,
+        OStringSerializer.INSTANCE, null, OLinkSerializer.INSTANCE);
+
+    final List<OSBTreeBucket.SBTreeEntry<String, OIdentifiable>> entries =
+        new ArrayList<OSBTreeBucket.SBTreeEntry<String, OIdentifiable>>();
+    for (int i = 0; i < keys.size(); i++)
+      entries.add(new OSBTreeBucket.SBTreeEntry<String, OIdentifiable>(i, i + 1, keys.get(i), null));
+
+    treeBucket.addAll(entries);
+    Assert.assertEquals(keys.size(), treeBucket.size());
+
+    treeBucket.shrink(keys.size() / 3);
+    Assert.assertEquals(keys.size() / 3, treeBucket.size());
+
+    for (int i = 0; i < treeBucket.size(); i++) {
+      Assert.assertEquals(entries.get(i), treeBucket.getEntry(i));
+      Assert.assertEquals(i, treeBucket.find(keys.get(i)));
+    }
+  }
+
+  private static int fill(OSBTreeBucket<String, OIdentifiable> treeBucket, List<String> keys) throws Exception {
+    int index = 0;
+    for (String key : keys) {
+      if (!treeBucket.addEntry(index, leafEntry(key, index), true))
+        break;
+
+      index++;
+    }
+
+    return index;
+  }
+
+  private static void assertBucket(OSBTreeBucket<String, OIdentifiable> treeBucket, List<String> keys) {
+    Assert.assertEquals(keys.size(), treeBucket.size());
+
+    for (int i = 0; i < keys.size(); i++) {
+      Assert.assertEquals(i, treeBucket.find(keys.get(i)));
+      Assert.assertEquals(keys.get(i), treeBucket.getEntry(i).key);
+    }
+
+    Assert.assertTrue(treeBucket.find(keys.get(0).substring(0, keys.get(0).length() - 1)) < 0);
+  }
+
+  private static OSBTreeBucket.SBTreeEntry<String, OIdentifiable> leafEntry(String key, int index) {
+    return new OSBTreeBucket.SBTreeEntry<String, OIdentifiable>(-1, -1, key,
+        new OSBTreeValue<OIdentifiable>(false, -1, new ORecordId(1, index)));
+  }
+
+  /**
+   * @return sorted URLs which share long prefixes
+   */
+  static TreeSet<String> urls(Random random, int count) {
+    final String[] hosts = { "https://www.example.com", "https://shop.example.com", "http://docs.example.org" };
+    final String[] paths = { "/products/category/", "/articles/2016/", "/users/profile/settings/" };
+
+    final TreeSet<String> urls = new TreeSet<String>();
+    while (urls.size() < count)
+      urls.add(hosts[random.nextInt(hosts.length)] + paths[random.nextInt(paths.length)] + random.nextInt(1000000) + "?page="
+          + random.nextInt(100));
+
+    return urls;
+  }
+}
@@ -0,0 +1,123 @@
+package com.orientechnologies.orient.core.index.sbtree.local;
+
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.serialization.types.OStringSerializer;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.OLinkSerializer;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OCompositeKeySerializer;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares size, height and look up latency of trees with URL keys and with (tenant, email) composite keys when keys are stored as
+ * is and when they are compressed.
+ *
+ * @see OGlobalConfiguration#SBTREE_KEY_COMPRESSION
+ */
+public class SBTreeKeyCompressionBenchmark {
+  private static final int KEYS    = 500000;
+  private static final int LOOKUPS = 1000000;
+
+  public static void main(String[] args) {
+    final ODatabaseDocumentTx db = new ODatabaseDocumentTx(
+        "plocal:" + System.getProperty("buildDirectory", ".") + File.separator + SBTreeKeyCompressionBenchmark.class
+            .getSimpleName());
+    if (db.exists()) {
+      db.open("admin", "admin");
+      db.drop();
+    }
+
+    db.create();
+    try {
+      final OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) db.getStorage().getUnderlying();
+
+      final List<String> urls = urls();
+      final List<OCompositeKey> emails = emails();
+
+      for (boolean keyCompression : new boolean[] { false, true }) {
+        run(storage, "urls", keyCompression, OStringSerializer.INSTANCE, null, 1, urls);
+        run(storage, "tenant, email", keyCompression, OCompositeKeySerializer.INSTANCE, new OType[] { OType.STRING, OType.STRING },
+            2, emails);
+      }
+    } finally {
+      db.drop();
+    }
+  }
+
+  private static <K> void run(OAbstractPaginatedStorage storage, String name, boolean keyCompression,
+      OBinarySerializer<K> keySerializer, OType[] keyTypes, int keySize, List<K> keys) {
+    final boolean oldKeyCompression = OGlobalConfiguration.SBTREE_KEY_COMPRESSION.getValueAsBoolean();
+    OGlobalConfiguration.SBTREE_KEY_COMPRESSION.setValue(keyCompression);
+
+    final OSBTree<K, OIdentifiable> tree;
+    try {
+      tree = new OSBTree<K, OIdentifiable>("keyCompressionBenchmark", ".sbt", false, ".nbt", storage);
+      tree.create(keySerializer, OLinkSerializer.INSTANCE, keyTypes, keySize, false);
+    } finally {
+      OGlobalConfiguration.SBTREE_KEY_COMPRESSION.setValue(oldKeyCompression);
+    }
+
+    try {
+      for (int i = 0; i < keys.size(); i++)
+        tree.put(keys.get(i), new ORecordId(1, i));
+
+      final Random random = new Random(42);
+
+      //the first round is warm up
+      long time = 0;
+      for (int n = 0; n < 2; n++) {
+        final long start = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+          if (tree.get(keys.get(random.nextInt(keys.size()))) == null)
+            throw new IllegalStateException("Key is absent");
+        }
+        time = System.nanoTime() - start;
+      }
+
+      final long pages = tree.getPagesCount();
+      System.out.printf("%-14s, compression %-5s: %,6d pages (%,4d MB), height %d, %,6d ns per look up%n", name, keyCompression,
+          pages, pages * OSBTreeBucket.MAX_PAGE_SIZE_BYTES / (1024 * 1024), tree.getHeight(), time / LOOKUPS);
+    } finally {
+      tree.delete();
+    }
+  }
+
+  private static List<String> urls() {
+    final Random random = new Random(1);
+    final String[] hosts = { "https://www.example.com", "https://shop.example.com", "https://blog.example.org",
+        "http://static.cdn.example.net" };
+    final String[] paths = { "/products/category/electronics/", "/products/category/garden/", "/articles/2016/11/",
+        "/users/profile/settings/", "/static/images/thumbnails/" };
+
+    final List<String> urls = new ArrayList<String>(KEYS);
+    for (int i = 0; i < KEYS; i++)
+      urls.add(hosts[random.nextInt(hosts.length)] + paths[random.nextInt(paths.length)] + Integer.toHexString(i * 7919) + "?ref="
+          + random.nextInt(1000));
+
+    Collections.shuffle(urls, random);
+    return urls;
+  }
+
+  private static List<OCompositeKey> emails() {
+    final Random random = new Random(2);
+    final String[] domains = { "gmail.com", "example.com", "mail.example.org", "company.co.uk" };
+
+    final List<OCompositeKey> emails = new ArrayList<OCompositeKey>(KEYS);
+    for (int i = 0; i < KEYS; i++)
+      emails.add(new OCompositeKey("tenant-" + String.format("%06d", random.nextInt(500)),
+          "user." + i + "." + random.nextInt(1000) + "@" + domains[random.nextInt(domains.length)]));
+
+    Collections.shuffle(emails, random);
+    return emails;
+  }
+}
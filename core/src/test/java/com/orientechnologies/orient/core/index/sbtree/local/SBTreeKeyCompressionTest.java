@@ -0,0 +1,175 @@
+package com.orientechnologies.orient.core.index.sbtree.local;
+
+import com.orientechnologies.DatabaseAbstractTest;
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.serialization.types.OStringSerializer;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.OLinkSerializer;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OCompositeKeySerializer;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+
+public class SBTreeKeyCompressionTest extends DatabaseAbstractTest {
+  @Test
+  public void testStringKeys() {
+    final long seed = System.currentTimeMillis();
+    System.out.println("testStringKeys seed : " + seed);
+    final Random random = new Random(seed);
+
+    final OSBTree<String, OIdentifiable> plainTree = createTree("plainStringKeys", false, OStringSerializer.INSTANCE, null, 1);
+    final OSBTree<String, OIdentifiable> compressedTree = createTree("compressedStringKeys", true, OStringSerializer.INSTANCE,
+        null, 1);
+    try {
+      final List<String> keys = new ArrayList<String>(SBTreeCompressedKeysBucketTest.urls(random, 20000));
+      Collections.shuffle(keys, random);
+
+      final TreeMap<String, OIdentifiable> expected = new TreeMap<String, OIdentifiable>();
+      for (int i = 0; i < keys.size(); i++) {
+        final ORecordId rid = new ORecordId(1, i);
+        plainTree.put(keys.get(i), rid);
+        compressedTree.put(keys.get(i), rid);
+        expected.put(keys.get(i), rid);
+      }
+
+      for (int i = 0; i < keys.size(); i += 3) {
+        Assert.assertNotNull(compressedTree.remove(keys.get(i)));
+        plainTree.remove(keys.get(i));
+        expected.remove(keys.get(i));
+      }
+
+      assertContent(compressedTree, expected, random);
+
+      Assert.assertTrue(compressedTree.getPagesCount() * 2 < plainTree.getPagesCount());
+      Assert.assertTrue(compressedTree.getHeight() <= plainTree.getHeight());
+    } finally {
+      plainTree.delete();
+      compressedTree.delete();
+    }
+  }
+
+  @Test
+  public void testCompositeKeys() {
+    final long seed = System.currentTimeMillis();
+    System.out.println("testCompositeKeys seed : " + seed);
+    compositeKeys(seed);
+  }
+
+  /**
+   * With this seed keys of the right page did not fit in it after the split when they were encoded against the new anchor.
+   */
+  @Test
+  public void testCompositeKeysSplitOverflow() {
+    compositeKeys(1792247654755L);
+  }
+
+  private void compositeKeys(long seed) {
+    final Random random = new Random(seed);
+
+    final OSBTree<OCompositeKey, OIdentifiable> tree = createTree("compressedCompositeKeys", true,
+        OCompositeKeySerializer.INSTANCE, new OType[] { OType.STRING, OType.STRING }, 2);
+    try {
+      final TreeMap<OCompositeKey, OIdentifiable> expected = new TreeMap<OCompositeKey, OIdentifiable>();
+      for (int i = 0; i < 20000; i++) {
+        final OCompositeKey key = new OCompositeKey("tenant-" + random.nextInt(20),
+            "user." + random.nextInt(100000) + "@mail.example.com");
+        final ORecordId rid = new ORecordId(1, i);
+
+        tree.put(key, rid);
+        expected.put(key, rid);
+      }
+
+      assertContent(tree, expected, random);
+
+      //look up by the first part of the key
+      for (int i = 0; i < 20; i++) {
+        final OCompositeKey tenant = new OCompositeKey("tenant-" + i);
+        final OSBTree.OSBTreeCursor<OCompositeKey, OIdentifiable> cursor = tree
+            .iterateEntriesBetween(tenant, true, tenant, true, true);
+
+        final Iterator<Map.Entry<OCompositeKey, OIdentifiable>> iterator = expected
+            .subMap(new OCompositeKey("tenant-" + i, ""), true, new OCompositeKey("tenant-" + i + "\0"), false).entrySet()
+            .iterator();
+        Map.Entry<OCompositeKey, OIdentifiable> entry;
+        while ((entry = cursor.next(-1)) != null) {
+          final Map.Entry<OCompositeKey, OIdentifiable> expectedEntry = iterator.next();
+          Assert.assertEquals(expectedEntry.getKey(), entry.getKey());
+          Assert.assertEquals(expectedEntry.getValue(), entry.getValue());
+        }
+
+        Assert.assertFalse(iterator.hasNext());
+      }
+    } finally {
+      tree.delete();
+    }
+  }
+
+  @Test
+  public void testBulkLoad() {
+    final OSBTree<String, OIdentifiable> tree = createTree("compressedBulkLoad", true, OStringSerializer.INSTANCE, null, 1);
+    try {
+      final Random random = new Random();
+      final TreeMap<String, OIdentifiable> expected = new TreeMap<String, OIdentifiable>();
+      int i = 0;
+      for (String key : SBTreeCompressedKeysBucketTest.urls(random, 20000))
+        expected.put(key, new ORecordId(1, i++));
+
+      Assert.assertEquals(expected.size(), tree.bulkLoad(expected.entrySet().iterator()));
+      assertContent(tree, expected, random);
+
+      for (String key : SBTreeCompressedKeysBucketTest.urls(random, 1000)) {
+        tree.put(key, new ORecordId(2, 0));
+        expected.put(key, new ORecordId(2, 0));
+      }
+
+      assertContent(tree, expected, random);
+    } finally {
+      tree.delete();
+    }
+  }
+
+  private <K> OSBTree<K, OIdentifiable> createTree(String name, boolean keyCompression,
+      OBinarySerializer<K> keySerializer, OType[] keyTypes, int keySize) {
+    final boolean oldKeyCompression = OGlobalConfiguration.SBTREE_KEY_COMPRESSION.getValueAsBoolean();
+    OGlobalConfiguration.SBTREE_KEY_COMPRESSION.setValue(keyCompression);
+    try {
+      final OSBTree<K, OIdentifiable> sbTree = new OSBTree<K, OIdentifiable>(name, ".sbt", false, ".nbt",
+          (OAbstractPaginatedStorage) database.getStorage().getUnderlying());
+      sbTree.create(keySerializer, OLinkSerializer.INSTANCE, keyTypes, keySize, false);
+      return sbTree;
+    } finally {
+      OGlobalConfiguration.SBTREE_KEY_COMPRESSION.setValue(oldKeyCompression);
+    }
+  }
+
+  private static <K> void assertContent(OSBTree<K, OIdentifiable> tree, TreeMap<K, OIdentifiable> expected, Random random) {
+    Assert.assertEquals(expected.size(), tree.size());
+
+    for (Map.Entry<K, OIdentifiable> entry : expected.entrySet())
+      Assert.assertEquals(entry.getValue(), tree.get(entry.getKey()));
+
+    Assert.assertEquals(expected.firstKey(), tree.firstKey());
+    Assert.assertEquals(expected.lastKey(), tree.lastKey());
+
+    final List<K> keys = new ArrayList<K>(expected.keySet());
+    for (int n = 0; n < 20; n++) {
+      final int from = random.nextInt(keys.size());
+      final int to = from + random.nextInt(keys.size() - from);
+
+      final OSBTree.OSBTreeCursor<K, OIdentifiable> cursor = tree
+          .iterateEntriesBetween(keys.get(from), true, keys.get(to), false, random.nextBoolean());
+      final Set<K> found = new HashSet<K>();
+      Map.Entry<K, OIdentifiable> entry;
+      while ((entry = cursor.next(-1)) != null)
+        Assert.assertTrue(found.add(entry.getKey()));
+
+      Assert.assertEquals(new HashSet<K>(keys.subList(from, to)), found);
+    }
+  }
+}
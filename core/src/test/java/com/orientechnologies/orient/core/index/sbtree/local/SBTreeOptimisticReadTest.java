@@ -0,0 +1,173 @@
+package com.orientechnologies.orient.core.index.sbtree.local;
+
+import com.orientechnologies.DatabaseAbstractTest;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.OLinkSerializer;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class SBTreeOptimisticReadTest extends DatabaseAbstractTest {
+  private static final int KEYS = 10000;
+
+  private OSBTree<Integer, OIdentifiable> sbTree;
+  private OAtomicOperationsManager        atomicOperationsManager;
+  private boolean                         optimisticReads;
+
+  @Before
+  public void beforeMethod() {
+    //the setting is read when the tree is created
+    optimisticReads = OGlobalConfiguration.SBTREE_OPTIMISTIC_READS.getValueAsBoolean();
+    OGlobalConfiguration.SBTREE_OPTIMISTIC_READS.setValue(true);
+
+    final OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) database.getStorage().getUnderlying();
+    atomicOperationsManager = storage.getAtomicOperationsManager();
+    sbTree = new OSBTree<Integer, OIdentifiable>("sbTreeOptimisticReadTest", ".sbt", false, ".nbt", storage);
+    sbTree.create(OIntegerSerializer.INSTANCE, OLinkSerializer.INSTANCE, null, 1, false);
+
+    for (int i = 0; i < KEYS; i++) {
+      sbTree.put(i, new ORecordId(1, i));
+    }
+  }
+
+  @After
+  public void afterMethod() throws Exception {
+    try {
+      sbTree.delete();
+    } finally {
+      OGlobalConfiguration.SBTREE_OPTIMISTIC_READS.setValue(optimisticReads);
+    }
+  }
+
+  @Test
+  public void testReadDoesNotWaitForAtomicOperation() throws Exception {
+    final ExecutorService writer = Executors.newSingleThreadExecutor();
+    final ExecutorService reader = Executors.newSingleThreadExecutor();
+    final CountDownLatch written = new CountDownLatch(1);
+    final CountDownLatch commit = new CountDownLatch(1);
+    try {
+      final Future<Void> operation = writer.submit(new Callable<Void>() {
+        @Override
+        public Void call() throws Exception {
+          atomicOperationsManager.startAtomicOperation(sbTree, false);
+          try {
+            sbTree.put(KEYS, new ORecordId(1, KEYS));
+            sbTree.put(0, new ORecordId(2, 0));
+            written.countDown();
+            commit.await();
+          } finally {
+            atomicOperationsManager.endAtomicOperation(false, null);
+          }
+          return null;
+        }
+      });
+
+      Assert.assertTrue(written.await(10, TimeUnit.SECONDS));
+
+      //the tree is locked by the atomic operation, but the committed state can be read
+      final Future<OIdentifiable[]> read = reader.submit(new Callable<OIdentifiable[]>() {
+        @Override
+        public OIdentifiable[] call() throws Exception {
+          return new OIdentifiable[] { sbTree.get(0), sbTree.get(KEYS) };
+        }
+      });
+      final OIdentifiable[] values = read.get(10, TimeUnit.SECONDS);
+      Assert.assertEquals(new ORecordId(1, 0), values[0]);
+      Assert.assertNull(values[1]);
+
+      commit.countDown();
+      operation.get(10, TimeUnit.SECONDS);
+    } finally {
+      writer.shutdownNow();
+      reader.shutdownNow();
+    }
+
+    Assert.assertEquals(new ORecordId(2, 0), sbTree.get(0));
+    Assert.assertEquals(new ORecordId(1, KEYS), sbTree.get(KEYS));
+  }
+
+  @Test
+  public void testStampIsNotValidAfterTreeIsRecreated() throws Exception {
+    final long stamp = atomicOperationsManager.startOptimisticRead(sbTree);
+    Assert.assertTrue(stamp >= 0);
+    Assert.assertTrue(atomicOperationsManager.validateOptimisticRead(sbTree, stamp));
+
+    //stamp of the deleted tree is dropped, stamp of the new tree with the same name starts from another value
+    sbTree.delete();
+    final OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) database.getStorage().getUnderlying();
+    sbTree = new OSBTree<Integer, OIdentifiable>("sbTreeOptimisticReadTest", ".sbt", false, ".nbt", storage);
+    sbTree.create(OIntegerSerializer.INSTANCE, OLinkSerializer.INSTANCE, null, 1, false);
+
+    Assert.assertFalse(atomicOperationsManager.validateOptimisticRead(sbTree, stamp));
+
+    final long newStamp = atomicOperationsManager.startOptimisticRead(sbTree);
+    Assert.assertNotEquals(stamp, newStamp);
+    Assert.assertTrue(atomicOperationsManager.validateOptimisticRead(sbTree, newStamp));
+  }
+
+  @Test
+  public void testConcurrentReadsAndWrites() throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(6);
+    final AtomicBoolean stop = new AtomicBoolean();
+    final List<Future<Integer>> futures = new ArrayList<Future<Integer>>();
+    try {
+      //writers split pages adding new keys and update values of existing keys
+      for (int w = 0; w < 2; w++) {
+        final int writerId = w;
+        futures.add(executor.submit(new Callable<Integer>() {
+          @Override
+          public Integer call() throws Exception {
+            for (int i = 0; i < KEYS; i++) {
+              sbTree.put(KEYS * (2 + writerId) + i, new ORecordId(1, KEYS * (2 + writerId) + i));
+              sbTree.put(i, new ORecordId(1, i));
+            }
+            return 0;
+          }
+        }));
+      }
+
+      for (int r = 0; r < 4; r++) {
+        futures.add(executor.submit(new Callable<Integer>() {
+          @Override
+          public Integer call() throws Exception {
+            final Random random = new Random();
+            int reads = 0;
+            while (!stop.get()) {
+              final int key = random.nextInt(KEYS);
+              Assert.assertEquals(new ORecordId(1, key), sbTree.get(key));
+              reads++;
+            }
+            return reads;
+          }
+        }));
+      }
+
+      futures.get(0).get(60, TimeUnit.SECONDS);
+      futures.get(1).get(60, TimeUnit.SECONDS);
+      stop.set(true);
+      for (Future<Integer> future : futures) {
+        future.get(60, TimeUnit.SECONDS);
+      }
+    } finally {
+      stop.set(true);
+      executor.shutdownNow();
+    }
+
+    Assert.assertEquals(3 * KEYS, sbTree.size());
+    for (int i = 0; i < KEYS; i++) {
+      Assert.assertEquals(new ORecordId(1, 3 * KEYS + i), sbTree.get(3 * KEYS + i));
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package com.orientechnologies.orient.core.index.sbtree.local;
+
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.common.serialization.types.OStringSerializer;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.OLinkSerializer;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OCompositeKeySerializer;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OOrderPreservingKeySerializer;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares look up latency and amount of memory allocated per look up of trees with long, string and (string, long) composite
+ * keys when keys are stored by the serializer of their type and by {@link OOrderPreservingKeySerializer}.
+ */
+public class SBTreeOrderPreservingKeysBenchmark {
+  private static final int KEYS    = 500000;
+  private static final int LOOKUPS = 1000000;
+
+  public static void main(String[] args) {
+    final ODatabaseDocumentTx db = new ODatabaseDocumentTx(
+        "plocal:" + System.getProperty("buildDirectory", ".") + File.separator + SBTreeOrderPreservingKeysBenchmark.class
+            .getSimpleName());
+    if (db.exists()) {
+      db.open("admin", "admin");
+      db.drop();
+    }
+
+    db.create();
+    try {
+      final OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) db.getStorage().getUnderlying();
+      final Random random = new Random(1);
+
+      final List<Object> longs = new ArrayList<Object>(KEYS);
+      final List<Object> strings = new ArrayList<Object>(KEYS);
+      final List<Object> composites = new ArrayList<Object>(KEYS);
+      for (int i = 0; i < KEYS; i++) {
+        longs.add(random.nextLong());
+        strings.add("user." + random.nextInt() + "@mail.example.com");
+        composites.add(new OCompositeKey("tenant-" + random.nextInt(500), random.nextLong()));
+      }
+
+      final OType[] longType = { OType.LONG };
+      final OType[] stringType = { OType.STRING };
+      final OType[] compositeTypes = { OType.STRING, OType.LONG };
+
+      run(storage, "long", OLongSerializer.INSTANCE, longType, 1, longs);
+      run(storage, "long", OOrderPreservingKeySerializer.INSTANCE, longType, 1, longs);
+      run(storage, "string", OStringSerializer.INSTANCE, stringType, 1, strings);
+      run(storage, "string", OOrderPreservingKeySerializer.INSTANCE, stringType, 1, strings);
+      run(storage, "string, long", OCompositeKeySerializer.INSTANCE, compositeTypes, 2, composites);
+      run(storage, "string, long", OOrderPreservingKeySerializer.INSTANCE, compositeTypes, 2, composites);
+    } finally {
+      db.drop();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void run(OAbstractPaginatedStorage storage, String name, OBinarySerializer<?> keySerializer, OType[] keyTypes,
+      int keySize, List<Object> keys) {
+    final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    final long threadId = Thread.currentThread().getId();
+
+    final OSBTree<Object, OIdentifiable> tree = new OSBTree<Object, OIdentifiable>("orderPreservingKeysBenchmark", ".sbt", false,
+        ".nbt", storage);
+    tree.create((OBinarySerializer<Object>) keySerializer, OLinkSerializer.INSTANCE, keyTypes, keySize, false);
+    try {
+      for (int i = 0; i < keys.size(); i++)
+        tree.put(keys.get(i), new ORecordId(1, i));
+
+      final Random random = new Random(42);
+
+      //the first round is warm up
+      long time = 0;
+      long allocated = 0;
+      for (int n = 0; n < 2; n++) {
+        final long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        final long start = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+          if (tree.get(keys.get(random.nextInt(keys.size()))) == null)
+            throw new IllegalStateException("Key is absent");
+        }
+        time = System.nanoTime() - start;
+        allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+      }
+
+      System.out.printf("%-12s, %-30s: %,6d ns, %,6d bytes allocated per look up%n", name,
+          keySerializer.getClass().getSimpleName(), time / LOOKUPS, allocated / LOOKUPS);
+    } finally {
+      tree.delete();
+    }
+  }
+}
@@ -0,0 +1,174 @@
+package com.orientechnologies.orient.core.index.sbtree.local;
+
+import com.orientechnologies.DatabaseAbstractTest;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.OLinkSerializer;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OOrderPreservingKeySerializer;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+
+public class SBTreeOrderPreservingKeysTest extends DatabaseAbstractTest {
+  @Test
+  public void testLongKeys() {
+    final long seed = System.currentTimeMillis();
+    System.out.println("testLongKeys seed : " + seed);
+    final Random random = new Random(seed);
+
+    final OSBTree<Object, OIdentifiable> tree = createTree("orderPreservingLongKeys", false, new OType[] { OType.LONG }, 1);
+    try {
+      final TreeMap<Object, OIdentifiable> expected = new TreeMap<Object, OIdentifiable>();
+      for (int i = 0; i < 20000; i++) {
+        final long key = random.nextLong();
+        tree.put(key, new ORecordId(1, i));
+        expected.put(key, new ORecordId(1, i));
+      }
+
+      final List<Object> keys = new ArrayList<Object>(expected.keySet());
+      for (int i = 0; i < keys.size(); i += 3) {
+        Assert.assertNotNull(tree.remove(keys.get(i)));
+        expected.remove(keys.get(i));
+      }
+
+      assertContent(tree, expected, random);
+
+      //keys of other numeric types are converted to the type of the key
+      final Map.Entry<Object, OIdentifiable> entry = expected.firstEntry();
+      Assert.assertEquals(entry.getValue(), tree.get(entry.getKey().toString()));
+      Assert.assertNull(tree.get(Integer.MAX_VALUE));
+    } finally {
+      tree.delete();
+    }
+  }
+
+  @Test
+  public void testCompositeKeys() {
+    final long seed = System.currentTimeMillis();
+    System.out.println("testCompositeKeys seed : " + seed);
+    final Random random = new Random(seed);
+
+    for (boolean keyCompression : new boolean[] { false, true }) {
+      final OSBTree<Object, OIdentifiable> tree = createTree("orderPreservingCompositeKeys", keyCompression,
+          new OType[] { OType.STRING, OType.INTEGER }, 2);
+      try {
+        final TreeMap<Object, OIdentifiable> expected = new TreeMap<Object, OIdentifiable>();
+        for (int i = 0; i < 20000; i++) {
+          final OCompositeKey key = new OCompositeKey("tenant-" + random.nextInt(20), random.nextInt(100000) - 50000);
+          tree.put(key, new ORecordId(1, i));
+          expected.put(key, new ORecordId(1, i));
+        }
+
+        assertContent(tree, expected, random);
+
+        //look up by the first part of the key
+        for (int i = 0; i < 20; i++) {
+          final OCompositeKey tenant = new OCompositeKey("tenant-" + i);
+          final OSBTree.OSBTreeCursor<Object, OIdentifiable> cursor = tree
+              .iterateEntriesBetween(tenant, true, tenant, true, true);
+
+          final Iterator<Map.Entry<Object, OIdentifiable>> iterator = expected
+              .subMap(new OCompositeKey("tenant-" + i, Integer.MIN_VALUE), true,
+                  new OCompositeKey("tenant-" + i, Integer.MAX_VALUE), true).entrySet().iterator();
+          Map.Entry<Object, OIdentifiable> entry;
+          while ((entry = cursor.next(-1)) != null) {
+            final Map.Entry<Object, OIdentifiable> expectedEntry = iterator.next();
+            Assert.assertEquals(expectedEntry.getKey(), entry.getKey());
+            Assert.assertEquals(expectedEntry.getValue(), entry.getValue());
+          }
+
+          Assert.assertFalse(iterator.hasNext());
+        }
+      } finally {
+        tree.delete();
+      }
+    }
+  }
+
+  @Test
+  public void testIndexesUseOrderPreservingKeys() {
+    final boolean oldOrderPreservingKeys = OGlobalConfiguration.INDEX_ORDER_PRESERVING_KEYS.getValueAsBoolean();
+    OGlobalConfiguration.INDEX_ORDER_PRESERVING_KEYS.setValue(true);
+    try {
+      final OClass person = database.getMetadata().getSchema().createClass("Person");
+      person.createProperty("name", OType.STRING);
+      person.createProperty("age", OType.INTEGER);
+      person.createProperty("salary", OType.DECIMAL);
+      person.createIndex("Person.name_age", OClass.INDEX_TYPE.NOTUNIQUE, "name", "age");
+      person.createIndex("Person.salary", OClass.INDEX_TYPE.NOTUNIQUE, "salary");
+    } finally {
+      OGlobalConfiguration.INDEX_ORDER_PRESERVING_KEYS.setValue(oldOrderPreservingKeys);
+    }
+
+    final OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) database.getStorage().getUnderlying();
+    Assert.assertEquals(OOrderPreservingKeySerializer.ID,
+        storage.getConfiguration().getIndexEngine("Person.name_age").getKeySerializedId());
+    Assert.assertTrue(OOrderPreservingKeySerializer.ID != storage.getConfiguration().getIndexEngine("Person.salary")
+        .getKeySerializedId());
+
+    for (int i = 0; i < 1000; i++) {
+      final ODocument document = new ODocument("Person");
+      document.field("name", "name" + (i % 10));
+      document.field("age", i % 50);
+      document.save();
+    }
+
+    final List<ODocument> result = database
+        .query(new OSQLSynchQuery<ODocument>("select from Person where name = 'name3' and age between 10 and 20"));
+    Assert.assertEquals(20, result.size());
+    for (ODocument document : result) {
+      Assert.assertEquals("name3", document.field("name"));
+      final int age = document.<Integer>field("age");
+      Assert.assertTrue(age >= 10 && age <= 20);
+    }
+
+    Assert.assertEquals(100, database.query(new OSQLSynchQuery<ODocument>("select from Person where name = 'name7'")).size());
+  }
+
+  private OSBTree<Object, OIdentifiable> createTree(String name, boolean keyCompression, OType[] keyTypes, int keySize) {
+    final boolean oldKeyCompression = OGlobalConfiguration.SBTREE_KEY_COMPRESSION.getValueAsBoolean();
+    OGlobalConfiguration.SBTREE_KEY_COMPRESSION.setValue(keyCompression);
+    try {
+      final OSBTree<Object, OIdentifiable> sbTree = new OSBTree<Object, OIdentifiable>(name, ".sbt", false, ".nbt",
+          (OAbstractPaginatedStorage) database.getStorage().getUnderlying());
+      sbTree.create(OOrderPreservingKeySerializer.INSTANCE, OLinkSerializer.INSTANCE, keyTypes, keySize, false);
+      return sbTree;
+    } finally {
+      OGlobalConfiguration.SBTREE_KEY_COMPRESSION.setValue(oldKeyCompression);
+    }
+  }
+
+  private static void assertContent(OSBTree<Object, OIdentifiable> tree, TreeMap<Object, OIdentifiable> expected, Random random) {
+    Assert.assertEquals(expected.size(), tree.size());
+
+    for (Map.Entry<Object, OIdentifiable> entry : expected.entrySet())
+      Assert.assertEquals(entry.getValue(), tree.get(entry.getKey()));
+
+    Assert.assertEquals(expected.firstKey(), tree.firstKey());
+    Assert.assertEquals(expected.lastKey(), tree.lastKey());
+
+    final List<Object> keys = new ArrayList<Object>(expected.keySet());
+    for (int n = 0; n < 20; n++) {
+      final int from = random.nextInt(keys.size());
+      final int to = from + random.nextInt(keys.size() - from);
+
+      final OSBTree.OSBTreeCursor<Object, OIdentifiable> cursor = tree
+          .iterateEntriesBetween(keys.get(from), true, keys.get(to), false, random.nextBoolean());
+      final List<Object> found = new ArrayList<Object>();
+      Map.Entry<Object, OIdentifiable> entry;
+      while ((entry = cursor.next(-1)) != null)
+        found.add(entry.getKey());
+
+      Assert.assertEquals(new HashSet<Object>(keys.subList(from, to)), new HashSet<Object>(found));
+      Assert.assertEquals(to - from, found.size());
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package com.orientechnologies.orient.core.record.impl;
+
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.BytesContainer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ODocumentSerializer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinary;
+
+/**
+ * Compares the time needed to read few fields of a document, with the header scan of the version 0 of the binary format and
+ * with the field directory of the version 1, for documents of different width.
+ */
+public class ORecordSerializerBinaryBenchmark {
+  private static final int   ITERATIONS = 200000;
+  private static final int[] WIDTHS     = { 4, 16, 64, 128, 256, 512 };
+
+  public static void main(String[] args) {
+    new ORecordSerializerBinaryBenchmark().benchmark();
+  }
+
+  public void benchmark() {
+    for (int width : WIDTHS) {
+      final ODocument document = new ODocument();
+      for (int i = 0; i < width; i++)
+        document.field("property" + i, "value" + i);
+
+      //the fields at the beginning, in the middle and at the end of the header
+      final String[] fields = { "property0", "property" + width / 2, "property" + (width - 1) };
+
+      final byte[] v0 = serialize(document, 0);
+      final byte[] v1 = serialize(document, 1);
+
+      //warm up
+      measure(v0, fields);
+      measure(v1, fields);
+
+      System.out.printf("Fields : %d, version 0 : %d ns/record, version 1 : %d ns/record (%d/%d bytes)%n", width,
+          measure(v0, fields), measure(v1, fields), v0.length, v1.length);
+    }
+  }
+
+  private static byte[] serialize(ODocument document, int version) {
+    final BytesContainer container = new BytesContainer();
+    container.bytes[container.alloc(1)] = (byte) version;
+    ORecordSerializerBinary.INSTANCE.getSerializer(version).serialize(document, container, false);
+    return container.fitBytes();
+  }
+
+  private static long measure(byte[] bytes, String[] fields) {
+    final ODocumentSerializer serializer = ORecordSerializerBinary.INSTANCE.getSerializer(bytes[0]);
+
+    final long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++)
+      serializer.deserializePartial(new ODocument(), new BytesContainer(bytes).skip(1), fields);
+
+    return (System.nanoTime() - start) / ITERATIONS;
+  }
+}
@@ -0,0 +1,140 @@
+package com.orientechnologies.orient.core.record.impl;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.BytesContainer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.OBinaryField;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinary;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinaryV0;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ORecordSerializerBinaryV1Test {
+
+  private final ORecordSerializerBinary serializer = new ORecordSerializerBinary();
+
+  @Test
+  public void testWideDocument() {
+    ODocument document = wideDocument(100);
+    byte[] bytes = serializer.toStream(document, false);
+    Assert.assertEquals(1, bytes[0]);
+
+    ODocument full = (ODocument) serializer.fromStream(bytes, new ODocument(), null);
+    Assert.assertEquals(100, full.fields());
+    for (int i = 0; i < 100; i++)
+      Assert.assertEquals(i, (int) full.<Integer>field("field" + i));
+
+    ODocument partial = (ODocument) serializer.fromStream(bytes, new ODocument(), new String[] { "field7", "field93", "missing" });
+    Assert.assertEquals(2, partial.fields());
+    Assert.assertEquals(7, (int) partial.<Integer>field("field7"));
+    Assert.assertEquals(93, (int) partial.<Integer>field("field93"));
+  }
+
+  @Test
+  public void testHashCollisions() {
+    //"Aa" and "BB" have the same hash code, as "AaAa", "AaBB", "BBAa" and "BBBB"
+    Assert.assertEquals("Aa".hashCode(), "BB".hashCode());
+    String[] names = { "Aa", "BB", "AaAa", "AaBB", "BBAa", "BBBB", "x", "y", "z" };
+    ODocument document = new ODocument();
+    for (int i = 0; i < names.length; i++)
+      document.field(names[i], names[i] + i);
+    document.field("nullField", (Object) null);
+
+    byte[] bytes = serializer.toStream(document, false);
+    for (int i = 0; i < names.length; i++) {
+      ODocument partial = (ODocument) serializer.fromStream(bytes, new ODocument(), new String[] { names[i] });
+      Assert.assertEquals(names[i] + i, partial.field(names[i]));
+    }
+
+    ODocument partial = (ODocument) serializer.fromStream(bytes, new ODocument(), new String[] { "nullField", "CC" });
+    Assert.assertTrue(partial.containsField("nullField"));
+    Assert.assertNull(partial.field("nullField"));
+    Assert.assertFalse(partial.containsField("CC"));
+  }
+
+  @Test
+  public void testEmbedded() {
+    ODocument document = wideDocument(20);
+    document.field("embedded", wideDocument(30), OType.EMBEDDED);
+
+    byte[] bytes = serializer.toStream(document, false);
+    ODocument partial = (ODocument) serializer.fromStream(bytes, new ODocument(), new String[] { "embedded" });
+    ODocument embedded = partial.field("embedded");
+    Assert.assertEquals(30, embedded.fields());
+    Assert.assertEquals(29, (int) embedded.<Integer>field("field29"));
+  }
+
+  @Test
+  public void testReadVersion0() {
+    ODocument document = wideDocument(50);
+    BytesContainer container = new BytesContainer();
+    container.bytes[container.alloc(1)] = 0;
+    new ORecordSerializerBinaryV0().serialize(document, container, false);
+    byte[] bytes = container.fitBytes();
+
+    ODocument full = (ODocument) serializer.fromStream(bytes, new ODocument(), null);
+    Assert.assertEquals(50, full.fields());
+    ODocument partial = (ODocument) serializer.fromStream(bytes, new ODocument(), new String[] { "field42" });
+    Assert.assertEquals(42, (int) partial.<Integer>field("field42"));
+    Assert.assertArrayEquals(serializer.getFieldNames(new ODocument(), bytes), full.fieldNames());
+  }
+
+  @Test
+  public void testSchemaProperties() {
+    ODatabaseDocumentTx db = new ODatabaseDocumentTx("memory:" + ORecordSerializerBinaryV1Test.class.getSimpleName());
+    db.create();
+    try {
+      OClass clazz = db.getMetadata().getSchema().createClass("Wide");
+      for (int i = 0; i < 20; i += 2)
+        clazz.createProperty("field" + i, OType.INTEGER);
+
+      ODocument document = new ODocument("Wide");
+      for (int i = 0; i < 20; i++)
+        document.field("field" + i, i);
+
+      byte[] bytes = serializer.toStream(document, false);
+      ODocument partial = (ODocument) serializer.fromStream(bytes, new ODocument(), new String[] { "field4", "field5" });
+      Assert.assertEquals("Wide", partial.getClassName());
+      Assert.assertEquals(4, (int) partial.<Integer>field("field4"));
+      Assert.assertEquals(5, (int) partial.<Integer>field("field5"));
+
+      for (String name : new String[] { "field4", "field5" }) {
+        OBinaryField field = serializer.getCurrentSerializer()
+            .deserializeField(new BytesContainer(bytes).skip(1), clazz, name);
+        Assert.assertNotNull(field);
+        Assert.assertEquals(OType.INTEGER, field.type);
+      }
+      Assert.assertNull(serializer.getCurrentSerializer().deserializeField(new BytesContainer(bytes).skip(1), clazz, "missing"));
+    } finally {
+      db.drop();
+    }
+  }
+
+  @Test
+  public void testWriteVersionOfDatabase() {
+    ODatabaseDocumentTx db = new ODatabaseDocumentTx("memory:" + ORecordSerializerBinaryV1Test.class.getSimpleName() + "Version");
+    db.create();
+    try {
+      Assert.assertEquals(1, db.getStorage().getConfiguration().getRecordSerializerVersion());
+      Assert.assertEquals(1, serializer.toStream(wideDocument(10), false)[0]);
+
+      //databases created with the version 0 format must stay readable by older binaries
+      db.getStorage().getConfiguration().setRecordSerializerVersion(0);
+      byte[] bytes = serializer.toStream(wideDocument(10), false);
+      Assert.assertEquals(0, bytes[0]);
+      Assert.assertEquals(0, serializer.writeClassOnly(new ODocument())[0]);
+      ODocument partial = (ODocument) serializer.fromStream(bytes, new ODocument(), new String[] { "field9" });
+      Assert.assertEquals(9, (int) partial.<Integer>field("field9"));
+    } finally {
+      db.drop();
+    }
+  }
+
+  private static ODocument wideDocument(int fields) {
+    ODocument document = new ODocument();
+    for (int i = 0; i < fields; i++)
+      document.field("field" + i, i);
+    return document;
+  }
+}
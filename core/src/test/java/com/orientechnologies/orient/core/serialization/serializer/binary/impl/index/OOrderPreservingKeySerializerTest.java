@@ -0,0 +1,199 @@
+package com.orientechnologies.orient.core.serialization.serializer.binary.impl.index;
+
+import com.orientechnologies.common.comparator.ODefaultComparator;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OAlwaysGreaterKey;
+import com.orientechnologies.orient.core.index.OAlwaysLessKey;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALChanges;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALChangesTree;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+public class OOrderPreservingKeySerializerTest {
+  private static final OOrderPreservingKeySerializer serializer = OOrderPreservingKeySerializer.INSTANCE;
+
+  @Test
+  public void testOrderOfSimpleKeys() {
+    final long seed = System.currentTimeMillis();
+    System.out.println("testOrderOfSimpleKeys seed : " + seed);
+    final Random random = new Random(seed);
+
+    for (OType type : new OType[] { OType.BOOLEAN, OType.BYTE, OType.SHORT, OType.INTEGER, OType.LONG, OType.FLOAT, OType.DOUBLE,
+        OType.DATETIME, OType.STRING, OType.LINK }) {
+      final List<Object> keys = new ArrayList<Object>();
+      for (int i = 0; i < 1000; i++)
+        keys.add(randomValue(type, random));
+
+      assertOrder(keys, new OType[] { type });
+    }
+  }
+
+  @Test
+  public void testOrderOfSpecialValues() {
+    assertOrder(list(Float.NEGATIVE_INFINITY, -Float.MAX_VALUE, -1f, -Float.MIN_VALUE, -0f, 0f, Float.MIN_VALUE, 1f,
+        Float.MAX_VALUE, Float.POSITIVE_INFINITY, Float.NaN), new OType[] { OType.FLOAT });
+    assertOrder(list(Double.NEGATIVE_INFINITY, -Double.MAX_VALUE, -1d, -Double.MIN_VALUE, -0d, 0d, Double.MIN_VALUE, 1d,
+        Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NaN), new OType[] { OType.DOUBLE });
+    assertOrder(list(Long.MIN_VALUE, -1L, 0L, 1L, Long.MAX_VALUE), new OType[] { OType.LONG });
+    assertOrder(list("", "\0", "~", "\u007f", "\u0080", "߿", "ࠀ", "𐀀", "￿", "a", "a\0", "ab"),
+        new OType[] { OType.STRING });
+  }
+
+  @Test
+  public void testOrderOfCompositeKeys() {
+    final long seed = System.currentTimeMillis();
+    System.out.println("testOrderOfCompositeKeys seed : " + seed);
+    final Random random = new Random(seed);
+
+    final OType[] types = { OType.STRING, OType.INTEGER, OType.DATETIME };
+    final List<Object> keys = new ArrayList<Object>();
+    for (int i = 0; i < 1000; i++)
+      keys.add(new OCompositeKey("tenant-" + random.nextInt(10), random.nextInt(20) - 10, new Date(random.nextInt(100))));
+
+    assertOrder(keys, types);
+  }
+
+  @Test
+  public void testPartialCompositeKeys() {
+    final OType[] types = { OType.STRING, OType.INTEGER };
+
+    final byte[] key = serializer.encode(new OCompositeKey("a", 1), types);
+    final byte[] prefix = serializer.encode(new OCompositeKey("a"), types);
+    final byte[] lowest = serializer.encode(new OCompositeKey("a", new OAlwaysLessKey()), types);
+    final byte[] highest = serializer.encode(new OCompositeKey("a", new OAlwaysGreaterKey()), types);
+    final byte[] next = serializer.encode(new OCompositeKey("ab"), types);
+
+    Assert.assertEquals(0, compare(prefix, key));
+    Assert.assertTrue(compare(lowest, key) < 0);
+    Assert.assertTrue(compare(highest, key) > 0);
+    Assert.assertTrue(compare(highest, next) < 0);
+    Assert.assertTrue(compare(serializer.encode(new OCompositeKey("a", null), types), key) < 0);
+  }
+
+  @Test
+  public void testKeysAreConvertedToKeyTypes() {
+    Assert
+        .assertArrayEquals(serializer.encode(10L, new OType[] { OType.LONG }), serializer.encode(10, new OType[] { OType.LONG }));
+    Assert.assertArrayEquals(serializer.encode(new OCompositeKey("a", 10L), new OType[] { OType.STRING, OType.LONG }),
+        serializer.encode(new OCompositeKey("a", "10"), new OType[] { OType.STRING, OType.LONG }));
+
+    final OType[] types = { OType.LONG };
+    final byte[] stream = new byte[serializer.getObjectSize(10, (Object[]) types)];
+    serializer.serializeNativeObject(10, stream, 0, (Object[]) types);
+    Assert.assertEquals(10L, serializer.deserializeNativeObject(stream, 0));
+
+    Assert.assertEquals(10L, serializer.preprocess(10, (Object[]) types));
+  }
+
+  @Test
+  public void testSerialization() {
+    final OType[] types = { OType.STRING, OType.LONG, OType.LINK, OType.BOOLEAN, OType.DATE };
+    final OCompositeKey compositeKey = new OCompositeKey("ключ", -42L, new ORecordId(12, 34), true, new Date(86400000L));
+
+    assertSerialization(compositeKey, types);
+    assertSerialization("simple key", new OType[] { OType.STRING });
+    assertSerialization(Math.PI, new OType[] { OType.DOUBLE });
+    assertSerialization((short) -7, new OType[] { OType.SHORT });
+  }
+
+  private static void assertSerialization(Object key, OType[] types) {
+    final int size = serializer.getObjectSize(key, (Object[]) types);
+    final int offset = 3;
+
+    final byte[] stream = new byte[size + offset];
+    serializer.serialize(key, stream, offset, (Object[]) types);
+    Assert.assertEquals(size, serializer.getObjectSize(stream, offset));
+    Assert.assertEquals(key, serializer.deserialize(stream, offset));
+
+    serializer.serializeNativeObject(key, stream, offset, (Object[]) types);
+    Assert.assertEquals(size, serializer.getObjectSizeNative(stream, offset));
+    Assert.assertEquals(key, serializer.deserializeNativeObject(stream, offset));
+
+    final ByteBuffer buffer = ByteBuffer.allocate(size + offset).order(ByteOrder.nativeOrder());
+    buffer.position(offset);
+    serializer.serializeInByteBufferObject(key, buffer, (Object[]) types);
+    Assert.assertEquals(size + offset, buffer.position());
+
+    buffer.position(offset);
+    Assert.assertEquals(size, serializer.getObjectSizeInByteBuffer(buffer));
+    buffer.position(offset);
+    Assert.assertEquals(key, serializer.deserializeFromByteBufferObject(buffer));
+    Assert.assertEquals(size + offset, buffer.position());
+
+    final ByteBuffer directBuffer = ByteBuffer.allocateDirect(size + offset).order(ByteOrder.nativeOrder());
+    final byte[] data = new byte[size];
+    serializer.serializeNativeObject(key, data, 0, (Object[]) types);
+
+    final OWALChanges walChanges = new OWALChangesTree();
+    walChanges.setBinaryValue(directBuffer, data, offset);
+
+    Assert.assertEquals(size, serializer.getObjectSizeInByteBuffer(directBuffer, walChanges, offset));
+    Assert.assertEquals(key, serializer.deserializeFromByteBufferObject(directBuffer, walChanges, offset));
+  }
+
+  private static void assertOrder(List<Object> keys, OType[] types) {
+    final List<byte[]> encodedKeys = new ArrayList<byte[]>();
+    for (Object key : keys)
+      encodedKeys.add(serializer.encode(key, types));
+
+    for (int i = 0; i < keys.size(); i++) {
+      for (int j = 0; j < keys.size(); j++) {
+        final int expected = Integer.signum(ODefaultComparator.INSTANCE.compare(keys.get(i), keys.get(j)));
+        Assert.assertEquals(keys.get(i) + " <> " + keys.get(j), expected,
+            Integer.signum(compare(encodedKeys.get(i), encodedKeys.get(j))));
+      }
+    }
+  }
+
+  private static int compare(byte[] first, byte[] second) {
+    return OOrderPreservingKeySerializer.compare(first, 0, first.length, second, 0, second.length);
+  }
+
+  private static List<Object> list(Object... values) {
+    final List<Object> list = new ArrayList<Object>();
+    for (Object value : values)
+      list.add(value);
+
+    return list;
+  }
+
+  private static Object randomValue(OType type, Random random) {
+    switch (type) {
+    case BOOLEAN:
+      return random.nextBoolean();
+    case BYTE:
+      return (byte) random.nextInt();
+    case SHORT:
+      return (short) random.nextInt();
+    case INTEGER:
+      return random.nextInt();
+    case LONG:
+      return random.nextLong();
+    case FLOAT:
+      return (random.nextFloat() - 0.5f) * random.nextInt(1000);
+    case DOUBLE:
+      return (random.nextDouble() - 0.5) * random.nextLong();
+    case DATETIME:
+      return new Date(random.nextLong() >> 16);
+    case STRING: {
+      final char[] chars = new char[random.nextInt(5)];
+      for (int i = 0; i < chars.length; i++)
+        chars[i] = random.nextBoolean() ? (char) ('a' + random.nextInt(3)) : (char) random.nextInt(Character.MAX_VALUE + 1);
+      return new String(chars);
+    }
+    case LINK:
+      return new ORecordId(random.nextInt(5), random.nextInt(5) - 1);
+    default:
+      throw new IllegalArgumentException("Unexpected type " + type);
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.record.OElement;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.*;
+
+public class AggregateProjectionCalculationStepTest {
+  private static final int RECORDS = 1000;
+  private static final int GROUPS  = 300;
+
+  private static ODatabaseDocument db;
+  private static Object            spillThreshold;
+
+  @BeforeClass
+  public static void beforeClass() {
+    spillThreshold = OGlobalConfiguration.QUERY_GROUP_BY_SPILL_THRESHOLD.getValue();
+
+    db = new ODatabaseDocumentTx("memory:AggregateProjectionCalculationStepTest");
+    db.create();
+    db.getMetadata().getSchema().createClass("GroupByTest");
+
+    for (int i = 0; i < RECORDS; i++) {
+      OElement element = db.newElement("GroupByTest");
+      element.setProperty("group", i % GROUPS);
+      element.setProperty("name", "n" + (i % GROUPS));
+      element.setProperty("value", i);
+      element.save();
+    }
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    db.drop();
+    OGlobalConfiguration.QUERY_GROUP_BY_SPILL_THRESHOLD.setValue(spillThreshold);
+  }
+
+  @Test
+  public void testSpilledAggregation() {
+    String query = "select group, name, count(*) as count, sum(value) as sum, avg(value) as avg, min(value) as min, "
+        + "max(value) as max, set(value) as values from GroupByTest group by group";
+
+    OGlobalConfiguration.QUERY_GROUP_BY_SPILL_THRESHOLD.setValue(0);
+    Map<Integer, OResult> expected = execute(query, 0);
+
+    OGlobalConfiguration.QUERY_GROUP_BY_SPILL_THRESHOLD.setValue(50);
+    Map<Integer, OResult> actual = execute(query, 50);
+
+    Assert.assertEquals(GROUPS, actual.size());
+    for (Map.Entry<Integer, OResult> entry : expected.entrySet()) {
+      OResult expectedItem = entry.getValue();
+      OResult item = actual.get(entry.getKey());
+      Assert.assertNotNull(item);
+      for (String name : new String[] { "name", "count", "sum", "avg", "min", "max" }) {
+        Assert.assertEquals(name, (Object) expectedItem.getProperty(name), item.getProperty(name));
+      }
+      Assert.assertEquals(new HashSet<>(expectedItem.getProperty("values")), new HashSet<>(item.getProperty("values")));
+    }
+  }
+
+  @Test
+  public void testNotMergeableAggregation() {
+    //mode() does not support partial results, so all the groups are kept in memory
+    OGlobalConfiguration.QUERY_GROUP_BY_SPILL_THRESHOLD.setValue(50);
+    OResultSet result = db.query("select group, mode(value) as mode from GroupByTest group by group");
+    int count = 0;
+    while (result.hasNext()) {
+      result.next();
+      count++;
+    }
+    Assert.assertEquals(GROUPS, count);
+    Assert.assertEquals(0L, (long) result.getQueryStats().get(AggregateProjectionCalculationStep.STATS_SPILLS));
+    result.close();
+  }
+
+  private Map<Integer, OResult> execute(String query, int budget) {
+    OResultSet result = db.query(query);
+    Map<Integer, OResult> groups = new HashMap<>();
+    while (result.hasNext()) {
+      OResult item = result.next();
+      Assert.assertNull(groups.put(item.getProperty("group"), item));
+    }
+
+    Map<String, Long> stats = result.getQueryStats();
+    Assert.assertEquals((long) budget, (long) stats.get(AggregateProjectionCalculationStep.STATS_MEMORY_BUDGET));
+    if (budget > 0) {
+      Assert.assertTrue(stats.get(AggregateProjectionCalculationStep.STATS_SPILLS) > 0);
+      Assert.assertTrue(stats.get(AggregateProjectionCalculationStep.STATS_SPILLED_GROUPS) >= GROUPS);
+    } else {
+      Assert.assertEquals(0L, (long) stats.get(AggregateProjectionCalculationStep.STATS_SPILLS));
+    }
+    result.close();
+    return groups;
+  }
+}
@@ -0,0 +1,102 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+
+import java.io.File;
+import java.util.Random;
+
+/**
+ * Compares latency of AND/OR/NOT and count queries on low cardinality properties, when the properties have NOTUNIQUE indexes and
+ * when they have BITMAP indexes.
+ */
+public class BitmapIndexBenchmark {
+  private static final int RECORDS = 500000;
+  private static final int QUERIES = 20;
+
+  private static final String[] COLORS    = { "red", "green", "blue", "black", "white" };
+  private static final String[] SIZES     = { "S", "M", "L", "XL" };
+  private static final String[] COUNTRIES = { "IT", "UK", "US", "DE", "FR", "ES", "JP", "CN" };
+
+  private static final String[] CONDITIONS = { "color = 'red' and size = 'S' and country = 'IT'",
+      "(color = 'red' or color = 'blue') and size = 'M'", "color = 'green' and not size = 'L' and not country = 'US'" };
+
+  public static void main(String[] args) {
+    final ODatabaseDocumentTx db = new ODatabaseDocumentTx(
+        "plocal:" + System.getProperty("buildDirectory", ".") + File.separator + BitmapIndexBenchmark.class.getSimpleName());
+    if (db.exists()) {
+      db.open("admin", "admin");
+      db.drop();
+    }
+
+    db.create();
+    try {
+      for (String className : new String[] { "NotUnique", "Bitmap" }) {
+        db.command("create class " + className).close();
+        for (String property : new String[] { "color", "size", "country" }) {
+          db.command("create property " + className + "." + property + " STRING").close();
+          db.command("create index " + className + "." + property + " on " + className + " (" + property + ") " + (
+              "Bitmap".equals(className) ? "BITMAP" : "NOTUNIQUE")).close();
+        }
+        db.command("create property " + className + ".notes STRING").close();
+      }
+
+      final Random random = new Random(1);
+      final char[] notes = new char[256];
+      for (int i = 0; i < RECORDS; i++) {
+        for (int n = 0; n < notes.length; n++)
+          notes[n] = (char) ('a' + random.nextInt(26));
+
+        final String color = COLORS[random.nextInt(COLORS.length)];
+        final String size = SIZES[random.nextInt(SIZES.length)];
+        final String country = COUNTRIES[random.nextInt(COUNTRIES.length)];
+        for (String className : new String[] { "NotUnique", "Bitmap" }) {
+          final ODocument document = new ODocument(className);
+          document.field("color", color);
+          document.field("size", size);
+          document.field("country", country);
+          document.field("notes", new String(notes));
+          document.save();
+        }
+      }
+
+      for (String condition : CONDITIONS) {
+        final long expected = run(db, "NotUnique", "select from NotUnique where " + condition, -1);
+        run(db, "Bitmap", "select from Bitmap where " + condition, expected);
+        run(db, "NotUnique", "select count(*) from NotUnique where " + condition, -1);
+        run(db, "Bitmap", "select count(*) from Bitmap where " + condition, -1);
+      }
+    } finally {
+      db.drop();
+    }
+  }
+
+  private static long run(ODatabaseDocumentTx db, String className, String query, long expected) {
+    try (OResultSet resultSet = db.query(query)) {
+      System.out.println(resultSet.getExecutionPlan().get().prettyPrint(0, 2));
+    }
+
+    //the first round is warm up
+    long time = 0;
+    long count = 0;
+    for (int n = 0; n < 2; n++) {
+      final long start = System.nanoTime();
+      for (int i = 0; i < QUERIES; i++) {
+        count = 0;
+        try (OResultSet resultSet = db.query(query)) {
+          while (resultSet.hasNext()) {
+            resultSet.next();
+            count++;
+          }
+        }
+
+        if (expected >= 0 && count != expected)
+          throw new IllegalStateException("Found " + count + " records instead of " + expected);
+      }
+      time = System.nanoTime() - start;
+    }
+
+    System.out.printf("%-9s: %,12d ns per query, %d results: %s%n", className, time / QUERIES, count, query);
+    return count;
+  }
+}
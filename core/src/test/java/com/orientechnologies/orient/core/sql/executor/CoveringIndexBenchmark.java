@@ -0,0 +1,103 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares latency of queries which read two small fields of the records found by a range of a unique index, when the index
+ * includes the fields and when the records have to be loaded.
+ */
+public class CoveringIndexBenchmark {
+  private static final int RECORDS = 100000;
+  private static final int QUERIES = 20000;
+  private static final int RANGE   = 20;
+
+  public static void main(String[] args) {
+    final ODatabaseDocumentTx db = new ODatabaseDocumentTx(
+        "plocal:" + System.getProperty("buildDirectory", ".") + File.separator + CoveringIndexBenchmark.class.getSimpleName());
+    if (db.exists()) {
+      db.open("admin", "admin");
+      db.drop();
+    }
+
+    db.create();
+    try {
+      for (String className : new String[] { "Plain", "Covered" }) {
+        db.command("create class " + className).close();
+        db.command("create property " + className + ".code STRING").close();
+        db.command("create property " + className + ".status STRING").close();
+        db.command("create property " + className + ".amount DOUBLE").close();
+        db.command("create property " + className + ".notes STRING").close();
+        db.command("create property " + className + ".tags EMBEDDEDLIST STRING").close();
+      }
+      db.command("create index Plain.code on Plain (code) UNIQUE").close();
+      db.command("create index Covered.code on Covered (code) INCLUDE (status, amount) UNIQUE").close();
+
+      final Random random = new Random(1);
+      final char[] notes = new char[1024];
+      for (int i = 0; i < RECORDS; i++) {
+        for (int n = 0; n < notes.length; n++)
+          notes[n] = (char) ('a' + random.nextInt(26));
+
+        final List<String> tags = new ArrayList<String>();
+        for (int n = 0; n < 10; n++)
+          tags.add("tag" + random.nextInt(1000));
+
+        for (String className : new String[] { "Plain", "Covered" }) {
+          final ODocument document = new ODocument(className);
+          document.field("code", code(i));
+          document.field("status", i % 3 == 0 ? "open" : "closed");
+          document.field("amount", random.nextDouble() * 1000);
+          document.field("notes", new String(notes));
+          document.field("tags", tags);
+          document.save();
+        }
+      }
+
+      run(db, "Plain");
+      run(db, "Covered");
+    } finally {
+      db.drop();
+    }
+  }
+
+  private static void run(ODatabaseDocumentTx db, String className) {
+    final String query = "select status, amount from " + className + " where code >= ? and code <= ?";
+    try (OResultSet resultSet = db.query(query, code(0), code(RANGE - 1))) {
+      System.out.println(resultSet.getExecutionPlan().get().prettyPrint(0, 2));
+    }
+
+    final Random random = new Random(42);
+
+    //the first round is warm up
+    long time = 0;
+    for (int n = 0; n < 2; n++) {
+      final long start = System.nanoTime();
+      for (int i = 0; i < QUERIES; i++) {
+        final int from = random.nextInt(RECORDS - RANGE);
+        int count = 0;
+        try (OResultSet resultSet = db.query(query, code(from), code(from + RANGE - 1))) {
+          while (resultSet.hasNext()) {
+            resultSet.next();
+            count++;
+          }
+        }
+
+        if (count != RANGE)
+          throw new IllegalStateException("Found " + count + " records instead of " + RANGE);
+      }
+      time = System.nanoTime() - start;
+    }
+
+    System.out.printf("%-8s: %,8d ns per query of %d records%n", className, time / QUERIES, RANGE);
+  }
+
+  private static String code(int i) {
+    return String.format("C%08d", i);
+  }
+}
@@ -3,9 +3,14 @@ package com.orientechnologies.orient.core.sql.executor;
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.id.ORecordId;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.*;
+import java.util.function.IntFunction;
+
 /**
  * Created by luigidellaquila on 26/07/16.
  */
@@ -42,4 +47,140 @@ public class DistinctExecutionStepTest {
     Assert.assertFalse(res.hasNext());
 
   }
+
+  @Test
+  public void testSpill() {
+    Object spillThreshold = OGlobalConfiguration.QUERY_DISTINCT_SPILL_THRESHOLD.getValue();
+    OGlobalConfiguration.QUERY_DISTINCT_SPILL_THRESHOLD.setValue(50);
+    try {
+      OCommandContext ctx = new OBasicCommandContext();
+      DistinctExecutionStep step = new DistinctExecutionStep(ctx, false);
+      step.setPrevious(createSource(ctx, 1000, i -> {
+        OResultInternal item = new OResultInternal();
+        item.setProperty("name", "n" + (i % 300));
+        item.setProperty("value", i % 300);
+        return item;
+      }));
+
+      Set<String> names = new HashSet<>();
+      OResultSet res = step.syncPull(ctx, 2000);
+      while (res.hasNext()) {
+        OResult item = res.next();
+        Assert.assertTrue(names.add(item.getProperty("name")));
+        Assert.assertEquals("n" + item.getProperty("value"), item.getProperty("name"));
+        Assert.assertTrue(item.getMetadataKeys().isEmpty());
+      }
+      Assert.assertEquals(300, names.size());
+
+      Assert.assertTrue(res.getQueryStats().get(DistinctExecutionStep.STATS_SPILLED_PARTITIONS) > 0);
+      Assert.assertTrue(res.getQueryStats().get(DistinctExecutionStep.STATS_MEMORY_USAGE) > 0);
+      step.close();
+    } finally {
+      OGlobalConfiguration.QUERY_DISTINCT_SPILL_THRESHOLD.setValue(spillThreshold);
+    }
+  }
+
+  @Test
+  public void testOrderedDoesNotSpill() {
+    Object spillThreshold = OGlobalConfiguration.QUERY_DISTINCT_SPILL_THRESHOLD.getValue();
+    OGlobalConfiguration.QUERY_DISTINCT_SPILL_THRESHOLD.setValue(50);
+    try {
+      OCommandContext ctx = new OBasicCommandContext();
+      DistinctExecutionStep step = new DistinctExecutionStep(true, ctx, false);
+      step.setPrevious(createSource(ctx, 900, i -> {
+        OResultInternal item = new OResultInternal();
+        item.setProperty("value", i / 3);
+        return item;
+      }));
+
+      OResultSet res = step.syncPull(ctx, 1000);
+      for (int i = 0; i < 300; i++) {
+        Assert.assertTrue(res.hasNext());
+        Assert.assertEquals((Integer) i, res.next().getProperty("value"));
+      }
+      Assert.assertFalse(res.hasNext());
+      Assert.assertEquals(0L, (long) res.getQueryStats().get(DistinctExecutionStep.STATS_SPILLED_PARTITIONS));
+      step.close();
+    } finally {
+      OGlobalConfiguration.QUERY_DISTINCT_SPILL_THRESHOLD.setValue(spillThreshold);
+    }
+  }
+
+  @Test
+  public void testSingleRidProjection() {
+    OCommandContext ctx = new OBasicCommandContext();
+    DistinctExecutionStep step = new DistinctExecutionStep(ctx, false);
+    step.setPrevious(createSource(ctx, 100, i -> {
+      OResultInternal item = new OResultInternal();
+      item.setProperty("rid", new ORecordId(12, i % 10));
+      return item;
+    }));
+
+    OResultSet res = step.syncPull(ctx, 200);
+    int count = 0;
+    while (res.hasNext()) {
+      res.next();
+      count++;
+    }
+    Assert.assertEquals(10, count);
+    Assert.assertEquals(0L, (long) res.getQueryStats().get(DistinctExecutionStep.STATS_SPILLED_RECORDS));
+    Assert.assertTrue(step.pastItems.isEmpty());
+  }
+
+  @Test
+  public void testEmbeddedCollectionsInDifferentOrder() {
+    OCommandContext ctx = new OBasicCommandContext();
+    DistinctExecutionStep step = new DistinctExecutionStep(ctx, false);
+    step.setPrevious(createSource(ctx, 20, i -> {
+      //equal sets and maps, built in a different order
+      List<String> tags = Arrays.asList("a", "b", "c", "d");
+      Collections.rotate(tags, i % 4);
+      Set<String> tagSet = new LinkedHashSet<>(tags);
+      Map<String, Object> attributes = new LinkedHashMap<>();
+      for (String tag : tags) {
+        attributes.put(tag, Collections.singleton(tag));
+      }
+      OResultInternal item = new OResultInternal();
+      item.setProperty("tags", tagSet);
+      item.setProperty("attributes", attributes);
+      item.setProperty("group", i % 2);
+      return item;
+    }));
+
+    OResultSet res = step.syncPull(ctx, 100);
+    int count = 0;
+    while (res.hasNext()) {
+      res.next();
+      count++;
+    }
+    Assert.assertEquals(2, count);
+    Assert.assertTrue(step.pastItems.isEmpty());
+  }
+
+  @Test
+  public void testKeysWithSameHashAreCompared() {
+    DistinctExecutionStep.DistinctKey first = new DistinctExecutionStep.DistinctKey(new byte[] { 1, 2 }, 42);
+    DistinctExecutionStep.DistinctKey second = new DistinctExecutionStep.DistinctKey(new byte[] { 2, 1 }, 42);
+    DistinctExecutionStep.DistinctKey copy = new DistinctExecutionStep.DistinctKey(new byte[] { 1, 2 }, 42);
+
+    //a hash collision does not discard a different value
+    Set<DistinctExecutionStep.DistinctKey> keys = new HashSet<>();
+    Assert.assertTrue(keys.add(first));
+    Assert.assertTrue(keys.add(second));
+    Assert.assertFalse(keys.add(copy));
+  }
+
+  private static AbstractExecutionStep createSource(OCommandContext ctx, int size, IntFunction<OResult> generator) {
+    return new AbstractExecutionStep(ctx, false) {
+      int next = 0;
+
+      @Override public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
+        OInternalResultSet result = new OInternalResultSet();
+        for (int i = 0; i < nRecords && next < size; i++) {
+          result.add(generator.apply(next++));
+        }
+        return result;
+      }
+    };
+  }
 }
@@ -0,0 +1,99 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+
+import java.io.File;
+import java.util.Random;
+
+/**
+ * Compares latency of queries with an AND of conditions on separately indexed properties, when the indexes have no statistics (one
+ * index is used and the other conditions are checked on the loaded records) and when they are analyzed, so that the RIDs of
+ * several indexes can be intersected before the records are loaded.
+ */
+public class IndexIntersectionBenchmark {
+  private static final int RECORDS = 500000;
+  private static final int QUERIES = 50;
+
+  private static final String[] CONDITIONS = { "a = ? and b = ?", "a = ? and b = ? and c = ?", "a = ? and flag = ?" };
+
+  public static void main(String[] args) {
+    final ODatabaseDocumentTx db = new ODatabaseDocumentTx(
+        "plocal:" + System.getProperty("buildDirectory", ".") + File.separator + IndexIntersectionBenchmark.class.getSimpleName());
+    if (db.exists()) {
+      db.open("admin", "admin");
+      db.drop();
+    }
+
+    db.create();
+    try {
+      for (String className : new String[] { "Plain", "Analyzed" }) {
+        db.command("create class " + className).close();
+        for (String property : new String[] { "a", "b", "c", "flag" }) {
+          db.command("create property " + className + "." + property + " INTEGER").close();
+          db.command("create index " + className + "." + property + " on " + className + " (" + property + ") NOTUNIQUE")
+              .close();
+        }
+        db.command("create property " + className + ".notes STRING").close();
+      }
+
+      final Random random = new Random(1);
+      final char[] notes = new char[256];
+      for (int i = 0; i < RECORDS; i++) {
+        for (int n = 0; n < notes.length; n++)
+          notes[n] = (char) ('a' + random.nextInt(26));
+
+        final int a = random.nextInt(100);
+        final int b = random.nextInt(50);
+        final int c = random.nextInt(20);
+        final int flag = random.nextInt(2);
+        for (String className : new String[] { "Plain", "Analyzed" }) {
+          final ODocument document = new ODocument(className);
+          document.field("a", a);
+          document.field("b", b);
+          document.field("c", c);
+          document.field("flag", flag);
+          document.field("notes", new String(notes));
+          document.save();
+        }
+      }
+      db.command("analyze class Analyzed").close();
+
+      for (String condition : CONDITIONS) {
+        run(db, "Plain", condition);
+        run(db, "Analyzed", condition);
+      }
+    } finally {
+      db.drop();
+    }
+  }
+
+  private static void run(ODatabaseDocumentTx db, String className, String condition) {
+    final String query = "select from " + className + " where " + condition;
+    try (OResultSet resultSet = db.query(query, 1, 1, 1)) {
+      System.out.println(resultSet.getExecutionPlan().get().prettyPrint(0, 2));
+    }
+
+    final Random random = new Random(42);
+
+    //the first round is warm up
+    long time = 0;
+    long results = 0;
+    for (int n = 0; n < 2; n++) {
+      results = 0;
+      final long start = System.nanoTime();
+      for (int i = 0; i < QUERIES; i++) {
+        try (OResultSet resultSet = db.query(query, random.nextInt(100), random.nextInt(2), random.nextInt(20))) {
+          while (resultSet.hasNext()) {
+            resultSet.next();
+            results++;
+          }
+        }
+      }
+      time = System.nanoTime() - start;
+    }
+
+    System.out.printf("%-8s: %,12d ns per query, %d results per query: %s%n", className, time / QUERIES, results / QUERIES,
+        condition);
+  }
+}
@@ -3,6 +3,7 @@ package com.orientechnologies.orient.core.sql.executor;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
 import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexException;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import org.junit.AfterClass;
@@ -10,6 +11,8 @@ import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.Collections;
+
 /**
  * @author Luigi Dell'Aquila (l.dellaquila-(at)-orientdb.com)
  */
@@ -42,6 +45,33 @@ public class OCreateIndexStatementExecutionTest {
     Assert.assertFalse(idx.isUnique());
   }
 
+  @Test public void testIncludedProperties() {
+    String className = "testIncludedProperties";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("name", OType.STRING);
+    clazz.createProperty("surname", OType.STRING);
+    clazz.createProperty("tags", OType.EMBEDDEDLIST, OType.STRING);
+
+    db.command("create index " + className + ".name on " + className + " (name) include (surname) unique").close();
+    OIndex<?> idx = db.getMetadata().getIndexManager().getIndex(className + ".name");
+    Assert.assertEquals(Collections.singletonList("surname"), idx.getInternal().getIncludedFields());
 
+    try {
+      db.command("create index " + className + ".surname on " + className + " (surname) include (name) notunique").close();
+      Assert.fail();
+    } catch (OIndexException e) {
+    }
+    try {
+      db.command("create index " + className + ".surname on " + className + " (surname) include (missing) unique").close();
+      Assert.fail();
+    } catch (OIndexException e) {
+    }
+    try {
+      db.command("create index " + className + ".surname on " + className + " (surname) include (tags) unique").close();
+      Assert.fail();
+    } catch (OIndexException e) {
+    }
+    Assert.assertNull(db.getMetadata().getIndexManager().getIndex(className + ".surname"));
+  }
 
 }
@@ -0,0 +1,165 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class OExecutionPlanCacheTest {
+  private static ODatabaseDocumentTx db;
+
+  @BeforeClass
+  public static void beforeClass() {
+    db = new ODatabaseDocumentTx("memory:OExecutionPlanCacheTest");
+    db.create();
+    OClass clazz = db.getMetadata().getSchema().createClass("PlanCacheTest");
+    clazz.createProperty("name", OType.STRING);
+    clazz.createProperty("value", OType.INTEGER);
+
+    for (int i = 0; i < 100; i++) {
+      OElement element = db.newElement("PlanCacheTest");
+      element.setProperty("name", "n" + i);
+      element.setProperty("value", i);
+      element.save();
+    }
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    db.drop();
+  }
+
+  @Before
+  public void before() {
+    getCache().invalidate();
+  }
+
+  @Test
+  public void testCachedPlan() {
+    OExecutionPlanCache cache = getCache();
+    String query = "select from PlanCacheTest where value < ? order by value";
+    long misses = cache.getMisses();
+    long hits = cache.getHits();
+
+    Assert.assertEquals(10, count(db.query(query, 10)));
+    Assert.assertEquals(misses + 1, cache.getMisses());
+    Assert.assertEquals(1, cache.size());
+
+    //parameters are evaluated at execution time, not when the plan is created
+    Assert.assertEquals(20, count(db.query(query, 20)));
+    Assert.assertEquals(hits + 1, cache.getHits());
+
+    OResultSet explain = db.query("explain " + query, 30);
+    OResult plan = explain.next();
+    explain.close();
+    Assert.assertTrue(plan.<String>getProperty("executionPlanAsString").contains("(cached plan)"));
+    Assert.assertEquals(hits + 2, cache.getHits());
+  }
+
+  @Test
+  public void testSchemaChange() {
+    OExecutionPlanCache cache = getCache();
+    String query = "select from PlanCacheTest where name = ?";
+
+    Assert.assertEquals(1, count(db.query(query, "n3")));
+    Assert.assertEquals(1, cache.size());
+    OSelectExecutionPlan plan = (OSelectExecutionPlan) db.query(query, "n3").getExecutionPlan().get();
+    Assert.assertTrue(plan.isCached());
+    Assert.assertFalse(plan.prettyPrint(0, 2).contains("FETCH FROM INDEX"));
+
+    //the new index makes the cached plan invalid
+    db.command("create index PlanCacheTest.name on PlanCacheTest (name) notunique").close();
+    try {
+      OResultSet result = db.query(query, "n3");
+      plan = (OSelectExecutionPlan) result.getExecutionPlan().get();
+      Assert.assertFalse(plan.isCached());
+      Assert.assertTrue(plan.prettyPrint(0, 2).contains("FETCH FROM INDEX"));
+      Assert.assertEquals(1, count(result));
+    } finally {
+      db.command("drop index PlanCacheTest.name").close();
+    }
+  }
+
+  @Test
+  public void testParametricLimitNotCached() {
+    OExecutionPlanCache cache = getCache();
+    String query = "select from PlanCacheTest order by value limit ?";
+
+    Assert.assertEquals(5, count(db.query(query, 5)));
+    Assert.assertEquals(15, count(db.query(query, 15)));
+    Assert.assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testClusterReplaced() {
+    int clusterId = db.addCluster("plancachetest_a");
+    db.save(new ODocument().field("value", 1), "plancachetest_a");
+    String query = "select from cluster:plancachetest_a";
+    Assert.assertEquals(1, count(db.query(query)));
+    Assert.assertEquals(1, getCache().size());
+
+    //same number of clusters, the id of the dropped cluster can be taken by the new one
+    db.dropCluster("plancachetest_a", false);
+    int newClusterId = db.addCluster("plancachetest_b", clusterId, new Object[0]);
+    try {
+      Assert.assertEquals(clusterId, newClusterId);
+      try {
+        count(db.query(query));
+        Assert.fail();
+      } catch (OCommandExecutionException e) {
+        //the cluster does not exist anymore
+      }
+    } finally {
+      db.dropCluster("plancachetest_b", false);
+    }
+  }
+
+  @Test
+  public void testCachedIndexPlanInOtherSession() {
+    db.command("create index PlanCacheTest.value on PlanCacheTest (value) notunique").close();
+    ODatabaseDocumentTx other = null;
+    try {
+      String query = "select from PlanCacheTest where value = ?";
+      Assert.assertEquals(1, count(db.query(query, 10)));
+      Assert.assertEquals(1, getCache().size());
+
+      other = new ODatabaseDocumentTx(db.getURL()).open("admin", "admin");
+      other.begin();
+      OElement element = other.newElement("PlanCacheTest");
+      element.setProperty("value", 10);
+      element.save();
+      //the copy of the cached plan sees the transaction of the session that runs it
+      OResultSet result = other.query(query, 10);
+      Assert.assertTrue(((OSelectExecutionPlan) result.getExecutionPlan().get()).isCached());
+      Assert.assertEquals(2, count(result));
+      other.rollback();
+    } finally {
+      if (other != null) {
+        other.close();
+      }
+      db.activateOnCurrentThread();
+      db.command("drop index PlanCacheTest.value").close();
+    }
+  }
+
+  private static OExecutionPlanCache getCache() {
+    return OExecutionPlanCache.instance(db);
+  }
+
+  private static int count(OResultSet result) {
+    int count = 0;
+    while (result.hasNext()) {
+      result.next();
+      count++;
+    }
+    result.close();
+    return count;
+  }
+}
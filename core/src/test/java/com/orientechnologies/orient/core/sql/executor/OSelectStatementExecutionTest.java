@@ -1,12 +1,17 @@
 package com.orientechnologies.orient.core.sql.executor;
 
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.exception.OSecurityAccessException;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OSchema;
 import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.metadata.security.ORole;
+import com.orientechnologies.orient.core.metadata.security.ORule;
+import com.orientechnologies.orient.core.metadata.security.OSecurity;
 import com.orientechnologies.orient.core.record.OElement;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.OCommandSQL;
@@ -1327,10 +1332,9 @@ public class OSelectStatementExecutionTest {
     OExecutionPlan p2 = p.get();
     Assert.assertTrue(p2 instanceof OSelectExecutionPlan);
     OSelectExecutionPlan plan = (OSelectExecutionPlan) p2;
-    Assert.assertEquals(2, plan.getSteps().size());
-    Assert.assertEquals(ParallelExecStep.class, plan.getSteps().get(0).getClass());
-    ParallelExecStep parallel = (ParallelExecStep) plan.getSteps().get(0);
-    Assert.assertEquals(2, parallel.getSubExecutionPlans().size());
+    Assert.assertEquals(3, plan.getSteps().size());
+    Assert.assertEquals(FetchRidsFromIndexesStep.class, plan.getSteps().get(0).getClass());
+    Assert.assertEquals(GetValueFromIndexEntryStep.class, plan.getSteps().get(1).getClass());
     result.close();
   }
 
@@ -1929,6 +1933,37 @@ public class OSelectStatementExecutionTest {
     result.close();
   }
 
+  @Test
+  public void testDistinctOrderByWithSpillThreshold() {
+    String className = "testDistinctOrderByWithSpillThreshold";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("name", OType.STRING);
+    clazz.createProperty("value", OType.INTEGER);
+
+    for (int i = 0; i < 1000; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("name", "name" + (i % 200));
+      doc.setProperty("value", i % 200);
+      doc.save();
+    }
+
+    Object spillThreshold = OGlobalConfiguration.QUERY_DISTINCT_SPILL_THRESHOLD.getValue();
+    OGlobalConfiguration.QUERY_DISTINCT_SPILL_THRESHOLD.setValue(20);
+    try {
+      OResultSet result = db.query("select distinct name, value from " + className + " order by value skip 50 limit 100");
+      printExecutionPlan(result);
+      for (int i = 50; i < 150; i++) {
+        Assert.assertTrue(result.hasNext());
+        Assert.assertEquals((Integer) i, result.next().getProperty("value"));
+      }
+      Assert.assertFalse(result.hasNext());
+      Assert.assertEquals(0L, (long) result.getQueryStats().get(DistinctExecutionStep.STATS_SPILLED_RECORDS));
+      result.close();
+    } finally {
+      OGlobalConfiguration.QUERY_DISTINCT_SPILL_THRESHOLD.setValue(spillThreshold);
+    }
+  }
+
   @Test
   public void testLet1() {
     OResultSet result = db.query("select $a as one, $b as two let $a = 1, $b = 1+1");
@@ -3249,4 +3284,419 @@ public class OSelectStatementExecutionTest {
     result.close();
   }
 
+  @Test
+  public void testCoveringIndex() {
+    String className = "testCoveringIndex";
+    db.command("create class " + className).close();
+    db.command("create property " + className + ".name STRING").close();
+    db.command("create property " + className + ".surname STRING").close();
+    db.command("create property " + className + ".age INTEGER").close();
+    db.command("create property " + className + ".city STRING").close();
+    db.command("create index " + className + ".name on " + className + " (name) INCLUDE (surname, age) UNIQUE").close();
+    for (int i = 0; i < 10; i++) {
+      db.command("insert into " + className + " set name = 'name" + i + "', surname = 'surname" + i + "', age = " + i
+          + ", city = 'city" + i + "'").close();
+    }
+
+    OResultSet result = db.query("select name, surname, age from " + className + " where name = 'name3'");
+    Assert.assertTrue(hasStep(result, GetCoveredValuesFromIndexEntryStep.class));
+    OResult item = result.next();
+    Assert.assertEquals("name3", item.getProperty("name"));
+    Assert.assertEquals("surname3", item.getProperty("surname"));
+    Assert.assertEquals((Integer) 3, item.getProperty("age"));
+    Assert.assertFalse(result.hasNext());
+    result.close();
+
+    result = db.query("select surname, age as a from " + className + " where name < 'name4' order by name desc");
+    Assert.assertTrue(hasStep(result, GetCoveredValuesFromIndexEntryStep.class));
+    for (int i = 3; i >= 0; i--) {
+      item = result.next();
+      Assert.assertEquals("surname" + i, item.getProperty("surname"));
+      Assert.assertEquals((Integer) i, item.getProperty("a"));
+    }
+    Assert.assertFalse(result.hasNext());
+    result.close();
+
+    result = db.query("select name, city from " + className + " where name = 'name3'");
+    Assert.assertFalse(hasStep(result, GetCoveredValuesFromIndexEntryStep.class));
+    Assert.assertEquals("city3", result.next().getProperty("city"));
+    result.close();
+
+    result = db.query("select from " + className + " where name = 'name3'");
+    Assert.assertFalse(hasStep(result, GetCoveredValuesFromIndexEntryStep.class));
+    result.close();
+
+    result = db.query("select name from " + className + " where name = 'name3' and city = 'city3'");
+    Assert.assertFalse(hasStep(result, GetCoveredValuesFromIndexEntryStep.class));
+    Assert.assertEquals("name3", result.next().getProperty("name"));
+    result.close();
+  }
+
+  @Test
+  public void testCoveringIndexOnRestrictedClass() {
+    String className = "testCoveringIndexOnRestrictedClass";
+    db.command("create class " + className + " extends ORestricted").close();
+    db.command("create property " + className + ".name STRING").close();
+    db.command("create property " + className + ".surname STRING").close();
+    db.command("create index " + className + ".name on " + className + " (name) INCLUDE (surname) UNIQUE").close();
+
+    ODatabaseDocumentTx writer = new ODatabaseDocumentTx(db.getURL());
+    writer.open("writer", "writer");
+    try {
+      writer.command("insert into " + className + " set name = 'name1', surname = 'surname1'").close();
+
+      OResultSet result = writer.query("select name, surname from " + className + " where name = 'name1'");
+      Assert.assertFalse(hasStep(result, GetCoveredValuesFromIndexEntryStep.class));
+      Assert.assertEquals("surname1", result.next().getProperty("surname"));
+      Assert.assertFalse(result.hasNext());
+      result.close();
+    } finally {
+      writer.close();
+    }
+
+    //the record is readable only by the user who created it, the index entry must not expose its included fields
+    ODatabaseDocumentTx reader = new ODatabaseDocumentTx(db.getURL());
+    reader.open("reader", "reader");
+    try {
+      OResultSet result = reader.query("select name, surname from " + className + " where name = 'name1'");
+      Assert.assertFalse(result.hasNext());
+      result.close();
+    } finally {
+      reader.close();
+    }
+
+    db.activateOnCurrentThread();
+  }
+
+  @Test
+  public void testCoveringIndexWithoutClusterRead() {
+    String className = "testCoveringIndexWithoutClusterRead";
+    db.command("create class " + className).close();
+    db.command("create property " + className + ".name STRING").close();
+    db.command("create property " + className + ".surname STRING").close();
+    db.command("create index " + className + ".name on " + className + " (name) INCLUDE (surname) UNIQUE").close();
+    db.command("insert into " + className + " set name = 'name1', surname = 'surname1'").close();
+    String userName = createUserWithoutClusterRead(className);
+
+    //the included fields are not readable from the index entry, as the record could not be loaded
+    ODatabaseDocumentTx user = new ODatabaseDocumentTx(db.getURL());
+    user.open(userName, userName);
+    try (OResultSet result = user.query("select name, surname from " + className + " where name = 'name1'")) {
+      Assert.assertTrue(hasStep(result, GetCoveredValuesFromIndexEntryStep.class));
+      result.next();
+      Assert.fail();
+    } catch (OSecurityAccessException e) {
+      //expected, as if the record was loaded
+    } finally {
+      user.close();
+    }
+
+    db.activateOnCurrentThread();
+    Assert.assertEquals("surname1", querySurname(className, "name1"));
+  }
+
+  @Test
+  public void testCoveringIndexUpdates() {
+    String className = "testCoveringIndexUpdates";
+    db.command("create class " + className).close();
+    db.command("create property " + className + ".name STRING").close();
+    db.command("create property " + className + ".surname STRING").close();
+    db.command("create index " + className + ".name on " + className + " (name) INCLUDE (surname) UNIQUE").close();
+    db.command("insert into " + className + " set name = 'foo', surname = 'bar'").close();
+
+    db.command("update " + className + " set surname = 'baz' where name = 'foo'").close();
+    Assert.assertEquals("baz", querySurname(className, "foo"));
+
+    db.command("update " + className + " set name = 'qux', surname = 'quux' where name = 'foo'").close();
+    Assert.assertNull(querySurname(className, "foo"));
+    Assert.assertEquals("quux", querySurname(className, "qux"));
+
+    db.begin();
+    db.command("update " + className + " set surname = 'corge' where name = 'qux'").close();
+    Assert.assertEquals("corge", querySurname(className, "qux"));
+    db.commit();
+    Assert.assertEquals("corge", querySurname(className, "qux"));
+
+    db.command("rebuild index " + className + ".name").close();
+    Assert.assertEquals("corge", querySurname(className, "qux"));
+
+    db.command("delete from " + className + " where name = 'qux'").close();
+    Assert.assertNull(querySurname(className, "qux"));
+  }
+
+  @Test
+  public void testBitmapIndexes() {
+    String className = "testBitmapIndexes";
+    createBitmapIndexClass(className);
+
+    //color is one of red, green, blue, size is one of S, M, L, XL
+    assertBitmapQuery(className, "color = 'red'", 40, true);
+    assertBitmapQuery(className, "color = 'red' and size = 'S'", 10, true);
+    assertBitmapQuery(className, "color = 'red' or size = 'S'", 60, true);
+    assertBitmapQuery(className, "color = 'red' and not size = 'S'", 30, true);
+    assertBitmapQuery(className, "(color = 'red' or color = 'green') and not (size = 'S' or size = 'M')", 40, true);
+    assertBitmapQuery(className, "color = 'red' and size = 'S' and num < 60", 5, true);
+    assertBitmapQuery(className, "color = ? and size = ?", 10, true, "red", "S");
+    assertBitmapQuery(className, "color = 'red' or num < 10", 46, false);
+    assertBitmapQuery(className, "not color = 'red'", 80, false);
+    assertBitmapQuery(className, "color = 'yellow' and size = 'S'", 0, true);
+
+    try (OResultSet result = db.query("explain select from " + className + " where color = 'red' and not size = 'S'")) {
+      String plan = result.getExecutionPlan().get().prettyPrint(0, 2);
+      Assert.assertTrue(plan, plan.contains("FETCH FROM BITMAP INDEXES"));
+      Assert.assertTrue(plan, plan.contains(className + ".color"));
+      Assert.assertTrue(plan, plan.contains("AND NOT"));
+    }
+
+    db.begin();
+    db.command("insert into " + className + " set color = 'red', size = 'S', num = 1000").close();
+    assertBitmapQuery(className, "color = 'red' and size = 'S'", 11, true);
+    db.rollback();
+    assertBitmapQuery(className, "color = 'red' and size = 'S'", 10, true);
+  }
+
+  @Test
+  public void testBitmapIndexCount() {
+    String className = "testBitmapIndexCount";
+    createBitmapIndexClass(className);
+
+    assertBitmapCount(className, "color = 'red'", 40, true);
+    assertBitmapCount(className, "color = 'red' and size = 'S'", 10, true);
+    assertBitmapCount(className, "(color = 'red' or size = 'S') and not color = 'blue'", 50, true);
+    assertBitmapCount(className, "color = 'red' and num < 60", 20, false);
+    assertBitmapCount(className, "color = 'yellow'", 0, true);
+
+    db.command("create class " + className + "Sub extends " + className).close();
+    db.command("insert into " + className + "Sub set color = 'red', size = 'S', num = 1000").close();
+    assertBitmapCount(className, "color = 'red'", 41, true);
+    //the index of the superclass also indexes the records of the superclass
+    assertBitmapCount(className + "Sub", "color = 'red'", 1, false);
+  }
+
+  @Test
+  public void testBitmapIndexCountOnRestrictedClass() {
+    String className = "testBitmapIndexCountOnRestrictedClass";
+    db.command("create class " + className + " extends ORestricted").close();
+    db.command("create property " + className + ".color STRING").close();
+    db.command("create index " + className + ".color on " + className + " (color) BITMAP").close();
+
+    ODatabaseDocumentTx writer = new ODatabaseDocumentTx(db.getURL());
+    writer.open("writer", "writer");
+    try {
+      for (int i = 0; i < 3; i++) {
+        writer.command("insert into " + className + " set color = 'red'").close();
+      }
+    } finally {
+      writer.close();
+    }
+
+    //the records are readable only by the user who created them, the bitmap cardinality would count them all
+    ODatabaseDocumentTx reader = new ODatabaseDocumentTx(db.getURL());
+    reader.open("reader", "reader");
+    try (OResultSet result = reader.query("select count(*) as count from " + className + " where color = 'red'")) {
+      Assert.assertFalse(hasStep(result, CountFromBitmapIndexesStep.class));
+      Assert.assertEquals(0L, (long) result.next().<Long>getProperty("count"));
+    } finally {
+      reader.close();
+    }
+
+    db.activateOnCurrentThread();
+  }
+
+  @Test
+  public void testBitmapIndexCountWithoutClusterRead() {
+    String className = "testBitmapIndexCountWithoutClusterRead";
+    createBitmapIndexClass(className);
+    String userName = createUserWithoutClusterRead(className);
+
+    ODatabaseDocumentTx user = new ODatabaseDocumentTx(db.getURL());
+    user.open(userName, userName);
+    try (OResultSet result = user.query("select count(*) as count from " + className + " where color = 'red'")) {
+      Assert.assertTrue(hasStep(result, CountFromBitmapIndexesStep.class));
+      result.next();
+      Assert.fail();
+    } catch (OSecurityAccessException e) {
+      //expected, as if the records were loaded
+    } finally {
+      user.close();
+    }
+
+    db.activateOnCurrentThread();
+  }
+
+  @Test
+  public void testIndexIntersection() {
+    String className = "testIndexIntersection";
+    db.command("create class " + className).close();
+    for (String property : new String[] { "a", "b", "c" }) {
+      db.command("create property " + className + "." + property + " INTEGER").close();
+      db.command("create index " + className + "." + property + " on " + className + " (" + property + ") NOTUNIQUE").close();
+    }
+    db.command("create property " + className + ".d INTEGER").close();
+    for (int i = 0; i < 2000; i++) {
+      db.command("insert into " + className + " set a = ?, b = ?, c = ?, d = ?", i % 20, i % 25, i % 2, i).close();
+    }
+
+    String query = "select from " + className + " where a = 1 and b = 1";
+    //without statistics the intersection is never chosen
+    try (OResultSet result = db.query(query)) {
+      Assert.assertFalse(hasStep(result, FetchRidsFromIndexesStep.class));
+      Assert.assertEquals(20, result.stream().count());
+    }
+
+    db.command("analyze class " + className).close();
+    try (OResultSet result = db.query(query)) {
+      Assert.assertTrue(hasStep(result, FetchRidsFromIndexesStep.class));
+      Assert.assertEquals(20, result.stream().filter(x -> x.<Integer>getProperty("d") % 100 == 1).count());
+    }
+    try (OResultSet result = db.query("select from " + className + " where a = 1 and b = 1 and d < 1000")) {
+      Assert.assertTrue(hasStep(result, FetchRidsFromIndexesStep.class));
+      Assert.assertTrue(hasStep(result, FilterStep.class));
+      Assert.assertEquals(10, result.stream().count());
+    }
+    try (OResultSet result = db.query("explain " + query)) {
+      String plan = result.getExecutionPlan().get().prettyPrint(0, 2);
+      Assert.assertTrue(plan, plan.contains("INTERSECTION OF RIDS"));
+      Assert.assertTrue(plan, plan.contains(className + ".a"));
+      Assert.assertTrue(plan, plan.contains(className + ".b"));
+    }
+
+    //c = 1 matches half of the records, the intersection is not much smaller than the records matching b = 1
+    try (OResultSet result = db.query("select from " + className + " where b = 1 and c = 1")) {
+      Assert.assertFalse(hasStep(result, FetchRidsFromIndexesStep.class));
+      Assert.assertEquals(40, result.stream().count());
+    }
+
+    db.begin();
+    db.command("insert into " + className + " set a = 1, b = 1, c = 0, d = -1").close();
+    try (OResultSet result = db.query(query)) {
+      Assert.assertTrue(hasStep(result, FetchRidsFromIndexesStep.class));
+      Assert.assertEquals(21, result.stream().count());
+    }
+    db.rollback();
+  }
+
+  @Test
+  public void testIndexUnion() {
+    String className = "testIndexUnion";
+    db.command("create class " + className).close();
+    for (String property : new String[] { "a", "b" }) {
+      db.command("create property " + className + "." + property + " INTEGER").close();
+      db.command("create index " + className + "." + property + " on " + className + " (" + property + ") NOTUNIQUE").close();
+    }
+    for (int i = 0; i < 100; i++) {
+      db.command("insert into " + className + " set a = ?, b = ?, c = ?", i % 10, i % 4, i).close();
+    }
+
+    //a = 1 and b = 1 match the same records, that are returned once
+    try (OResultSet result = db.query("select from " + className + " where a = 1 or b = 1")) {
+      Assert.assertTrue(hasStep(result, FetchRidsFromIndexesStep.class));
+      Assert.assertEquals(10 + 25 - 5, result.stream().map(x -> x.getIdentity().get()).distinct().count());
+    }
+    try (OResultSet result = db.query("select from " + className + " where a = 1 or b = 1")) {
+      Assert.assertEquals(30, result.stream().count());
+    }
+    try (OResultSet result = db.query("select from " + className + " where (a = 1 and c < 50) or b = 1")) {
+      Assert.assertTrue(hasStep(result, FilterStep.class));
+      Assert.assertEquals(5 + 25 - 3, result.stream().count());
+    }
+  }
+
+  @Test
+  public void testIndexRidsFetchedConcurrently() {
+    String className = "testIndexRidsFetchedConcurrently";
+    db.command("create class " + className).close();
+    for (String property : new String[] { "a", "b" }) {
+      db.command("create property " + className + "." + property + " INTEGER").close();
+      db.command("create index " + className + "." + property + " on " + className + " (" + property + ") NOTUNIQUE").close();
+    }
+    for (int i = 0; i < 2000; i++) {
+      db.command("insert into " + className + " set a = ?, b = ?", i % 20, i % 25).close();
+    }
+    db.command("analyze class " + className).close();
+
+    boolean oldValue = OGlobalConfiguration.QUERY_PARALLEL_SUB_PLANS.getValueAsBoolean();
+    OGlobalConfiguration.QUERY_PARALLEL_SUB_PLANS.setValue(true);
+    try {
+      try (OResultSet result = db.query("select from " + className + " where a = 1 or b = 1")) {
+        Assert.assertTrue(hasStep(result, FetchRidsFromIndexesStep.class));
+        Assert.assertEquals(100 + 80 - 20, result.stream().count());
+      }
+      try (OResultSet result = db.query("select from " + className + " where a = 1 and b = 1")) {
+        Assert.assertTrue(hasStep(result, FetchRidsFromIndexesStep.class));
+        Assert.assertEquals(20, result.stream().count());
+      }
+      //a = 1 and b = 2 never match the same record
+      try (OResultSet result = db.query("select from " + className + " where a = 1 and b = 2")) {
+        Assert.assertTrue(hasStep(result, FetchRidsFromIndexesStep.class));
+        Assert.assertEquals(0, result.stream().count());
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_PARALLEL_SUB_PLANS.setValue(oldValue);
+    }
+  }
+
+  private void createBitmapIndexClass(String className) {
+    db.command("create class " + className).close();
+    db.command("create property " + className + ".color STRING").close();
+    db.command("create property " + className + ".size STRING").close();
+    db.command("create property " + className + ".num INTEGER").close();
+    db.command("create index " + className + ".color on " + className + " (color) BITMAP").close();
+    db.command("create index " + className + ".size on " + className + " (size) BITMAP").close();
+    String[] colors = { "red", "green", "blue" };
+    String[] sizes = { "S", "M", "L", "XL" };
+    for (int i = 0; i < 120; i++) {
+      db.command("insert into " + className + " set color = ?, size = ?, num = ?", colors[i % 3], sizes[i % 4], i).close();
+    }
+  }
+
+  /**
+   * creates a user that can read everything a reader can, except for the clusters of the given class
+   *
+   * @return the name of the user, that is also its password
+   */
+  private String createUserWithoutClusterRead(String className) {
+    OSecurity security = db.getMetadata().getSecurity();
+    String name = className + "User";
+    ORole role = security.createRole(name + "Role", security.getRole("reader"), ORole.ALLOW_MODES.DENY_ALL_BUT);
+    for (int clusterId : db.getMetadata().getSchema().getClass(className).getClusterIds()) {
+      role.revoke(ORule.ResourceGeneric.CLUSTER, db.getClusterNameById(clusterId), ORole.PERMISSION_READ);
+    }
+    role.save();
+    security.createUser(name, name, role);
+    return name;
+  }
+
+  private void assertBitmapQuery(String className, String condition, int expected, boolean usesBitmapIndexes,
+      Object... args) {
+    try (OResultSet result = db.query("select from " + className + " where " + condition, args)) {
+      Assert.assertEquals(condition, usesBitmapIndexes, hasStep(result, FetchFromBitmapIndexesStep.class));
+      Assert.assertEquals(condition, expected, result.stream().count());
+    }
+  }
+
+  private void assertBitmapCount(String className, String condition, long expected, boolean usesBitmapIndexes) {
+    try (OResultSet result = db.query("select count(*) as count from " + className + " where " + condition)) {
+      Assert.assertEquals(condition, usesBitmapIndexes, hasStep(result, CountFromBitmapIndexesStep.class));
+      Assert.assertEquals(condition, expected, (long) result.next().<Long>getProperty("count"));
+      Assert.assertFalse(result.hasNext());
+    }
+  }
+
+  private String querySurname(String className, String name) {
+    try (OResultSet result = db.query("select surname from " + className + " where name = ?", name)) {
+      Assert.assertTrue(hasStep(result, GetCoveredValuesFromIndexEntryStep.class));
+      return result.hasNext() ? result.next().getProperty("surname") : null;
+    }
+  }
+
+  private static boolean hasStep(OResultSet result, Class<? extends OExecutionStep> stepClass) {
+    for (OExecutionStep step : result.getExecutionPlan().get().getSteps()) {
+      if (stepClass.isInstance(step)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
 }
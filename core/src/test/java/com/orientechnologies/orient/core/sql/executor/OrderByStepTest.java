@@ -0,0 +1,159 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.OElement;
+import org.junit.*;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+public class OrderByStepTest {
+  private static final int RECORDS = 1000;
+
+  private static ODatabaseDocument db;
+  private static Object            spillThreshold;
+
+  @BeforeClass
+  public static void beforeClass() {
+    spillThreshold = OGlobalConfiguration.QUERY_ORDER_BY_SPILL_THRESHOLD.getValue();
+    OGlobalConfiguration.QUERY_ORDER_BY_SPILL_THRESHOLD.setValue(100);
+
+    db = new ODatabaseDocumentTx("memory:OrderByStepTest");
+    db.create();
+    db.getMetadata().getSchema().createClass("OrderByTest");
+
+    Random random = new Random(42);
+    for (int i = 0; i < RECORDS; i++) {
+      OElement element = db.newElement("OrderByTest");
+      element.setProperty("name", "n" + i);
+      element.setProperty("value", random.nextInt(RECORDS / 2));
+      element.save();
+    }
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    db.drop();
+    OGlobalConfiguration.QUERY_ORDER_BY_SPILL_THRESHOLD.setValue(spillThreshold);
+  }
+
+  @Test
+  public void testSpilledSort() {
+    OResultSet result = db.query("select from OrderByTest order by value, name");
+
+    Set<ORID> rids = new HashSet<>();
+    OResult previous = null;
+    while (result.hasNext()) {
+      OResult item = result.next();
+      Assert.assertTrue(item.isElement());
+      Assert.assertTrue(rids.add(item.getIdentity().get()));
+      if (previous != null) {
+        assertOrdered(previous, item);
+      }
+      previous = item;
+    }
+    Assert.assertEquals(RECORDS, rids.size());
+
+    Map<String, Long> stats = result.getQueryStats();
+    Assert.assertEquals(100L, (long) stats.get(OrderByStep.STATS_MEMORY_BUDGET));
+    Assert.assertEquals(10L, (long) stats.get(OrderByStep.STATS_SPILLED_RUNS));
+    Assert.assertEquals((long) RECORDS, (long) stats.get(OrderByStep.STATS_SPILLED_RECORDS));
+    result.close();
+  }
+
+  @Test
+  public void testSpilledProjections() {
+    OResultSet result = db.query("select name, value, @rid as rid from OrderByTest order by value desc, name desc");
+
+    Set<Object> rids = new HashSet<>();
+    Integer previous = null;
+    while (result.hasNext()) {
+      OResult item = result.next();
+      Assert.assertTrue(item.isProjection());
+      Assert.assertTrue(rids.add(item.getProperty("rid")));
+      Assert.assertTrue(((String) item.getProperty("name")).startsWith("n"));
+      Integer value = item.getProperty("value");
+      if (previous != null) {
+        Assert.assertTrue(previous >= value);
+      }
+      previous = value;
+    }
+    Assert.assertEquals(RECORDS, rids.size());
+    Assert.assertTrue(result.getQueryStats().get(OrderByStep.STATS_SPILLED_RUNS) > 0);
+    result.close();
+  }
+
+  @Test
+  public void testSpilledSortWithLimit() {
+    OResultSet result = db.query("select from OrderByTest order by value, name skip 10 limit 20");
+
+    OResultSet expected = db.query("select from OrderByTest order by value, name");
+    for (int i = 0; i < 10; i++) {
+      expected.next();
+    }
+    for (int i = 0; i < 20; i++) {
+      Assert.assertTrue(result.hasNext());
+      Assert.assertEquals(expected.next().getIdentity(), result.next().getIdentity());
+    }
+    Assert.assertFalse(result.hasNext());
+    result.close();
+    expected.close();
+  }
+
+  @Test
+  public void testNoSpill() {
+    OGlobalConfiguration.QUERY_ORDER_BY_SPILL_THRESHOLD.setValue(0);
+    try {
+      OResultSet result = db.query("select from OrderByTest order by value");
+      int count = 0;
+      while (result.hasNext()) {
+        result.next();
+        count++;
+      }
+      Assert.assertEquals(RECORDS, count);
+      Assert.assertEquals(0L, (long) result.getQueryStats().get(OrderByStep.STATS_SPILLED_RUNS));
+      result.close();
+    } finally {
+      OGlobalConfiguration.QUERY_ORDER_BY_SPILL_THRESHOLD.setValue(100);
+    }
+  }
+
+  @Test
+  public void testSpillFilesDeletedOnClose() {
+    Set<String> before = listSpillFiles();
+    OResultSet result = db.query("select from OrderByTest order by value");
+    Assert.assertTrue(result.hasNext());
+    result.next();
+    Assert.assertTrue(listSpillFiles().size() > before.size());
+
+    //closed before all the results are read
+    result.close();
+    Assert.assertEquals(before, listSpillFiles());
+  }
+
+  private static Set<String> listSpillFiles() {
+    Set<String> result = new HashSet<>();
+    String[] names = new File(Orient.getTempPath()).list((dir, name) -> name.startsWith("orderBy"));
+    if (names != null) {
+      Collections.addAll(result, names);
+    }
+    return result;
+  }
+
+  private static void assertOrdered(OResult previous, OResult item) {
+    int previousValue = previous.getProperty("value");
+    int value = item.getProperty("value");
+    Assert.assertTrue(previousValue <= value);
+    if (previousValue == value) {
+      Assert.assertTrue(((String) previous.getProperty("name")).compareTo(item.getProperty("name")) < 0);
+    }
+  }
+}
@@ -2,12 +2,17 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
 import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.OElement;
+import org.junit.Assert;
 import org.junit.Test;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
 
 /**
  * Created by luigidellaquila on 26/07/16.
@@ -34,4 +39,105 @@ public class ParallelExecStepTest {
     plan.getSteps().add(new FetchFromRidsStep(Collections.singleton(new ORecordId(12, 100)), ctx,false));
 
   }
+
+  @Test
+  public void testConcurrentSubPlans() {
+    ODatabaseDocument db = new ODatabaseDocumentTx("memory:ParallelExecStepTest_testConcurrentSubPlans");
+    db.create();
+    try {
+      //the superclass has no records, so the indexes of the subclasses are queried by parallel sub-plans
+      OClass parent = db.getMetadata().getSchema().createClass("ParallelTest");
+      for (int i = 0; i < 3; i++) {
+        OClass clazz = db.getMetadata().getSchema().createClass("ParallelTest" + i, parent);
+        clazz.createProperty("a", OType.INTEGER).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+      }
+
+      for (int i = 0; i < 1000; i++) {
+        OElement element = db.newElement("ParallelTest" + (i % 3));
+        element.setProperty("a", i % 10);
+        element.setProperty("name", "n" + i);
+        element.save();
+      }
+
+      String query = "select from ParallelTest where a < 4";
+      List<String> sequential = collectNames(db.query(query));
+
+      boolean oldValue = OGlobalConfiguration.QUERY_PARALLEL_SUB_PLANS.getValueAsBoolean();
+      int oldQueueSize = OGlobalConfiguration.QUERY_PARALLEL_RESULT_QUEUE_SIZE.getValueAsInteger();
+      OGlobalConfiguration.QUERY_PARALLEL_SUB_PLANS.setValue(true);
+      //small queue, so that the workers have to wait for the consumer
+      OGlobalConfiguration.QUERY_PARALLEL_RESULT_QUEUE_SIZE.setValue(5);
+      try {
+        OResultSet result = db.query(query);
+        Assert.assertTrue(result.getExecutionPlan().get().prettyPrint(0, 2).contains("PARALLEL"));
+        Assert.assertEquals(sequential, collectNames(result));
+
+        //close before the end of the sub-plans
+        result = db.query(query + " limit 3");
+        Assert.assertEquals(3, collectNames(result).size());
+
+        result = db.query(query);
+        Assert.assertTrue(result.hasNext());
+        result.next();
+        result.close();
+      } finally {
+        OGlobalConfiguration.QUERY_PARALLEL_SUB_PLANS.setValue(oldValue);
+        OGlobalConfiguration.QUERY_PARALLEL_RESULT_QUEUE_SIZE.setValue(oldQueueSize);
+      }
+    } finally {
+      db.drop();
+    }
+  }
+
+  @Test
+  public void testSubPlansOnSingleThread() {
+    int oldThreads = OGlobalConfiguration.QUERY_PARALLEL_SUB_PLANS_THREADS.getValueAsInteger();
+    //the executor of the database is created with the value set before the first parallel query
+    OGlobalConfiguration.QUERY_PARALLEL_SUB_PLANS_THREADS.setValue(1);
+    ODatabaseDocument db = new ODatabaseDocumentTx("memory:ParallelExecStepTest_testSubPlansOnSingleThread");
+    db.create();
+    try {
+      OClass parent = db.getMetadata().getSchema().createClass("ParallelTest");
+      for (int i = 0; i < 3; i++) {
+        OClass clazz = db.getMetadata().getSchema().createClass("ParallelTest" + i, parent);
+        clazz.createProperty("a", OType.INTEGER).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+      }
+
+      for (int i = 0; i < 300; i++) {
+        OElement element = db.newElement("ParallelTest" + (i % 3));
+        element.setProperty("a", i % 10);
+        element.setProperty("name", "n" + i);
+        element.save();
+      }
+
+      String query = "select from ParallelTest where a < 4";
+      List<String> sequential = collectNames(db.query(query));
+
+      boolean oldValue = OGlobalConfiguration.QUERY_PARALLEL_SUB_PLANS.getValueAsBoolean();
+      int oldQueueSize = OGlobalConfiguration.QUERY_PARALLEL_RESULT_QUEUE_SIZE.getValueAsInteger();
+      OGlobalConfiguration.QUERY_PARALLEL_SUB_PLANS.setValue(true);
+      //the sub-plans that are not consumed yet fill their queues, the one that is consumed has to run anyway
+      OGlobalConfiguration.QUERY_PARALLEL_RESULT_QUEUE_SIZE.setValue(2);
+      try {
+        Assert.assertEquals(sequential, collectNames(db.query(query)));
+        Assert.assertEquals(sequential, collectNames(db.query(query)));
+      } finally {
+        OGlobalConfiguration.QUERY_PARALLEL_SUB_PLANS.setValue(oldValue);
+        OGlobalConfiguration.QUERY_PARALLEL_RESULT_QUEUE_SIZE.setValue(oldQueueSize);
+      }
+    } finally {
+      db.drop();
+      OGlobalConfiguration.QUERY_PARALLEL_SUB_PLANS_THREADS.setValue(oldThreads);
+    }
+  }
+
+  private List<String> collectNames(OResultSet resultSet) {
+    List<String> names = new ArrayList<>();
+    while (resultSet.hasNext()) {
+      names.add(resultSet.next().getProperty("name"));
+    }
+    resultSet.close();
+    Collections.sort(names);
+    return names;
+  }
 }
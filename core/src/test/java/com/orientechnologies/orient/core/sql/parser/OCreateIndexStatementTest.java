@@ -27,6 +27,10 @@ public class OCreateIndexStatementTest extends OParserTestAbstract {
     checkRightSyntax("create index OUser.name UNIQUE ENGINE SBTREE STRING");
     checkRightSyntax("create index OUser.name UNIQUE engine SBTREE STRING");
 
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (bar) INCLUDE (baz) UNIQUE");
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (bar, baz) include (qux, include) UNIQUE METADATA {'foo':'bar'}");
+    checkWrongSyntax("CREATE INDEX Foo.bar on Foo (bar) INCLUDE () UNIQUE");
+    checkWrongSyntax("CREATE INDEX Foo.bar INCLUDE (baz) UNIQUE");
 
   }
 
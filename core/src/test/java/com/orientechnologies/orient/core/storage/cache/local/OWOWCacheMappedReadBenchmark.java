@@ -0,0 +1,101 @@
+package com.orientechnologies.orient.core.storage.cache.local;
+
+import com.orientechnologies.common.collection.closabledictionary.OClosableLinkedContainer;
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OContextConfiguration;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.storage.OChecksumMode;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.local.twoq.O2QCache;
+import com.orientechnologies.orient.core.storage.fs.OFileClassic;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.OLocalPaginatedStorage;
+
+import java.util.Random;
+
+/**
+ * Compares speed of full scan and of random reads of the file which does not fit into read cache when pages are copied into
+ * buffers of disk cache and when they are read from memory mapped windows of the file, see
+ * {@link OGlobalConfiguration#STORAGE_MMAP_READS}. File stays in the OS page cache, so only cost of the read path is measured.
+ */
+public class OWOWCacheMappedReadBenchmark {
+  private static final int PAGE_SIZE    = 64 * 1024;
+  private static final int FILE_PAGES   = 4 * 1024;
+  private static final int CACHE_PAGES  = 512;
+  private static final int SCANS        = 5;
+  private static final int RANDOM_READS = 200 * 1024;
+
+  public static void main(String[] args) throws Exception {
+    OGlobalConfiguration.FILE_LOCK.setValue(Boolean.FALSE);
+
+    final OLocalPaginatedStorage storage = (OLocalPaginatedStorage) Orient.instance().getRunningEngine("plocal")
+        .createStorage(System.getProperty("buildDirectory", ".") + "/OWOWCacheMappedReadBenchmark", null);
+    storage.create(new OContextConfiguration());
+    storage.close(true, false);
+
+    try {
+      for (int n = 0; n < 2; n++) {
+        //the first round is warm up
+        run("classic", storage, false);
+        run("mmap", storage, true);
+      }
+    } finally {
+      storage.delete();
+    }
+  }
+
+  private static void run(String name, OLocalPaginatedStorage storage, boolean mmapReads) throws Exception {
+    OGlobalConfiguration.STORAGE_MMAP_READS.setValue(mmapReads);
+
+    final OClosableLinkedContainer<Long, OFileClassic> files = new OClosableLinkedContainer<>(1024);
+    final OByteBufferPool bufferPool = new OByteBufferPool(PAGE_SIZE);
+    final OWOWCache writeCache = new OWOWCache(PAGE_SIZE, bufferPool, null, -1, 1024L * PAGE_SIZE, storage, false, files, 1,
+        OChecksumMode.StoreAndVerify);
+    writeCache.loadRegisteredFiles();
+
+    final O2QCache readCache = new O2QCache((long) CACHE_PAGES * PAGE_SIZE, PAGE_SIZE, false, 50);
+    final long fileId = readCache.addFile("mappedReadBenchmark.tst", writeCache);
+    try {
+      for (int i = 0; i < FILE_PAGES; i++) {
+        final OCacheEntry cacheEntry = readCache.allocateNewPage(fileId, writeCache, true);
+        cacheEntry.getCachePointer().getSharedBuffer().putLong(1024, i);
+        cacheEntry.markDirty();
+        readCache.releaseFromWrite(cacheEntry, writeCache);
+      }
+
+      writeCache.flush();
+      readCache.clear();
+
+      long sum = 0;
+
+      long start = System.nanoTime();
+      for (int n = 0; n < SCANS; n++)
+        for (int i = 0; i < FILE_PAGES; i++)
+          sum += read(readCache, writeCache, fileId, i);
+      final long scanTime = System.nanoTime() - start;
+
+      final Random random = new Random(42);
+      start = System.nanoTime();
+      for (int n = 0; n < RANDOM_READS; n++)
+        sum += read(readCache, writeCache, fileId, random.nextInt(FILE_PAGES));
+      final long randomTime = System.nanoTime() - start;
+
+      System.out.printf("%-7s: full scan %,7.0f MB/s, random read %,9.0f pages/s (%d)%n", name,
+          (double) SCANS * FILE_PAGES * PAGE_SIZE / (1024 * 1024) / (scanTime / 1e9), RANDOM_READS / (randomTime / 1e9),
+          sum % 10);
+    } finally {
+      readCache.deleteStorage(writeCache);
+      files.clear();
+      OGlobalConfiguration.STORAGE_MMAP_READS.setValue(false);
+    }
+  }
+
+  private static long read(O2QCache readCache, OWOWCache writeCache, long fileId, int pageIndex) throws Exception {
+    final OCacheEntry cacheEntry = readCache.loadForRead(fileId, pageIndex, false, writeCache, 1, true);
+    try {
+      return cacheEntry.getCachePointer().getSharedBuffer().getLong(1024);
+    } finally {
+      readCache.releaseFromRead(cacheEntry, writeCache);
+    }
+  }
+}
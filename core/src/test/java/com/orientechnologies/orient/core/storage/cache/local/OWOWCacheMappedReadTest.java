@@ -0,0 +1,219 @@
+package com.orientechnologies.orient.core.storage.cache.local;
+
+import com.orientechnologies.common.collection.closabledictionary.OClosableLinkedContainer;
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OContextConfiguration;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.OChecksumMode;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.local.twoq.O2QCache;
+import com.orientechnologies.orient.core.storage.fs.OFileClassic;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.OLocalPaginatedStorage;
+import org.junit.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+public class OWOWCacheMappedReadTest {
+  private static final int systemOffset = OIntegerSerializer.INT_SIZE + 3 * OLongSerializer.LONG_SIZE;
+  private static final int PAGE_SIZE    = 64 * 1024;
+
+  /**
+   * Window of 1 megabyte contains 16 pages.
+   */
+  private static final int PAGES_IN_WINDOW = 16;
+
+  private static final OClosableLinkedContainer<Long, OFileClassic> files = new OClosableLinkedContainer<>(1024);
+
+  private static OLocalPaginatedStorage storageLocal;
+
+  private OByteBufferPool bufferPool;
+  private OWOWCache       writeCache;
+  private O2QCache        readCache;
+  private long            fileId;
+
+  @BeforeClass
+  public static void beforeClass() throws IOException {
+    OGlobalConfiguration.FILE_LOCK.setValue(Boolean.FALSE);
+
+    String buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null)
+      buildDirectory = ".";
+
+    storageLocal = (OLocalPaginatedStorage) Orient.instance().getRunningEngine("plocal")
+        .createStorage(buildDirectory + "/OWOWCacheMappedReadTest", null);
+    storageLocal.create(new OContextConfiguration());
+    storageLocal.close(true, false);
+  }
+
+  @AfterClass
+  public static void afterClass() throws IOException {
+    storageLocal.delete();
+  }
+
+  @After
+  public void afterMethod() throws IOException {
+    if (readCache != null) {
+      readCache.deleteStorage(writeCache);
+      readCache = null;
+    }
+
+    files.clear();
+  }
+
+  @Test
+  public void testPagesAreReadFromMappedWindows() throws Exception {
+    init(2 * PAGES_IN_WINDOW + 5);
+
+    final int buffersInPool = bufferPool.getBuffersInThePool();
+
+    final List<OCacheEntry> entries = new ArrayList<>();
+    for (int i = 0; i < 2 * PAGES_IN_WINDOW; i++) {
+      final OCacheEntry cacheEntry = readCache.loadForRead(fileId, i, false, writeCache, 1, true);
+      Assert.assertEquals(i, cacheEntry.getCachePointer().getSharedBuffer().getLong(systemOffset));
+      entries.add(cacheEntry);
+    }
+
+    //pages are not copied into buffers of the pool
+    Assert.assertEquals(buffersInPool, bufferPool.getBuffersInThePool());
+
+    for (OCacheEntry cacheEntry : entries)
+      readCache.releaseFromRead(cacheEntry, writeCache);
+
+    //tail of the file which is smaller than the window is read by file channel
+    for (int i = 2 * PAGES_IN_WINDOW; i < 2 * PAGES_IN_WINDOW + 5; i++)
+      Assert.assertEquals(i, read(i));
+
+    readCache.clear();
+
+    //batch load which crosses the border of the windows
+    final OCacheEntry cacheEntry = readCache.loadForRead(fileId, PAGES_IN_WINDOW - 2, false, writeCache, 8, true);
+    readCache.releaseFromRead(cacheEntry, writeCache);
+
+    for (int i = 0; i < 2 * PAGES_IN_WINDOW + 5; i++)
+      Assert.assertEquals(i, read(i));
+  }
+
+  @Test
+  public void testChangesOfMappedPagesAreWrittenOnlyOnFlush() throws Exception {
+    init(2 * PAGES_IN_WINDOW);
+
+    final OCacheEntry cacheEntry = readCache.loadForWrite(fileId, 3, false, writeCache, 1, true);
+    cacheEntry.getCachePointer().getSharedBuffer().putLong(systemOffset, -3);
+    cacheEntry.markDirty();
+    readCache.releaseFromWrite(cacheEntry, writeCache);
+
+    Assert.assertEquals(3, readFromFile(3));
+    Assert.assertEquals(-3, read(3));
+
+    writeCache.flush();
+    Assert.assertEquals(-3, readFromFile(3));
+
+    readCache.clear();
+    Assert.assertEquals(-3, read(3));
+    Assert.assertEquals(4, read(4));
+  }
+
+  @Test
+  public void testTruncateAndGrowFile() throws Exception {
+    init(PAGES_IN_WINDOW);
+    Assert.assertEquals(5, read(5));
+
+    readCache.truncateFile(fileId, writeCache);
+    Assert.assertNull(readCache.loadForRead(fileId, 5, false, writeCache, 1, true));
+
+    for (int i = 0; i < PAGES_IN_WINDOW; i++) {
+      final OCacheEntry cacheEntry = readCache.allocateNewPage(fileId, writeCache, true);
+      cacheEntry.getCachePointer().getSharedBuffer().putLong(systemOffset, -i);
+      cacheEntry.markDirty();
+      readCache.releaseFromWrite(cacheEntry, writeCache);
+    }
+
+    writeCache.flush();
+    readCache.clear();
+
+    for (int i = 0; i < PAGES_IN_WINDOW; i++)
+      Assert.assertEquals(-i, read(i));
+  }
+
+  @Test
+  public void testFileIsNotTruncatedWhileMappedPageIsUsed() throws Exception {
+    init(PAGES_IN_WINDOW);
+
+    final OCacheEntry cacheEntry = readCache.loadForRead(fileId, 5, false, writeCache, 1, true);
+    try {
+      try {
+        readCache.truncateFile(fileId, writeCache);
+        Assert.fail();
+      } catch (OStorageException e) {
+        //pages are removed from read cache before the file is truncated and used page can not be removed
+      }
+
+      //access to the mapped page of the truncated file would crash the JVM
+      Assert.assertEquals(5, cacheEntry.getCachePointer().getSharedBuffer().getLong(systemOffset));
+    } finally {
+      readCache.releaseFromRead(cacheEntry, writeCache);
+    }
+
+    Assert.assertEquals(PAGES_IN_WINDOW, writeCache.getFilledUpTo(fileId));
+  }
+
+  /**
+   * Creates caches with mapped reads and file with given amount of pages, index of the page is written in each page. Pages are
+   * flushed to the file and removed from the read cache.
+   */
+  private void init(int pages) throws IOException, InterruptedException {
+    final boolean mmapReads = OGlobalConfiguration.STORAGE_MMAP_READS.getValueAsBoolean();
+    final int windowSize = OGlobalConfiguration.STORAGE_MMAP_WINDOW_SIZE.getValueAsInteger();
+
+    OGlobalConfiguration.STORAGE_MMAP_READS.setValue(true);
+    OGlobalConfiguration.STORAGE_MMAP_WINDOW_SIZE.setValue(1);
+    try {
+      bufferPool = new OByteBufferPool(PAGE_SIZE);
+      writeCache = new OWOWCache(PAGE_SIZE, bufferPool, null, -1, 15000L * PAGE_SIZE, storageLocal, false, files, 1,
+          OChecksumMode.StoreAndThrow);
+      writeCache.loadRegisteredFiles();
+    } finally {
+      OGlobalConfiguration.STORAGE_MMAP_READS.setValue(mmapReads);
+      OGlobalConfiguration.STORAGE_MMAP_WINDOW_SIZE.setValue(windowSize);
+    }
+
+    readCache = new O2QCache(1024L * PAGE_SIZE, PAGE_SIZE, false, 50);
+    fileId = readCache.addFile("mappedReadTest.tst", writeCache);
+
+    for (int i = 0; i < pages; i++) {
+      final OCacheEntry cacheEntry = readCache.allocateNewPage(fileId, writeCache, true);
+      Assert.assertEquals(i, cacheEntry.getPageIndex());
+
+      cacheEntry.getCachePointer().getSharedBuffer().putLong(systemOffset, i);
+      cacheEntry.markDirty();
+      readCache.releaseFromWrite(cacheEntry, writeCache);
+    }
+
+    writeCache.flush();
+    readCache.clear();
+  }
+
+  private long read(int pageIndex) throws IOException {
+    final OCacheEntry cacheEntry = readCache.loadForRead(fileId, pageIndex, false, writeCache, 1, true);
+    try {
+      return cacheEntry.getCachePointer().getSharedBuffer().getLong(systemOffset);
+    } finally {
+      readCache.releaseFromRead(cacheEntry, writeCache);
+    }
+  }
+
+  private long readFromFile(int pageIndex) throws IOException {
+    final byte[] content = Files.readAllBytes(writeCache.getRootDirectory().resolve(writeCache.nativeFileNameById(fileId)));
+    return ByteBuffer.wrap(content).order(ByteOrder.nativeOrder())
+        .getLong(OFileClassic.HEADER_SIZE + pageIndex * PAGE_SIZE + systemOffset);
+  }
+}
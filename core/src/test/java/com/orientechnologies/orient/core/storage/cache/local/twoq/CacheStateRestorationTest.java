@@ -24,6 +24,8 @@ import com.orientechnologies.common.io.OFileUtils;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
 import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import org.junit.Assert;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -104,4 +106,30 @@ public class CacheStateRestorationTest {
     db.open("admin", "admin"); // should not throw
   }
 
+  @Test
+  public void testCacheIsWarmedUpAfterOpen() throws Exception {
+    db.getMetadata().getSchema().createClass("Doc");
+    for (int i = 0; i < 1000; i++) {
+      final ODocument doc = db.newInstance("Doc");
+      doc.field("field", "value" + i).save();
+    }
+
+    db.close();
+    Orient.instance().shutdown();
+
+    Orient.instance().startup();
+    db = new ODatabaseDocumentTx("plocal:" + dbDirectory);
+    db.open("admin", "admin");
+
+    // database may be used while cache is warmed up
+    Assert.assertEquals(1000, db.countClass("Doc"));
+
+    final O2QCache readCache = (O2QCache) ((OAbstractPaginatedStorage) db.getStorage()).getReadCache();
+    readCache.waitForWarmUp();
+
+    Assert.assertTrue(readCache.getWarmUpTotalPages() > 0);
+    Assert.assertEquals(readCache.getWarmUpTotalPages(), readCache.getWarmUpLoadedPages());
+    Assert.assertEquals(100, readCache.getWarmUpProgress(), 0.0);
+  }
+
 }
@@ -769,6 +769,69 @@ public class ReadWriteDiskCacheTest {
     Assert.assertNotNull(a1in.get(fileId, 0));
   }
 
+  @Test
+  public void testReadAheadPagesAreNotPromotedToAm() throws Exception {
+    final long fileId = readBuffer.addFile(fileName, writeBuffer);
+
+    for (int i = 0; i < 8; i++) {
+      OCacheEntry cacheEntry = readBuffer.allocateNewPage(fileId, writeBuffer, true);
+      try {
+        final ByteBuffer buffer = cacheEntry.getCachePointer().getSharedBuffer();
+        buffer.position(systemOffset);
+        buffer.put(new byte[] { (byte) (i + 1), 1, 2, seed, 4, 5, 6, 7 });
+
+        cacheEntry.markDirty();
+      } finally {
+        readBuffer.releaseFromWrite(cacheEntry, writeBuffer);
+      }
+    }
+
+    readBuffer.clear();
+    writeBuffer.flush();
+
+    LRUList am = readBuffer.getAm();
+    LRUList a1in = readBuffer.getA1in();
+    LRUList a1out = readBuffer.getA1out();
+
+    //put 1 and 2  pages to the a1out queue, page 0 is dropped from buffer
+    for (int i = 0; i < 7; i++) {
+      OCacheEntry cacheEntry = readBuffer.loadForRead(fileId, i, false, writeBuffer, 1, true);
+      readBuffer.releaseFromRead(cacheEntry, writeBuffer);
+    }
+
+    //put 1-th page to the am queue, 2 - 3 pages are in a1out queue
+    OCacheEntry cacheEntry = readBuffer.loadForRead(fileId, 1, false, writeBuffer, 1, true);
+    readBuffer.releaseFromRead(cacheEntry, writeBuffer);
+
+    Assert.assertEquals(am.size(), 1);
+    Assert.assertNotNull(a1out.get(fileId, 2));
+    Assert.assertNotNull(a1out.get(fileId, 3));
+
+    //pages read ahead are put into a1in queue even if they are in a1out queue
+    readBuffer.prefetch(fileId, 0, 4, writeBuffer, true);
+
+    Assert.assertEquals(am.size(), 1);
+    Assert.assertNotNull(am.get(fileId, 1));
+    Assert.assertNull(am.get(fileId, 2));
+    Assert.assertNull(am.get(fileId, 3));
+
+    Assert.assertNotNull(a1in.get(fileId, 3));
+    Assert.assertEquals(am.size() + a1in.size(), readBuffer.getMaxSize());
+
+    //pages outside of the file are ignored
+    readBuffer.prefetch(fileId, 6, 4, writeBuffer, true);
+
+    for (int i = 0; i < 8; i++) {
+      cacheEntry = readBuffer.loadForRead(fileId, i, false, writeBuffer, 1, true);
+      try {
+        final ByteBuffer buffer = cacheEntry.getCachePointer().getSharedBuffer();
+        Assert.assertEquals(buffer.get(systemOffset), (byte) (i + 1));
+      } finally {
+        readBuffer.releaseFromRead(cacheEntry, writeBuffer);
+      }
+    }
+  }
+
   @Test
   public void testStoreCacheState() throws Exception {
     final long fileId = readBuffer.addFile(fileName, writeBuffer);
@@ -842,6 +905,11 @@ public class ReadWriteDiskCacheTest {
 
     initBuffer();
     readBuffer.loadCacheState(writeBuffer);
+    readBuffer.waitForWarmUp();
+
+    Assert.assertEquals(readBuffer.getWarmUpTotalPages(), 4);
+    Assert.assertEquals(readBuffer.getWarmUpLoadedPages(), 4);
+    Assert.assertEquals(readBuffer.getWarmUpProgress(), 100, 0.0);
 
     am = readBuffer.getAm();
     a1in = readBuffer.getA1in();
@@ -875,6 +943,61 @@ public class ReadWriteDiskCacheTest {
 
   }
 
+  @Test
+  public void testLoadCacheStateWithoutWarmUpThreads() throws Exception {
+    final long fileId = readBuffer.addFile(fileName, writeBuffer);
+
+    for (int i = 0; i < 8; i++) {
+      OCacheEntry cacheEntry = readBuffer.allocateNewPage(fileId, writeBuffer, true);
+      try {
+        final ByteBuffer buffer = cacheEntry.getCachePointer().getSharedBuffer();
+        buffer.position(systemOffset);
+        buffer.put((byte) (i + 1));
+
+        cacheEntry.markDirty();
+      } finally {
+        readBuffer.releaseFromWrite(cacheEntry, writeBuffer);
+      }
+    }
+
+    readBuffer.clear();
+
+    //page 1 in am queue, pages 4 - 6 in a1in queue
+    for (int i = 0; i < 7; i++) {
+      OCacheEntry cacheEntry = readBuffer.loadForRead(fileId, i, false, writeBuffer, 1, true);
+      readBuffer.releaseFromRead(cacheEntry, writeBuffer);
+    }
+
+    OCacheEntry cacheEntry = readBuffer.loadForRead(fileId, 1, false, writeBuffer, 1, true);
+    readBuffer.releaseFromRead(cacheEntry, writeBuffer);
+
+    readBuffer.storeCacheState(writeBuffer);
+    readBuffer.closeStorage(writeBuffer);
+
+    final int warmUpThreads = OGlobalConfiguration.STORAGE_DISK_CACHE_WARM_UP_THREADS.getValueAsInteger();
+    OGlobalConfiguration.STORAGE_DISK_CACHE_WARM_UP_THREADS.setValue(0);
+    try {
+      initBuffer();
+      readBuffer.loadCacheState(writeBuffer);
+    } finally {
+      OGlobalConfiguration.STORAGE_DISK_CACHE_WARM_UP_THREADS.setValue(warmUpThreads);
+    }
+
+    Assert.assertFalse(readBuffer.isWarmUpInProgress());
+    Assert.assertEquals(readBuffer.getWarmUpProgress(), 100, 0.0);
+
+    Assert.assertEquals(readBuffer.getAmSize(), 1);
+    Assert.assertEquals(readBuffer.getA1InSize(), 3);
+    Assert.assertEquals(readBuffer.getA1OutSize(), 2);
+
+    Assert.assertNotNull(readBuffer.getAm().get(fileId, 1));
+    for (int i = 4; i < 7; i++) {
+      cacheEntry = readBuffer.getA1in().get(fileId, i);
+      Assert.assertNotNull(cacheEntry);
+      Assert.assertEquals(cacheEntry.getCachePointer().getSharedBuffer().get(systemOffset), i + 1);
+    }
+  }
+
   @Test
   public void testPrefetchPagesInPinnedPages() throws Exception {
     final long fileId = readBuffer.addFile(fileName, writeBuffer);
@@ -0,0 +1,172 @@
+package com.orientechnologies.orient.core.storage.cache.local.wtinylfu;
+
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.orient.core.storage.cache.OCachePointer;
+import com.orientechnologies.orient.core.storage.cache.OReadCache;
+import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+import com.orientechnologies.orient.core.storage.cache.local.twoq.O2QCache;
+import com.orientechnologies.orient.core.storage.impl.local.statistic.OPerformanceStatisticManager;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares hit ratio and throughput of {@link O2QCache} and {@link OWTinyLFUCache} on zipfian trace and on zipfian trace mixed
+ * with sequential scans. Pages are "loaded" by stub of write cache, so only cost of the cache itself is measured.
+ */
+public class OWTinyLFUCacheBenchmark {
+  private static final int  PAGE_SIZE    = 1024;
+  private static final int  CACHE_PAGES  = 10000;
+  private static final int  FILE_PAGES   = 200000;
+  private static final int  TRACE_LENGTH = 2000000;
+  private static final int  THREADS      = 8;
+  private static final long FILE_ID      = 1;
+
+  private final OByteBufferPool bufferPool = new OByteBufferPool(PAGE_SIZE);
+  private final AtomicLong      loads      = new AtomicLong();
+  private final OWriteCache     writeCache = writeCache();
+
+  public static void main(String[] args) throws Exception {
+    new OWTinyLFUCacheBenchmark().benchmark();
+  }
+
+  public void benchmark() throws Exception {
+    final Random random = new Random(42);
+    final long[] zipfian = zipfianTrace(random, TRACE_LENGTH);
+    final long[] scans = scanTrace(random);
+
+    for (int n = 0; n < 2; n++) {
+      //the first round is warm up
+      run("zipfian", zipfian);
+      run("scans", scans);
+    }
+  }
+
+  private void run(String name, long[] trace) throws Exception {
+    System.out.printf("%-8s 2Q       : hit ratio %.3f, %,d ops/s%n", name,
+        hitRatio(new O2QCache(cacheSize(), PAGE_SIZE, false, 10), trace),
+        throughput(new O2QCache(cacheSize(), PAGE_SIZE, false, 10), trace));
+    System.out.printf("%-8s W-TinyLFU: hit ratio %.3f, %,d ops/s%n", name,
+        hitRatio(new OWTinyLFUCache(cacheSize(), PAGE_SIZE, false, 10), trace),
+        throughput(new OWTinyLFUCache(cacheSize(), PAGE_SIZE, false, 10), trace));
+  }
+
+  private double hitRatio(OReadCache readCache, long[] trace) throws Exception {
+    loads.set(0);
+    for (long pageIndex : trace)
+      readCache.releaseFromRead(readCache.loadForRead(FILE_ID, pageIndex, false, writeCache, 1, false), writeCache);
+
+    readCache.clear();
+    return 1.0 - (double) loads.get() / trace.length;
+  }
+
+  private long throughput(final OReadCache readCache, final long[] trace) throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      final List<Future<Void>> futures = new ArrayList<>();
+      final long start = System.nanoTime();
+
+      for (int n = 0; n < THREADS; n++) {
+        final int offset = n * (trace.length / THREADS);
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < trace.length; i++) {
+            final long pageIndex = trace[(offset + i) % trace.length];
+            readCache.releaseFromRead(readCache.loadForRead(FILE_ID, pageIndex, false, writeCache, 1, false), writeCache);
+          }
+          return null;
+        }));
+      }
+
+      for (Future<Void> future : futures)
+        future.get();
+
+      final long time = System.nanoTime() - start;
+      readCache.clear();
+
+      return (long) THREADS * trace.length * 1000000000L / time;
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Trace of pages which are accessed with zipfian distribution, pages are shuffled, so hot pages are not placed near each other.
+   */
+  private static long[] zipfianTrace(Random random, int length) {
+    final double[] cdf = new double[FILE_PAGES];
+    double sum = 0;
+    for (int i = 0; i < FILE_PAGES; i++) {
+      sum += 1.0 / Math.pow(i + 1, 0.99);
+      cdf[i] = sum;
+    }
+
+    final long[] trace = new long[length];
+    for (int i = 0; i < length; i++) {
+      int rank = Arrays.binarySearch(cdf, random.nextDouble() * sum);
+      if (rank < 0)
+        rank = -rank - 1;
+
+      trace[i] = (rank * 7919L) % FILE_PAGES;
+    }
+
+    return trace;
+  }
+
+  /**
+   * Zipfian trace interrupted by sequential scans of the file, a half of accesses belong to scans.
+   */
+  private static long[] scanTrace(Random random) {
+    final long[] zipfian = zipfianTrace(random, TRACE_LENGTH / 2);
+    final long[] trace = new long[TRACE_LENGTH];
+
+    final int scanLength = 4 * CACHE_PAGES;
+    int position = 0;
+    int zipfianPosition = 0;
+    while (position < TRACE_LENGTH) {
+      for (int i = 0; i < scanLength && position < TRACE_LENGTH; i++)
+        trace[position++] = zipfian[zipfianPosition++ % zipfian.length];
+
+      final int scanStart = random.nextInt(FILE_PAGES - scanLength);
+      for (int i = 0; i < scanLength && position < TRACE_LENGTH; i++)
+        trace[position++] = scanStart + i;
+    }
+
+    return trace;
+  }
+
+  private static long cacheSize() {
+    return (long) CACHE_PAGES * PAGE_SIZE;
+  }
+
+  /**
+   * Stub of write cache which creates empty page on each load.
+   */
+  private OWriteCache writeCache() {
+    final OPerformanceStatisticManager statisticManager = new OPerformanceStatisticManager(null, 1, 1);
+
+    return (OWriteCache) Proxy
+        .newProxyInstance(OWriteCache.class.getClassLoader(), new Class[] { OWriteCache.class }, (proxy, method, args) -> {
+          switch (method.getName()) {
+          case "load":
+            loads.incrementAndGet();
+            final OCachePointer cachePointer = new OCachePointer(bufferPool.acquireDirect(false), bufferPool, (Long) args[0],
+                (Long) args[1]);
+            cachePointer.incrementReadersReferrer();
+            return new OCachePointer[] { cachePointer };
+          case "getPerformanceStatisticManager":
+            return statisticManager;
+          case "getId":
+            return 0;
+          default:
+            throw new UnsupportedOperationException(method.getName());
+          }
+        });
+  }
+}
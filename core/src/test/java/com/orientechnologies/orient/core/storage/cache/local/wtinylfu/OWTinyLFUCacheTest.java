@@ -0,0 +1,242 @@
+package com.orientechnologies.orient.core.storage.cache.local.wtinylfu;
+
+import com.orientechnologies.common.collection.closabledictionary.OClosableLinkedContainer;
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OContextConfiguration;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.storage.OChecksumMode;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.local.OWOWCache;
+import com.orientechnologies.orient.core.storage.fs.OFileClassic;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.OLocalPaginatedStorage;
+import org.junit.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class OWTinyLFUCacheTest {
+  private static final int systemOffset = OIntegerSerializer.INT_SIZE + 3 * OLongSerializer.LONG_SIZE;
+  private static final int PAGE_SIZE    = systemOffset + OLongSerializer.LONG_SIZE;
+
+  private static final OClosableLinkedContainer<Long, OFileClassic> files = new OClosableLinkedContainer<>(1024);
+
+  private static OLocalPaginatedStorage storageLocal;
+
+  private OWOWCache      writeCache;
+  private OWTinyLFUCache readCache;
+  private long           fileId;
+
+  @BeforeClass
+  public static void beforeClass() throws IOException {
+    OGlobalConfiguration.FILE_LOCK.setValue(Boolean.FALSE);
+
+    String buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null)
+      buildDirectory = ".";
+
+    storageLocal = (OLocalPaginatedStorage) Orient.instance().getRunningEngine("plocal")
+        .createStorage(buildDirectory + "/OWTinyLFUCacheTest", null);
+    storageLocal.create(new OContextConfiguration());
+    storageLocal.close(true, false);
+  }
+
+  @AfterClass
+  public static void afterClass() throws IOException {
+    storageLocal.delete();
+  }
+
+  @After
+  public void afterMethod() throws IOException {
+    if (readCache != null) {
+      readCache.deleteStorage(writeCache);
+      readCache = null;
+    }
+
+    files.clear();
+  }
+
+  @Test
+  public void testLoadAndStore() throws Exception {
+    init(16, 100);
+
+    for (int i = 0; i < 100; i++)
+      Assert.assertEquals(i, read(i));
+
+    readCache.drain();
+    Assert.assertTrue(readCache.getUsedMemory() <= 16 * PAGE_SIZE);
+
+    final OCacheEntry cacheEntry = readCache.loadForWrite(fileId, 42, false, writeCache, 1, true);
+    cacheEntry.getCachePointer().getSharedBuffer().putLong(systemOffset, -42);
+    cacheEntry.markDirty();
+    readCache.releaseFromWrite(cacheEntry, writeCache);
+
+    //page is evicted and loaded back from write cache
+    for (int i = 0; i < 100; i++)
+      read(i);
+    Assert.assertEquals(-42, read(42));
+  }
+
+  @Test
+  public void testScanResistance() throws Exception {
+    init(100, 300);
+
+    for (int n = 0; n < 10; n++)
+      for (int i = 0; i < 50; i++)
+        read(i);
+    readCache.drain();
+
+    for (int i = 50; i < 300; i++)
+      read(i);
+    readCache.drain();
+
+    for (int i = 0; i < 50; i++)
+      Assert.assertTrue("Page " + i + " was evicted by scan", readCache.isCached(fileId, i));
+  }
+
+  @Test
+  public void testPrefetchedPagesDoNotEvictHotPages() throws Exception {
+    init(100, 400);
+
+    for (int n = 0; n < 10; n++)
+      for (int i = 0; i < 50; i++)
+        read(i);
+    readCache.drain();
+
+    for (int i = 50; i < 400; i += 50)
+      readCache.prefetch(fileId, i, 50, writeCache, true);
+    readCache.drain();
+
+    for (int i = 0; i < 50; i++)
+      Assert.assertTrue("Page " + i + " was evicted by read ahead", readCache.isCached(fileId, i));
+
+    Assert.assertEquals(399, read(399));
+    Assert.assertTrue(readCache.getUsedMemory() <= 100 * PAGE_SIZE);
+
+    //pages outside of the file are ignored
+    readCache.prefetch(fileId, 390, 50, writeCache, true);
+    Assert.assertEquals(395, read(395));
+  }
+
+  @Test
+  public void testUsedPagesAreNotEvicted() throws Exception {
+    init(16, 100);
+
+    final List<OCacheEntry> entries = new ArrayList<>();
+    for (int i = 0; i < 32; i++)
+      entries.add(readCache.loadForRead(fileId, i, false, writeCache, 1, true));
+    readCache.drain();
+
+    for (int i = 0; i < 32; i++) {
+      Assert.assertTrue(readCache.isCached(fileId, i));
+      Assert.assertEquals(i, entries.get(i).getCachePointer().getSharedBuffer().getLong(systemOffset));
+    }
+
+    for (OCacheEntry cacheEntry : entries)
+      readCache.releaseFromRead(cacheEntry, writeCache);
+
+    read(99);
+    readCache.drain();
+    Assert.assertTrue(readCache.getUsedMemory() <= 16 * PAGE_SIZE);
+  }
+
+  @Test
+  public void testPinnedPage() throws Exception {
+    init(16, 100);
+
+    final OCacheEntry cacheEntry = readCache.loadForWrite(fileId, 0, false, writeCache, 1, true);
+    readCache.pinPage(cacheEntry);
+    readCache.releaseFromWrite(cacheEntry, writeCache);
+
+    for (int n = 0; n < 3; n++)
+      for (int i = 1; i < 100; i++)
+        read(i);
+    readCache.drain();
+
+    Assert.assertTrue(readCache.isCached(fileId, 0));
+    Assert.assertEquals(0, read(0));
+  }
+
+  @Test
+  public void testTruncateFile() throws Exception {
+    init(16, 100);
+
+    readCache.truncateFile(fileId, writeCache);
+    for (int i = 0; i < 100; i++)
+      Assert.assertFalse(readCache.isCached(fileId, i));
+
+    Assert.assertNull(readCache.loadForRead(fileId, 0, false, writeCache, 1, true));
+  }
+
+  @Test
+  public void testConcurrentReads() throws Exception {
+    init(32, 200);
+
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (int n = 0; n < 4; n++) {
+        futures.add(executor.submit(new Callable<Void>() {
+          @Override
+          public Void call() throws Exception {
+            final Random random = new Random();
+            for (int i = 0; i < 20000; i++) {
+              //skewed access, so some pages are hit often
+              final int pageIndex = Math.min(random.nextInt(200), random.nextInt(200));
+              Assert.assertEquals(pageIndex, read(pageIndex));
+            }
+            return null;
+          }
+        }));
+      }
+
+      for (Future<Void> future : futures)
+        future.get();
+    } finally {
+      executor.shutdown();
+    }
+
+    readCache.drain();
+    Assert.assertTrue(readCache.getUsedMemory() <= 32 * PAGE_SIZE);
+  }
+
+  /**
+   * Creates caches with given maximum size and file with given amount of pages, index of the page is written in each page.
+   */
+  private void init(int cacheSize, int pages) throws IOException, InterruptedException {
+    writeCache = new OWOWCache(PAGE_SIZE, new OByteBufferPool(PAGE_SIZE), null, -1, 15000 * PAGE_SIZE, storageLocal, false, files, 1,
+        OChecksumMode.StoreAndThrow);
+    writeCache.loadRegisteredFiles();
+
+    readCache = new OWTinyLFUCache(cacheSize * PAGE_SIZE, PAGE_SIZE, false, 50);
+    fileId = readCache.addFile("wTinyLFUCacheTest.tst", writeCache);
+
+    for (int i = 0; i < pages; i++) {
+      final OCacheEntry cacheEntry = readCache.allocateNewPage(fileId, writeCache, true);
+      Assert.assertEquals(i, cacheEntry.getPageIndex());
+
+      cacheEntry.getCachePointer().getSharedBuffer().putLong(systemOffset, i);
+      cacheEntry.markDirty();
+      readCache.releaseFromWrite(cacheEntry, writeCache);
+    }
+
+    readCache.clear();
+  }
+
+  private long read(int pageIndex) throws IOException {
+    final OCacheEntry cacheEntry = readCache.loadForRead(fileId, pageIndex, false, writeCache, 1, true);
+    try {
+      return cacheEntry.getCachePointer().getSharedBuffer().getLong(systemOffset);
+    } finally {
+      readCache.releaseFromRead(cacheEntry, writeCache);
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package com.orientechnologies.orient.core.storage.fs;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.compression.OCompression;
+import com.orientechnologies.orient.core.compression.OCompressionFactory;
+import com.orientechnologies.orient.core.compression.impl.OGZIPCompression;
+import com.orientechnologies.orient.core.compression.impl.OSnappyCompression;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+/**
+ * Compares throughput of page writes and reads and size of the file on disk for {@link OFileClassic} and
+ * {@link OCompressedPageFile} with different compressions. Pages are filled by records which look like serialized documents, so
+ * they are compressed approximately in the same ratio as pages of real clusters.
+ */
+public class OCompressedPageFileBenchmark {
+  private static final int PAGE_SIZE   = 64 * 1024;
+  private static final int PAGES       = 2 * 1024;
+  private static final int PAGE_READS  = 20 * 1024;
+  private static final int PAGE_BATCH  = 16;
+  private static final int PAGE_FILLED = 80;
+
+  private final Path directory = Paths.get(System.getProperty("buildDirectory", "."),
+      OCompressedPageFileBenchmark.class.getSimpleName());
+
+  public static void main(String[] args) throws Exception {
+    new OCompressedPageFileBenchmark().benchmark();
+  }
+
+  public void benchmark() throws Exception {
+    OFileUtils.deleteRecursively(directory.toFile());
+    Files.createDirectories(directory);
+
+    final ByteBuffer[] pages = generatePages(new Random(42));
+    try {
+      for (int n = 0; n < 2; n++) {
+        //the first round is warm up
+        run("classic", pages, null);
+        run(OGZIPCompression.NAME, pages, OCompressionFactory.INSTANCE.getCompression(OGZIPCompression.NAME, null));
+        run(OSnappyCompression.NAME, pages, OCompressionFactory.INSTANCE.getCompression(OSnappyCompression.NAME, null));
+      }
+    } finally {
+      OFileUtils.deleteRecursively(directory.toFile());
+    }
+  }
+
+  private void run(String name, ByteBuffer[] pages, OCompression compression) throws IOException {
+    final Path path = directory.resolve(name + ".pcl");
+    final OFileClassic file = compression == null ? new OFileClassic(path) : new OCompressedPageFile(path, PAGE_SIZE, compression);
+
+    file.create();
+    file.allocateSpace((long) PAGES * PAGE_SIZE);
+
+    long start = System.nanoTime();
+    for (int pageIndex = 0; pageIndex < PAGES; pageIndex += PAGE_BATCH) {
+      final ByteBuffer[] batch = new ByteBuffer[PAGE_BATCH];
+      for (int i = 0; i < PAGE_BATCH; i++)
+        batch[i] = pages[pageIndex + i];
+
+      file.write((long) pageIndex * PAGE_SIZE, batch);
+    }
+    file.synch();
+    final long writeTime = System.nanoTime() - start;
+
+    final long diskSize = Files.size(path) + (compression == null ? 0 : Files.size(OCompressedPageFile.mapFile(path)));
+
+    final Random random = new Random(42);
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(PAGE_SIZE).order(ByteOrder.nativeOrder());
+
+    start = System.nanoTime();
+    for (int n = 0; n < PAGE_READS; n++) {
+      buffer.position(0);
+      file.read((long) random.nextInt(PAGES) * PAGE_SIZE, buffer, true);
+    }
+    final long readTime = System.nanoTime() - start;
+
+    file.delete();
+
+    final long megabytes = (long) PAGES * PAGE_SIZE / (1024 * 1024);
+    System.out.printf("%-8s: write %,6.0f MB/s, random read %,8.0f pages/s, size on disk %,5d MB of %,d MB%n", name,
+        megabytes / (writeTime / 1e9), PAGE_READS / (readTime / 1e9), diskSize / (1024 * 1024), megabytes);
+  }
+
+  private static ByteBuffer[] generatePages(Random random) {
+    final String[] names = { "Alice", "Bob", "Carol", "Dave", "Eve", "Frank", "Grace", "Heidi", "Ivan", "Judy" };
+    final String[] cities = { "Rome", "London", "Berlin", "Paris", "Madrid", "Vienna", "Prague", "Lisbon" };
+
+    final ByteBuffer[] pages = new ByteBuffer[PAGES];
+    for (int pageIndex = 0; pageIndex < PAGES; pageIndex++) {
+      final ByteBuffer page = ByteBuffer.allocateDirect(PAGE_SIZE).order(ByteOrder.nativeOrder());
+
+      //pages are not filled completely, the same as pages of clusters and indexes
+      final int filled = PAGE_SIZE * PAGE_FILLED / 100;
+      while (page.position() < filled) {
+        final String record =
+            "Person@name:\"" + names[random.nextInt(names.length)] + "\",age:" + random.nextInt(100) + ",city:\"" + cities[random
+                .nextInt(cities.length)] + "\",id:" + random.nextLong() + ",balance:" + random.nextInt(1000000) + "." + random
+                .nextInt(100);
+        final byte[] content = record.getBytes(StandardCharsets.UTF_8);
+
+        if (page.position() + content.length + 4 > filled)
+          break;
+
+        page.putInt(content.length);
+        page.put(content);
+      }
+
+      page.position(0);
+      pages[pageIndex] = page;
+    }
+
+    return pages;
+  }
+}
@@ -0,0 +1,222 @@
+package com.orientechnologies.orient.core.storage.fs;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.compression.impl.OGZIPCompression;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Random;
+
+public class OCompressedPageFileTest {
+  private static final int PAGE_SIZE = 4 * 1024;
+
+  private Path testDirectory;
+
+  @Before
+  public void before() throws IOException {
+    final String buildDirectory = System.getProperty("buildDirectory", ".");
+    testDirectory = Paths.get(buildDirectory, OCompressedPageFileTest.class.getSimpleName());
+
+    OFileUtils.deleteRecursively(testDirectory.toFile());
+    Files.createDirectories(testDirectory);
+  }
+
+  @After
+  public void after() {
+    OFileUtils.deleteRecursively(testDirectory.toFile());
+  }
+
+  @Test
+  public void testPagesAreReadAfterReopen() throws IOException {
+    final Path path = testDirectory.resolve("reopen.pcl");
+
+    OCompressedPageFile file = createFile(path, 100);
+    for (int pageIndex = 0; pageIndex < 100; pageIndex++)
+      file.write((long) pageIndex * PAGE_SIZE, compressiblePage(pageIndex));
+
+    file.close();
+
+    file = new OCompressedPageFile(path, PAGE_SIZE, null);
+    file.open();
+
+    Assert.assertEquals(100L * PAGE_SIZE, file.getFileSize());
+    Assert.assertTrue(file.getCompressedSize() < 100L * PAGE_SIZE / 4);
+
+    final byte[] page = new byte[PAGE_SIZE];
+    for (int pageIndex = 0; pageIndex < 100; pageIndex++) {
+      file.read((long) pageIndex * PAGE_SIZE, page, PAGE_SIZE);
+      Assert.assertArrayEquals(compressiblePage(pageIndex), page);
+    }
+
+    file.delete();
+
+    Assert.assertFalse(Files.exists(path));
+    Assert.assertFalse(Files.exists(OCompressedPageFile.mapFile(path)));
+  }
+
+  @Test
+  public void testIncompressiblePagesAndPartialWrites() throws IOException {
+    final Path path = testDirectory.resolve("random.pcl");
+    final Random random = new Random(42);
+
+    final OCompressedPageFile file = createFile(path, 10);
+    final byte[][] pages = new byte[10][PAGE_SIZE];
+    for (int pageIndex = 0; pageIndex < 10; pageIndex++) {
+      random.nextBytes(pages[pageIndex]);
+      file.write((long) pageIndex * PAGE_SIZE, pages[pageIndex]);
+    }
+
+    file.writeInt(3L * PAGE_SIZE + 10, 42);
+    Assert.assertEquals(42, file.readInt(3L * PAGE_SIZE + 10));
+
+    final byte[] range = new byte[PAGE_SIZE];
+    file.read(5L * PAGE_SIZE + PAGE_SIZE / 2, range, PAGE_SIZE);
+    Assert.assertArrayEquals(Arrays.copyOfRange(pages[5], PAGE_SIZE / 2, PAGE_SIZE),
+        Arrays.copyOfRange(range, 0, PAGE_SIZE / 2));
+    Assert.assertArrayEquals(Arrays.copyOfRange(pages[6], 0, PAGE_SIZE / 2), Arrays.copyOfRange(range, PAGE_SIZE / 2, PAGE_SIZE));
+
+    file.delete();
+  }
+
+  @Test
+  public void testNotWrittenPagesAreFilledByZeros() throws IOException {
+    final OCompressedPageFile file = createFile(testDirectory.resolve("empty.pcl"), 3);
+    file.write(PAGE_SIZE, compressiblePage(1));
+
+    final byte[] page = new byte[PAGE_SIZE];
+    file.read(2L * PAGE_SIZE, page, PAGE_SIZE);
+    Assert.assertArrayEquals(new byte[PAGE_SIZE], page);
+
+    file.shrink(PAGE_SIZE);
+    file.allocateSpace(2 * PAGE_SIZE);
+
+    file.read(PAGE_SIZE, page, PAGE_SIZE);
+    Assert.assertArrayEquals(new byte[PAGE_SIZE], page);
+
+    file.delete();
+  }
+
+  @Test
+  public void testReleasedSlotsAreReusedAfterSync() throws IOException {
+    final OCompressedPageFile file = createFile(testDirectory.resolve("reuse.pcl"), 50);
+    final Random random = new Random(42);
+
+    for (int round = 0; round < 20; round++) {
+      for (int pageIndex = 0; pageIndex < 50; pageIndex++) {
+        final byte[] page = compressiblePage(pageIndex);
+
+        //every round pages change their size, so they are moved between slots
+        final int randomBytes = random.nextInt(PAGE_SIZE);
+        for (int i = 0; i < randomBytes; i++)
+          page[i] = (byte) random.nextInt();
+
+        file.write((long) pageIndex * PAGE_SIZE, page);
+      }
+
+      file.synch();
+    }
+
+    Assert.assertTrue(file.getCompressedSize() <= 2L * 50 * PAGE_SIZE);
+    file.delete();
+  }
+
+  @Test
+  public void testMapOnDiskPointsToLastSyncedPagesAfterCrash() throws IOException {
+    final Path path = testDirectory.resolve("crash.pcl");
+
+    final OCompressedPageFile file = createFile(path, 2);
+    file.write(0, compressiblePage(0));
+    file.write(PAGE_SIZE, compressiblePage(1));
+    file.synch();
+
+    //page does not fit into its slot any more, so it is written into the new one
+    final byte[] incompressiblePage = new byte[PAGE_SIZE];
+    new Random(42).nextBytes(incompressiblePage);
+    file.write(0, incompressiblePage);
+
+    //copy of files which are not synced is the same as state of the files after crash
+    final Path crashedPath = testDirectory.resolve("crashed.pcl");
+    Files.copy(path, crashedPath, StandardCopyOption.REPLACE_EXISTING);
+    Files.copy(OCompressedPageFile.mapFile(path), OCompressedPageFile.mapFile(crashedPath), StandardCopyOption.REPLACE_EXISTING);
+
+    final OCompressedPageFile crashedFile = new OCompressedPageFile(crashedPath, PAGE_SIZE, null);
+    crashedFile.open();
+
+    final byte[] page = new byte[PAGE_SIZE];
+    crashedFile.read(0, page, PAGE_SIZE);
+    Assert.assertArrayEquals(compressiblePage(0), page);
+
+    crashedFile.read(PAGE_SIZE, page, PAGE_SIZE);
+    Assert.assertArrayEquals(compressiblePage(1), page);
+
+    crashedFile.delete();
+
+    file.read(0, page, PAGE_SIZE);
+    Assert.assertArrayEquals(incompressiblePage, page);
+    file.delete();
+  }
+
+  @Test
+  public void testDatabaseWithCompressedPages() {
+    final String compression = OGlobalConfiguration.STORAGE_PAGE_COMPRESSION.getValueAsString();
+    OGlobalConfiguration.STORAGE_PAGE_COMPRESSION.setValue(OGZIPCompression.NAME);
+    try {
+      final String url = "plocal:" + testDirectory.resolve("compressedPagesDb").toString();
+
+      ODatabaseDocumentTx db = new ODatabaseDocumentTx(url);
+      db.create();
+      db.getMetadata().getSchema().createClass("Item").createProperty("id", OType.INTEGER).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+
+      for (int i = 0; i < 10000; i++) {
+        final ODocument document = new ODocument("Item");
+        document.field("id", i % 100);
+        document.field("name", "item " + i);
+        document.save();
+      }
+      db.close();
+
+      final File[] maps = testDirectory.resolve("compressedPagesDb").toFile()
+          .listFiles((dir, name) -> name.endsWith(OCompressedPageFile.MAP_EXTENSION));
+      Assert.assertNotNull(maps);
+      Assert.assertTrue(maps.length > 0);
+
+      db = new ODatabaseDocumentTx(url);
+      db.open("admin", "admin");
+      Assert.assertEquals(10000, db.countClass("Item"));
+      Assert.assertEquals(100, db.query(new OSQLSynchQuery<ODocument>("select from Item where id = 42")).size());
+      db.drop();
+    } finally {
+      OGlobalConfiguration.STORAGE_PAGE_COMPRESSION.setValue(compression);
+    }
+  }
+
+  private static OCompressedPageFile createFile(Path path, int pages) throws IOException {
+    final OCompressedPageFile file = new OCompressedPageFile(path, PAGE_SIZE, new OGZIPCompression());
+    file.create();
+    file.allocateSpace((long) pages * PAGE_SIZE);
+    return file;
+  }
+
+  private static byte[] compressiblePage(int pageIndex) {
+    final byte[] page = new byte[PAGE_SIZE];
+    for (int i = 0; i < PAGE_SIZE; i++)
+      page[i] = (byte) ((pageIndex + i / 64) % 7);
+
+    return page;
+  }
+}
@@ -0,0 +1,117 @@
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OUpdatePageRecord;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class OWALRedoExecutorTest {
+  @Test
+  public void testChangesOfPageAreAppliedInOrder() {
+    final Map<Long, List<Long>> appliedChanges = new ConcurrentHashMap<>();
+
+    final OWALRedoExecutor redoExecutor = new OWALRedoExecutor(4, "test", record -> appliedChanges
+        .computeIfAbsent(record.getPageIndex(), pageIndex -> new ArrayList<>()).add(record.getLsn().getPosition()));
+    try {
+      for (int position = 0; position < 100000; position++)
+        redoExecutor.submit(1, record(position % 100, position));
+
+      redoExecutor.await();
+    } finally {
+      redoExecutor.shutdown();
+    }
+
+    Assert.assertEquals(100, appliedChanges.size());
+    for (Map.Entry<Long, List<Long>> entry : appliedChanges.entrySet()) {
+      final List<Long> positions = entry.getValue();
+      Assert.assertEquals(1000, positions.size());
+
+      for (int i = 0; i < positions.size(); i++)
+        Assert.assertEquals(entry.getKey() + i * 100, positions.get(i).longValue());
+    }
+  }
+
+  @Test
+  public void testAwaitWaitsForAllChanges() {
+    final AtomicInteger appliedChanges = new AtomicInteger();
+
+    final OWALRedoExecutor redoExecutor = new OWALRedoExecutor(3, "test", record -> {
+      try {
+        Thread.sleep(1);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+
+      appliedChanges.incrementAndGet();
+    });
+    try {
+      for (int position = 0; position < 300; position++)
+        redoExecutor.submit(position % 7, record(position, position));
+
+      redoExecutor.await();
+      Assert.assertEquals(300, appliedChanges.get());
+    } finally {
+      redoExecutor.shutdown();
+    }
+  }
+
+  @Test(expected = OStorageException.class)
+  public void testFailureIsPropagated() {
+    final OWALRedoExecutor redoExecutor = new OWALRedoExecutor(2, "test", record -> {
+      if (record.getPageIndex() == 42)
+        throw new IOException("Page can not be restored");
+    });
+    try {
+      for (int position = 0; position < 100; position++)
+        redoExecutor.submit(1, record(position, position));
+
+      redoExecutor.await();
+    } finally {
+      redoExecutor.shutdown();
+    }
+  }
+
+  @Test
+  public void testShutdownDoesNotInterruptWorkers() {
+    final AtomicInteger appliedChanges = new AtomicInteger();
+    final AtomicBoolean interrupted = new AtomicBoolean();
+
+    //interruption of a thread which reads or writes a file closes the file channel
+    final OWALRedoExecutor redoExecutor = new OWALRedoExecutor(2, "test", record -> {
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        interrupted.set(true);
+      }
+
+      if (Thread.currentThread().isInterrupted())
+        interrupted.set(true);
+
+      appliedChanges.incrementAndGet();
+    });
+
+    for (int position = 0; position < 100; position++)
+      redoExecutor.submit(position % 2, record(position, position));
+
+    redoExecutor.shutdown();
+
+    Assert.assertFalse(interrupted.get());
+    //changes which are not applied yet are discarded
+    Assert.assertTrue(appliedChanges.get() < 100);
+  }
+
+  private static OUpdatePageRecord record(long pageIndex, long position) {
+    final OUpdatePageRecord record = new OUpdatePageRecord(pageIndex, 1, null, null);
+    record.setLsn(new OLogSequenceNumber(0, position));
+    return record;
+  }
+}
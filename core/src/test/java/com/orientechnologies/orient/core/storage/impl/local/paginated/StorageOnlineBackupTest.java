@@ -0,0 +1,291 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.tool.ODatabaseCompare;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+
+public class StorageOnlineBackupTest {
+  private String  testDirectory;
+  private Boolean onlineBackup;
+
+  @Before
+  public void before() {
+    onlineBackup = OGlobalConfiguration.STORAGE_BACKUP_ONLINE.getValue();
+    OGlobalConfiguration.STORAGE_BACKUP_ONLINE.setValue(true);
+
+    final String buildDirectory = System.getProperty("buildDirectory", ".");
+    testDirectory = buildDirectory + File.separator + StorageOnlineBackupTest.class.getSimpleName();
+
+    OFileUtils.deleteRecursively(new File(testDirectory));
+  }
+
+  @After
+  public void after() {
+    OGlobalConfiguration.STORAGE_BACKUP_ONLINE.setValue(onlineBackup);
+    OFileUtils.deleteRecursively(new File(testDirectory));
+  }
+
+  @Test
+  public void testBackupAndRestore() throws Exception {
+    final ODatabaseDocumentTx db = new ODatabaseDocumentTx("plocal:" + testDirectory + File.separator + "onlineBackupSource");
+    db.create();
+
+    final OClass cls = db.getMetadata().getSchema().createClass("Item");
+    cls.createProperty("id", OType.INTEGER);
+    cls.createIndex("ItemIdIndex", OClass.INDEX_TYPE.UNIQUE, "id");
+
+    for (int i = 0; i < 1000; i++) {
+      final ODocument document = new ODocument("Item");
+      document.field("id", i);
+      document.field("name", "item " + i);
+      document.save();
+    }
+
+    final ByteArrayOutputStream backup = new ByteArrayOutputStream();
+    db.backup(backup, null, null, null, Deflater.BEST_SPEED, 1024);
+
+    final ODatabaseDocumentTx restoredDb = new ODatabaseDocumentTx(
+        "plocal:" + testDirectory + File.separator + "onlineBackupRestored");
+    restoredDb.create();
+    restoredDb.restore(new ByteArrayInputStream(backup.toByteArray()), null, null, null);
+
+    Assert.assertEquals(1000, restoredDb.countClass("Item"));
+    restoredDb.close();
+
+    db.activateOnCurrentThread();
+    db.close();
+
+    final ODatabaseCompare compare = new ODatabaseCompare(db.getURL(), restoredDb.getURL(), "admin", "admin",
+        iText -> System.out.println(iText));
+    Assert.assertTrue(compare.compare());
+
+    db.open("admin", "admin");
+    db.drop();
+
+    restoredDb.open("admin", "admin");
+    restoredDb.drop();
+  }
+
+  @Test
+  public void testBackupIsConsistentWhenWritesContinue() throws Exception {
+    assertBackupIsConsistentWhenWritesContinue("onlineBackupWrites", false);
+  }
+
+  @Test
+  public void testBackupWithCallbackContainsStateObservedByCallback() throws Exception {
+    //storage is frozen for the whole backup, so the restored storage contains exactly what the callback observed
+    assertBackupIsConsistentWhenWritesContinue("onlineBackupWithCallback", true);
+  }
+
+  @Test
+  public void testBackupIsConsistentWhenWALIsRestoredInParallel() throws Exception {
+    //changes logged during backup are replayed on open of restored storage by several redo workers
+    final Integer restoreThreads = OGlobalConfiguration.WAL_RESTORE_THREADS.getValue();
+    OGlobalConfiguration.WAL_RESTORE_THREADS.setValue(4);
+    try {
+      assertBackupIsConsistentWhenWritesContinue("onlineBackupParallelRedo", false);
+    } finally {
+      OGlobalConfiguration.WAL_RESTORE_THREADS.setValue(restoreThreads);
+    }
+  }
+
+  private void assertBackupIsConsistentWhenWritesContinue(String dbName, boolean withCallback) throws Exception {
+    final ODatabaseDocumentTx db = new ODatabaseDocumentTx("plocal:" + testDirectory + File.separator + dbName);
+    db.create();
+    db.getMetadata().getSchema().createClass("Pair");
+    db.close();
+
+    final AtomicBoolean stop = new AtomicBoolean();
+    final AtomicInteger pairs = new AtomicInteger();
+
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    final Future<Void> writer = executor.submit(() -> {
+      final ODatabaseDocumentTx writerDb = new ODatabaseDocumentTx(db.getURL());
+      writerDb.open("admin", "admin");
+      try {
+        while (!stop.get()) {
+          final int pair = pairs.get();
+
+          writerDb.begin();
+          for (int part = 0; part < 2; part++) {
+            final ODocument document = new ODocument("Pair");
+            document.field("pair", pair);
+            document.field("part", part);
+            document.save();
+          }
+          writerDb.commit();
+
+          pairs.incrementAndGet();
+        }
+      } finally {
+        writerDb.close();
+      }
+
+      return null;
+    });
+
+    final Integer rateLimit = OGlobalConfiguration.STORAGE_BACKUP_RATE_LIMIT.getValue();
+    OGlobalConfiguration.STORAGE_BACKUP_RATE_LIMIT.setValue(4);
+
+    final ByteArrayOutputStream backup = new ByteArrayOutputStream();
+    final int pairsBeforeBackup;
+    final int pairsAfterBackup;
+    final AtomicInteger pairsOnCallback = new AtomicInteger(-1);
+
+    db.open("admin", "admin");
+    try {
+      while (pairs.get() < 100)
+        Thread.sleep(10);
+
+      pairsBeforeBackup = pairs.get();
+      db.backup(backup, null, withCallback ? () -> {
+        pairsOnCallback.set(pairs.get());
+        return null;
+      } : null, null, Deflater.BEST_SPEED, 1024);
+      pairsAfterBackup = pairs.get();
+    } finally {
+      OGlobalConfiguration.STORAGE_BACKUP_RATE_LIMIT.setValue(rateLimit);
+
+      stop.set(true);
+      writer.get();
+      executor.shutdown();
+    }
+
+    if (!withCallback)
+      Assert.assertTrue(pairsAfterBackup > pairsBeforeBackup);
+
+    final ODatabaseDocumentTx restoredDb = new ODatabaseDocumentTx(
+        "plocal:" + testDirectory + File.separator + dbName + "Restored");
+    restoredDb.create();
+    restoredDb.restore(new ByteArrayInputStream(backup.toByteArray()), null, null, null);
+
+    final Map<Integer, Integer> parts = new HashMap<>();
+    for (ODocument document : restoredDb.browseClass("Pair")) {
+      final int pair = document.field("pair");
+      parts.merge(pair, 1, Integer::sum);
+    }
+
+    Assert.assertTrue(parts.size() >= pairsBeforeBackup);
+    Assert.assertTrue(parts.size() <= pairsAfterBackup + 1);
+
+    if (withCallback) {
+      //pair may be committed but not counted yet when the storage is frozen
+      Assert.assertTrue(pairsOnCallback.get() >= pairsBeforeBackup);
+      Assert.assertTrue(parts.size() >= pairsOnCallback.get());
+      Assert.assertTrue(parts.size() <= pairsOnCallback.get() + 1);
+    }
+
+    for (int pair = 0; pair < parts.size(); pair++)
+      Assert.assertEquals(Integer.valueOf(2), parts.get(pair));
+
+    restoredDb.drop();
+
+    db.activateOnCurrentThread();
+    db.drop();
+  }
+
+  @Test
+  public void testCallbackIsCalledBeforeFilesAreCopied() throws Exception {
+    final ODatabaseDocumentTx db = new ODatabaseDocumentTx("plocal:" + testDirectory + File.separator + "onlineBackupCallback");
+    db.create();
+
+    for (int i = 0; i < 100; i++) {
+      final ODocument document = new ODocument();
+      document.field("id", i);
+      document.save();
+    }
+
+    final CountDownLatch callbackCalled = new CountDownLatch(1);
+    final CountDownLatch copyAllowed = new CountDownLatch(1);
+
+    //copy of files does not progress till callback is observed, so the backup can not complete before the callback is called
+    final ByteArrayOutputStream backup = new ByteArrayOutputStream();
+    final OutputStream delayedOut = new FilterOutputStream(backup) {
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException {
+        awaitCopy();
+        out.write(b, off, len);
+      }
+
+      @Override
+      public void write(int b) throws IOException {
+        awaitCopy();
+        out.write(b);
+      }
+
+      private void awaitCopy() throws IOException {
+        try {
+          copyAllowed.await();
+        } catch (InterruptedException e) {
+          throw new InterruptedIOException();
+        }
+      }
+    };
+
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final Future<Void> backupFuture = executor.submit(() -> {
+        final ODatabaseDocumentTx backupDb = new ODatabaseDocumentTx(db.getURL());
+        backupDb.open("admin", "admin");
+        try {
+          backupDb.backup(delayedOut, null, () -> {
+            callbackCalled.countDown();
+            return null;
+          }, null, Deflater.BEST_SPEED, 1024);
+        } finally {
+          backupDb.close();
+        }
+
+        return null;
+      });
+
+      try {
+        Assert.assertTrue(callbackCalled.await(10, TimeUnit.SECONDS));
+        Assert.assertFalse(backupFuture.isDone());
+      } finally {
+        copyAllowed.countDown();
+      }
+
+      backupFuture.get();
+    } finally {
+      executor.shutdown();
+    }
+
+    final ODatabaseDocumentTx restoredDb = new ODatabaseDocumentTx(
+        "plocal:" + testDirectory + File.separator + "onlineBackupCallbackRestored");
+    restoredDb.create();
+    restoredDb.restore(new ByteArrayInputStream(backup.toByteArray()), null, null, null);
+
+    Assert.assertEquals(100, restoredDb.countClusterElements(restoredDb.getDefaultClusterId()));
+    restoredDb.drop();
+
+    db.activateOnCurrentThread();
+    db.drop();
+  }
+}
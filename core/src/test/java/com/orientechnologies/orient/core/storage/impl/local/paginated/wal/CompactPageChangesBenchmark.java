@@ -0,0 +1,79 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.statistic.OSessionStoragePerformanceStatistic;
+
+import java.io.File;
+
+/**
+ * Compares amount of bytes written into WAL by single transaction and throughput of bulk insert when changes of pages are logged
+ * in previous format, in compact format and in compact format with compression.
+ *
+ * @see OGlobalConfiguration#WAL_COMPACT_PAGE_CHANGES
+ * @see OGlobalConfiguration#WAL_PAGE_CHANGES_COMPRESSION
+ */
+public class CompactPageChangesBenchmark {
+  private static final int TRANSACTIONS       = 2000;
+  private static final int RECORDS_PER_COMMIT = 100;
+
+  public static void main(String[] args) {
+    for (int n = 0; n < 2; n++) {
+      //the first round is warm up
+      run("previous format", false, "nothing");
+      run("compact", true, "nothing");
+      run("compact, gzip", true, "gzip");
+    }
+  }
+
+  private static void run(String name, boolean compact, String compression) {
+    final boolean oldCompact = OGlobalConfiguration.WAL_COMPACT_PAGE_CHANGES.getValueAsBoolean();
+    final String oldCompression = OGlobalConfiguration.WAL_PAGE_CHANGES_COMPRESSION.getValueAsString();
+
+    OGlobalConfiguration.WAL_COMPACT_PAGE_CHANGES.setValue(compact);
+    OGlobalConfiguration.WAL_PAGE_CHANGES_COMPRESSION.setValue(compression);
+
+    final ODatabaseDocumentTx db = new ODatabaseDocumentTx(
+        "plocal:" + System.getProperty("buildDirectory", ".") + File.separator + CompactPageChangesBenchmark.class.getSimpleName());
+    try {
+      if (db.exists()) {
+        db.open("admin", "admin");
+        db.drop();
+      }
+
+      db.create();
+      db.getMetadata().getSchema().createClass("Item").createProperty("value", OType.LONG)
+          .createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+
+      final OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) db.getStorage().getUnderlying();
+      storage.startGatheringPerformanceStatisticForCurrentThread();
+
+      final long start = System.nanoTime();
+      for (int i = 0; i < TRANSACTIONS; i++) {
+        db.begin();
+        for (int k = 0; k < RECORDS_PER_COMMIT; k++) {
+          final ODocument document = new ODocument("Item");
+          document.field("value", (long) i * RECORDS_PER_COMMIT + k);
+          document.field("name", "Item number " + k + " of transaction " + i);
+          document.save();
+        }
+        db.commit();
+      }
+      final long time = System.nanoTime() - start;
+
+      final OSessionStoragePerformanceStatistic statistic = storage.completeGatheringPerformanceStatisticForCurrentThread();
+
+      System.out.printf("%-16s: %,8d WAL bytes per commit, %,6.0f tx/s%n", name, statistic.getWALBytesPerCommit(),
+          TRANSACTIONS / (time / 1e9));
+
+      db.drop();
+    } finally {
+      OGlobalConfiguration.WAL_COMPACT_PAGE_CHANGES.setValue(oldCompact);
+      OGlobalConfiguration.WAL_PAGE_CHANGES_COMPRESSION.setValue(oldCompression);
+    }
+  }
+}
@@ -0,0 +1,120 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
+
+import com.orientechnologies.orient.core.compression.OCompressionFactory;
+import com.orientechnologies.orient.core.compression.impl.ONothingCompression;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+public class CompactUpdatePageRecordTest {
+  private static final int PAGE_SIZE = 64 * 1024;
+
+  @Test
+  public void testSerializationOfScatteredChanges() {
+    final long seed = System.nanoTime();
+    System.out.println("testSerializationOfScatteredChanges seed : " + seed);
+    final Random random = new Random(seed);
+
+    final ByteBuffer page = randomPage(random);
+    final OWALPageChangesPortion changes = new OWALPageChangesPortion(PAGE_SIZE);
+
+    for (int i = 0; i < 200; i++) {
+      final byte[] value = new byte[random.nextInt(100) + 1];
+      random.nextBytes(value);
+      changes.setBinaryValue(page, value, random.nextInt(PAGE_SIZE - value.length));
+    }
+    changes.moveData(page, 100, 20000, 3000);
+
+    final OCompactUpdatePageRecord record = new OCompactUpdatePageRecord(12, 100, OOperationUnitId.generateId(), changes,
+        ONothingCompression.INSTANCE);
+    final OUpdatePageRecord restored = assertRoundTrip(record, page, changes);
+
+    //two bytes of chunk position are not written for each chunk
+    Assert.assertTrue(restored.serializedSize() < new OUpdatePageRecord(12, 100, record.getOperationUnitId(), changes)
+        .serializedSize());
+  }
+
+  @Test
+  public void testSerializationOfCompressedChanges() {
+    final Random random = new Random();
+    final ByteBuffer page = randomPage(random);
+    final OWALPageChangesPortion changes = new OWALPageChangesPortion(PAGE_SIZE);
+
+    //content of new page is mostly empty
+    changes.setBinaryValue(page, new byte[16 * 1024], 1024);
+    changes.setLongValue(page, 42, 40000);
+
+    final OCompactUpdatePageRecord record = new OCompactUpdatePageRecord(12, 100, OOperationUnitId.generateId(), changes,
+        OCompressionFactory.INSTANCE.getCompression("gzip", null));
+    assertRoundTrip(record, page, changes);
+
+    Assert.assertTrue(record.serializedSize() < OCompactUpdatePageRecord.COMPRESSION_THRESHOLD);
+  }
+
+  @Test
+  public void testSerializationOfEmptyChanges() {
+    final OWALPageChangesPortion changes = new OWALPageChangesPortion(PAGE_SIZE);
+    final OCompactUpdatePageRecord record = new OCompactUpdatePageRecord(12, 100, OOperationUnitId.generateId(), changes,
+        OCompressionFactory.INSTANCE.getCompression("gzip", null));
+
+    final OUpdatePageRecord restored = assertRoundTrip(record, randomPage(new Random()), changes);
+    Assert.assertFalse(restored.getChanges().hasChanges());
+  }
+
+  @Test
+  public void testRecordsOfBothFormatsAreRead() {
+    final Random random = new Random();
+    final ByteBuffer page = randomPage(random);
+    final OWALPageChangesPortion changes = new OWALPageChangesPortion(PAGE_SIZE);
+    changes.setIntValue(page, 42, 1000);
+
+    final OWALRecord updatePageRecord = OWALRecordsFactory.INSTANCE.fromStream(
+        OWALRecordsFactory.INSTANCE.toStream(new OUpdatePageRecord(12, 100, OOperationUnitId.generateId(), changes)));
+    Assert.assertEquals(OUpdatePageRecord.class, updatePageRecord.getClass());
+
+    final OWALRecord compactUpdatePageRecord = OWALRecordsFactory.INSTANCE.fromStream(OWALRecordsFactory.INSTANCE
+        .toStream(new OCompactUpdatePageRecord(12, 100, OOperationUnitId.generateId(), changes, ONothingCompression.INSTANCE)));
+    Assert.assertEquals(OCompactUpdatePageRecord.class, compactUpdatePageRecord.getClass());
+
+    Assert.assertEquals(42, ((OUpdatePageRecord) updatePageRecord).getChanges().getIntValue(page, 1000));
+    Assert.assertEquals(42, ((OUpdatePageRecord) compactUpdatePageRecord).getChanges().getIntValue(page, 1000));
+  }
+
+  private static OUpdatePageRecord assertRoundTrip(OCompactUpdatePageRecord record, ByteBuffer page,
+      OWALPageChangesPortion changes) {
+    final byte[] content = OWALRecordsFactory.INSTANCE.toStream(record);
+    Assert.assertEquals(record.serializedSize() + 1, content.length);
+
+    final OUpdatePageRecord restored = (OUpdatePageRecord) OWALRecordsFactory.INSTANCE.fromStream(content);
+    Assert.assertEquals(record.getPageIndex(), restored.getPageIndex());
+    Assert.assertEquals(record.getFileId(), restored.getFileId());
+    Assert.assertEquals(record.getOperationUnitId(), restored.getOperationUnitId());
+
+    final ByteBuffer expected = copy(page);
+    changes.applyChanges(expected);
+
+    final ByteBuffer actual = copy(page);
+    restored.getChanges().applyChanges(actual);
+
+    expected.position(0);
+    actual.position(0);
+    Assert.assertEquals(expected, actual);
+
+    return restored;
+  }
+
+  private static ByteBuffer randomPage(Random random) {
+    final byte[] content = new byte[PAGE_SIZE];
+    random.nextBytes(content);
+    return ByteBuffer.wrap(content);
+  }
+
+  private static ByteBuffer copy(ByteBuffer page) {
+    final ByteBuffer copy = ByteBuffer.allocate(PAGE_SIZE);
+    page.position(0);
+    copy.put(page);
+    return copy;
+  }
+}
@@ -0,0 +1,132 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.config.OStorageConfiguration;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.OLocalPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.statistic.OPerformanceStatisticManager;
+
+import java.io.File;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares throughput of WAL when records are appended under exclusive lock and when they are appended in group commit mode.
+ *
+ * @see OGlobalConfiguration#WAL_GROUP_COMMIT
+ */
+public class WriteAheadLogGroupCommitBenchmark {
+  private static final int SEGMENT_SIZE = 128 * 1024 * 1024;
+  private static final int RECORD_SIZE  = 256;
+
+  private final ExecutorService executorService = Executors.newCachedThreadPool();
+
+  private volatile boolean stop = false;
+
+  public static void main(String[] args) throws Exception {
+    new WriteAheadLogGroupCommitBenchmark().benchmark();
+  }
+
+  public void benchmark() throws Exception {
+    OWALRecordsFactory.INSTANCE.registerNewRecord((byte) 128, WriteAheadLogTest.TestRecord.class);
+
+    final int maxThreads = Runtime.getRuntime().availableProcessors();
+
+    try {
+      for (int threads = 1; threads <= maxThreads; threads *= 2) {
+        final long exclusive = measure(false, threads);
+        final long group = measure(true, threads);
+
+        System.out.printf("Threads : %d, exclusive lock : %d records/s, group commit : %d records/s%n", threads, exclusive, group);
+      }
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  private long measure(boolean groupCommit, int threads) throws Exception {
+    final boolean oldValue = OGlobalConfiguration.WAL_GROUP_COMMIT.getValueAsBoolean();
+    OGlobalConfiguration.WAL_GROUP_COMMIT.setValue(groupCommit);
+
+    final File testDir = new File(System.getProperty("java.io.tmpdir"), "WriteAheadLogGroupCommitBenchmark");
+    if (!testDir.exists() && !testDir.mkdirs())
+      throw new IllegalStateException("Can not create directory " + testDir);
+
+    final ODiskWriteAheadLog writeAheadLog = createWAL(testDir);
+    try {
+      final AtomicLong records = new AtomicLong();
+      final CountDownLatch latch = new CountDownLatch(1);
+      final List<Future<Void>> futures = new ArrayList<>();
+
+      stop = false;
+      for (int i = 0; i < threads; i++)
+        futures.add(executorService.submit(new Writer(writeAheadLog, latch, records)));
+
+      final long start = System.nanoTime();
+      latch.countDown();
+
+      Thread.sleep(10 * 1000);
+      stop = true;
+
+      for (Future<Void> future : futures)
+        future.get();
+
+      writeAheadLog.flush();
+      final long end = System.nanoTime();
+
+      return records.get() * 1000000000L / (end - start);
+    } finally {
+      writeAheadLog.delete();
+      OGlobalConfiguration.WAL_GROUP_COMMIT.setValue(oldValue);
+    }
+  }
+
+  private static ODiskWriteAheadLog createWAL(File testDir) throws Exception {
+    final OLocalPaginatedStorage paginatedStorage = mock(OLocalPaginatedStorage.class);
+    when(paginatedStorage.getName()).thenReturn("WriteAheadLogGroupCommitBenchmark");
+    when(paginatedStorage.getStoragePath()).thenReturn(Paths.get(testDir.getAbsolutePath()));
+    final OStorageConfiguration configurationMock = mock(OStorageConfiguration.class);
+    when(configurationMock.getLocaleInstance()).thenReturn(Locale.getDefault());
+    when(paginatedStorage.getConfiguration()).thenReturn(configurationMock);
+    when(paginatedStorage.getPerformanceStatisticManager())
+        .thenReturn(new OPerformanceStatisticManager(paginatedStorage, Long.MAX_VALUE, -1));
+
+    return new ODiskWriteAheadLog(OGlobalConfiguration.WAL_CACHE_SIZE.getValueAsInteger(),
+        OGlobalConfiguration.WAL_COMMIT_TIMEOUT.getValueAsInteger(), SEGMENT_SIZE, null, true, paginatedStorage,
+        OGlobalConfiguration.WAL_SEGMENT_BUFFER_SIZE.getValueAsInteger() * 1024 * 1024, 120);
+  }
+
+  private final class Writer implements Callable<Void> {
+    private final ODiskWriteAheadLog writeAheadLog;
+    private final CountDownLatch     latch;
+    private final AtomicLong         records;
+
+    private Writer(ODiskWriteAheadLog writeAheadLog, CountDownLatch latch, AtomicLong records) {
+      this.writeAheadLog = writeAheadLog;
+      this.latch = latch;
+      this.records = records;
+    }
+
+    @Override
+    public Void call() throws Exception {
+      final Random random = new Random();
+      latch.await();
+
+      long counter = 0;
+      while (!stop) {
+        writeAheadLog.log(new WriteAheadLogTest.TestRecord(0, SEGMENT_SIZE, RECORD_SIZE + random.nextInt(RECORD_SIZE), false, true));
+        counter++;
+      }
+
+      records.addAndGet(counter);
+      return null;
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.config.OStorageConfiguration;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.OLocalPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.statistic.OPerformanceStatisticManager;
+import org.junit.*;
+
+import java.io.File;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that records which are appended by several threads in group commit mode are not lost or mixed.
+ */
+public class WriteAheadLogGroupCommitTest {
+  private static final int SEGMENT_SIZE       = OWALPage.PAGE_SIZE * 16;
+  private static final int RECORDS_PER_THREAD = 2000;
+  private static final int THREADS            = 8;
+
+  private ODiskWriteAheadLog writeAheadLog;
+  private File               testDir;
+  private boolean            groupCommit;
+
+  @Before
+  public void before() throws Exception {
+    OWALRecordsFactory.INSTANCE.registerNewRecord((byte) 128, WriteAheadLogTest.TestRecord.class);
+
+    String buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null || buildDirectory.isEmpty())
+      buildDirectory = ".";
+
+    testDir = new File(buildDirectory, "WriteAheadLogGroupCommitTest");
+    if (!testDir.exists())
+      Assert.assertTrue(testDir.mkdir());
+
+    groupCommit = OGlobalConfiguration.WAL_GROUP_COMMIT.getValueAsBoolean();
+    OGlobalConfiguration.WAL_GROUP_COMMIT.setValue(true);
+
+    OLocalPaginatedStorage paginatedStorage = mock(OLocalPaginatedStorage.class);
+    when(paginatedStorage.getName()).thenReturn("WriteAheadLogGroupCommitTest");
+    when(paginatedStorage.getStoragePath()).thenReturn(Paths.get(testDir.getAbsolutePath()));
+    OStorageConfiguration configurationMock = mock(OStorageConfiguration.class);
+    when(configurationMock.getLocaleInstance()).thenReturn(Locale.getDefault());
+    when(paginatedStorage.getConfiguration()).thenReturn(configurationMock);
+    when(paginatedStorage.getPerformanceStatisticManager())
+        .thenReturn(new OPerformanceStatisticManager(paginatedStorage, Long.MAX_VALUE, -1));
+
+    writeAheadLog = new ODiskWriteAheadLog(100, 10, SEGMENT_SIZE, null, true, paginatedStorage, 16 * OWALPage.PAGE_SIZE, 120);
+  }
+
+  @After
+  public void after() throws Exception {
+    OGlobalConfiguration.WAL_GROUP_COMMIT.setValue(groupCommit);
+
+    if (writeAheadLog != null)
+      writeAheadLog.delete();
+
+    if (testDir.exists())
+      Assert.assertTrue(testDir.delete());
+  }
+
+  @Test
+  public void testConcurrentAppend() throws Exception {
+    final NavigableMap<OLogSequenceNumber, WriteAheadLogTest.TestRecord> records = new ConcurrentSkipListMap<>();
+    final AtomicReference<OLogSequenceNumber> lastCheckpoint = new AtomicReference<>();
+    final CountDownLatch startLatch = new CountDownLatch(1);
+
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    final List<Future<Void>> futures = new ArrayList<>();
+
+    for (int i = 0; i < THREADS; i++) {
+      futures.add(executor.submit(() -> {
+        final Random random = new Random();
+        startLatch.await();
+
+        for (int n = 0; n < RECORDS_PER_THREAD; n++) {
+          final int recordSize = random.nextInt(OWALPage.PAGE_SIZE / 2 - 128) + 128;
+          final WriteAheadLogTest.TestRecord record = new WriteAheadLogTest.TestRecord(0, SEGMENT_SIZE, recordSize,
+              random.nextInt(50) == 0, true);
+
+          final OLogSequenceNumber lsn = writeAheadLog.log(record);
+          Assert.assertEquals(lsn, record.getLsn());
+
+          if (record.isUpdateMasterRecord()) {
+            OLogSequenceNumber checkpoint = lastCheckpoint.get();
+            while (checkpoint == null || checkpoint.compareTo(lsn) < 0) {
+              if (lastCheckpoint.compareAndSet(checkpoint, lsn))
+                break;
+
+              checkpoint = lastCheckpoint.get();
+            }
+          }
+
+          Assert.assertNull(records.put(lsn, record));
+        }
+
+        return null;
+      }));
+    }
+
+    startLatch.countDown();
+
+    for (Future<Void> future : futures)
+      future.get();
+
+    executor.shutdown();
+
+    writeAheadLog.flush();
+
+    Assert.assertEquals(records.lastKey(), writeAheadLog.end());
+    Assert.assertEquals(lastCheckpoint.get(), writeAheadLog.getLastCheckpoint());
+    Assert.assertTrue(writeAheadLog.nonActiveSegments().length > 0);
+
+    OLogSequenceNumber lsn = writeAheadLog.begin();
+    int recordsCount = 0;
+    while (lsn != null) {
+      final WriteAheadLogTest.TestRecord record = (WriteAheadLogTest.TestRecord) writeAheadLog.read(lsn);
+      Assert.assertEquals(records.get(lsn), record);
+
+      lsn = writeAheadLog.next(lsn);
+      recordsCount++;
+    }
+
+    Assert.assertEquals(THREADS * RECORDS_PER_THREAD, recordsCount);
+  }
+}
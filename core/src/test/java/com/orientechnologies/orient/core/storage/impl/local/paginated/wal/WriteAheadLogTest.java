@@ -2255,6 +2255,46 @@ public class WriteAheadLogTest {
       }
   }
 
+  @Test
+  public void testCutTillLimitsAreReferenceCounted() throws Exception {
+    final long[] segments = new long[3];
+    for (int i = 0; i < segments.length; i++) {
+      writeAheadLog.log(new TestRecord(-1, SEGMENT_SIZE, 30, false, true));
+      segments[i] = writeAheadLog.activeSegment();
+      writeAheadLog.newSegment();
+    }
+    writeAheadLog.log(new TestRecord(-1, SEGMENT_SIZE, 30, false, true));
+
+    final OLogSequenceNumber firstLimit = new OLogSequenceNumber(segments[1], 0);
+    final OLogSequenceNumber secondLimit = new OLogSequenceNumber(segments[2], 0);
+
+    //two callers protect the same segment and third one protects following segment
+    writeAheadLog.addCutTillLimit(firstLimit);
+    writeAheadLog.addCutTillLimit(firstLimit);
+    writeAheadLog.addCutTillLimit(secondLimit);
+
+    writeAheadLog.cutAllSegmentsSmallerThan(writeAheadLog.activeSegment());
+    Assert.assertEquals(segments[1], writeAheadLog.nonActiveSegments()[0]);
+
+    writeAheadLog.removeCutTillLimit(firstLimit);
+    writeAheadLog.cutTill(writeAheadLog.end());
+    Assert.assertEquals(segments[1], writeAheadLog.nonActiveSegments()[0]);
+
+    writeAheadLog.removeCutTillLimit(firstLimit);
+    writeAheadLog.cutAllSegmentsSmallerThan(writeAheadLog.activeSegment());
+    Assert.assertEquals(segments[2], writeAheadLog.nonActiveSegments()[0]);
+
+    writeAheadLog.removeCutTillLimit(secondLimit);
+    writeAheadLog.cutAllSegmentsSmallerThan(writeAheadLog.activeSegment());
+    Assert.assertEquals(0, writeAheadLog.nonActiveSegments().length);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRemoveOfNotRegisteredCutTillLimit() throws Exception {
+    writeAheadLog.log(new TestRecord(-1, SEGMENT_SIZE, 30, false, true));
+    writeAheadLog.removeCutTillLimit(writeAheadLog.end());
+  }
+
   public static final class TestRecord extends OAbstractWALRecord {
     private byte[]  data;
     private boolean updateMasterRecord;
@@ -276,6 +276,34 @@ public class OSessionStoragePerformanceStatisticTest {
     Assert.assertEquals(doc.field("commitTime"), Long.valueOf(100L));
   }
 
+  @Test
+  public void testWALBytesPerCommit() {
+    OSessionStoragePerformanceStatistic sessionStoragePerformanceStatistic = new OSessionStoragePerformanceStatistic(100,
+        new OSessionStoragePerformanceStatistic.NanoTimer() {
+          private long counter = 0;
+
+          @Override
+          public long getNano() {
+            return counter += 100;
+          }
+        }, -1);
+
+    Assert.assertEquals(sessionStoragePerformanceStatistic.getWALBytesPerCommit(), -1);
+
+    for (int i = 0; i < 10; i++) {
+      sessionStoragePerformanceStatistic.startCommitTimer();
+      sessionStoragePerformanceStatistic.incrementWALBytes(100);
+      sessionStoragePerformanceStatistic.incrementWALBytes(50);
+      sessionStoragePerformanceStatistic.stopCommitTimer();
+    }
+
+    Assert.assertEquals(sessionStoragePerformanceStatistic.getWALBytesPerCommit(), 150);
+
+    final ODocument doc = sessionStoragePerformanceStatistic.toDocument();
+
+    Assert.assertEquals(doc.field("walBytesPerCommit"), Long.valueOf(150L));
+  }
+
   @Test
   public void testCacheHit() {
     OSessionStoragePerformanceStatistic sessionStoragePerformanceStatistic = new OSessionStoragePerformanceStatistic(100,
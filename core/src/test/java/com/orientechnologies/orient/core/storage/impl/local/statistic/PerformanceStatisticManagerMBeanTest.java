@@ -26,13 +26,14 @@ public class PerformanceStatisticManagerMBeanTest {
     assertOperation(operations, "stopMonitoring");
 
     final MBeanAttributeInfo[] attributes = mBeanInfo.getAttributes();
-    Assert.assertEquals(attributes.length, 30);
+    Assert.assertEquals(attributes.length, 31);
 
     assertAttribute(attributes, "cacheHits", int.class);
     assertAttribute(attributes, "cacheHits_com1", int.class);
     assertAttribute(attributes, "cacheHits_com2", int.class);
 
     assertAttribute(attributes, "commitTime", long.class);
+    assertAttribute(attributes, "walBytesPerCommit", long.class);
 
     assertAttribute(attributes, "readSpeedFromCache", long.class);
     assertAttribute(attributes, "readSpeedFromCache_com1", long.class);
@@ -278,6 +279,28 @@ public class PerformanceStatisticManagerMBeanTest {
     }
   }
 
+  @Test
+  public void testWALBytesPerCommit() throws Exception {
+    final OPerformanceStatisticManager manager = mock(OPerformanceStatisticManager.class);
+    when(manager.getComponentNames()).thenReturn(new HashSet<String>(Arrays.asList("com1", "com2")));
+
+    when(manager.getWALBytesPerCommit()).thenReturn(1024L);
+
+    final OPerformanceStatisticManagerMBean mBean = new OPerformanceStatisticManagerMBean(manager);
+
+    Long result = (Long) mBean.getAttribute("walBytesPerCommit");
+    Assert.assertEquals((long) result, 1024L);
+
+    verify(manager).getWALBytesPerCommit();
+    verifyNoMoreInteractions(manager);
+
+    try {
+      mBean.getAttribute("walBytesPerCommit_fd");
+      Assert.fail();
+    } catch (RuntimeOperationsException e) {
+    }
+  }
+
   public void testStartMonitoring() throws Exception {
     final OPerformanceStatisticManager manager = mock(OPerformanceStatisticManager.class);
     when(manager.getComponentNames()).thenReturn(new HashSet<String>(Arrays.asList("com1", "com2")));
@@ -73,6 +73,7 @@ public class OSharedContextDistributed extends OSharedContext {
     commandCache.shutdown();
     liveQueryOps.close();
     liveQueryOpsV2.close();
+    shutdownParallelQueryExecutor();
   }
 
   public synchronized void reload(ODatabaseDocumentInternal database) {